@@ -0,0 +1,386 @@
+package fr.sorbonne_u.components.benchmarks;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicLong;
+import fr.sorbonne_u.components.AbstractComponent;
+import fr.sorbonne_u.components.ComponentI;
+import fr.sorbonne_u.components.cvm.AbstractCVM;
+import fr.sorbonne_u.components.helpers.TracerConsole;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>ExecutorServiceRegistryBenchmark</code> measures the cost
+ * of the accesses to the executor services of a component made on the
+ * request dispatch path when many threads call the component concurrently.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * Usage:
+ * </p>
+ * <pre>
+ * java -cp ... fr.sorbonne_u.components.benchmarks.ExecutorServiceRegistryBenchmark
+ *      [-c callers] [-r rounds] [-t ms]
+ * </pre>
+ * <ul>
+ * <li><code>-c callers</code> sets the number of concurrent caller threads
+ *   (default 32);</li>
+ * <li><code>-r rounds</code> sets the number of measurement rounds, preceded
+ *   by as many warmup rounds (default 5);</li>
+ * <li><code>-t ms</code> sets the duration of a round (default 1000).</li>
+ * </ul>
+ * <p>
+ * Two benchmarks are run on a component created in a local CVM which owns
+ * an additional executor service:
+ * </p>
+ * <ul>
+ * <li><code>lookups</code> performs, per operation, the registry accesses
+ *   of a dispatch, <i>i.e.</i>, <code>getExecutorServiceIndex</code>,
+ *   <code>hasItsOwnThreads</code>, <code>validExecutorServiceIndex</code>
+ *   and <code>getExecutorService</code>;</li>
+ * <li><code>handleRequest</code> performs, per operation, a synchronous
+ *   <code>handleRequest</code> of an empty request on the additional
+ *   executor service, hence includes the handoff between threads.</li>
+ * </ul>
+ * <p>
+ * Each round starts the callers together and reports the duration of the
+ * round divided by the number of operations performed by all of the callers,
+ * that is the inverse of the throughput of the component; the time seen by
+ * each caller is this value times the number of callers when they share a
+ * single processor. The benchmark must be run without <code>-ea</code> to
+ * avoid measuring the assertions of the contracts.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code true}	// no more invariant
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			ExecutorServiceRegistryBenchmark
+{
+	// -------------------------------------------------------------------------
+	// Inner types and classes
+	// -------------------------------------------------------------------------
+
+	/**
+	 * The interface <code>Operations</code> performs a number of operations
+	 * of a benchmark.
+	 *
+	 * <p>Created on : 2026-10-19</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	@FunctionalInterface
+	public static interface	Operations
+	{
+		/**
+		 * perform <code>n</code> operations and return a value depending on
+		 * their computations.
+		 *
+		 * @param n				number of operations to be performed.
+		 * @return				a value depending on the computations.
+		 * @throws Exception	<i>to do</i>.
+		 */
+		public long		run(int n) throws Exception;
+	}
+
+	/**
+	 * The class <code>BenchmarkedComponent</code> exposes the accesses to
+	 * the executor services made on the request dispatch path.
+	 *
+	 * <p>Created on : 2026-10-19</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	public static class	BenchmarkedComponent
+	extends		AbstractComponent
+	{
+		/** URI of the additional executor service.						*/
+		public static final String	EXECUTOR_SERVICE_URI = "benchmarked";
+
+		protected			BenchmarkedComponent() throws Exception
+		{
+			super(1, 0);
+			this.createNewExecutorService(EXECUTOR_SERVICE_URI, 2, false);
+		}
+
+		/**
+		 * perform <code>n</code> times the registry accesses of a dispatch.
+		 *
+		 * @param n	number of operations to be performed.
+		 * @return	a value depending on the accesses.
+		 */
+		public long			lookups(int n)
+		{
+			long acc = 0L;
+			for (int i = 0 ; i < n ; i++) {
+				int index = this.getExecutorServiceIndex(EXECUTOR_SERVICE_URI);
+				if (this.hasItsOwnThreads() &&
+									this.validExecutorServiceIndex(index)) {
+					acc += this.getExecutorService(index).hashCode() & 1;
+				}
+			}
+			return acc;
+		}
+
+		/**
+		 * return the index of the additional executor service.
+		 *
+		 * @return	the index of the additional executor service.
+		 */
+		public int			benchmarkedIndex()
+		{
+			return this.getExecutorServiceIndex(EXECUTOR_SERVICE_URI);
+		}
+	}
+
+	/**
+	 * The class <code>BenchmarkCVM</code> is the local CVM in which the
+	 * benchmarked component is created.
+	 *
+	 * <p>Created on : 2026-10-19</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	public static class	BenchmarkCVM
+	extends		AbstractCVM
+	{
+		public				BenchmarkCVM() throws Exception
+		{
+			super();
+		}
+
+		/**
+		 * return the component which URI is given.
+		 *
+		 * @param uri	URI of a component created in this CVM.
+		 * @return		the component.
+		 */
+		public ComponentI	getComponent(String uri)
+		{
+			return this.uri2component.get(uri);
+		}
+	}
+
+	// -------------------------------------------------------------------------
+	// Constants
+	// -------------------------------------------------------------------------
+
+	/** default number of concurrent caller threads.						*/
+	public static final int		STANDARD_CALLERS = 32;
+	/** default number of warmup and of measurement rounds.				*/
+	public static final int		STANDARD_ROUNDS = 5;
+	/** default duration of a round in milliseconds.						*/
+	public static final long	STANDARD_ROUND_TIME = 1000L;
+	/** number of operations performed between two readings of the clock.	*/
+	protected static final int	CHUNK = 64;
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * run one round of <code>ops</code> with <code>callers</code> concurrent
+	 * threads and return the duration of the round divided by the number of
+	 * operations performed by all of the callers, in nanoseconds.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code callers > 0 && roundTime > 0 && ops != null}
+	 * post	{@code ret > 0.0}
+	 * </pre>
+	 *
+	 * @param callers		number of concurrent caller threads.
+	 * @param roundTime		duration of the round in milliseconds.
+	 * @param ops			operations of the benchmark.
+	 * @return				the time per operation in nanoseconds.
+	 * @throws Exception	when an operation fails.
+	 */
+	public static double	round(int callers, long roundTime, Operations ops)
+	throws Exception
+	{
+		final AtomicLong done = new AtomicLong(0L);
+		final AtomicLong sink = new AtomicLong(0L);
+		final Exception[] failure = new Exception[1];
+		final CyclicBarrier start = new CyclicBarrier(callers + 1);
+		final long[] deadline = new long[1];
+		List<Thread> threads = new ArrayList<Thread>();
+		for (int i = 0 ; i < callers ; i++) {
+			Thread t = new Thread(() -> {
+						long n = 0L;
+						long acc = 0L;
+						try {
+							start.await();
+							long end = deadline[0];
+							while (System.nanoTime() < end) {
+								acc += ops.run(CHUNK);
+								n += CHUNK;
+							}
+						} catch (Exception e) {
+							synchronized (failure) {
+								failure[0] = e;
+							}
+						}
+						done.addAndGet(n);
+						sink.addAndGet(acc);
+					}, "benchmark-caller-" + i);
+			threads.add(t);
+			t.start();
+		}
+		long begin = System.nanoTime();
+		deadline[0] = begin + roundTime*1000000L;
+		start.await();
+		for (Thread t : threads) {
+			t.join();
+		}
+		long elapsed = System.nanoTime() - begin;
+		synchronized (failure) {
+			if (failure[0] != null) {
+				throw failure[0];
+			}
+		}
+		if (sink.get() == Long.MIN_VALUE) {
+			System.out.println();
+		}
+		return ((double) elapsed)/Math.max(done.get(), 1L);
+	}
+
+	/**
+	 * run a benchmark, printing the time per operation of each measurement
+	 * round and their median.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code name != null && ops != null}
+	 * pre	{@code callers > 0 && rounds > 0 && roundTime > 0}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param name			name of the benchmark.
+	 * @param callers		number of concurrent caller threads.
+	 * @param rounds		number of warmup and of measurement rounds.
+	 * @param roundTime		duration of a round in milliseconds.
+	 * @param ops			operations of the benchmark.
+	 * @throws Exception	when an operation fails.
+	 */
+	public static void	run(
+		String name,
+		int callers,
+		int rounds,
+		long roundTime,
+		Operations ops
+		) throws Exception
+	{
+		for (int r = 0 ; r < rounds ; r++) {
+			round(callers, roundTime, ops);
+		}
+		double[] results = new double[rounds];
+		for (int r = 0 ; r < rounds ; r++) {
+			results[r] = round(callers, roundTime, ops);
+			System.out.println(String.format("%-14s %3d callers, round %d: "
+											 + "%12.1f ns/op",
+											 name, callers, r + 1,
+											 results[r]));
+		}
+		Arrays.sort(results);
+		System.out.println(String.format("%-14s %3d callers, median:  "
+										 + "%12.1f ns/op",
+										 name, callers,
+										 results[rounds/2]));
+	}
+
+	public static void	main(String[] args)
+	{
+		int callers = STANDARD_CALLERS;
+		int rounds = STANDARD_ROUNDS;
+		long roundTime = STANDARD_ROUND_TIME;
+		for (int i = 0 ; i < args.length ; i++) {
+			if (i + 1 < args.length && args[i].equals("-c")) {
+				callers = Integer.parseInt(args[++i]);
+			} else if (i + 1 < args.length && args[i].equals("-r")) {
+				rounds = Integer.parseInt(args[++i]);
+			} else if (i + 1 < args.length && args[i].equals("-t")) {
+				roundTime = Long.parseLong(args[++i]);
+			} else {
+				System.err.println("unknown or incomplete option: " + args[i]);
+				System.err.println("usage: ExecutorServiceRegistryBenchmark "
+								   + "[-c callers] [-r rounds] [-t ms]");
+				System.exit(2);
+			}
+		}
+
+		try {
+			AbstractComponent.setDefaultTracerFactory(
+											uri -> new TracerConsole());
+			BenchmarkCVM cvm = new BenchmarkCVM();
+			String uri = AbstractComponent.createComponent(
+									BenchmarkedComponent.class.getName(),
+									new Object[]{});
+			BenchmarkedComponent c = (BenchmarkedComponent)
+													cvm.getComponent(uri);
+			c.start();
+			final int index = c.benchmarkedIndex();
+
+			run("lookups", callers, rounds, roundTime, n -> c.lookups(n));
+			run("handleRequest", callers, rounds, roundTime,
+				n -> {
+					long acc = 0L;
+					for (int i = 0 ; i < n ; i++) {
+						acc += c.handleRequest(index, o -> 1);
+					}
+					return acc;
+				});
+
+			c.finalise();
+			c.shutdown();
+			System.exit(0);
+		} catch (Exception e) {
+			e.printStackTrace();
+			System.exit(1);
+		}
+	}
+}
+// -----------------------------------------------------------------------------
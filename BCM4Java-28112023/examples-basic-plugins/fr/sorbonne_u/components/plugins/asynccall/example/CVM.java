@@ -89,7 +89,7 @@ extends		AbstractCVM
 	{
 		try {
 			CVM cvm = new CVM();
-			cvm.startStandardLifeCycle(6000L);
+			cvm.startStandardLifeCycle(8000L);
 			Thread.sleep(10000L);
 			System.exit(0);
 		} catch (Exception e) {
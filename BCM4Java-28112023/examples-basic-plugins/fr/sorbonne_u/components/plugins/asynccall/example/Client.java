@@ -34,10 +34,13 @@ package fr.sorbonne_u.components.plugins.asynccall.example;
 
 import fr.sorbonne_u.components.AbstractComponent;
 import fr.sorbonne_u.components.exceptions.ComponentStartException;
+import fr.sorbonne_u.components.plugins.asynccall.AbstractAsyncCall;
 import fr.sorbonne_u.components.plugins.asynccall.AsyncCallClientPlugin;
 import fr.sorbonne_u.components.plugins.asynccall.RemoteCompletableFuture;
 import java.io.Serializable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 // -----------------------------------------------------------------------------
 /**
@@ -179,7 +182,8 @@ extends		AbstractComponent
 			this.plugin.asyncCall(new Server.Add(new Serializable[]{1, 2}));
 		this.traceMessage("Calling show...\n");
 		// CompletableFuture<T> can be used as type, but cf2 will indeed contain
-		// a RemoteCompletableFuture, hence that can't be cancelled...
+		// a RemoteCompletableFuture, which cancellation is propagated to the
+		// server...
 		CompletableFuture<Serializable> cf2 =
 			this.plugin.asyncCall(
 				new Server.Show(new Serializable[]{"message from client.\n"}));
@@ -192,6 +196,27 @@ extends		AbstractComponent
 			this.traceMessage("Waiting for the show to return...\n");
 		}
 		this.traceMessage("Returning from show: " + cf2.get() + "\n");
+
+		this.traceMessage("Calling add with a 100ms timeout...\n");
+		RemoteCompletableFuture<Serializable> cf3 =
+			this.plugin.asyncCall(new Server.Add(new Serializable[]{3, 4}),
+								  100L, TimeUnit.MILLISECONDS);
+		try {
+			cf3.get();
+		} catch (ExecutionException e) {
+			this.traceMessage("add timed out: " + e.getCause() + "\n");
+		}
+
+		this.traceMessage("Calling add twice in one batch...\n");
+		RemoteCompletableFuture<Serializable>[] cfs =
+			this.plugin.asyncCalls(
+				new AbstractAsyncCall[]{
+					new Server.Add(new Serializable[]{5, 6}),
+					new Server.Add(new Serializable[]{7, 8})
+				});
+		for (RemoteCompletableFuture<Serializable> cf : cfs) {
+			this.traceMessage("Result of batched add: " + cf.get() + "\n");
+		}
 	}
 
 	/**
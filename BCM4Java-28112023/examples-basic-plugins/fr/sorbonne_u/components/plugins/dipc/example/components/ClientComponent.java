@@ -41,6 +41,7 @@ import fr.sorbonne_u.components.connectors.DataConnector;
 import fr.sorbonne_u.components.exceptions.ComponentShutdownException;
 import fr.sorbonne_u.components.exceptions.ComponentStartException;
 import fr.sorbonne_u.components.interfaces.DataRequiredCI;
+import fr.sorbonne_u.components.plugins.dipc.AdaptivePushPolicy;
 import fr.sorbonne_u.components.plugins.dipc.DataInterfacePushControlClientSidePlugin;
 import fr.sorbonne_u.components.plugins.dipc.example.interfaces.PairDataCI;
 import fr.sorbonne_u.components.plugins.dipc.example.ports.PairDataOutboundPort;
@@ -197,6 +198,21 @@ extends		AbstractComponent
 		this.logMessage("client component stops pushes.") ;
 
 		p.stopPushing(ServerComponent.SS_DATAINBOUNDPORT_URI) ;
+
+		this.logMessage("client component requires adaptive pushes for 1s.") ;
+
+		p.startAdaptivePushing(
+						ServerComponent.SS_DATAINBOUNDPORT_URI,
+						new AdaptivePushPolicy(25L, 400L, 0.0, 1.0)) ;
+
+		Thread.sleep(1000L) ;
+
+		this.logMessage("client component stops adaptive pushes at interval "
+						+ p.currentPushInterval(
+								ServerComponent.SS_DATAINBOUNDPORT_URI)
+						+ "ms.") ;
+
+		p.stopPushing(ServerComponent.SS_DATAINBOUNDPORT_URI) ;
 		
 		this.logMessage("client component activity ends, turns passive.") ;
 	}
@@ -181,6 +181,16 @@ extends		AbstractComponent
 
 					pdIBP.send(o.produceNextData()) ;
 				}
+
+				@Override
+				protected DataOfferedCI.DataI	produceOnPort(String portURI)
+				throws Exception
+				{
+					assert	portURI != null ;
+					assert	pdIBP.getPortURI().equals(portURI) ;
+
+					return o.produceNextData() ;
+				}
 			};
 		plugin.setPluginURI(PUSH_CONTROL_SS_PLUGIN_URI) ;
 		this.installPlugin(plugin) ;
@@ -82,7 +82,7 @@ implements	URIConsumerLaunchCI
 	@Override
 	public void		getURIandPrint() throws Exception
 	{
-		this.owner.runTask(
+		this.runTask(
 					new AbstractComponent.AbstractTask() {
 						@Override
 						public void run() {
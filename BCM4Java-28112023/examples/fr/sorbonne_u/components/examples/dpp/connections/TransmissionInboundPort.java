@@ -104,7 +104,7 @@ implements	TransmissionCI
 	@Override
 	public void			transmit(PipelineDataI d) throws Exception
 	{
-		this.getOwner().runTask(
+		this.runTask(
 			new AbstractComponent.AbstractTask() {
 				@Override
 				public void run() {
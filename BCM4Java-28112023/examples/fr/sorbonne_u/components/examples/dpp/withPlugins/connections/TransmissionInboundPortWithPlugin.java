@@ -110,7 +110,7 @@ implements	TransmissionCI
 	@Override
 	public void			transmit(PipelineDataI d) throws Exception
 	{
-		this.getOwner().runTask(
+		this.runTask(
 			new AbstractComponent.AbstractTask(this.getPluginURI()) {
 				@Override
 				public void run() {
@@ -84,7 +84,7 @@ implements	PingPongCI
 	@Override
 	public void			play() throws Exception
 	{
-		this.owner.runTask(
+		this.runTask(
 				new AbstractComponent.AbstractTask() {
 					@Override
 					public void run() {
@@ -103,7 +103,7 @@ implements	PingPongCI
 	@Override
 	public void			playOnDataPull() throws Exception
 	{
-		this.owner.runTask(
+		this.runTask(
 				new AbstractComponent.AbstractTask() {
 					@Override
 					public void run() {
@@ -122,7 +122,7 @@ implements	PingPongCI
 	@Override
 	public void			playOnDataReception(Ball b) throws Exception
 	{
-		this.owner.runTask(
+		this.runTask(
 				new AbstractComponent.AbstractTask() {
 					@Override
 					public void run() {
@@ -141,7 +141,7 @@ implements	PingPongCI
 	@Override
 	public void			pingPong() throws Exception
 	{
-		this.owner.runTask(
+		this.runTask(
 				new AbstractComponent.AbstractTask() {
 					@Override
 					public void run() {
@@ -160,7 +160,7 @@ implements	PingPongCI
 	@Override
 	public void			goToService() throws Exception
 	{
-		this.owner.runTask(
+		this.runTask(
 				new AbstractComponent.AbstractTask() {
 					@Override
 					public void run() {
@@ -175,7 +175,7 @@ implements	PingPongCI
 	@Override
 	public void			hit(Ball b) throws Exception
 	{
-		this.owner.runTask(
+		this.runTask(
 				new AbstractComponent.AbstractTask() {
 					@Override
 					public void run() {
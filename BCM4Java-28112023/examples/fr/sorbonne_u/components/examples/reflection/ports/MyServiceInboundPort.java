@@ -83,7 +83,7 @@ implements	MyServiceCI
 	@Override
 	public void			myService(String message) throws Exception
 	{
-		this.owner.handleRequest(
+		this.handleRequest(
 			new AbstractComponent.AbstractService<Void>() {
 				@Override
 				public Void call() throws Exception {
@@ -82,7 +82,7 @@ implements	IntegerFilteringCI
 	@Override
 	public void			filter(int i) throws Exception
 	{
-		this.getOwner().runTask(
+		this.runTask(
 				new AbstractComponent.AbstractTask() {
 					@Override
 					public void run() {
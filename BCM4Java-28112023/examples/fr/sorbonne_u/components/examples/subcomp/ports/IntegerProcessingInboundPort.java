@@ -79,7 +79,7 @@ implements	IntegerProcessingCI
 	@Override
 	public void			process(int i) throws Exception
 	{
-		this.getOwner().runTask(
+		this.runTask(
 				new AbstractComponent.AbstractTask() {
 					@Override
 					public void run() {
@@ -47,7 +47,8 @@ import fr.sorbonne_u.exceptions.PreconditionException;
  * <p>
  * The idea is that the commands receives an array of objects representing the
  * parameters of the call at creation time. Next, the caller side sets its
- * information: a call URI used to match the result when it is received and
+ * information: a call identifier used to match the result when it is received
+ * and
  * the URI of an inbound port offering the
  * <code>AsynchronousResultReceptionCI</code> component interface to which the
  * result must be sent. This command object is passed to the server side, which
@@ -127,8 +128,10 @@ implements	AsyncCallI
 	 *  call is processed.													*/
 	transient protected AsyncCallServerPlugin	plugin;
 
-	/** URI of this call.													*/
-	protected String				callURI;
+	/** identifier of this call, 0 until the call information are set.	*/
+	protected long					callId;
+	/** true when the call has been cancelled by the caller.				*/
+	transient protected volatile boolean	cancelled;
 	/** actual parameters of the call.										*/
 	protected final Serializable[]	parameters;
 	/** URI of the result reception inbound port to which the result must
@@ -186,23 +189,50 @@ implements	AsyncCallI
 	@Override
 	public boolean		callInfoSet()
 	{
-		return this.callURI != null && this.receptionPortURI != null;
+		return this.callId > 0 && this.receptionPortURI != null;
 	}
 
 	/**
-	 * @see fr.sorbonne_u.components.plugins.asynccall.AsyncCallI#setCallInfo(java.lang.String, java.lang.String)
+	 * @see fr.sorbonne_u.components.plugins.asynccall.AsyncCallI#setCallInfo(long, java.lang.String)
 	 */
 	@Override
-	public void			setCallInfo(String callURI, String receptionPortURI)
+	public void			setCallInfo(long callId, String receptionPortURI)
 	{
 		assert	!this.callInfoSet() : new PreconditionException("");
-		assert	callURI != null && callURI.length() > 0 : new PreconditionException("");
+		assert	callId > 0 : new PreconditionException("");
 		assert	receptionPortURI != null && receptionPortURI.length() > 0 : new PreconditionException("");
 
-		this.callURI = callURI;
+		this.callId = callId;
 		this.receptionPortURI = receptionPortURI;
 	}
 
+	/**
+	 * @see fr.sorbonne_u.components.plugins.asynccall.AsyncCallI#getCallId()
+	 */
+	@Override
+	public long			getCallId()
+	{
+		return this.callId;
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.plugins.asynccall.AsyncCallI#cancel()
+	 */
+	@Override
+	public void			cancel()
+	{
+		this.cancelled = true;
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.plugins.asynccall.AsyncCallI#isCancelled()
+	 */
+	@Override
+	public boolean		isCancelled()
+	{
+		return this.cancelled;
+	}
+
 	/**
 	 * @see fr.sorbonne_u.components.plugins.asynccall.AsyncCallI#calleeInfoSet()
 	 */
@@ -242,7 +272,10 @@ implements	AsyncCallI
 	{
 		assert	this.callInfoSet() : new PreconditionException("callInfoSet()");
 
-		this.plugin.sendResult(this.callURI, result, this.receptionPortURI);
+		// the caller no longer waits for the result of a cancelled call.
+		if (!this.cancelled) {
+			this.plugin.sendResult(this.callId, result, this.receptionPortURI);
+		}
 	}
 }
 // -----------------------------------------------------------------------------
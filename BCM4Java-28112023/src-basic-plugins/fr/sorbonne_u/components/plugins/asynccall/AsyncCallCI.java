@@ -45,10 +45,15 @@ import fr.sorbonne_u.components.interfaces.RequiredCI;
  * <p>
  * The call itself is represented by a Command pattern where the abstract
  * class <code>AbstractAsyncCall</code> is inherited by all user command
- * classes. All such command instances have an URI for each call so that
- * the result can be sent back to the caller by another asynchronous call
- * with this URI and the result as parameters. Hence, the caller can know
- * to which call correspond which result.
+ * classes. All such command instances have an identifier for each call so
+ * that the result can be sent back to the caller by another asynchronous
+ * call with this identifier and the result as parameters. Hence, the caller
+ * can know to which call correspond which result.
+ * </p>
+ * <p>
+ * Several calls can be passed in one batch, and a call can be cancelled by
+ * its caller, in which case the server does not execute it if it has not
+ * started yet and does not send back its result.
  * </p>
  * 
  * <p><strong>White-box Invariant</strong></p>
@@ -86,5 +91,40 @@ extends		OfferedCI,
 	 * @throws Exception	<i>to do</i>.
 	 */
 	public void			asyncCall(AbstractAsyncCall c) throws Exception;
+
+	/**
+	 * pass a batch of commands representing calls to the server to be
+	 * executed asynchronously.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code cs != null && cs.length > 0}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param cs			the original service calls represented as commands.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	public void			asyncCalls(AbstractAsyncCall[] cs) throws Exception;
+
+	/**
+	 * cancel the call with the given identifier passed by the caller which
+	 * receives its results through the given inbound port.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code receptionPortURI != null && receptionPortURI.length() > 0}
+	 * pre	{@code callId > 0}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param receptionPortURI	URI of the result reception inbound port of the caller.
+	 * @param callId			identifier of the call.
+	 * @throws Exception		<i>to do</i>.
+	 */
+	public void			cancelCall(String receptionPortURI, long callId)
+	throws Exception;
 }
 // -----------------------------------------------------------------------------
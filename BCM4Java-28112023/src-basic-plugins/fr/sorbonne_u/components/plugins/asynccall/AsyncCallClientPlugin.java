@@ -43,6 +43,13 @@ import fr.sorbonne_u.components.reflection.ports.ReflectionOutboundPort;
 import fr.sorbonne_u.exceptions.PreconditionException;
 import java.io.Serializable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 
 // -----------------------------------------------------------------------------
 /**
@@ -74,7 +81,21 @@ import java.util.concurrent.ConcurrentHashMap;
  * When performing an asynchronous call, the calling code will receive a
  * completable future as immediate result. This future object can be used as
  * in Java, except that it is restricted to the scope of the component (it
- * can't be passed to another component).
+ * can't be passed to another component). Cancelling the future cancels the
+ * call on the server side.
+ * </p>
+ * <p>
+ * Calls are identified by numbers attributed in sequence by the plug-in.
+ * Several calls can be passed to the server in one call with
+ * {@code asyncCalls}, the server then sending back their results in as few
+ * calls as possible. Calls can be given a timeout, after which their future
+ * is completed with a {@code TimeoutException} and the call is cancelled on
+ * the server side. Finally, the number of calls awaiting their result can
+ * be bounded when creating the plug-in, in which case new calls wait for
+ * previous ones to complete, at most until their timeout if they have one.
+ * A batch takes all of its room in the window at once. When the call to the
+ * server fails, the futures of the calls are completed exceptionally and
+ * their room in the window is released before the exception is rethrown.
  * </p>
  * 
  * <p><strong>White-box Invariant</strong></p>
@@ -101,6 +122,17 @@ extends		AbstractPlugin
 	// -------------------------------------------------------------------------
 
 	private static final long						serialVersionUID = 1L;
+	/** scheduler used to time out the calls, shared by all of the
+	 *  client plug-ins.													*/
+	protected static ScheduledExecutorService		TIMEOUT_SCHEDULER;
+
+	/** maximum number of calls awaiting their result at any time.			*/
+	protected final int								maxInFlight;
+	/** permits of the calls awaiting their result or null if unbounded.	*/
+	protected final Semaphore						window;
+	/** generator of the call identifiers.									*/
+	protected final AtomicLong						nextCallId =
+															new AtomicLong();
 	/** port used to perform asynchronous calls to the server.				*/
 	protected AsyncCallOutboundPort					outPort;
 	/** port used ot receive the results of the asynchronous calls.			*/
@@ -108,9 +140,75 @@ extends		AbstractPlugin
 
 	/** hash map containing the completable futures awaiting to be completed
 	 *  when the results of the corresponding calls will be received.		*/
-	protected ConcurrentHashMap<String,RemoteCompletableFuture<Serializable>>
+	protected ConcurrentHashMap<Long,RemoteCompletableFuture<Serializable>>
 													awaitingResults;
 
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create a plug-in instance with no bound on the number of calls awaiting
+	 * their result.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code getMaxInFlight() == Integer.MAX_VALUE}
+	 * </pre>
+	 */
+	public				AsyncCallClientPlugin()
+	{
+		this(Integer.MAX_VALUE);
+	}
+
+	/**
+	 * create a plug-in instance allowing at most {@code maxInFlight} calls
+	 * awaiting their result at any time.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code maxInFlight > 0}
+	 * post	{@code getMaxInFlight() == maxInFlight}
+	 * </pre>
+	 *
+	 * @param maxInFlight	maximum number of calls awaiting their result at any time.
+	 */
+	public				AsyncCallClientPlugin(int maxInFlight)
+	{
+		assert	maxInFlight > 0 : new PreconditionException("maxInFlight > 0");
+
+		this.maxInFlight = maxInFlight;
+		this.window = maxInFlight < Integer.MAX_VALUE ?
+										new Semaphore(maxInFlight) : null;
+	}
+
+	/**
+	 * return the scheduler used to time out the calls, creating it if
+	 * necessary.
+	 * 
+	 * @return	the scheduler used to time out the calls.
+	 */
+	protected static synchronized ScheduledExecutorService
+													getTimeoutScheduler()
+	{
+		if (TIMEOUT_SCHEDULER == null) {
+			ScheduledThreadPoolExecutor stpe =
+				new ScheduledThreadPoolExecutor(
+						1,
+						r -> {
+							Thread t = new Thread(r, "AsyncCallTimeouts");
+							t.setDaemon(true);
+							return t;
+						});
+			stpe.setRemoveOnCancelPolicy(true);
+			TIMEOUT_SCHEDULER = stpe;
+		}
+		return TIMEOUT_SCHEDULER;
+	}
+
 	// -------------------------------------------------------------------------
 	// Plug-in life-cycle
 	// -------------------------------------------------------------------------
@@ -164,6 +262,12 @@ extends		AbstractPlugin
 			}
 			this.outPort.unpublishPort();
 		}
+		// the calls still awaiting their result will never receive it.
+		for (RemoteCompletableFuture<Serializable> cf :
+												this.awaitingResults.values()) {
+			cf.completeExceptionally(new IllegalStateException(
+								"asynchronous call client plug-in finalised"));
+		}
 		this.awaitingResults.clear();
 
 		super.finalise();
@@ -282,9 +386,211 @@ extends		AbstractPlugin
 		this.outPort = null;
 	}
 
+	/**
+	 * return the maximum number of calls awaiting their result at any time.
+	 * 
+	 * @return	the maximum number of calls awaiting their result at any time.
+	 */
+	public int			getMaxInFlight()
+	{
+		return this.maxInFlight;
+	}
+
+	/**
+	 * return the number of calls awaiting their result.
+	 * 
+	 * @return	the number of calls awaiting their result.
+	 */
+	public int			inFlight()
+	{
+		return this.awaitingResults.size();
+	}
+
+	/**
+	 * take room for {@code n} calls in the in-flight window, waiting at most
+	 * {@code timeout} if it is not negative, and return the part of
+	 * {@code timeout} left after the wait.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code n > 0 && n <= getMaxInFlight()}
+	 * pre	{@code timeout < 0 || u != null}
+	 * post	{@code timeout < 0 || return >= 0}
+	 * </pre>
+	 *
+	 * @param n						number of calls.
+	 * @param timeout				maximum delay to wait for room in the window, no limit if negative.
+	 * @param u						time unit of {@code timeout}.
+	 * @return						the part of {@code timeout} left after the wait or {@code timeout} if it is negative.
+	 * @throws InterruptedException	if the thread is interrupted while waiting.
+	 * @throws TimeoutException		if the window has not room for the calls before the timeout.
+	 */
+	protected long		acquireWindow(int n, long timeout, TimeUnit u)
+	throws InterruptedException, TimeoutException
+	{
+		assert	n > 0 && n <= this.maxInFlight :
+				new PreconditionException("n > 0 && n <= getMaxInFlight()");
+		assert	timeout < 0 || u != null :
+				new PreconditionException("timeout < 0 || u != null");
+
+		if (this.window == null || timeout < 0) {
+			if (this.window != null) {
+				this.window.acquire(n);
+			}
+			return timeout;
+		}
+		long start = System.nanoTime();
+		if (!this.window.tryAcquire(n, timeout, u)) {
+			throw new TimeoutException(
+						"no room for " + n + " call(s) in the in-flight window"
+						+ " of " + this.maxInFlight + " calls");
+		}
+		return Math.max(0L, timeout - u.convert(System.nanoTime() - start,
+												TimeUnit.NANOSECONDS));
+	}
+
+	/**
+	 * prepare the given call and its future, for which the caller has taken
+	 * room in the in-flight window; the room is released when the future
+	 * is completed.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code c != null}
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param c				an asynchronous call object.
+	 * @return				a completable future that will contain the result.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	protected RemoteCompletableFuture<Serializable>	prepare(
+		AbstractAsyncCall c
+		) throws Exception
+	{
+		long callId = this.nextCallId.incrementAndGet();
+		// done first so that nothing is registered if it fails.
+		c.setCallInfo(callId, this.inPort.getPortURI());
+		RemoteCompletableFuture<Serializable> cf =
+				new RemoteCompletableFuture<Serializable>(
+										() -> this.cancelOnServer(callId));
+		this.awaitingResults.put(callId, cf);
+		// whatever the way the future is completed (result, timeout or
+		// cancellation), the call leaves the window.
+		cf.whenComplete((r, t) -> {
+				if (this.awaitingResults.remove(callId) != null &&
+													this.window != null) {
+					this.window.release();
+				}
+			});
+		return cf;
+	}
+
+	/**
+	 * release the room taken for {@code n} calls in the in-flight window
+	 * that have not been prepared.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code n >= 0}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param n	number of calls.
+	 */
+	protected void		releaseWindow(int n)
+	{
+		if (this.window != null && n > 0) {
+			this.window.release(n);
+		}
+	}
+
+	/**
+	 * complete the future with a {@code TimeoutException} and cancel the
+	 * call on the server if it is not completed after the given delay.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code cf != null && timeout >= 0 && u != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param callId	identifier of the call.
+	 * @param cf		future of the call.
+	 * @param timeout	delay after which the call times out.
+	 * @param u			time unit of {@code timeout}.
+	 */
+	protected void		setTimeout(
+		long callId,
+		RemoteCompletableFuture<Serializable> cf,
+		long timeout,
+		TimeUnit u
+		)
+	{
+		ScheduledFuture<?> t =
+			getTimeoutScheduler().schedule(
+				() -> {
+					if (cf.completeExceptionally(new TimeoutException(
+								"asynchronous call " + callId + " timed out"))) {
+						this.cancelOnServer(callId);
+					}
+				}, timeout, u);
+		cf.whenComplete((r, e) -> t.cancel(false));
+	}
+
+	/**
+	 * complete exceptionally the futures of calls that have not reached the
+	 * server, which removes them from the awaiting results and releases
+	 * their room in the in-flight window.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code cfs != null && e != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param cfs	futures of the failed calls.
+	 * @param e		exception raised by the call to the server.
+	 */
+	@SafeVarargs
+	protected final void	abort(
+		Exception e,
+		RemoteCompletableFuture<Serializable>... cfs
+		)
+	{
+		for (RemoteCompletableFuture<Serializable> cf : cfs) {
+			if (cf != null) {
+				cf.completeExceptionally(e);
+			}
+		}
+	}
+
+	/**
+	 * propagate the cancellation of a call to the server.
+	 * 
+	 * @param callId	identifier of the call.
+	 */
+	protected void		cancelOnServer(long callId)
+	{
+		try {
+			if (this.isConnectedToServer()) {
+				this.outPort.cancelCall(this.inPort.getPortURI(), callId);
+			}
+		} catch (Exception e) {
+			// the future is already completed, nothing more can be done.
+			this.logMessage("cancelling call " + callId + " failed: " + e);
+		}
+	}
+
 	/**
 	 * call the server side in an asynchronous fashion using the protocol
-	 * implemented by this plug-in to get the result.
+	 * implemented by this plug-in to get the result; the call waits if
+	 * {@code getMaxInFlight()} calls are already awaiting their result.
 	 * 
 	 * <p><strong>Contract</strong></p>
 	 * 
@@ -303,16 +609,161 @@ extends		AbstractPlugin
 	{
 		assert	c != null : new PreconditionException("c != null");
 
-		// see http://www.asciiarmor.com/post/33736615/java-util-uuid-mini-faq
-		String callURI = java.util.UUID.randomUUID().toString();
-		RemoteCompletableFuture<Serializable> cf =
-									new RemoteCompletableFuture<Serializable>();
-		this.awaitingResults.put(callURI, cf);
-		c.setCallInfo(callURI, this.inPort.getPortURI());
-		this.outPort.asyncCall(c);
+		this.acquireWindow(1, -1L, null);
+		RemoteCompletableFuture<Serializable> cf;
+		try {
+			cf = this.prepare(c);
+		} catch (Exception e) {
+			this.releaseWindow(1);
+			throw e;
+		}
+		try {
+			this.outPort.asyncCall(c);
+		} catch (Exception e) {
+			this.abort(e, cf);
+			throw e;
+		}
+		return cf;
+	}
+
+	/**
+	 * call the server side in an asynchronous fashion as {@code asyncCall},
+	 * but complete the future with a {@code TimeoutException} and cancel
+	 * the call on the server if the result is not received in time; when
+	 * the in-flight window has not room for the call in time, a
+	 * {@code TimeoutException} is thrown and the call is not performed.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code c != null}
+	 * pre	{@code timeout >= 0 && u != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param c				an asynchronous call object.
+	 * @param timeout		delay after which the call times out.
+	 * @param u				time unit of {@code timeout}.
+	 * @return				a completable future that will contain the result.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	public RemoteCompletableFuture<Serializable>	asyncCall(
+		AbstractAsyncCall c,
+		long timeout,
+		TimeUnit u
+		) throws Exception
+	{
+		assert	c != null : new PreconditionException("c != null");
+		assert	timeout >= 0 && u != null :
+				new PreconditionException("timeout >= 0 && u != null");
+
+		long left = this.acquireWindow(1, timeout, u);
+		RemoteCompletableFuture<Serializable> cf;
+		try {
+			cf = this.prepare(c);
+		} catch (Exception e) {
+			this.releaseWindow(1);
+			throw e;
+		}
+		this.setTimeout(c.getCallId(), cf, left, u);
+		try {
+			this.outPort.asyncCall(c);
+		} catch (Exception e) {
+			this.abort(e, cf);
+			throw e;
+		}
 		return cf;
 	}
 
+	/**
+	 * call the server side in an asynchronous fashion for a batch of calls
+	 * passed in one call to the server, which will send back their results
+	 * in as few calls as possible; {@code return[i]} is the future of
+	 * {@code cs[i]}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code cs != null && cs.length > 0}
+	 * pre	{@code cs.length <= getMaxInFlight()}
+	 * post	{@code return != null && return.length == cs.length}
+	 * </pre>
+	 *
+	 * @param cs			asynchronous call objects.
+	 * @return				the completable futures that will contain the results.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	public RemoteCompletableFuture<Serializable>[]	asyncCalls(
+		AbstractAsyncCall[] cs
+		) throws Exception
+	{
+		return this.asyncCalls(cs, -1L, null);
+	}
+
+	/**
+	 * call the server side in an asynchronous fashion for a batch of calls
+	 * as {@code asyncCalls}, each of them timing out as with
+	 * {@code asyncCall} if {@code timeout} is not negative.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code cs != null && cs.length > 0}
+	 * pre	{@code cs.length <= getMaxInFlight()}
+	 * pre	{@code timeout < 0 || u != null}
+	 * post	{@code return != null && return.length == cs.length}
+	 * </pre>
+	 *
+	 * @param cs			asynchronous call objects.
+	 * @param timeout		delay after which the calls time out, no timeout if negative.
+	 * @param u				time unit of {@code timeout}.
+	 * @return				the completable futures that will contain the results.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	public RemoteCompletableFuture<Serializable>[]	asyncCalls(
+		AbstractAsyncCall[] cs,
+		long timeout,
+		TimeUnit u
+		) throws Exception
+	{
+		assert	cs != null && cs.length > 0 :
+				new PreconditionException("cs != null && cs.length > 0");
+		assert	cs.length <= this.maxInFlight :
+				new PreconditionException("cs.length <= getMaxInFlight()");
+		assert	timeout < 0 || u != null :
+				new PreconditionException("timeout < 0 || u != null");
+
+		// taking the room of all of the calls at once avoids two batches
+		// each holding part of the window while waiting for the rest.
+		long left = this.acquireWindow(cs.length, timeout, u);
+		@SuppressWarnings("unchecked")
+		RemoteCompletableFuture<Serializable>[] ret =
+			(RemoteCompletableFuture<Serializable>[])
+								new RemoteCompletableFuture<?>[cs.length];
+		int prepared = 0;
+		try {
+			for ( ; prepared < cs.length ; prepared++) {
+				ret[prepared] = this.prepare(cs[prepared]);
+			}
+		} catch (Exception e) {
+			this.abort(e, ret);
+			this.releaseWindow(cs.length - prepared);
+			throw e;
+		}
+		if (left >= 0) {
+			for (int i = 0 ; i < cs.length ; i++) {
+				this.setTimeout(cs[i].getCallId(), ret[i], left, u);
+			}
+		}
+		try {
+			this.outPort.asyncCalls(cs);
+		} catch (Exception e) {
+			this.abort(e, ret);
+			throw e;
+		}
+		return ret;
+	}
+
 	/**
 	 * receive the result of an asynchronous call, setting the corresponding
 	 * completable future value.
@@ -320,27 +771,51 @@ extends		AbstractPlugin
 	 * <p><strong>Contract</strong></p>
 	 * 
 	 * <pre>
-	 * pre	{@code callURI != null && callURI.length() > 0}
+	 * pre	{@code callId > 0}
 	 * post	{@code true}	// no postcondition.
 	 * </pre>
 	 *
-	 * @param callURI	URI attributed to the call when it was passed to the server.
+	 * @param callId	identifier attributed to the call when it was passed to the server.
 	 * @param result	the result of the call coming back from the server.
 	 */
-	public void			receive(String callURI, Serializable result)
+	public void			receive(long callId, Serializable result)
 	{
-		assert	callURI != null && callURI.length() > 0 :
-				new PreconditionException(
-								"callURI != null && callURI.length() > 0");
+		assert	callId > 0 : new PreconditionException("callId > 0");
 
+		// a future timed out or cancelled is already removed and completed.
 		RemoteCompletableFuture<Serializable> cf =
-									this.awaitingResults.remove(callURI);
+									this.awaitingResults.get(callId);
 		if (cf != null) {
-			synchronized (cf) {
-				if (!cf.isDone()) {
-					cf.complete(result);
-				}
-			}
+			cf.complete(result);
+		}
+	}
+
+	/**
+	 * receive a batch of results of asynchronous calls, setting the
+	 * corresponding completable future values.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code callIds != null && results != null}
+	 * pre	{@code callIds.length == results.length}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param callIds	identifiers attributed to the calls when they were passed to the server.
+	 * @param results	the results of the calls coming back from the server.
+	 */
+	public void			receive(long[] callIds, Serializable[] results)
+	{
+		assert	callIds != null && results != null :
+				new PreconditionException(
+								"callIds != null && results != null");
+		assert	callIds.length == results.length :
+				new PreconditionException(
+								"callIds.length == results.length");
+
+		for (int i = 0 ; i < callIds.length ; i++) {
+			this.receive(callIds[i], results[i]);
 		}
 	}
 }
@@ -81,15 +81,57 @@ extends		Serializable
 	 * <p><strong>Contract</strong></p>
 	 * 
 	 * <pre>
-	 * pre	{@code callURI != null && callURI.length() > 0}
+	 * pre	{@code callId > 0}
 	 * pre	{@code receptionPortURI != null && receptionPortURI.length() > 0}
-	 * post	{@code true}	// no postcondition.
+	 * post	{@code getCallId() == callId}
 	 * </pre>
 	 *
-	 * @param callURI			URI of this call.
+	 * @param callId			identifier of this call, unique among the calls sent to the same result reception inbound port.
 	 * @param receptionPortURI	URI of the result reception inbound port to which the result must be sent.
 	 */
-	public void			setCallInfo(String callURI, String receptionPortURI);
+	public void			setCallInfo(long callId, String receptionPortURI);
+
+	/**
+	 * return the identifier of this call or 0 if the call information are
+	 * not set.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code callInfoSet() == (return > 0)}
+	 * </pre>
+	 *
+	 * @return	the identifier of this call or 0 if the call information are not set.
+	 */
+	public long			getCallId();
+
+	/**
+	 * mark this call as cancelled so that it is not executed if it has not
+	 * started yet and that its result is not sent back.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code isCancelled()}
+	 * </pre>
+	 */
+	public void			cancel();
+
+	/**
+	 * return true if this call has been cancelled.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @return	true if this call has been cancelled.
+	 */
+	public boolean		isCancelled();
 
 	/**
 	 * return	true if the callee information are set.
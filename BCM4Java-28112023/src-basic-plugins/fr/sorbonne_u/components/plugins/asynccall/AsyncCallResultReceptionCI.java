@@ -65,20 +65,39 @@ extends		OfferedCI,
 			RequiredCI
 {
 	/**
-	 * accept {@code result} for the call with URI {@code callURI}.
+	 * accept {@code result} for the call with identifier {@code callId}.
 	 * 
 	 * <p><strong>Contract</strong></p>
 	 * 
 	 * <pre>
-	 * pre	{@code callURI != null && callURI.length() > 0}
+	 * pre	{@code callId > 0}
 	 * post	{@code true}	// no postcondition.
 	 * </pre>
 	 *
-	 * @param callURI		URI of the call.
+	 * @param callId		identifier of the call.
 	 * @param result		result of the call.
 	 * @throws Exception	<i>to do</i>.
 	 */
-	public void			acceptResult(String callURI, Serializable result)
+	public void			acceptResult(long callId, Serializable result)
+	throws Exception;
+
+	/**
+	 * accept a batch of results, {@code results[i]} being the result of the
+	 * call with identifier {@code callIds[i]}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code callIds != null && results != null}
+	 * pre	{@code callIds.length == results.length}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param callIds		identifiers of the calls.
+	 * @param results		results of the calls.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	public void			acceptResults(long[] callIds, Serializable[] results)
 	throws Exception;
 }
 // -----------------------------------------------------------------------------
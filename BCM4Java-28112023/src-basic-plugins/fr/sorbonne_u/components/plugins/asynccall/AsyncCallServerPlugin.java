@@ -42,7 +42,10 @@ import fr.sorbonne_u.components.ports.PortI;
 import fr.sorbonne_u.exceptions.PreconditionException;
 
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 // -----------------------------------------------------------------------------
 /**
@@ -67,6 +70,15 @@ import java.util.concurrent.ConcurrentHashMap;
  * should be changed to connect/disconnect at result sending time.
  * </p>
  * <p>
+ * Results are not sent back one call at a time when they are produced faster
+ * than they can be sent: the results produced for the same caller while a
+ * send is in progress are queued and sent together by the next one, in
+ * batches of at most {@code getMaxBatchSize()} results. Hence, a caller
+ * passing a batch of calls with {@code asyncCalls} gets their results back
+ * in a few calls rather than one per call. Calls can also be cancelled by
+ * the caller with {@code cancelCall}.
+ * </p>
+ * <p>
  * TODO: One limitation of the current implementation is the thread safety that
  * can be challenged if the call can be executed in parallel with the connection of
  * the outbound port used to return the result. No waiting is put in place to
@@ -100,12 +112,73 @@ extends		AbstractPlugin
 	// -------------------------------------------------------------------------
 
 	private static final long					serialVersionUID = 1L;
+	/** default maximum number of results sent back in one call.			*/
+	public static final int						DEFAULT_MAX_BATCH_SIZE = 64;
 	/** port through which the asynchronous calls are received.				*/
 	protected AsyncCallInboundPort				inPort;
 	/** ports through which results are sent back the the caller
 	 *  components.															*/
 	protected ConcurrentHashMap<String,AsyncCallResultReceptionOutboundPort>
 												resultReceptionOutboundPorts;
+	/** channels through which results are sent back by URI of the result
+	 *  reception inbound ports of the caller components.					*/
+	protected final ConcurrentHashMap<String,ResultChannel>	resultChannels =
+													new ConcurrentHashMap<>();
+	/** maximum number of results sent back in one call.					*/
+	protected final int							maxBatchSize;
+
+	// -------------------------------------------------------------------------
+	// Inner types and classes
+	// -------------------------------------------------------------------------
+
+	/**
+	 * The class <code>PendingResult</code> holds a result waiting to be sent
+	 * back to the caller.
+	 *
+	 * <p>Created on : 2026-10-19</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	protected static class	PendingResult
+	{
+		/** identifier of the call.										*/
+		protected final long			callId;
+		/** result of the call.											*/
+		protected final Serializable	result;
+
+		/**
+		 * create a pending result.
+		 * 
+		 * @param callId	identifier of the call.
+		 * @param result	result of the call.
+		 */
+		public			PendingResult(long callId, Serializable result)
+		{
+			this.callId = callId;
+			this.result = result;
+		}
+	}
+
+	/**
+	 * The class <code>ResultChannel</code> holds the state of the exchanges
+	 * with one caller component: the calls being executed, which can be
+	 * cancelled, and the results waiting to be sent back.
+	 *
+	 * <p>Created on : 2026-10-19</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	protected static class	ResultChannel
+	{
+		/** calls received and not completed yet by identifier.			*/
+		protected final ConcurrentHashMap<Long,AbstractAsyncCall>	running =
+													new ConcurrentHashMap<>();
+		/** results waiting to be sent back.								*/
+		protected final ConcurrentLinkedQueue<PendingResult>	pending =
+												new ConcurrentLinkedQueue<>();
+		/** true when a thread is sending the pending results.			*/
+		protected final AtomicBoolean	flushing = new AtomicBoolean(false);
+	}
 
 	// -------------------------------------------------------------------------
 	// Constructors
@@ -118,12 +191,34 @@ extends		AbstractPlugin
 	 * 
 	 * <pre>
 	 * pre	{@code true}	// no precondition.
-	 * post	{@code true}	// no postcondition.
+	 * post	{@code getMaxBatchSize() == DEFAULT_MAX_BATCH_SIZE}
 	 * </pre>
 	 *
 	 */
 	public				AsyncCallServerPlugin()
 	{
+		this(DEFAULT_MAX_BATCH_SIZE);
+	}
+
+	/**
+	 * create a plug-in instance sending back at most {@code maxBatchSize}
+	 * results in one call.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code maxBatchSize > 0}
+	 * post	{@code getMaxBatchSize() == maxBatchSize}
+	 * </pre>
+	 *
+	 * @param maxBatchSize	maximum number of results sent back in one call.
+	 */
+	public				AsyncCallServerPlugin(int maxBatchSize)
+	{
+		assert	maxBatchSize > 0 :
+				new PreconditionException("maxBatchSize > 0");
+
+		this.maxBatchSize = maxBatchSize;
 	}
 
 	// -------------------------------------------------------------------------
@@ -173,6 +268,7 @@ extends		AbstractPlugin
 			p.unpublishPort();
 		}
 		this.resultReceptionOutboundPorts.clear();
+		this.resultChannels.clear();
 
 		super.finalise();
 	}
@@ -192,6 +288,16 @@ extends		AbstractPlugin
 	// Methods
 	// -------------------------------------------------------------------------
 
+	/**
+	 * return the maximum number of results sent back in one call.
+	 * 
+	 * @return	the maximum number of results sent back in one call.
+	 */
+	public int			getMaxBatchSize()
+	{
+		return this.maxBatchSize;
+	}
+
 	/**
 	 * return true if {@code receptionPortURI} corresponds to an outbound port
 	 * connected to the designated inbound port.
@@ -263,6 +369,20 @@ extends		AbstractPlugin
 		}
 	}
 
+	/**
+	 * return the channel through which the results are sent back to the
+	 * result reception inbound port with the given URI, creating it if
+	 * necessary.
+	 * 
+	 * @param receptionPortURI	URI of a result reception inbound port.
+	 * @return					the channel to the result reception inbound port.
+	 */
+	protected ResultChannel	channel(String receptionPortURI)
+	{
+		return this.resultChannels.computeIfAbsent(receptionPortURI,
+												   k -> new ResultChannel());
+	}
+
 	/**
 	 * execute the given asynchronous call as a task on the owner component,
 	 * which will then send back its result.
@@ -282,45 +402,113 @@ extends		AbstractPlugin
 		assert	c != null;
 
 		c.setCalleeInfo((AbstractComponent)this.getOwner(), this);
+		ResultChannel ch = this.channel(c.receptionPortURI);
+		ch.running.put(c.getCallId(), c);
 		this.runTaskOnComponent(this.getPreferredExecutionServiceIndex(),
 								new AbstractComponent.AbstractTask() {
 									@Override
 									public void run() {
 										try {
-											c.execute();
+											if (!c.isCancelled()) {
+												c.execute();
+											}
 										} catch (Exception e) {
 											e.printStackTrace();
+										} finally {
+											ch.running.remove(c.getCallId());
 										}
 									}
 								});
 	}
 
 	/**
-	 * send the result of a call back to the caller component.
+	 * execute the given batch of asynchronous calls as tasks on the owner
+	 * component, which will then send back their results, batched when
+	 * they are produced faster than they can be sent.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code cs != null && cs.length > 0}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param cs			asynchronous calls to be executed.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	public void			asyncCalls(AbstractAsyncCall[] cs) throws Exception
+	{
+		assert	cs != null && cs.length > 0 :
+				new PreconditionException("cs != null && cs.length > 0");
+
+		for (AbstractAsyncCall c : cs) {
+			this.asyncCall(c);
+		}
+	}
+
+	/**
+	 * cancel the call with the given identifier received from the caller
+	 * with the given result reception inbound port; a call which execution
+	 * has not started yet is not executed and the result of a call which
+	 * execution has started is not sent back, but the execution itself is
+	 * not interrupted.
 	 * 
 	 * <p><strong>Contract</strong></p>
 	 * 
 	 * <pre>
-	 * pre	{@code callURI != null && callURI.length() > 0}
+	 * pre	{@code receptionPortURI != null && receptionPortURI.length() > 0}
+	 * pre	{@code callId > 0}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param receptionPortURI	URI of the result reception inbound port of the caller.
+	 * @param callId			identifier of the call.
+	 */
+	public void			cancelCall(String receptionPortURI, long callId)
+	{
+		assert	receptionPortURI != null && receptionPortURI.length() > 0 :
+				new PreconditionException(
+								"receptionPortURI != null && "
+								+ "receptionPortURI.length() > 0");
+		assert	callId > 0 : new PreconditionException("callId > 0");
+
+		ResultChannel ch = this.resultChannels.get(receptionPortURI);
+		if (ch != null) {
+			AbstractAsyncCall c = ch.running.remove(callId);
+			if (c != null) {
+				c.cancel();
+			}
+		}
+	}
+
+	/**
+	 * send the result of a call back to the caller component; the result is
+	 * queued and the queued results are sent by batches of at most
+	 * {@code getMaxBatchSize()} results by the first thread finding no send
+	 * in progress to the same caller, hence results produced while a send is
+	 * in progress are sent together by the next one.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code callId > 0}
 	 * pre	{@code receptionPortURI != null && receptionPortURI.length() > 0}
 	 * pre	{@code receptionPortConnected(receptionPortURI)}
 	 * post	{@code true}	// no postcondition.
 	 * </pre>
 	 *
-	 * @param callURI			URI of the call.
+	 * @param callId			identifier of the call.
 	 * @param result			result to be returned to the caller.
 	 * @param receptionPortURI	URI of the port waiting for the result of the call.
 	 * @throws Exception		<i>to do</i>.
 	 */
 	public void			sendResult(
-		String callURI,
+		long callId,
 		Serializable result,
 		String receptionPortURI
 		) throws Exception
 	{
-		assert	callURI != null && callURI.length() > 0 :
-				new PreconditionException(
-								"callURI != null && callURI.length() > 0");
+		assert	callId > 0 : new PreconditionException("callId > 0");
 		assert	receptionPortURI != null && receptionPortURI.length() > 0 :
 				new PreconditionException(
 								"receptionPortURI != null && "
@@ -329,12 +517,67 @@ extends		AbstractPlugin
 				new PreconditionException(
 								"receptionPortConnected(receptionPortURI)");
 
+		ResultChannel ch = this.channel(receptionPortURI);
+		ch.pending.add(new PendingResult(callId, result));
 		try {
-			this.resultReceptionOutboundPorts.get(receptionPortURI).
-												acceptResult(callURI, result);
+			this.flush(ch, this.resultReceptionOutboundPorts.
+													get(receptionPortURI));
 		} catch (Exception e) {
 			throw new RuntimeException(e) ;
 		}
 	}
+
+	/**
+	 * send the results queued in the channel through the given port unless
+	 * another thread is already doing so.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code ch != null && p != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param ch			channel which queued results must be sent.
+	 * @param p				port connected to the result reception inbound port.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	protected void		flush(
+		ResultChannel ch,
+		AsyncCallResultReceptionOutboundPort p
+		) throws Exception
+	{
+		// the check after releasing the flag catches the results queued
+		// by threads that found the flag set just before it was released.
+		while (!ch.pending.isEmpty() && ch.flushing.compareAndSet(false, true)) {
+			try {
+				PendingResult r;
+				while ((r = ch.pending.poll()) != null) {
+					PendingResult next = ch.pending.peek();
+					if (next == null) {
+						p.acceptResult(r.callId, r.result);
+					} else {
+						long[] ids = new long[this.maxBatchSize];
+						Serializable[] results =
+									new Serializable[this.maxBatchSize];
+						int n = 0;
+						do {
+							ids[n] = r.callId;
+							results[n] = r.result;
+							n++;
+						} while (n < this.maxBatchSize &&
+										(r = ch.pending.poll()) != null);
+						if (n < this.maxBatchSize) {
+							ids = Arrays.copyOf(ids, n);
+							results = Arrays.copyOf(results, n);
+						}
+						p.acceptResults(ids, results);
+					}
+				}
+			} finally {
+				ch.flushing.set(false);
+			}
+		}
+	}
 }
 // -----------------------------------------------------------------------------
@@ -37,11 +37,18 @@ import java.util.concurrent.CompletableFuture;
 // -----------------------------------------------------------------------------
 /**
  * The class <code>RemoteCompletableFuture</code> implements a kind of
- * <code>CompletableFuture</code> that can't be cancelled, to be used to
- * implement a limited form of RMI asynchronous calls with future.
+ * <code>CompletableFuture</code> to be used to implement a limited form of
+ * RMI asynchronous calls with future.
  *
  * <p><strong>Description</strong></p>
  * 
+ * <p>
+ * When created without a cancellation action, the future can't be cancelled.
+ * When created with one, cancelling the future completes it with a
+ * {@code CancellationException} and then executes the action, which
+ * propagates the cancellation to the component executing the call.
+ * </p>
+ * 
  * <p><strong>White-box Invariant</strong></p>
  * 
  * <pre>
@@ -61,29 +68,95 @@ import java.util.concurrent.CompletableFuture;
 public class			RemoteCompletableFuture<T>
 extends		CompletableFuture<T>
 {
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** action propagating the cancellation or null if the future can't be
+	 *  cancelled.															*/
+	protected final Runnable	onCancel;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create a future that can't be cancelled.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code !isCancellable()}
+	 * </pre>
+	 */
+	public				RemoteCompletableFuture()
+	{
+		this(null);
+	}
+
+	/**
+	 * create a future that executes {@code onCancel} when it is cancelled, or
+	 * that can't be cancelled if {@code onCancel} is null.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code isCancellable() == (onCancel != null)}
+	 * </pre>
+	 *
+	 * @param onCancel	action propagating the cancellation or null.
+	 */
+	public				RemoteCompletableFuture(Runnable onCancel)
+	{
+		super();
+		this.onCancel = onCancel;
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return true if this future can be cancelled.
+	 * 
+	 * @return	true if this future can be cancelled.
+	 */
+	public boolean		isCancellable()
+	{
+		return this.onCancel != null;
+	}
+
 	/**
-	 * always throw a runtime exception; as {@code RemoteCompletableFuture}
-	 * can't be cancelled.
+	 * throw a runtime exception if this future can't be cancelled, otherwise
+	 * cancel it and, if it was not completed yet, propagate the cancellation.
 	 * 
 	 * @see java.util.concurrent.CompletableFuture#cancel(boolean)
 	 */
 	@Override
 	public boolean		cancel(boolean mayInterruptIfRunning)
 	{
-		throw new RuntimeException(
-						"RemoteCompletableFuture can't be cancelled!");
+		if (this.onCancel == null) {
+			throw new RuntimeException(
+							"RemoteCompletableFuture can't be cancelled!");
+		}
+		boolean ret = super.cancel(mayInterruptIfRunning);
+		if (ret) {
+			this.onCancel.run();
+		}
+		return ret;
 	}
 
 	/**
-	 * always return false; as {@code RemoteCompletableFuture} can't be
-	 * cancelled.
+	 * always return false if this future can't be cancelled.
 	 * 
 	 * @see java.util.concurrent.CompletableFuture#isCancelled()
 	 */
 	@Override
 	public boolean		isCancelled()
 	{
-		return false;
+		return this.onCancel != null && super.isCancelled();
 	}
 }
 // -----------------------------------------------------------------------------
@@ -71,5 +71,24 @@ implements	AsyncCallCI
 	{
 		((AsyncCallCI)this.offering).asyncCall(c);
 	}
+
+	/**
+	 * @see fr.sorbonne_u.components.plugins.asynccall.AsyncCallCI#asyncCalls(fr.sorbonne_u.components.plugins.asynccall.AbstractAsyncCall[])
+	 */
+	@Override
+	public void			asyncCalls(AbstractAsyncCall[] cs) throws Exception
+	{
+		((AsyncCallCI)this.offering).asyncCalls(cs);
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.plugins.asynccall.AsyncCallCI#cancelCall(java.lang.String, long)
+	 */
+	@Override
+	public void			cancelCall(String receptionPortURI, long callId)
+	throws Exception
+	{
+		((AsyncCallCI)this.offering).cancelCall(receptionPortURI, callId);
+	}
 }
 // -----------------------------------------------------------------------------
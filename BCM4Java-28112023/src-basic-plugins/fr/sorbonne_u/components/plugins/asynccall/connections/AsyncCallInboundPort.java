@@ -90,8 +90,31 @@ implements	AsyncCallCI
 	@Override
 	public void			asyncCall(AbstractAsyncCall c) throws Exception
 	{
+		this.admit();
 		((AsyncCallServerPlugin)this.getOwnerPlugin(this.getPluginURI())).
 																asyncCall(c);
 	}
+
+	/**
+	 * @see fr.sorbonne_u.components.plugins.asynccall.AsyncCallCI#asyncCalls(fr.sorbonne_u.components.plugins.asynccall.AbstractAsyncCall[])
+	 */
+	@Override
+	public void			asyncCalls(AbstractAsyncCall[] cs) throws Exception
+	{
+		this.admit();
+		((AsyncCallServerPlugin)this.getOwnerPlugin(this.getPluginURI())).
+																asyncCalls(cs);
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.plugins.asynccall.AsyncCallCI#cancelCall(java.lang.String, long)
+	 */
+	@Override
+	public void			cancelCall(String receptionPortURI, long callId)
+	throws Exception
+	{
+		((AsyncCallServerPlugin)this.getOwnerPlugin(this.getPluginURI())).
+										cancelCall(receptionPortURI, callId);
+	}
 }
 // -----------------------------------------------------------------------------
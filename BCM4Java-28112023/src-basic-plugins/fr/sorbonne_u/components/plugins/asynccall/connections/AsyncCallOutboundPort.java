@@ -86,5 +86,24 @@ implements	AsyncCallCI
 	{
 		((AsyncCallCI)this.getConnector()).asyncCall(c);
 	}
+
+	/**
+	 * @see fr.sorbonne_u.components.plugins.asynccall.AsyncCallCI#asyncCalls(fr.sorbonne_u.components.plugins.asynccall.AbstractAsyncCall[])
+	 */
+	@Override
+	public void			asyncCalls(AbstractAsyncCall[] cs) throws Exception
+	{
+		((AsyncCallCI)this.getConnector()).asyncCalls(cs);
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.plugins.asynccall.AsyncCallCI#cancelCall(java.lang.String, long)
+	 */
+	@Override
+	public void			cancelCall(String receptionPortURI, long callId)
+	throws Exception
+	{
+		((AsyncCallCI)this.getConnector()).cancelCall(receptionPortURI, callId);
+	}
 }
 // -----------------------------------------------------------------------------
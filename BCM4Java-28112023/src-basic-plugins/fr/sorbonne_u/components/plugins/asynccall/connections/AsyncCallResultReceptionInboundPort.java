@@ -89,17 +89,29 @@ implements	AsyncCallResultReceptionCI
 	}
 
 	/**
-	 * @see fr.sorbonne_u.components.plugins.asynccall.AsyncCallResultReceptionCI#acceptResult(java.lang.String, java.io.Serializable)
+	 * @see fr.sorbonne_u.components.plugins.asynccall.AsyncCallResultReceptionCI#acceptResult(long, java.io.Serializable)
 	 */
 	@Override
-	public void			acceptResult(String callURI, Serializable result)
+	public void			acceptResult(long callId, Serializable result)
 	throws Exception
 	{
 		// The call is purposely made by the thread of the caller to
 		// avoid forcing a real time component to have a thread for that
 		// which would perturb its scheduling.
 		((AsyncCallClientPlugin)this.getOwnerPlugin(this.getPluginURI())).
-													receive(callURI, result);
+													receive(callId, result);
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.plugins.asynccall.AsyncCallResultReceptionCI#acceptResults(long[], java.io.Serializable[])
+	 */
+	@Override
+	public void			acceptResults(long[] callIds, Serializable[] results)
+	throws Exception
+	{
+		// as for acceptResult, executed by the thread of the caller.
+		((AsyncCallClientPlugin)this.getOwnerPlugin(this.getPluginURI())).
+												receive(callIds, results);
 	}
 }
 // -----------------------------------------------------------------------------
@@ -82,14 +82,23 @@ implements	AsyncCallResultReceptionCI
 	}
 
 	/**
-	 * @see fr.sorbonne_u.components.plugins.asynccall.AsyncCallResultReceptionCI#acceptResult(java.lang.String, java.io.Serializable)
+	 * @see fr.sorbonne_u.components.plugins.asynccall.AsyncCallResultReceptionCI#acceptResult(long, java.io.Serializable)
 	 */
 	@Override
-	public void			acceptResult(String callURI, Serializable result)
+	public void			acceptResult(long callId, Serializable result)
 	throws Exception
 	{
-		((AsyncCallResultReceptionCI)this.getConnector()).
-												acceptResult(callURI, result);
+		((AsyncCallResultReceptionCI)this.getConnector()).acceptResult(callId, result);
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.plugins.asynccall.AsyncCallResultReceptionCI#acceptResults(long[], java.io.Serializable[])
+	 */
+	@Override
+	public void			acceptResults(long[] callIds, Serializable[] results)
+	throws Exception
+	{
+		((AsyncCallResultReceptionCI)this.getConnector()).acceptResults(callIds, results);
 	}
 }
 // -----------------------------------------------------------------------------
@@ -0,0 +1,283 @@
+package fr.sorbonne_u.components.plugins.dipc;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.io.Serializable;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>AdaptivePushPolicy</code> defines the parameters of the
+ * adaptive pushing mode of the push control plug-ins.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * In adaptive mode, the server side samples the data at an interval that
+ * varies between <code>minInterval</code> and <code>maxInterval</code>
+ * milliseconds depending upon the change between the last pushed datum and
+ * the newly sampled one, as measured by the plug-in:
+ * </p>
+ * <ul>
+ * <li>a change less than or equal to <code>deadBand</code> is considered
+ *   as no change: the datum is not pushed, unless no datum has been pushed
+ *   for <code>maxInterval</code> milliseconds, and the interval is
+ *   multiplied by <code>backoff</code>;</li>
+ * <li>a change greater than or equal to <code>fastDelta</code> is pushed and
+ *   the interval returns to <code>minInterval</code>;</li>
+ * <li>a change in between is pushed and the interval is divided by
+ *   <code>backoff</code>.</li>
+ * </ul>
+ * <p>
+ * Policies are immutable and serializable, as they are passed to the server
+ * side through the <code>PushControlCI</code> component interface.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code minInterval > 0 && maxInterval >= minInterval}
+ * invariant	{@code deadBand >= 0.0 && fastDelta >= deadBand}
+ * invariant	{@code backoff > 1.0}
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			AdaptivePushPolicy
+implements	Serializable
+{
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	private static final long serialVersionUID = 1L;
+	/** default factor by which the interval grows or shrinks.				*/
+	public static final double	DEFAULT_BACKOFF = 2.0;
+
+	/** minimum interval between samplings in milliseconds.				*/
+	protected final long		minInterval;
+	/** maximum interval between samplings and between pushes in
+	 *  milliseconds.														*/
+	protected final long		maxInterval;
+	/** change under which a datum is considered unchanged.				*/
+	protected final double		deadBand;
+	/** change from which the interval returns to its minimum.				*/
+	protected final double		fastDelta;
+	/** factor by which the interval grows or shrinks.						*/
+	protected final double		backoff;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create a policy with the default back-off factor.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code minInterval > 0 && maxInterval >= minInterval}
+	 * pre	{@code deadBand >= 0.0 && fastDelta >= deadBand}
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @param minInterval	minimum interval between samplings in milliseconds.
+	 * @param maxInterval	maximum interval between samplings and between pushes in milliseconds.
+	 * @param deadBand		change under which a datum is considered unchanged.
+	 * @param fastDelta		change from which the interval returns to its minimum.
+	 */
+	public				AdaptivePushPolicy(
+		long minInterval,
+		long maxInterval,
+		double deadBand,
+		double fastDelta
+		)
+	{
+		this(minInterval, maxInterval, deadBand, fastDelta, DEFAULT_BACKOFF);
+	}
+
+	/**
+	 * create a policy.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code minInterval > 0 && maxInterval >= minInterval}
+	 * pre	{@code deadBand >= 0.0 && fastDelta >= deadBand}
+	 * pre	{@code backoff > 1.0}
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @param minInterval	minimum interval between samplings in milliseconds.
+	 * @param maxInterval	maximum interval between samplings and between pushes in milliseconds.
+	 * @param deadBand		change under which a datum is considered unchanged.
+	 * @param fastDelta		change from which the interval returns to its minimum.
+	 * @param backoff		factor by which the interval grows or shrinks.
+	 */
+	public				AdaptivePushPolicy(
+		long minInterval,
+		long maxInterval,
+		double deadBand,
+		double fastDelta,
+		double backoff
+		)
+	{
+		assert	minInterval > 0 && maxInterval >= minInterval;
+		assert	deadBand >= 0.0 && fastDelta >= deadBand;
+		assert	backoff > 1.0;
+
+		this.minInterval = minInterval;
+		this.maxInterval = maxInterval;
+		this.deadBand = deadBand;
+		this.fastDelta = fastDelta;
+		this.backoff = backoff;
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return the minimum interval between samplings in milliseconds.
+	 * 
+	 * @return	the minimum interval between samplings in milliseconds.
+	 */
+	public long			getMinInterval()
+	{
+		return this.minInterval;
+	}
+
+	/**
+	 * return the maximum interval between samplings and between pushes in
+	 * milliseconds.
+	 * 
+	 * @return	the maximum interval between samplings and between pushes.
+	 */
+	public long			getMaxInterval()
+	{
+		return this.maxInterval;
+	}
+
+	/**
+	 * return the change under which a datum is considered unchanged.
+	 * 
+	 * @return	the change under which a datum is considered unchanged.
+	 */
+	public double		getDeadBand()
+	{
+		return this.deadBand;
+	}
+
+	/**
+	 * return the change from which the interval returns to its minimum.
+	 * 
+	 * @return	the change from which the interval returns to its minimum.
+	 */
+	public double		getFastDelta()
+	{
+		return this.fastDelta;
+	}
+
+	/**
+	 * return the factor by which the interval grows or shrinks.
+	 * 
+	 * @return	the factor by which the interval grows or shrinks.
+	 */
+	public double		getBackoff()
+	{
+		return this.backoff;
+	}
+
+	/**
+	 * return true if a datum which change since the last pushed one is
+	 * <code>change</code> must be pushed, given the time elapsed since the
+	 * last push.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code change >= 0.0 && sinceLastPush >= 0}
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @param change		change since the last pushed datum.
+	 * @param sinceLastPush	time elapsed since the last push in milliseconds.
+	 * @return				true if the datum must be pushed.
+	 */
+	public boolean		mustPush(double change, long sinceLastPush)
+	{
+		return change > this.deadBand || sinceLastPush >= this.maxInterval;
+	}
+
+	/**
+	 * return the interval until the next sampling given the current one and
+	 * the change observed at the current sampling.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code interval > 0 && change >= 0.0}
+	 * post	{@code return >= getMinInterval() && return <= getMaxInterval()}
+	 * </pre>
+	 *
+	 * @param interval	current interval between samplings in milliseconds.
+	 * @param change	change observed at the current sampling.
+	 * @return			the interval until the next sampling in milliseconds.
+	 */
+	public long			nextInterval(long interval, double change)
+	{
+		long next;
+		if (change >= this.fastDelta && change > this.deadBand) {
+			next = this.minInterval;
+		} else if (change > this.deadBand) {
+			next = (long) Math.floor(interval / this.backoff);
+		} else {
+			next = (long) Math.ceil(interval * this.backoff);
+		}
+		return Math.max(this.minInterval, Math.min(this.maxInterval, next));
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String		toString()
+	{
+		return "AdaptivePushPolicy[" + this.minInterval + ", "
+				+ this.maxInterval + ", " + this.deadBand + ", "
+				+ this.fastDelta + ", " + this.backoff + "]";
+	}
+}
+// -----------------------------------------------------------------------------
@@ -136,6 +136,30 @@ implements	PushControlImplementationI
 		((PushControlCI)this.pluginOutboundPort).stopPushing(portURI);
 	}
 
+	/**
+	 * @see fr.sorbonne_u.components.plugins.dipc.interfaces.PushControlImplementationI#startAdaptivePushing(java.lang.String, fr.sorbonne_u.components.plugins.dipc.AdaptivePushPolicy)
+	 */
+	@Override
+	public void			startAdaptivePushing(
+		String portURI,
+		AdaptivePushPolicy policy
+		) throws Exception
+	{
+		((PushControlCI)this.pluginOutboundPort).
+							startAdaptivePushing(portURI, policy);
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.plugins.dipc.interfaces.PushControlImplementationI#currentPushInterval(java.lang.String)
+	 */
+	@Override
+	public long			currentPushInterval(String portURI)
+	throws Exception
+	{
+		return ((PushControlCI)this.pluginOutboundPort).
+											currentPushInterval(portURI);
+	}
+
 	/**
 	 * @see fr.sorbonne_u.components.plugins.helpers.AbstractClientSidePlugin#getRequiredInterface()
 	 */
@@ -34,12 +34,17 @@ package fr.sorbonne_u.components.plugins.dipc;
 // knowledge of the CeCILL-C license and that you accept its terms.
 
 import java.util.HashMap;
+import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import fr.sorbonne_u.components.AbstractComponent;
 import fr.sorbonne_u.components.AbstractPlugin;
 import fr.sorbonne_u.components.ComponentI;
+import fr.sorbonne_u.components.interfaces.DataOfferedCI;
 import fr.sorbonne_u.components.plugins.dipc.interfaces.PushControlCI;
 import fr.sorbonne_u.components.plugins.dipc.interfaces.PushControlImplementationI;
 import fr.sorbonne_u.components.plugins.dipc.ports.PushControlInboundPort;
@@ -55,6 +60,17 @@ import fr.sorbonne_u.components.ports.PortI;
  *
  * <p><strong>Description</strong></p>
  * 
+ * <p>
+ * In the fixed modes, the plug-in calls <code>pushOnPort</code> at a fixed
+ * interval. In the adaptive mode, it calls <code>produceOnPort</code> to
+ * sample the data at an interval adapting to their changes, measured by
+ * <code>changeBetween</code>, and pushes with <code>sendOnPort</code> only
+ * the data that changed significantly (see <code>AdaptivePushPolicy</code>).
+ * Pushes are then done by tasks separate from the sampling ones so that
+ * when the client is slower than the sampling, the data waiting to be pushed
+ * are coalesced into the latest one instead of accumulating.
+ * </p>
+ * 
  * <p><strong>Invariant</strong></p>
  * 
  * <pre>
@@ -80,6 +96,61 @@ implements	PushControlImplementationI
 	/** future variables associated with the scheduled push tasks to
 	 *  be able to cancel them when required.								*/
 	protected HashMap<String,ScheduledFuture<?>>	futures;
+	/** states of the adaptive pushings, by port URI.						*/
+	protected Map<String,AdaptivePushing>			adaptivePushings;
+
+	// -------------------------------------------------------------------------
+	// Adaptive pushing state
+	// -------------------------------------------------------------------------
+
+	/**
+	 * The class <code>AdaptivePushing</code> holds the state of an adaptive
+	 * pushing on a port.
+	 *
+	 * <p>Created on : 2026-10-19</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	protected static class	AdaptivePushing
+	{
+		/** URI of the port through which the data is pushed.				*/
+		protected final String								portURI;
+		/** policy adapting the interval and filtering the pushes.			*/
+		protected final AdaptivePushPolicy					policy;
+		/** current interval between samplings in milliseconds.			*/
+		protected volatile long								interval;
+		/** false once the pushing has been stopped.						*/
+		protected volatile boolean							active;
+		/** last datum retained for pushing, accessed by sampling tasks.	*/
+		protected DataOfferedCI.DataI						lastPushed;
+		/** time of the last datum retained for pushing.					*/
+		protected long										lastPushTime;
+		/** latest datum waiting to be pushed, if any.						*/
+		protected final AtomicReference<DataOfferedCI.DataI>	pending;
+		/** true while a task is pushing the pending data.					*/
+		protected final AtomicBoolean						sending;
+
+		/**
+		 * create the state of an adaptive pushing.
+		 * 
+		 * @param portURI	URI of the port through which the data is pushed.
+		 * @param policy	policy adapting the interval and filtering the pushes.
+		 */
+		public			AdaptivePushing(
+			String portURI,
+			AdaptivePushPolicy policy
+			)
+		{
+			this.portURI = portURI;
+			this.policy = policy;
+			this.interval = policy.getMinInterval();
+			this.active = true;
+			this.lastPushed = null;
+			this.lastPushTime = 0L;
+			this.pending = new AtomicReference<DataOfferedCI.DataI>();
+			this.sending = new AtomicBoolean(false);
+		}
+	}
 
 	// -------------------------------------------------------------------------
 	// Plug-in generic methods
@@ -121,6 +192,8 @@ implements	PushControlImplementationI
 			new PushControlInboundPort(this.getPluginURI(), this.getOwner());
 		this.pushControlInboundPort.publishPort();
 		this.futures = new HashMap<String,ScheduledFuture<?>>();
+		this.adaptivePushings =
+							new ConcurrentHashMap<String,AdaptivePushing>();
 	}
 
 	/**
@@ -142,6 +215,10 @@ implements	PushControlImplementationI
 	@Override
 	public void			finalise() throws Exception
 	{
+		for (AdaptivePushing ap : this.adaptivePushings.values()) {
+			ap.active = false;
+		}
+		this.adaptivePushings.clear();
 		for (Entry<String,ScheduledFuture<?>> e : this.futures.entrySet()) {
 			e.getValue().cancel(false);
 		}
@@ -333,12 +410,208 @@ implements	PushControlImplementationI
 		assert	portURI != null;
 		assert	this.isPortExisting(portURI);
 
+		AdaptivePushing ap = this.adaptivePushings.remove(portURI);
+		if (ap != null) {
+			ap.active = false;
+		}
 		if (this.currentlyPushesData(portURI)) {
 			ScheduledFuture<?> f = this.futures.remove(portURI);
 			f.cancel(false);
 		}
 	}
 
+	/**
+	 * @see fr.sorbonne_u.components.plugins.dipc.interfaces.PushControlImplementationI#startAdaptivePushing(java.lang.String, fr.sorbonne_u.components.plugins.dipc.AdaptivePushPolicy)
+	 */
+	@Override
+	public void			startAdaptivePushing(
+		final String portURI,
+		final AdaptivePushPolicy policy
+		) throws Exception
+	{
+		assert	this.isInitialised();
+		assert	portURI != null;
+		assert	this.isPortExisting(portURI);
+		assert	policy != null;
+		assert	!this.currentlyPushesData(portURI);
+
+		if (!this.redefinesProduceOnPort()) {
+			throw new UnsupportedOperationException(
+						"produceOnPort must be redefined to use the adaptive "
+						+ "pushing mode on port " + portURI);
+		}
+		AdaptivePushing ap = new AdaptivePushing(portURI, policy);
+		this.adaptivePushings.put(portURI, ap);
+		this.scheduleAdaptiveSampling(ap);
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.plugins.dipc.interfaces.PushControlImplementationI#currentPushInterval(java.lang.String)
+	 */
+	@Override
+	public long			currentPushInterval(String portURI) throws Exception
+	{
+		assert	this.isInitialised();
+		assert	portURI != null;
+		assert	this.isPortExisting(portURI);
+
+		AdaptivePushing ap = this.adaptivePushings.get(portURI);
+		return ap == null ? -1L : ap.interval;
+	}
+
+	/**
+	 * schedule the next sampling of an adaptive pushing after its current
+	 * interval.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code ap != null}
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @param ap	state of the adaptive pushing.
+	 */
+	protected void		scheduleAdaptiveSampling(final AdaptivePushing ap)
+	{
+		assert	ap != null;
+
+		final DataInterfacesPushControlServerSidePlugin plugin = this;
+		ScheduledFuture<?> f =
+			this.scheduleTaskOnComponent(
+					new AbstractComponent.AbstractTask() {
+						@Override
+						public void run() {
+							try {
+								plugin.adaptiveSamplingTask(ap);
+							} catch (Exception e) {
+								e.printStackTrace();
+							}
+						}
+					},
+					ap.interval,
+					TimeUnit.MILLISECONDS);
+		this.futures.put(ap.portURI, f);
+		if (!ap.active) {
+			// stopped while scheduling.
+			f.cancel(false);
+			this.futures.remove(ap.portURI, f);
+		}
+	}
+
+	/**
+	 * sample a datum for an adaptive pushing, push it if it changed
+	 * significantly or if the last push is too old, adapt the interval to
+	 * the change and schedule the next sampling.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code ap != null}
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @param ap			state of the adaptive pushing.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	protected void		adaptiveSamplingTask(AdaptivePushing ap)
+	throws Exception
+	{
+		assert	ap != null;
+
+		if (!ap.active) {
+			return;
+		}
+		try {
+			DataOfferedCI.DataI d = this.produceOnPort(ap.portURI);
+			long now = System.currentTimeMillis();
+			double change =
+				ap.lastPushed == null ?
+					Double.POSITIVE_INFINITY
+				:	this.changeBetween(ap.portURI, ap.lastPushed, d);
+			if (ap.lastPushed == null ||
+						ap.policy.mustPush(change, now - ap.lastPushTime)) {
+				ap.lastPushed = d;
+				ap.lastPushTime = now;
+				this.offerAdaptivePush(ap, d);
+			}
+			ap.interval = ap.policy.nextInterval(ap.interval, change);
+		} finally {
+			if (ap.active) {
+				this.scheduleAdaptiveSampling(ap);
+			}
+		}
+	}
+
+	/**
+	 * make <code>d</code> the datum waiting to be pushed, replacing the one
+	 * that was waiting if any, and start a pushing task if none is running.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code ap != null && d != null}
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @param ap	state of the adaptive pushing.
+	 * @param d		datum to be pushed.
+	 */
+	protected void		offerAdaptivePush(
+		final AdaptivePushing ap,
+		DataOfferedCI.DataI d
+		)
+	{
+		assert	ap != null && d != null;
+
+		ap.pending.set(d);
+		if (ap.sending.compareAndSet(false, true)) {
+			final DataInterfacesPushControlServerSidePlugin plugin = this;
+			this.runTaskOnComponent(
+					new AbstractComponent.AbstractTask() {
+						@Override
+						public void run() {
+							plugin.adaptivePushingTask(ap);
+						}
+					});
+		}
+	}
+
+	/**
+	 * push the pending data of an adaptive pushing until none is waiting.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code ap != null}
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @param ap	state of the adaptive pushing.
+	 */
+	protected void		adaptivePushingTask(AdaptivePushing ap)
+	{
+		assert	ap != null;
+
+		while (true) {
+			DataOfferedCI.DataI d = ap.pending.getAndSet(null);
+			if (d == null) {
+				ap.sending.set(false);
+				// a datum may have been offered after the last check.
+				if (ap.pending.get() == null ||
+										!ap.sending.compareAndSet(false, true)) {
+					return;
+				}
+			} else if (ap.active) {
+				try {
+					this.sendOnPort(ap.portURI, d);
+				} catch (Exception e) {
+					e.printStackTrace();
+				}
+			}
+		}
+	}
+
 	/**
 	 * push one piece of data on the port which URI is given; component
 	 * dependent hence must be implemented when creating a specific
@@ -357,5 +630,105 @@ implements	PushControlImplementationI
 	 * @throws Exception	<i>to do</i>.
 	 */
 	protected abstract void	pushOnPort(String portURI) throws Exception ;	
+
+	/**
+	 * produce the next piece of data to be pushed on the port which URI is
+	 * given without pushing it; must be redefined to use the adaptive mode,
+	 * which <code>startAdaptivePushing</code> refuses otherwise.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code portURI != null}
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param portURI		URI of the port on which data has to be pushed.
+	 * @return				the next piece of data to be pushed.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	protected DataOfferedCI.DataI	produceOnPort(String portURI)
+	throws Exception
+	{
+		throw new UnsupportedOperationException(
+					"produceOnPort must be redefined to use the adaptive "
+					+ "pushing mode on port " + portURI);
+	}
+
+	/**
+	 * return true if <code>produceOnPort</code> is redefined by the class of
+	 * this plug-in or one of its superclasses below this one.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true		// no precondition.
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @return	true if <code>produceOnPort</code> is redefined.
+	 */
+	protected boolean	redefinesProduceOnPort()
+	{
+		for (Class<?> c = this.getClass() ;
+						c != DataInterfacesPushControlServerSidePlugin.class ;
+														c = c.getSuperclass()) {
+			try {
+				c.getDeclaredMethod("produceOnPort", String.class);
+				return true;
+			} catch (NoSuchMethodException e) {
+				// look in the superclass.
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * return the magnitude of the change between two pieces of data produced
+	 * for the port which URI is given; by default, 0.0 if they are equal and
+	 * positive infinity otherwise, so numerical data should redefine this
+	 * method to use dead-bands and delta thresholds.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code portURI != null && previous != null && current != null}
+	 * post	{@code return >= 0.0}
+	 * </pre>
+	 *
+	 * @param portURI	URI of the port on which data has to be pushed.
+	 * @param previous	last piece of data retained for pushing.
+	 * @param current	newly produced piece of data.
+	 * @return			the magnitude of the change from <code>previous</code> to <code>current</code>.
+	 */
+	protected double	changeBetween(
+		String portURI,
+		DataOfferedCI.DataI previous,
+		DataOfferedCI.DataI current
+		)
+	{
+		return previous.equals(current) ? 0.0 : Double.POSITIVE_INFINITY;
+	}
+
+	/**
+	 * push a piece of data on the port which URI is given; by default, the
+	 * data is sent through the data inbound port.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code portURI != null && d != null}
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @param portURI		URI of the port on which data has to be pushed.
+	 * @param d				piece of data to be pushed.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	protected void		sendOnPort(String portURI, DataOfferedCI.DataI d)
+	throws Exception
+	{
+		((AbstractDataInboundPort)this.findPortFromURI(portURI)).send(d);
+	}
 }
 // -----------------------------------------------------------------------------
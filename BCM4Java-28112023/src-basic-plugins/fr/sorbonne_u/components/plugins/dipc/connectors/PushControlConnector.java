@@ -35,6 +35,7 @@ package fr.sorbonne_u.components.plugins.dipc.connectors;
 //knowledge of the CeCILL-C license and that you accept its terms.
 
 import fr.sorbonne_u.components.connectors.AbstractConnector;
+import fr.sorbonne_u.components.plugins.dipc.AdaptivePushPolicy;
 import fr.sorbonne_u.components.plugins.dipc.interfaces.PushControlCI;
 
 //-----------------------------------------------------------------------------
@@ -108,5 +109,26 @@ implements	PushControlCI
 	{
 		((PushControlCI)this.offering).stopPushing(portURI) ;
 	}
+
+	/**
+	 * @see fr.sorbonne_u.components.plugins.dipc.interfaces.PushControlCI#startAdaptivePushing(java.lang.String, fr.sorbonne_u.components.plugins.dipc.AdaptivePushPolicy)
+	 */
+	@Override
+	public void			startAdaptivePushing(
+		String portURI,
+		AdaptivePushPolicy policy
+		) throws Exception
+	{
+		((PushControlCI)this.offering).startAdaptivePushing(portURI, policy) ;
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.plugins.dipc.interfaces.PushControlCI#currentPushInterval(java.lang.String)
+	 */
+	@Override
+	public long			currentPushInterval(String portURI) throws Exception
+	{
+		return ((PushControlCI)this.offering).currentPushInterval(portURI) ;
+	}
 }
 //-----------------------------------------------------------------------------
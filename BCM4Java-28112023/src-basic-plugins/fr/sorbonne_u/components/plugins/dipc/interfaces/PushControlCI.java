@@ -34,6 +34,7 @@ package fr.sorbonne_u.components.plugins.dipc.interfaces;
 // knowledge of the CeCILL-C license and that you accept its terms.
 
 import fr.sorbonne_u.components.interfaces.OfferedCI;
+import fr.sorbonne_u.components.plugins.dipc.AdaptivePushPolicy;
 import fr.sorbonne_u.components.interfaces.RequiredCI;
 
 // -----------------------------------------------------------------------------
@@ -104,5 +105,21 @@ extends		PushControlImplementationI,
 	 */
 	@Override
 	public void				stopPushing(String portURI) throws Exception ;
+
+	/**
+	 * @see fr.sorbonne_u.components.plugins.dipc.interfaces.PushControlImplementationI#startAdaptivePushing(java.lang.String, fr.sorbonne_u.components.plugins.dipc.AdaptivePushPolicy)
+	 */
+	@Override
+	public void				startAdaptivePushing(
+		String portURI,
+		AdaptivePushPolicy policy
+		) throws Exception ;
+
+	/**
+	 * @see fr.sorbonne_u.components.plugins.dipc.interfaces.PushControlImplementationI#currentPushInterval(java.lang.String)
+	 */
+	@Override
+	public long				currentPushInterval(String portURI)
+	throws Exception ;
 }
 // -----------------------------------------------------------------------------
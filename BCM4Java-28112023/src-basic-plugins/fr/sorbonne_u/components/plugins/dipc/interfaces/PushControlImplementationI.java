@@ -34,6 +34,8 @@ package fr.sorbonne_u.components.plugins.dipc.interfaces;
 //The fact that you are presently reading this means that you have had
 //knowledge of the CeCILL-C license and that you accept its terms.
 
+import fr.sorbonne_u.components.plugins.dipc.AdaptivePushPolicy;
+
 //-----------------------------------------------------------------------------
 /**
  * The interface <code>PushControlImplementationI</code> declares basic
@@ -50,6 +52,10 @@ package fr.sorbonne_u.components.plugins.dipc.interfaces;
  * service is the only way to stop them, but stop can also be used to
  * stop a fixed number of pushes before the end.
  * 
+ * The adaptive start method makes the server side sample the data at an
+ * interval adapted to their changes and push only the ones that changed
+ * significantly, as defined by an <code>AdaptivePushPolicy</code>.
+ * 
  * <p><strong>Invariant</strong></p>
  * 
  * <pre>
@@ -166,5 +172,52 @@ public interface			PushControlImplementationI
 	 * @throws Exception	<i>to do.</i>
 	 */
 	public void				stopPushing(String portURI) throws Exception ;
+
+	/**
+	 * start the sampling of data at an interval adapting to their changes
+	 * and push the ones that changed significantly, as defined by
+	 * <code>policy</code>; pushes that are pending when the client is slower
+	 * than the sampling are coalesced into the latest datum.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	this.isInitialised()
+	 * pre	portURI != null
+	 * pre	this.isPortExisting(portURI)
+	 * pre	policy != null
+	 * pre	!this.currentlyPushesData(portURI)
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @param portURI		URI of the port through which the data is pushed.
+	 * @param policy		policy adapting the sampling interval and filtering the pushes.
+	 * @throws Exception	<i>to do.</i>
+	 */
+	public void				startAdaptivePushing(
+		String portURI,
+		AdaptivePushPolicy policy
+		) throws Exception ;
+
+	/**
+	 * return the current interval between samplings (in milliseconds) of
+	 * an adaptive pushing on the given port, or -1 if the port is not
+	 * pushing data in adaptive mode.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	this.isInitialised()
+	 * pre	portURI != null
+	 * pre	this.isPortExisting(portURI)
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @param portURI		URI of the port to be tested.
+	 * @return				the current interval between samplings or -1.
+	 * @throws Exception	<i>to do.</i>
+	 */
+	public long				currentPushInterval(String portURI)
+	throws Exception ;
 }
 //-----------------------------------------------------------------------------
@@ -35,6 +35,7 @@ package fr.sorbonne_u.components.plugins.dipc.ports;
 
 import fr.sorbonne_u.components.AbstractComponent;
 import fr.sorbonne_u.components.ComponentI;
+import fr.sorbonne_u.components.plugins.dipc.AdaptivePushPolicy;
 import fr.sorbonne_u.components.plugins.dipc.interfaces.PushControlCI;
 import fr.sorbonne_u.components.plugins.dipc.interfaces.PushControlImplementationI;
 import fr.sorbonne_u.components.ports.AbstractInboundPort;
@@ -124,7 +125,7 @@ implements	PushControlCI
 	@Override
 	public boolean		isPortExisting(String portURI) throws Exception
 	{
-		return this.owner.handleRequest(
+		return this.handleRequest(
 			new AbstractComponent.AbstractService<Boolean>(this.getPluginURI()) {
 				@Override
 				public Boolean call() throws Exception {
@@ -144,7 +145,7 @@ implements	PushControlCI
 		long interval
 		) throws Exception
 	{
-		this.owner.handleRequest(
+		this.handleRequest(
 			new AbstractComponent.AbstractService<Void>(this.getPluginURI()) {
 				@Override
 				public Void call() throws Exception {
@@ -166,7 +167,7 @@ implements	PushControlCI
 		int n
 		) throws Exception
 	{
-		this.owner.handleRequest(
+		this.handleRequest(
 			new AbstractComponent.AbstractService<Void>(this.getPluginURI()) {
 				@Override
 				public Void call() throws Exception {
@@ -185,7 +186,7 @@ implements	PushControlCI
 	public boolean		currentlyPushesData(String portURI)
 	throws Exception
 	{
-		return this.owner.handleRequest(
+		return this.handleRequest(
 			new AbstractComponent.AbstractService<Boolean>(this.getPluginURI()) {
 				@Override
 				public Boolean call() throws Exception {
@@ -203,7 +204,7 @@ implements	PushControlCI
 	public void			stopPushing(String portURI)
 	throws Exception
 	{
-		this.owner.handleRequest(
+		this.handleRequest(
 			new AbstractComponent.AbstractService<Void>(this.getPluginURI()) {
 				@Override
 				public Void call() throws Exception {
@@ -214,5 +215,44 @@ implements	PushControlCI
 				}
 			}) ;
 	}
+
+	/**
+	 * @see fr.sorbonne_u.components.plugins.dipc.interfaces.PushControlCI#startAdaptivePushing(java.lang.String, fr.sorbonne_u.components.plugins.dipc.AdaptivePushPolicy)
+	 */
+	@Override
+	public void			startAdaptivePushing(
+		String portURI,
+		AdaptivePushPolicy policy
+		) throws Exception
+	{
+		this.handleRequest(
+			new AbstractComponent.AbstractService<Void>(this.getPluginURI()) {
+				@Override
+				public Void call() throws Exception {
+					((PushControlImplementationI)
+							this.getServiceProviderReference()).
+								startAdaptivePushing(portURI, policy) ;
+					return null;
+				}
+			}) ;
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.plugins.dipc.interfaces.PushControlCI#currentPushInterval(java.lang.String)
+	 */
+	@Override
+	public long			currentPushInterval(String portURI)
+	throws Exception
+	{
+		return this.handleRequest(
+			new AbstractComponent.AbstractService<Long>(this.getPluginURI()) {
+				@Override
+				public Long call() throws Exception {
+					return ((PushControlImplementationI)
+									this.getServiceProviderReference()).
+										currentPushInterval(portURI) ;
+				}
+			}) ;
+	}
 }
 // -----------------------------------------------------------------------------
@@ -34,6 +34,7 @@ package fr.sorbonne_u.components.plugins.dipc.ports;
 // knowledge of the CeCILL-C license and that you accept its terms.
 
 import fr.sorbonne_u.components.ComponentI;
+import fr.sorbonne_u.components.plugins.dipc.AdaptivePushPolicy;
 import fr.sorbonne_u.components.plugins.dipc.interfaces.PushControlCI;
 import fr.sorbonne_u.components.ports.AbstractOutboundPort;
 
@@ -126,5 +127,28 @@ implements	PushControlCI
 	{
 		((PushControlCI)this.getConnector()).stopPushing(portURI) ;
 	}
+
+	/**
+	 * @see fr.sorbonne_u.components.plugins.dipc.interfaces.PushControlCI#startAdaptivePushing(java.lang.String, fr.sorbonne_u.components.plugins.dipc.AdaptivePushPolicy)
+	 */
+	@Override
+	public void			startAdaptivePushing(
+		String portURI,
+		AdaptivePushPolicy policy
+		) throws Exception
+	{
+		((PushControlCI)this.getConnector()).
+								startAdaptivePushing(portURI, policy) ;
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.plugins.dipc.interfaces.PushControlCI#currentPushInterval(java.lang.String)
+	 */
+	@Override
+	public long			currentPushInterval(String portURI)
+	throws Exception
+	{
+		return ((PushControlCI)this.getConnector()).currentPushInterval(portURI) ;
+	}
 }
 // -----------------------------------------------------------------------------
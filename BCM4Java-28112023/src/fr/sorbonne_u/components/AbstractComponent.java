@@ -35,6 +35,7 @@ package fr.sorbonne_u.components;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Hashtable;
 import java.util.List;
@@ -68,6 +69,9 @@ import fr.sorbonne_u.components.exceptions.PluginException;
 import fr.sorbonne_u.components.helpers.CVMDebugModes;
 import fr.sorbonne_u.components.helpers.ComponentExecutorServiceManager;
 import fr.sorbonne_u.components.helpers.ComponentSchedulableExecutorServiceManager;
+import fr.sorbonne_u.components.helpers.ExecutorServiceMetrics;
+import fr.sorbonne_u.components.helpers.InstrumentedExecutorService;
+import fr.sorbonne_u.components.helpers.InstrumentedScheduledExecutorService;
 import fr.sorbonne_u.components.helpers.Logger;
 import fr.sorbonne_u.components.helpers.TracerI;
 import fr.sorbonne_u.components.helpers.TracerWindow;
@@ -79,6 +83,8 @@ import fr.sorbonne_u.components.ports.OutboundPortI;
 import fr.sorbonne_u.components.ports.PortI;
 import fr.sorbonne_u.components.reflection.interfaces.ReflectionCI;
 import fr.sorbonne_u.components.reflection.utils.ConstructorSignature;
+import fr.sorbonne_u.components.reflection.utils.DirectInvokers;
+import fr.sorbonne_u.components.reflection.utils.DirectInvokers.ServiceInvokerI;
 import fr.sorbonne_u.components.reflection.utils.ServiceSignature;
 import fr.sorbonne_u.exceptions.ImplementationInvariantException;
 import fr.sorbonne_u.exceptions.InvariantException;
@@ -98,6 +104,7 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import javax.management.JMException;
 
 // -----------------------------------------------------------------------------
 /**
@@ -630,6 +637,17 @@ implements	ComponentI
 	 * thread pools to provide additional services, like gathering execution
 	 * statistics.
 	 * </p>
+	 * <p>
+	 * Besides <code>StandardExecutorServiceFactory</code>, BCM4Java ships the
+	 * factories <code>WorkStealingExecutorServiceFactory</code>,
+	 * <code>VirtualThreadExecutorServiceFactory</code> and
+	 * <code>SharedExecutorServiceFactory</code> in the package
+	 * <code>fr.sorbonne_u.components.helpers</code>. The factory used for the
+	 * standard request handler can be passed to the component constructor or
+	 * set as the default one for all the components of a JVM with
+	 * <code>setDefaultExecutorServiceFactory</code>, which distributed CVM
+	 * do from the <code>executors</code> element of the deployment descriptor.
+	 * </p>
 	 * 
 	 * <p><strong>Invariant</strong></p>
 	 * 
@@ -677,7 +695,7 @@ implements	ComponentI
 	 * 
 	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
 	 */
-	protected static class		StandardExecutorServiceFactory
+	public static class			StandardExecutorServiceFactory
 	implements	ExecutorServiceFactory
 	{
 		/**
@@ -728,6 +746,186 @@ implements	ComponentI
 		}
 	}
 
+	/** factory used to create the standard request handler of the
+	 *  components which constructor does not provide one.				*/
+	protected static volatile ExecutorServiceFactory
+								defaultExecutorServiceFactory =
+										new StandardExecutorServiceFactory();
+
+	/**
+	 * return the factory used to create the standard request handler of the
+	 * components which constructor does not provide one.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true		// no precondition.
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @return	the default factory for the standard request handler.
+	 */
+	public static ExecutorServiceFactory	getDefaultExecutorServiceFactory()
+	{
+		return AbstractComponent.defaultExecutorServiceFactory;
+	}
+
+	/**
+	 * set the factory used to create the standard request handler of the
+	 * components subsequently created without providing one.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code factory != null}
+	 * post	{@code getDefaultExecutorServiceFactory() == factory}
+	 * </pre>
+	 *
+	 * @param factory	the new default factory for the standard request handler.
+	 */
+	public static void	setDefaultExecutorServiceFactory(
+		ExecutorServiceFactory factory
+		)
+	{
+		assert	factory != null : new PreconditionException("factory != null");
+
+		AbstractComponent.defaultExecutorServiceFactory = factory;
+	}
+
+	/** when true, the executor services subsequently created by components
+	 *  are instrumented to collect metrics and registered as JMX MXBeans.	*/
+	protected static volatile boolean	executorServicesMetricsEnabled = false;
+
+	/**
+	 * return true if the executor services subsequently created by components
+	 * are instrumented to collect metrics.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true		// no precondition.
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @return	true if the executor services metrics are enabled.
+	 */
+	public static boolean	isExecutorServicesMetricsEnabled()
+	{
+		return AbstractComponent.executorServicesMetricsEnabled;
+	}
+
+	/**
+	 * enable or disable the instrumentation of the executor services
+	 * subsequently created by components; executor services already created
+	 * are not affected.
+	 * 
+	 * <p>
+	 * Instrumented executor services record their queue length, their
+	 * rejected tasks and histograms of the queueing delays and execution times
+	 * of their tasks. These metrics are read through the reflection inbound
+	 * port of the component with <code>getExecutorServicesMetrics</code> and
+	 * through JMX under the name
+	 * <code>fr.sorbonne_u.components:type=ExecutorService,component="reflection inbound port URI",uri="executor service URI"</code>.
+	 * </p>
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true		// no precondition.
+	 * post	{@code isExecutorServicesMetricsEnabled() == enabled}
+	 * </pre>
+	 *
+	 * @param enabled	true to instrument the executor services subsequently created.
+	 */
+	public static void	setExecutorServicesMetricsEnabled(boolean enabled)
+	{
+		AbstractComponent.executorServicesMetricsEnabled = enabled;
+	}
+
+	/**
+	 * The functional interface <code>TracerFactory</code> is implemented by
+	 * factories creating the tracer of a component at its creation.
+	 *
+	 * <p><strong>Description</strong></p>
+	 * 
+	 * <p>
+	 * The default factory creates a <code>TracerWindow</code>; headless
+	 * batch deployments can select another kind of tracer for all of the
+	 * components of a JVM, for example through the enumeration
+	 * <code>TracersKind</code> and the deployment descriptor.
+	 * </p>
+	 * 
+	 * <p><strong>Invariant</strong></p>
+	 * 
+	 * <pre>
+	 * invariant	true
+	 * </pre>
+	 * 
+	 * <p>Created on : 2026-10-19</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	@FunctionalInterface
+	public static interface		TracerFactory
+	{
+		/**
+		 * create a new tracer for the component with the given URI.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code componentURI != null}
+		 * post	{@code ret != null}
+		 * </pre>
+		 *
+		 * @param componentURI	URI of the reflection inbound port of the component.
+		 * @return				the new tracer for the component.
+		 */
+		public TracerI		createTracer(String componentURI);
+	}
+
+	/** factory used to create the tracer of the components.				*/
+	protected static volatile TracerFactory	defaultTracerFactory =
+										uri -> new TracerWindow(uri, 0, 0);
+
+	/**
+	 * return the factory used to create the tracer of the components.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true		// no precondition.
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @return	the default factory for the tracers.
+	 */
+	public static TracerFactory	getDefaultTracerFactory()
+	{
+		return AbstractComponent.defaultTracerFactory;
+	}
+
+	/**
+	 * set the factory used to create the tracer of the components
+	 * subsequently created; the tracer of an existing component can be
+	 * replaced with <code>setTracer</code>.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code factory != null}
+	 * post	{@code getDefaultTracerFactory() == factory}
+	 * </pre>
+	 *
+	 * @param factory	the new default factory for the tracers.
+	 */
+	public static void	setDefaultTracerFactory(TracerFactory factory)
+	{
+		assert	factory != null : new PreconditionException("factory != null");
+
+		AbstractComponent.defaultTracerFactory = factory;
+	}
+
 	// The following implementation of executor services management for
 	// components aims at providing fast access to executor services as well
 	// as the capability to create and shutdown executor services dynamically.
@@ -741,6 +939,16 @@ implements	ComponentI
 	// array as shutting down executor services creates "holes" (null values
 	// at these indexes). The implementation is able to reuse indexes and their
 	// corresponding placeholder when creating new executor services.
+	//
+	// As executor services are almost never created or shut down after the
+	// component has started, both the array and the map from URIs to indexes
+	// are immutable snapshots replaced as a whole (copy-on-write) by the rare
+	// methods changing them, which are serialised by executorServicesLock.
+	// The methods used when handling requests and running tasks only read the
+	// current snapshots, hence they take no lock. When an executor service is
+	// added, the array is published before the map, and when one is removed,
+	// the map is published before the array, so that any URI found in a map
+	// snapshot has its manager in the array snapshot read afterwards.
 
 	// Implementation invariant
 	//
@@ -763,8 +971,9 @@ implements	ComponentI
 	public static final String			STANDARD_SCHEDULABLE_HANDLER_URI =
 											"STANDARD_SCHEDULABLE_H_URI";
 
-	/** lock protecting the concurrent accesses to executorServices and
-	 *  executorServicesIndexes.											*/
+	/** lock serialising the changes to executorServices and
+	 *  executorServicesIndexes; readers use the published snapshots
+	 *  without locking.													*/
 	protected final ReentrantReadWriteLock	executorServicesLock =
 												new ReentrantReadWriteLock();
 	/** standard initial size of the executor services pool.				*/
@@ -772,11 +981,12 @@ implements	ComponentI
 	/** initial size of the executor services pool for this component.		*/
 	protected int						initialExecutorServicesPoolSize =
 											INITIAL_EXECUTOR_SERVICES_POOL_SIZE;
-	/** array of executor service managers.								 	*/
+	/** array of executor service managers, never modified once published.	*/
 	protected final AtomicReference<ComponentExecutorServiceManager[]>
 											executorServices;
-	/** map from URI of executor services to their index in the array list.	*/
-	protected final Map<String,Integer>		executorServicesIndexes;
+	/** unmodifiable map from URI of executor services to their index in
+	 *  the array, replaced as a whole when it changes.					*/
+	protected volatile Map<String,Integer>	executorServicesIndexes;
 
 	/**
 	 * @see fr.sorbonne_u.components.ComponentI#hasItsOwnThreads()
@@ -784,21 +994,15 @@ implements	ComponentI
 	@Override
 	public boolean		hasItsOwnThreads()
 	{
-		this.executorServicesLock.readLock().lock();
-		try {
-			if (this.executorServices.get() == null) {
-				return false;
-			}
-			boolean ret = false;
-			ComponentExecutorServiceManager[] temp =
-											this.executorServices.get();
-			for (int i = 0 ; !ret && i < temp.length ; i++) {
-				ret = (temp[i] != null);
-			}
-			return ret;
-		} finally {
-			this.executorServicesLock.readLock().unlock();
+		ComponentExecutorServiceManager[] temp = this.executorServices.get();
+		if (temp == null) {
+			return false;
+		}
+		boolean ret = false;
+		for (int i = 0 ; !ret && i < temp.length ; i++) {
+			ret = (temp[i] != null);
 		}
+		return ret;
 	}
 
 	/**
@@ -807,23 +1011,17 @@ implements	ComponentI
 	@Override
 	public int			getTotalNumberOfThreads()
 	{
-		this.executorServicesLock.readLock().lock();
-		try {
-			if (this.executorServices.get() == null) {
-				return 0;
-			}
-			int nbThreads = 0;
-			ComponentExecutorServiceManager[] temp =
-											this.executorServices.get();
-			for (int i = 0 ; i < temp.length ; i++) {
-				if (temp[i] != null) {
-					nbThreads += temp[i].getNumberOfThreads();
-				}
+		ComponentExecutorServiceManager[] temp = this.executorServices.get();
+		if (temp == null) {
+			return 0;
+		}
+		int nbThreads = 0;
+		for (int i = 0 ; i < temp.length ; i++) {
+			if (temp[i] != null) {
+				nbThreads += temp[i].getNumberOfThreads();
 			}
-			return nbThreads;
-		} finally {
-			this.executorServicesLock.readLock().unlock();
 		}
+		return nbThreads;
 	}
 
 	/**
@@ -832,13 +1030,7 @@ implements	ComponentI
 	@Override
 	public boolean		hasSerialisedExecution()
 	{
-		this.executorServicesLock.readLock().lock();
-		try {
-			return this.hasItsOwnThreads() &&
-							this.getTotalNumberOfThreads() == 1;
-		} finally {
-			this.executorServicesLock.readLock().unlock();
-		}
+		return this.getTotalNumberOfThreads() == 1;
 	}
 
 	/**
@@ -847,23 +1039,17 @@ implements	ComponentI
 	@Override
 	public boolean		canScheduleTasks()
 	{
-		this.executorServicesLock.readLock().lock();
-		try {
-			if (this.executorServices.get() == null) {
-				return false;
-			}
-			boolean ret = false;
-			ComponentExecutorServiceManager[] temp =
-												this.executorServices.get();
-			for (int i = 0; !ret && i < temp.length ; i++) {
-				if (temp[i] != null) {
-					ret = temp[i].isSchedulable();
-				}
+		ComponentExecutorServiceManager[] temp = this.executorServices.get();
+		if (temp == null) {
+			return false;
+		}
+		boolean ret = false;
+		for (int i = 0; !ret && i < temp.length ; i++) {
+			if (temp[i] != null) {
+				ret = temp[i].isSchedulable();
 			}
-			return ret;
-		} finally {
-			this.executorServicesLock.readLock().unlock();
 		}
+		return ret;
 	}
 
 	/**
@@ -898,42 +1084,29 @@ implements	ComponentI
 	}
 
 	/**
-	 * find the first placeholder for an executor service in the array of
-	 * executor services and return its index.
+	 * find the first placeholder for an executor service in the given array
+	 * of executor services and return its index or the length of the array
+	 * if it is full.
 	 * 
 	 * <p><strong>Contract</strong></p>
 	 * 
 	 * <pre>
-	 * pre	true		// no precondition.
-	 * post	true		// no postcondition.
+	 * pre	{@code temp != null}
+	 * post	{@code ret >= 0 && ret <= temp.length}
 	 * </pre>
 	 *
-	 * @return the first index at which no executor service reference exists in the array of executor services.
+	 * @param temp	array of executor services.
+	 * @return		the first index at which no executor service reference exists in the array of executor services.
 	 */
-	private int			nextExecutorServicesIndex()
+	private static int	nextExecutorServicesIndex(
+		ComponentExecutorServiceManager[] temp
+		)
 	{
 		int ret = 0;
-		if (this.executorServices.get() == null) {
-			this.executorServices.set(
-				new ComponentExecutorServiceManager[
-				                  this.initialExecutorServicesPoolSize]);
-		}
-		ComponentExecutorServiceManager[] temp = this.executorServices.get();
-		boolean found = false;
-		for ( ; !found && ret < temp.length ; ret++) {
-			found = (temp[ret] == null);
-		}
-		if (!found) {
-			ComponentExecutorServiceManager[] reallocated =
-							new ComponentExecutorServiceManager[2*temp.length];
-			for (int i = 0 ; i < temp.length ; i++) {
-				reallocated[i] = temp[i];
-			}
-			this.executorServices.set(reallocated);
-			return temp.length;
-		} else {
-			return ret - 1;
+		while (ret < temp.length && temp[ret] != null) {
+			ret++;
 		}
+		return ret;
 	}
 
 	/**
@@ -951,9 +1124,10 @@ implements	ComponentI
 	private int			countExecutorServices()
 	{
 		int count = 0;
-		if (this.executorServices.get() != null) {
-			for (int i = 0 ; i < this.executorServices.get().length ; i++) {
-				if (this.executorServices.get()[i] != null) {
+		ComponentExecutorServiceManager[] temp = this.executorServices.get();
+		if (temp != null) {
+			for (int i = 0 ; i < temp.length ; i++) {
+				if (temp[i] != null) {
 					count++;
 				}
 			}
@@ -998,11 +1172,35 @@ implements	ComponentI
 								"!this.validExecutorServiceURI(uri)");
 			int numberOfES_pre = this.countExecutorServices();
 
-			index = this.nextExecutorServicesIndex();
-			this.executorServicesIndexes.put(uri, index);
+			ComponentExecutorServiceManager[] current =
+												this.executorServices.get();
+			if (current == null) {
+				current = new ComponentExecutorServiceManager[
+										this.initialExecutorServicesPoolSize];
+			}
+			index = nextExecutorServicesIndex(current);
+			ComponentExecutorServiceManager[] next =
+					Arrays.copyOf(current,
+								  index < current.length ?
+										current.length : 2*current.length);
 
 			ComponentExecutorServiceManager cesm = null;
 			ExecutorService es = factory.createExecutorService(nbThreads);
+			if (AbstractComponent.executorServicesMetricsEnabled) {
+				InstrumentedExecutorService ies =
+					es instanceof ScheduledExecutorService ?
+						new InstrumentedScheduledExecutorService(
+											(ScheduledExecutorService) es)
+					:	new InstrumentedExecutorService(es);
+				try {
+					ies.registerMBean(InstrumentedExecutorService.mbeanName(
+											this.reflectionInboundPortURI, uri));
+				} catch (JMException e) {
+					es.shutdownNow();
+					throw new RuntimeException(e);
+				}
+				es = ies;
+			}
 
 			if (!(es instanceof ScheduledExecutorService)) {
 				cesm = new ComponentExecutorServiceManager(uri, nbThreads, es);
@@ -1010,7 +1208,13 @@ implements	ComponentI
 				cesm = new ComponentSchedulableExecutorServiceManager(
 													   uri, nbThreads, es);
 			}
-			this.executorServices.get()[index] = cesm;
+			next[index] = cesm;
+			Map<String,Integer> indexes =
+						new HashMap<String,Integer>(this.executorServicesIndexes);
+			indexes.put(uri, index);
+			// publish the array before the map, see the comment above
+			this.executorServices.set(next);
+			this.executorServicesIndexes = Collections.unmodifiableMap(indexes);
 
 			assert	this.executorServicesIndexes.get(uri) == index :
 						new ExecutorServicesManagementException(
@@ -1057,12 +1261,7 @@ implements	ComponentI
 	@Override
 	public boolean		validExecutorServiceURI(String uri)
 	{
-		this.executorServicesLock.readLock().lock();
-		try {
-			return uri != null && this.executorServicesIndexes.containsKey(uri);
-		} finally {
-			this.executorServicesLock.readLock().unlock();
-		}
+		return uri != null && this.executorServicesIndexes.containsKey(uri);
 	}
 
 	/**
@@ -1071,13 +1270,9 @@ implements	ComponentI
 	@Override
 	public boolean		validExecutorServiceIndex(int index)
 	{
-		this.executorServicesLock.readLock().lock();
-		try {
-			return index >= 0 &&
-						this.executorServicesIndexes.containsValue(index);
-		} finally {
-			this.executorServicesLock.readLock().unlock();
-		}
+		ComponentExecutorServiceManager[] temp = this.executorServices.get();
+		return temp != null && index >= 0 && index < temp.length &&
+													temp[index] != null;
 	}
 
 	/**
@@ -1086,16 +1281,11 @@ implements	ComponentI
 	@Override
 	public boolean		isSchedulable(String uri)
 	{
-		this.executorServicesLock.readLock().lock();
-		try {
-			assert	this.validExecutorServiceURI(uri) :
-						new PreconditionException(
+		assert	this.validExecutorServiceURI(uri) :
+					new PreconditionException(
 								"validExecutorServiceURI(uri) " + uri);
 
-			return this.isSchedulable(this.getExecutorServiceIndex(uri));
-		} finally {
-			this.executorServicesLock.readLock().unlock();
-		}
+		return this.isSchedulable(this.getExecutorServiceIndex(uri));
 	}
 
 	/**
@@ -1104,16 +1294,11 @@ implements	ComponentI
 	@Override
 	public boolean		isSchedulable(int index)
 	{
-		this.executorServicesLock.readLock().lock();
-		try {
-			assert	this.validExecutorServiceIndex(index) :
-						new PreconditionException(
+		assert	this.validExecutorServiceIndex(index) :
+					new PreconditionException(
 								"validExecutorServiceIndex(index) " + index);
 
-			return this.executorServices.get()[index].isSchedulable();
-		} finally {
-			this.executorServicesLock.readLock().unlock();
-		}
+		return this.executorServices.get()[index].isSchedulable();
 	}
 
 	/**
@@ -1131,22 +1316,17 @@ implements	ComponentI
 	 */
 	protected int		getExecutorServiceIndex(String uri)
 	{
-		this.executorServicesLock.readLock().lock();
-		try {
-			assert	this.validExecutorServiceURI(uri) :
-						new PreconditionException(
+		assert	this.validExecutorServiceURI(uri) :
+					new PreconditionException(
 								"validExecutorServiceURI(uri) " + uri);
 
-			int ret = this.executorServicesIndexes.get(uri);
+		int ret = this.executorServicesIndexes.get(uri);
 
-			assert	this.validExecutorServiceIndex(ret) :
-						new PostconditionException(
+		assert	this.validExecutorServiceIndex(ret) :
+					new PostconditionException(
 								"validExecutorServiceIndex(ret) " + ret);
 
-			return ret;
-		} finally {
-			this.executorServicesLock.readLock().unlock();
-		}
+		return ret;
 	}
 
 	/**
@@ -1164,26 +1344,17 @@ implements	ComponentI
 	 */
 	protected ExecutorService	getExecutorService()
 	{
-		this.executorServicesLock.readLock().lock();
-		try {
-			assert	this.validExecutorServiceURI(STANDARD_REQUEST_HANDLER_URI)
-					|| this.validExecutorServiceURI(
-											STANDARD_SCHEDULABLE_HANDLER_URI) :
-						new PreconditionException(
+		Map<String,Integer> indexes = this.executorServicesIndexes;
+		Integer index = indexes.get(STANDARD_REQUEST_HANDLER_URI);
+		if (index == null) {
+			index = indexes.get(STANDARD_SCHEDULABLE_HANDLER_URI);
+		}
+
+		assert	index != null :
+					new PreconditionException(
 								"invalid standard executor service!");
 
-			int index = -1;
-			if (this.validExecutorServiceURI(STANDARD_REQUEST_HANDLER_URI)) {
-				index = this.getExecutorServiceIndex(
-											STANDARD_REQUEST_HANDLER_URI);
-			} else {
-				index = this.getExecutorServiceIndex(
-											STANDARD_SCHEDULABLE_HANDLER_URI);
-			}
-			return this.executorServices.get()[index].getExecutorService();
-		} finally {
-			this.executorServicesLock.readLock().unlock();
-		}
+		return this.executorServices.get()[index].getExecutorService();
 	}
 
 	/**
@@ -1201,16 +1372,14 @@ implements	ComponentI
 	 */
 	protected ExecutorService	getExecutorService(int index)
 	{
-		this.executorServicesLock.readLock().lock();
-		try {
-			assert	this.validExecutorServiceIndex(index) :
-						new PreconditionException(
+		ComponentExecutorServiceManager[] temp = this.executorServices.get();
+
+		assert	temp != null && index >= 0 && index < temp.length &&
+														temp[index] != null :
+					new PreconditionException(
 								"validExecutorServiceIndex(index) " + index);
 
-			return this.executorServices.get()[index].getExecutorService();
-		} finally {
-			this.executorServicesLock.readLock().unlock();
-		}
+		return temp[index].getExecutorService();
 	}
 
 	/**
@@ -1228,16 +1397,11 @@ implements	ComponentI
 	 */
 	protected ExecutorService	getExecutorService(String uri)
 	{
-		this.executorServicesLock.readLock().lock();
-		try {
-			assert	this.validExecutorServiceURI(uri) :
-						new PreconditionException(
+		assert	this.validExecutorServiceURI(uri) :
+					new PreconditionException(
 								"validExecutorServiceURI(uri) " + uri);
 
-			return this.getExecutorService(this.getExecutorServiceIndex(uri));
-		} finally {
-			this.executorServicesLock.readLock().unlock();
-		}
+		return this.getExecutorService(this.getExecutorServiceIndex(uri));
 	}
 
 	/**
@@ -1254,21 +1418,16 @@ implements	ComponentI
 	 */
 	protected ScheduledExecutorService	getSchedulableExecutorService()
 	{
-		this.executorServicesLock.readLock().lock();
-		try {
-			assert	this.validExecutorServiceURI(
+		assert	this.validExecutorServiceURI(
 										STANDARD_SCHEDULABLE_HANDLER_URI) :
-						new PreconditionException(
+					new PreconditionException(
 							"invalid standard schedulable executor service!");
 
-			int index =
+		int index =
 				this.getExecutorServiceIndex(STANDARD_SCHEDULABLE_HANDLER_URI);
-			return ((ComponentSchedulableExecutorServiceManager) 
+		return ((ComponentSchedulableExecutorServiceManager) 
 									this.executorServices.get()[index]).
 											getScheduledExecutorService();
-		} finally {
-			this.executorServicesLock.readLock().unlock();
-		}
 	}
 
 	/**
@@ -1289,21 +1448,16 @@ implements	ComponentI
 		int index
 		)
 	{
-		this.executorServicesLock.readLock().lock();
-		try {
-			assert	this.validExecutorServiceIndex(index) :
-						new PreconditionException(
+		assert	this.validExecutorServiceIndex(index) :
+					new PreconditionException(
 								"validExecutorServiceIndex(index) " + index);
-			assert	this.isSchedulable(index) :
-						new PreconditionException(
+		assert	this.isSchedulable(index) :
+					new PreconditionException(
 								"isSchedulable(index) " + index);
 
-			return ((ComponentSchedulableExecutorServiceManager) 
+		return ((ComponentSchedulableExecutorServiceManager) 
 									this.executorServices.get()[index]).
 											getScheduledExecutorService();
-		} finally {
-			this.executorServicesLock.readLock().unlock();
-		}
 	}
 
 	/**
@@ -1324,19 +1478,51 @@ implements	ComponentI
 		String uri
 		)
 	{
-		this.executorServicesLock.readLock().lock();
-		try {
-			assert	this.validExecutorServiceURI(uri) :
-						new PreconditionException(
+		assert	this.validExecutorServiceURI(uri) :
+					new PreconditionException(
 								"validExecutorServiceURI(" + uri + ")");
-			assert	this.isSchedulable(uri) :
-						new PreconditionException("isSchedulable(" + uri + ")");
+		assert	this.isSchedulable(uri) :
+					new PreconditionException("isSchedulable(" + uri + ")");
 
-			return this.getSchedulableExecutorService(
-											this.getExecutorServiceIndex(uri));
-		} finally {
-			this.executorServicesLock.readLock().unlock();
-		}
+		return this.getSchedulableExecutorService(
+										this.getExecutorServiceIndex(uri));
+	}
+
+	/**
+	 * remove the executor service with the given URI from the published
+	 * snapshots and return its manager; the caller must hold the write lock.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code validExecutorServiceURI(uri)}
+	 * pre	{@code executorServicesLock.isWriteLockedByCurrentThread()}
+	 * post	{@code !validExecutorServiceURI(uri)}
+	 * </pre>
+	 *
+	 * @param uri	URI of a valid executor service on this component.
+	 * @return		the manager of the removed executor service.
+	 */
+	private ComponentExecutorServiceManager	removeExecutorService(String uri)
+	{
+		assert	this.executorServicesLock.isWriteLockedByCurrentThread() :
+					new PreconditionException(
+						"executorServicesLock.isWriteLockedByCurrentThread()");
+
+		int index = this.getExecutorServiceIndex(uri);
+		ComponentExecutorServiceManager[] current =
+												this.executorServices.get();
+		ComponentExecutorServiceManager removed = current[index];
+		ComponentExecutorServiceManager[] next =
+									Arrays.copyOf(current, current.length);
+		next[index] = null;
+		Map<String,Integer> indexes =
+						new HashMap<String,Integer>(this.executorServicesIndexes);
+		indexes.remove(uri);
+		// publish the map before the array, see the comment above
+		this.executorServicesIndexes = Collections.unmodifiableMap(indexes);
+		this.executorServices.set(next);
+		return removed;
 	}
 
 	/**
@@ -1364,11 +1550,8 @@ implements	ComponentI
 						new PreconditionException(
 								"validExecutorServiceURI(" + uri + ")");
 
-			int index = this.getExecutorServiceIndex(uri);
-			es = this.executorServices.get()[index].getExecutorService();
+			es = this.removeExecutorService(uri).getExecutorService();
 			es.shutdown();
-			this.executorServices.get()[index] = null;
-			this.executorServicesIndexes.remove(uri);
 		} finally {
 			this.executorServicesLock.writeLock().unlock();
 		}
@@ -1414,11 +1597,8 @@ implements	ComponentI
 						new PreconditionException(
 								"validExecutorServiceURI(" + uri + ")");
 
-			int index = this.getExecutorServiceIndex(uri);
-			es = this.executorServices.get()[index].getExecutorService();
+			es = this.removeExecutorService(uri).getExecutorService();
 			waitingTasks = es.shutdownNow();
-			this.executorServices.get()[index] = null;
-			this.executorServicesIndexes.remove(uri);
 		} finally {
 			this.executorServicesLock.writeLock().unlock();
 		}
@@ -2123,6 +2303,75 @@ implements	ComponentI
 		int nbThreads,
 		int nbSchedulableThreads
 		)
+	{
+		this(reflectionInboundPortURI, nbThreads, nbSchedulableThreads,
+			 AbstractComponent.defaultExecutorServiceFactory);
+	}
+
+	/**
+	 * create a passive component if both <code>nbThreads</code> and
+	 * <code>nbSchedulableThreads</code> are both zero, and an active one with
+	 * <code>nbThreads</code> non schedulable thread created by
+	 * <code>factory</code> and <code>nbSchedulableThreads</code> schedulable
+	 * threads otherwise.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code !(this instanceof ComponentInterface)}
+	 * pre	{@code nbThreads >= 0 && nbSchedulableThreads >= 0}
+	 * pre	{@code factory != null}
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @param nbThreads				number of threads to be created in the component pool.
+	 * @param nbSchedulableThreads	number of threads to be created in the component schedulable pool.
+	 * @param factory				factory creating the standard request handler executor service.
+	 */
+	protected			AbstractComponent(
+		int nbThreads,
+		int nbSchedulableThreads,
+		ExecutorServiceFactory factory
+		)
+	{
+		this(AbstractPort.generatePortURI(ReflectionCI.class),
+			 nbThreads, nbSchedulableThreads, factory);
+	}
+
+	/**
+	 * create a passive component if both <code>nbThreads</code> and
+	 * <code>nbSchedulableThreads</code> are both zero, and an active one with
+	 * <code>nbThreads</code> non schedulable thread created by
+	 * <code>factory</code> and <code>nbSchedulableThreads</code> schedulable
+	 * threads otherwise.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <p>
+	 * The schedulable threads always use a standard scheduled thread pool, as
+	 * the other factories do not create scheduled executor services.
+	 * </p>
+	 * 
+	 * <pre>
+	 * pre	{@code !(this instanceof ComponentInterface)}
+	 * pre	{@code reflectionInboundPortURI != null}
+	 * pre	{@code nbThreads >= 0}
+	 * pre	{@code nbSchedulableThreads >= 0}
+	 * pre	{@code factory != null}
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @param reflectionInboundPortURI	URI of the inbound port offering the <code>ReflectionI</code> interface.
+	 * @param nbThreads					number of threads to be created in the component pool.
+	 * @param nbSchedulableThreads		number of threads to be created in the component schedulable pool.
+	 * @param factory					factory creating the standard request handler executor service.
+	 */
+	protected			AbstractComponent(
+		String reflectionInboundPortURI,
+		int nbThreads,
+		int nbSchedulableThreads,
+		ExecutorServiceFactory factory
+		)
 	{
 		super();
 
@@ -2138,12 +2387,14 @@ implements	ComponentI
 		assert	nbSchedulableThreads >= 0 :
 					new PreconditionException("Number of schedulable threads"
 														+ " is negative!");
+		assert	factory != null :
+					new PreconditionException("factory != null");
 
 		this.reflectionInboundPortURI = reflectionInboundPortURI;
 		this.innerComponents =
 						new ConcurrentHashMap<String,AbstractComponent>();
 
-		this.executorServicesIndexes = new HashMap<String,Integer>();
+		this.executorServicesIndexes = Collections.emptyMap();
 		this.executorServices =
 			new AtomicReference<ComponentExecutorServiceManager[]>(null);
 		this.requiredInterfaces = new Vector<Class<? extends RequiredCI>>();
@@ -2155,7 +2406,8 @@ implements	ComponentI
 				new AtomicReference<>(new Logger(reflectionInboundPortURI));
 		this.tracer =
 				new AtomicReference<>(
-						new TracerWindow(reflectionInboundPortURI, 0, 0));
+						AbstractComponent.defaultTracerFactory.
+									createTracer(reflectionInboundPortURI));
 
 		this.state = new AtomicReference<>(ComponentState.INITIALISED);
 		this.composite = new AtomicReference<>(null);
@@ -2169,7 +2421,7 @@ implements	ComponentI
 
 		if (nbThreads > 0) {
 			this.createNewExecutorService(STANDARD_REQUEST_HANDLER_URI,
-										  nbThreads, false);
+										  nbThreads, factory);
 		}
 		
 		if (nbSchedulableThreads > 0) {
@@ -2237,29 +2489,31 @@ implements	ComponentI
 								"hasItsOwnThreads() == "
 								+ "(getTotalNumberOfThreads() > 0)");
 
+			// the read lock excludes the writers, hence the two snapshots
+			// are consistent
+			ComponentExecutorServiceManager[] temp = ac.executorServices.get();
+			Map<String,Integer> indexes = ac.executorServicesIndexes;
 			boolean uri2index = true;
-			for (Entry<String,Integer> entry :
-									ac.executorServicesIndexes.entrySet()) {
+			for (Entry<String,Integer> entry : indexes.entrySet()) {
 				String uri = entry.getKey();
 				int index = entry.getValue();
-				uri2index = uri2index &&
-						ac.executorServices.get()[index].getURI().equals(uri);
+				uri2index = uri2index && temp[index].getURI().equals(uri);
 			}
 			assert	uri2index :
 						new ImplementationInvariantException(
 								"executorServices and executorServicesIndexes"
 								+ " not in synchrony!");
 
-			if (ac.executorServices.get() != null) {
-				for (int i = 0 ; i < ac.executorServices.get().length ; i++) {
-					if (ac.executorServices.get()[i] != null) {
-						assert	ac.executorServicesIndexes.containsValue(i) :
+			if (temp != null) {
+				for (int i = 0 ; i < temp.length ; i++) {
+					if (temp[i] != null) {
+						assert	indexes.containsValue(i) :
 									new ImplementationInvariantException(
 										i + " is a valid executor service "
 										+ "index but is not in "
 										+ "executorServicesIndexes");
 					} else {
-						assert	!ac.executorServicesIndexes.containsValue(i) :
+						assert	!indexes.containsValue(i) :
 									new ImplementationInvariantException(
 										i + " is not  a valid executor service "
 										+ "index but is in "
@@ -3913,9 +4167,7 @@ implements	ComponentI
 	{
 		assert	ccname != null : new PreconditionException("ccname != null");
 
-		Class<?> cc = Class.forName(ccname);
-		Constructor<?> c = cc.getConstructor(new Class<?>[]{});
-		ConnectorI connector = (ConnectorI) c.newInstance();
+		ConnectorI connector = DirectInvokers.newConnector(ccname);
 		this.doPortConnection(portURI, otherPortURI, connector);
 	}
 
@@ -4286,16 +4538,11 @@ implements	ComponentI
 			return true;
 		}
 
-		this.executorServicesLock.readLock().lock();
-		try {
-			for (int i = 0 ; i < this.executorServices.get().length ; i++) {
-				if (this.executorServices.get()[i] != null) {
-					isShutdown = isShutdown &&
-								this.executorServices.get()[i].isShutdown();
-				}
+		ComponentExecutorServiceManager[] temp = this.executorServices.get();
+		for (int i = 0 ; i < temp.length ; i++) {
+			if (temp[i] != null) {
+				isShutdown = isShutdown && temp[i].isShutdown();
 			}
-		} finally {
-			this.executorServicesLock.readLock().unlock();
 		}
 		if (isShutdown) {
 			this.state.set(ComponentState.SHUTDOWN);
@@ -4318,16 +4565,11 @@ implements	ComponentI
 			return this.isShutdown();
 		}
 
-		this.executorServicesLock.readLock().lock();
-		try {
-			for (int i = 0 ; i < this.executorServices.get().length ; i++) {
-				if (this.executorServices.get()[i] != null) {
-					isTerminated = isTerminated &&
-								this.executorServices.get()[i].isTerminated();
-				}
+		ComponentExecutorServiceManager[] temp = this.executorServices.get();
+		for (int i = 0 ; i < temp.length ; i++) {
+			if (temp[i] != null) {
+				isTerminated = isTerminated && temp[i].isTerminated();
 			}
-		} finally {
-			this.executorServicesLock.readLock().unlock();
 		}
 		if (isTerminated) {
 			this.state.set(ComponentState.TERMINATED);
@@ -4350,17 +4592,11 @@ implements	ComponentI
 		}
 
 		boolean status = true;
-		this.executorServicesLock.readLock().lock();
-		try {
-			for (int i = 0 ; i < this.executorServices.get().length ; i++) {
-				if (this.executorServices.get()[i] != null) {
-					status = status &&
-							this.executorServices.get()[i].awaitTermination(
-															timeout, unit);
-				}
+		ComponentExecutorServiceManager[] temp = this.executorServices.get();
+		for (int i = 0 ; i < temp.length ; i++) {
+			if (temp[i] != null) {
+				status = status && temp[i].awaitTermination(timeout, unit);
 			}
-		} finally {
-			this.executorServicesLock.readLock().unlock();
 		}
 		if (status) {
 			this.state.set(ComponentState.TERMINATED);
@@ -6238,6 +6474,32 @@ implements	ComponentI
 								}, delay, u).get();
 	}
 
+	// -------------------------------------------------------------------------
+	// Executor services metrics
+	// -------------------------------------------------------------------------
+
+	/**
+	 * @see fr.sorbonne_u.components.ComponentI#getExecutorServicesMetrics()
+	 */
+	@Override
+	public ExecutorServiceMetrics[]	getExecutorServicesMetrics()
+	{
+		ComponentExecutorServiceManager[] current = this.executorServices.get();
+		ArrayList<ExecutorServiceMetrics> ret =
+										new ArrayList<ExecutorServiceMetrics>();
+		if (current != null) {
+			for (int i = 0 ; i < current.length ; i++) {
+				if (current[i] != null) {
+					ExecutorServiceMetrics m = current[i].getMetrics();
+					if (m != null) {
+						ret.add(m);
+					}
+				}
+			}
+		}
+		return ret.toArray(new ExecutorServiceMetrics[ret.size()]);
+	}
+
 	// -------------------------------------------------------------------------
 	// Reflection facility
 	// FIXME: experimental...
@@ -6325,11 +6587,8 @@ implements	ComponentI
 		assert	this.isStarted();
 		assert	name != null && params != null;
 
-		Class<?>[] pTypes = new Class<?>[params.length];
-		for (int i = 0; i < params.length; i++) {
-			pTypes[i] = params[i].getClass();
-		}
-		Method m = this.getClass().getMethod(name, pTypes);
+		ServiceInvokerI m =
+				DirectInvokers.serviceInvoker(this.getClass(), name, params);
 		int index;
 		if (this.validExecutorServiceURI(STANDARD_REQUEST_HANDLER_URI)) {
 			index = this.getExecutorServiceIndex(STANDARD_REQUEST_HANDLER_URI);
@@ -6354,11 +6613,8 @@ implements	ComponentI
 	public Object		invokeServiceSync(String name, Object[] params)
 	throws Exception
 	{
-		Class<?>[] pTypes = new Class<?>[params.length];
-		for (int i = 0; i < params.length; i++) {
-			pTypes[i] = params[i].getClass();
-		}
-		Method m = this.getClass().getMethod(name, pTypes);
+		ServiceInvokerI m =
+				DirectInvokers.serviceInvoker(this.getClass(), name, params);
 		return this.handleRequest(
 						new AbstractService<Object>() {
 							@Override
@@ -6375,19 +6631,14 @@ implements	ComponentI
 	public void			invokeServiceAsync(String name, Object[] params)
 	throws Exception
 	{
-		Class<?>[] pTypes = new Class<?>[params.length];
-		for (int i = 0; i < params.length; i++) {
-			pTypes[i] = params[i].getClass();
-		}
-		Method m = this.getClass().getMethod(name, pTypes);
+		ServiceInvokerI m =
+				DirectInvokers.serviceInvoker(this.getClass(), name, params);
 		this.runTask(new AbstractComponent.AbstractTask() {
 						@Override
 						public void run() {
 							try {
 								m.invoke(this.getTaskOwner(), params);
-							} catch (IllegalAccessException |
-									 IllegalArgumentException |
-									 InvocationTargetException e) {
+							} catch (Exception e) {
 								e.printStackTrace();
 							}
 						}
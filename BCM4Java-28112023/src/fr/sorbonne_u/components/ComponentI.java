@@ -41,6 +41,7 @@ import java.util.concurrent.TimeUnit;
 import fr.sorbonne_u.components.connectors.ConnectorI;
 import fr.sorbonne_u.components.exceptions.ComponentShutdownException;
 import fr.sorbonne_u.components.exceptions.ComponentStartException;
+import fr.sorbonne_u.components.helpers.ExecutorServiceMetrics;
 import fr.sorbonne_u.components.helpers.Logger;
 import fr.sorbonne_u.components.helpers.TracerI;
 import fr.sorbonne_u.components.interfaces.ComponentInterface;
@@ -2354,6 +2355,28 @@ public interface		ComponentI
 					InterruptedException,
 					ExecutionException;
 
+	// -------------------------------------------------------------------------
+	// Executor services metrics
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return snapshots of the metrics of the instrumented executor services
+	 * of this component, an empty array if executor services metrics were not
+	 * enabled when they were created.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true		// no precondition.
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @return				snapshots of the metrics of the instrumented executor services.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	public ExecutorServiceMetrics[]	getExecutorServicesMetrics()
+	throws Exception;
+
 	// -------------------------------------------------------------------------
 	// Reflection facility
 	// -------------------------------------------------------------------------
@@ -109,7 +109,7 @@ implements	IntercessionCI
 	@Override
 	public void			installPlugin(final PluginI plugin) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 					new AbstractComponent.AbstractService<Void>() {
 						@Override
 						public Void call() throws Exception {
@@ -126,7 +126,7 @@ implements	IntercessionCI
 	public void			initialisePlugin(final String pluginURI)
 	throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 					new AbstractComponent.AbstractService<Void>() {
 						@Override
 						public Void call() throws Exception {
@@ -142,7 +142,7 @@ implements	IntercessionCI
 	@Override
 	public void			finalisePlugin(String pluginURI) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 					new AbstractComponent.AbstractService<Void>() {
 						@Override
 						public Void call() throws Exception {
@@ -159,7 +159,7 @@ implements	IntercessionCI
 	@Override
 	public void			uninstallPlugin(final String pluginId) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 					new AbstractComponent.AbstractService<Void>() {
 						@Override
 						public Void call() throws Exception {
@@ -179,7 +179,7 @@ implements	IntercessionCI
 	@Override
 	public void			toggleLogging() throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 					new AbstractComponent.AbstractService<Void>() {
 						@Override
 						public Void call() throws Exception {
@@ -195,7 +195,7 @@ implements	IntercessionCI
 	@Override
 	public void			setLogger(Logger logger) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 				new AbstractComponent.AbstractService<Void>() {
 					@Override
 					public Void call() throws Exception {
@@ -211,7 +211,7 @@ implements	IntercessionCI
 	@Override
 	public void			toggleTracing() throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 					new AbstractComponent.AbstractService<Void>() {
 						@Override
 						public Void call() throws Exception {
@@ -227,7 +227,7 @@ implements	IntercessionCI
 	@Override
 	public void			setTracer(TracerI tracer) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 				new AbstractComponent.AbstractService<Void>() {
 					@Override
 					public Void call() throws Exception {
@@ -243,7 +243,7 @@ implements	IntercessionCI
 	@Override
 	public void			logMessage(final String message) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 					new AbstractComponent.AbstractService<Void>() {
 						@Override
 						public Void call() throws Exception {
@@ -259,7 +259,7 @@ implements	IntercessionCI
 	@Override
 	public void			printExecutionLog() throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 					new AbstractComponent.AbstractService<Void>() {
 						@Override
 						public Void call() throws Exception {
@@ -276,7 +276,7 @@ implements	IntercessionCI
 	public void			printExecutionLogOnFile(final String fileName)
 	throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 					new AbstractComponent.AbstractService<Void>() {
 						@Override
 						public Void call() throws Exception {
@@ -293,7 +293,7 @@ implements	IntercessionCI
 	@Override
 	public void			traceMessage(String message) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 				new AbstractComponent.AbstractService<Void>() {
 					@Override
 					public Void call() throws Exception {
@@ -315,7 +315,7 @@ implements	IntercessionCI
 		final Class<? extends RequiredCI> inter
 		) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 					new AbstractComponent.AbstractService<Void>() {
 						@Override
 						public Void call() throws Exception {
@@ -334,7 +334,7 @@ implements	IntercessionCI
 		final Class<? extends RequiredCI> inter
 		) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 					new AbstractComponent.AbstractService<Void>() {
 						@Override
 						public Void call() throws Exception {
@@ -353,7 +353,7 @@ implements	IntercessionCI
 		final Class<? extends OfferedCI> inter
 		) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 					new AbstractComponent.AbstractService<Void>() {
 						@Override
 						public Void call() throws Exception {
@@ -371,7 +371,7 @@ implements	IntercessionCI
 		final Class<? extends OfferedCI> inter
 		) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 					new AbstractComponent.AbstractService<Void>() {
 						@Override
 						public Void call() throws Exception {
@@ -396,7 +396,7 @@ implements	IntercessionCI
 		final String ccname
 		) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 				new AbstractComponent.AbstractService<Void>() {
 					@Override
 					public Void call() throws Exception {
@@ -414,7 +414,7 @@ implements	IntercessionCI
 	public void			doPortDisconnection(final String portURI)
 	throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 				new AbstractComponent.AbstractService<Void>() {
 					@Override
 					public Void call() throws Exception {
@@ -435,7 +435,7 @@ implements	IntercessionCI
 	public Object		invokeService(String name, Object[] params)
 	throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<Object>() {
 						@Override
 						public Object call() throws Exception {
@@ -452,7 +452,7 @@ implements	IntercessionCI
 	public Object		invokeServiceSync(String name, Object[] params)
 	throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<Object>() {
 						@Override
 						public Object call() throws Exception {
@@ -469,7 +469,7 @@ implements	IntercessionCI
 	public void			invokeServiceAsync(String name, Object[] params)
 	throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 			new AbstractComponent.AbstractService<Void>() {
 				@Override
 				public Void call() throws Exception {
@@ -485,7 +485,7 @@ implements	IntercessionCI
 	@Override
 	public void			execute() throws Exception
 	{
-		this.getOwner().runTask(
+		this.runTask(
 			new AbstractComponent.AbstractTask() {
 				@Override
 				public void run() {
@@ -516,7 +516,7 @@ implements	IntercessionCI
 					}
 				} ;
 		t.setComponentTask(task) ;
-		this.getOwner().runTask(task) ;
+		this.runTask(task) ;
 	}
 
 	/**
@@ -539,7 +539,7 @@ implements	IntercessionCI
 					}
 				} ;
 		t.setComponentTask(task) ;
-		this.getOwner().runTask(executorServiceURI, task) ;
+		this.runTask(executorServiceURI, task) ;
 	}
 
 	/**
@@ -552,7 +552,7 @@ implements	IntercessionCI
 		String code
 		) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 				new AbstractComponent.AbstractService<Void>() {
 					@Override
 					public Void call() throws Exception {
@@ -575,7 +575,7 @@ implements	IntercessionCI
 		String code
 		) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 				new AbstractComponent.AbstractService<Void>() {
 					@Override
 					public Void call() throws Exception {
@@ -34,6 +34,7 @@ package fr.sorbonne_u.components;
 // knowledge of the CeCILL-C license and that you accept its terms.
 
 import java.lang.annotation.Annotation;
+import fr.sorbonne_u.components.helpers.ExecutorServiceMetrics;
 import fr.sorbonne_u.components.interfaces.ComponentInterface;
 import fr.sorbonne_u.components.interfaces.OfferedCI;
 import fr.sorbonne_u.components.interfaces.RequiredCI;
@@ -111,7 +112,7 @@ implements	IntrospectionCI
 	@Override
 	public boolean		hasInstalledPlugins() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -126,7 +127,7 @@ implements	IntrospectionCI
 	@Override
 	public boolean		isInstalled(final String pluginId) throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -142,7 +143,7 @@ implements	IntrospectionCI
 	public PluginI		getPlugin(final String pluginURI)
 	throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<PluginI>() {
 						@Override
 						public PluginI call() throws Exception {
@@ -158,7 +159,7 @@ implements	IntrospectionCI
 	public boolean		isInitialised(final String pluginURI)
 	throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -177,7 +178,7 @@ implements	IntrospectionCI
 	@Override
 	public boolean		isLogging() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -192,7 +193,7 @@ implements	IntrospectionCI
 	@Override
 	public boolean		isTracing() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -212,7 +213,7 @@ implements	IntrospectionCI
 	public boolean		isInStateAmong(final ComponentStateI[] states)
 	throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -228,7 +229,7 @@ implements	IntrospectionCI
 	public boolean		notInStateAmong(final ComponentStateI[] states)
 	throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -243,7 +244,7 @@ implements	IntrospectionCI
 	@Override
 	public boolean		hasItsOwnThreads() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -258,7 +259,7 @@ implements	IntrospectionCI
 	@Override
 	public boolean		hasSerialisedExecution() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -273,7 +274,7 @@ implements	IntrospectionCI
 	@Override
 	public boolean		canScheduleTasks() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -288,7 +289,7 @@ implements	IntrospectionCI
 	@Override
 	public int			getTotalNumberOfThreads() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<Integer>() {
 						@Override
 						public Integer call() throws Exception {
@@ -308,7 +309,7 @@ implements	IntrospectionCI
 	public Class<? extends ComponentInterface>[]	getInterfaces()
 	throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<
 									Class<? extends ComponentInterface>[]>() {
 						@Override
@@ -328,7 +329,7 @@ implements	IntrospectionCI
 		final Class<? extends ComponentInterface> inter
 		) throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 				new AbstractComponent.AbstractService<
 									Class<? extends ComponentInterface>>() {
 					@Override
@@ -346,7 +347,7 @@ implements	IntrospectionCI
 	@Override
 	public Class<? extends RequiredCI>[]	getRequiredInterfaces() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<
 											Class<? extends RequiredCI>[]>() {
 						@Override
@@ -366,7 +367,7 @@ implements	IntrospectionCI
 		final Class<? extends RequiredCI> inter
 		) throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 				new AbstractComponent.AbstractService<
 											Class<? extends RequiredCI>>() {
 					@Override
@@ -382,7 +383,7 @@ implements	IntrospectionCI
 	@Override
 	public Class<? extends OfferedCI>[]	getOfferedInterfaces() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<
 											Class<? extends OfferedCI>[]>() {
 						@Override
@@ -402,7 +403,7 @@ implements	IntrospectionCI
 		final Class<? extends OfferedCI> inter
 		) throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 				new AbstractComponent.AbstractService<
 											Class<? extends OfferedCI>>() {
 					@Override
@@ -421,7 +422,7 @@ implements	IntrospectionCI
 		final Class<? extends ComponentInterface> inter
 		) throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -438,7 +439,7 @@ implements	IntrospectionCI
 		final Class<? extends RequiredCI> inter
 		) throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -455,7 +456,7 @@ implements	IntrospectionCI
 		final Class<? extends OfferedCI> inter
 		) throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -476,7 +477,7 @@ implements	IntrospectionCI
 		final Class<? extends ComponentInterface> inter
 		) throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<String[]>() {
 						@Override
 						public String[] call() throws Exception {
@@ -493,7 +494,7 @@ implements	IntrospectionCI
 		final Class<? extends OfferedCI> inter
 		) throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<String[]>() {
 						@Override
 						public String[] call() throws Exception {
@@ -510,7 +511,7 @@ implements	IntrospectionCI
 		final Class<? extends RequiredCI> inter
 		) throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<String[]>() {
 						@Override
 						public String[] call() throws Exception {
@@ -527,7 +528,7 @@ implements	IntrospectionCI
 		final String portURI
 		) throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<
 										Class<? extends ComponentInterface>>() {
 						@Override
@@ -545,7 +546,7 @@ implements	IntrospectionCI
 	@Override
 	public boolean			isPortExisting(String portURI) throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -561,7 +562,7 @@ implements	IntrospectionCI
 	public boolean		isPortConnected(final String portURI)
 	throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -570,6 +571,23 @@ implements	IntrospectionCI
 					});
 	}
 
+	// -------------------------------------------------------------------------
+	// Executor services metrics
+	// -------------------------------------------------------------------------
+
+	/**
+	 * @see fr.sorbonne_u.components.reflection.interfaces.IntrospectionCI#getExecutorServicesMetrics()
+	 */
+	@Override
+	public ExecutorServiceMetrics[]	getExecutorServicesMetrics()
+	throws Exception
+	{
+		// the metrics are read without locking, so they are read directly
+		// rather than through a request that would wait behind the very
+		// tasks which queueing delays are being observed
+		return this.getOwner().getExecutorServicesMetrics();
+	}
+
 	// ------------------------------------------------------------------------
 	// Reflection facility
 	// ------------------------------------------------------------------------
@@ -580,7 +598,7 @@ implements	IntrospectionCI
 	@Override
 	public String		getComponentDefinitionClassName() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<String>() {
 						@Override
 						public String call() throws Exception {
@@ -595,7 +613,7 @@ implements	IntrospectionCI
 	@Override
 	public Annotation[]	getComponentAnnotations() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<Annotation[]>() {
 						@Override
 						public Annotation[] call() throws Exception {
@@ -610,7 +628,7 @@ implements	IntrospectionCI
 	@Override
 	public ClassLoader	getComponentLoader() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<ClassLoader>() {
 						@Override
 						public ClassLoader call() throws Exception {
@@ -626,7 +644,7 @@ implements	IntrospectionCI
 	public ServiceSignature[]	getComponentServiceSignatures()
 	throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<ServiceSignature[]>() {
 						@Override
 						public ServiceSignature[] call() throws Exception {
@@ -642,7 +660,7 @@ implements	IntrospectionCI
 	public ConstructorSignature[]	getComponentConstructorSignatures()
 	throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<ConstructorSignature[]>() {
 						@Override
 						public ConstructorSignature[] call() throws Exception {
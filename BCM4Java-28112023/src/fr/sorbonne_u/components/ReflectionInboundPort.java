@@ -34,6 +34,7 @@ package fr.sorbonne_u.components;
 // knowledge of the CeCILL-C license and that you accept its terms.
 
 import java.lang.annotation.Annotation;
+import fr.sorbonne_u.components.helpers.ExecutorServiceMetrics;
 import fr.sorbonne_u.components.helpers.Logger;
 import fr.sorbonne_u.components.helpers.TracerI;
 import fr.sorbonne_u.components.interfaces.ComponentInterface;
@@ -113,7 +114,7 @@ implements	ReflectionCI
 	@Override
 	public void			installPlugin(final PluginI plugin) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 					new AbstractComponent.AbstractService<Void>() {
 						@Override
 						public Void call() throws Exception {
@@ -129,7 +130,7 @@ implements	ReflectionCI
 	@Override
 	public boolean		hasInstalledPlugins() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -145,7 +146,7 @@ implements	ReflectionCI
 	@Override
 	public void			finalisePlugin(final String pluginURI) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 					new AbstractComponent.AbstractService<Void>() {
 						@Override
 						public Void call() throws Exception {
@@ -161,7 +162,7 @@ implements	ReflectionCI
 	@Override
 	public void			uninstallPlugin(final String pluginId) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 					new AbstractComponent.AbstractService<Void>() {
 						@Override
 						public Void call() throws Exception {
@@ -177,7 +178,7 @@ implements	ReflectionCI
 	@Override
 	public boolean		isInstalled(final String pluginId) throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -193,7 +194,7 @@ implements	ReflectionCI
 	public PluginI		getPlugin(final String pluginURI)
 	throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<PluginI>() {
 						@Override
 						public PluginI call() throws Exception {
@@ -209,7 +210,7 @@ implements	ReflectionCI
 	public void			initialisePlugin(final String pluginURI)
 	throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 					new AbstractComponent.AbstractService<Void>() {
 						@Override
 						public Void call() throws Exception {
@@ -226,7 +227,7 @@ implements	ReflectionCI
 	public boolean		isInitialised(final String pluginURI)
 	throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -246,7 +247,7 @@ implements	ReflectionCI
 	@Override
 	public void			toggleLogging() throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 					new AbstractComponent.AbstractService<Void>() {
 						@Override
 						public Void call() throws Exception {
@@ -262,7 +263,7 @@ implements	ReflectionCI
 	@Override
 	public void			setLogger(Logger logger) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 				new AbstractComponent.AbstractService<Void>() {
 					@Override
 					public Void call() throws Exception {
@@ -278,7 +279,7 @@ implements	ReflectionCI
 	@Override
 	public void			toggleTracing() throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 					new AbstractComponent.AbstractService<Void>() {
 						@Override
 						public Void call() throws Exception {
@@ -294,7 +295,7 @@ implements	ReflectionCI
 	@Override
 	public void			setTracer(TracerI tracer) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 				new AbstractComponent.AbstractService<Void>() {
 					@Override
 					public Void call() throws Exception {
@@ -310,7 +311,7 @@ implements	ReflectionCI
 	@Override
 	public void			logMessage(final String message) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 					new AbstractComponent.AbstractService<Void>() {
 						@Override
 						public Void call() throws Exception {
@@ -326,7 +327,7 @@ implements	ReflectionCI
 	@Override
 	public boolean		isLogging() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -341,7 +342,7 @@ implements	ReflectionCI
 	@Override
 	public boolean		isTracing() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -356,7 +357,7 @@ implements	ReflectionCI
 	@Override
 	public void			printExecutionLog() throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 					new AbstractComponent.AbstractService<Void>() {
 						@Override
 						public Void call() throws Exception {
@@ -373,7 +374,7 @@ implements	ReflectionCI
 	public void			printExecutionLogOnFile(final String fileName)
 	throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 					new AbstractComponent.AbstractService<Void>() {
 						@Override
 						public Void call() throws Exception {
@@ -390,7 +391,7 @@ implements	ReflectionCI
 	@Override
 	public void			traceMessage(String message) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 				new AbstractComponent.AbstractService<Void>() {
 					@Override
 					public Void call() throws Exception {
@@ -411,7 +412,7 @@ implements	ReflectionCI
 	public boolean		isInStateAmong(final ComponentStateI[] states)
 	throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -428,7 +429,7 @@ implements	ReflectionCI
 	public boolean		notInStateAmong(final ComponentStateI[] states)
 	throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -444,7 +445,7 @@ implements	ReflectionCI
 	@Override
 	public boolean		hasItsOwnThreads() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -459,7 +460,7 @@ implements	ReflectionCI
 	@Override
 	public boolean		hasSerialisedExecution() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -475,7 +476,7 @@ implements	ReflectionCI
 	@Override
 	public boolean		canScheduleTasks() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -490,7 +491,7 @@ implements	ReflectionCI
 	@Override
 	public int			getTotalNumberOfThreads() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<Integer>() {
 						@Override
 						public Integer call() throws Exception {
@@ -510,7 +511,7 @@ implements	ReflectionCI
 	@Override
 	public Class<? extends ComponentInterface>[]	getInterfaces() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<
 									Class<? extends ComponentInterface>[]>() {
 						@Override
@@ -530,7 +531,7 @@ implements	ReflectionCI
 		final Class<? extends ComponentInterface> inter
 		) throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 				new AbstractComponent.AbstractService<
 									Class<? extends ComponentInterface>>() {
 					@Override
@@ -549,7 +550,7 @@ implements	ReflectionCI
 	public Class<? extends RequiredCI>[]	getRequiredInterfaces()
 	throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<
 											Class<? extends RequiredCI>[]>() {
 						@Override
@@ -570,7 +571,7 @@ implements	ReflectionCI
 		final Class<? extends RequiredCI> inter
 		) throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 				new AbstractComponent.AbstractService<
 											Class<? extends RequiredCI>>() {
 					@Override
@@ -588,7 +589,7 @@ implements	ReflectionCI
 	@Override
 	public Class<? extends OfferedCI>[]	getOfferedInterfaces() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<
 											Class<? extends OfferedCI>[]>() {
 						@Override
@@ -608,7 +609,7 @@ implements	ReflectionCI
 	public Class<? extends OfferedCI>	getOfferedInterface(final Class<? extends OfferedCI> inter)
 	throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 				new AbstractComponent.AbstractService<
 											Class<? extends OfferedCI>>() {
 					@Override
@@ -628,7 +629,7 @@ implements	ReflectionCI
 		final Class<? extends RequiredCI> inter
 		) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 					new AbstractComponent.AbstractService<Void>() {
 						@Override
 						public Void call() throws Exception {
@@ -647,7 +648,7 @@ implements	ReflectionCI
 		final Class<? extends RequiredCI> inter
 		) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 					new AbstractComponent.AbstractService<Void>() {
 						@Override
 						public Void call() throws Exception {
@@ -666,7 +667,7 @@ implements	ReflectionCI
 		final Class<? extends OfferedCI> inter
 		) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 					new AbstractComponent.AbstractService<Void>() {
 						@Override
 						public Void call() throws Exception {
@@ -685,7 +686,7 @@ implements	ReflectionCI
 		final Class<? extends OfferedCI> inter
 		) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 					new AbstractComponent.AbstractService<Void>() {
 						@Override
 						public Void call() throws Exception {
@@ -704,7 +705,7 @@ implements	ReflectionCI
 		final Class<? extends ComponentInterface> inter
 		) throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -721,7 +722,7 @@ implements	ReflectionCI
 		final Class<? extends RequiredCI> inter
 		) throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -739,7 +740,7 @@ implements	ReflectionCI
 		final Class<? extends OfferedCI> inter
 		) throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -761,7 +762,7 @@ implements	ReflectionCI
 		final Class<? extends ComponentInterface> inter
 		) throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<String[]>() {
 						@Override
 						public String[] call() throws Exception {
@@ -779,7 +780,7 @@ implements	ReflectionCI
 		final Class<? extends OfferedCI> inter
 		) throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<String[]>() {
 						@Override
 						public String[] call() throws Exception {
@@ -797,7 +798,7 @@ implements	ReflectionCI
 		final Class<? extends RequiredCI> inter
 		) throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<String[]>() {
 						@Override
 						public String[] call() throws Exception {
@@ -815,7 +816,7 @@ implements	ReflectionCI
 		final String portURI
 		) throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<
 										Class<? extends ComponentInterface>>() {
 						@Override
@@ -834,7 +835,7 @@ implements	ReflectionCI
 	@Override
 	public boolean			isPortExisting(String portURI) throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -851,7 +852,7 @@ implements	ReflectionCI
 	public boolean		isPortConnected(final String portURI)
 	throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -871,7 +872,7 @@ implements	ReflectionCI
 		final String ccname
 		) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 				new AbstractComponent.AbstractService<Void>() {
 					@Override
 					public Void call() throws Exception {
@@ -889,7 +890,7 @@ implements	ReflectionCI
 	public void			doPortDisconnection(final String portURI)
 	throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 				new AbstractComponent.AbstractService<Void>() {
 					@Override
 					public Void call() throws Exception {
@@ -899,6 +900,23 @@ implements	ReflectionCI
 				});
 	}
 
+	// -------------------------------------------------------------------------
+	// Executor services metrics
+	// -------------------------------------------------------------------------
+
+	/**
+	 * @see fr.sorbonne_u.components.reflection.interfaces.IntrospectionCI#getExecutorServicesMetrics()
+	 */
+	@Override
+	public ExecutorServiceMetrics[]	getExecutorServicesMetrics()
+	throws Exception
+	{
+		// the metrics are read without locking, so they are read directly
+		// rather than through a request that would wait behind the very
+		// tasks which queueing delays are being observed
+		return this.getOwner().getExecutorServicesMetrics();
+	}
+
 	// -------------------------------------------------------------------------
 	// Reflection facility
 	// -------------------------------------------------------------------------
@@ -909,7 +927,7 @@ implements	ReflectionCI
 	@Override
 	public String		getComponentDefinitionClassName() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<String>() {
 						@Override
 						public String call() throws Exception {
@@ -925,7 +943,7 @@ implements	ReflectionCI
 	@Override
 	public Annotation[]	getComponentAnnotations() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<Annotation[]>() {
 						@Override
 						public Annotation[] call() throws Exception {
@@ -941,7 +959,7 @@ implements	ReflectionCI
 	@Override
 	public ClassLoader	getComponentLoader() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<ClassLoader>() {
 						@Override
 						public ClassLoader call() throws Exception {
@@ -958,7 +976,7 @@ implements	ReflectionCI
 	public ServiceSignature[]	getComponentServiceSignatures()
 	throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<ServiceSignature[]>() {
 						@Override
 						public ServiceSignature[] call() throws Exception {
@@ -975,7 +993,7 @@ implements	ReflectionCI
 	public ConstructorSignature[]	getComponentConstructorSignatures()
 	throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<ConstructorSignature[]>() {
 						@Override
 						public ConstructorSignature[] call() throws Exception {
@@ -992,7 +1010,7 @@ implements	ReflectionCI
 	public Object		invokeService(String name, Object[] params)
 	throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<Object>() {
 						@Override
 						public Object call() throws Exception {
@@ -1009,7 +1027,7 @@ implements	ReflectionCI
 	public Object		invokeServiceSync(String name, Object[] params)
 	throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					new AbstractComponent.AbstractService<Object>() {
 						@Override
 						public Object call() throws Exception {
@@ -1026,7 +1044,7 @@ implements	ReflectionCI
 	public void			invokeServiceAsync(String name, Object[] params)
 	throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 			new AbstractComponent.AbstractService<Void>() {
 				@Override
 				public Void call() throws Exception {
@@ -1042,7 +1060,7 @@ implements	ReflectionCI
 	@Override
 	public void			execute() throws Exception
 	{
-		this.getOwner().runTask(
+		this.runTask(
 			new AbstractComponent.AbstractTask() {
 				@Override
 				public void run() {
@@ -1073,7 +1091,7 @@ implements	ReflectionCI
 					}
 				};
 		t.setComponentTask(task);
-		this.getOwner().runTask(task);
+		this.runTask(task);
 	}
 
 	/**
@@ -1096,7 +1114,7 @@ implements	ReflectionCI
 					}
 				};
 		t.setComponentTask(task);
-		this.getOwner().runTask(executorServiceURI, task);
+		this.runTask(executorServiceURI, task);
 	}
 
 	/**
@@ -1109,7 +1127,7 @@ implements	ReflectionCI
 		String code
 		) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 				new AbstractComponent.AbstractService<Void>() {
 					@Override
 					public Void call() throws Exception {
@@ -1130,7 +1148,7 @@ implements	ReflectionCI
 		String code
 		) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 				new AbstractComponent.AbstractService<Void>() {
 					@Override
 					public Void call() throws Exception {
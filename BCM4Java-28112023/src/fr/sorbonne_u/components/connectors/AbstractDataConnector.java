@@ -97,6 +97,31 @@ implements	DataConnectorI
 		return (DataRequiredCI.DataI) d;
 	}
 
+	/**
+	 * translate a batch of offered data to required ones by applying
+	 * <code>offered2required</code> to each of them.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code ds != null}
+	 * post	{@code return != null && return.length == ds.length}
+	 * </pre>
+	 *
+	 * @param ds	the batch of offered data.
+	 * @return		the corresponding batch of required data, in the same order.
+	 */
+	public DataRequiredCI.DataI[]	offered2required(DataOfferedCI.DataI[] ds)
+	{
+		assert	ds != null : new PreconditionException("ds != null");
+
+		DataRequiredCI.DataI[] ret = new DataRequiredCI.DataI[ds.length];
+		for (int i = 0 ; i < ds.length ; i++) {
+			ret[i] = this.offered2required(ds[i]);
+		}
+		return ret;
+	}
+
 	/**
 	 * connect data ports.
 	 * 
@@ -32,82 +32,141 @@ package fr.sorbonne_u.components.connectors;
 //
 // The fact that you are presently reading this means that you have had
 // knowledge of the CeCILL-C license and that you accept its terms.
-
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
-
+import java.util.ArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import fr.sorbonne_u.components.helpers.BoundedRingBuffer;
+import fr.sorbonne_u.components.helpers.BoundedRingBuffer.OverflowPolicy;
 import fr.sorbonne_u.components.interfaces.DataOfferedCI;
 import fr.sorbonne_u.components.interfaces.DataRequiredCI;
+import fr.sorbonne_u.exceptions.PreconditionException;
 
 // -----------------------------------------------------------------------------
 /**
- * The class <code>ActiveDataConnector</code> partially implements an
- * active connector that can be used to connect active components in a
- * synchronised way, on a mix of active and passive components using a full or
- * partial pull mode.
+ * The class <code>ActiveDataConnector</code> implements an active connector
+ * that decouples two components exchanging data, with a bounded buffer
+ * between them and periodic pull and push cycles done on behalf of the
+ * components.
  *
- * TODO: needs rethinking and redesign so to be used only when the two
- *       components use different push/pull mode so to connect them
- *       transparently.
- * 
  * <p><strong>Description</strong></p>
  * 
+ * <p>
  * As there are two possible mode for transmitting data, push and pull, the
  * connector establishes a two way connection between the two components,
  * implementing the offering <code>PushCI</code> interface with methods calling
  * the requiring <code>PushCI</code> and implementing the requiring
  * <code>PullCI</code> interface with methods calling the offering
  * <code>PullCI</code> one.
- * 
- * A fully active connector has two threads: one to actively push data to
- * the requiring component by calling its <code>receive</code> method, and
- * one to actively pull data from the offering component by calling its
- * <code>get</code> method.
- * 
- * The connector acts as a bounded buffer between the two components.  If
- * the requiring component actively pull data from the connector, then the
+ * </p>
+ * <p>
+ * A fully active connector has two periodic cycles: one to actively pull
+ * data from the offering component by calling its <code>get</code> method
+ * every <code>pullInterval</code> milliseconds and one to actively push data
+ * to the requiring component by calling its <code>receive</code> method
+ * every <code>pushInterval</code> milliseconds, each push cycle delivering
+ * up to <code>batchSize</code> data. The cycles of all of the active
+ * connectors are executed by one shared scheduled thread pool instead of
+ * threads owned by each connector, so that many sensor streams can be
+ * decoupled without a thread per link; a cycle never blocks a thread of this
+ * pool on the buffer: a pull cycle is skipped when the buffer is full and
+ * the overflow policy is <code>BLOCK</code>, and a push cycle with no data
+ * does nothing.
+ * </p>
+ * <p>
+ * The connector acts as a bounded lock-free buffer (see
+ * <code>BoundedRingBuffer</code>) between the two components. If the
+ * requiring component actively pull data from the connector, then the
  * connector can be configured as a passive pusher, while if the offering
  * component actively pushes data to the connector, then it can be configured
- * as a passive puller.
- * 
- * When the connector is configured as a passive pusher, then its implementation
- * of the <code>request</code> method can be used by the requiring component
- * to obtain new datum by accessing directly and synchronisely the buffer.
- * In the same way, when the connector is configured as a passive puller, then
- * its implementation of the <code>send</code> method can be used by the
- * offering component to push new datum by putting them into the buffer
- * in a synchronized way.
+ * as a passive puller. When the connector is configured as a passive pusher,
+ * its implementation of the <code>request</code> method can be used by the
+ * requiring component to obtain new datum by accessing directly the buffer,
+ * waiting if it is empty. In the same way, when the connector is configured
+ * as a passive puller, its implementation of the <code>send</code> method
+ * can be used by the offering component to push new datum by putting them
+ * into the buffer, the overflow policy deciding what happens when it is
+ * full: drop the oldest datum, drop the new one or wait for room.
+ * </p>
+ * <p>
+ * The cycles start with <code>start</code>, which must be called once the
+ * connector is connected, and end with <code>stop</code> or the
+ * disconnection; a stopped connector cannot be restarted. The exceptions
+ * thrown by the components during the cycles do not stop them; they are
+ * counted and the last one is kept.
+ * </p>
  * 
  * <p><strong>Invariant</strong></p>
  * 
  * <pre>
- * invariant	isActivePuller =&gt; dataPuller != null
- * 				isActivePusher =&gt; dataPusher != null
- * 										// TODO: to be completed...
+ * invariant	{@code buffer != null}
+ * invariant	{@code !isActivePuller || pullInterval > 0}
+ * invariant	{@code !isActivePusher || pushInterval > 0}
+ * invariant	{@code batchSize > 0}
  * </pre>
  * 
  * <p>Created on : 2011-11-02</p>
  * 
  * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
  */
-public abstract class	ActiveDataConnector
+public class			ActiveDataConnector
 extends		AbstractDataConnector
 {
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
 	protected static int		DEFAULT_CAPACITY = 1 ;
 	protected static boolean	DEFAULT_ACTIVE_PUSH_BEHAVIOR = true ;
 	protected static int		DEFAULT_PUSH_INTERVAL = 100 ;
 	protected static boolean	DEFAULT_ACTIVE_PULL_BEHAVIOR = true ;
 	protected static int		DEFAULT_PULL_INTERVAL = 100 ;
+	protected static OverflowPolicy	DEFAULT_OVERFLOW_POLICY =
+														OverflowPolicy.BLOCK ;
+	protected static int		DEFAULT_BATCH_SIZE = 1 ;
+
+	/** scheduled thread pool shared by the cycles of all of the active
+	 *  connectors, created on first use.									*/
+	protected static ScheduledExecutorService	SHARED_SCHEDULER ;
+
+	/** buffer between the offering and the requiring components.			*/
+	protected final BoundedRingBuffer<DataOfferedCI.DataI>	buffer ;
+	protected final boolean		isActivePuller ;
+	/** minimum interval between pulls in milliseconds.						*/
+	protected final int			pullInterval ;
+	protected final boolean		isActivePusher ;
+	/** minimum interval between pushes in milliseconds.					*/
+	protected final int			pushInterval ;
+	/** maximum number of data delivered by a push cycle.					*/
+	protected final int			batchSize ;
+	/** scheduled pull cycle, when started.									*/
+	protected ScheduledFuture<?>	pullCycle ;
+	/** scheduled push cycle, when started.									*/
+	protected ScheduledFuture<?>	pushCycle ;
+	protected volatile boolean	stillActive ;
+	/** number of exceptions thrown by the components during the cycles.	*/
+	protected final LongAdder	failures ;
+	/** last exception thrown by the components during the cycles.			*/
+	protected volatile Exception	lastFailure ;
 
-	protected BlockingQueue<DataOfferedCI.DataI>	bq ;
-	protected boolean			isActivePuller ;
-	protected Thread			dataPuller ;
-	protected int				pullInterval ;
-	protected boolean			isActivePusher ;
-	protected Thread			dataPusher ;
-	protected int				pushInterval ;
-	protected boolean			stillActive ;
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
 
+	/**
+	 * creates a new connector with the default configuration.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true			// no precondition.
+	 * post	true			// no postcondition.
+	 * </pre>
+	 */
 	public				ActiveDataConnector()
 	{
 		this(DEFAULT_CAPACITY) ;
@@ -121,11 +180,11 @@ extends		AbstractDataConnector
 	 * <p><strong>Contract</strong></p>
 	 * 
 	 * <pre>
-	 * pre	true			// no precondition.
+	 * pre	{@code bufferingCapacity > 0}
 	 * post	true			// no postcondition.
 	 * </pre>
 	 *
-	 * @param bufferingCapacity <i>todo.</i>
+	 * @param bufferingCapacity	capacity of the data buffer.
 	 */
 	public				ActiveDataConnector(
 		int		bufferingCapacity
@@ -137,12 +196,15 @@ extends		AbstractDataConnector
 	}
 
 	/**
-	 * creates a new active connector and fully configure it.
+	 * creates a new active connector with the default overflow policy
+	 * (<code>BLOCK</code>) and delivering one datum per push.
 	 * 
 	 * <p><strong>Contract</strong></p>
 	 * 
 	 * <pre>
-	 * pre	true			// no precondition.
+	 * pre	{@code bufferingCapacity > 0}
+	 * pre	{@code !isActivePuller || pullInterval > 0}
+	 * pre	{@code !isActivePusher || pushInterval > 0}
 	 * post	true			// no postcondition.
 	 * </pre>
 	 *
@@ -159,118 +221,323 @@ extends		AbstractDataConnector
 		boolean	isActivePusher,
 		int		pushInterval
 		)
+	{
+		this(bufferingCapacity, DEFAULT_OVERFLOW_POLICY,
+			 isActivePuller, pullInterval,
+			 isActivePusher, pushInterval, DEFAULT_BATCH_SIZE) ;
+	}
+
+	/**
+	 * creates a new active connector and fully configure it.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code bufferingCapacity > 0}
+	 * pre	{@code overflowPolicy != null}
+	 * pre	{@code !isActivePuller || pullInterval > 0}
+	 * pre	{@code !isActivePusher || pushInterval > 0}
+	 * pre	{@code batchSize > 0}
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @param bufferingCapacity	capacity of the data buffer.
+	 * @param overflowPolicy	policy applied when a datum is put into a full buffer.
+	 * @param isActivePuller	true if the connector must be an active puller.
+	 * @param pullInterval		minimum interval between pulls in milliseconds.
+	 * @param isActivePusher	true if the connector must e an active pusher.
+	 * @param pushInterval		minimum interval between pushes in milliseconds.
+	 * @param batchSize			maximum number of data delivered by a push cycle.
+	 */
+	public				ActiveDataConnector(
+		int				bufferingCapacity,
+		OverflowPolicy	overflowPolicy,
+		boolean			isActivePuller,
+		int				pullInterval,
+		boolean			isActivePusher,
+		int				pushInterval,
+		int				batchSize
+		)
 	{
 		super() ;
-		this.bq = new ArrayBlockingQueue<DataOfferedCI.DataI>(
-														bufferingCapacity) ;
+
+		assert	bufferingCapacity > 0 :
+					new PreconditionException("bufferingCapacity > 0");
+		assert	overflowPolicy != null :
+					new PreconditionException("overflowPolicy != null");
+		assert	!isActivePuller || pullInterval > 0 :
+					new PreconditionException(
+								"!isActivePuller || pullInterval > 0");
+		assert	!isActivePusher || pushInterval > 0 :
+					new PreconditionException(
+								"!isActivePusher || pushInterval > 0");
+		assert	batchSize > 0 : new PreconditionException("batchSize > 0");
+
+		this.buffer =
+			new BoundedRingBuffer<DataOfferedCI.DataI>(bufferingCapacity,
+													   overflowPolicy) ;
 		this.isActivePuller = isActivePuller ;
+		this.pullInterval = pullInterval ;
 		this.isActivePusher = isActivePusher ;
-		if (isActivePuller) {
-			this.pullInterval = pullInterval ;
-			this.dataPuller = this.createPullerThread() ;
-		}
-		if (isActivePusher) {
-			this.pushInterval = pushInterval ;
-			this.dataPusher = this.createPusherThread() ;
-		}
+		this.pushInterval = pushInterval ;
+		this.batchSize = batchSize ;
+		this.stillActive = false ;
+		this.failures = new LongAdder() ;
+		this.lastFailure = null ;
 	}
 
+	// -------------------------------------------------------------------------
+	// Shared scheduler
+	// -------------------------------------------------------------------------
+
 	/**
-	 * creates a pusher thread that calls the requiring component to
-	 * receive a datum when a new one is available in the data buffer, blocking
-	 * if the buffer is empty.  A new datum is pushed each
-	 * <code>pushInterval</code> milliseconds, unless the data buffer is empty
-	 * and then the pushing is delayed until a new datum becomes available in
-	 * the data buffer.
+	 * return the scheduled thread pool shared by the cycles of all of the
+	 * active connectors, creating it with as many daemon threads as
+	 * processors (at least two) if none has been set.
 	 * 
 	 * <p><strong>Contract</strong></p>
 	 * 
 	 * <pre>
 	 * pre	true			// no precondition.
-	 * post	true			// no postcondition.
+	 * post	{@code return != null}
 	 * </pre>
 	 *
-	 * @return		a pushing thread.
+	 * @return	the scheduled thread pool shared by the active connectors.
 	 */
-	protected Thread	createPusherThread() {
-//		final ActiveDataConnector self = this ;
-		return new Thread() {
-			public void run() {
-//				while (self.stillActive) {
-//					DataRequiredCI.DataI d = self.request() ;
-//					self.requiring.receive(d) ;
-//					try {
-//						Thread.sleep(pushInterval) ;
-//					} catch (InterruptedException e) {
-//						e.printStackTrace();
-//					}
-//				}
-			}
-		};
+	public static synchronized ScheduledExecutorService	getSharedScheduler()
+	{
+		if (SHARED_SCHEDULER == null) {
+			AtomicInteger count = new AtomicInteger(0) ;
+			ThreadFactory tf = r -> {
+					Thread t = new Thread(r, "ActiveDataConnector-" +
+												count.incrementAndGet()) ;
+					t.setDaemon(true) ;
+					return t ;
+				} ;
+			ScheduledThreadPoolExecutor stpe =
+				new ScheduledThreadPoolExecutor(
+						Math.max(2, Runtime.getRuntime().availableProcessors()),
+						tf) ;
+			stpe.setRemoveOnCancelPolicy(true) ;
+			SHARED_SCHEDULER = stpe ;
+		}
+		return SHARED_SCHEDULER ;
 	}
 
 	/**
-	 * creates a puller thread that repeatedly calls the offering component to
-	 * get a new datum that is then put into the data buffer, blocking if it
-	 * is full.  A new datum is pulled each <code>pullInterval</code>
-	 * milliseconds, unless the data buffer is full and then the pulling is
-	 * delayed until space becomes available in the data buffer.
+	 * set the scheduled thread pool used by the active connectors started
+	 * from now on, for example to size it for connectors which components
+	 * take long to answer.
 	 * 
 	 * <p><strong>Contract</strong></p>
 	 * 
 	 * <pre>
-	 * pre	true			// no precondition.
-	 * post	true			// no postcondition.
+	 * pre	{@code scheduler != null}
+	 * post	{@code getSharedScheduler() == scheduler}
 	 * </pre>
 	 *
-	 * @return		a puller thread.
+	 * @param scheduler	the scheduled thread pool to be shared.
 	 */
-	protected Thread	createPullerThread() {
-		final ActiveDataConnector self = this ;
-		return new Thread(){
-			public void run() {
-				while (self.stillActive) {
-//					OI.DataI d = self.offering.get() ;
-//					self.send(d) ;
-					try {
-						Thread.sleep(pullInterval) ;
-					} catch (InterruptedException e) {
-						e.printStackTrace();
-					}
-				}
-			}
-		};
+	public static synchronized void	setSharedScheduler(
+		ScheduledExecutorService scheduler
+		)
+	{
+		assert	scheduler != null :
+					new PreconditionException("scheduler != null");
+
+		SHARED_SCHEDULER = scheduler ;
 	}
 
+	// -------------------------------------------------------------------------
+	// Life-cycle
+	// -------------------------------------------------------------------------
+
 	/**
-	 * starts the data pushing and data pulling threads depending on the
+	 * starts the data pushing and data pulling cycles depending on the
 	 * configuration of the connector.
 	 * 
 	 * <p><strong>Contract</strong></p>
 	 * 
 	 * <pre>
-	 * pre	true			// no precondition.
-	 * post	true			// no postcondition.
+	 * pre	{@code offering != null && requiring != null}
+	 * pre	{@code !isActive() && !buffer.isClosed()}
+	 * post	{@code isActive()}
 	 * </pre>
-	 *
 	 */
-	public void			start() {
+	public synchronized void	start()
+	{
+		assert	this.offering != null && this.requiring != null :
+					new PreconditionException(
+								"offering != null && requiring != null");
+		assert	!this.stillActive && !this.buffer.isClosed() :
+					new PreconditionException(
+									"!isActive() && !buffer.isClosed()");
+
 		this.stillActive = true ;
+		ScheduledExecutorService s = getSharedScheduler() ;
 		if (this.isActivePuller) {
-			this.dataPuller.start() ;
+			this.pullCycle =
+				s.scheduleWithFixedDelay(this::pullCycle,
+										 0, this.pullInterval,
+										 TimeUnit.MILLISECONDS) ;
 		}
 		if (this.isActivePusher) {
-			this.dataPusher.start() ;
+			this.pushCycle =
+				s.scheduleWithFixedDelay(this::pushCycle,
+										 this.pushInterval, this.pushInterval,
+										 TimeUnit.MILLISECONDS) ;
 		}
 	}
 
-	public void			stop() {
+	/**
+	 * stops the cycles and closes the buffer, waking up the threads waiting
+	 * on it; the data still in the buffer can be requested.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true			// no precondition.
+	 * post	{@code !isActive()}
+	 * </pre>
+	 */
+	public synchronized void	stop()
+	{
 		this.stillActive = false ;
+		if (this.pullCycle != null) {
+			this.pullCycle.cancel(false) ;
+			this.pullCycle = null ;
+		}
+		if (this.pushCycle != null) {
+			this.pushCycle.cancel(false) ;
+			this.pushCycle = null ;
+		}
+		this.buffer.close() ;
+	}
+
+	/**
+	 * return true if the cycles have been started and not stopped.
+	 * 
+	 * @return	true if the cycles have been started and not stopped.
+	 */
+	public boolean		isActive()
+	{
+		return this.stillActive ;
 	}
 
+	/**
+	 * @see fr.sorbonne_u.components.connectors.AbstractConnector#disconnect()
+	 */
+	@Override
+	public void			disconnect() throws Exception
+	{
+		this.stop() ;
+		super.disconnect() ;
+	}
+
+	// -------------------------------------------------------------------------
+	// Cycles
+	// -------------------------------------------------------------------------
+
+	/**
+	 * pulls a datum from the offering component and puts it into the data
+	 * buffer; the cycle is skipped when the buffer is full and the overflow
+	 * policy is <code>BLOCK</code>, as the datum could not be put without
+	 * blocking a thread of the shared scheduler.
+	 */
+	protected void		pullCycle()
+	{
+		if (!this.stillActive ||
+				(this.buffer.getOverflowPolicy() == OverflowPolicy.BLOCK &&
+												this.buffer.isFull())) {
+			return ;
+		}
+		try {
+			DataOfferedCI.DataI d =
+						((DataOfferedCI.PullCI) this.offering).get() ;
+			if (d != null && !this.buffer.offer(d) &&
+					this.buffer.getOverflowPolicy() != OverflowPolicy.BLOCK) {
+				this.buffer.add(d) ;
+			}
+		} catch (Exception e) {
+			this.failed(e) ;
+		}
+	}
+
+	/**
+	 * pushes to the requiring component up to <code>batchSize</code> data
+	 * taken from the data buffer, if any, in one call.
+	 */
+	protected void		pushCycle()
+	{
+		if (!this.stillActive || this.buffer.isEmpty()) {
+			return ;
+		}
+		ArrayList<DataOfferedCI.DataI> batch =
+						new ArrayList<DataOfferedCI.DataI>(this.batchSize) ;
+		this.buffer.drainTo(batch, this.batchSize) ;
+		try {
+			DataRequiredCI.PushCI r = (DataRequiredCI.PushCI) this.requiring ;
+			if (batch.size() == 1) {
+				r.receive(this.offered2required(batch.get(0))) ;
+			} else if (batch.size() > 1) {
+				r.receive(this.offered2required(
+						batch.toArray(new DataOfferedCI.DataI[batch.size()]))) ;
+			}
+		} catch (Exception e) {
+			this.failed(e) ;
+		}
+	}
+
+	/**
+	 * record an exception thrown by a component during a cycle.
+	 * 
+	 * @param e	the exception.
+	 */
+	protected void		failed(Exception e)
+	{
+		this.failures.increment() ;
+		this.lastFailure = e ;
+	}
+
+	/**
+	 * return the number of exceptions thrown by the components during the
+	 * cycles.
+	 * 
+	 * @return	the number of exceptions thrown during the cycles.
+	 */
+	public long			getFailureCount()
+	{
+		return this.failures.sum() ;
+	}
+
+	/**
+	 * return the last exception thrown by the components during the cycles,
+	 * or null if none.
+	 * 
+	 * @return	the last exception thrown during the cycles, or null.
+	 */
+	public Exception	getLastFailure()
+	{
+		return this.lastFailure ;
+	}
+
+	/**
+	 * return the number of data dropped by the overflow policy.
+	 * 
+	 * @return	the number of data dropped by the overflow policy.
+	 */
+	public long			getDroppedCount()
+	{
+		return this.buffer.getDroppedCount() ;
+	}
+
+	// -------------------------------------------------------------------------
+	// Passive pull and push
+	// -------------------------------------------------------------------------
+
 	/**
 	 * implements the required pull interface by taking a value from the data
-	 * buffer if any, blocking if none.
+	 * buffer if any, waiting if none.
 	 * 
 	 * <p><strong>Contract</strong></p>
 	 * 
@@ -279,40 +546,96 @@ extends		AbstractDataConnector
 	 * post	true				// no more postconditions.
 	 * </pre>
 	 * 
+	 * @return				the oldest datum in the buffer, or null if the connector has been stopped and the buffer is empty.
+	 * @throws Exception	when the calling thread is interrupted.
 	 * @see fr.sorbonne_u.components.interfaces.DataRequiredCI.PullCI#request()
 	 */
 	@Override
-	public DataRequiredCI.DataI request() {
-		DataRequiredCI.DataI ret = null ;
-		try {
-			ret = this.offered2required(this.bq.take());
-		} catch (InterruptedException e) {
-			e.printStackTrace();
-		}
-		return ret ;
+	public DataRequiredCI.DataI	request() throws Exception
+	{
+		DataOfferedCI.DataI d = this.buffer.take() ;
+		return d == null ? null : this.offered2required(d) ;
 	}
 
 	/**
 	 * implements the offered push interface by putting a value into the data
-	 * buffer, blocking if the buffer is full.
+	 * buffer, applying the overflow policy if the buffer is full.
 	 * 
 	 * <p><strong>Contract</strong></p>
 	 * 
 	 * <pre>
-	 * pre	true				// no more preconditions.
+	 * pre	{@code d != null}
 	 * post	true				// no more postconditions.
 	 * </pre>
 	 * 
+	 * @param d				datum to be sent.
+	 * @throws Exception	when the calling thread is interrupted.
 	 * @see fr.sorbonne_u.components.interfaces.DataOfferedCI.PushCI#send(fr.sorbonne_u.components.interfaces.DataOfferedCI.DataI)
 	 */
 	@Override
-	public void send(DataOfferedCI.DataI d) {
-		try {
-			this.bq.put(d) ;
-		} catch (InterruptedException e) {
-			e.printStackTrace();
+	public void			send(DataOfferedCI.DataI d) throws Exception
+	{
+		assert	d != null : new PreconditionException("d != null") ;
+
+		this.buffer.add(d) ;
+	}
+
+	/**
+	 * implements the required batch pull interface by taking at most
+	 * <code>n</code> values from the data buffer, waiting for the first one
+	 * if the buffer is empty.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code n > 0}
+	 * post	{@code return != null && return.length <= n}
+	 * </pre>
+	 * 
+	 * @return				the oldest data in the buffer, empty if the connector has been stopped and the buffer is empty.
+	 * @throws Exception	when the calling thread is interrupted.
+	 * @see fr.sorbonne_u.components.interfaces.DataRequiredCI.PullCI#request(int)
+	 */
+	@Override
+	public DataRequiredCI.DataI[]	request(int n) throws Exception
+	{
+		assert	n > 0 : new PreconditionException("n > 0") ;
+
+		DataOfferedCI.DataI first = this.buffer.take() ;
+		if (first == null) {
+			return new DataRequiredCI.DataI[0] ;
 		}
+		ArrayList<DataOfferedCI.DataI> batch =
+								new ArrayList<DataOfferedCI.DataI>(n) ;
+		batch.add(first) ;
+		this.buffer.drainTo(batch, n - 1) ;
+		return this.offered2required(
+						batch.toArray(new DataOfferedCI.DataI[batch.size()])) ;
 	}
 
+	/**
+	 * implements the offered batch push interface by putting the values into
+	 * the data buffer in order, applying the overflow policy to each.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code data != null}
+	 * post	true				// no more postconditions.
+	 * </pre>
+	 * 
+	 * @param data			data to be sent.
+	 * @throws Exception	when the calling thread is interrupted.
+	 * @see fr.sorbonne_u.components.interfaces.DataOfferedCI.PushCI#send(fr.sorbonne_u.components.interfaces.DataOfferedCI.DataI[])
+	 */
+	@Override
+	public void			send(DataOfferedCI.DataI[] data) throws Exception
+	{
+		assert	data != null : new PreconditionException("data != null") ;
+
+		for (int i = 0 ; i < data.length ; i++) {
+			this.buffer.add(data[i]) ;
+		}
+	}
 }
 // -----------------------------------------------------------------------------
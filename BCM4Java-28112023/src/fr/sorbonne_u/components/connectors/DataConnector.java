@@ -131,5 +131,57 @@ extends		AbstractDataConnector
 		((DataRequiredCI.PushCI) this.requiring).receive(
 													this.offered2required(d)) ;
 	}
+
+	/**
+	 * pass the request for a batch of at most <code>n</code> data from the
+	 * requiring component to the offering component in one call.
+	 *
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code connected()}
+	 * pre	{@code n > 0}
+	 * post	{@code return != null && return.length <= n}
+	 * </pre>
+	 * 
+	 * @throws Exception  <i>to do</i>.
+	 * @see fr.sorbonne_u.components.interfaces.DataRequiredCI.PullCI#request(int)
+	 */
+	@Override
+	public DataRequiredCI.DataI[]	request(int n)
+	throws	Exception
+	{
+		assert	this.connected() : new PreconditionException("connected()");
+		assert	n > 0 : new PreconditionException("n > 0");
+
+		return this.offered2required(((DataOfferedCI.PullCI)
+												this.offering).get(n)) ;
+	}
+
+	/**
+	 * push the batch of data sent by the offering component to the requiring
+	 * one in one call.
+	 *
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code connected()}
+	 * pre	{@code data != null}
+	 * post	true		// no postcondition.
+	 * </pre>
+	 * 
+	 * @throws Exception  <i>to do</i>.
+	 * @see fr.sorbonne_u.components.interfaces.DataOfferedCI.PushCI#send(fr.sorbonne_u.components.interfaces.DataOfferedCI.DataI[])
+	 */
+	@Override
+	public void			send(DataOfferedCI.DataI[] data)
+	throws	Exception
+	{
+		assert	this.connected() : new PreconditionException("connected()");
+		assert	data != null : new PreconditionException("data != null");
+
+		((DataRequiredCI.PushCI) this.requiring).receive(
+												this.offered2required(data)) ;
+	}
 }
 // -----------------------------------------------------------------------------
@@ -33,8 +33,20 @@ package fr.sorbonne_u.components.cvm;
 // The fact that you are presently reading this means that you have had
 // knowledge of the CeCILL-C license and that you accept its terms.
 
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.HashSet;
 import fr.sorbonne_u.components.AbstractComponent;
@@ -42,6 +54,7 @@ import fr.sorbonne_u.components.ComponentI;
 import fr.sorbonne_u.components.helpers.CVMDebugModes;
 import fr.sorbonne_u.components.helpers.CVMDebugModesI;
 import fr.sorbonne_u.components.helpers.Logger;
+import fr.sorbonne_u.components.ports.CallPipeline;
 import fr.sorbonne_u.components.ports.PortI;
 import fr.sorbonne_u.components.pre.dcc.DynamicComponentCreator;
 
@@ -71,6 +84,24 @@ import fr.sorbonne_u.components.pre.dcc.DynamicComponentCreator;
  * the local registry by calling the method <code>localPublishPort</code> and
  * it can be unpublished by calling the method <code>localUnpublishPort</code>.
  * 
+ * <p><strong>Parallel life cycle</strong></p>
+ * 
+ * By default, the components are started, finalised and shut down one at a
+ * time by the thread calling the corresponding methods of the CVM. When the
+ * life-cycle parallelism is set above 1 (see
+ * <code>setLifeCycleParallelism</code>), these phases are performed by as
+ * many threads. Start dependencies among components, declared by
+ * <code>addStartDependency</code> or derived from the port connections made
+ * by a <code>ParallelDeployer</code>, are then respected: a component is
+ * started only after the components it depends upon and finalised before
+ * them, independent components being processed concurrently. Components
+ * depending upon each other, directly or not, as when they are connected
+ * in both directions, form one start unit which components are processed
+ * one after the other, in no specified order, as in a sequential life
+ * cycle. The times
+ * spent by each component are accumulated in the deployment report returned
+ * by <code>getDeploymentReport</code>.
+ * 
  * <p><strong>Invariant</strong></p>
  * 
  * <pre>
@@ -367,6 +398,16 @@ implements	ComponentVirtualMachineI
 	public static boolean					isDistributed;
 	/** the logger used for debugging log entries.							*/
 	protected Logger						debugginLogger;
+	/** number of threads performing the start, finalisation and shutdown
+	 *  of the components; 1 means sequentially by the calling thread.		*/
+	protected int							lifeCycleParallelism = 1;
+	/** map from component URIs to the URIs of the components that must be
+	 *  started before them.												*/
+	protected final ConcurrentHashMap<String,Set<String>>	startDependencies =
+														new ConcurrentHashMap<>();
+	/** times spent by the components in their deployment and start-up.	*/
+	protected final DeploymentReport		deploymentReport =
+														new DeploymentReport();
 
 	// ------------------------------------------------------------------------
 	// Constructors
@@ -639,11 +680,20 @@ implements	ComponentVirtualMachineI
 	{
 		assert	this.deploymentDone();
 
-		for(ComponentI c : this.uri2component.values()) {
-			if (!c.isStarted()) {
-				c.start() ;	
-			}
-		}
+		long t0 = System.nanoTime();
+		this.performOnComponents(
+				LifeCycleOrdering.DEPENDENCIES_FIRST,
+				(uri, c) -> {
+					if (!c.isStarted()) {
+						long t = System.nanoTime();
+						c.start() ;
+						this.deploymentReport.record(
+									uri, DeploymentReport.Phase.START,
+									System.nanoTime() - t);
+					}
+				});
+		this.deploymentReport.recordElapsed(DeploymentReport.Phase.START,
+											System.nanoTime() - t0);
 		this.state = CVMState.START_DONE;
 
 		if (DEBUG_MODE.contains(CVMDebugModes.LIFE_CYCLE)) {
@@ -733,9 +783,8 @@ implements	ComponentVirtualMachineI
 	{
 		assert	this.allStarted();
 
-		for(ComponentI c : this.uri2component.values()) {
-			c.finalise();
-		}
+		this.performOnComponents(LifeCycleOrdering.DEPENDENTS_FIRST,
+								 (uri, c) -> c.finalise());
 
 		this.state = CVMState.FINALISE_DONE;
 
@@ -770,9 +819,9 @@ implements	ComponentVirtualMachineI
 	{
 		assert	this.allFinalised();
 
-		for(ComponentI c : this.uri2component.values()) {
-			c.shutdown();
-		}
+		this.performOnComponents(LifeCycleOrdering.NONE,
+								 (uri, c) -> c.shutdown());
+		CallPipeline.shutdownExecutors();
 
 		this.state = CVMState.SHUTDOWN;
 
@@ -811,6 +860,7 @@ implements	ComponentVirtualMachineI
 		for(ComponentI c : this.uri2component.values()) {
 			c.shutdownNow();
 		}
+		CallPipeline.shutdownExecutors();
 
 		this.state = CVMState.SHUTDOWN;
 
@@ -1016,6 +1066,377 @@ implements	ComponentVirtualMachineI
 		return false;
 	}
 
+	// ------------------------------------------------------------------------
+	// Parallel life cycle
+	// ------------------------------------------------------------------------
+
+	/**
+	 * The enumeration <code>LifeCycleOrdering</code> defines the orders in
+	 * which a life-cycle step can be performed on the components with regard
+	 * to their start dependencies.
+	 *
+	 * <p>Created on : 2026-10-19</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	protected static enum	LifeCycleOrdering
+	{
+		/** the step can be performed on all components in any order.		*/
+		NONE,
+		/** the step is performed on a component after the components it
+		 *  depends upon.													*/
+		DEPENDENCIES_FIRST,
+		/** the step is performed on a component after the components that
+		 *  depend upon it.													*/
+		DEPENDENTS_FIRST
+	}
+
+	/**
+	 * The interface <code>LifeCycleStep</code> declares a life-cycle step
+	 * performed on one deployed component.
+	 *
+	 * <p>Created on : 2026-10-19</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	@FunctionalInterface
+	protected static interface	LifeCycleStep
+	{
+		/**
+		 * perform the step on the component.
+		 *
+		 * @param componentURI	URI of the reflection inbound port of the component.
+		 * @param c				the component.
+		 * @throws Exception	<i>to do.</i>
+		 */
+		public void			perform(String componentURI, ComponentI c)
+		throws Exception;
+	}
+
+	/**
+	 * return the number of threads performing the start, finalisation and
+	 * shutdown of the components.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true			// no precondition.
+	 * post	{@code ret >= 1}
+	 * </pre>
+	 *
+	 * @return	the number of threads performing the life-cycle phases.
+	 */
+	public int			getLifeCycleParallelism()
+	{
+		return this.lifeCycleParallelism;
+	}
+
+	/**
+	 * set the number of threads performing the start, finalisation and
+	 * shutdown of the components, as well as their instantiations and
+	 * connections by a <code>ParallelDeployer</code>.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code parallelism >= 1}
+	 * post	{@code getLifeCycleParallelism() == parallelism}
+	 * </pre>
+	 *
+	 * @param parallelism	number of threads performing the life-cycle phases.
+	 */
+	public void			setLifeCycleParallelism(int parallelism)
+	{
+		assert	parallelism >= 1;
+
+		this.lifeCycleParallelism = parallelism;
+	}
+
+	/**
+	 * declare that the component <code>componentURI</code> must be started
+	 * after the component <code>requiredComponentURI</code> and finalised
+	 * before it; dependencies upon components not deployed on this CVM are
+	 * ignored.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code componentURI != null && requiredComponentURI != null}
+	 * pre	{@code !componentURI.equals(requiredComponentURI)}
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @param componentURI			URI of the reflection inbound port of the dependent component.
+	 * @param requiredComponentURI	URI of the reflection inbound port of the component depended upon.
+	 */
+	public void			addStartDependency(
+		String componentURI,
+		String requiredComponentURI
+		)
+	{
+		assert	componentURI != null && requiredComponentURI != null;
+		assert	!componentURI.equals(requiredComponentURI);
+
+		this.startDependencies.computeIfAbsent(
+					componentURI, u -> ConcurrentHashMap.newKeySet()).
+												add(requiredComponentURI);
+	}
+
+	/**
+	 * return the report of the times spent by the components in their
+	 * deployment and start-up.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true			// no precondition.
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @return	the report of the times spent in the deployment and start-up.
+	 */
+	public DeploymentReport	getDeploymentReport()
+	{
+		return this.deploymentReport;
+	}
+
+	/**
+	 * perform the step on all of the deployed components in the given order,
+	 * sequentially when the life-cycle parallelism is 1 and concurrently
+	 * otherwise; the components of a start unit are processed one after the
+	 * other by the same thread; when performed concurrently, the first
+	 * failure in the order is thrown after all of the steps that do not
+	 * depend upon failed ones have been performed.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code ordering != null && step != null}
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @param ordering		order in which the step must be performed.
+	 * @param step			step to be performed on each component.
+	 * @throws Exception	if a step failed.
+	 */
+	protected void		performOnComponents(
+		LifeCycleOrdering ordering,
+		LifeCycleStep step
+		) throws Exception
+	{
+		assert	ordering != null && step != null;
+
+		Map<String,Set<String>> predecessors =
+									this.lifeCyclePredecessors(ordering);
+		List<List<String>> units = AbstractCVM.startUnits(predecessors);
+		if (DEBUG_MODE.contains(CVMDebugModes.LIFE_CYCLE)) {
+			for (List<String> unit : units) {
+				if (unit.size() > 1) {
+					this.logDebug(CVMDebugModes.LIFE_CYCLE,
+								  "mutual start dependencies among " + unit
+								  + ", processed as one start unit.");
+				}
+			}
+		}
+
+		if (this.lifeCycleParallelism <= 1 || units.size() <= 1) {
+			for (List<String> unit : units) {
+				for (String uri : unit) {
+					step.perform(uri, this.uri2component.get(uri));
+				}
+			}
+			return;
+		}
+
+		Map<String,Integer> unitOf = new HashMap<>();
+		for (int i = 0 ; i < units.size() ; i++) {
+			for (String uri : units.get(i)) {
+				unitOf.put(uri, i);
+			}
+		}
+		ExecutorService es =
+			Executors.newFixedThreadPool(
+					Math.min(this.lifeCycleParallelism, units.size()),
+					r -> { Thread t = new Thread(r, "cvm-life-cycle");
+						   t.setDaemon(true);
+						   return t; });
+		try {
+			List<CompletableFuture<Void>> futures =
+											new ArrayList<>(units.size());
+			for (int i = 0 ; i < units.size() ; i++) {
+				final int current = i;
+				List<String> unit = units.get(i);
+				CompletableFuture<?>[] before =
+					unit.stream().
+						flatMap(uri -> predecessors.get(uri).stream()).
+						map(unitOf::get).filter(u -> u != current).distinct().
+						map(futures::get).toArray(CompletableFuture<?>[]::new);
+				futures.add(
+					CompletableFuture.allOf(before).thenRunAsync(
+						() -> {
+							for (String uri : unit) {
+								try {
+									step.perform(uri,
+												 this.uri2component.get(uri));
+								} catch (Exception e) {
+									throw new CompletionException(e);
+								}
+							}
+						},
+						es));
+			}
+			try {
+				CompletableFuture.allOf(futures.toArray(
+										new CompletableFuture<?>[0])).join();
+			} catch (CompletionException e) {
+				for (CompletableFuture<Void> f : futures) {
+					if (f.isCompletedExceptionally()) {
+						try {
+							f.join();
+						} catch (CompletionException ce) {
+							Throwable cause =
+									ce.getCause() != null ? ce.getCause() : ce;
+							if (cause instanceof Error) {
+								throw (Error) cause;
+							} else if (cause instanceof Exception) {
+								throw (Exception) cause;
+							}
+							throw ce;
+						}
+					}
+				}
+			}
+		} finally {
+			es.shutdown();
+		}
+	}
+
+	/**
+	 * return the map from the URIs of the deployed components to the URIs
+	 * of the deployed components on which the step must be performed before.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code ordering != null}
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @param ordering	order in which a step must be performed.
+	 * @return			the map from component URIs to their predecessors.
+	 */
+	protected Map<String,Set<String>>	lifeCyclePredecessors(
+		LifeCycleOrdering ordering
+		)
+	{
+		assert	ordering != null;
+
+		Map<String,Set<String>> ret = new HashMap<>();
+		for (String uri : this.uri2component.keySet()) {
+			ret.put(uri, new HashSet<>());
+		}
+		if (ordering != LifeCycleOrdering.NONE) {
+			for (Map.Entry<String,Set<String>> e :
+										this.startDependencies.entrySet()) {
+				for (String required : e.getValue()) {
+					if (ret.containsKey(e.getKey()) &&
+												ret.containsKey(required)) {
+						if (ordering == LifeCycleOrdering.DEPENDENCIES_FIRST) {
+							ret.get(e.getKey()).add(required);
+						} else {
+							ret.get(required).add(e.getKey());
+						}
+					}
+				}
+			}
+		}
+		return ret;
+	}
+
+	/**
+	 * return the start units of the keys of the map, which are its strongly
+	 * connected components for the predecessor relation, each unit coming
+	 * after the units containing the predecessors of its keys.
+	 * 
+	 * <p><strong>Description</strong></p>
+	 * 
+	 * <p>
+	 * Keys that are predecessors of each other, directly or not, form one
+	 * unit, so that mutual dependencies, for example between components
+	 * connected in both directions, do not prevent ordering the others.
+	 * The units are computed by the algorithm of Tarjan, which produces them
+	 * in this order when following the predecessor relation.
+	 * </p>
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code predecessors != null}
+	 * post	{@code ret.stream().mapToInt(List::size).sum() == predecessors.size()}
+	 * </pre>
+	 *
+	 * @param predecessors	map from keys to their predecessors, all being keys.
+	 * @return				the start units in a topological order.
+	 */
+	protected static List<List<String>>	startUnits(
+		Map<String,Set<String>> predecessors
+		)
+	{
+		assert	predecessors != null;
+
+		Map<String,Integer> index = new HashMap<>();
+		Map<String,Integer> lowLink = new HashMap<>();
+		Deque<String> stack = new ArrayDeque<>();
+		Set<String> onStack = new HashSet<>();
+		Deque<Map.Entry<String,Iterator<String>>> dfs = new ArrayDeque<>();
+		List<List<String>> ret = new ArrayList<>();
+		for (String root : predecessors.keySet()) {
+			if (index.containsKey(root)) {
+				continue;
+			}
+			String next = root;
+			while (next != null || !dfs.isEmpty()) {
+				if (next != null) {
+					// first visit of next.
+					index.put(next, index.size());
+					lowLink.put(next, index.get(next));
+					stack.push(next);
+					onStack.add(next);
+					dfs.push(new AbstractMap.SimpleEntry<>(
+								next, predecessors.get(next).iterator()));
+					next = null;
+				}
+				String v = dfs.peek().getKey();
+				Iterator<String> it = dfs.peek().getValue();
+				if (it.hasNext()) {
+					String w = it.next();
+					if (!index.containsKey(w)) {
+						next = w;
+					} else if (onStack.contains(w)) {
+						lowLink.put(v, Math.min(lowLink.get(v), index.get(w)));
+					}
+				} else {
+					dfs.pop();
+					if (!dfs.isEmpty()) {
+						String u = dfs.peek().getKey();
+						lowLink.put(u, Math.min(lowLink.get(u), lowLink.get(v)));
+					}
+					if (lowLink.get(v).equals(index.get(v))) {
+						List<String> unit = new ArrayList<>();
+						String w;
+						do {
+							w = stack.pop();
+							onStack.remove(w);
+							unit.add(0, w);
+						} while (!w.equals(v));
+						ret.add(unit);
+					}
+				}
+			}
+		}
+		return ret;
+	}
+
 	// ------------------------------------------------------------------------
 	// Component management
 	// ------------------------------------------------------------------------
@@ -41,11 +41,15 @@ import java.rmi.Remote;
 import java.rmi.RemoteException;
 import java.rmi.registry.LocateRegistry;
 import java.rmi.registry.Registry;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import fr.sorbonne_u.components.AbstractComponent;
 import fr.sorbonne_u.components.cvm.config.ConfigurationFileParser;
 import fr.sorbonne_u.components.cvm.config.ConfigurationParameters;
 import fr.sorbonne_u.components.cvm.config.exceptions.ConfigurationException;
+import fr.sorbonne_u.components.cvm.transport.NIOTransport;
 import fr.sorbonne_u.components.cvm.utils.DCVMCyclicBarrierClient;
 import fr.sorbonne_u.components.helpers.CVMDebugModes;
 import fr.sorbonne_u.components.helpers.Logger;
@@ -55,8 +59,7 @@ import fr.sorbonne_u.components.registry.ConnectionData;
 import fr.sorbonne_u.components.registry.ConnectionType;
 import fr.sorbonne_u.components.registry.GlobalRegistry;
 import fr.sorbonne_u.components.registry.GlobalRegistryClient;
-import fr.sorbonne_u.components.registry.protocol.LookupResponse;
-import fr.sorbonne_u.components.registry.protocol.Response;
+import fr.sorbonne_u.components.registry.exceptions.GlobalRegistryResponseException;
 
 // -----------------------------------------------------------------------------
 /**
@@ -97,6 +100,9 @@ import fr.sorbonne_u.components.registry.protocol.Response;
  *   cyclicBarrier,         # configuration of the cyclic barrier
  *   globalRegistry,        # configuration of the global registry
  *   rmiRegistryPort,       # configuration of the RMI registry
+ *   transport?,            # transport used for inter-JVM calls, RMI if absent
+ *   executors?,            # executor services of the components, standard if absent
+ *   tracers?,              # tracers of the components, windows if absent
  *   jvms2hostnames         # mapping from JVM to hosts running them
  * }
  * codebase = element codebase {
@@ -121,6 +127,27 @@ import fr.sorbonne_u.components.registry.protocol.Response;
  * rmiRegistryPort = element rmiRegistryPort {
  *   attribute no        { xsd:int }  # port number listen by the RMI registry
  * }
+ * transport = element transport {
+ *   attribute type { "rmi" | "socket" },
+ *   empty
+ * }
+ * executors = element executors {
+ *                                 # kind of the standard request handler pools
+ *   attribute type { "standard" | "workStealing" | "virtualThreads" | "shared" },
+ *   attribute sharedThreads { xsd:int }?, # size of the shared pool, default is
+ *                                         # the number of processors
+ *   empty
+ * }
+ * tracers = element tracers {
+ *                                 # kind of tracers of the components
+ *   attribute type { "window" | "console" | "files" | "binary" },
+ *   attribute directory { text }?,        # directory of the trace files,
+ *                                         # default is "."
+ *   attribute samplingRate { xsd:double }?, # probability to keep a message
+ *   attribute maxRate { xsd:int }?,       # maximum messages per second and
+ *                                         # per component, default unlimited
+ *   empty
+ * }
  * jvms2hostnames = element jvms2hostnames { jvm2hostname+ }
  * jvm2hostname = element jvm2hostname {
  *   attribute jvmuri { xsd:anyURI },      # JVM URI
@@ -128,7 +155,8 @@ import fr.sorbonne_u.components.registry.protocol.Response;
  *   attribute rmiRegistryCreator { xsd:boolean },
  *   attribute hostname { text }           # name of the host running that JVM
  *   attribute mainclass { text },		# canonical class name of the main class
- *   attribute reflective { xsd:boolean }?
+ *   attribute reflective { xsd:boolean }?,
+ *   attribute transportPort { xsd:int }?  # port of the socket transport
  * }
  * </pre>
  * <p>
@@ -149,6 +177,30 @@ import fr.sorbonne_u.components.registry.protocol.Response;
  * mean for synchronisation to this end.
  * </p>
  * <p>
+ * When the configuration file selects the <code>socket</code> transport, the
+ * ports are still published in the RMI registry of the host, but the global
+ * registry records for them the host and port number of the
+ * <code>NIOTransport</code> of their JVM; remote references are then stubs
+ * calling the ports through multiplexed non-blocking socket channels rather
+ * than RMI stubs.
+ * </p>
+ * <p>
+ * When the configuration file has an <code>executors</code> element, the
+ * DCVM sets the corresponding factory as the default executor service factory
+ * of the components (see
+ * <code>AbstractComponent.setDefaultExecutorServiceFactory</code>), which is
+ * then used for the standard request handler of all the components created in
+ * the JVM without an explicit factory.
+ * </p>
+ * <p>
+ * Similarly, when the configuration file has a <code>tracers</code> element,
+ * the DCVM sets the corresponding factory as the default tracer factory of
+ * the components (see <code>AbstractComponent.setDefaultTracerFactory</code>).
+ * The kinds <code>files</code> and <code>binary</code> select headless
+ * tracers for batch deployments, writing asynchronously one text file per
+ * component or one binary file per JVM named after the URI of the JVM.
+ * </p>
+ * <p>
  * Starting a component-based application entails:
  * </p>
  * <ol>
@@ -192,6 +244,10 @@ implements	DistributedComponentVirtualMachineI
 	protected static int				rmiRegistryPort;
 	/**	reference to the RMI registry.										*/
 	protected static Registry			theRMIRegistry;
+	/** transport used for the calls between JVM.							*/
+	protected static ConnectionType		transportType = ConnectionType.RMI;
+	/** socket transport of this JVM, or null if RMI is used.				*/
+	protected static NIOTransport		theTransport;
 
 	// -------------------------------------------------------------------------
 	// Accessing the current component virtual machine
@@ -223,6 +279,160 @@ implements	DistributedComponentVirtualMachineI
 	protected final static GlobalRegistryClient	GLOBAL_REGISTRY_CLIENT =
 													new GlobalRegistryClient();
 
+	/**
+	 * The class <code>CachedReference</code> holds a remote reference with
+	 * the connection data from which it has been resolved.
+	 *
+	 * <p>Created on : 2026-10-19</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	protected static class	CachedReference
+	{
+		/** connection data of the port found in the global registry.		*/
+		protected final ConnectionData	connectionData;
+		/** remote reference resolved from <code>connectionData</code>.	*/
+		protected final Remote			reference;
+
+		public			CachedReference(
+			ConnectionData connectionData,
+			Remote reference
+			)
+		{
+			this.connectionData = connectionData;
+			this.reference = reference;
+		}
+	}
+
+	/** remote references already resolved, by port URI; an entry is used
+	 *  only while the global registry client gives the same lookup result
+	 *  and it is dropped when the registry invalidates the port.			*/
+	protected final static ConcurrentHashMap<String,CachedReference>
+							REMOTE_REFERENCES =
+								new ConcurrentHashMap<String,CachedReference>();
+	/** URI of the ports which publication in the global registry is
+	 *  deferred to be done in one request, or null when the ports are
+	 *  published at once; accessed under the class lock.					*/
+	protected static List<String>		deferredPublications;
+
+	/**
+	 * return the connection data under which the ports of this JVM are
+	 * published in the global registry.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @return				the connection data of the ports of this JVM.
+	 * @throws Exception	<i>todo</i>.
+	 */
+	protected static ConnectionData	localConnectionData() throws Exception
+	{
+		if (AbstractDistributedCVM.transportType == ConnectionType.SOCKET) {
+			return new ConnectionData(
+							ConnectionType.SOCKET,
+							AbstractCVM.getHostname(),
+							AbstractDistributedCVM.theTransport.getLocalPort());
+		} else {
+			return new ConnectionData(
+							ConnectionType.RMI,
+							AbstractCVM.getHostname(),
+							AbstractDistributedCVM.rmiRegistryPort);
+		}
+	}
+
+	/**
+	 * defer the publication of the ports in the global registry until the
+	 * next call to <code>publishDeferredPorts</code>, so that the ports
+	 * published by the components created in between are sent to the
+	 * registry in one request instead of one round trip each.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 */
+	public static synchronized void	deferGlobalPublications()
+	{
+		if (AbstractDistributedCVM.deferredPublications == null) {
+			AbstractDistributedCVM.deferredPublications =
+													new ArrayList<String>();
+		}
+	}
+
+	/**
+	 * publish in the global registry, in one request, the ports which
+	 * publication has been deferred since the call to
+	 * <code>deferGlobalPublications</code> and publish the next ports at
+	 * once.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @throws Exception	when some ports could not be published.
+	 */
+	public static synchronized void	publishDeferredPorts() throws Exception
+	{
+		List<String> deferred = AbstractDistributedCVM.deferredPublications;
+		AbstractDistributedCVM.deferredPublications = null;
+		if (deferred != null && !deferred.isEmpty()) {
+			String[] portURIs = deferred.toArray(new String[deferred.size()]);
+			ConnectionData[] cds = new ConnectionData[portURIs.length];
+			ConnectionData cd = AbstractDistributedCVM.localConnectionData();
+			for (int i = 0 ; i < cds.length ; i++) {
+				cds[i] = cd;
+			}
+			if (AbstractCVM.DEBUG_MODE.contains(CVMDebugModes.PORTS)) {
+				AbstractCVM.getCVM().logDebug(CVMDebugModes.PORTS,
+						"publishDeferredPorts calls GlobalRegistry on " +
+						portURIs.length + " ports ...");
+			}
+			AbstractDistributedCVM.GLOBAL_REGISTRY_CLIENT.put(portURIs, cds);
+			if (AbstractCVM.DEBUG_MODE.contains(CVMDebugModes.PORTS)) {
+				AbstractCVM.getCVM().logDebug(CVMDebugModes.PORTS,
+															"... done");
+			}
+		}
+	}
+
+	/**
+	 * defer the global publication of a port if publications are deferred.
+	 * 
+	 * @param portURI	URI of the port to be published.
+	 * @return			true if the publication has been deferred.
+	 */
+	protected static synchronized boolean	deferPublication(String portURI)
+	{
+		if (AbstractDistributedCVM.deferredPublications != null) {
+			AbstractDistributedCVM.deferredPublications.add(portURI);
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * cancel the deferred global publication of a port, if any.
+	 * 
+	 * @param portURI	URI of the port to be unpublished.
+	 * @return			true if the publication of the port was still deferred.
+	 */
+	protected static synchronized boolean	cancelDeferredPublication(
+		String portURI
+		)
+	{
+		return AbstractDistributedCVM.deferredPublications != null &&
+			   AbstractDistributedCVM.deferredPublications.remove(portURI);
+	}
+
 	/**
 	 * publish inbound ports (data inbound ports and two way ports) both
 	 * locally and globally, which includes the RMI registry and the global
@@ -271,21 +481,22 @@ implements	DistributedComponentVirtualMachineI
 			if (AbstractCVM.DEBUG_MODE.contains(CVMDebugModes.PORTS)) {
 				AbstractCVM.getCVM().logDebug(CVMDebugModes.PORTS,
 											 "... done");
-				AbstractCVM.getCVM().logDebug(CVMDebugModes.PORTS,
-						"publishPort calls GlobalRegistry on " +
-													portURI + " ...");
 			}
 
-			AbstractDistributedCVM.GLOBAL_REGISTRY_CLIENT.
-				put(portURI,
-					(new ConnectionData(
-						ConnectionType.RMI,
-						AbstractCVM.getHostname(),
-						AbstractDistributedCVM.rmiRegistryPort)).toString());
+			if (!AbstractDistributedCVM.deferPublication(portURI)) {
+				if (AbstractCVM.DEBUG_MODE.contains(CVMDebugModes.PORTS)) {
+					AbstractCVM.getCVM().logDebug(CVMDebugModes.PORTS,
+							"publishPort calls GlobalRegistry on " +
+														portURI + " ...");
+				}
 
-			if (AbstractCVM.DEBUG_MODE.contains(CVMDebugModes.PORTS)) {
-				AbstractCVM.getCVM().logDebug(CVMDebugModes.PORTS,
-															"... done");
+				AbstractDistributedCVM.GLOBAL_REGISTRY_CLIENT.put(
+						portURI, AbstractDistributedCVM.localConnectionData());
+
+				if (AbstractCVM.DEBUG_MODE.contains(CVMDebugModes.PORTS)) {
+					AbstractCVM.getCVM().logDebug(CVMDebugModes.PORTS,
+																"... done");
+				}
 			}
 		}
 
@@ -333,7 +544,9 @@ implements	DistributedComponentVirtualMachineI
 		if (AbstractCVM.isDistributed) {
 			assert	AbstractDistributedCVM.theRMIRegistry != null;
 			AbstractDistributedCVM.theRMIRegistry.unbind(portURI);
-			AbstractDistributedCVM.GLOBAL_REGISTRY_CLIENT.remove(portURI);
+			if (!AbstractDistributedCVM.cancelDeferredPublication(portURI)) {
+				AbstractDistributedCVM.GLOBAL_REGISTRY_CLIENT.remove(portURI);
+			}
 		}
 
 		//	LOCAL_REGISTRY.containsKey(port.getPortURI())
@@ -360,13 +573,110 @@ implements	DistributedComponentVirtualMachineI
 	{
 		assert	remoteURI != null;
 
+		Remote reference =
+			AbstractDistributedCVM.remoteReference(
+				remoteURI,
+				AbstractDistributedCVM.GLOBAL_REGISTRY_CLIENT.
+											lookupConnectionData(remoteURI));
+
+		if (AbstractCVM.DEBUG_MODE.contains(CVMDebugModes.PORTS) &&
+												AbstractCVM.isDistributed) {
+			AbstractCVM.getCVM().logDebug(CVMDebugModes.PORTS,
+					"called getRemoteReference(" + remoteURI +
+					") on the host " + AbstractCVM.getHostname()
+					+ " returning " + reference + ".");
+		}
+
+		return reference;
+	}
+
+	/**
+	 * find the remote references corresponding to several port URI, looking
+	 * up in one request to the global registry those which connection data
+	 * are not already known by this JVM.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code remoteURIs != null}
+	 * post	{@code return.length == remoteURIs.length}
+	 * </pre>
+	 *
+	 * @param remoteURIs	uris identifying the ports in the registry.
+	 * @return				references to the component ports, in the same order.
+	 * @throws Exception	when some port is not published or cannot be reached.
+	 */
+	public Remote[]		getRemoteReferences(String[] remoteURIs)
+	throws	Exception
+	{
+		assert	remoteURIs != null;
+
+		ConnectionData[] cds =
+			AbstractDistributedCVM.GLOBAL_REGISTRY_CLIENT.
+										lookupConnectionData(remoteURIs);
+		Remote[] references = new Remote[remoteURIs.length];
+		for (int i = 0 ; i < remoteURIs.length ; i++) {
+			if (cds[i] == null) {
+				throw new GlobalRegistryResponseException(
+											remoteURIs[i] + " not bound!");
+			}
+			references[i] =
+				AbstractDistributedCVM.remoteReference(remoteURIs[i], cds[i]);
+		}
+		return references;
+	}
+
+	/**
+	 * return the remote reference of a port given its connection data,
+	 * reusing the reference already resolved if the connection data has not
+	 * changed since.
+	 * 
+	 * @param remoteURI		uri identifying the port in the registry.
+	 * @param cd			connection data of the port.
+	 * @return				reference to the component port.
+	 * @throws Exception	<i>todo</i>.
+	 */
+	protected static Remote	remoteReference(
+		String remoteURI,
+		ConnectionData cd
+		) throws Exception
+	{
+		CachedReference cached =
+					AbstractDistributedCVM.REMOTE_REFERENCES.get(remoteURI);
+		if (cached != null && cached.connectionData.equals(cd)) {
+			return cached.reference;
+		}
+		Remote reference =
+			AbstractDistributedCVM.resolveRemoteReference(remoteURI, cd);
+		if (AbstractDistributedCVM.GLOBAL_REGISTRY_CLIENT.getCacheTTL() > 0) {
+			AbstractDistributedCVM.REMOTE_REFERENCES.put(
+								remoteURI, new CachedReference(cd, reference));
+		}
+		return reference;
+	}
+
+	/**
+	 * resolve the remote reference of a port from its connection data found
+	 * in the global registry.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code remoteURI != null && cd != null}
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param remoteURI		uri identifying the port in the registry.
+	 * @param cd			connection data of <code>remoteURI</code>.
+	 * @return				reference to the component port.
+	 * @throws Exception	<i>todo</i>.
+	 */
+	protected static Remote	resolveRemoteReference(
+		String remoteURI,
+		ConnectionData cd
+		) throws Exception
+	{
 		Remote reference = null;
-		String response =
-			AbstractDistributedCVM.GLOBAL_REGISTRY_CLIENT.lookup(remoteURI);
-		ConnectionData cd =
-			(ConnectionData)
-				((LookupResponse)Response.string2response(response)).
-																interpret();
 		if (cd.getType() == ConnectionType.RMI) {
 			try {
 				reference = Naming.lookup(
@@ -384,19 +694,131 @@ implements	DistributedComponentVirtualMachineI
 				throw e;
 			}
 		} else {
-			// cd.getType() == ConnectionType.SOCKET -- NOT YET TERMINATED
-			throw new Exception("not a RMI port!");
+			assert	cd.getType() == ConnectionType.SOCKET;
+			reference =
+				(Remote) AbstractDistributedCVM.getTransport().
+									lookup(cd.getHostname(), cd.getPort(),
+										   remoteURI);
 		}
+		return reference;
+	}
 
-		if (AbstractCVM.DEBUG_MODE.contains(CVMDebugModes.PORTS) &&
-												AbstractCVM.isDistributed) {
-			AbstractCVM.getCVM().logDebug(CVMDebugModes.PORTS,
-					"called getRemoteReference(" + remoteURI +
-					") on the host " + AbstractCVM.getHostname()
-					+ " returning " + reference + ".");
+	/**
+	 * fetch in one request to the global registry all of the ports published
+	 * by a JVM, so that the next calls to <code>getRemoteReference</code> for
+	 * these ports do not need a round trip to the registry, for example
+	 * before reconnecting many outbound ports to the components of this JVM.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code jvmURI != null}
+	 * post	{@code return >= 0}
+	 * </pre>
+	 *
+	 * @param jvmURI		URI of the JVM which ports must be fetched.
+	 * @return				the number of ports fetched.
+	 * @throws Exception	<i>todo</i>.
+	 */
+	public static int	prefetchRemoteReferences(String jvmURI)
+	throws	Exception
+	{
+		assert	jvmURI != null;
+
+		return AbstractDistributedCVM.GLOBAL_REGISTRY_CLIENT.prefetch(jvmURI);
+	}
+
+	/**
+	 * fetch all of the ports published by the other JVM of the distributed
+	 * component virtual machine, with requests sent together to the global
+	 * registry, so that the interconnection of the components does not need
+	 * one round trip to the registry per port.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code return >= 0}
+	 * </pre>
+	 *
+	 * @return				the number of ports fetched.
+	 * @throws Exception	<i>todo</i>.
+	 */
+	protected int		prefetchRemoteReferences() throws Exception
+	{
+		if (AbstractDistributedCVM.GLOBAL_REGISTRY_CLIENT.getCacheTTL() == 0) {
+			return 0;
+		}
+		List<String> others = new ArrayList<String>();
+		for (String jvmURI : this.configurationParameters.getJvmURIs()) {
+			if (!jvmURI.equals(AbstractCVM.getThisJVMURI())) {
+				others.add(jvmURI);
+			}
 		}
+		return AbstractDistributedCVM.GLOBAL_REGISTRY_CLIENT.prefetch(
+									others.toArray(new String[others.size()]));
+	}
 
-		return reference;
+	/**
+	 * return the socket transport of this JVM, creating a transport that
+	 * does not accept calls if this JVM uses RMI, to be able to call ports
+	 * published by JVM using the socket transport.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @return				the socket transport of this JVM.
+	 * @throws Exception	when the transport cannot be created.
+	 */
+	protected static synchronized NIOTransport	getTransport()
+	throws	Exception
+	{
+		if (AbstractDistributedCVM.theTransport == null) {
+			AbstractDistributedCVM.theTransport =
+				new NIOTransport(uri -> AbstractCVM.LOCAL_REGISTRY.get(uri));
+		}
+		return AbstractDistributedCVM.theTransport;
+	}
+
+	/**
+	 * return true if the calls between JVM go through the socket transport.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @return	true if the calls between JVM go through the socket transport.
+	 */
+	public static boolean	usesSocketTransport()
+	{
+		return AbstractDistributedCVM.transportType == ConnectionType.SOCKET;
+	}
+
+	/**
+	 * shut down the socket transport of this JVM if any.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @throws Exception	<i>to do</i>.
+	 */
+	protected static synchronized void	shutdownTransport() throws Exception
+	{
+		if (AbstractDistributedCVM.theTransport != null) {
+			AbstractDistributedCVM.theTransport.shutdown();
+			AbstractDistributedCVM.theTransport = null;
+		}
 	}
 
 	// -------------------------------------------------------------------------
@@ -477,14 +899,43 @@ implements	DistributedComponentVirtualMachineI
 					this.configurationParameters.getGlobalRegistryHostname();
 		GlobalRegistry.REGISTRY_PORT =
 					this.configurationParameters.getGlobalRegistryPort();
+		AbstractDistributedCVM.GLOBAL_REGISTRY_CLIENT.setOwnerURI(
+												AbstractCVM.getThisJVMURI());
+		AbstractDistributedCVM.GLOBAL_REGISTRY_CLIENT.addInvalidationListener(
+							uri -> AbstractDistributedCVM.REMOTE_REFERENCES.
+																remove(uri));
 		AbstractDistributedCVM.rmiRegistryCreators =
 					this.configurationParameters.getRmiRegistryCreators();
 		AbstractDistributedCVM.rmiRegistryHosts =
 					this.configurationParameters.getRmiRegistryHosts();
 		AbstractDistributedCVM.rmiRegistryPort =
 					this.configurationParameters.getRmiregistryPort();
+		AbstractDistributedCVM.transportType =
+					this.configurationParameters.getTransportType();
+		if (this.configurationParameters.getExecutorServicesKind() != null) {
+			AbstractComponent.setDefaultExecutorServiceFactory(
+				this.configurationParameters.getExecutorServicesKind().
+					createFactory(
+						this.configurationParameters.getNbSharedThreads()));
+		}
+		if (this.configurationParameters.getTracersKind() != null) {
+			AbstractComponent.setDefaultTracerFactory(
+				this.configurationParameters.getTracersKind().
+					createFactory(
+						this.configurationParameters.getTracesDirectory(),
+						AbstractCVM.getThisJVMURI(),
+						this.configurationParameters.getTracesSamplingRate(),
+						this.configurationParameters.getTracesMaxRate()));
+		}
 		this.state = CVMState.CREATED;
 
+		// socket transport creation, before any port publication
+		if (AbstractDistributedCVM.transportType == ConnectionType.SOCKET) {
+			AbstractDistributedCVM.getTransport().start(
+				this.configurationParameters.getTransportPort(
+												AbstractCVM.getThisJVMURI()));
+		}
+
 		// RMI registry creation
 		if (AbstractDistributedCVM.rmiRegistryCreators.contains(
 												AbstractCVM.getThisJVMURI())) {
@@ -533,11 +984,19 @@ implements	DistributedComponentVirtualMachineI
 		this.initialise();
 		this.waitOnCyclicBarrier();
 		// Instantiate the components and publish their ports on the
-		// different registry.
-		this.instantiateAndPublish();
+		// different registry, sending the publications to the global
+		// registry in one request.
+		AbstractDistributedCVM.deferGlobalPublications();
+		try {
+			this.instantiateAndPublish();
+		} finally {
+			AbstractDistributedCVM.publishDeferredPorts();
+		}
 		this.waitOnCyclicBarrier();
 		// Interconnect the components, lookup for their ports on the
-		// different registry.
+		// different registry, fetching them from the global registry at
+		// once.
+		this.prefetchRemoteReferences();
 		this.interconnect();
 		this.waitOnCyclicBarrier();
 		super.deploy();
@@ -754,6 +1213,7 @@ implements	DistributedComponentVirtualMachineI
 		this.waitOnCyclicBarrier();
 		this.cyclicBarrierClient.closeBarrier();
 		AbstractDistributedCVM.GLOBAL_REGISTRY_CLIENT.shutdown();
+		AbstractDistributedCVM.shutdownTransport();
 
 		assert	this.isShutdown();
 	}
@@ -771,6 +1231,7 @@ implements	DistributedComponentVirtualMachineI
 		this.waitOnCyclicBarrier();
 		this.cyclicBarrierClient.closeBarrier();
 		AbstractDistributedCVM.GLOBAL_REGISTRY_CLIENT.shutdown();
+		AbstractDistributedCVM.shutdownTransport();
 
 		assert	this.isShutdown();
 	}
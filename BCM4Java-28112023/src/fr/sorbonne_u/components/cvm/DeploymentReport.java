@@ -0,0 +1,300 @@
+package fr.sorbonne_u.components.cvm;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>DeploymentReport</code> accumulates the time spent by each
+ * component in the phases of its deployment and start-up, as well as the
+ * elapsed time of each phase for the whole CVM.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * When the phases are performed in parallel, the elapsed time of a phase is
+ * smaller than the sum of the times spent by the components in this phase;
+ * comparing them tells how much parallelism has been achieved, while the
+ * per-component breakdown tells which components dominate the start-up.
+ * Times are recorded in nanoseconds and printed in milliseconds. A report
+ * is thread-safe.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	true
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			DeploymentReport
+{
+	// -------------------------------------------------------------------------
+	// Inner types and classes
+	// -------------------------------------------------------------------------
+
+	/**
+	 * The enumeration <code>Phase</code> lists the timed phases of the
+	 * deployment and start-up of components.
+	 *
+	 * <p>Created on : 2026-10-19</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	public static enum	Phase
+	{
+		/** instantiation of the component, including the publication of
+		 *  its ports.														*/
+		INSTANTIATION,
+		/** connection of the outbound ports of the component.				*/
+		CONNECTION,
+		/** execution of the method <code>start</code> of the component.	*/
+		START
+	}
+
+	// -------------------------------------------------------------------------
+	// Variables
+	// -------------------------------------------------------------------------
+
+	/** map from component URIs to their times per phase in nanoseconds.	*/
+	protected final ConcurrentHashMap<String,AtomicLongArray>	timings ;
+	/** elapsed times of the phases for the whole CVM in nanoseconds.		*/
+	protected final AtomicLongArray								elapsed ;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create an empty report.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true			// no precondition.
+	 * post	{@code getComponentURIs().isEmpty()}
+	 * </pre>
+	 *
+	 */
+	public				DeploymentReport()
+	{
+		this.timings = new ConcurrentHashMap<>() ;
+		this.elapsed = new AtomicLongArray(Phase.values().length) ;
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * add the time spent by a component in a phase.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code componentURI != null && p != null}
+	 * pre	{@code nanos >= 0}
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @param componentURI	URI of the reflection inbound port of the component.
+	 * @param p				phase during which the time has been spent.
+	 * @param nanos			time spent in nanoseconds.
+	 */
+	public void			record(String componentURI, Phase p, long nanos)
+	{
+		assert	componentURI != null && p != null ;
+		assert	nanos >= 0 ;
+
+		this.timings.computeIfAbsent(
+					componentURI,
+					u -> new AtomicLongArray(Phase.values().length)).
+											addAndGet(p.ordinal(), nanos) ;
+	}
+
+	/**
+	 * add the elapsed time of a phase performed for the whole CVM.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code p != null && nanos >= 0}
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @param p		phase which elapsed time is recorded.
+	 * @param nanos	elapsed time in nanoseconds.
+	 */
+	public void			recordElapsed(Phase p, long nanos)
+	{
+		assert	p != null && nanos >= 0 ;
+
+		this.elapsed.addAndGet(p.ordinal(), nanos) ;
+	}
+
+	/**
+	 * return the URIs of the components which times have been recorded.
+	 * 
+	 * @return	the URIs of the components which times have been recorded.
+	 */
+	public Set<String>	getComponentURIs()
+	{
+		return Collections.unmodifiableSet(this.timings.keySet()) ;
+	}
+
+	/**
+	 * return the time spent by the component in the phase in nanoseconds.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code componentURI != null && p != null}
+	 * post	{@code ret >= 0}
+	 * </pre>
+	 *
+	 * @param componentURI	URI of the reflection inbound port of the component.
+	 * @param p				a phase.
+	 * @return				the time spent by the component in the phase in nanoseconds.
+	 */
+	public long			getNanos(String componentURI, Phase p)
+	{
+		assert	componentURI != null && p != null ;
+
+		AtomicLongArray t = this.timings.get(componentURI) ;
+		return t == null ? 0L : t.get(p.ordinal()) ;
+	}
+
+	/**
+	 * return the total time spent by the component in all of the phases in
+	 * nanoseconds.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code componentURI != null}
+	 * post	{@code ret >= 0}
+	 * </pre>
+	 *
+	 * @param componentURI	URI of the reflection inbound port of the component.
+	 * @return				the total time spent by the component in nanoseconds.
+	 */
+	public long			getTotalNanos(String componentURI)
+	{
+		long ret = 0L ;
+		for (Phase p : Phase.values()) {
+			ret += this.getNanos(componentURI, p) ;
+		}
+		return ret ;
+	}
+
+	/**
+	 * return the elapsed time of the phase for the whole CVM in nanoseconds.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code p != null}
+	 * post	{@code ret >= 0}
+	 * </pre>
+	 *
+	 * @param p	a phase.
+	 * @return	the elapsed time of the phase in nanoseconds.
+	 */
+	public long			getElapsedNanos(Phase p)
+	{
+		assert	p != null ;
+
+		return this.elapsed.get(p.ordinal()) ;
+	}
+
+	/**
+	 * forget all of the recorded times.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true			// no precondition.
+	 * post	{@code getComponentURIs().isEmpty()}
+	 * </pre>
+	 *
+	 */
+	public void			clear()
+	{
+		this.timings.clear() ;
+		for (int i = 0 ; i < this.elapsed.length() ; i++) {
+			this.elapsed.set(i, 0L) ;
+		}
+	}
+
+	/**
+	 * return a table of the times of the components, by decreasing total
+	 * times, preceded by the elapsed times of the phases.
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String		toString()
+	{
+		StringBuffer sb = new StringBuffer("deployment report (ms)\n") ;
+		sb.append("elapsed") ;
+		for (Phase p : Phase.values()) {
+			sb.append(String.format(" %s=%.3f", p,
+									this.getElapsedNanos(p)/1.0e6)) ;
+		}
+		sb.append('\n') ;
+		List<String> uris = new ArrayList<>(this.timings.keySet()) ;
+		uris.sort((u1, u2) -> Long.compare(this.getTotalNanos(u2),
+										   this.getTotalNanos(u1))) ;
+		for (String uri : uris) {
+			sb.append(uri) ;
+			for (Phase p : Phase.values()) {
+				sb.append(String.format(" %s=%.3f", p,
+										this.getNanos(uri, p)/1.0e6)) ;
+			}
+			sb.append(String.format(" total=%.3f\n",
+									this.getTotalNanos(uri)/1.0e6)) ;
+		}
+		return sb.toString() ;
+	}
+}
+// -----------------------------------------------------------------------------
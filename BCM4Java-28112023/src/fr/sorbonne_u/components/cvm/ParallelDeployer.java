@@ -0,0 +1,430 @@
+package fr.sorbonne_u.components.cvm;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import fr.sorbonne_u.components.AbstractComponent;
+import fr.sorbonne_u.components.ComponentI;
+import fr.sorbonne_u.components.reflection.interfaces.ReflectionCI;
+import fr.sorbonne_u.exceptions.PreconditionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>ParallelDeployer</code> instantiates and interconnects a
+ * set of components in parallel, recording the start dependencies implied by
+ * their port connections in the CVM.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * A deployer is used in the method <code>deploy</code> of a CVM: the
+ * components are first declared with <code>addComponent</code>, under keys
+ * chosen by the user, and the connections of their outbound ports with
+ * <code>addConnection</code>; then <code>deploy</code> instantiates all of
+ * the components concurrently, which also publishes their ports, and then
+ * performs all of the connections concurrently. A connection to an inbound
+ * port of a component deployed on the same CVM makes the client component
+ * depend upon the server one, so that the CVM starts the server before the
+ * client and finalises the client before the server, components connected
+ * in both directions forming one start unit processed sequentially; the
+ * independent components are started concurrently when the life-cycle parallelism of
+ * the CVM is above 1. The number of threads of the deployer is the
+ * life-cycle parallelism of the CVM, and the times spent by each component
+ * in its instantiation and connections are recorded in the deployment
+ * report of the CVM.
+ * </p>
+ * 
+ * <pre>
+ * public void deploy() throws Exception
+ * {
+ *     this.setLifeCycleParallelism(8);
+ *     ParallelDeployer d = new ParallelDeployer(this);
+ *     d.addComponent("server", Server.class.getCanonicalName(), new Object[]{});
+ *     d.addComponent("client", Client.class.getCanonicalName(), new Object[]{});
+ *     d.addConnection("client", Client.OBP_URI, Server.IBP_URI,
+ *                     ServiceConnector.class.getCanonicalName());
+ *     d.deploy();
+ *     super.deploy();
+ * }
+ * </pre>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code cvm != null}
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			ParallelDeployer
+{
+	// -------------------------------------------------------------------------
+	// Inner types and classes
+	// -------------------------------------------------------------------------
+
+	/**
+	 * The class <code>Connection</code> records a declared port connection.
+	 *
+	 * <p>Created on : 2026-10-19</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	protected static class	Connection
+	{
+		/** key of the client component.									*/
+		protected final String	clientKey;
+		/** URI of the outbound port of the client component.				*/
+		protected final String	outboundPortURI;
+		/** URI of the inbound port to which the outbound port connects.	*/
+		protected final String	inboundPortURI;
+		/** class name of the connector.									*/
+		protected final String	connectorClassname;
+
+		/**
+		 * create a connection record.
+		 *
+		 * @param clientKey				key of the client component.
+		 * @param outboundPortURI		URI of the outbound port of the client component.
+		 * @param inboundPortURI		URI of the inbound port to which the outbound port connects.
+		 * @param connectorClassname	class name of the connector.
+		 */
+		public			Connection(
+			String clientKey,
+			String outboundPortURI,
+			String inboundPortURI,
+			String connectorClassname
+			)
+		{
+			this.clientKey = clientKey;
+			this.outboundPortURI = outboundPortURI;
+			this.inboundPortURI = inboundPortURI;
+			this.connectorClassname = connectorClassname;
+		}
+	}
+
+	// -------------------------------------------------------------------------
+	// Variables
+	// -------------------------------------------------------------------------
+
+	/** CVM on which the components are deployed.							*/
+	protected final AbstractCVM					cvm;
+	/** map from keys to the class names of the declared components.		*/
+	protected final Map<String,String>			classnames;
+	/** map from keys to the constructor parameters of the components.		*/
+	protected final Map<String,Object[]>		constructorParams;
+	/** declared connections.												*/
+	protected final List<Connection>			connections;
+	/** map from keys to the URIs of the reflection inbound ports of the
+	 *  deployed components.												*/
+	protected final Map<String,String>			deployedURIs;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create a deployer for the given CVM.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code cvm != null}
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @param cvm	CVM on which the components are deployed.
+	 */
+	public				ParallelDeployer(AbstractCVM cvm)
+	{
+		assert	cvm != null : new PreconditionException("cvm != null");
+
+		this.cvm = cvm;
+		this.classnames = new LinkedHashMap<>();
+		this.constructorParams = new HashMap<>();
+		this.connections = new ArrayList<>();
+		this.deployedURIs = new HashMap<>();
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * declare a component to be instantiated from the class of the given
+	 * class name and initialised by the constructor which parameters are
+	 * given.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code key != null && !isDeclared(key)}
+	 * pre	{@code classname != null && constructorParams != null}
+	 * post	{@code isDeclared(key)}
+	 * </pre>
+	 *
+	 * @param key				key designating the component in this deployer.
+	 * @param classname			name of the class from which the component is created.
+	 * @param constructorParams	parameters to be passed to the constructor.
+	 */
+	public void			addComponent(
+		String key,
+		String classname,
+		Object[] constructorParams
+		)
+	{
+		assert	key != null && !this.isDeclared(key) :
+					new PreconditionException(
+							"key != null && !isDeclared(key)");
+		assert	classname != null && constructorParams != null :
+					new PreconditionException(
+							"classname != null && constructorParams != null");
+
+		this.classnames.put(key, classname);
+		this.constructorParams.put(key, constructorParams);
+	}
+
+	/**
+	 * return true if a component has been declared with the given key.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code key != null}
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @param key	a key.
+	 * @return		true if a component has been declared with the given key.
+	 */
+	public boolean		isDeclared(String key)
+	{
+		assert	key != null : new PreconditionException("key != null");
+
+		return this.classnames.containsKey(key);
+	}
+
+	/**
+	 * declare the connection of an outbound port of a declared component to
+	 * an inbound port, which may belong to a declared component, to a
+	 * component already deployed or to a component on another CVM.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code clientKey != null && isDeclared(clientKey)}
+	 * pre	{@code outboundPortURI != null && inboundPortURI != null}
+	 * pre	{@code connectorClassname != null}
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @param clientKey				key of the client component.
+	 * @param outboundPortURI		URI of the outbound port of the client component.
+	 * @param inboundPortURI		URI of the inbound port to which the outbound port connects.
+	 * @param connectorClassname	class name of the connector.
+	 */
+	public void			addConnection(
+		String clientKey,
+		String outboundPortURI,
+		String inboundPortURI,
+		String connectorClassname
+		)
+	{
+		assert	clientKey != null && this.isDeclared(clientKey) :
+					new PreconditionException(
+							"clientKey != null && isDeclared(clientKey)");
+		assert	outboundPortURI != null && inboundPortURI != null :
+					new PreconditionException(
+							"outboundPortURI != null && inboundPortURI != null");
+		assert	connectorClassname != null :
+					new PreconditionException("connectorClassname != null");
+
+		this.connections.add(new Connection(clientKey, outboundPortURI,
+											inboundPortURI, connectorClassname));
+	}
+
+	/**
+	 * instantiate concurrently all of the declared components, then perform
+	 * concurrently all of the declared connections, recording the start
+	 * dependencies they imply in the CVM, and return the map from keys to
+	 * the URIs of the reflection inbound ports of the components.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true			// no precondition.
+	 * post	{@code ret.keySet().equals(declared keys)}
+	 * </pre>
+	 *
+	 * @return				the map from keys to the URIs of the reflection inbound ports of the components.
+	 * @throws Exception	the first failure of an instantiation or a connection.
+	 */
+	public Map<String,String>	deploy() throws Exception
+	{
+		ExecutorService es =
+			Executors.newFixedThreadPool(
+					Math.max(1, Math.min(this.cvm.getLifeCycleParallelism(),
+										 this.classnames.size())),
+					r -> { Thread t = new Thread(r, "cvm-deployer");
+						   t.setDaemon(true);
+						   return t; });
+		try {
+			// instantiations
+			long t0 = System.nanoTime();
+			Map<String,Future<String>> created = new LinkedHashMap<>();
+			for (Map.Entry<String,String> e : this.classnames.entrySet()) {
+				String key = e.getKey();
+				created.put(key, es.submit(() -> {
+					long t = System.nanoTime();
+					String uri = AbstractComponent.createComponent(
+										e.getValue(),
+										this.constructorParams.get(key));
+					this.cvm.getDeploymentReport().record(
+										uri,
+										DeploymentReport.Phase.INSTANTIATION,
+										System.nanoTime() - t);
+					return uri;
+				}));
+			}
+			for (Map.Entry<String,Future<String>> e : created.entrySet()) {
+				this.deployedURIs.put(e.getKey(),
+									  ParallelDeployer.await(e.getValue()));
+			}
+			this.cvm.getDeploymentReport().recordElapsed(
+										DeploymentReport.Phase.INSTANTIATION,
+										System.nanoTime() - t0);
+
+			// connections, grouped per client component to connect the ports
+			// of each component sequentially
+			t0 = System.nanoTime();
+			Map<String,List<Connection>> perClient = new LinkedHashMap<>();
+			for (Connection c : this.connections) {
+				perClient.computeIfAbsent(c.clientKey,
+										  k -> new ArrayList<>()).add(c);
+			}
+			List<Future<?>> connected = new ArrayList<>();
+			for (Map.Entry<String,List<Connection>> e : perClient.entrySet()) {
+				String clientURI = this.deployedURIs.get(e.getKey());
+				connected.add(es.submit(() -> {
+					long t = System.nanoTime();
+					for (Connection c : e.getValue()) {
+						this.cvm.doPortConnection(clientURI,
+												  c.outboundPortURI,
+												  c.inboundPortURI,
+												  c.connectorClassname);
+						String serverURI = this.localOwnerURI(c.inboundPortURI);
+						if (serverURI != null && !serverURI.equals(clientURI)) {
+							this.cvm.addStartDependency(clientURI, serverURI);
+						}
+					}
+					this.cvm.getDeploymentReport().record(
+										clientURI,
+										DeploymentReport.Phase.CONNECTION,
+										System.nanoTime() - t);
+					return null;
+				}));
+			}
+			for (Future<?> f : connected) {
+				ParallelDeployer.await(f);
+			}
+			this.cvm.getDeploymentReport().recordElapsed(
+										DeploymentReport.Phase.CONNECTION,
+										System.nanoTime() - t0);
+		} finally {
+			es.shutdown();
+		}
+
+		return Collections.unmodifiableMap(this.deployedURIs);
+	}
+
+	/**
+	 * return the URI of the reflection inbound port of the component owning
+	 * the inbound port if it is published in the local registry, and null
+	 * otherwise.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code inboundPortURI != null}
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @param inboundPortURI	URI of an inbound port.
+	 * @return					the URI of the reflection inbound port of its owner or null.
+	 * @throws Exception		<i>to do.</i>
+	 */
+	protected String	localOwnerURI(String inboundPortURI) throws Exception
+	{
+		if (!AbstractCVM.isPublishedInLocalRegistry(inboundPortURI)) {
+			return null;
+		}
+		ComponentI owner =
+				AbstractCVM.getFromLocalRegistry(inboundPortURI).getOwner();
+		String[] uris = owner.findInboundPortURIsFromInterface(ReflectionCI.class);
+		return uris != null && uris.length == 1 ? uris[0] : null;
+	}
+
+	/**
+	 * wait for the result of the future, rethrowing the failure of its task.
+	 *
+	 * @param <T>			type of the result.
+	 * @param f				a future.
+	 * @return				the result of the task.
+	 * @throws Exception	the failure of the task.
+	 */
+	protected static <T> T	await(Future<T> f) throws Exception
+	{
+		try {
+			return f.get();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof Exception) {
+				throw (Exception) e.getCause();
+			} else if (e.getCause() instanceof Error) {
+				throw (Error) e.getCause();
+			}
+			throw e;
+		}
+	}
+}
+// -----------------------------------------------------------------------------
@@ -57,6 +57,9 @@ import org.w3c.dom.NodeList;
 import org.xml.sax.SAXException;
 import fr.sorbonne_u.components.cvm.AbstractDistributedCVM;
 import fr.sorbonne_u.components.cvm.config.exceptions.ConfigurationException;
+import fr.sorbonne_u.components.helpers.ExecutorServicesKind;
+import fr.sorbonne_u.components.helpers.TracersKind;
+import fr.sorbonne_u.components.registry.ConnectionType;
 
 // -----------------------------------------------------------------------------
 /**
@@ -206,6 +209,14 @@ public class			ConfigurationFileParser
 		Hashtable<String,String>	jvmURIs2mainclasses = new Hashtable<String,String>() ;
 		HashSet<String> 			rmiRegistryCreators = new HashSet<String>() ;
 		HashSet<String> 			rmiRegistryHosts = new HashSet<String>() ;
+		ConnectionType				transportType = ConnectionType.RMI ;
+		Hashtable<String,Integer>	jvmURIs2transportPorts = new Hashtable<String,Integer>() ;
+		ExecutorServicesKind		executorServicesKind = null ;
+		int							nbSharedThreads = 0 ;
+		TracersKind					tracersKind = null ;
+		String						tracesDirectory = "." ;
+		double						tracesSamplingRate = 1.0 ;
+		int							tracesMaxRate = 0 ;
 
 		Document doc = null ;
 		try {
@@ -411,6 +422,130 @@ public class			ConfigurationFileParser
 							"RMI registry port illegal: "
 										   + rmiRegistryPort + "!") ;
 
+		Node transportTypeNode;
+		try {
+			transportTypeNode =
+					((Node)xpathEvaluator.evaluate(
+									"/deployment/transport/@type",
+									doc,
+									XPathConstants.NODE)) ;
+		} catch (XPathExpressionException e) {
+			throw new ConfigurationException(
+						"error fetching the type attribute of the "
+						+ "transport node", e) ;
+		}
+		if (transportTypeNode != null &&
+							transportTypeNode.getNodeValue().equals("socket")) {
+			transportType = ConnectionType.SOCKET ;
+		}
+
+		Node executorsTypeNode;
+		Node sharedThreadsNode;
+		try {
+			executorsTypeNode =
+					((Node)xpathEvaluator.evaluate(
+									"/deployment/executors/@type",
+									doc,
+									XPathConstants.NODE)) ;
+			sharedThreadsNode =
+					((Node)xpathEvaluator.evaluate(
+									"/deployment/executors/@sharedThreads",
+									doc,
+									XPathConstants.NODE)) ;
+		} catch (XPathExpressionException e) {
+			throw new ConfigurationException(
+						"error fetching the attributes of the "
+						+ "executors node", e) ;
+		}
+		if (executorsTypeNode != null) {
+			executorServicesKind =
+				ExecutorServicesKind.fromDescriptorValue(
+										executorsTypeNode.getNodeValue()) ;
+			assert	executorServicesKind != null :
+						new ConfigurationException(
+								"unknown executors type: "
+								+ executorsTypeNode.getNodeValue() + "!") ;
+		}
+		if (sharedThreadsNode != null) {
+			try {
+				nbSharedThreads =
+						Integer.parseInt(sharedThreadsNode.getNodeValue()) ;
+			} catch (NumberFormatException | DOMException e) {
+				throw new ConfigurationException(
+							"error fetching the sharedThreads attribute of "
+							+ "the executors node", e) ;
+			}
+			assert	nbSharedThreads > 0 :
+						new ConfigurationException(
+								"illegal number of shared threads: "
+								+ nbSharedThreads + "!") ;
+		}
+
+		Node tracersTypeNode;
+		Node tracesDirectoryNode;
+		Node tracesSamplingRateNode;
+		Node tracesMaxRateNode;
+		try {
+			tracersTypeNode =
+					((Node)xpathEvaluator.evaluate(
+									"/deployment/tracers/@type",
+									doc,
+									XPathConstants.NODE)) ;
+			tracesDirectoryNode =
+					((Node)xpathEvaluator.evaluate(
+									"/deployment/tracers/@directory",
+									doc,
+									XPathConstants.NODE)) ;
+			tracesSamplingRateNode =
+					((Node)xpathEvaluator.evaluate(
+									"/deployment/tracers/@samplingRate",
+									doc,
+									XPathConstants.NODE)) ;
+			tracesMaxRateNode =
+					((Node)xpathEvaluator.evaluate(
+									"/deployment/tracers/@maxRate",
+									doc,
+									XPathConstants.NODE)) ;
+		} catch (XPathExpressionException e) {
+			throw new ConfigurationException(
+						"error fetching the attributes of the "
+						+ "tracers node", e) ;
+		}
+		if (tracersTypeNode != null) {
+			tracersKind =
+				TracersKind.fromDescriptorValue(
+										tracersTypeNode.getNodeValue()) ;
+			assert	tracersKind != null :
+						new ConfigurationException(
+								"unknown tracers type: "
+								+ tracersTypeNode.getNodeValue() + "!") ;
+		}
+		if (tracesDirectoryNode != null) {
+			tracesDirectory = tracesDirectoryNode.getNodeValue() ;
+		}
+		try {
+			if (tracesSamplingRateNode != null) {
+				tracesSamplingRate =
+					Double.parseDouble(tracesSamplingRateNode.getNodeValue()) ;
+			}
+			if (tracesMaxRateNode != null) {
+				tracesMaxRate =
+						Integer.parseInt(tracesMaxRateNode.getNodeValue()) ;
+			}
+		} catch (NumberFormatException | DOMException e) {
+			throw new ConfigurationException(
+						"error fetching the samplingRate or maxRate "
+						+ "attributes of the tracers node", e) ;
+		}
+		assert	tracesSamplingRate > 0.0 && tracesSamplingRate <= 1.0 :
+					new ConfigurationException(
+							"illegal traces sampling rate: "
+							+ tracesSamplingRate + "!") ;
+		assert	tracesMaxRate >= 0 :
+					new ConfigurationException(
+							"illegal traces max rate: "
+							+ tracesMaxRate + "!") ;
+
 		NodeList ns;
 		try {
 			ns = (NodeList)xpathEvaluator.evaluate(
@@ -514,6 +649,33 @@ public class			ConfigurationFileParser
 				reflectiveJVM_URIs.add(uri) ;
 			}
 
+			Node transportPortNode;
+			try {
+				transportPortNode =
+						((Node)xpathEvaluator.evaluate(
+							"@transportPort", ns.item(i), XPathConstants.NODE));
+			} catch (XPathExpressionException e) {
+				throw new ConfigurationException(
+							"error fetching the transportPort attribute of "
+							+ "the jvm2hostname node " + uri + "!", e) ;
+			}
+			if (transportPortNode != null) {
+				int transportPort;
+				try {
+					transportPort =
+						Integer.parseInt(transportPortNode.getNodeValue()) ;
+				} catch (NumberFormatException e) {
+					throw new ConfigurationException(
+							"transport port number of the JVM " + uri +
+							" not a number!", e) ;
+				}
+				assert	transportPort > 0 && transportPort <= 65535 :
+							new ConfigurationException(
+									"Transport port illegal for the JVM "
+									+ uri + ": " + transportPort + "!") ;
+				jvmURIs2transportPorts.put(uri, transportPort) ;
+			}
+
 			String rmiRegistryCreator;
 			try {
 				rmiRegistryCreator =
@@ -567,7 +729,15 @@ public class			ConfigurationFileParser
 										   jvmURIs2mainclasses,
 										   rmiRegistryCreators,
 										   rmiRegistryHosts,
-										   reflectiveJVM_URIs) ;
+										   reflectiveJVM_URIs,
+										   transportType,
+										   jvmURIs2transportPorts,
+										   executorServicesKind,
+										   nbSharedThreads,
+										   tracersKind,
+										   tracesDirectory,
+										   tracesSamplingRate,
+										   tracesMaxRate) ;
 	}
 }
 // -----------------------------------------------------------------------------
@@ -36,6 +36,9 @@ package fr.sorbonne_u.components.cvm.config;
 
 import java.util.Hashtable;
 import java.util.Set;
+import fr.sorbonne_u.components.helpers.ExecutorServicesKind;
+import fr.sorbonne_u.components.helpers.TracersKind;
+import fr.sorbonne_u.components.registry.ConnectionType;
 
 //-----------------------------------------------------------------------------
 /**
@@ -56,6 +59,8 @@ import java.util.Set;
  *   cyclicBarrier,         # configuration of the cyclic barrier
  *   globalRegistry,        # configuration of the global registry
  *   rmiRegistryPort,       # configuration of the RMI registry
+ *   transport?,            # transport used for inter-JVM calls, RMI if absent
+ *   executors?,            # executor services of the components, standard if absent
  *   jvms2hostnames         # mapping from JVM to hosts running them
  * }
  * codebase = element codebase {
@@ -80,6 +85,17 @@ import java.util.Set;
  * rmiRegistryPort = element rmiRegistryPort {
  *   attribute no        { xsd:int }  # port number listen by the RMI registry
  * }
+ * transport = element transport {
+ *   attribute type { "rmi" | "socket" },
+ *   empty
+ * }
+ * executors = element executors {
+ *                                 # kind of the standard request handler pools
+ *   attribute type { "standard" | "workStealing" | "virtualThreads" | "shared" },
+ *   attribute sharedThreads { xsd:int }?, # size of the shared pool, default is
+ *                                         # the number of processors
+ *   empty
+ * }
  * jvms2hostnames = element jvms2hostnames { jvm2hostname+ }
  * jvm2hostname = element jvm2hostname {
  *   attribute jvmuri { xsd:anyURI },      # JVM URI
@@ -87,7 +103,8 @@ import java.util.Set;
  *   attribute rmiRegistryCreator { xsd:boolean },
  *   attribute hostname { text },          # name of the host running that JVM
  *   attribute mainclass { text },		# canonical class name of the main class
- *   attribute reflective { xsd:boolean }?
+ *   attribute reflective { xsd:boolean }?,
+ *   attribute transportPort { xsd:int }?  # port of the socket transport
  * }
  * </pre>
  * <p>
@@ -143,6 +160,27 @@ public class				ConfigurationParameters
 	/** set of URI of the JVM that requires support for reflective
 	 *  actions.															*/
 	protected Set<String>				reflectiveJVM_URIs ;
+	/** transport used for the calls between JVM.							*/
+	protected ConnectionType			transportType ;
+	/** map from URI of the JVM to the port numbers their socket transport
+	 *  listens on; JVM absent from the map use an ephemeral port.			*/
+	protected Hashtable<String,Integer>	jvmURIs2transportPorts ;
+	/** kind of executor services used for the standard request handler of
+	 *  the components, or null to keep the default one.					*/
+	protected ExecutorServicesKind		executorServicesKind ;
+	/** number of threads in the shared pool, 0 for the number of
+	 *  available processors.												*/
+	protected int						nbSharedThreads ;
+	/** kind of tracers of the components, or null to keep the default
+	 *  one.																*/
+	protected TracersKind				tracersKind ;
+	/** directory in which the headless tracers write their files.			*/
+	protected String					tracesDirectory ;
+	/** probability with which the headless tracers keep a message.		*/
+	protected double					tracesSamplingRate ;
+	/** maximum number of messages per second and per component kept by
+	 *  the headless tracers, 0 if unlimited.								*/
+	protected int						tracesMaxRate ;
 
 	/**
 	 * create a configuration parameters holder.
@@ -185,8 +223,206 @@ public class				ConfigurationParameters
 		Set<String>					rmiRegistryHosts,
 		Set<String>					reflectiveJVM_URIs
 		)
+	{
+		this(codebaseHostname, codebaseDirectory, hosts2dirs,
+			 cyclicBarrierHostname, cyclicBarrierPort,
+			 globalRegistryHostname, globalRegistryPort, rmiregistryPort,
+			 jvmURIs, jvmURIs2hosts, jvmURIs2mainclasses,
+			 rmiRegistryCreators, rmiRegistryHosts, reflectiveJVM_URIs,
+			 ConnectionType.RMI, new Hashtable<String,Integer>());
+	}
+
+	/**
+	 * create a configuration parameters holder including the selection of
+	 * the transport used for the calls between JVM.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code transportType != null}
+	 * pre	{@code jvmURIs2transportPorts != null}
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @param codebaseHostname			hostname of the computer holding the code base.
+	 * @param codebaseDirectory			full name of the directory in which the code base is stored.
+	 * @param hosts2dirs				map from hostnames to	directories storing the code base.
+	 * @param cyclicBarrierHostname		hostname of the computer that will run the cyclic barrier.
+	 * @param cyclicBarrierPort			port number used to connect with the cyclic barrier.
+	 * @param globalRegistryHostname	hostname of the computer running the global registry.
+	 * @param globalRegistryPort		port number used to connect with the global registry.
+	 * @param rmiregistryPort			port number used to connect with the rmi registry.
+	 * @param jvmURIs					array of URI designating all of the JVM participating in the current execution.
+	 * @param jvmURIs2hosts				map from URI of the JVM to the hostnames of the computer running them.
+	 * @param jvmURIs2mainclasses		map from URI of the JVM to the fully qualified names of the main classes that must be run by the corresponding JVM.
+	 * @param rmiRegistryCreators		set of URI of the JVM that will create the rmi registries.
+	 * @param rmiRegistryHosts			set of hostnames of the computers that will run a rmi registry.
+	 * @param reflectiveJVM_URIs		set of URI of the JVM that requires support for reflective actions.
+	 * @param transportType				transport used for the calls between JVM.
+	 * @param jvmURIs2transportPorts	map from URI of the JVM to the port numbers their socket transport listens on.
+	 */
+	public				ConfigurationParameters(
+		String						codebaseHostname,
+		String						codebaseDirectory,
+		Hashtable<String,String>	hosts2dirs,
+		String						cyclicBarrierHostname,
+		int							cyclicBarrierPort,
+		String						globalRegistryHostname,
+		int							globalRegistryPort,
+		int							rmiregistryPort,
+		String[]					jvmURIs,
+		Hashtable<String,String>	jvmURIs2hosts,
+		Hashtable<String,String>	jvmURIs2mainclasses,
+		Set<String>					rmiRegistryCreators,
+		Set<String>					rmiRegistryHosts,
+		Set<String>					reflectiveJVM_URIs,
+		ConnectionType				transportType,
+		Hashtable<String,Integer>	jvmURIs2transportPorts
+		)
+	{
+		this(codebaseHostname, codebaseDirectory, hosts2dirs,
+			 cyclicBarrierHostname, cyclicBarrierPort,
+			 globalRegistryHostname, globalRegistryPort, rmiregistryPort,
+			 jvmURIs, jvmURIs2hosts, jvmURIs2mainclasses,
+			 rmiRegistryCreators, rmiRegistryHosts, reflectiveJVM_URIs,
+			 transportType, jvmURIs2transportPorts, null, 0);
+	}
+
+	/**
+	 * create a configuration parameters holder including the selection of
+	 * the transport used for the calls between JVM and of the executor
+	 * services used by the components.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code transportType != null}
+	 * pre	{@code jvmURIs2transportPorts != null}
+	 * pre	{@code nbSharedThreads >= 0}
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @param codebaseHostname			hostname of the computer holding the code base.
+	 * @param codebaseDirectory			full name of the directory in which the code base is stored.
+	 * @param hosts2dirs				map from hostnames to	directories storing the code base.
+	 * @param cyclicBarrierHostname		hostname of the computer that will run the cyclic barrier.
+	 * @param cyclicBarrierPort			port number used to connect with the cyclic barrier.
+	 * @param globalRegistryHostname	hostname of the computer running the global registry.
+	 * @param globalRegistryPort		port number used to connect with the global registry.
+	 * @param rmiregistryPort			port number used to connect with the rmi registry.
+	 * @param jvmURIs					array of URI designating all of the JVM participating in the current execution.
+	 * @param jvmURIs2hosts				map from URI of the JVM to the hostnames of the computer running them.
+	 * @param jvmURIs2mainclasses		map from URI of the JVM to the fully qualified names of the main classes that must be run by the corresponding JVM.
+	 * @param rmiRegistryCreators		set of URI of the JVM that will create the rmi registries.
+	 * @param rmiRegistryHosts			set of hostnames of the computers that will run a rmi registry.
+	 * @param reflectiveJVM_URIs		set of URI of the JVM that requires support for reflective actions.
+	 * @param transportType				transport used for the calls between JVM.
+	 * @param jvmURIs2transportPorts	map from URI of the JVM to the port numbers their socket transport listens on.
+	 * @param executorServicesKind		kind of executor services used for the standard request handler of the components, or null to keep the default one.
+	 * @param nbSharedThreads			number of threads in the shared pool, 0 for the number of available processors.
+	 */
+	public				ConfigurationParameters(
+		String						codebaseHostname,
+		String						codebaseDirectory,
+		Hashtable<String,String>	hosts2dirs,
+		String						cyclicBarrierHostname,
+		int							cyclicBarrierPort,
+		String						globalRegistryHostname,
+		int							globalRegistryPort,
+		int							rmiregistryPort,
+		String[]					jvmURIs,
+		Hashtable<String,String>	jvmURIs2hosts,
+		Hashtable<String,String>	jvmURIs2mainclasses,
+		Set<String>					rmiRegistryCreators,
+		Set<String>					rmiRegistryHosts,
+		Set<String>					reflectiveJVM_URIs,
+		ConnectionType				transportType,
+		Hashtable<String,Integer>	jvmURIs2transportPorts,
+		ExecutorServicesKind		executorServicesKind,
+		int							nbSharedThreads
+		)
+	{
+		this(codebaseHostname, codebaseDirectory, hosts2dirs,
+			 cyclicBarrierHostname, cyclicBarrierPort,
+			 globalRegistryHostname, globalRegistryPort, rmiregistryPort,
+			 jvmURIs, jvmURIs2hosts, jvmURIs2mainclasses,
+			 rmiRegistryCreators, rmiRegistryHosts, reflectiveJVM_URIs,
+			 transportType, jvmURIs2transportPorts,
+			 executorServicesKind, nbSharedThreads, null, ".", 1.0, 0);
+	}
+
+	/**
+	 * create a configuration parameters holder including the selection of
+	 * the transport used for the calls between JVM, of the executor
+	 * services and of the tracers used by the components.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code transportType != null}
+	 * pre	{@code jvmURIs2transportPorts != null}
+	 * pre	{@code nbSharedThreads >= 0}
+	 * pre	{@code tracesDirectory != null}
+	 * pre	{@code tracesSamplingRate > 0.0 && tracesSamplingRate <= 1.0}
+	 * pre	{@code tracesMaxRate >= 0}
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @param codebaseHostname			hostname of the computer holding the code base.
+	 * @param codebaseDirectory			full name of the directory in which the code base is stored.
+	 * @param hosts2dirs				map from hostnames to	directories storing the code base.
+	 * @param cyclicBarrierHostname		hostname of the computer that will run the cyclic barrier.
+	 * @param cyclicBarrierPort			port number used to connect with the cyclic barrier.
+	 * @param globalRegistryHostname	hostname of the computer running the global registry.
+	 * @param globalRegistryPort		port number used to connect with the global registry.
+	 * @param rmiregistryPort			port number used to connect with the rmi registry.
+	 * @param jvmURIs					array of URI designating all of the JVM participating in the current execution.
+	 * @param jvmURIs2hosts				map from URI of the JVM to the hostnames of the computer running them.
+	 * @param jvmURIs2mainclasses		map from URI of the JVM to the fully qualified names of the main classes that must be run by the corresponding JVM.
+	 * @param rmiRegistryCreators		set of URI of the JVM that will create the rmi registries.
+	 * @param rmiRegistryHosts			set of hostnames of the computers that will run a rmi registry.
+	 * @param reflectiveJVM_URIs		set of URI of the JVM that requires support for reflective actions.
+	 * @param transportType				transport used for the calls between JVM.
+	 * @param jvmURIs2transportPorts	map from URI of the JVM to the port numbers their socket transport listens on.
+	 * @param executorServicesKind		kind of executor services used for the standard request handler of the components, or null to keep the default one.
+	 * @param nbSharedThreads			number of threads in the shared pool, 0 for the number of available processors.
+	 * @param tracersKind				kind of tracers of the components, or null to keep the default one.
+	 * @param tracesDirectory			directory in which the headless tracers write their files.
+	 * @param tracesSamplingRate		probability with which the headless tracers keep a message.
+	 * @param tracesMaxRate				maximum number of messages per second and per component kept by the headless tracers, 0 if unlimited.
+	 */
+	public				ConfigurationParameters(
+		String						codebaseHostname,
+		String						codebaseDirectory,
+		Hashtable<String,String>	hosts2dirs,
+		String						cyclicBarrierHostname,
+		int							cyclicBarrierPort,
+		String						globalRegistryHostname,
+		int							globalRegistryPort,
+		int							rmiregistryPort,
+		String[]					jvmURIs,
+		Hashtable<String,String>	jvmURIs2hosts,
+		Hashtable<String,String>	jvmURIs2mainclasses,
+		Set<String>					rmiRegistryCreators,
+		Set<String>					rmiRegistryHosts,
+		Set<String>					reflectiveJVM_URIs,
+		ConnectionType				transportType,
+		Hashtable<String,Integer>	jvmURIs2transportPorts,
+		ExecutorServicesKind		executorServicesKind,
+		int							nbSharedThreads,
+		TracersKind					tracersKind,
+		String						tracesDirectory,
+		double						tracesSamplingRate,
+		int							tracesMaxRate
+		)
 	{
 		super();
+		assert	transportType != null && jvmURIs2transportPorts != null ;
+		assert	nbSharedThreads >= 0 ;
+		assert	tracesDirectory != null ;
+		assert	tracesSamplingRate > 0.0 && tracesSamplingRate <= 1.0 ;
+		assert	tracesMaxRate >= 0 ;
+
 		this.codebaseHostname = codebaseHostname ;
 		this.codebaseDirectory = codebaseDirectory ;
 		this.hosts2dirs = hosts2dirs ;
@@ -201,6 +437,14 @@ public class				ConfigurationParameters
 		this.rmiRegistryCreators = rmiRegistryCreators ;
 		this.rmiRegistryHosts = rmiRegistryHosts ;
 		this.reflectiveJVM_URIs = reflectiveJVM_URIs ;
+		this.transportType = transportType ;
+		this.jvmURIs2transportPorts = jvmURIs2transportPorts ;
+		this.executorServicesKind = executorServicesKind ;
+		this.nbSharedThreads = nbSharedThreads ;
+		this.tracersKind = tracersKind ;
+		this.tracesDirectory = tracesDirectory ;
+		this.tracesSamplingRate = tracesSamplingRate ;
+		this.tracesMaxRate = tracesMaxRate ;
 	}
 
 	/**
@@ -302,6 +546,67 @@ public class				ConfigurationParameters
 		return this.rmiRegistryHosts;
 	}
 
+	/**
+	 * @return the transportType
+	 */
+	public ConnectionType	getTransportType() {
+		return this.transportType;
+	}
+
+	/**
+	 * return the port number the socket transport of the JVM with URI
+	 * <code>jvmURI</code> listens on, 0 if it must use an ephemeral port.
+	 * 
+	 * @param jvmURI	URI of a JVM.
+	 * @return			the port number of its socket transport, or 0.
+	 */
+	public int			getTransportPort(String jvmURI) {
+		Integer p = this.jvmURIs2transportPorts.get(jvmURI) ;
+		return p == null ? 0 : p ;
+	}
+
+	/**
+	 * @return the executorServicesKind, null if none is configured
+	 */
+	public ExecutorServicesKind	getExecutorServicesKind() {
+		return this.executorServicesKind;
+	}
+
+	/**
+	 * @return the nbSharedThreads, 0 for the number of available processors
+	 */
+	public int			getNbSharedThreads() {
+		return this.nbSharedThreads;
+	}
+
+	/**
+	 * @return the tracersKind, null if none is configured
+	 */
+	public TracersKind	getTracersKind() {
+		return this.tracersKind;
+	}
+
+	/**
+	 * @return the tracesDirectory
+	 */
+	public String		getTracesDirectory() {
+		return this.tracesDirectory;
+	}
+
+	/**
+	 * @return the tracesSamplingRate
+	 */
+	public double		getTracesSamplingRate() {
+		return this.tracesSamplingRate;
+	}
+
+	/**
+	 * @return the tracesMaxRate, 0 if unlimited
+	 */
+	public int			getTracesMaxRate() {
+		return this.tracesMaxRate;
+	}
+
 	@Override
 	public String		toString() {
 		StringBuilder rjvms = new StringBuilder("{") ;
@@ -356,6 +661,14 @@ public class				ConfigurationParameters
 					append("jvm URIs: ").append(rjvms).append("; ").
 					append("main classes: ").append(theMainClasses).append("; ").
 					append("reflective JVM URIs: ").append(theReflectives).append("; ").
+					append("transport: ").append(this.transportType).append("; ").
+					append("transport ports: ").append(this.jvmURIs2transportPorts).append("; ").
+					append("executor services: ").append(this.executorServicesKind).append("; ").
+					append("shared threads: ").append(this.nbSharedThreads).append("; ").
+					append("tracers: ").append(this.tracersKind).append("; ").
+					append("traces directory: ").append(this.tracesDirectory).append("; ").
+					append("traces sampling rate: ").append(this.tracesSamplingRate).append("; ").
+					append("traces max rate: ").append(this.tracesMaxRate).append("; ").
 					append("]").toString() ;
 	}
 }
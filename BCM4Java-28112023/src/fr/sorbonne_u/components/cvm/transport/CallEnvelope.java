@@ -0,0 +1,498 @@
+package fr.sorbonne_u.components.cvm.transport;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>CallEnvelope</code> defines the binary format of the frames
+ * exchanged by the NIO transport and implements their encoding and decoding.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * Each frame is a length-prefixed byte sequence:
+ * </p>
+ * 
+ * <pre>
+ * frame    ::= length:int kind:byte requestId:long payload
+ * describe ::= portURI:UTF
+ * described::= handle:int n:int interfaceName:UTF^n m:int methodKey:UTF^m
+ * call     ::= handle:int methodIndex:int argc:int value^argc
+ * result   ::= value
+ * failure  ::= value                      // the thrown exception
+ * batch    ::= handle:int n:int (methodIndex:int argc:int value^argc)^n
+ * results  ::= n:int (failed:boolean value)^n
+ * value    ::= tag:byte data              // see the <code>TAG_*</code> constants
+ * </pre>
+ * 
+ * <p>
+ * A client first sends a <code>describe</code> frame giving the URI of the
+ * port it wants to call; the server answers with a small integer handle for
+ * the port, the names of the interfaces it implements and the keys of their
+ * methods in a fixed order. Subsequent <code>call</code> frames then only
+ * carry the handle and the index of the method in this order, which avoids
+ * transmitting port URIs and method signatures on each call. A
+ * <code>batch</code> frame carries several calls to the same port, which
+ * are executed in order by the server and answered by one
+ * <code>results</code> frame giving for each call either its result or
+ * the exception it has thrown. Values of
+ * primitive types, their wrappers, strings and arrays of bytes, integers,
+ * longs and doubles are written directly in the frame; other values are encoded with Java serialisation, as RMI would do
+ * for values passed by copy.
+ * </p>
+ * 
+ * <p>
+ * The request identifier is chosen by the caller and copied in the answer,
+ * so that any number of calls can be pending at the same time on one
+ * connection and answered in any order.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	true
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public final class		CallEnvelope
+{
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** size in bytes of the frame header (length, kind, request id).		*/
+	public static final int		HEADER_SIZE = 4 + 1 + 8;
+	/** maximum size in bytes of a frame, a protection against corrupted
+	 *  length prefixes.													*/
+	public static final int		MAX_FRAME_SIZE = 64 * 1024 * 1024;
+
+	/** frame kind: request for the description of a published port.		*/
+	public static final byte	DESCRIBE = 1;
+	/** frame kind: description of a published port.						*/
+	public static final byte	DESCRIBED = 2;
+	/** frame kind: call of a method on a described port.					*/
+	public static final byte	CALL = 3;
+	/** frame kind: normal result of a call.								*/
+	public static final byte	RESULT = 4;
+	/** frame kind: exception thrown by a call.							*/
+	public static final byte	FAILURE = 5;
+	/** frame kind: sequence of calls on a described port.				*/
+	public static final byte	BATCH = 6;
+	/** frame kind: outcomes of a sequence of calls.						*/
+	public static final byte	RESULTS = 7;
+
+	protected static final byte	TAG_NULL = 0;
+	protected static final byte	TAG_BOOLEAN = 1;
+	protected static final byte	TAG_BYTE = 2;
+	protected static final byte	TAG_SHORT = 3;
+	protected static final byte	TAG_CHAR = 4;
+	protected static final byte	TAG_INT = 5;
+	protected static final byte	TAG_LONG = 6;
+	protected static final byte	TAG_FLOAT = 7;
+	protected static final byte	TAG_DOUBLE = 8;
+	protected static final byte	TAG_STRING = 9;
+	protected static final byte	TAG_SERIALIZED = 10;
+	protected static final byte	TAG_BYTES = 11;
+	protected static final byte	TAG_INTS = 12;
+	protected static final byte	TAG_LONGS = 13;
+	protected static final byte	TAG_DOUBLES = 14;
+
+	private				CallEnvelope()
+	{
+		super();
+	}
+
+	// -------------------------------------------------------------------------
+	// Frames
+	// -------------------------------------------------------------------------
+
+	/**
+	 * a byte output stream that reserves the room for the frame header and
+	 * gives direct access to its buffer, to avoid copying the frame.
+	 *
+	 * <p>Created on : 2026-10-19</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	public static class	FrameOutputStream
+	extends		ByteArrayOutputStream
+	{
+		/**
+		 * create a frame output stream with the header room reserved.
+		 * 
+		 * @param initialSize	initial size of the buffer in bytes.
+		 */
+		public			FrameOutputStream(int initialSize)
+		{
+			super(Math.max(initialSize, HEADER_SIZE));
+			this.count = HEADER_SIZE;
+		}
+
+		/**
+		 * complete the header and return the frame as a byte buffer ready to
+		 * be written on a channel.
+		 * 
+		 * @param kind		kind of the frame.
+		 * @param requestId	identifier of the request.
+		 * @return			a byte buffer containing the complete frame.
+		 */
+		public ByteBuffer	toFrame(byte kind, long requestId)
+		{
+			ByteBuffer b = ByteBuffer.wrap(this.buf, 0, this.count);
+			b.putInt(0, this.count - 4);
+			b.put(4, kind);
+			b.putLong(5, requestId);
+			return b;
+		}
+	}
+
+	/**
+	 * create a data output stream writing the payload of a new frame.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true			// no precondition.
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param fos	frame output stream that will receive the payload.
+	 * @return		a data output stream writing on <code>fos</code>.
+	 */
+	public static DataOutputStream	payloadWriter(FrameOutputStream fos)
+	{
+		return new DataOutputStream(fos);
+	}
+
+	/**
+	 * return the kind of a received frame, given without its length prefix.
+	 * 
+	 * @param frame	frame bytes, without the length prefix.
+	 * @return		the kind of the frame.
+	 */
+	public static byte	kind(byte[] frame)
+	{
+		return frame[0];
+	}
+
+	/**
+	 * return the request identifier of a received frame, given without its
+	 * length prefix.
+	 * 
+	 * @param frame	frame bytes, without the length prefix.
+	 * @return		the request identifier of the frame.
+	 */
+	public static long	requestId(byte[] frame)
+	{
+		return ByteBuffer.wrap(frame).getLong(1);
+	}
+
+	/**
+	 * return a data input stream positioned at the beginning of the payload
+	 * of a received frame, given without its length prefix.
+	 * 
+	 * @param frame	frame bytes, without the length prefix.
+	 * @return		a data input stream reading the payload.
+	 */
+	public static DataInputStream	payloadReader(byte[] frame)
+	{
+		return new DataInputStream(
+					new ByteArrayInputStream(frame, 9, frame.length - 9));
+	}
+
+	// -------------------------------------------------------------------------
+	// Values
+	// -------------------------------------------------------------------------
+
+	/**
+	 * write a value in the compact tagged format.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code out != null}
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @param out			data output on which to write.
+	 * @param v				value to be written, possibly null.
+	 * @throws IOException	when the value cannot be written or serialised.
+	 */
+	public static void	writeValue(DataOutputStream out, Object v)
+	throws	IOException
+	{
+		if (v == null) {
+			out.writeByte(TAG_NULL);
+		} else if (v instanceof Integer) {
+			out.writeByte(TAG_INT);
+			out.writeInt((Integer) v);
+		} else if (v instanceof Double) {
+			out.writeByte(TAG_DOUBLE);
+			out.writeDouble((Double) v);
+		} else if (v instanceof String) {
+			String s = (String) v;
+			if (s.length() < 16384) {
+				out.writeByte(TAG_STRING);
+				out.writeUTF(s);
+			} else {
+				writeSerialized(out, s);
+			}
+		} else if (v instanceof Boolean) {
+			out.writeByte(TAG_BOOLEAN);
+			out.writeBoolean((Boolean) v);
+		} else if (v instanceof Long) {
+			out.writeByte(TAG_LONG);
+			out.writeLong((Long) v);
+		} else if (v instanceof Float) {
+			out.writeByte(TAG_FLOAT);
+			out.writeFloat((Float) v);
+		} else if (v instanceof Byte) {
+			out.writeByte(TAG_BYTE);
+			out.writeByte((Byte) v);
+		} else if (v instanceof Short) {
+			out.writeByte(TAG_SHORT);
+			out.writeShort((Short) v);
+		} else if (v instanceof Character) {
+			out.writeByte(TAG_CHAR);
+			out.writeChar((Character) v);
+		} else if (v instanceof double[]) {
+			double[] a = (double[]) v;
+			out.writeByte(TAG_DOUBLES);
+			out.writeInt(a.length);
+			byte[] bytes = new byte[8 * a.length];
+			ByteBuffer.wrap(bytes).asDoubleBuffer().put(a);
+			out.write(bytes);
+		} else if (v instanceof int[]) {
+			int[] a = (int[]) v;
+			out.writeByte(TAG_INTS);
+			out.writeInt(a.length);
+			byte[] bytes = new byte[4 * a.length];
+			ByteBuffer.wrap(bytes).asIntBuffer().put(a);
+			out.write(bytes);
+		} else if (v instanceof long[]) {
+			long[] a = (long[]) v;
+			out.writeByte(TAG_LONGS);
+			out.writeInt(a.length);
+			byte[] bytes = new byte[8 * a.length];
+			ByteBuffer.wrap(bytes).asLongBuffer().put(a);
+			out.write(bytes);
+		} else if (v instanceof byte[]) {
+			byte[] a = (byte[]) v;
+			out.writeByte(TAG_BYTES);
+			out.writeInt(a.length);
+			out.write(a);
+		} else {
+			writeSerialized(out, v);
+		}
+	}
+
+	/**
+	 * write a value using Java serialisation.
+	 * 
+	 * @param out			data output on which to write.
+	 * @param v				value to be written.
+	 * @throws IOException	when the value cannot be serialised.
+	 */
+	protected static void	writeSerialized(DataOutputStream out, Object v)
+	throws	IOException
+	{
+		ByteArrayOutputStream bos = new ByteArrayOutputStream(256);
+		ObjectOutputStream oos = new ObjectOutputStream(bos);
+		oos.writeObject(v);
+		oos.close();
+		out.writeByte(TAG_SERIALIZED);
+		out.writeInt(bos.size());
+		bos.writeTo(out);
+	}
+
+	/**
+	 * read a value written by <code>writeValue</code>.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code in != null}
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @param in			data input from which to read.
+	 * @param cl			class loader used to resolve serialised classes.
+	 * @return				the value read, possibly null.
+	 * @throws IOException	when the value cannot be read or deserialised.
+	 */
+	public static Object	readValue(DataInputStream in, ClassLoader cl)
+	throws	IOException
+	{
+		byte tag = in.readByte();
+		switch (tag) {
+		case TAG_NULL:		return null;
+		case TAG_BOOLEAN:	return in.readBoolean();
+		case TAG_BYTE:		return in.readByte();
+		case TAG_SHORT:		return in.readShort();
+		case TAG_CHAR:		return in.readChar();
+		case TAG_INT:		return in.readInt();
+		case TAG_LONG:		return in.readLong();
+		case TAG_FLOAT:		return in.readFloat();
+		case TAG_DOUBLE:	return in.readDouble();
+		case TAG_STRING:	return in.readUTF();
+		case TAG_BYTES:
+			byte[] bs = new byte[in.readInt()];
+			in.readFully(bs);
+			return bs;
+		case TAG_INTS:
+			int[] is = new int[in.readInt()];
+			ByteBuffer.wrap(readBytes(in, 4 * is.length)).asIntBuffer().get(is);
+			return is;
+		case TAG_LONGS:
+			long[] ls = new long[in.readInt()];
+			ByteBuffer.wrap(readBytes(in, 8 * ls.length)).asLongBuffer().get(ls);
+			return ls;
+		case TAG_DOUBLES:
+			double[] ds = new double[in.readInt()];
+			ByteBuffer.wrap(readBytes(in, 8 * ds.length)).
+												asDoubleBuffer().get(ds);
+			return ds;
+		case TAG_SERIALIZED:
+			byte[] bytes = new byte[in.readInt()];
+			in.readFully(bytes);
+			try (ObjectInputStream ois =
+						new LoaderObjectInputStream(bytes, cl)) {
+				return ois.readObject();
+			} catch (ClassNotFoundException e) {
+				throw new IOException(e);
+			}
+		default:
+			throw new IOException("unknown value tag: " + tag);
+		}
+	}
+
+	/**
+	 * read <code>n</code> bytes.
+	 * 
+	 * @param in			data input from which to read.
+	 * @param n				number of bytes to be read.
+	 * @return				the bytes read.
+	 * @throws IOException	when the bytes cannot be read.
+	 */
+	protected static byte[]	readBytes(DataInputStream in, int n)
+	throws	IOException
+	{
+		byte[] bytes = new byte[n];
+		in.readFully(bytes);
+		return bytes;
+	}
+
+	/**
+	 * an object input stream resolving classes with a given class loader.
+	 *
+	 * <p>Created on : 2026-10-19</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	protected static class	LoaderObjectInputStream
+	extends		ObjectInputStream
+	{
+		protected final ClassLoader	cl;
+
+		public			LoaderObjectInputStream(byte[] bytes, ClassLoader cl)
+		throws	IOException
+		{
+			super(new ByteArrayInputStream(bytes));
+			this.cl = cl;
+		}
+
+		/**
+		 * @see java.io.ObjectInputStream#resolveClass(java.io.ObjectStreamClass)
+		 */
+		@Override
+		protected Class<?>	resolveClass(ObjectStreamClass desc)
+		throws	IOException, ClassNotFoundException
+		{
+			if (this.cl != null) {
+				try {
+					return Class.forName(desc.getName(), false, this.cl);
+				} catch (ClassNotFoundException e) {
+					// fall back to the default resolution
+				}
+			}
+			return super.resolveClass(desc);
+		}
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return the key identifying a method independently of the interface
+	 * declaring it, <i>i.e.</i>, its name followed by its parameter types.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code m != null}
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param m	method which key is computed.
+	 * @return	the key of <code>m</code>.
+	 */
+	public static String	methodKey(Method m)
+	{
+		StringBuilder sb = new StringBuilder(m.getName()).append('(');
+		Class<?>[] pts = m.getParameterTypes();
+		for (int i = 0 ; i < pts.length ; i++) {
+			if (i > 0) {
+				sb.append(',');
+			}
+			sb.append(pts[i].getName());
+		}
+		return sb.append(')').toString();
+	}
+}
+// -----------------------------------------------------------------------------
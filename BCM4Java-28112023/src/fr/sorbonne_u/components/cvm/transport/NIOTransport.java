@@ -0,0 +1,1324 @@
+package fr.sorbonne_u.components.cvm.transport;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.rmi.ConnectException;
+import java.rmi.NoSuchObjectException;
+import java.rmi.RemoteException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import fr.sorbonne_u.exceptions.PreconditionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>NIOTransport</code> implements a multiplexed, non-blocking
+ * socket transport for calls between component virtual machines, used as an
+ * alternative to RMI when selected in the deployment configuration.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * One instance is created per JVM. It runs a single selector thread that
+ * accepts connections from other JVM (when a listening port has been opened
+ * with <code>start</code>), reads and frames incoming bytes and completes
+ * the writes that the calling threads could not do directly because the
+ * socket buffer was full. Frames have the compact binary format defined by
+ * <code>CallEnvelope</code>.
+ * </p>
+ * <p>
+ * On the client side, the connections to a peer JVM are kept in a pool of
+ * <code>connectionsPerPeer</code> channels shared by all of the stubs calling
+ * ports published by this peer; each call is given a unique request
+ * identifier and the calling thread waits on a future completed by the
+ * selector thread when the answer carrying the same identifier arrives.
+ * Hence, no thread is dedicated to a connection and any number of calls
+ * may be pending at the same time on one channel. A call fails with a
+ * <code>ConnectException</code> as soon as its connection is closed, or
+ * when the selector thread stops, and with a <code>RemoteException</code>
+ * when its answer does not arrive within the call timeout, so that a
+ * calling thread is never blocked forever by a peer that has stopped
+ * answering.
+ * </p>
+ * <p>
+ * On the server side, the ports are found by their URI through a resolver
+ * function, typically the local registry of the component virtual machine.
+ * Calls are executed by a dispatcher thread pool, as RMI does, so that a
+ * call blocking in a component never blocks the selector thread.
+ * </p>
+ * <p>
+ * Stubs returned by <code>lookup</code> are dynamic proxies implementing
+ * the interfaces of the remote port that are known in the current JVM, which
+ * makes them usable wherever the RMI stub of the port would be, in particular
+ * by connectors that cast them to their offered component interface.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code connectionsPerPeer > 0}
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			NIOTransport
+{
+	// -------------------------------------------------------------------------
+	// Inner classes
+	// -------------------------------------------------------------------------
+
+	/**
+	 * The class <code>Connection</code> holds the state of one socket
+	 * channel managed by the selector thread.
+	 *
+	 * <p>Created on : 2026-10-19</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	protected static class	Connection
+	{
+		/** the socket channel.											*/
+		protected final SocketChannel					channel;
+		/** frames waiting to be written on the channel.					*/
+		protected final ConcurrentLinkedQueue<ByteBuffer>	writeQueue;
+		/** true when the selector thread has been asked to write.			*/
+		protected final AtomicBoolean					writeScheduled;
+		/** buffer accumulating the bytes read but not yet framed.			*/
+		protected ByteBuffer							readBuffer;
+		/** selection key of the channel, set by the selector thread.		*/
+		protected volatile SelectionKey					key;
+		/** true when the channel has been closed.							*/
+		protected volatile boolean						closed;
+
+		public			Connection(SocketChannel channel)
+		{
+			this.channel = channel;
+			this.writeQueue = new ConcurrentLinkedQueue<ByteBuffer>();
+			this.writeScheduled = new AtomicBoolean(false);
+			this.readBuffer = ByteBuffer.allocate(INITIAL_READ_BUFFER_SIZE);
+			this.closed = false;
+		}
+	}
+
+	/**
+	 * The class <code>PendingCall</code> is the future completed with the
+	 * answer frame of a request.
+	 *
+	 * <p>Created on : 2026-10-19</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	protected static class	PendingCall
+	extends		CompletableFuture<byte[]>
+	{
+		/** connection on which the request has been sent.					*/
+		protected final Connection	connection;
+
+		public			PendingCall(Connection connection)
+		{
+			this.connection = connection;
+		}
+	}
+
+	/**
+	 * The class <code>ExportedPort</code> holds the description of a port
+	 * called through the transport, as computed on the server side.
+	 *
+	 * <p>Created on : 2026-10-19</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	protected static class	ExportedPort
+	{
+		/** handle given to clients for this port.							*/
+		protected final int			handle;
+		/** URI of the port.												*/
+		protected final String		portURI;
+		/** the port object.												*/
+		protected final Object		port;
+		/** names of the interfaces implemented by the port.				*/
+		protected final String[]	interfaceNames;
+		/** methods of the interfaces, sorted by key.						*/
+		protected final Method[]	methods;
+		/** keys of the methods, in the same order.							*/
+		protected final String[]	methodKeys;
+
+		public			ExportedPort(int handle, String portURI, Object port)
+		{
+			this.handle = handle;
+			this.portURI = portURI;
+			this.port = port;
+
+			LinkedHashSet<Class<?>> interfaces = new LinkedHashSet<Class<?>>();
+			for (Class<?> c = port.getClass() ; c != null ;
+												c = c.getSuperclass()) {
+				collectInterfaces(c, interfaces);
+			}
+			TreeMap<String,Method> sorted = new TreeMap<String,Method>();
+			this.interfaceNames = new String[interfaces.size()];
+			int i = 0;
+			for (Class<?> inter : interfaces) {
+				this.interfaceNames[i++] = inter.getName();
+				for (Method m : inter.getMethods()) {
+					sorted.putIfAbsent(CallEnvelope.methodKey(m), m);
+				}
+			}
+			this.methods = sorted.values().toArray(new Method[sorted.size()]);
+			this.methodKeys = sorted.keySet().toArray(new String[sorted.size()]);
+		}
+
+		/**
+		 * add to <code>result</code> the public interfaces implemented by
+		 * <code>c</code>, excluding those of the Java platform.
+		 * 
+		 * @param c			class or interface which interfaces are collected.
+		 * @param result	set receiving the interfaces.
+		 */
+		protected static void	collectInterfaces(
+			Class<?> c,
+			LinkedHashSet<Class<?>> result
+			)
+		{
+			for (Class<?> inter : c.getInterfaces()) {
+				if (Modifier.isPublic(inter.getModifiers()) &&
+						!inter.getName().startsWith("java.") &&
+						!inter.getName().startsWith("javax.")) {
+					result.add(inter);
+				}
+				collectInterfaces(inter, result);
+			}
+		}
+	}
+
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** default number of connections opened to each peer JVM.			*/
+	public static final int		DEFAULT_CONNECTIONS_PER_PEER = 1;
+	/** initial size in bytes of the read buffer of a connection.			*/
+	protected static final int	INITIAL_READ_BUFFER_SIZE = 64 * 1024;
+	/** maximum number of frames written with one gathering write.		*/
+	protected static final int	MAX_GATHERED_FRAMES = 64;
+	/** default time to wait for the answer of a call, in nanoseconds.		*/
+	public static long			DEFAULT_CALL_TIMEOUT =
+											TimeUnit.MINUTES.toNanos(5);
+	/** time to wait for the selector thread to execute a task, in
+	 *  nanoseconds.														*/
+	protected static final long	SELECTOR_TASK_TIMEOUT =
+											TimeUnit.SECONDS.toNanos(30);
+
+	/** function returning the locally published port with a given URI or
+	 *  null if none.														*/
+	protected final Function<String,Object>	resolver;
+	/** number of connections opened to each peer JVM.						*/
+	protected final int						connectionsPerPeer;
+	/** the selector multiplexing all of the channels.						*/
+	protected final Selector				selector;
+	/** the thread running the selector loop.								*/
+	protected final Thread					selectorThread;
+	/** tasks to be executed by the selector thread.						*/
+	protected final ConcurrentLinkedQueue<Runnable>	selectorTasks;
+	/** thread pool executing the incoming calls.							*/
+	protected final ExecutorService			dispatcher;
+	/** false when the transport has been shut down.						*/
+	protected volatile boolean				running;
+	/** listening channel or null if the transport is client only.			*/
+	protected ServerSocketChannel			server;
+
+	/** generator of request identifiers.									*/
+	protected final AtomicLong				nextRequestId;
+	/** requests sent and not yet answered.								*/
+	protected final ConcurrentHashMap<Long,PendingCall>	pending;
+	/** pools of connections, indexed by "hostname:port".					*/
+	protected final ConcurrentHashMap<String,Connection[]>	pool;
+	/** counter used to spread the calls over the pooled connections.		*/
+	protected final AtomicInteger			roundRobin;
+	/** time to wait for the answer of a call, in nanoseconds.				*/
+	protected volatile long					callTimeout;
+
+	/** ports described to clients, indexed by their URI.					*/
+	protected final ConcurrentHashMap<String,ExportedPort>	exportsByURI;
+	/** ports described to clients, indexed by their handle.				*/
+	protected final ConcurrentHashMap<Integer,ExportedPort>	exportsByHandle;
+	/** generator of port handles.											*/
+	protected final AtomicInteger			nextHandle;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create a transport with the default number of connections per peer.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code resolver != null}
+	 * post	{@code !isListening()}
+	 * </pre>
+	 *
+	 * @param resolver		function returning the locally published port with a given URI or null if none.
+	 * @throws IOException	when the selector cannot be opened.
+	 */
+	public				NIOTransport(Function<String,Object> resolver)
+	throws	IOException
+	{
+		this(resolver, DEFAULT_CONNECTIONS_PER_PEER);
+	}
+
+	/**
+	 * create a transport.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code resolver != null}
+	 * pre	{@code connectionsPerPeer > 0}
+	 * post	{@code !isListening()}
+	 * </pre>
+	 *
+	 * @param resolver				function returning the locally published port with a given URI or null if none.
+	 * @param connectionsPerPeer	number of connections opened to each peer JVM.
+	 * @throws IOException			when the selector cannot be opened.
+	 */
+	public				NIOTransport(
+		Function<String,Object> resolver,
+		int connectionsPerPeer
+		) throws IOException
+	{
+		super();
+
+		assert	resolver != null :
+				new PreconditionException("resolver != null");
+		assert	connectionsPerPeer > 0 :
+				new PreconditionException("connectionsPerPeer > 0");
+
+		this.resolver = resolver;
+		this.connectionsPerPeer = connectionsPerPeer;
+		this.selector = Selector.open();
+		this.selectorTasks = new ConcurrentLinkedQueue<Runnable>();
+		this.dispatcher =
+			Executors.newCachedThreadPool(r -> {
+					Thread t = new Thread(r, "nio-transport-dispatcher");
+					t.setDaemon(true);
+					return t;
+				});
+		this.nextRequestId = new AtomicLong(0L);
+		this.pending = new ConcurrentHashMap<Long,PendingCall>();
+		this.pool = new ConcurrentHashMap<String,Connection[]>();
+		this.roundRobin = new AtomicInteger(0);
+		this.callTimeout = DEFAULT_CALL_TIMEOUT;
+		this.exportsByURI = new ConcurrentHashMap<String,ExportedPort>();
+		this.exportsByHandle = new ConcurrentHashMap<Integer,ExportedPort>();
+		this.nextHandle = new AtomicInteger(0);
+		this.server = null;
+		this.running = true;
+		this.selectorThread = new Thread(this::selectorLoop, "nio-transport");
+		this.selectorThread.setDaemon(true);
+		this.selectorThread.start();
+	}
+
+	// -------------------------------------------------------------------------
+	// Life-cycle
+	// -------------------------------------------------------------------------
+
+	/**
+	 * open the listening port of this transport, on all of the interfaces of
+	 * the host; when <code>port</code> is 0, an ephemeral port is chosen.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code !isListening()}
+	 * pre	{@code port >= 0 && port <= 65535}
+	 * post	{@code isListening()}
+	 * </pre>
+	 *
+	 * @param port			port number to listen on, or 0.
+	 * @return				the actual port number listened on.
+	 * @throws Exception	when the port cannot be opened.
+	 */
+	public int			start(int port) throws Exception
+	{
+		assert	!this.isListening() :
+				new PreconditionException("!isListening()");
+		assert	port >= 0 && port <= 65535 :
+				new PreconditionException("port >= 0 && port <= 65535");
+
+		ServerSocketChannel ssc = ServerSocketChannel.open();
+		ssc.bind(new InetSocketAddress(port));
+		ssc.configureBlocking(false);
+		this.runOnSelector(() -> {
+			ssc.register(this.selector, SelectionKey.OP_ACCEPT);
+			return null;
+		});
+		this.server = ssc;
+		return this.getLocalPort();
+	}
+
+	/**
+	 * return true if this transport accepts calls from other JVM.
+	 * 
+	 * @return	true if this transport accepts calls from other JVM.
+	 */
+	public boolean		isListening()
+	{
+		return this.server != null;
+	}
+
+	/**
+	 * return the port number this transport listens on.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code isListening()}
+	 * post	{@code return > 0}
+	 * </pre>
+	 *
+	 * @return				the port number this transport listens on.
+	 * @throws IOException	when the local address cannot be obtained.
+	 */
+	public int			getLocalPort() throws IOException
+	{
+		assert	this.isListening() :
+				new PreconditionException("isListening()");
+
+		return ((InetSocketAddress)this.server.getLocalAddress()).getPort();
+	}
+
+	/**
+	 * close all of the channels and stop the threads of this transport;
+	 * calls still pending fail with a <code>ConnectException</code>. Calls
+	 * after the first one have no effect.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true			// no precondition.
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @throws Exception	<i>to do</i>.
+	 */
+	public synchronized void	shutdown() throws Exception
+	{
+		if (!this.running) {
+			return;
+		}
+		this.running = false;
+		this.selector.wakeup();
+		this.selectorThread.join();
+		for (SelectionKey k : this.selector.keys()) {
+			if (k.attachment() instanceof Connection) {
+				this.close((Connection) k.attachment());
+			}
+		}
+		if (this.server != null) {
+			this.server.close();
+		}
+		this.selector.close();
+		this.dispatcher.shutdownNow();
+		for (PendingCall p : this.pending.values()) {
+			p.completeExceptionally(
+					new ConnectException("transport shut down"));
+		}
+		this.pending.clear();
+	}
+
+	// -------------------------------------------------------------------------
+	// Client side
+	// -------------------------------------------------------------------------
+
+	/**
+	 * set the time to wait for the answer of a call, after which the call
+	 * fails with a <code>RemoteException</code>; the call may nevertheless
+	 * have been executed by the peer.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code timeout > 0 && unit != null}
+	 * post	{@code getCallTimeout() == unit.toNanos(timeout)}
+	 * </pre>
+	 *
+	 * @param timeout	time to wait for the answer of a call.
+	 * @param unit		time unit of <code>timeout</code>.
+	 */
+	public void			setCallTimeout(long timeout, TimeUnit unit)
+	{
+		assert	timeout > 0 && unit != null :
+				new PreconditionException("timeout > 0 && unit != null");
+
+		this.callTimeout = unit.toNanos(timeout);
+	}
+
+	/**
+	 * return the time to wait for the answer of a call, in nanoseconds.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true			// no precondition.
+	 * post	{@code return > 0}
+	 * </pre>
+	 *
+	 * @return	the time to wait for the answer of a call, in nanoseconds.
+	 */
+	public long			getCallTimeout()
+	{
+		return this.callTimeout;
+	}
+
+	/**
+	 * return a stub for the port with URI <code>portURI</code> published by
+	 * the JVM which transport listens on <code>hostname:port</code>.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code hostname != null && port > 0}
+	 * pre	{@code portURI != null}
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param hostname		host of the JVM publishing the port.
+	 * @param port			port number the transport of this JVM listens on.
+	 * @param portURI		URI of the port.
+	 * @return				a stub implementing the known interfaces of the port.
+	 * @throws Exception	when the port is unknown or the peer unreachable.
+	 */
+	public Object		lookup(String hostname, int port, String portURI)
+	throws	Exception
+	{
+		assert	hostname != null && port > 0 :
+				new PreconditionException("hostname != null && port > 0");
+		assert	portURI != null :
+				new PreconditionException("portURI != null");
+
+		CallEnvelope.FrameOutputStream fos =
+								new CallEnvelope.FrameOutputStream(64);
+		CallEnvelope.payloadWriter(fos).writeUTF(portURI);
+		byte[] answer = this.request(hostname, port, CallEnvelope.DESCRIBE, fos);
+		DataInputStream in = CallEnvelope.payloadReader(answer);
+		if (CallEnvelope.kind(answer) == CallEnvelope.FAILURE) {
+			throw (Exception) CallEnvelope.readValue(in, this.loader());
+		}
+
+		int handle = in.readInt();
+		ClassLoader cl = this.loader();
+		ArrayList<Class<?>> interfaces = new ArrayList<Class<?>>();
+		int n = in.readInt();
+		for (int i = 0 ; i < n ; i++) {
+			String name = in.readUTF();
+			try {
+				interfaces.add(Class.forName(name, false, cl));
+			} catch (ClassNotFoundException e) {
+				// an interface unknown here cannot be called from here
+			}
+		}
+		int m = in.readInt();
+		String[] methodKeys = new String[m];
+		for (int i = 0 ; i < m ; i++) {
+			methodKeys[i] = in.readUTF();
+		}
+		return Proxy.newProxyInstance(
+					cl,
+					interfaces.toArray(new Class<?>[interfaces.size()]),
+					new RemotePortStub(this, hostname, port, portURI,
+									   handle, methodKeys));
+	}
+
+	/**
+	 * call a method on a remote port described by <code>lookup</code> and
+	 * return its result or throw its exception.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code hostname != null && port > 0}
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @param hostname		host of the JVM publishing the port.
+	 * @param port			port number the transport of this JVM listens on.
+	 * @param handle		handle of the port given by the remote transport.
+	 * @param methodIndex	index of the method in the port description.
+	 * @param args			actual arguments of the call, possibly null.
+	 * @return				the result of the call.
+	 * @throws Throwable	the exception thrown by the call or a <code>RemoteException</code> when the call could not be done.
+	 */
+	public Object		call(
+		String hostname,
+		int port,
+		int handle,
+		int methodIndex,
+		Object[] args
+		) throws Throwable
+	{
+		CallEnvelope.FrameOutputStream fos =
+								new CallEnvelope.FrameOutputStream(128);
+		DataOutputStream out = CallEnvelope.payloadWriter(fos);
+		out.writeInt(handle);
+		out.writeInt(methodIndex);
+		int argc = args == null ? 0 : args.length;
+		out.writeInt(argc);
+		for (int i = 0 ; i < argc ; i++) {
+			CallEnvelope.writeValue(out, args[i]);
+		}
+		byte[] answer = this.request(hostname, port, CallEnvelope.CALL, fos);
+		Object v = CallEnvelope.readValue(CallEnvelope.payloadReader(answer),
+										  this.loader());
+		if (CallEnvelope.kind(answer) == CallEnvelope.FAILURE) {
+			throw (Throwable) v;
+		}
+		return v;
+	}
+
+	/**
+	 * execute a sequence of calls on a remote port described by
+	 * <code>lookup</code> in one round trip; the calls are executed in order
+	 * by the remote JVM and their individual outcomes are returned in
+	 * <code>results</code> and <code>failed</code>.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code hostname != null && port > 0}
+	 * pre	{@code methodIndexes != null && args != null}
+	 * pre	{@code methodIndexes.length == args.length}
+	 * pre	{@code results != null && results.length >= methodIndexes.length}
+	 * pre	{@code failed != null && failed.length >= methodIndexes.length}
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @param hostname		host of the JVM publishing the port.
+	 * @param port			port number the transport of this JVM listens on.
+	 * @param handle		handle of the port given by the remote transport.
+	 * @param methodIndexes	indexes of the methods in the port description.
+	 * @param args			actual arguments of the calls, possibly null for some calls.
+	 * @param results		receives the results or the exceptions of the calls.
+	 * @param failed		receives true for the calls that have thrown an exception.
+	 * @throws Exception	when the batch could not be sent or answered as a whole.
+	 */
+	public void			callBatch(
+		String hostname,
+		int port,
+		int handle,
+		int[] methodIndexes,
+		Object[][] args,
+		Object[] results,
+		boolean[] failed
+		) throws Exception
+	{
+		assert	methodIndexes != null && args != null &&
+									methodIndexes.length == args.length :
+				new PreconditionException(
+						"methodIndexes != null && args != null && "
+						+ "methodIndexes.length == args.length");
+		assert	results != null && results.length >= methodIndexes.length :
+				new PreconditionException(
+						"results != null && "
+						+ "results.length >= methodIndexes.length");
+		assert	failed != null && failed.length >= methodIndexes.length :
+				new PreconditionException(
+						"failed != null && "
+						+ "failed.length >= methodIndexes.length");
+
+		CallEnvelope.FrameOutputStream fos =
+				new CallEnvelope.FrameOutputStream(64 * methodIndexes.length);
+		DataOutputStream out = CallEnvelope.payloadWriter(fos);
+		out.writeInt(handle);
+		out.writeInt(methodIndexes.length);
+		for (int i = 0 ; i < methodIndexes.length ; i++) {
+			out.writeInt(methodIndexes[i]);
+			int argc = args[i] == null ? 0 : args[i].length;
+			out.writeInt(argc);
+			for (int j = 0 ; j < argc ; j++) {
+				CallEnvelope.writeValue(out, args[i][j]);
+			}
+		}
+		byte[] answer = this.request(hostname, port, CallEnvelope.BATCH, fos);
+		DataInputStream in = CallEnvelope.payloadReader(answer);
+		ClassLoader cl = this.loader();
+		if (CallEnvelope.kind(answer) == CallEnvelope.FAILURE) {
+			throw (Exception) CallEnvelope.readValue(in, cl);
+		}
+		int n = in.readInt();
+		for (int i = 0 ; i < n ; i++) {
+			failed[i] = in.readBoolean();
+			results[i] = CallEnvelope.readValue(in, cl);
+		}
+	}
+
+	/**
+	 * send a request frame to a peer and wait for its answer frame, at most
+	 * for the call timeout.
+	 * 
+	 * @param hostname		host of the peer.
+	 * @param port			port number the transport of the peer listens on.
+	 * @param kind			kind of the request frame.
+	 * @param payload		payload of the request frame.
+	 * @return				the answer frame, without its length prefix.
+	 * @throws Exception	when the request could not be sent or answered in time.
+	 */
+	protected byte[]	request(
+		String hostname,
+		int port,
+		byte kind,
+		CallEnvelope.FrameOutputStream payload
+		) throws Exception
+	{
+		Connection c = this.connectionTo(hostname, port);
+		long id = this.nextRequestId.incrementAndGet();
+		PendingCall p = new PendingCall(c);
+		this.pending.put(id, p);
+		if (c.closed) {
+			// the connection may have been closed before the call was
+			// registered, in which case nobody else will complete it
+			this.pending.remove(id);
+			throw new ConnectException(
+						"connection to " + hostname + ":" + port + " closed");
+		}
+		this.send(c, payload.toFrame(kind, id));
+		long timeout = this.callTimeout;
+		try {
+			return p.get(timeout, TimeUnit.NANOSECONDS);
+		} catch (ExecutionException e) {
+			Throwable t = e.getCause();
+			if (t instanceof Exception) {
+				throw (Exception) t;
+			} else {
+				throw new RemoteException("call failed", t);
+			}
+		} catch (TimeoutException e) {
+			throw new RemoteException(
+						"no answer from " + hostname + ":" + port + " within "
+						+ TimeUnit.NANOSECONDS.toMillis(timeout) + " ms", e);
+		} finally {
+			// a late answer will be ignored
+			this.pending.remove(id, p);
+		}
+	}
+
+	/**
+	 * return a pooled connection to a peer, opening it if necessary.
+	 * 
+	 * @param hostname		host of the peer.
+	 * @param port			port number the transport of the peer listens on.
+	 * @return				an open connection to the peer.
+	 * @throws Exception	when the connection cannot be opened.
+	 */
+	protected Connection	connectionTo(String hostname, int port)
+	throws	Exception
+	{
+		if (!this.running) {
+			throw new ConnectException("transport shut down");
+		}
+		Connection[] connections =
+			this.pool.computeIfAbsent(
+						hostname + ":" + port,
+						k -> new Connection[this.connectionsPerPeer]);
+		int i = connections.length == 1 ?
+					0
+				:	Math.floorMod(this.roundRobin.getAndIncrement(),
+								  connections.length);
+		Connection c = connections[i];
+		if (c == null || c.closed) {
+			synchronized (connections) {
+				c = connections[i];
+				if (c == null || c.closed) {
+					c = this.open(hostname, port);
+					connections[i] = c;
+				}
+			}
+		}
+		return c;
+	}
+
+	/**
+	 * open a new connection to a peer and register it with the selector.
+	 * 
+	 * @param hostname		host of the peer.
+	 * @param port			port number the transport of the peer listens on.
+	 * @return				the new connection.
+	 * @throws Exception	when the connection cannot be opened.
+	 */
+	protected Connection	open(String hostname, int port) throws Exception
+	{
+		SocketChannel ch;
+		try {
+			ch = SocketChannel.open(new InetSocketAddress(hostname, port));
+		} catch (IOException e) {
+			throw new ConnectException(
+						"cannot connect to " + hostname + ":" + port, e);
+		}
+		Connection c = new Connection(ch);
+		try {
+			ch.socket().setTcpNoDelay(true);
+			ch.configureBlocking(false);
+			this.runOnSelector(() -> {
+				c.key = ch.register(this.selector, SelectionKey.OP_READ, c);
+				return null;
+			});
+		} catch (Exception e) {
+			this.close(c);
+			throw e;
+		}
+		return c;
+	}
+
+	/**
+	 * return the class loader used to resolve the classes of the values and
+	 * interfaces received from other JVM.
+	 * 
+	 * @return	the class loader used to resolve received classes.
+	 */
+	protected ClassLoader	loader()
+	{
+		ClassLoader cl = Thread.currentThread().getContextClassLoader();
+		return cl != null ? cl : NIOTransport.class.getClassLoader();
+	}
+
+	// -------------------------------------------------------------------------
+	// Server side
+	// -------------------------------------------------------------------------
+
+	/**
+	 * serve a request frame received from a client; executed by the
+	 * dispatcher thread pool.
+	 * 
+	 * @param c		connection on which the request has been received.
+	 * @param frame	request frame, without its length prefix.
+	 */
+	protected void		serve(Connection c, byte[] frame)
+	{
+		long id = CallEnvelope.requestId(frame);
+		CallEnvelope.FrameOutputStream fos =
+								new CallEnvelope.FrameOutputStream(128);
+		DataOutputStream out = CallEnvelope.payloadWriter(fos);
+		byte kind;
+		try {
+			DataInputStream in = CallEnvelope.payloadReader(frame);
+			if (CallEnvelope.kind(frame) == CallEnvelope.DESCRIBE) {
+				ExportedPort e = this.export(in.readUTF());
+				out.writeInt(e.handle);
+				out.writeInt(e.interfaceNames.length);
+				for (String name : e.interfaceNames) {
+					out.writeUTF(name);
+				}
+				out.writeInt(e.methodKeys.length);
+				for (String key : e.methodKeys) {
+					out.writeUTF(key);
+				}
+				kind = CallEnvelope.DESCRIBED;
+			} else if (CallEnvelope.kind(frame) == CallEnvelope.CALL) {
+				ExportedPort e = this.exportedPort(in.readInt());
+				Method m = e.methods[in.readInt()];
+				Object[] args = this.readArguments(in, e);
+				Object result;
+				try {
+					result = m.invoke(e.port, args);
+				} catch (InvocationTargetException ite) {
+					throw ite.getCause();
+				}
+				CallEnvelope.writeValue(out, result);
+				kind = CallEnvelope.RESULT;
+			} else {
+				ExportedPort e = this.exportedPort(in.readInt());
+				int n = in.readInt();
+				out.writeInt(n);
+				for (int i = 0 ; i < n ; i++) {
+					Method m = e.methods[in.readInt()];
+					Object[] args = this.readArguments(in, e);
+					Object result;
+					boolean failed;
+					try {
+						result = m.invoke(e.port, args);
+						failed = false;
+					} catch (InvocationTargetException ite) {
+						result = ite.getCause();
+						failed = true;
+					}
+					out.writeBoolean(failed);
+					CallEnvelope.writeValue(out, result);
+				}
+				kind = CallEnvelope.RESULTS;
+			}
+		} catch (Throwable t) {
+			fos = new CallEnvelope.FrameOutputStream(256);
+			out = CallEnvelope.payloadWriter(fos);
+			try {
+				try {
+					CallEnvelope.writeValue(out, t);
+				} catch (IOException e) {
+					// the exception itself is not serialisable
+					fos = new CallEnvelope.FrameOutputStream(256);
+					out = CallEnvelope.payloadWriter(fos);
+					CallEnvelope.writeValue(out, new RemoteException(t.toString()));
+				}
+			} catch (IOException e) {
+				throw new RuntimeException(e);
+			}
+			kind = CallEnvelope.FAILURE;
+		}
+		this.send(c, fos.toFrame(kind, id));
+	}
+
+	/**
+	 * return the description of the port with the given handle, checking
+	 * that the port is still published.
+	 * 
+	 * @param handle		handle of the port.
+	 * @return				the description of the port.
+	 * @throws Exception	when the port is no longer published.
+	 */
+	protected ExportedPort	exportedPort(int handle) throws Exception
+	{
+		ExportedPort e = this.exportsByHandle.get(handle);
+		if (e == null || this.resolver.apply(e.portURI) != e.port) {
+			throw new NoSuchObjectException(
+							"port no longer published" +
+							(e == null ? "" : ": " + e.portURI));
+		}
+		return e;
+	}
+
+	/**
+	 * read the actual arguments of a call on a port.
+	 * 
+	 * @param in			data input positioned on the argument count.
+	 * @param e				description of the called port.
+	 * @return				the actual arguments.
+	 * @throws IOException	when the arguments cannot be read.
+	 */
+	protected Object[]	readArguments(DataInputStream in, ExportedPort e)
+	throws	IOException
+	{
+		Object[] args = new Object[in.readInt()];
+		ClassLoader cl = e.port.getClass().getClassLoader();
+		for (int i = 0 ; i < args.length ; i++) {
+			args[i] = CallEnvelope.readValue(in, cl);
+		}
+		return args;
+	}
+
+	/**
+	 * return the description of the locally published port with URI
+	 * <code>portURI</code>, computing it if necessary.
+	 * 
+	 * @param portURI		URI of the port.
+	 * @return				the description of the port.
+	 * @throws Exception	when no port is published with this URI.
+	 */
+	protected ExportedPort	export(String portURI) throws Exception
+	{
+		Object port = this.resolver.apply(portURI);
+		if (port == null) {
+			throw new NoSuchObjectException("unknown port URI: " + portURI);
+		}
+		ExportedPort e = this.exportsByURI.get(portURI);
+		if (e == null || e.port != port) {
+			synchronized (this.exportsByURI) {
+				e = this.exportsByURI.get(portURI);
+				if (e == null || e.port != port) {
+					if (e != null) {
+						this.exportsByHandle.remove(e.handle);
+					}
+					e = new ExportedPort(this.nextHandle.incrementAndGet(),
+										 portURI, port);
+					this.exportsByHandle.put(e.handle, e);
+					this.exportsByURI.put(portURI, e);
+				}
+			}
+		}
+		return e;
+	}
+
+	// -------------------------------------------------------------------------
+	// Selector loop
+	// -------------------------------------------------------------------------
+
+	/**
+	 * a task executed by the selector thread.
+	 *
+	 * <p>Created on : 2026-10-19</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	@FunctionalInterface
+	protected static interface	SelectorTask
+	{
+		public Object	run() throws Exception;
+	}
+
+	/**
+	 * execute a task on the selector thread and wait for its completion, at
+	 * most for <code>SELECTOR_TASK_TIMEOUT</code>; channels must be
+	 * registered by this thread to avoid blocking on the selector.
+	 * 
+	 * @param task			task to be executed.
+	 * @throws Exception	the exception thrown by the task or a <code>ConnectException</code> if the selector thread does not execute it.
+	 */
+	protected void		runOnSelector(SelectorTask task) throws Exception
+	{
+		if (!this.running || !this.selectorThread.isAlive()) {
+			throw new ConnectException("transport shut down");
+		}
+		CompletableFuture<Object> done = new CompletableFuture<Object>();
+		this.selectorTasks.add(() -> {
+			try {
+				done.complete(task.run());
+			} catch (Throwable t) {
+				done.completeExceptionally(t);
+			}
+		});
+		this.selector.wakeup();
+		try {
+			done.get(SELECTOR_TASK_TIMEOUT, TimeUnit.NANOSECONDS);
+		} catch (ExecutionException e) {
+			throw (Exception) e.getCause();
+		} catch (TimeoutException e) {
+			throw new ConnectException("transport selector not responding", e);
+		}
+	}
+
+	/**
+	 * queue a frame for writing on a connection and write it directly from
+	 * the calling thread when no other thread is writing on the connection;
+	 * the selector thread takes over only when the socket buffer is full.
+	 * 
+	 * @param c		connection on which the frame must be written.
+	 * @param frame	frame to be written.
+	 */
+	protected void		send(Connection c, ByteBuffer frame)
+	{
+		c.writeQueue.add(frame);
+		while (c.writeScheduled.compareAndSet(false, true)) {
+			boolean flushed;
+			try {
+				flushed = this.flush(c);
+			} catch (IOException e) {
+				this.close(c);
+				return;
+			}
+			if (!flushed) {
+				// writeScheduled stays true until the selector thread has
+				// written the remaining frames
+				this.selectorTasks.add(() -> this.enableWrite(c));
+				this.selector.wakeup();
+				return;
+			}
+			c.writeScheduled.set(false);
+			if (c.writeQueue.isEmpty()) {
+				// frames queued after the flush will be written by the
+				// thread that queued them, which will then succeed the CAS
+				return;
+			}
+		}
+	}
+
+	/**
+	 * ask the selector to signal when <code>c</code> can be written.
+	 * 
+	 * @param c	connection to be written.
+	 */
+	protected void		enableWrite(Connection c)
+	{
+		SelectionKey k = c.key;
+		try {
+			if (k != null && k.isValid()) {
+				k.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+			}
+		} catch (CancelledKeyException e) {
+			// the connection has been closed meanwhile
+		}
+	}
+
+	/**
+	 * the loop executed by the selector thread; when it stops, for whatever
+	 * reason, all of the connections are closed so that no call remains
+	 * pending.
+	 */
+	protected void		selectorLoop()
+	{
+		try {
+			this.select();
+		} finally {
+			for (SelectionKey k : this.selector.keys()) {
+				if (k.attachment() instanceof Connection) {
+					this.close((Connection) k.attachment());
+				}
+			}
+			for (PendingCall p : this.pending.values()) {
+				p.completeExceptionally(
+						new ConnectException("transport selector stopped"));
+			}
+		}
+	}
+
+	/**
+	 * select and handle the ready channels until the transport is shut down
+	 * or the selector fails.
+	 */
+	protected void		select()
+	{
+		while (this.running) {
+			try {
+				this.selector.select();
+			} catch (IOException e) {
+				break;
+			}
+			Runnable task;
+			while ((task = this.selectorTasks.poll()) != null) {
+				task.run();
+			}
+			Iterator<SelectionKey> iter =
+								this.selector.selectedKeys().iterator();
+			while (iter.hasNext()) {
+				SelectionKey k = iter.next();
+				iter.remove();
+				Connection c = (Connection) k.attachment();
+				try {
+					if (!k.isValid()) {
+						continue;
+					}
+					if (k.isAcceptable()) {
+						this.accept();
+						continue;
+					}
+					if (k.isReadable()) {
+						this.read(c);
+					}
+					if (k.isValid() && k.isWritable()) {
+						this.write(c);
+					}
+				} catch (IOException | CancelledKeyException e) {
+					// CancelledKeyException: the connection has been closed
+					// by another thread after the validity test
+					if (c != null) {
+						this.close(c);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * accept a connection from a client.
+	 * 
+	 * @throws IOException	when the connection cannot be accepted.
+	 */
+	protected void		accept() throws IOException
+	{
+		SocketChannel ch = this.server.accept();
+		if (ch != null) {
+			ch.socket().setTcpNoDelay(true);
+			ch.configureBlocking(false);
+			Connection c = new Connection(ch);
+			c.key = ch.register(this.selector, SelectionKey.OP_READ, c);
+		}
+	}
+
+	/**
+	 * read the available bytes on a connection and handle the complete
+	 * frames.
+	 * 
+	 * @param c				connection to be read.
+	 * @throws IOException	when the connection is closed or broken.
+	 */
+	protected void		read(Connection c) throws IOException
+	{
+		if (c.channel.read(c.readBuffer) < 0) {
+			throw new IOException("connection closed by peer");
+		}
+		ByteBuffer b = c.readBuffer;
+		b.flip();
+		while (b.remaining() >= 4) {
+			int length = b.getInt(b.position());
+			if (length < CallEnvelope.HEADER_SIZE - 4 ||
+										length > CallEnvelope.MAX_FRAME_SIZE) {
+				throw new IOException("corrupted frame length: " + length);
+			}
+			if (b.remaining() < 4 + length) {
+				if (b.capacity() < 4 + length) {
+					ByteBuffer larger = ByteBuffer.allocate(4 + length);
+					larger.put(b);
+					c.readBuffer = larger;
+					return;
+				}
+				break;
+			}
+			b.position(b.position() + 4);
+			byte[] frame = new byte[length];
+			b.get(frame);
+			this.handleFrame(c, frame);
+		}
+		b.compact();
+	}
+
+	/**
+	 * handle a complete frame received on a connection: answers complete
+	 * the corresponding pending call, requests are passed to the dispatcher.
+	 * 
+	 * @param c		connection on which the frame has been received.
+	 * @param frame	the frame, without its length prefix.
+	 */
+	protected void		handleFrame(Connection c, byte[] frame)
+	{
+		byte kind = CallEnvelope.kind(frame);
+		if (kind == CallEnvelope.DESCRIBE || kind == CallEnvelope.CALL ||
+											kind == CallEnvelope.BATCH) {
+			this.dispatcher.execute(() -> this.serve(c, frame));
+		} else {
+			PendingCall p = this.pending.remove(CallEnvelope.requestId(frame));
+			if (p != null) {
+				p.complete(frame);
+			}
+		}
+	}
+
+	/**
+	 * write the queued frames of a connection when the selector signals
+	 * that the channel accepts bytes again.
+	 * 
+	 * @param c				connection to be written.
+	 * @throws IOException	when the connection is closed or broken.
+	 */
+	protected void		write(Connection c) throws IOException
+	{
+		if (this.flush(c)) {
+			c.key.interestOps(SelectionKey.OP_READ);
+			c.writeScheduled.set(false);
+			if (!c.writeQueue.isEmpty() &&
+								c.writeScheduled.compareAndSet(false, true)) {
+				c.key.interestOps(
+							SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+			}
+		}
+	}
+
+	/**
+	 * write the queued frames of a connection, as many as the channel
+	 * accepts, with gathering writes; must be called by the thread that
+	 * has set <code>writeScheduled</code>.
+	 * 
+	 * @param c				connection to be written.
+	 * @return				true if the queue has been emptied, false if the socket buffer is full.
+	 * @throws IOException	when the connection is closed or broken.
+	 */
+	protected boolean	flush(Connection c) throws IOException
+	{
+		ByteBuffer[] batch = new ByteBuffer[MAX_GATHERED_FRAMES];
+		while (true) {
+			int n = 0;
+			for (ByteBuffer b : c.writeQueue) {
+				batch[n++] = b;
+				if (n == batch.length) {
+					break;
+				}
+			}
+			if (n == 0) {
+				break;
+			}
+			c.channel.write(batch, 0, n);
+			for (int i = 0 ; i < n ; i++) {
+				if (batch[i].hasRemaining()) {
+					// the socket buffer is full
+					return false;
+				}
+				c.writeQueue.poll();
+				batch[i] = null;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * close a connection and fail the calls still pending on it.
+	 * 
+	 * @param c	connection to be closed.
+	 */
+	protected void		close(Connection c)
+	{
+		c.closed = true;
+		if (c.key != null) {
+			c.key.cancel();
+		}
+		try {
+			c.channel.close();
+		} catch (IOException e) {
+			// already closed
+		}
+		for (Map.Entry<Long,PendingCall> e : this.pending.entrySet()) {
+			if (e.getValue().connection == c) {
+				this.pending.remove(e.getKey());
+				e.getValue().completeExceptionally(
+							new ConnectException("connection closed"));
+			}
+		}
+	}
+}
+// -----------------------------------------------------------------------------
@@ -0,0 +1,241 @@
+package fr.sorbonne_u.components.cvm.transport;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.rmi.ConnectException;
+import java.rmi.NoSuchObjectException;
+import java.rmi.RemoteException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>NIOTransportTest</code> tests the NIO transport over the
+ * loopback interface, in particular that calls never remain blocked when
+ * the peer stops answering or closes the connection.
+ *
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant		true
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			NIOTransportTest
+{
+	/** URI of the port published by the server transport.				*/
+	protected static final String	ECHO_URI = "echo";
+
+	/**
+	 * The interface <code>EchoI</code> is offered by the test port.
+	 *
+	 * <p>Created on : 2026-10-19</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	public static interface	EchoI
+	{
+		public int		twice(int x) throws Exception;
+		public void		block() throws Exception;
+	}
+
+	/**
+	 * The class <code>Echo</code> implements the test port; its method
+	 * <code>block</code> waits until <code>release</code> is counted down.
+	 *
+	 * <p>Created on : 2026-10-19</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	public static class		Echo
+	implements	EchoI
+	{
+		protected final CountDownLatch	release = new CountDownLatch(1);
+
+		@Override
+		public int		twice(int x) throws Exception
+		{
+			return 2 * x;
+		}
+
+		@Override
+		public void		block() throws Exception
+		{
+			this.release.await();
+		}
+	}
+
+	@Test
+	public void			testCalls() throws Exception
+	{
+		Echo echo = new Echo();
+		NIOTransport server =
+				new NIOTransport(uri -> ECHO_URI.equals(uri) ? echo : null);
+		NIOTransport client = new NIOTransport(uri -> null);
+		try {
+			int port = server.start(0);
+			EchoI stub = (EchoI) client.lookup("localhost", port, ECHO_URI);
+			Assertions.assertEquals(42, stub.twice(21));
+			Assertions.assertThrows(
+				NoSuchObjectException.class,
+				() -> client.lookup("localhost", port, "unknown"));
+			Assertions.assertTrue(client.pending.isEmpty());
+		} finally {
+			client.shutdown();
+			server.shutdown();
+		}
+	}
+
+	@Test
+	public void			testCallTimeout() throws Exception
+	{
+		Echo echo = new Echo();
+		NIOTransport server =
+				new NIOTransport(uri -> ECHO_URI.equals(uri) ? echo : null);
+		NIOTransport client = new NIOTransport(uri -> null);
+		try {
+			int port = server.start(0);
+			EchoI stub = (EchoI) client.lookup("localhost", port, ECHO_URI);
+			client.setCallTimeout(200, TimeUnit.MILLISECONDS);
+			long start = System.nanoTime();
+			RemoteException e =
+				Assertions.assertThrows(RemoteException.class,
+										() -> stub.block());
+			Assertions.assertTrue(e.getCause() instanceof TimeoutException);
+			Assertions.assertTrue(
+				System.nanoTime() - start < TimeUnit.SECONDS.toNanos(10));
+			Assertions.assertTrue(client.pending.isEmpty());
+
+			// the late answer is ignored and the connection still usable
+			echo.release.countDown();
+			Assertions.assertEquals(8, stub.twice(4));
+		} finally {
+			client.shutdown();
+			server.shutdown();
+		}
+	}
+
+	@Test
+	public void			testPendingCallsFailWhenConnectionCloses()
+	throws	Exception
+	{
+		NIOTransport client = new NIOTransport(uri -> null);
+		// a peer that accepts the connection but never answers
+		try (ServerSocket peer = new ServerSocket(0)) {
+			CompletableFuture<Object> outcome =
+										new CompletableFuture<Object>();
+			Thread caller = new Thread(() -> {
+					try {
+						outcome.complete(client.lookup(
+								"localhost", peer.getLocalPort(), ECHO_URI));
+					} catch (Throwable t) {
+						outcome.completeExceptionally(t);
+					}
+				});
+			caller.start();
+			Socket s = peer.accept();
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+			while (client.pending.isEmpty() && System.nanoTime() < deadline) {
+				Thread.sleep(10);
+			}
+			Assertions.assertEquals(1, client.pending.size());
+			Assertions.assertFalse(outcome.isDone());
+
+			s.close();
+			ExecutionException e =
+				Assertions.assertThrows(
+						ExecutionException.class,
+						() -> outcome.get(10, TimeUnit.SECONDS));
+			Assertions.assertTrue(e.getCause() instanceof ConnectException);
+			caller.join();
+			Assertions.assertTrue(client.pending.isEmpty());
+		} finally {
+			client.shutdown();
+		}
+	}
+
+	@Test
+	public void			testPendingCallsFailOnShutdown() throws Exception
+	{
+		Echo echo = new Echo();
+		NIOTransport server =
+				new NIOTransport(uri -> ECHO_URI.equals(uri) ? echo : null);
+		NIOTransport client = new NIOTransport(uri -> null);
+		try {
+			int port = server.start(0);
+			EchoI stub = (EchoI) client.lookup("localhost", port, ECHO_URI);
+			CompletableFuture<Object> outcome =
+										new CompletableFuture<Object>();
+			Thread caller = new Thread(() -> {
+					try {
+						stub.block();
+						outcome.complete(null);
+					} catch (Throwable t) {
+						outcome.completeExceptionally(t);
+					}
+				});
+			caller.start();
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+			while (client.pending.isEmpty() && System.nanoTime() < deadline) {
+				Thread.sleep(10);
+			}
+			Assertions.assertEquals(1, client.pending.size());
+
+			// the server closes its connections when shut down
+			server.shutdown();
+			ExecutionException e =
+				Assertions.assertThrows(
+						ExecutionException.class,
+						() -> outcome.get(10, TimeUnit.SECONDS));
+			Assertions.assertTrue(e.getCause() instanceof ConnectException);
+			caller.join();
+		} finally {
+			echo.release.countDown();
+			client.shutdown();
+			server.shutdown();
+		}
+	}
+}
+// -----------------------------------------------------------------------------
@@ -0,0 +1,640 @@
+package fr.sorbonne_u.components.cvm.transport;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.rmi.RemoteException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>RemotePortStub</code> implements the invocation handler of
+ * the dynamic proxies standing for ports published by other JVM through the
+ * NIO transport.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * A stub is created by <code>NIOTransport.lookup</code> from the description
+ * of the port sent by the JVM publishing it. Each method called on the proxy
+ * is mapped once to its index in this description, after which a call only
+ * transmits the port handle, the method index and the actual arguments.
+ * The methods <code>equals</code>, <code>hashCode</code> and
+ * <code>toString</code> are executed locally, stubs being equal when they
+ * designate the same port on the same peer.
+ * </p>
+ * <p>
+ * A thread may put the stubs in capture mode with <code>startCapture</code>:
+ * until <code>stopCapture</code> is called, the calls it makes on any stub
+ * are not sent but recorded, and the stubs return a probe value of the
+ * result type of the method. The recorded calls can then be executed in one
+ * round trip with <code>executeBatch</code>. Outbound ports use this mode to
+ * pipeline calls going through their connector.
+ * </p>
+ * <p>
+ * The probes let callers check that the connector has returned the result
+ * of the stub unchanged. For reference types, the probe is a sentinel
+ * created for the call, which must come back as the same instance; for
+ * primitive types, which cannot carry an identity, the probe is the zero of
+ * the type, or a distinctive value when the capture has been started with
+ * alternative probes, so that the call can be made a second time to check
+ * that both values come back. The other reference types get null, which
+ * cannot be checked.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code transport != null}
+ * invariant	{@code hostname != null && port > 0}
+ * invariant	{@code portURI != null}
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			RemotePortStub
+implements	InvocationHandler
+{
+	// -------------------------------------------------------------------------
+	// Inner classes
+	// -------------------------------------------------------------------------
+
+	/**
+	 * The class <code>CapturedCall</code> records a call made on a stub in
+	 * capture mode.
+	 *
+	 * <p>Created on : 2026-10-19</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	public static class	CapturedCall
+	{
+		/** stub on which the call has been made.							*/
+		protected final RemotePortStub	stub;
+		/** index of the called method in the port description.			*/
+		protected final int				methodIndex;
+		/** actual arguments of the call.									*/
+		protected final Object[]		args;
+		/** result type of the called method.								*/
+		protected final Class<?>		resultType;
+		/** probe returned by the stub in capture mode.					*/
+		protected final Object			stubResult;
+
+		public			CapturedCall(
+			RemotePortStub stub,
+			int methodIndex,
+			Object[] args,
+			Class<?> resultType,
+			Object stubResult
+			)
+		{
+			this.stub = stub;
+			this.methodIndex = methodIndex;
+			this.args = args;
+			this.resultType = resultType;
+			this.stubResult = stubResult;
+		}
+
+		/**
+		 * return the result type of the called method.
+		 * 
+		 * @return	the result type of the called method.
+		 */
+		public Class<?>	getResultType()
+		{
+			return this.resultType;
+		}
+
+		/**
+		 * return the probe returned by the stub when the call was captured,
+		 * which callers must not have changed to use the actual result.
+		 * 
+		 * @return	the probe returned by the stub when the call was captured.
+		 */
+		public Object	getStubResult()
+		{
+			return this.stubResult;
+		}
+
+		/**
+		 * return true if this call and <code>other</code> call the same
+		 * method on the same remote port.
+		 * 
+		 * @param other	another captured call.
+		 * @return		true if both calls call the same method on the same remote port.
+		 */
+		public boolean	sameMethod(CapturedCall other)
+		{
+			return this.methodIndex == other.methodIndex &&
+												this.sameTarget(other);
+		}
+
+		/**
+		 * return true if this call and <code>other</code> are made on the
+		 * same remote port and can therefore be put in the same batch.
+		 * 
+		 * @param other	another captured call.
+		 * @return		true if both calls are made on the same remote port.
+		 */
+		public boolean	sameTarget(CapturedCall other)
+		{
+			return this.stub == other.stub ||
+								this.stub.designatesSamePort(other.stub);
+		}
+	}
+
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** calls recorded by the current thread when in capture mode.			*/
+	protected static final ThreadLocal<ArrayList<CapturedCall>>	CAPTURED =
+										new ThreadLocal<ArrayList<CapturedCall>>();
+	/** true when the stubs return the alternative probes for the primitive
+	 *  types to the current thread in capture mode.						*/
+	protected static final ThreadLocal<Boolean>	ALTERNATIVE_PROBES =
+													new ThreadLocal<Boolean>();
+	/** invocation handler of the sentinels returned for interface types,
+	 *  which only answer the methods of <code>Object</code>.				*/
+	protected static final InvocationHandler		SENTINEL_HANDLER =
+		(proxy, method, args) -> {
+			switch (method.getName()) {
+			case "equals":
+				if (method.getDeclaringClass() == Object.class) {
+					return proxy == args[0];
+				}
+				break;
+			case "hashCode":
+				if (method.getDeclaringClass() == Object.class) {
+					return System.identityHashCode(proxy);
+				}
+				break;
+			case "toString":
+				if (method.getDeclaringClass() == Object.class) {
+					return "pipelined call result";
+				}
+				break;
+			}
+			throw new UnsupportedOperationException(
+						"the result of a pipelined call cannot be used by "
+						+ "the connector.");
+		};
+
+	/** transport used to perform the calls.								*/
+	protected final NIOTransport				transport;
+	/** host of the JVM publishing the port.								*/
+	protected final String						hostname;
+	/** port number the transport of this JVM listens on.					*/
+	protected final int							port;
+	/** URI of the remote port.												*/
+	protected final String						portURI;
+	/** handle of the port given by the remote transport.					*/
+	protected final int							handle;
+	/** map from method keys to their index in the port description.		*/
+	protected final HashMap<String,Integer>		keys2indexes;
+	/** cache of the indexes of the methods already called.				*/
+	protected final ConcurrentHashMap<Method,Integer>	indexes;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create a stub handler for a remote port.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code transport != null}
+	 * pre	{@code hostname != null && port > 0}
+	 * pre	{@code portURI != null && methodKeys != null}
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @param transport		transport used to perform the calls.
+	 * @param hostname		host of the JVM publishing the port.
+	 * @param port			port number the transport of this JVM listens on.
+	 * @param portURI		URI of the remote port.
+	 * @param handle		handle of the port given by the remote transport.
+	 * @param methodKeys	keys of the methods of the port, in the order of its description.
+	 */
+	public				RemotePortStub(
+		NIOTransport transport,
+		String hostname,
+		int port,
+		String portURI,
+		int handle,
+		String[] methodKeys
+		)
+	{
+		super();
+		this.transport = transport;
+		this.hostname = hostname;
+		this.port = port;
+		this.portURI = portURI;
+		this.handle = handle;
+		this.keys2indexes = new HashMap<String,Integer>(2 * methodKeys.length);
+		for (int i = 0 ; i < methodKeys.length ; i++) {
+			this.keys2indexes.put(methodKeys[i], i);
+		}
+		this.indexes = new ConcurrentHashMap<Method,Integer>();
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return the URI of the remote port.
+	 * 
+	 * @return	the URI of the remote port.
+	 */
+	public String		getPortURI()
+	{
+		return this.portURI;
+	}
+
+	/**
+	 * @see java.lang.reflect.InvocationHandler#invoke(java.lang.Object, java.lang.reflect.Method, java.lang.Object[])
+	 */
+	@Override
+	public Object		invoke(Object proxy, Method method, Object[] args)
+	throws	Throwable
+	{
+		if (method.getDeclaringClass() == Object.class) {
+			switch (method.getName()) {
+			case "equals":
+				Object other = args[0];
+				if (other == null || !Proxy.isProxyClass(other.getClass())) {
+					return false;
+				}
+				InvocationHandler h = Proxy.getInvocationHandler(other);
+				return h instanceof RemotePortStub &&
+							this.designatesSamePort((RemotePortStub) h);
+			case "hashCode":
+				return this.portURI.hashCode() ^ this.port;
+			default:
+				return this.toString();
+			}
+		}
+
+		int index = this.indexOf(method);
+		ArrayList<CapturedCall> captured = CAPTURED.get();
+		if (captured != null) {
+			Object ret = probe(method.getReturnType(),
+							   ALTERNATIVE_PROBES.get() == Boolean.TRUE);
+			captured.add(new CapturedCall(this, index, args,
+										  method.getReturnType(), ret));
+			return ret;
+		}
+		return this.transport.call(this.hostname, this.port, this.handle,
+								   index, args);
+	}
+
+	/**
+	 * return the index of <code>method</code> in the port description.
+	 * 
+	 * @param method			a method of one of the interfaces of the port.
+	 * @return					its index in the port description.
+	 * @throws RemoteException	when the remote port does not offer the method.
+	 */
+	protected int		indexOf(Method method) throws RemoteException
+	{
+		Integer index = this.indexes.get(method);
+		if (index == null) {
+			index = this.keys2indexes.get(CallEnvelope.methodKey(method));
+			if (index == null) {
+				throw new RemoteException(
+							"method " + method + " not offered by the port "
+							+ this.portURI);
+			}
+			this.indexes.put(method, index);
+		}
+		return index;
+	}
+
+	/**
+	 * return the probe returned by stubs in capture mode for a result type.
+	 * 
+	 * @param type			result type of a method.
+	 * @param alternative	true if the alternative probe of a primitive type must be returned.
+	 * @return				the probe for <code>type</code>.
+	 */
+	protected static Object	probe(Class<?> type, boolean alternative)
+	{
+		if (type == void.class) {
+			return null;
+		} else if (type.isPrimitive()) {
+			return alternative ? alternativeValue(type) : defaultValue(type);
+		} else {
+			return sentinel(type);
+		}
+	}
+
+	/**
+	 * return a new instance of a reference type which identity allows to
+	 * recognise it when it is returned, or null if no such instance can be
+	 * created for the type.
+	 * 
+	 * @param type	reference result type of a method.
+	 * @return		a new instance of <code>type</code> or null.
+	 */
+	@SuppressWarnings("deprecation")
+	protected static Object	sentinel(Class<?> type)
+	{
+		if (type == Object.class) {
+			return new Object();
+		} else if (type == String.class) {
+			// a content changed by the usual string transformations
+			return new String(" Pipelined ");
+		} else if (type == Boolean.class) {
+			return new Boolean(false);
+		} else if (type == Character.class) {
+			return new Character('\0');
+		} else if (type == Byte.class) {
+			return new Byte((byte) 0);
+		} else if (type == Short.class) {
+			return new Short((short) 0);
+		} else if (type == Integer.class) {
+			return new Integer(0);
+		} else if (type == Long.class) {
+			return new Long(0L);
+		} else if (type == Float.class) {
+			return new Float(0.0f);
+		} else if (type == Double.class) {
+			return new Double(0.0);
+		} else if (type.isArray()) {
+			return Array.newInstance(type.getComponentType(), 0);
+		} else if (type.isInterface()) {
+			return Proxy.newProxyInstance(type.getClassLoader(),
+										  new Class<?>[]{type},
+										  SENTINEL_HANDLER);
+		} else {
+			return null;
+		}
+	}
+
+	/**
+	 * return a value of a primitive type distinct from its zero and which
+	 * the usual arithmetic transformations change.
+	 * 
+	 * @param type	primitive result type of a method.
+	 * @return		the alternative probe of the primitive type.
+	 */
+	protected static Object	alternativeValue(Class<?> type)
+	{
+		if (type == boolean.class) {
+			return true;
+		} else if (type == char.class) {
+			return '\u4d2b';
+		} else if (type == byte.class) {
+			return (byte) -83;
+		} else if (type == short.class) {
+			return (short) -12347;
+		} else if (type == int.class) {
+			return -123456789;
+		} else if (type == long.class) {
+			return -1234567890123L;
+		} else if (type == float.class) {
+			return -12345.678f;
+		} else {
+			return -12345.678;
+		}
+	}
+
+	/**
+	 * return the zero of a result type.
+	 * 
+	 * @param type	result type of a method.
+	 * @return		null or the zero of the primitive type.
+	 */
+	protected static Object	defaultValue(Class<?> type)
+	{
+		if (!type.isPrimitive() || type == void.class) {
+			return null;
+		} else if (type == boolean.class) {
+			return false;
+		} else if (type == char.class) {
+			return '\0';
+		} else if (type == byte.class) {
+			return (byte) 0;
+		} else if (type == short.class) {
+			return (short) 0;
+		} else if (type == int.class) {
+			return 0;
+		} else if (type == long.class) {
+			return 0L;
+		} else if (type == float.class) {
+			return 0.0f;
+		} else {
+			return 0.0;
+		}
+	}
+
+	// -------------------------------------------------------------------------
+	// Capture mode
+	// -------------------------------------------------------------------------
+
+	/**
+	 * put the stubs in capture mode for the current thread.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code !isCapturing()}
+	 * post	{@code isCapturing()}
+	 * </pre>
+	 */
+	public static void	startCapture()
+	{
+		startCapture(false);
+	}
+
+	/**
+	 * put the stubs in capture mode for the current thread, returning the
+	 * alternative probes for the primitive types if <code>alternative</code>
+	 * is true.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code !isCapturing()}
+	 * post	{@code isCapturing()}
+	 * </pre>
+	 *
+	 * @param alternative	true if the alternative probes must be returned.
+	 */
+	public static void	startCapture(boolean alternative)
+	{
+		assert	!isCapturing();
+
+		CAPTURED.set(new ArrayList<CapturedCall>());
+		if (alternative) {
+			ALTERNATIVE_PROBES.set(Boolean.TRUE);
+		}
+	}
+
+	/**
+	 * return true if the stubs are in capture mode for the current thread.
+	 * 
+	 * @return	true if the stubs are in capture mode for the current thread.
+	 */
+	public static boolean	isCapturing()
+	{
+		return CAPTURED.get() != null;
+	}
+
+	/**
+	 * return the number of calls captured so far by the current thread.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code isCapturing()}
+	 * post	{@code return >= 0}
+	 * </pre>
+	 *
+	 * @return	the number of calls captured so far by the current thread.
+	 */
+	public static int	capturedCount()
+	{
+		assert	isCapturing();
+
+		return CAPTURED.get().size();
+	}
+
+	/**
+	 * leave the capture mode for the current thread and return the calls
+	 * recorded since <code>startCapture</code>, in the order they were made.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code isCapturing()}
+	 * post	{@code !isCapturing()}
+	 * </pre>
+	 *
+	 * @return	the calls recorded by the current thread.
+	 */
+	public static List<CapturedCall>	stopCapture()
+	{
+		assert	isCapturing();
+
+		ArrayList<CapturedCall> ret = CAPTURED.get();
+		CAPTURED.remove();
+		ALTERNATIVE_PROBES.remove();
+		return ret;
+	}
+
+	/**
+	 * execute the captured calls <code>calls[from]</code> to
+	 * <code>calls[to - 1]</code>, all made on the same remote port, in one
+	 * round trip, and put their outcomes in <code>results</code> and
+	 * <code>failed</code> at the same indexes.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code calls != null && 0 <= from && from < to && to <= calls.size()}
+	 * pre	{@code forall i in from+1 .. to-1, calls.get(i).sameTarget(calls.get(from))}
+	 * pre	{@code results.length >= to && failed.length >= to}
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @param calls			captured calls.
+	 * @param from			index of the first call to be executed.
+	 * @param to			index following the last call to be executed.
+	 * @param results		receives the results or the exceptions of the calls.
+	 * @param failed		receives true for the calls that have thrown an exception.
+	 * @throws Exception	when the batch could not be executed as a whole.
+	 */
+	public static void	executeBatch(
+		List<CapturedCall> calls,
+		int from,
+		int to,
+		Object[] results,
+		boolean[] failed
+		) throws Exception
+	{
+		assert	calls != null && 0 <= from && from < to && to <= calls.size();
+
+		int n = to - from;
+		int[] methodIndexes = new int[n];
+		Object[][] args = new Object[n][];
+		for (int i = 0 ; i < n ; i++) {
+			CapturedCall c = calls.get(from + i);
+			methodIndexes[i] = c.methodIndex;
+			args[i] = c.args;
+		}
+		Object[] r = new Object[n];
+		boolean[] f = new boolean[n];
+		RemotePortStub stub = calls.get(from).stub;
+		stub.transport.callBatch(stub.hostname, stub.port, stub.handle,
+								 methodIndexes, args, r, f);
+		System.arraycopy(r, 0, results, from, n);
+		System.arraycopy(f, 0, failed, from, n);
+	}
+
+	/**
+	 * return true if <code>other</code> designates the same port as this.
+	 * 
+	 * @param other	another stub handler.
+	 * @return		true if <code>other</code> designates the same port as this.
+	 */
+	protected boolean	designatesSamePort(RemotePortStub other)
+	{
+		return this.portURI.equals(other.portURI) &&
+					this.hostname.equals(other.hostname) &&
+					this.port == other.port;
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String		toString()
+	{
+		return "RemotePortStub[socket=" + this.hostname + ":" + this.port
+									+ "/" + this.portURI + "]";
+	}
+}
+// -----------------------------------------------------------------------------
@@ -0,0 +1,145 @@
+package fr.sorbonne_u.components.exceptions;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>RequestRejectedException</code> defines exceptions that are
+ * thrown to the callers of a component when their request is not accepted
+ * because the component is overloaded.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * Requests are rejected either by a bounded executor service which queue is
+ * full or by the admission limiter of an inbound port. The exception is the
+ * back-pressure signal sent to the clients: as it extends
+ * <code>RejectedExecutionException</code>, it propagates through the usual
+ * paths of executor services rejections, and when the rejecting party can
+ * tell when capacity will be available again, it carries a hint of the delay
+ * after which the client should retry, so that clients can slow down rather
+ * than retrying immediately.
+ * </p>
+ * 
+ * <p><strong>White-box Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code retryAfterNanos >= 0}
+ * </pre>
+ * 
+ * <p><strong>Black-box Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code getRetryAfter(TimeUnit.NANOSECONDS) >= 0}
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			RequestRejectedException
+extends		RejectedExecutionException
+{
+	private static final long	serialVersionUID = 1L;
+	/** suggested delay in nanoseconds before retrying, 0 if unknown.		*/
+	protected final long		retryAfterNanos;
+
+	public				RequestRejectedException(String message)
+	{
+		this(message, 0L);
+	}
+
+	public				RequestRejectedException(
+		String message,
+		long retryAfterNanos
+		)
+	{
+		super(message);
+		this.retryAfterNanos = Math.max(0L, retryAfterNanos);
+	}
+
+	public				RequestRejectedException(
+		String message,
+		Throwable cause
+		)
+	{
+		super(message, cause);
+		this.retryAfterNanos = 0L;
+	}
+
+	/**
+	 * return true if the rejecting party suggested a delay before retrying.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true		// no precondition.
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @return	true if a delay before retrying is suggested.
+	 */
+	public boolean		hasRetryAfter()
+	{
+		return this.retryAfterNanos > 0L;
+	}
+
+	/**
+	 * return the suggested delay before retrying in the given time unit,
+	 * rounded up, or 0 if unknown.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code unit != null}
+	 * post	{@code return >= 0}
+	 * </pre>
+	 *
+	 * @param unit	time unit of the result.
+	 * @return		the suggested delay before retrying.
+	 */
+	public long			getRetryAfter(TimeUnit unit)
+	{
+		long n = unit.convert(this.retryAfterNanos, TimeUnit.NANOSECONDS);
+		if (unit.toNanos(n) < this.retryAfterNanos) {
+			n++;
+		}
+		return n;
+	}
+}
+// -----------------------------------------------------------------------------
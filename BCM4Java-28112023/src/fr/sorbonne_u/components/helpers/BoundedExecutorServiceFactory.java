@@ -0,0 +1,315 @@
+package fr.sorbonne_u.components.helpers;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import fr.sorbonne_u.components.AbstractComponent.ExecutorServiceFactory;
+import fr.sorbonne_u.components.exceptions.RequestRejectedException;
+import fr.sorbonne_u.exceptions.PreconditionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>BoundedExecutorServiceFactory</code> implements an executor
+ * service factory creating thread pools which queue of waiting tasks has a
+ * bounded capacity.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * The standard executor services of components have unbounded queues, so a
+ * component receiving requests faster than it can execute them accumulates
+ * them until the JVM runs out of memory. With a bounded queue, the requests
+ * arriving when the queue is full are handled according to a
+ * <code>RejectionPolicy</code>:
+ * </p>
+ * <ul>
+ * <li><code>CALLER_RUNS</code>: the request is executed by the thread of the
+ *   caller, which slows down the caller as much as the component is slow;
+ *   beware that the requests are then no longer serialised on the thread(s)
+ *   of the component.</li>
+ * <li><code>FAIL_FAST</code>: a <code>RequestRejectedException</code> is
+ *   thrown to the caller at once.</li>
+ * <li><code>BLOCK</code>: the caller waits for a free place in the queue at
+ *   most the given timeout, after which a
+ *   <code>RequestRejectedException</code> is thrown to it.</li>
+ * </ul>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code capacity > 0 && policy != null}
+ * invariant	{@code policy != RejectionPolicy.BLOCK || timeout >= 0}
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			BoundedExecutorServiceFactory
+implements	ExecutorServiceFactory
+{
+	// -------------------------------------------------------------------------
+	// Inner types
+	// -------------------------------------------------------------------------
+
+	/**
+	 * The enumeration <code>RejectionPolicy</code> defines the ways requests
+	 * arriving when the queue is full are handled.
+	 *
+	 * <p>Created on : 2026-10-19</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	public static enum	RejectionPolicy
+	{
+		/** the caller executes the request itself.							*/
+		CALLER_RUNS,
+		/** the request is rejected at once.								*/
+		FAIL_FAST,
+		/** the caller waits for a free place, up to a timeout.				*/
+		BLOCK
+	}
+
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** maximum number of waiting tasks in each created executor service.	*/
+	protected final int				capacity;
+	/** policy applied to the tasks submitted when the queue is full.		*/
+	protected final RejectionPolicy	policy;
+	/** maximum waiting time of the callers with the policy BLOCK.			*/
+	protected final long			timeout;
+	/** time unit of <code>timeout</code>.									*/
+	protected final TimeUnit		unit;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create a factory of executor services with the given queue capacity
+	 * which reject the tasks when their queue is full.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code capacity > 0}
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @param capacity	maximum number of waiting tasks in each created executor service.
+	 */
+	public				BoundedExecutorServiceFactory(int capacity)
+	{
+		this(capacity, RejectionPolicy.FAIL_FAST);
+	}
+
+	/**
+	 * create a factory of executor services with the given queue capacity
+	 * and the given rejection policy, which must not be <code>BLOCK</code>.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code capacity > 0}
+	 * pre	{@code policy != null && policy != RejectionPolicy.BLOCK}
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @param capacity	maximum number of waiting tasks in each created executor service.
+	 * @param policy	policy applied to the tasks submitted when the queue is full.
+	 */
+	public				BoundedExecutorServiceFactory(
+		int capacity,
+		RejectionPolicy policy
+		)
+	{
+		this(capacity, policy, 0L, TimeUnit.NANOSECONDS);
+
+		assert	policy != RejectionPolicy.BLOCK :
+					new PreconditionException(
+							"policy != RejectionPolicy.BLOCK");
+	}
+
+	/**
+	 * create a factory of executor services with the given queue capacity
+	 * and the given rejection policy, callers waiting at most
+	 * <code>timeout</code> for a free place with the policy
+	 * <code>BLOCK</code>.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code capacity > 0}
+	 * pre	{@code policy != null}
+	 * pre	{@code timeout >= 0 && unit != null}
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @param capacity	maximum number of waiting tasks in each created executor service.
+	 * @param policy	policy applied to the tasks submitted when the queue is full.
+	 * @param timeout	maximum waiting time of the callers with the policy <code>BLOCK</code>.
+	 * @param unit		time unit of <code>timeout</code>.
+	 */
+	public				BoundedExecutorServiceFactory(
+		int capacity,
+		RejectionPolicy policy,
+		long timeout,
+		TimeUnit unit
+		)
+	{
+		assert	capacity > 0 : new PreconditionException("capacity > 0");
+		assert	policy != null : new PreconditionException("policy != null");
+		assert	timeout >= 0 && unit != null :
+					new PreconditionException("timeout >= 0 && unit != null");
+
+		this.capacity = capacity;
+		this.policy = policy;
+		this.timeout = timeout;
+		this.unit = unit;
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return the maximum number of waiting tasks in each created executor
+	 * service.
+	 * 
+	 * @return	the maximum number of waiting tasks.
+	 */
+	public int			getCapacity()
+	{
+		return this.capacity;
+	}
+
+	/**
+	 * return the policy applied to the tasks submitted when the queue is full.
+	 * 
+	 * @return	the rejection policy.
+	 */
+	public RejectionPolicy	getPolicy()
+	{
+		return this.policy;
+	}
+
+	/**
+	 * return the handler implementing the rejection policy.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true		// no precondition.
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @return	the handler implementing the rejection policy.
+	 */
+	protected RejectedExecutionHandler	createRejectionHandler()
+	{
+		switch (this.policy) {
+		case CALLER_RUNS:
+			// unlike ThreadPoolExecutor.CallerRunsPolicy, do not discard the
+			// task silently after shutdown, as the caller would then wait for
+			// its result forever
+			return (r, executor) -> {
+					if (executor.isShutdown()) {
+						throw new RequestRejectedException(
+											"executor service is shut down");
+					}
+					r.run();
+				};
+		case BLOCK:
+			final long timeoutNanos = this.unit.toNanos(this.timeout);
+			return (r, executor) -> {
+					if (executor.isShutdown()) {
+						throw new RequestRejectedException(
+											"executor service is shut down");
+					}
+					boolean queued = false;
+					try {
+						queued = executor.getQueue().offer(
+										r, timeoutNanos, TimeUnit.NANOSECONDS);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+						throw new RequestRejectedException(
+									"interrupted while waiting for a free "
+									+ "place in the queue", e);
+					}
+					if (!queued) {
+						throw new RequestRejectedException(
+									"queue of capacity " + this.capacity
+									+ " still full after " + timeoutNanos
+									+ " ns");
+					}
+					// a shutdown concurrent with the offer may leave the task
+					// in a queue that will never be run
+					if (executor.isShutdown() && executor.remove(r)) {
+						throw new RequestRejectedException(
+											"executor service is shut down");
+					}
+				};
+		default:
+			return (r, executor) -> {
+					throw new RequestRejectedException(
+								executor.isShutdown() ?
+									"executor service is shut down"
+								:	"queue of capacity " + this.capacity
+									+ " is full");
+				};
+		}
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.AbstractComponent.ExecutorServiceFactory#createExecutorService(int)
+	 */
+	@Override
+	public ExecutorService	createExecutorService(int nbThreads)
+	{
+		assert	nbThreads > 0 : new PreconditionException("nbThreads > 0");
+
+		return new ThreadPoolExecutor(
+						nbThreads, nbThreads, 0L, TimeUnit.MILLISECONDS,
+						new ArrayBlockingQueue<Runnable>(this.capacity),
+						this.createRejectionHandler());
+	}
+}
+// -----------------------------------------------------------------------------
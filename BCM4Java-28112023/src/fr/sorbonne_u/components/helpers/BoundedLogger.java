@@ -0,0 +1,648 @@
+package fr.sorbonne_u.components.helpers;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.ref.WeakReference;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import fr.sorbonne_u.exceptions.PreconditionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>BoundedLogger</code> implements a logger which logging
+ * threads never block and which memory footprint is bounded, to be used
+ * instead of <code>Logger</code> by long running components.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * The threads logging through a bounded logger append their entries into a
+ * single lock-free <code>BoundedRingBuffer</code> of fixed capacity shared
+ * among them, which drops its oldest entries when it is full. An entry
+ * records its time stamp, its message or format and a copy of its arguments
+ * when they are all immutable, the text of the entry being then built when
+ * the entry is written; otherwise, the message is formatted when it is
+ * logged, so that later changes to the arguments do not alter the entry.
+ * The buffer is periodically drained by a background thread shared among all
+ * bounded loggers, which sorts the entries by time stamp and appends them to
+ * the log file of the logger, with a line counting the entries dropped since
+ * the previous flush if any, and a line giving their total when the log is
+ * printed. Hence, the file contains the same entries as the one a
+ * <code>Logger</code> would print, except for the dropped ones, and the
+ * memory used by the logger is bounded by the capacity of its buffer,
+ * whatever the number of logging threads.
+ * </p>
+ * <p>
+ * A bounded logger is installed on a component as any logger, through the
+ * method <code>setLogger</code> of <code>IntercessionCI</code>, and
+ * <code>printExecutionLog</code> keeps its contract: it writes the remaining
+ * entries and closes the log file, which then contains the whole log;
+ * <code>printExecutionLogOnFile</code> copies it to the given file when its
+ * name differs from the one of the logger. The periodic flushing stops when
+ * the logging is toggled off or when the logger is no longer referenced.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code capacity > 0}
+ * invariant	{@code flushPeriod > 0}
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			BoundedLogger
+extends		Logger
+{
+	// -------------------------------------------------------------------------
+	// Inner types and classes
+	// -------------------------------------------------------------------------
+
+	/**
+	 * The class <code>Entry</code> records a log entry before its writing.
+	 *
+	 * <p>Created on : 2026-10-19</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	protected static class	Entry
+	{
+		/** time stamp of the entry in milliseconds.						*/
+		protected final long		time;
+		/** message or format of the entry.									*/
+		protected final String		message;
+		/** arguments of the format or null if the entry is a message.		*/
+		protected final Object[]	args;
+
+		/**
+		 * create an entry.
+		 *
+		 * @param time		time stamp of the entry in milliseconds.
+		 * @param message	message or format of the entry.
+		 * @param args		arguments of the format or null if the entry is a message.
+		 */
+		public			Entry(long time, String message, Object[] args)
+		{
+			this.time = time;
+			this.message = message;
+			this.args = args;
+		}
+
+		/**
+		 * create an entry for a format and its arguments, which are copied
+		 * when they are all immutable and otherwise used at once to format
+		 * the message, so that the entry does not depend upon objects that
+		 * the caller may change before the entry is written.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code format != null && args != null}
+		 * post	{@code return != null}
+		 * </pre>
+		 *
+		 * @param time		time stamp of the entry in milliseconds.
+		 * @param format	format of the entry.
+		 * @param args		arguments of the format.
+		 * @return			the entry.
+		 */
+		public static Entry	snapshot(long time, String format, Object[] args)
+		{
+			for (Object a : args) {
+				if (!isImmutable(a)) {
+					return new Entry(time, String.format(format, args), null);
+				}
+			}
+			return new Entry(time, format, args.clone());
+		}
+
+		/**
+		 * return true if <code>o</code> is null or an instance of a class
+		 * which instances are known to be immutable.
+		 *
+		 * @param o	an argument of a format.
+		 * @return	true if <code>o</code> is known to be immutable.
+		 */
+		protected static boolean	isImmutable(Object o)
+		{
+			return o == null || o instanceof String || o instanceof Integer ||
+				   o instanceof Long || o instanceof Double ||
+				   o instanceof Boolean || o instanceof Character ||
+				   o instanceof Float || o instanceof Short ||
+				   o instanceof Byte || o instanceof Enum ||
+				   o.getClass() == BigInteger.class ||
+				   o.getClass() == BigDecimal.class;
+		}
+
+		/**
+		 * return the text of the entry.
+		 *
+		 * @return	the text of the entry.
+		 */
+		public String	text()
+		{
+			return this.args == null ?
+						this.message
+					:	String.format(this.message, this.args);
+		}
+	}
+
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** default capacity of the buffer of a logger.						*/
+	public static final int		DEFAULT_CAPACITY = 4096;
+	/** default period of the flushing of the buffer in milliseconds.		*/
+	public static final long	DEFAULT_FLUSH_PERIOD = 1000L;
+	/** the thread flushing the buffers of all of the bounded loggers.		*/
+	protected static final ScheduledExecutorService	FLUSHER =
+		Executors.newSingleThreadScheduledExecutor(
+				r -> { Thread t = new Thread(r, "bounded-logger-flusher");
+					   t.setDaemon(true);
+					   return t; });
+
+	/** capacity of the buffer in number of entries.						*/
+	protected final int								capacity;
+	/** period of the flushing of the buffer in milliseconds.				*/
+	protected final long							flushPeriod;
+	/** the buffer shared by all of the logging threads.					*/
+	protected final BoundedRingBuffer<Entry>		buffer;
+	/** number of entries dropped by the buffer that have already been
+	 *  accounted for, in the log file or by a clearing.					*/
+	protected long									bufferDropsSeen;
+	/** lock serialising the writings on the log file.						*/
+	protected final ReentrantLock					fileLock;
+	/** stream on the log file or null if it is closed.						*/
+	protected PrintStream							out;
+	/** true if the log file has been started since the last clearing, so
+	 *  that it must be appended to when reopened.							*/
+	protected boolean								fileStarted;
+	/** number of entries written in the log file since the last clearing.	*/
+	protected final AtomicLong						written;
+	/** number of dropped entries reported in the log file since the last
+	 *  clearing.															*/
+	protected final AtomicLong						reportedDrops;
+	/** the periodic flushing task or null if none is scheduled.			*/
+	protected ScheduledFuture<?>					flushing;
+	/** copy of the logging status read by the logging threads without
+	 *  taking <code>fileLock</code>, under which it is updated.			*/
+	protected volatile boolean						logging;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create a bounded logger with a given file name and the default
+	 * capacity and flushing period.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code fileName != null}
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @param fileName	name of the file to output the log.
+	 */
+	public				BoundedLogger(String fileName)
+	{
+		this(System.getProperty("user.dir"), fileName, "log",
+			 SEPARATION_CHARACTER, DEFAULT_CAPACITY, DEFAULT_FLUSH_PERIOD);
+	}
+
+	/**
+	 * create a bounded logger with the given information.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code directory != null}
+	 * pre	{@code fileName != null}
+	 * pre	{@code extension != null}
+	 * pre	{@code capacity > 0}
+	 * pre	{@code flushPeriod > 0}
+	 * post	{@code this.getDirectory().equals(directory)}
+	 * post	{@code this.getFileName().equals(fileName)}
+	 * post	{@code this.getFileExtension().equals(extension)}
+	 * post	{@code this.getSeparationCharacter() == separationChar}
+	 * </pre>
+	 *
+	 * @param directory			directory in which the log file will be output.
+	 * @param fileName			name of the file to output the log.
+	 * @param extension			file extension of the log file.
+	 * @param separationChar	character used to separate the time stamp from the log message.
+	 * @param capacity			capacity of the buffer in number of entries.
+	 * @param flushPeriod		period of the flushing of the buffer in milliseconds.
+	 */
+	public				BoundedLogger(
+		String directory,
+		String fileName,
+		String extension,
+		char separationChar,
+		int capacity,
+		long flushPeriod
+		)
+	{
+		super(directory, fileName, extension, separationChar, capacity);
+
+		assert	flushPeriod > 0 :
+					new PreconditionException(
+							"creating a BoundedLogger with a non positive "
+							+ "flush period: " + flushPeriod + "!");
+
+		this.capacity = capacity;
+		this.flushPeriod = flushPeriod;
+		this.buffer = new BoundedRingBuffer<>(
+								capacity,
+								BoundedRingBuffer.OverflowPolicy.DROP_OLDEST);
+		this.bufferDropsSeen = 0L;
+		this.fileLock = new ReentrantLock();
+		this.out = null;
+		this.fileStarted = false;
+		this.written = new AtomicLong(0L);
+		this.reportedDrops = new AtomicLong(0L);
+		this.flushing = null;
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return the number of entries written in the log file or waiting in the
+	 * buffer since the last clearing.
+	 * 
+	 * @see fr.sorbonne_u.components.helpers.Logger#getSize()
+	 */
+	@Override
+	public int			getSize()
+	{
+		long ret = this.written.get() + this.buffer.size();
+		return (int) Math.min(ret, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * return the number of entries dropped since the last clearing because
+	 * the buffer was full.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true			// no precondition.
+	 * post	{@code ret >= 0}
+	 * </pre>
+	 *
+	 * @return	the total number of dropped entries.
+	 */
+	public long			getDroppedCount()
+	{
+		this.fileLock.lock();
+		try {
+			return this.reportedDrops.get() +
+						this.buffer.getDroppedCount() - this.bufferDropsSeen;
+		} finally {
+			this.fileLock.unlock();
+		}
+	}
+
+	/**
+	 * toggle the logging status, starting the periodic flushing when the
+	 * logging starts and flushing the buffer and stopping it when the
+	 * logging stops.
+	 * 
+	 * @see fr.sorbonne_u.components.helpers.Logger#toggleLogging()
+	 */
+	@Override
+	public void			toggleLogging()
+	{
+		this.fileLock.lock();
+		try {
+			this.loggingStatus = !this.loggingStatus;
+			this.logging = this.loggingStatus;
+			if (this.loggingStatus) {
+				if (this.flushing == null) {
+					this.flushing = BoundedLogger.schedulePeriodicFlush(this);
+				}
+			} else {
+				if (this.flushing != null) {
+					this.flushing.cancel(false);
+					this.flushing = null;
+				}
+				try {
+					this.flush();
+				} catch (FileNotFoundException e) {
+					e.printStackTrace();
+				}
+			}
+		} finally {
+			this.fileLock.unlock();
+		}
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.helpers.Logger#isLogging()
+	 */
+	@Override
+	public boolean		isLogging()
+	{
+		return this.logging;
+	}
+
+	/**
+	 * discard the entries waiting in the buffer and the entries written in
+	 * the log file, which is restarted at the next flush.
+	 * 
+	 * @see fr.sorbonne_u.components.helpers.Logger#clearLog()
+	 */
+	@Override
+	public void			clearLog()
+	{
+		this.fileLock.lock();
+		try {
+			while (this.buffer.poll() != null) ;
+			this.bufferDropsSeen = this.buffer.getDroppedCount();
+			this.closeFile();
+			this.fileStarted = false;
+			this.written.set(0L);
+			this.reportedDrops.set(0L);
+		} finally {
+			this.fileLock.unlock();
+		}
+	}
+
+	/**
+	 * add an entry in the buffer if the logging status is true, dropping the
+	 * oldest entry of the buffer if it is full.
+	 * 
+	 * @see fr.sorbonne_u.components.helpers.Logger#logMessage(java.lang.String)
+	 */
+	@Override
+	public void			logMessage(String message)
+	{
+		assert	message != null :
+					new PreconditionException(
+							"Logger#logMessage called with a null message!") ;
+
+		if (this.logging) {
+			this.append(new Entry(System.currentTimeMillis(), message, null));
+		}
+	}
+
+	/**
+	 * add an entry in the buffer if the logging status is true, the message
+	 * being formatted when the entry is written if its arguments are all
+	 * immutable and at once otherwise.
+	 * 
+	 * @see fr.sorbonne_u.components.helpers.Logger#logMessage(java.lang.String, java.lang.Object[])
+	 */
+	@Override
+	public void			logMessage(String format, Object... args)
+	{
+		assert	format != null :
+					new PreconditionException(
+							"Logger#logMessage called with a null format!") ;
+
+		if (this.logging) {
+			this.append(Entry.snapshot(System.currentTimeMillis(), format,
+									   args == null ? new Object[0] : args));
+		}
+	}
+
+	/**
+	 * append the entry to the buffer.
+	 *
+	 * @param e	entry to be appended.
+	 */
+	protected void		append(Entry e)
+	{
+		try {
+			this.buffer.add(e);
+		} catch (InterruptedException ie) {
+			// cannot happen with the policy DROP_OLDEST
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * write the entries waiting in the buffer at the end of the log file,
+	 * followed by the total number of dropped entries if any, and close it,
+	 * so that it contains the whole log; if the given file
+	 * name differs from the one of the logger, the log file is then copied
+	 * to the given file.
+	 * 
+	 * @see fr.sorbonne_u.components.helpers.Logger#printExecutionLogOnFile(java.lang.String)
+	 */
+	@Override
+	public void			printExecutionLogOnFile(String fileName)
+	throws	FileNotFoundException
+	{
+		this.fileLock.lock();
+		try {
+			this.flush();
+			long drops = this.reportedDrops.get();
+			if (drops > 0L) {
+				this.openFile();
+				this.out.println(new StringBuffer().
+									append(System.currentTimeMillis()).
+									append(this.separationChar).
+									append(drops).
+									append(" log entries dropped in total").
+									toString());
+			}
+			this.closeFile();
+			if (fileName != null && !fileName.equals(this.logFileName) &&
+														this.fileStarted) {
+				try {
+					Files.copy(this.fileFor(this.logFileName).toPath(),
+							   this.fileFor(fileName).toPath(),
+							   StandardCopyOption.REPLACE_EXISTING);
+				} catch (IOException e) {
+					FileNotFoundException fnf =
+								new FileNotFoundException(e.getMessage());
+					fnf.initCause(e);
+					throw fnf;
+				}
+			}
+		} finally {
+			this.fileLock.unlock();
+		}
+	}
+
+	/**
+	 * drain the buffer and append its entries, ordered by time stamps, at the
+	 * end of the log file, preceded by the number of entries dropped since
+	 * the previous flush if any.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true			// no precondition.
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @throws FileNotFoundException	if the log file cannot be opened.
+	 */
+	public void			flush() throws FileNotFoundException
+	{
+		this.fileLock.lock();
+		try {
+			List<Entry> entries = new ArrayList<>();
+			this.buffer.drainTo(entries, Integer.MAX_VALUE);
+			long d = this.buffer.getDroppedCount();
+			long drops = d - this.bufferDropsSeen;
+			this.bufferDropsSeen = d;
+			if (entries.isEmpty() && drops == 0L) {
+				return;
+			}
+			entries.sort(Comparator.comparingLong(e -> e.time));
+
+			this.openFile();
+			if (drops > 0L) {
+				this.out.println(new StringBuffer().
+									append(System.currentTimeMillis()).
+									append(this.separationChar).
+									append(drops).
+									append(" log entries dropped").
+									toString());
+			}
+			for (Entry e : entries) {
+				this.out.println(new StringBuffer().
+									append(e.time).
+									append(this.separationChar).
+									append(e.text()).toString());
+			}
+			this.out.flush();
+			this.written.addAndGet(entries.size());
+			this.reportedDrops.addAndGet(drops);
+		} finally {
+			this.fileLock.unlock();
+		}
+	}
+
+	/**
+	 * open the log file if it is closed, appending to it if it has been
+	 * started since the last clearing.
+	 *
+	 * @throws FileNotFoundException	if the log file cannot be opened.
+	 */
+	protected void		openFile() throws FileNotFoundException
+	{
+		if (this.out == null) {
+			this.out = new PrintStream(
+							new FileOutputStream(
+									this.fileFor(this.logFileName),
+									this.fileStarted));
+			this.fileStarted = true;
+		}
+	}
+
+	/**
+	 * close the log file if it is open.
+	 */
+	protected void		closeFile()
+	{
+		if (this.out != null) {
+			this.out.close();
+			this.out = null;
+		}
+	}
+
+	/**
+	 * return the file in the directory of the logger with the given name and
+	 * the extension of the logger.
+	 *
+	 * @param name	name of the file.
+	 * @return		the file with the given name.
+	 */
+	protected File		fileFor(String name)
+	{
+		return new File(new StringBuffer(this.getDirectory()).
+							append(File.separator).append(name).
+							append('.').append(this.logFileExtension).
+							toString());
+	}
+
+	/**
+	 * schedule the periodic flushing of the logger, through a weak reference
+	 * so that the task cancels itself when the logger is no longer
+	 * referenced.
+	 *
+	 * @param logger	the logger to be flushed.
+	 * @return			the scheduled flushing task.
+	 */
+	protected static ScheduledFuture<?>	schedulePeriodicFlush(
+		BoundedLogger logger
+		)
+	{
+		final WeakReference<BoundedLogger> ref = new WeakReference<>(logger);
+		final ScheduledFuture<?>[] self = new ScheduledFuture<?>[1];
+		self[0] = FLUSHER.scheduleWithFixedDelay(
+					() -> {
+						BoundedLogger l = ref.get();
+						if (l == null) {
+							self[0].cancel(false);
+						} else {
+							try {
+								l.flush();
+							} catch (FileNotFoundException e) {
+								e.printStackTrace();
+							}
+						}
+					},
+					logger.flushPeriod, logger.flushPeriod,
+					TimeUnit.MILLISECONDS);
+		return self[0];
+	}
+}
+// -----------------------------------------------------------------------------
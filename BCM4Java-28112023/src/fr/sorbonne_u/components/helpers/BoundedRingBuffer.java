@@ -0,0 +1,492 @@
+package fr.sorbonne_u.components.helpers;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import fr.sorbonne_u.exceptions.PreconditionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>BoundedRingBuffer</code> implements a bounded lock-free
+ * buffer for any number of producers and consumers, with a policy deciding
+ * what to do when an element is added to a full buffer.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * The buffer is an array used as a ring, each slot carrying a sequence
+ * number telling whether it is ready to be written or read for a given turn
+ * of the ring (D. Vyukov's bounded queue). Producers and consumers each
+ * claim a position with a single compare-and-set on their index and then
+ * access their slot without further synchronisation, so that neither a
+ * producer nor a consumer can be blocked by a thread preempted in the
+ * middle of an operation on another slot.
+ * </p>
+ * <p>
+ * When the buffer is full, <code>add</code> applies the overflow policy:
+ * <code>DROP_NEWEST</code> refuses the new element,
+ * <code>DROP_OLDEST</code> removes the oldest elements until the new one
+ * fits and <code>BLOCK</code> waits until a consumer makes room. Dropped
+ * elements are counted. Only the threads that must wait take a lock to
+ * sleep on; producers and consumers signal them only when some are waiting.
+ * Closing the buffer wakes up the waiting threads and makes it refuse any
+ * new element, the remaining ones still being available to consumers.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code capacity > 0}
+ * invariant	{@code 0 <= size() && size() <= capacity()}
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @param <E>	type of the elements in the buffer.
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			BoundedRingBuffer<E>
+{
+	// -------------------------------------------------------------------------
+	// Inner types
+	// -------------------------------------------------------------------------
+
+	/**
+	 * The enumeration <code>OverflowPolicy</code> defines what
+	 * <code>add</code> does when the buffer is full.
+	 *
+	 * <p>Created on : 2026-10-19</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	public static enum	OverflowPolicy
+	{
+		/** remove the oldest elements to make room for the new one.		*/
+		DROP_OLDEST,
+		/** refuse the new element.											*/
+		DROP_NEWEST,
+		/** wait until a consumer makes room for the new element.			*/
+		BLOCK
+	}
+
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** maximum time a waiting thread sleeps before checking the buffer
+	 *  again, in nanoseconds.												*/
+	protected static final long			MAX_WAIT =
+											TimeUnit.MILLISECONDS.toNanos(10);
+
+	/** number of slots in the ring.										*/
+	protected final int					capacity;
+	/** policy applied by <code>add</code> when the buffer is full.			*/
+	protected final OverflowPolicy		policy;
+	/** slots of the ring.													*/
+	protected final AtomicReferenceArray<E>	slots;
+	/** sequence number of each slot.										*/
+	protected final AtomicLongArray		sequences;
+	/** position of the next element to be added.							*/
+	protected final AtomicLong			tail;
+	/** position of the next element to be removed.							*/
+	protected final AtomicLong			head;
+	/** number of elements dropped by the overflow policy.					*/
+	protected final LongAdder			dropped;
+	/** true when the buffer no longer accepts elements.					*/
+	protected volatile boolean			closed;
+	/** number of threads waiting for the buffer to change.					*/
+	protected final AtomicInteger		waiters;
+	/** lock used only by the waiting threads.								*/
+	protected final ReentrantLock		lock;
+	/** condition signalled when the buffer changes and some threads wait.	*/
+	protected final Condition			changed;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create an empty buffer.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code capacity > 0}
+	 * pre	{@code policy != null}
+	 * post	{@code isEmpty()}
+	 * </pre>
+	 *
+	 * @param capacity	maximum number of elements in the buffer.
+	 * @param policy	policy applied when an element is added to a full buffer.
+	 */
+	public				BoundedRingBuffer(int capacity, OverflowPolicy policy)
+	{
+		assert	capacity > 0 : new PreconditionException("capacity > 0");
+		assert	policy != null : new PreconditionException("policy != null");
+
+		this.capacity = capacity;
+		this.policy = policy;
+		this.slots = new AtomicReferenceArray<E>(capacity);
+		this.sequences = new AtomicLongArray(capacity);
+		for (int i = 0 ; i < capacity ; i++) {
+			this.sequences.set(i, i);
+		}
+		this.tail = new AtomicLong(0L);
+		this.head = new AtomicLong(0L);
+		this.dropped = new LongAdder();
+		this.closed = false;
+		this.waiters = new AtomicInteger(0);
+		this.lock = new ReentrantLock();
+		this.changed = this.lock.newCondition();
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return the maximum number of elements in the buffer.
+	 * 
+	 * @return	the maximum number of elements in the buffer.
+	 */
+	public int			capacity()
+	{
+		return this.capacity;
+	}
+
+	/**
+	 * return the overflow policy of the buffer.
+	 * 
+	 * @return	the overflow policy of the buffer.
+	 */
+	public OverflowPolicy	getOverflowPolicy()
+	{
+		return this.policy;
+	}
+
+	/**
+	 * return the number of elements in the buffer; the result is only an
+	 * estimate when other threads access the buffer.
+	 * 
+	 * @return	the number of elements in the buffer.
+	 */
+	public int			size()
+	{
+		long n = this.tail.get() - this.head.get();
+		return (int) Math.max(0L, Math.min(n, this.capacity));
+	}
+
+	/**
+	 * return true if the buffer has no element.
+	 * 
+	 * @return	true if the buffer has no element.
+	 */
+	public boolean		isEmpty()
+	{
+		return this.size() == 0;
+	}
+
+	/**
+	 * return true if the buffer has no free slot.
+	 * 
+	 * @return	true if the buffer has no free slot.
+	 */
+	public boolean		isFull()
+	{
+		return this.size() >= this.capacity;
+	}
+
+	/**
+	 * return the number of elements dropped by the overflow policy so far.
+	 * 
+	 * @return	the number of elements dropped by the overflow policy so far.
+	 */
+	public long			getDroppedCount()
+	{
+		return this.dropped.sum();
+	}
+
+	/**
+	 * add an element if the buffer is not full, whatever the overflow
+	 * policy.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code e != null}
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @param e	element to be added.
+	 * @return	true if the element has been added, false if the buffer is full or closed.
+	 */
+	public boolean		offer(E e)
+	{
+		assert	e != null : new PreconditionException("e != null");
+
+		if (this.closed) {
+			return false;
+		}
+		long pos = this.tail.get();
+		while (true) {
+			int i = (int) (pos % this.capacity);
+			long dif = this.sequences.get(i) - pos;
+			if (dif == 0) {
+				if (this.tail.compareAndSet(pos, pos + 1)) {
+					this.slots.set(i, e);
+					// publishes the element to the consumers
+					this.sequences.set(i, pos + 1);
+					this.signalWaiters();
+					return true;
+				}
+				pos = this.tail.get();
+			} else if (dif < 0) {
+				// the slot still holds the element of the previous turn
+				return false;
+			} else {
+				pos = this.tail.get();
+			}
+		}
+	}
+
+	/**
+	 * add an element, applying the overflow policy if the buffer is full.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code e != null}
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @param e						element to be added.
+	 * @return						true if the element has been added, false if it has been dropped or the buffer is closed.
+	 * @throws InterruptedException	when the thread is interrupted while waiting with the <code>BLOCK</code> policy.
+	 */
+	public boolean		add(E e) throws InterruptedException
+	{
+		while (!this.offer(e)) {
+			if (this.closed) {
+				return false;
+			}
+			switch (this.policy) {
+			case DROP_NEWEST:
+				this.dropped.increment();
+				return false;
+			case DROP_OLDEST:
+				if (this.poll() != null) {
+					this.dropped.increment();
+				}
+				break;
+			case BLOCK:
+			default:
+				this.await(() -> !this.isFull());
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * remove and return the oldest element, if any.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true			// no precondition.
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @return	the oldest element, or null if the buffer is empty.
+	 */
+	public E			poll()
+	{
+		long pos = this.head.get();
+		while (true) {
+			int i = (int) (pos % this.capacity);
+			long dif = this.sequences.get(i) - (pos + 1);
+			if (dif == 0) {
+				if (this.head.compareAndSet(pos, pos + 1)) {
+					E e = this.slots.get(i);
+					this.slots.set(i, null);
+					// frees the slot for the next turn of the ring
+					this.sequences.set(i, pos + this.capacity);
+					this.signalWaiters();
+					return e;
+				}
+				pos = this.head.get();
+			} else if (dif < 0) {
+				// the slot has not been written yet for this turn
+				return null;
+			} else {
+				pos = this.head.get();
+			}
+		}
+	}
+
+	/**
+	 * remove and return the oldest element, waiting for one if the buffer is
+	 * empty.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true			// no precondition.
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @return						the oldest element, or null if the buffer is empty and closed.
+	 * @throws InterruptedException	when the thread is interrupted while waiting.
+	 */
+	public E			take() throws InterruptedException
+	{
+		E e;
+		while ((e = this.poll()) == null) {
+			if (this.closed) {
+				return null;
+			}
+			this.await(() -> !this.isEmpty());
+		}
+		return e;
+	}
+
+	/**
+	 * remove at most <code>max</code> elements, from the oldest, and add them
+	 * to a collection.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code c != null && max >= 0}
+	 * post	{@code return >= 0 && return <= max}
+	 * </pre>
+	 *
+	 * @param c		collection receiving the elements.
+	 * @param max	maximum number of elements to be removed.
+	 * @return		the number of elements removed.
+	 */
+	public int			drainTo(Collection<? super E> c, int max)
+	{
+		assert	c != null && max >= 0 :
+					new PreconditionException("c != null && max >= 0");
+
+		int n = 0;
+		E e;
+		while (n < max && (e = this.poll()) != null) {
+			c.add(e);
+			n++;
+		}
+		return n;
+	}
+
+	/**
+	 * close the buffer: new elements are refused and the waiting threads are
+	 * woken up; the elements in the buffer can still be removed.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true			// no precondition.
+	 * post	{@code isClosed()}
+	 * </pre>
+	 */
+	public void			close()
+	{
+		this.closed = true;
+		this.lock.lock();
+		try {
+			this.changed.signalAll();
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * return true if the buffer has been closed.
+	 * 
+	 * @return	true if the buffer has been closed.
+	 */
+	public boolean		isClosed()
+	{
+		return this.closed;
+	}
+
+	/**
+	 * wait until <code>ready</code> is true, the buffer is closed or some
+	 * time has elapsed; the caller checks the buffer again in any case.
+	 * 
+	 * @param ready					condition waited for.
+	 * @throws InterruptedException	when the thread is interrupted while waiting.
+	 */
+	protected void		await(BooleanSupplier ready)
+	throws	InterruptedException
+	{
+		this.waiters.incrementAndGet();
+		this.lock.lock();
+		try {
+			// checked after being counted as waiter, so that a change made
+			// after this test is signalled
+			if (!ready.getAsBoolean() && !this.closed) {
+				this.changed.awaitNanos(MAX_WAIT);
+			}
+		} finally {
+			this.lock.unlock();
+			this.waiters.decrementAndGet();
+		}
+	}
+
+	/**
+	 * wake up the threads waiting for the buffer to change, if any.
+	 */
+	protected void		signalWaiters()
+	{
+		if (this.waiters.get() > 0) {
+			this.lock.lock();
+			try {
+				this.changed.signalAll();
+			} finally {
+				this.lock.unlock();
+			}
+		}
+	}
+}
+// -----------------------------------------------------------------------------
@@ -192,6 +192,30 @@ public class			ComponentExecutorServiceManager
 		return this.es ;
 	}
 
+	/**
+	 * return a snapshot of the metrics of the executor service if it is
+	 * instrumented and null otherwise.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true			// no precondition.
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @return	a snapshot of the metrics of the executor service or null.
+	 */
+	public ExecutorServiceMetrics	getMetrics()
+	{
+		if (this.es instanceof InstrumentedExecutorService) {
+			return ((InstrumentedExecutorService)this.es).
+						getMetrics(this.uri, this.nbThreads,
+								   this.isSchedulable());
+		} else {
+			return null;
+		}
+	}
+
 	/**
 	 * shutdown the executor service of this manager.
 	 * 
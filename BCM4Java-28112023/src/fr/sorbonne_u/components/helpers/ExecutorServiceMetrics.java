@@ -0,0 +1,199 @@
+package fr.sorbonne_u.components.helpers;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+
+import java.io.Serializable;
+import fr.sorbonne_u.exceptions.PreconditionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>ExecutorServiceMetrics</code> holds a snapshot of the
+ * metrics of an instrumented component executor service.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * Snapshots are serialisable so that they can be returned by the
+ * <code>getExecutorServicesMetrics</code> service of the reflection inbound
+ * port of components, including across JVMs. Durations are in nanoseconds.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code uri != null && waitTimes != null && serviceTimes != null}
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			ExecutorServiceMetrics
+implements	Serializable
+{
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	private static final long serialVersionUID = 1L;
+	/** URI of the executor service in its component.						*/
+	protected final String						uri;
+	/** number of threads of the executor service.							*/
+	protected final int							nbThreads;
+	/** true if the executor service is schedulable.						*/
+	protected final boolean						schedulable;
+	/** number of tasks accepted but not yet started.						*/
+	protected final long						queueLength;
+	/** number of tasks currently executing.								*/
+	protected final long						activeCount;
+	/** number of tasks accepted since the creation.						*/
+	protected final long						submittedCount;
+	/** number of task executions completed since the creation.			*/
+	protected final long						completedCount;
+	/** number of tasks rejected since the creation.						*/
+	protected final long						rejectedCount;
+	/** histogram of the delays between submission and start.				*/
+	protected final LatencyHistogram.Snapshot	waitTimes;
+	/** histogram of the execution times.									*/
+	protected final LatencyHistogram.Snapshot	serviceTimes;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create a snapshot of executor service metrics.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code uri != null}
+	 * pre	{@code waitTimes != null && serviceTimes != null}
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @param uri				URI of the executor service in its component.
+	 * @param nbThreads			number of threads of the executor service.
+	 * @param schedulable		true if the executor service is schedulable.
+	 * @param queueLength		number of tasks accepted but not yet started.
+	 * @param activeCount		number of tasks currently executing.
+	 * @param submittedCount	number of tasks accepted since the creation.
+	 * @param completedCount	number of task executions completed since the creation.
+	 * @param rejectedCount		number of tasks rejected since the creation.
+	 * @param waitTimes			histogram of the delays between submission and start.
+	 * @param serviceTimes		histogram of the execution times.
+	 */
+	public				ExecutorServiceMetrics(
+		String uri,
+		int nbThreads,
+		boolean schedulable,
+		long queueLength,
+		long activeCount,
+		long submittedCount,
+		long completedCount,
+		long rejectedCount,
+		LatencyHistogram.Snapshot waitTimes,
+		LatencyHistogram.Snapshot serviceTimes
+		)
+	{
+		assert	uri != null : new PreconditionException("uri != null");
+		assert	waitTimes != null && serviceTimes != null :
+					new PreconditionException(
+							"waitTimes != null && serviceTimes != null");
+
+		this.uri = uri;
+		this.nbThreads = nbThreads;
+		this.schedulable = schedulable;
+		this.queueLength = queueLength;
+		this.activeCount = activeCount;
+		this.submittedCount = submittedCount;
+		this.completedCount = completedCount;
+		this.rejectedCount = rejectedCount;
+		this.waitTimes = waitTimes;
+		this.serviceTimes = serviceTimes;
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/** @return	the URI of the executor service in its component.			*/
+	public String		getURI()				{ return this.uri; }
+	/** @return	the number of threads of the executor service.				*/
+	public int			getNumberOfThreads()	{ return this.nbThreads; }
+	/** @return	true if the executor service is schedulable.				*/
+	public boolean		isSchedulable()			{ return this.schedulable; }
+	/** @return	the number of tasks accepted but not yet started.			*/
+	public long			getQueueLength()		{ return this.queueLength; }
+	/** @return	the number of tasks currently executing.					*/
+	public long			getActiveCount()		{ return this.activeCount; }
+	/** @return	the number of tasks accepted since the creation.			*/
+	public long			getSubmittedCount()		{ return this.submittedCount; }
+	/** @return	the number of task executions completed since the creation.	*/
+	public long			getCompletedCount()		{ return this.completedCount; }
+	/** @return	the number of tasks rejected since the creation.			*/
+	public long			getRejectedCount()		{ return this.rejectedCount; }
+
+	/** @return	the histogram of the delays between submission and start.	*/
+	public LatencyHistogram.Snapshot	getWaitTimes()
+	{
+		return this.waitTimes;
+	}
+
+	/** @return	the histogram of the execution times.						*/
+	public LatencyHistogram.Snapshot	getServiceTimes()
+	{
+		return this.serviceTimes;
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String		toString()
+	{
+		return this.getClass().getSimpleName() + "[" + this.uri
+				+ ", threads=" + this.nbThreads
+				+ ", schedulable=" + this.schedulable
+				+ ", queued=" + this.queueLength
+				+ ", active=" + this.activeCount
+				+ ", submitted=" + this.submittedCount
+				+ ", completed=" + this.completedCount
+				+ ", rejected=" + this.rejectedCount
+				+ ", wait=" + this.waitTimes
+				+ ", service=" + this.serviceTimes + "]";
+	}
+}
+// -----------------------------------------------------------------------------
@@ -0,0 +1,86 @@
+package fr.sorbonne_u.components.helpers;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+
+// -----------------------------------------------------------------------------
+/**
+ * The interface <code>ExecutorServiceMetricsMXBean</code> defines the
+ * management interface through which the metrics of an instrumented component
+ * executor service are exposed to JMX clients.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * Durations are in nanoseconds. Each getter returns the current value, hence
+ * successive getters may see slightly different states of the executor
+ * service; clients needing a consistent view should rather call
+ * <code>getExecutorServicesMetrics</code> on the reflection inbound port of
+ * the component.
+ * </p>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public interface		ExecutorServiceMetricsMXBean
+{
+	/** @return	the number of tasks accepted but not yet started.			*/
+	public long			getQueueLength();
+	/** @return	the number of tasks currently executing.					*/
+	public long			getActiveCount();
+	/** @return	the number of tasks accepted since the creation.			*/
+	public long			getSubmittedCount();
+	/** @return	the number of task executions completed since the creation.	*/
+	public long			getCompletedCount();
+	/** @return	the number of tasks rejected since the creation.			*/
+	public long			getRejectedCount();
+	/** @return	the mean queueing delay.									*/
+	public double		getMeanWaitTime();
+	/** @return	the median queueing delay.									*/
+	public long			getWaitTimeP50();
+	/** @return	the 99th percentile of the queueing delay.					*/
+	public long			getWaitTimeP99();
+	/** @return	the maximum queueing delay.									*/
+	public long			getMaxWaitTime();
+	/** @return	the mean execution time.									*/
+	public double		getMeanServiceTime();
+	/** @return	the median execution time.									*/
+	public long			getServiceTimeP50();
+	/** @return	the 99th percentile of the execution time.					*/
+	public long			getServiceTimeP99();
+	/** @return	the maximum execution time.									*/
+	public long			getMaxServiceTime();
+}
+// -----------------------------------------------------------------------------
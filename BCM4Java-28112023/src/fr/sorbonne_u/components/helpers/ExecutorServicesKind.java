@@ -0,0 +1,147 @@
+package fr.sorbonne_u.components.helpers;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+
+import fr.sorbonne_u.components.AbstractComponent.ExecutorServiceFactory;
+import fr.sorbonne_u.components.AbstractComponent.StandardExecutorServiceFactory;
+
+// -----------------------------------------------------------------------------
+/**
+ * The enumeration <code>ExecutorServicesKind</code> defines the kinds of
+ * executor services that can be selected for the standard request handler of
+ * the components, for example from the deployment descriptor of a distributed
+ * application.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * Each constant knows the value used for it in the <code>type</code>
+ * attribute of the <code>executors</code> element of the deployment
+ * descriptor and creates the corresponding executor service factory.
+ * </p>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public enum				ExecutorServicesKind
+{
+	/** standard single thread or fixed thread pools.						*/
+	STANDARD("standard"),
+	/** fork/join pools in asynchronous mode with work stealing.			*/
+	WORK_STEALING("workStealing"),
+	/** one virtual thread per task, bounded by the number of threads.		*/
+	VIRTUAL_THREADS("virtualThreads"),
+	/** one pool shared by all components, with per-component quotas.		*/
+	SHARED("shared");
+
+	/** value of the kind in the deployment descriptor.						*/
+	private final String	descriptorValue;
+
+	private				ExecutorServicesKind(String descriptorValue)
+	{
+		this.descriptorValue = descriptorValue;
+	}
+
+	/**
+	 * return the value of the kind in the deployment descriptor.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true		// no precondition.
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @return	the value of the kind in the deployment descriptor.
+	 */
+	public String		getDescriptorValue()
+	{
+		return this.descriptorValue;
+	}
+
+	/**
+	 * return the kind having the given value in the deployment descriptor.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true		// no precondition.
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @param value	value of the kind in the deployment descriptor.
+	 * @return		the corresponding kind or null if none.
+	 */
+	public static ExecutorServicesKind	fromDescriptorValue(String value)
+	{
+		for (ExecutorServicesKind k : ExecutorServicesKind.values()) {
+			if (k.descriptorValue.equals(value)) {
+				return k;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * create an executor service factory for this kind.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code nbSharedThreads >= 0}
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param nbSharedThreads	number of threads of the shared pool for <code>SHARED</code>, 0 to use the number of available processors; ignored for the other kinds.
+	 * @return					a new executor service factory for this kind.
+	 */
+	public ExecutorServiceFactory	createFactory(int nbSharedThreads)
+	{
+		switch (this) {
+		case WORK_STEALING:
+			return new WorkStealingExecutorServiceFactory();
+		case VIRTUAL_THREADS:
+			return new VirtualThreadExecutorServiceFactory();
+		case SHARED:
+			return nbSharedThreads > 0 ?
+						new SharedExecutorServiceFactory(nbSharedThreads)
+					:	new SharedExecutorServiceFactory();
+		default:
+			return new StandardExecutorServiceFactory();
+		}
+	}
+}
+// -----------------------------------------------------------------------------
@@ -0,0 +1,284 @@
+package fr.sorbonne_u.components.helpers;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import fr.sorbonne_u.exceptions.PreconditionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>HeadlessTracer</code> implements a tracer for BCM that
+ * records the trace messages of a component through a
+ * <code>TraceRecorder</code> instead of displaying them, for batch
+ * deployments executed without a screen or with too many components to
+ * open one window each.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * Tracing costs the calling thread only the sampling and rate limiting
+ * decisions and the addition of a record to the buffer of the recorder; the
+ * files are written by the thread of the recorder, which can be shared by
+ * all of the tracers of a JVM. When the sampling rate is less than 1, each
+ * message is kept with this probability. When a maximum rate is given,
+ * messages exceeding this number of messages per second (with bursts of the
+ * same size) are discarded. Messages discarded by sampling or rate limiting
+ * are counted separately from the messages dropped by a full recorder.
+ * </p>
+ * <p>
+ * When a message starts with a time stamp in milliseconds followed by
+ * <code>'|'</code>, as the messages produced by
+ * <code>AbstractComponent#traceMessage</code>, this time stamp is taken as
+ * the time of the record, otherwise the current time is used.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code samplingRate > 0.0 && samplingRate <= 1.0}
+ * invariant	{@code maxRate >= 0}
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			HeadlessTracer
+implements	TracerI
+{
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** URI of the traced component.										*/
+	protected final String			componentURI;
+	/** recorder writing the trace messages.								*/
+	protected final TraceRecorder	recorder;
+	/** probability with which a message is kept.							*/
+	protected final double			samplingRate;
+	/** maximum number of messages per second, 0 if unlimited.				*/
+	protected final int				maxRate;
+	/** token bucket limiting the rate of messages or null if unlimited.	*/
+	protected final TokenBucket		limiter;
+	/** number of messages discarded by sampling.							*/
+	protected final LongAdder		sampledOut;
+	/** number of messages discarded by rate limiting.						*/
+	protected final LongAdder		rateLimited;
+	/** True if traces must be output and false otherwise.					*/
+	protected volatile boolean		tracingStatus;
+	/** True if the trace is suspended and false otherwise.					*/
+	protected volatile boolean		suspendStatus;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create a headless tracer recording all of the messages of a component.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code componentURI != null && recorder != null}
+	 * post	{@code !this.isTracing()}
+	 * post	{@code !this.isSuspended()}
+	 * </pre>
+	 *
+	 * @param componentURI	URI of the traced component.
+	 * @param recorder		recorder writing the trace messages.
+	 */
+	public				HeadlessTracer(
+		String componentURI,
+		TraceRecorder recorder
+		)
+	{
+		this(componentURI, recorder, 1.0, 0);
+	}
+
+	/**
+	 * create a headless tracer with sampling and rate limiting.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code componentURI != null && recorder != null}
+	 * pre	{@code samplingRate > 0.0 && samplingRate <= 1.0}
+	 * pre	{@code maxRate >= 0}
+	 * post	{@code !this.isTracing()}
+	 * post	{@code !this.isSuspended()}
+	 * </pre>
+	 *
+	 * @param componentURI	URI of the traced component.
+	 * @param recorder		recorder writing the trace messages.
+	 * @param samplingRate	probability with which a message is kept.
+	 * @param maxRate		maximum number of messages per second, 0 if unlimited.
+	 */
+	public				HeadlessTracer(
+		String componentURI,
+		TraceRecorder recorder,
+		double samplingRate,
+		int maxRate
+		)
+	{
+		assert	componentURI != null && recorder != null :
+					new PreconditionException(
+							"componentURI != null && recorder != null");
+		assert	samplingRate > 0.0 && samplingRate <= 1.0 :
+					new PreconditionException(
+							"samplingRate > 0.0 && samplingRate <= 1.0");
+		assert	maxRate >= 0 : new PreconditionException("maxRate >= 0");
+
+		this.componentURI = componentURI;
+		this.recorder = recorder;
+		this.samplingRate = samplingRate;
+		this.maxRate = maxRate;
+		this.limiter = maxRate > 0 ? new TokenBucket(maxRate, maxRate) : null;
+		this.sampledOut = new LongAdder();
+		this.rateLimited = new LongAdder();
+		this.tracingStatus = false;
+		this.suspendStatus = false;
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return the recorder of this tracer.
+	 * 
+	 * @return	the recorder of this tracer.
+	 */
+	public TraceRecorder	getRecorder()
+	{
+		return this.recorder;
+	}
+
+	/**
+	 * return the number of messages discarded by sampling.
+	 * 
+	 * @return	the number of messages discarded by sampling.
+	 */
+	public long			getSampledOutCount()
+	{
+		return this.sampledOut.sum();
+	}
+
+	/**
+	 * return the number of messages discarded by rate limiting.
+	 * 
+	 * @return	the number of messages discarded by rate limiting.
+	 */
+	public long			getRateLimitedCount()
+	{
+		return this.rateLimited.sum();
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.helpers.TracerI#toggleTracing()
+	 */
+	@Override
+	public void			toggleTracing()
+	{
+		this.tracingStatus = !this.tracingStatus;
+		this.suspendStatus = !this.tracingStatus;
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.helpers.TracerI#toggleSuspend()
+	 */
+	@Override
+	public void			toggleSuspend()
+	{
+		assert	this.isTracing() :
+					new PreconditionException(
+							"HeadlessTracer#toggleSuspend called but tracing "
+							+ "is not activated!");
+
+		this.suspendStatus = !this.suspendStatus;
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.helpers.TracerI#isTracing()
+	 */
+	@Override
+	public boolean		isTracing()
+	{
+		return this.tracingStatus;
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.helpers.TracerI#isSuspended()
+	 */
+	@Override
+	public boolean		isSuspended()
+	{
+		return this.suspendStatus;
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.helpers.TracerI#traceMessage(java.lang.String)
+	 */
+	@Override
+	public void			traceMessage(String message)
+	{
+		if (!this.tracingStatus || this.suspendStatus) {
+			return;
+		}
+		if (this.samplingRate < 1.0 &&
+				ThreadLocalRandom.current().nextDouble() >= this.samplingRate) {
+			this.sampledOut.increment();
+			return;
+		}
+		if (this.limiter != null && !this.limiter.tryAcquire()) {
+			this.rateLimited.increment();
+			return;
+		}
+
+		long time = 0L;
+		int i = 0;
+		while (i < message.length() && i < 19 &&
+									Character.isDigit(message.charAt(i))) {
+			time = 10L * time + (message.charAt(i) - '0');
+			i++;
+		}
+		if (i > 0 && i < message.length() && message.charAt(i) == '|') {
+			message = message.substring(i + 1);
+		} else {
+			time = System.currentTimeMillis();
+		}
+		this.recorder.record(this.componentURI, time, message);
+	}
+}
+// -----------------------------------------------------------------------------
@@ -0,0 +1,671 @@
+package fr.sorbonne_u.components.helpers;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import fr.sorbonne_u.exceptions.PreconditionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>InstrumentedExecutorService</code> implements an executor
+ * service decorating another one to record the number of queued, running,
+ * completed and rejected tasks as well as histograms of their queueing delays
+ * and execution times.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * Each task is wrapped in a <code>TimedTask</code> which notes the time at
+ * which it is ready to run; when the underlying executor service starts it,
+ * the wrapper records the queueing delay, runs the task and records its
+ * execution time. All counters and histograms are lock-free, so the
+ * instrumentation adds a few tens of nanoseconds to each task without
+ * introducing any contention between the threads of the executor service.
+ * </p>
+ * <p>
+ * The executor service can be registered as a JMX MXBean; it is then
+ * unregistered when it is shut down.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code delegate != null}
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			InstrumentedExecutorService
+extends		AbstractExecutorService
+implements	ExecutorServiceMetricsMXBean
+{
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** JMX domain under which executor services are registered.			*/
+	public static final String			JMX_DOMAIN = "fr.sorbonne_u.components";
+
+	/** the executor service actually running the tasks.					*/
+	protected final ExecutorService		delegate;
+	/** number of tasks accepted since the creation.						*/
+	protected final LongAdder			submitted;
+	/** number of tasks accepted but not yet started.						*/
+	protected final LongAdder			queued;
+	/** number of tasks currently executing.								*/
+	protected final LongAdder			active;
+	/** number of task executions completed since the creation.			*/
+	protected final LongAdder			completed;
+	/** number of tasks rejected since the creation.						*/
+	protected final LongAdder			rejected;
+	/** histogram of the delays between the submission and the start.		*/
+	protected final LatencyHistogram	waitTimes;
+	/** histogram of the execution times.									*/
+	protected final LatencyHistogram	serviceTimes;
+	/** name under which the executor service is registered in JMX or null.	*/
+	protected volatile ObjectName		mbeanName;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create an instrumented executor service running its tasks on
+	 * <code>delegate</code>.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code delegate != null}
+	 * post	{@code getSubmittedCount() == 0}
+	 * </pre>
+	 *
+	 * @param delegate	the executor service actually running the tasks.
+	 */
+	public				InstrumentedExecutorService(ExecutorService delegate)
+	{
+		assert	delegate != null :
+					new PreconditionException("delegate != null");
+
+		this.delegate = delegate;
+		this.submitted = new LongAdder();
+		this.queued = new LongAdder();
+		this.active = new LongAdder();
+		this.completed = new LongAdder();
+		this.rejected = new LongAdder();
+		this.waitTimes = new LatencyHistogram();
+		this.serviceTimes = new LatencyHistogram();
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return the executor service actually running the tasks.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true		// no precondition.
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @return	the executor service actually running the tasks.
+	 */
+	public ExecutorService	getDelegate()
+	{
+		return this.delegate;
+	}
+
+	/**
+	 * return the JMX name of the executor service with URI
+	 * <code>executorServiceURI</code> in the component which reflection
+	 * inbound port has URI <code>componentURI</code>.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code componentURI != null && executorServiceURI != null}
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param componentURI			URI of the reflection inbound port of the component.
+	 * @param executorServiceURI	URI of the executor service in the component.
+	 * @return						the JMX name of the executor service.
+	 * @throws JMException			if the URIs do not make a valid JMX name.
+	 */
+	public static ObjectName	mbeanName(
+		String componentURI,
+		String executorServiceURI
+		) throws JMException
+	{
+		assert	componentURI != null && executorServiceURI != null :
+					new PreconditionException(
+							"componentURI != null && "
+							+ "executorServiceURI != null");
+
+		return new ObjectName(JMX_DOMAIN + ":type=ExecutorService,component="
+								+ ObjectName.quote(componentURI) + ",uri="
+								+ ObjectName.quote(executorServiceURI));
+	}
+
+	/**
+	 * register this executor service in the platform MBean server under
+	 * <code>name</code>; it will be unregistered when shut down.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code name != null}
+	 * pre	{@code !isShutdown()}
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @param name			JMX name of this executor service.
+	 * @throws JMException	if the name is already registered or the registration fails.
+	 */
+	public void			registerMBean(ObjectName name) throws JMException
+	{
+		assert	name != null : new PreconditionException("name != null");
+
+		ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+		this.mbeanName = name;
+	}
+
+	/**
+	 * unregister this executor service from the platform MBean server if it
+	 * has been registered.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true		// no precondition.
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 */
+	protected void		unregisterMBean()
+	{
+		ObjectName name = this.mbeanName;
+		if (name != null) {
+			this.mbeanName = null;
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			try {
+				if (server.isRegistered(name)) {
+					server.unregisterMBean(name);
+				}
+			} catch (JMException e) {
+				// already unregistered by some other thread, nothing to do
+			}
+		}
+	}
+
+	/**
+	 * return a snapshot of the metrics of this executor service.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code uri != null}
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param uri			URI of the executor service in its component.
+	 * @param nbThreads		number of threads of the executor service.
+	 * @param schedulable	true if the executor service is schedulable.
+	 * @return				a snapshot of the metrics of this executor service.
+	 */
+	public ExecutorServiceMetrics	getMetrics(
+		String uri,
+		int nbThreads,
+		boolean schedulable
+		)
+	{
+		return new ExecutorServiceMetrics(
+						uri, nbThreads, schedulable,
+						this.getQueueLength(), this.getActiveCount(),
+						this.getSubmittedCount(), this.getCompletedCount(),
+						this.getRejectedCount(),
+						this.waitTimes.snapshot(),
+						this.serviceTimes.snapshot());
+	}
+
+	/**
+	 * account for the submission of <code>task</code> and return it.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code task != null}
+	 * post	{@code return == task}
+	 * </pre>
+	 *
+	 * @param task	a task about to be passed to the underlying executor service.
+	 * @return		<code>task</code>.
+	 */
+	protected TimedTask	enqueue(TimedTask task)
+	{
+		this.queued.increment();
+		return task;
+	}
+
+	/**
+	 * account for the rejection of <code>task</code> by the underlying
+	 * executor service.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code task != null}
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @param task	a task rejected by the underlying executor service.
+	 */
+	protected void		rejected(TimedTask task)
+	{
+		task.withdraw();
+		this.rejected.increment();
+	}
+
+	// -------------------------------------------------------------------------
+	// ExecutorService methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * @see java.util.concurrent.AbstractExecutorService#newTaskFor(java.util.concurrent.Callable)
+	 */
+	@Override
+	protected <T> RunnableFuture<T>	newTaskFor(Callable<T> callable)
+	{
+		// keep the priority of the request for a priority delegate
+		return new PrioritisedFutureTask<T>(callable);
+	}
+
+	/**
+	 * @see java.util.concurrent.AbstractExecutorService#newTaskFor(java.lang.Runnable, java.lang.Object)
+	 */
+	@Override
+	protected <T> RunnableFuture<T>	newTaskFor(Runnable runnable, T value)
+	{
+		return new PrioritisedFutureTask<T>(runnable, value);
+	}
+
+	/**
+	 * @see java.util.concurrent.Executor#execute(java.lang.Runnable)
+	 */
+	@Override
+	public void			execute(Runnable command)
+	{
+		TimedTask t = this.enqueue(new TimedTask(command, System.nanoTime()));
+		try {
+			this.delegate.execute(t);
+		} catch (RejectedExecutionException e) {
+			this.rejected(t);
+			throw e;
+		}
+		this.submitted.increment();
+	}
+
+	/**
+	 * @see java.util.concurrent.ExecutorService#shutdown()
+	 */
+	@Override
+	public void			shutdown()
+	{
+		this.delegate.shutdown();
+		this.unregisterMBean();
+	}
+
+	/**
+	 * @see java.util.concurrent.ExecutorService#shutdownNow()
+	 */
+	@Override
+	public List<Runnable>	shutdownNow()
+	{
+		List<Runnable> waiting = this.delegate.shutdownNow();
+		this.unregisterMBean();
+		List<Runnable> ret = new ArrayList<Runnable>(waiting.size());
+		for (Runnable r : waiting) {
+			if (r instanceof TimedTask) {
+				((TimedTask)r).withdraw();
+				ret.add(((TimedTask)r).task);
+			} else {
+				ret.add(r);
+			}
+		}
+		return ret;
+	}
+
+	/**
+	 * @see java.util.concurrent.ExecutorService#isShutdown()
+	 */
+	@Override
+	public boolean		isShutdown()
+	{
+		return this.delegate.isShutdown();
+	}
+
+	/**
+	 * @see java.util.concurrent.ExecutorService#isTerminated()
+	 */
+	@Override
+	public boolean		isTerminated()
+	{
+		return this.delegate.isTerminated();
+	}
+
+	/**
+	 * @see java.util.concurrent.ExecutorService#awaitTermination(long, java.util.concurrent.TimeUnit)
+	 */
+	@Override
+	public boolean		awaitTermination(long timeout, TimeUnit unit)
+	throws	InterruptedException
+	{
+		return this.delegate.awaitTermination(timeout, unit);
+	}
+
+	// -------------------------------------------------------------------------
+	// ExecutorServiceMetricsMXBean methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * @see fr.sorbonne_u.components.helpers.ExecutorServiceMetricsMXBean#getQueueLength()
+	 */
+	@Override
+	public long			getQueueLength()
+	{
+		return Math.max(0L, this.queued.sum());
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.helpers.ExecutorServiceMetricsMXBean#getActiveCount()
+	 */
+	@Override
+	public long			getActiveCount()
+	{
+		return Math.max(0L, this.active.sum());
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.helpers.ExecutorServiceMetricsMXBean#getSubmittedCount()
+	 */
+	@Override
+	public long			getSubmittedCount()
+	{
+		return this.submitted.sum();
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.helpers.ExecutorServiceMetricsMXBean#getCompletedCount()
+	 */
+	@Override
+	public long			getCompletedCount()
+	{
+		return this.completed.sum();
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.helpers.ExecutorServiceMetricsMXBean#getRejectedCount()
+	 */
+	@Override
+	public long			getRejectedCount()
+	{
+		return this.rejected.sum();
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.helpers.ExecutorServiceMetricsMXBean#getMeanWaitTime()
+	 */
+	@Override
+	public double		getMeanWaitTime()
+	{
+		return this.waitTimes.snapshot().getMean();
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.helpers.ExecutorServiceMetricsMXBean#getWaitTimeP50()
+	 */
+	@Override
+	public long			getWaitTimeP50()
+	{
+		return this.waitTimes.snapshot().getValueAtPercentile(50.0);
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.helpers.ExecutorServiceMetricsMXBean#getWaitTimeP99()
+	 */
+	@Override
+	public long			getWaitTimeP99()
+	{
+		return this.waitTimes.snapshot().getValueAtPercentile(99.0);
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.helpers.ExecutorServiceMetricsMXBean#getMaxWaitTime()
+	 */
+	@Override
+	public long			getMaxWaitTime()
+	{
+		return this.waitTimes.snapshot().getMax();
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.helpers.ExecutorServiceMetricsMXBean#getMeanServiceTime()
+	 */
+	@Override
+	public double		getMeanServiceTime()
+	{
+		return this.serviceTimes.snapshot().getMean();
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.helpers.ExecutorServiceMetricsMXBean#getServiceTimeP50()
+	 */
+	@Override
+	public long			getServiceTimeP50()
+	{
+		return this.serviceTimes.snapshot().getValueAtPercentile(50.0);
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.helpers.ExecutorServiceMetricsMXBean#getServiceTimeP99()
+	 */
+	@Override
+	public long			getServiceTimeP99()
+	{
+		return this.serviceTimes.snapshot().getValueAtPercentile(99.0);
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.helpers.ExecutorServiceMetricsMXBean#getMaxServiceTime()
+	 */
+	@Override
+	public long			getMaxServiceTime()
+	{
+		return this.serviceTimes.snapshot().getMax();
+	}
+
+	// -------------------------------------------------------------------------
+	// Inner classes
+	// -------------------------------------------------------------------------
+
+	/**
+	 * The class <code>TimedTask</code> wraps a task to record its queueing
+	 * delay and its execution time.
+	 *
+	 * <p><strong>Description</strong></p>
+	 * 
+	 * <p>
+	 * A task leaves the queue either when it starts for the first time or
+	 * when it is withdrawn (rejected, cancelled or dropped at shutdown), which
+	 * ever comes first. Periodic tasks record their execution times at each
+	 * period but no queueing delay, as their successive starts are not caused
+	 * by submissions.
+	 * </p>
+	 * 
+	 * <p><strong>Invariant</strong></p>
+	 * 
+	 * <pre>
+	 * invariant	{@code task != null}
+	 * </pre>
+	 * 
+	 * <p>Created on : 2026-10-19</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	protected class		TimedTask
+	implements	Runnable,
+				PrioritisedI
+	{
+		/** the wrapped task.												*/
+		protected final Runnable		task;
+		/** time at which the task is ready to run, in nanoseconds.		*/
+		protected final long			readyTime;
+		/** true if the task is periodic.									*/
+		protected final boolean			periodic;
+		/** true until the task first starts or is withdrawn.				*/
+		protected final AtomicBoolean	pending;
+
+		/**
+		 * create a timed task for a non periodic task.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code task != null}
+		 * post	true		// no postcondition.
+		 * </pre>
+		 *
+		 * @param task		the wrapped task.
+		 * @param readyTime	time at which the task is ready to run, in nanoseconds.
+		 */
+		public			TimedTask(Runnable task, long readyTime)
+		{
+			this(task, readyTime, false);
+		}
+
+		/**
+		 * create a timed task.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code task != null}
+		 * post	true		// no postcondition.
+		 * </pre>
+		 *
+		 * @param task		the wrapped task.
+		 * @param readyTime	time at which the task is ready to run, in nanoseconds.
+		 * @param periodic	true if the task is periodic.
+		 */
+		public			TimedTask(Runnable task, long readyTime, boolean periodic)
+		{
+			assert	task != null : new PreconditionException("task != null");
+
+			this.task = task;
+			this.readyTime = readyTime;
+			this.periodic = periodic;
+			this.pending = new AtomicBoolean(true);
+		}
+
+		/**
+		 * remove the task from the queued ones if it has not started yet.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	true		// no precondition.
+		 * post	true		// no postcondition.
+		 * </pre>
+		 *
+		 */
+		public void		withdraw()
+		{
+			if (this.pending.compareAndSet(true, false)) {
+				queued.decrement();
+			}
+		}
+
+		/**
+		 * @see fr.sorbonne_u.components.helpers.PrioritisedI#getPriority()
+		 */
+		@Override
+		public int		getPriority()
+		{
+			return PrioritisedFutureTask.priorityOf(this.task);
+		}
+
+		/**
+		 * @see java.lang.Runnable#run()
+		 */
+		@Override
+		public void		run()
+		{
+			long start = System.nanoTime();
+			if (this.pending.compareAndSet(true, false)) {
+				queued.decrement();
+				if (!this.periodic) {
+					waitTimes.record(start - this.readyTime);
+				}
+			}
+			active.increment();
+			try {
+				this.task.run();
+			} finally {
+				serviceTimes.record(System.nanoTime() - start);
+				active.decrement();
+				completed.increment();
+			}
+		}
+	}
+}
+// -----------------------------------------------------------------------------
@@ -0,0 +1,332 @@
+package fr.sorbonne_u.components.helpers;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import fr.sorbonne_u.exceptions.PreconditionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>InstrumentedScheduledExecutorService</code> extends the
+ * instrumented executor service to scheduled executor services.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * The queueing delay of a delayed task is measured from the time at which it
+ * is due, so it only accounts for the time it waits for a free thread and not
+ * for the delay requested by the caller. Periodic tasks only record their
+ * execution times. The returned futures withdraw the tasks from the queued
+ * ones when cancelled before their first execution.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code delegate instanceof ScheduledExecutorService}
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			InstrumentedScheduledExecutorService
+extends		InstrumentedExecutorService
+implements	ScheduledExecutorService
+{
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create an instrumented scheduled executor service running its tasks on
+	 * <code>delegate</code>.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code delegate != null}
+	 * post	{@code getSubmittedCount() == 0}
+	 * </pre>
+	 *
+	 * @param delegate	the scheduled executor service actually running the tasks.
+	 */
+	public				InstrumentedScheduledExecutorService(
+		ScheduledExecutorService delegate
+		)
+	{
+		super(delegate);
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * pass the timed task <code>t</code> to the underlying scheduled executor
+	 * service through <code>scheduling</code>, accounting for its submission
+	 * or its rejection.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code t != null && scheduling != null}
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param t				the timed task.
+	 * @param scheduling	the call to the underlying scheduled executor service.
+	 * @return				the future returned by the underlying scheduled executor service.
+	 */
+	protected ScheduledFuture<?>	schedule(
+		TimedTask t,
+		Callable<ScheduledFuture<?>> scheduling
+		)
+	{
+		assert	t != null && scheduling != null :
+					new PreconditionException(
+							"t != null && scheduling != null");
+
+		this.enqueue(t);
+		ScheduledFuture<?> f = null;
+		try {
+			f = scheduling.call();
+		} catch (RejectedExecutionException e) {
+			this.rejected(t);
+			throw e;
+		} catch (Exception e) {
+			this.rejected(t);
+			throw new RuntimeException(e);
+		}
+		this.submitted.increment();
+		return f;
+	}
+
+	/**
+	 * @see java.util.concurrent.ScheduledExecutorService#schedule(java.lang.Runnable, long, java.util.concurrent.TimeUnit)
+	 */
+	@Override
+	public ScheduledFuture<?>	schedule(
+		Runnable command,
+		long delay,
+		TimeUnit unit
+		)
+	{
+		ScheduledExecutorService ses = (ScheduledExecutorService) this.delegate;
+		TimedTask t = new TimedTask(command,
+									System.nanoTime() + unit.toNanos(delay));
+		ScheduledFuture<?> f = this.schedule(t, () -> ses.schedule(t, delay, unit));
+		return new TimedScheduledFuture<>(f, f, t);
+	}
+
+	/**
+	 * @see java.util.concurrent.ScheduledExecutorService#schedule(java.util.concurrent.Callable, long, java.util.concurrent.TimeUnit)
+	 */
+	@Override
+	public <V> ScheduledFuture<V>	schedule(
+		Callable<V> callable,
+		long delay,
+		TimeUnit unit
+		)
+	{
+		ScheduledExecutorService ses = (ScheduledExecutorService) this.delegate;
+		FutureTask<V> result = new PrioritisedFutureTask<V>(callable);
+		TimedTask t = new TimedTask(result,
+									System.nanoTime() + unit.toNanos(delay));
+		ScheduledFuture<?> f = this.schedule(t, () -> ses.schedule(t, delay, unit));
+		return new TimedScheduledFuture<V>(f, result, t);
+	}
+
+	/**
+	 * @see java.util.concurrent.ScheduledExecutorService#scheduleAtFixedRate(java.lang.Runnable, long, long, java.util.concurrent.TimeUnit)
+	 */
+	@Override
+	public ScheduledFuture<?>	scheduleAtFixedRate(
+		Runnable command,
+		long initialDelay,
+		long period,
+		TimeUnit unit
+		)
+	{
+		ScheduledExecutorService ses = (ScheduledExecutorService) this.delegate;
+		TimedTask t = new TimedTask(command, 0L, true);
+		ScheduledFuture<?> f =
+			this.schedule(t, () -> ses.scheduleAtFixedRate(t, initialDelay,
+														   period, unit));
+		return new TimedScheduledFuture<>(f, f, t);
+	}
+
+	/**
+	 * @see java.util.concurrent.ScheduledExecutorService#scheduleWithFixedDelay(java.lang.Runnable, long, long, java.util.concurrent.TimeUnit)
+	 */
+	@Override
+	public ScheduledFuture<?>	scheduleWithFixedDelay(
+		Runnable command,
+		long initialDelay,
+		long delay,
+		TimeUnit unit
+		)
+	{
+		ScheduledExecutorService ses = (ScheduledExecutorService) this.delegate;
+		TimedTask t = new TimedTask(command, 0L, true);
+		ScheduledFuture<?> f =
+			this.schedule(t, () -> ses.scheduleWithFixedDelay(t, initialDelay,
+															  delay, unit));
+		return new TimedScheduledFuture<>(f, f, t);
+	}
+
+	// -------------------------------------------------------------------------
+	// Inner classes
+	// -------------------------------------------------------------------------
+
+	/**
+	 * The class <code>TimedScheduledFuture</code> implements the futures
+	 * returned by the instrumented scheduled executor service.
+	 *
+	 * <p><strong>Description</strong></p>
+	 * 
+	 * <p>
+	 * The delay comes from the future of the underlying scheduled executor
+	 * service while the result comes from <code>result</code>, which is the
+	 * same future for runnables but the wrapping future task for callables.
+	 * </p>
+	 * 
+	 * <p><strong>Invariant</strong></p>
+	 * 
+	 * <pre>
+	 * invariant	{@code scheduled != null && result != null && task != null}
+	 * </pre>
+	 * 
+	 * <p>Created on : 2026-10-19</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	protected static class	TimedScheduledFuture<V>
+	implements	ScheduledFuture<V>
+	{
+		/** future returned by the underlying scheduled executor service.	*/
+		protected final ScheduledFuture<?>	scheduled;
+		/** future giving the result of the task.							*/
+		protected final Future<V>			result;
+		/** the scheduled timed task.										*/
+		protected final TimedTask			task;
+
+		/**
+		 * create a timed scheduled future.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code scheduled != null && result != null && task != null}
+		 * post	true		// no postcondition.
+		 * </pre>
+		 *
+		 * @param scheduled	future returned by the underlying scheduled executor service.
+		 * @param result	future giving the result of the task.
+		 * @param task		the scheduled timed task.
+		 */
+		@SuppressWarnings("unchecked")
+		public			TimedScheduledFuture(
+			ScheduledFuture<?> scheduled,
+			Future<?> result,
+			TimedTask task
+			)
+		{
+			this.scheduled = scheduled;
+			this.result = (Future<V>) result;
+			this.task = task;
+		}
+
+		@Override
+		public long		getDelay(TimeUnit unit)
+		{
+			return this.scheduled.getDelay(unit);
+		}
+
+		@Override
+		public int		compareTo(Delayed o)
+		{
+			return this.scheduled.compareTo(o);
+		}
+
+		@Override
+		public boolean	cancel(boolean mayInterruptIfRunning)
+		{
+			boolean ret = this.scheduled.cancel(mayInterruptIfRunning);
+			if (this.result != this.scheduled) {
+				ret = this.result.cancel(mayInterruptIfRunning) || ret;
+			}
+			if (ret) {
+				this.task.withdraw();
+			}
+			return ret;
+		}
+
+		@Override
+		public boolean	isCancelled()
+		{
+			return this.result.isCancelled();
+		}
+
+		@Override
+		public boolean	isDone()
+		{
+			return this.result.isDone();
+		}
+
+		@Override
+		public V		get() throws InterruptedException, ExecutionException
+		{
+			return this.result.get();
+		}
+
+		@Override
+		public V		get(long timeout, TimeUnit unit)
+		throws	InterruptedException, ExecutionException, TimeoutException
+		{
+			return this.result.get(timeout, unit);
+		}
+	}
+}
+// -----------------------------------------------------------------------------
@@ -0,0 +1,401 @@
+package fr.sorbonne_u.components.helpers;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import fr.sorbonne_u.exceptions.PreconditionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>LatencyHistogram</code> implements a lock-free histogram of
+ * durations in nanoseconds with a bounded relative error, in the manner of
+ * HDR histograms.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * Values below 64 have their own bucket. Above, each power of two interval
+ * <code>[2^e, 2^(e+1))</code> is divided into 32 buckets of equal width, hence
+ * the relative error on any recorded value is below 1/32 (about 3%) whatever
+ * its magnitude. Values of 2^42 ns (about 73 minutes) or more are recorded
+ * in the last bucket. Recording a value is a few atomic increments, so the
+ * histogram can be updated by any number of threads without locking; readers
+ * take a <code>Snapshot</code>, which is serialisable and can therefore be
+ * returned by a remote call.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code counts.length() == BUCKETS}
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			LatencyHistogram
+{
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** number of bits of precision within each power of two.				*/
+	protected static final int		SUB_BUCKET_BITS = 5;
+	/** number of buckets within each power of two.						*/
+	protected static final int		SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	/** largest exponent of the recorded values.							*/
+	protected static final int		MAX_EXPONENT = 41;
+	/** total number of buckets.											*/
+	public static final int			BUCKETS =
+						(MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKETS +
+																SUB_BUCKETS;
+	/** largest value recorded in its own bucket.							*/
+	protected static final long		MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+
+	/** number of values recorded in each bucket.							*/
+	protected final AtomicLongArray	counts;
+	/** total number of recorded values.									*/
+	protected final LongAdder		totalCount;
+	/** sum of the recorded values.											*/
+	protected final LongAdder		sum;
+	/** maximum recorded value.												*/
+	protected final AtomicLong		max;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create an empty histogram.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true		// no precondition.
+	 * post	{@code snapshot().getTotalCount() == 0}
+	 * </pre>
+	 *
+	 */
+	public				LatencyHistogram()
+	{
+		this.counts = new AtomicLongArray(BUCKETS);
+		this.totalCount = new LongAdder();
+		this.sum = new LongAdder();
+		this.max = new AtomicLong(0L);
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return the index of the bucket of <code>value</code>.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code value >= 0}
+	 * post	{@code return >= 0 && return < BUCKETS}
+	 * </pre>
+	 *
+	 * @param value	a recorded value.
+	 * @return		the index of its bucket.
+	 */
+	protected static int	bucketIndex(long value)
+	{
+		if (value < 2 * SUB_BUCKETS) {
+			return (int) value;
+		}
+		if (value > MAX_VALUE) {
+			value = MAX_VALUE;
+		}
+		int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+		return shift * SUB_BUCKETS + (int) (value >>> shift);
+	}
+
+	/**
+	 * return the smallest value falling in the bucket at <code>index</code>.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code index >= 0 && index < BUCKETS}
+	 * post	{@code bucketIndex(return) == index}
+	 * </pre>
+	 *
+	 * @param index	index of a bucket.
+	 * @return		the smallest value in the bucket.
+	 */
+	protected static long	lowestValueAt(int index)
+	{
+		if (index < 2 * SUB_BUCKETS) {
+			return index;
+		}
+		int shift = index / SUB_BUCKETS - 1;
+		return ((long) (index - shift * SUB_BUCKETS)) << shift;
+	}
+
+	/**
+	 * return the largest value falling in the bucket at <code>index</code>.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code index >= 0 && index < BUCKETS}
+	 * post	{@code bucketIndex(return) == index}
+	 * </pre>
+	 *
+	 * @param index	index of a bucket.
+	 * @return		the largest value in the bucket.
+	 */
+	protected static long	highestValueAt(int index)
+	{
+		if (index < 2 * SUB_BUCKETS) {
+			return index;
+		}
+		int shift = index / SUB_BUCKETS - 1;
+		return (((long) (index - shift * SUB_BUCKETS + 1)) << shift) - 1;
+	}
+
+	/**
+	 * record a duration.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true		// no precondition.
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @param nanos	duration in nanoseconds, negative values being recorded as 0.
+	 */
+	public void			record(long nanos)
+	{
+		if (nanos < 0) {
+			nanos = 0;
+		}
+		this.counts.incrementAndGet(bucketIndex(nanos));
+		this.totalCount.increment();
+		this.sum.add(nanos);
+		long m = this.max.get();
+		while (nanos > m && !this.max.compareAndSet(m, nanos)) {
+			m = this.max.get();
+		}
+	}
+
+	/**
+	 * return a snapshot of the current content of the histogram.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true		// no precondition.
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @return	a snapshot of the current content of the histogram.
+	 */
+	public Snapshot		snapshot()
+	{
+		int last = -1;
+		long[] c = new long[BUCKETS];
+		long total = 0;
+		for (int i = 0 ; i < BUCKETS ; i++) {
+			c[i] = this.counts.get(i);
+			if (c[i] != 0) {
+				total += c[i];
+				last = i;
+			}
+		}
+		return new Snapshot(Arrays.copyOf(c, last + 1), total,
+							this.sum.sum(), this.max.get());
+	}
+
+	// -------------------------------------------------------------------------
+	// Inner classes
+	// -------------------------------------------------------------------------
+
+	/**
+	 * The class <code>Snapshot</code> holds an immutable copy of the content
+	 * of a histogram.
+	 *
+	 * <p><strong>Invariant</strong></p>
+	 * 
+	 * <pre>
+	 * invariant	{@code counts != null && totalCount >= 0}
+	 * </pre>
+	 * 
+	 * <p>Created on : 2026-10-19</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	public static class	Snapshot
+	implements	Serializable
+	{
+		private static final long serialVersionUID = 1L;
+		/** number of values in each bucket, up to the last non empty one.	*/
+		protected final long[]	counts;
+		/** total number of values.										*/
+		protected final long	totalCount;
+		/** sum of the values.												*/
+		protected final long	sum;
+		/** maximum value.													*/
+		protected final long	max;
+
+		/**
+		 * create a snapshot.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code counts != null && totalCount >= 0}
+		 * post	true		// no postcondition.
+		 * </pre>
+		 *
+		 * @param counts		number of values in each bucket.
+		 * @param totalCount	total number of values.
+		 * @param sum			sum of the values.
+		 * @param max			maximum value.
+		 */
+		public			Snapshot(
+			long[] counts,
+			long totalCount,
+			long sum,
+			long max
+			)
+		{
+			assert	counts != null && totalCount >= 0 :
+						new PreconditionException(
+								"counts != null && totalCount >= 0");
+
+			this.counts = counts;
+			this.totalCount = totalCount;
+			this.sum = sum;
+			this.max = max;
+		}
+
+		/**
+		 * return the number of recorded values.
+		 * 
+		 * @return	the number of recorded values.
+		 */
+		public long		getTotalCount()
+		{
+			return this.totalCount;
+		}
+
+		/**
+		 * return the largest recorded value in nanoseconds.
+		 * 
+		 * @return	the largest recorded value in nanoseconds.
+		 */
+		public long		getMax()
+		{
+			return this.max;
+		}
+
+		/**
+		 * return the mean of the recorded values in nanoseconds, 0 if none.
+		 * 
+		 * @return	the mean of the recorded values in nanoseconds.
+		 */
+		public double	getMean()
+		{
+			return this.totalCount == 0 ?
+							0.0 : ((double) this.sum) / this.totalCount;
+		}
+
+		/**
+		 * return the value in nanoseconds below or at which
+		 * <code>percentile</code> percent of the recorded values fall, within
+		 * the precision of the histogram, or 0 if it is empty.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code percentile >= 0.0 && percentile <= 100.0}
+		 * post	{@code return >= 0}
+		 * </pre>
+		 *
+		 * @param percentile	a percentage.
+		 * @return				the value at the given percentile.
+		 */
+		public long		getValueAtPercentile(double percentile)
+		{
+			assert	percentile >= 0.0 && percentile <= 100.0 :
+						new PreconditionException(
+								"percentile >= 0.0 && percentile <= 100.0");
+
+			if (this.totalCount == 0) {
+				return 0L;
+			}
+			long rank = (long) Math.ceil(percentile / 100.0 * this.totalCount);
+			if (rank < 1) {
+				rank = 1;
+			}
+			long seen = 0;
+			for (int i = 0 ; i < this.counts.length ; i++) {
+				seen += this.counts[i];
+				if (seen >= rank) {
+					return Math.min(highestValueAt(i), this.max);
+				}
+			}
+			return this.max;
+		}
+
+		/**
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String	toString()
+		{
+			return String.format(
+					"[count=%d, mean=%.1fus, p50=%.1fus, p90=%.1fus, "
+					+ "p99=%.1fus, p99.9=%.1fus, max=%.1fus]",
+					this.totalCount, this.getMean() / 1e3,
+					this.getValueAtPercentile(50.0) / 1e3,
+					this.getValueAtPercentile(90.0) / 1e3,
+					this.getValueAtPercentile(99.0) / 1e3,
+					this.getValueAtPercentile(99.9) / 1e3,
+					this.max / 1e3);
+		}
+	}
+}
+// -----------------------------------------------------------------------------
@@ -452,6 +452,32 @@ public class			Logger
 		}
 	}
 
+	/**
+	 * add an entry in the log if the logging status is true, its message
+	 * being built from the format and the arguments as by
+	 * <code>String.format</code> only in this case.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	format != null
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @param format	format of the message provided by the log entry.
+	 * @param args		arguments of the format.
+	 */
+	public void			logMessage(String format, Object... args)
+	{
+		assert	format != null :
+					new PreconditionException(
+							"Logger#logMessage called with a null format!") ;
+
+		if (this.loggingStatus) {
+			this.logMessage(String.format(format, args)) ;
+		}
+	}
+
 	/**
 	 * output the execution log in the default log file.
 	 * 
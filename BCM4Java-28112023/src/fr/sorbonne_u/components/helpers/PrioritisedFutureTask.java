@@ -0,0 +1,129 @@
+package fr.sorbonne_u.components.helpers;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.FutureTask;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>PrioritisedFutureTask</code> implements a future task
+ * keeping the priority of the request or task it wraps, so that executor
+ * services decorating other ones do not lose it.
+ *
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code priority == PrioritisedI.UNSPECIFIED || priority >= 0}
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			PrioritisedFutureTask<V>
+extends		FutureTask<V>
+implements	PrioritisedI
+{
+	/** priority of the wrapped request or task.							*/
+	protected final int	priority;
+
+	/**
+	 * create a future task for <code>callable</code> with its priority.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code callable != null}
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @param callable	the request to be executed.
+	 */
+	public				PrioritisedFutureTask(Callable<V> callable)
+	{
+		super(callable);
+		this.priority = PrioritisedFutureTask.priorityOf(callable);
+	}
+
+	/**
+	 * create a future task for <code>runnable</code> with its priority.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code runnable != null}
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @param runnable	the task to be executed.
+	 * @param result	the result of the future task.
+	 */
+	public				PrioritisedFutureTask(Runnable runnable, V result)
+	{
+		super(runnable, result);
+		this.priority = PrioritisedFutureTask.priorityOf(runnable);
+	}
+
+	/**
+	 * return the priority of <code>o</code> if it implements
+	 * <code>PrioritisedI</code> and <code>UNSPECIFIED</code> otherwise.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true		// no precondition.
+	 * post	{@code return == UNSPECIFIED || return >= 0}
+	 * </pre>
+	 *
+	 * @param o	a request or task.
+	 * @return	its priority or <code>UNSPECIFIED</code>.
+	 */
+	public static int	priorityOf(Object o)
+	{
+		return o instanceof PrioritisedI ?
+					((PrioritisedI)o).getPriority() : UNSPECIFIED;
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.helpers.PrioritisedI#getPriority()
+	 */
+	@Override
+	public int			getPriority()
+	{
+		return this.priority;
+	}
+}
+// -----------------------------------------------------------------------------
@@ -0,0 +1,86 @@
+package fr.sorbonne_u.components.helpers;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+
+// -----------------------------------------------------------------------------
+/**
+ * The interface <code>PrioritisedI</code> is implemented by requests and
+ * tasks carrying a priority class, which priority executor services use to
+ * order them.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * Priorities are non negative integers, lower values being more urgent; the
+ * constants below name the usual classes. <code>UNSPECIFIED</code> means that
+ * the priority is to be taken from the context of the submission (see
+ * <code>PriorityExecutorService.callWithPriority</code>) or else from the
+ * default priority of the executor service.
+ * </p>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public interface		PrioritisedI
+{
+	/** no priority given.													*/
+	public static final int	UNSPECIFIED = -1;
+	/** real-time control requests, e.g. emergency or suspension orders.	*/
+	public static final int	REAL_TIME = 0;
+	/** requests which latency matters.									*/
+	public static final int	HIGH = 1;
+	/** default priority of requests.										*/
+	public static final int	NORMAL = 2;
+	/** requests which can wait, e.g. periodic sensor polls.				*/
+	public static final int	LOW = 3;
+	/** background work.													*/
+	public static final int	BACKGROUND = 4;
+
+	/**
+	 * return the priority of this request or task.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true		// no precondition.
+	 * post	{@code return == UNSPECIFIED || return >= 0}
+	 * </pre>
+	 *
+	 * @return	the priority of this request or task.
+	 */
+	public int			getPriority();
+}
+// -----------------------------------------------------------------------------
@@ -0,0 +1,770 @@
+package fr.sorbonne_u.components.helpers;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import fr.sorbonne_u.exceptions.PreconditionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>PriorityExecutorService</code> implements a thread pool
+ * executing its waiting tasks by priority, with aging, for immediate as well
+ * as for scheduled tasks.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * The priority of a task is, in this order, the one it carries if it
+ * implements <code>PrioritisedI</code>, the one bound to the submitting
+ * thread by <code>callWithPriority</code> or <code>bindPriority</code>
+ * or else the default priority of the executor service. Lower values are
+ * more urgent.
+ * </p>
+ * <p>
+ * Inbound ports give a priority to all the requests they receive by binding
+ * their request priority with <code>bindPriority</code> around the
+ * submission of each request and restoring the previously bound priority
+ * afterwards; unlike <code>callWithPriority</code>, it does not force the
+ * callers to catch or declare <code>Exception</code>, hence the ports keep
+ * the exceptions declared by the <code>handleRequest</code> and
+ * <code>runTask</code> methods of <code>ComponentI</code>.
+ * </p>
+ * <p>
+ * Waiting tasks are ordered by the key <code>ready + priority * quantum</code>
+ * where <code>ready</code> is the time at which the task became ready to run
+ * (its submission or, for scheduled tasks, its due time) and
+ * <code>quantum</code> the aging quantum. Hence, a task of priority
+ * <code>p</code> goes ahead of all the tasks of priority <code>q &gt; p</code>
+ * which have waited less than <code>(q - p) * quantum</code>, while a task
+ * that has waited <code>(q - p) * quantum</code> overtakes the more urgent
+ * tasks submitted after that: urgent requests are not stuck behind a backlog
+ * of less urgent ones, and the latter are never starved. As the key is
+ * computed once when the task is queued, a standard priority queue is used.
+ * </p>
+ * <p>
+ * Scheduled tasks are held by a single timer thread until they are due,
+ * then queued with their priority like the other tasks, so that they also
+ * compete by priority for the threads of the pool. When the executor service
+ * is shut down, the scheduled tasks that are not yet due are cancelled.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code agingQuantum >= 0 && defaultPriority >= 0}
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			PriorityExecutorService
+extends		ThreadPoolExecutor
+implements	ScheduledExecutorService
+{
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** priority bound to the current thread by <code>callWithPriority</code>
+	 *  or <code>bindPriority</code>.										*/
+	protected static final ThreadLocal<Integer>	CURRENT_PRIORITY =
+						ThreadLocal.withInitial(() -> PrioritisedI.UNSPECIFIED);
+
+	/** aging quantum in nanoseconds.										*/
+	protected final long					agingQuantum;
+	/** priority of the tasks which priority is unspecified.				*/
+	protected final int						defaultPriority;
+	/** sequence number keeping the FIFO order among equal keys.			*/
+	protected final AtomicLong				sequence;
+	/** timer holding the scheduled tasks until they are due, created on
+	 *  the first scheduling.												*/
+	protected ScheduledThreadPoolExecutor	timer;
+	/** scheduled tasks not yet due.										*/
+	protected final Set<DelayedTask<?>>		pendingDelayed;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create a priority executor service.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code nbThreads > 0}
+	 * pre	{@code agingQuantum >= 0 && unit != null}
+	 * pre	{@code defaultPriority >= 0}
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @param nbThreads			number of threads in the pool.
+	 * @param agingQuantum		waiting time compensating one priority level.
+	 * @param unit				time unit of <code>agingQuantum</code>.
+	 * @param defaultPriority	priority of the tasks which priority is unspecified.
+	 */
+	public				PriorityExecutorService(
+		int nbThreads,
+		long agingQuantum,
+		TimeUnit unit,
+		int defaultPriority
+		)
+	{
+		super(nbThreads, nbThreads, 0L, TimeUnit.MILLISECONDS,
+			  new PriorityBlockingQueue<Runnable>());
+
+		assert	agingQuantum >= 0 && unit != null :
+					new PreconditionException(
+							"agingQuantum >= 0 && unit != null");
+		assert	defaultPriority >= 0 :
+					new PreconditionException("defaultPriority >= 0");
+
+		this.agingQuantum = unit.toNanos(agingQuantum);
+		this.defaultPriority = defaultPriority;
+		this.sequence = new AtomicLong(0L);
+		this.pendingDelayed = ConcurrentHashMap.newKeySet();
+	}
+
+	// -------------------------------------------------------------------------
+	// Priorities
+	// -------------------------------------------------------------------------
+
+	/**
+	 * call <code>c</code> with <code>priority</code> bound to the current
+	 * thread, so that the tasks it submits to priority executor services
+	 * without a priority of their own get this priority.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code priority == PrioritisedI.UNSPECIFIED || priority >= 0}
+	 * pre	{@code c != null}
+	 * post	{@code currentPriority() == currentPriority()@pre}
+	 * </pre>
+	 *
+	 * @param <T>			type of the result of <code>c</code>.
+	 * @param priority		priority bound to the current thread during the call.
+	 * @param c				code to be called.
+	 * @return				the result of <code>c</code>.
+	 * @throws Exception	any exception thrown by <code>c</code>.
+	 */
+	public static <T> T	callWithPriority(int priority, Callable<T> c)
+	throws	Exception
+	{
+		assert	priority == PrioritisedI.UNSPECIFIED || priority >= 0 :
+					new PreconditionException(
+							"priority == PrioritisedI.UNSPECIFIED || "
+							+ "priority >= 0");
+		assert	c != null : new PreconditionException("c != null");
+
+		Integer previous = CURRENT_PRIORITY.get();
+		CURRENT_PRIORITY.set(priority);
+		try {
+			return c.call();
+		} finally {
+			CURRENT_PRIORITY.set(previous);
+		}
+	}
+
+	/**
+	 * bind <code>priority</code> to the current thread and return the
+	 * priority previously bound to it, which the caller must restore by
+	 * passing it back to this method once its submissions are done; this
+	 * is the form of <code>callWithPriority</code> that does not widen the
+	 * exceptions thrown by the caller.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code priority == PrioritisedI.UNSPECIFIED || priority >= 0}
+	 * post	{@code currentPriority() == priority}
+	 * </pre>
+	 *
+	 * @param priority	priority to be bound to the current thread.
+	 * @return			the priority previously bound to the current thread.
+	 */
+	public static int	bindPriority(int priority)
+	{
+		assert	priority == PrioritisedI.UNSPECIFIED || priority >= 0 :
+					new PreconditionException(
+							"priority == PrioritisedI.UNSPECIFIED || "
+							+ "priority >= 0");
+
+		int previous = CURRENT_PRIORITY.get();
+		CURRENT_PRIORITY.set(priority);
+		return previous;
+	}
+
+	/**
+	 * return the priority bound to the current thread or
+	 * <code>PrioritisedI.UNSPECIFIED</code> if none.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true		// no precondition.
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @return	the priority bound to the current thread.
+	 */
+	public static int	currentPriority()
+	{
+		return CURRENT_PRIORITY.get();
+	}
+
+	/**
+	 * return the priority to be given to <code>task</code> submitted by the
+	 * current thread.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true		// no precondition.
+	 * post	{@code return >= 0}
+	 * </pre>
+	 *
+	 * @param task	a task being submitted.
+	 * @return		the priority of the task.
+	 */
+	protected int		resolvePriority(Object task)
+	{
+		int p = PrioritisedFutureTask.priorityOf(task);
+		if (p == PrioritisedI.UNSPECIFIED) {
+			p = CURRENT_PRIORITY.get();
+			if (p == PrioritisedI.UNSPECIFIED) {
+				p = this.defaultPriority;
+			}
+		}
+		return p;
+	}
+
+	/**
+	 * return the aging quantum in nanoseconds.
+	 * 
+	 * @return	the aging quantum in nanoseconds.
+	 */
+	public long			getAgingQuantum()
+	{
+		return this.agingQuantum;
+	}
+
+	/**
+	 * return the priority of the tasks which priority is unspecified.
+	 * 
+	 * @return	the default priority.
+	 */
+	public int			getDefaultPriority()
+	{
+		return this.defaultPriority;
+	}
+
+	// -------------------------------------------------------------------------
+	// ExecutorService methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * @see java.util.concurrent.AbstractExecutorService#newTaskFor(java.util.concurrent.Callable)
+	 */
+	@Override
+	protected <T> RunnableFuture<T>	newTaskFor(Callable<T> callable)
+	{
+		return new PrioritisedFutureTask<T>(callable);
+	}
+
+	/**
+	 * @see java.util.concurrent.AbstractExecutorService#newTaskFor(java.lang.Runnable, java.lang.Object)
+	 */
+	@Override
+	protected <T> RunnableFuture<T>	newTaskFor(Runnable runnable, T value)
+	{
+		return new PrioritisedFutureTask<T>(runnable, value);
+	}
+
+	/**
+	 * @see java.util.concurrent.ThreadPoolExecutor#execute(java.lang.Runnable)
+	 */
+	@Override
+	public void			execute(Runnable command)
+	{
+		assert	command != null : new PreconditionException("command != null");
+
+		if (command instanceof QueuedTask) {
+			super.execute(command);
+		} else {
+			super.execute(new QueuedTask(command, this.resolvePriority(command),
+										 System.nanoTime()));
+		}
+	}
+
+	/**
+	 * @see java.util.concurrent.ThreadPoolExecutor#shutdown()
+	 */
+	@Override
+	public void			shutdown()
+	{
+		super.shutdown();
+		this.cancelDelayed();
+	}
+
+	/**
+	 * @see java.util.concurrent.ThreadPoolExecutor#shutdownNow()
+	 */
+	@Override
+	public List<Runnable>	shutdownNow()
+	{
+		List<Runnable> waiting = super.shutdownNow();
+		this.cancelDelayed();
+		List<Runnable> ret = new ArrayList<Runnable>(waiting.size());
+		for (Runnable r : waiting) {
+			ret.add(r instanceof QueuedTask ? ((QueuedTask)r).task : r);
+		}
+		return ret;
+	}
+
+	// -------------------------------------------------------------------------
+	// ScheduledExecutorService methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return the timer, creating it if needed.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true		// no precondition.
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @return	the timer.
+	 */
+	protected synchronized ScheduledThreadPoolExecutor	getTimer()
+	{
+		if (this.timer == null) {
+			this.timer = new ScheduledThreadPoolExecutor(1, r -> {
+											Thread t = new Thread(r);
+											t.setDaemon(true);
+											return t;
+										});
+			this.timer.setRemoveOnCancelPolicy(true);
+		}
+		return this.timer;
+	}
+
+	/**
+	 * cancel the scheduled tasks that are not yet due and stop the timer.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code isShutdown()}
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 */
+	protected void		cancelDelayed()
+	{
+		synchronized (this) {
+			if (this.timer != null) {
+				this.timer.shutdownNow();
+			}
+		}
+		for (DelayedTask<?> t : this.pendingDelayed) {
+			t.cancel(false);
+		}
+		this.pendingDelayed.clear();
+	}
+
+	/**
+	 * arm the timer to queue <code>t</code> when it is due.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code t != null}
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @param t	a scheduled task.
+	 */
+	protected void		arm(DelayedTask<?> t)
+	{
+		if (this.isShutdown()) {
+			t.cancel(false);
+			return;
+		}
+		this.pendingDelayed.add(t);
+		try {
+			t.timerFuture =
+				this.getTimer().schedule(
+					() -> {
+						this.pendingDelayed.remove(t);
+						try {
+							super.execute(new QueuedTask(t, t.priority, t.time));
+						} catch (RejectedExecutionException e) {
+							t.cancel(false);
+						}
+					},
+					t.time - System.nanoTime(),
+					TimeUnit.NANOSECONDS);
+		} catch (RejectedExecutionException e) {
+			this.pendingDelayed.remove(t);
+			t.cancel(false);
+		}
+		// a shutdown concurrent with the arming may have missed the task
+		if (this.isShutdown() && this.pendingDelayed.remove(t)) {
+			t.cancel(false);
+		}
+	}
+
+	/**
+	 * schedule <code>t</code>, rejecting it if the executor service is shut
+	 * down.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code t != null}
+	 * post	{@code return == t}
+	 * </pre>
+	 *
+	 * @param <V>	type of the result of the task.
+	 * @param t		a scheduled task.
+	 * @return		<code>t</code>.
+	 */
+	protected <V> DelayedTask<V>	schedule(DelayedTask<V> t)
+	{
+		if (this.isShutdown()) {
+			throw new RejectedExecutionException(
+								"the priority executor service is shut down");
+		}
+		this.arm(t);
+		return t;
+	}
+
+	/**
+	 * @see java.util.concurrent.ScheduledExecutorService#schedule(java.lang.Runnable, long, java.util.concurrent.TimeUnit)
+	 */
+	@Override
+	public ScheduledFuture<?>	schedule(
+		Runnable command,
+		long delay,
+		TimeUnit unit
+		)
+	{
+		return this.schedule(
+					new DelayedTask<Void>(
+							Executors.<Void>callable(command, null),
+							this.resolvePriority(command),
+							System.nanoTime() + unit.toNanos(delay), 0L));
+	}
+
+	/**
+	 * @see java.util.concurrent.ScheduledExecutorService#schedule(java.util.concurrent.Callable, long, java.util.concurrent.TimeUnit)
+	 */
+	@Override
+	public <V> ScheduledFuture<V>	schedule(
+		Callable<V> callable,
+		long delay,
+		TimeUnit unit
+		)
+	{
+		return this.schedule(
+					new DelayedTask<V>(
+							callable,
+							this.resolvePriority(callable),
+							System.nanoTime() + unit.toNanos(delay), 0L));
+	}
+
+	/**
+	 * @see java.util.concurrent.ScheduledExecutorService#scheduleAtFixedRate(java.lang.Runnable, long, long, java.util.concurrent.TimeUnit)
+	 */
+	@Override
+	public ScheduledFuture<?>	scheduleAtFixedRate(
+		Runnable command,
+		long initialDelay,
+		long period,
+		TimeUnit unit
+		)
+	{
+		assert	period > 0 : new PreconditionException("period > 0");
+
+		return this.schedule(
+					new DelayedTask<Void>(
+							Executors.<Void>callable(command, null),
+							this.resolvePriority(command),
+							System.nanoTime() + unit.toNanos(initialDelay),
+							unit.toNanos(period)));
+	}
+
+	/**
+	 * @see java.util.concurrent.ScheduledExecutorService#scheduleWithFixedDelay(java.lang.Runnable, long, long, java.util.concurrent.TimeUnit)
+	 */
+	@Override
+	public ScheduledFuture<?>	scheduleWithFixedDelay(
+		Runnable command,
+		long initialDelay,
+		long delay,
+		TimeUnit unit
+		)
+	{
+		assert	delay > 0 : new PreconditionException("delay > 0");
+
+		return this.schedule(
+					new DelayedTask<Void>(
+							Executors.<Void>callable(command, null),
+							this.resolvePriority(command),
+							System.nanoTime() + unit.toNanos(initialDelay),
+							-unit.toNanos(delay)));
+	}
+
+	// -------------------------------------------------------------------------
+	// Inner classes
+	// -------------------------------------------------------------------------
+
+	/**
+	 * The class <code>QueuedTask</code> wraps the tasks waiting in the queue
+	 * of the pool with their ordering key.
+	 *
+	 * <p><strong>Invariant</strong></p>
+	 * 
+	 * <pre>
+	 * invariant	{@code task != null && priority >= 0}
+	 * </pre>
+	 * 
+	 * <p>Created on : 2026-10-19</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	protected class		QueuedTask
+	implements	Runnable,
+				Comparable<QueuedTask>,
+				PrioritisedI
+	{
+		/** the wrapped task.												*/
+		protected final Runnable	task;
+		/** priority of the task.											*/
+		protected final int			priority;
+		/** ordering key: ready time plus the priority times the quantum.	*/
+		protected final long		key;
+		/** sequence number keeping the FIFO order among equal keys.		*/
+		protected final long		seq;
+
+		/**
+		 * create a queued task.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code task != null && priority >= 0}
+		 * post	true		// no postcondition.
+		 * </pre>
+		 *
+		 * @param task		the wrapped task.
+		 * @param priority	priority of the task.
+		 * @param ready		time in nanoseconds at which the task became ready.
+		 */
+		public			QueuedTask(Runnable task, int priority, long ready)
+		{
+			this.task = task;
+			this.priority = priority;
+			this.key = ready + priority * agingQuantum;
+			this.seq = sequence.getAndIncrement();
+		}
+
+		@Override
+		public int		getPriority()
+		{
+			return this.priority;
+		}
+
+		@Override
+		public int		compareTo(QueuedTask o)
+		{
+			long d = this.key - o.key;
+			if (d != 0) {
+				return d < 0 ? -1 : 1;
+			}
+			return Long.compare(this.seq, o.seq);
+		}
+
+		@Override
+		public void		run()
+		{
+			this.task.run();
+		}
+	}
+
+	/**
+	 * The class <code>DelayedTask</code> implements the scheduled tasks of
+	 * the priority executor service.
+	 *
+	 * <p><strong>Description</strong></p>
+	 * 
+	 * <p>
+	 * The period is positive for tasks at fixed rate, negative for tasks
+	 * with fixed delay and zero for one-shot tasks. A periodic task is
+	 * armed again after each of its executions, hence its executions never
+	 * overlap.
+	 * </p>
+	 * 
+	 * <p><strong>Invariant</strong></p>
+	 * 
+	 * <pre>
+	 * invariant	{@code priority >= 0}
+	 * </pre>
+	 * 
+	 * <p>Created on : 2026-10-19</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	protected class		DelayedTask<V>
+	extends		FutureTask<V>
+	implements	RunnableScheduledFuture<V>,
+				PrioritisedI
+	{
+		/** priority of the task.											*/
+		protected final int				priority;
+		/** period in nanoseconds, see the description.					*/
+		protected final long			period;
+		/** time in nanoseconds at which the task is next due.				*/
+		protected volatile long			time;
+		/** future of the timer task queuing the task when due.			*/
+		protected volatile Future<?>	timerFuture;
+
+		/**
+		 * create a scheduled task.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code callable != null && priority >= 0}
+		 * post	true		// no postcondition.
+		 * </pre>
+		 *
+		 * @param callable	the request or task.
+		 * @param priority	priority of the task.
+		 * @param time		time in nanoseconds at which the task is first due.
+		 * @param period	period in nanoseconds, see the description.
+		 */
+		public			DelayedTask(
+			Callable<V> callable,
+			int priority,
+			long time,
+			long period
+			)
+		{
+			super(callable);
+			this.priority = priority;
+			this.time = time;
+			this.period = period;
+		}
+
+		@Override
+		public int		getPriority()
+		{
+			return this.priority;
+		}
+
+		@Override
+		public boolean	isPeriodic()
+		{
+			return this.period != 0L;
+		}
+
+		@Override
+		public long		getDelay(TimeUnit unit)
+		{
+			return unit.convert(this.time - System.nanoTime(),
+								TimeUnit.NANOSECONDS);
+		}
+
+		@Override
+		public int		compareTo(Delayed o)
+		{
+			if (o == this) {
+				return 0;
+			}
+			long d = this.getDelay(TimeUnit.NANOSECONDS) -
+										o.getDelay(TimeUnit.NANOSECONDS);
+			return d < 0 ? -1 : (d > 0 ? 1 : 0);
+		}
+
+		@Override
+		public boolean	cancel(boolean mayInterruptIfRunning)
+		{
+			boolean ret = super.cancel(mayInterruptIfRunning);
+			Future<?> f = this.timerFuture;
+			if (ret && f != null) {
+				f.cancel(false);
+			}
+			pendingDelayed.remove(this);
+			return ret;
+		}
+
+		@Override
+		public void		run()
+		{
+			if (!this.isPeriodic()) {
+				super.run();
+			} else if (super.runAndReset()) {
+				this.time = this.period > 0 ?
+								this.time + this.period
+							:	System.nanoTime() - this.period;
+				arm(this);
+			}
+		}
+	}
+}
+// -----------------------------------------------------------------------------
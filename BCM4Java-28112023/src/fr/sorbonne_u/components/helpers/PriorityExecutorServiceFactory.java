@@ -0,0 +1,142 @@
+package fr.sorbonne_u.components.helpers;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import fr.sorbonne_u.components.AbstractComponent.ExecutorServiceFactory;
+import fr.sorbonne_u.exceptions.PreconditionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>PriorityExecutorServiceFactory</code> implements an
+ * executor service factory creating <code>PriorityExecutorService</code>
+ * instances.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * As priority executor services are also scheduled executor services, the
+ * executor services created by this factory in a component are schedulable,
+ * hence both requests and scheduled tasks submitted to them are executed by
+ * priority.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code agingQuantum >= 0 && unit != null && defaultPriority >= 0}
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			PriorityExecutorServiceFactory
+implements	ExecutorServiceFactory
+{
+	/** default aging quantum in milliseconds.								*/
+	public static final long	DEFAULT_AGING_QUANTUM = 10L;
+
+	/** waiting time compensating one priority level.						*/
+	protected final long		agingQuantum;
+	/** time unit of <code>agingQuantum</code>.								*/
+	protected final TimeUnit	unit;
+	/** priority of the tasks which priority is unspecified.				*/
+	protected final int			defaultPriority;
+
+	/**
+	 * create a factory with the default aging quantum and the default
+	 * priority <code>PrioritisedI.NORMAL</code>.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true		// no precondition.
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 */
+	public				PriorityExecutorServiceFactory()
+	{
+		this(DEFAULT_AGING_QUANTUM, TimeUnit.MILLISECONDS,
+			 PrioritisedI.NORMAL);
+	}
+
+	/**
+	 * create a factory with the given aging quantum and default priority.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code agingQuantum >= 0 && unit != null}
+	 * pre	{@code defaultPriority >= 0}
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @param agingQuantum		waiting time compensating one priority level.
+	 * @param unit				time unit of <code>agingQuantum</code>.
+	 * @param defaultPriority	priority of the tasks which priority is unspecified.
+	 */
+	public				PriorityExecutorServiceFactory(
+		long agingQuantum,
+		TimeUnit unit,
+		int defaultPriority
+		)
+	{
+		assert	agingQuantum >= 0 && unit != null :
+					new PreconditionException(
+							"agingQuantum >= 0 && unit != null");
+		assert	defaultPriority >= 0 :
+					new PreconditionException("defaultPriority >= 0");
+
+		this.agingQuantum = agingQuantum;
+		this.unit = unit;
+		this.defaultPriority = defaultPriority;
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.AbstractComponent.ExecutorServiceFactory#createExecutorService(int)
+	 */
+	@Override
+	public ExecutorService	createExecutorService(int nbThreads)
+	{
+		assert	nbThreads > 0 : new PreconditionException("nbThreads > 0");
+
+		return new PriorityExecutorService(nbThreads, this.agingQuantum,
+										   this.unit, this.defaultPriority);
+	}
+}
+// -----------------------------------------------------------------------------
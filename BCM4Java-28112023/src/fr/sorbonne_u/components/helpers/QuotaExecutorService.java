@@ -0,0 +1,534 @@
+package fr.sorbonne_u.components.helpers;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import fr.sorbonne_u.exceptions.PreconditionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>QuotaExecutorService</code> implements an executor service
+ * running its tasks on a backing executor, possibly shared with other
+ * components, while never running more than a given number of them at the
+ * same time.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * Tasks submitted when the quota is reached wait in a local queue and are
+ * handed to the backing executor one at a time as the running ones complete.
+ * The quota plays the role of the number of threads of a standard thread pool:
+ * with a quota of 1, the tasks of a component are executed one after the
+ * other, as with a single thread executor, even if the backing executor runs
+ * them on different threads. When several components share the same backing
+ * executor, each of them gets at most its quota of the backing threads, hence
+ * a component flooded with requests cannot starve the other ones.
+ * </p>
+ * <p>
+ * The futures returned by <code>submit</code> and <code>invokeAll</code> wait
+ * for their results through <code>ForkJoinPool.managedBlock</code>, so that
+ * when the backing executor is a <code>ForkJoinPool</code>, a task waiting
+ * for the result of a task of another component lets the pool create a
+ * compensating thread instead of holding one of its threads; hence, chains
+ * of calls between components, where the task of a component waits for the
+ * result of a task submitted to another one, do not deadlock whatever the
+ * size of the pool. Other blocking operations (locks, sleeps, inputs and
+ * outputs, remote calls) get no compensation: a shared pool with fewer
+ * threads than the number of such waits in progress at the same time can
+ * block all of its threads.
+ * </p>
+ * <p>
+ * When the backing executor rejects a task, a task submitted through
+ * <code>submit</code> or <code>invokeAll</code> completes with the
+ * <code>RejectedExecutionException</code>, while a task given to
+ * <code>execute</code> is put back at the head of the waiting ones, to be
+ * handed again to the backing executor by the next dispatch.
+ * </p>
+ * <p>
+ * <code>shutdown</code> only affects this executor service, not the backing
+ * executor; <code>shutdownNow</code> interrupts the tasks of this executor
+ * service currently running, the interruption being delivered to a backing
+ * thread only while it runs such a task and cleared before the thread goes
+ * on with other tasks, and returns the waiting ones.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code backing != null && quota > 0}
+ * invariant	{@code running.get() >= 0 && running.get() <= quota}
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			QuotaExecutorService
+extends		AbstractExecutorService
+{
+	// -------------------------------------------------------------------------
+	// Inner classes
+	// -------------------------------------------------------------------------
+
+	/**
+	 * The class <code>QuotaFutureTask</code> implements the futures of the
+	 * tasks submitted to a quota executor service, which wait for their
+	 * result as managed blockers of the fork/join pools.
+	 *
+	 * <p>Created on : 2026-10-19</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	protected static class	QuotaFutureTask<V>
+	extends		FutureTask<V>
+	{
+		public			QuotaFutureTask(Callable<V> callable)
+		{
+			super(callable);
+		}
+
+		public			QuotaFutureTask(Runnable runnable, V result)
+		{
+			super(runnable, result);
+		}
+
+		/**
+		 * complete this future with the exception <code>e</code>.
+		 * 
+		 * @param e	exception explaining why the task could not be run.
+		 */
+		public void		reject(RejectedExecutionException e)
+		{
+			this.setException(e);
+		}
+
+		/**
+		 * @see java.util.concurrent.FutureTask#get()
+		 */
+		@Override
+		public V		get() throws InterruptedException, ExecutionException
+		{
+			if (!this.isDone()) {
+				ForkJoinPool.managedBlock(new ForkJoinPool.ManagedBlocker() {
+						@Override
+						public boolean block() throws InterruptedException
+						{
+							try {
+								QuotaFutureTask.super.get();
+							} catch (ExecutionException |
+									 CancellationException e) {
+								// reported by the final get
+							}
+							return true;
+						}
+
+						@Override
+						public boolean isReleasable()
+						{
+							return QuotaFutureTask.this.isDone();
+						}
+					});
+			}
+			return super.get();
+		}
+
+		/**
+		 * @see java.util.concurrent.FutureTask#get(long, java.util.concurrent.TimeUnit)
+		 */
+		@Override
+		public V		get(long timeout, TimeUnit unit)
+		throws InterruptedException, ExecutionException, TimeoutException
+		{
+			if (!this.isDone()) {
+				final long deadline = System.nanoTime() + unit.toNanos(timeout);
+				ForkJoinPool.managedBlock(new ForkJoinPool.ManagedBlocker() {
+						@Override
+						public boolean block() throws InterruptedException
+						{
+							try {
+								QuotaFutureTask.super.get(
+										deadline - System.nanoTime(),
+										TimeUnit.NANOSECONDS);
+							} catch (ExecutionException | TimeoutException |
+									 CancellationException e) {
+								// reported by the final get
+							}
+							return true;
+						}
+
+						@Override
+						public boolean isReleasable()
+						{
+							return QuotaFutureTask.this.isDone() ||
+										deadline - System.nanoTime() <= 0L;
+						}
+					});
+				if (!this.isDone()) {
+					throw new TimeoutException();
+				}
+			}
+			return super.get();
+		}
+	}
+
+	/**
+	 * The class <code>RunningTask</code> records the backing thread running a
+	 * task of this executor service, so that the task can be interrupted
+	 * without interrupting the thread once it runs other tasks.
+	 *
+	 * <p>Created on : 2026-10-19</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	protected static class	RunningTask
+	{
+		/** backing thread running the task.								*/
+		protected final Thread	thread;
+		/** true once the task has completed; guarded by this object.		*/
+		protected boolean		completed;
+		/** true if the task has been interrupted; guarded by this object.	*/
+		protected boolean		interrupted;
+
+		public			RunningTask(Thread thread)
+		{
+			this.thread = thread;
+			this.completed = false;
+			this.interrupted = false;
+		}
+
+		/**
+		 * interrupt the task if it is still running.
+		 */
+		public synchronized void	interrupt()
+		{
+			if (!this.completed) {
+				this.interrupted = true;
+				this.thread.interrupt();
+			}
+		}
+
+		/**
+		 * mark the task as completed and clear the interruption it may have
+		 * received, the current thread being the one that ran it.
+		 */
+		public synchronized void	complete()
+		{
+			this.completed = true;
+			if (this.interrupted) {
+				Thread.interrupted();
+			}
+		}
+	}
+
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** executor actually running the tasks.								*/
+	protected final Executor						backing;
+	/** maximum number of tasks running at the same time.					*/
+	protected final int								quota;
+	/** tasks waiting for the number of running tasks to go under the
+	 *  quota.																*/
+	protected final ConcurrentLinkedDeque<Runnable>	waiting;
+	/** number of tasks handed to the backing executor and not completed.	*/
+	protected final AtomicInteger					running;
+	/** tasks of this executor service currently running.					*/
+	protected final Set<RunningTask>				activeTasks;
+	/** true when this executor service has been shut down.				*/
+	protected volatile boolean						shutdown;
+	/** lock used to wait for the termination.								*/
+	protected final Object							terminationLock;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create an executor service running at most <code>quota</code> tasks at
+	 * the same time on <code>backing</code>.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code backing != null}
+	 * pre	{@code quota > 0}
+	 * post	{@code !isShutdown()}
+	 * </pre>
+	 *
+	 * @param backing	executor actually running the tasks.
+	 * @param quota		maximum number of tasks running at the same time.
+	 */
+	public				QuotaExecutorService(Executor backing, int quota)
+	{
+		super();
+
+		assert	backing != null : new PreconditionException("backing != null");
+		assert	quota > 0 : new PreconditionException("quota > 0");
+
+		this.backing = backing;
+		this.quota = quota;
+		this.waiting = new ConcurrentLinkedDeque<Runnable>();
+		this.running = new AtomicInteger(0);
+		this.activeTasks = ConcurrentHashMap.newKeySet();
+		this.shutdown = false;
+		this.terminationLock = new Object();
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return the maximum number of tasks running at the same time.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true		// no precondition.
+	 * post	{@code return > 0}
+	 * </pre>
+	 *
+	 * @return	the maximum number of tasks running at the same time.
+	 */
+	public int			getQuota()
+	{
+		return this.quota;
+	}
+
+	/**
+	 * @see java.util.concurrent.AbstractExecutorService#newTaskFor(java.util.concurrent.Callable)
+	 */
+	@Override
+	protected <T> RunnableFuture<T>	newTaskFor(Callable<T> callable)
+	{
+		return new QuotaFutureTask<T>(callable);
+	}
+
+	/**
+	 * @see java.util.concurrent.AbstractExecutorService#newTaskFor(java.lang.Runnable, java.lang.Object)
+	 */
+	@Override
+	protected <T> RunnableFuture<T>	newTaskFor(Runnable runnable, T value)
+	{
+		return new QuotaFutureTask<T>(runnable, value);
+	}
+
+	/**
+	 * @see java.util.concurrent.Executor#execute(java.lang.Runnable)
+	 */
+	@Override
+	public void			execute(Runnable command)
+	{
+		if (command == null) {
+			throw new NullPointerException();
+		}
+		if (this.shutdown) {
+			throw new RejectedExecutionException(
+								"the executor service has been shut down!");
+		}
+		this.waiting.add(command);
+		this.dispatch();
+	}
+
+	/**
+	 * hand waiting tasks to the backing executor as long as the quota is not
+	 * reached; a task rejected by the backing executor is failed if it is a
+	 * future of this executor service and put back at the head of the
+	 * waiting ones otherwise, the dispatch stopping there.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true		// no precondition.
+	 * post	true		// no postcondition.
+	 * </pre>
+	 */
+	protected void		dispatch()
+	{
+		while (!this.waiting.isEmpty()) {
+			int n = this.running.get();
+			if (n >= this.quota) {
+				// a running task will dispatch again when completing
+				return;
+			}
+			if (this.running.compareAndSet(n, n + 1)) {
+				Runnable r = this.waiting.poll();
+				if (r == null) {
+					// another thread took it, give the slot back
+					this.running.decrementAndGet();
+				} else {
+					try {
+						this.backing.execute(() -> this.runTask(r));
+					} catch (RejectedExecutionException e) {
+						this.running.decrementAndGet();
+						if (r instanceof QuotaFutureTask) {
+							((QuotaFutureTask<?>) r).reject(e);
+						} else {
+							this.waiting.offerFirst(r);
+							return;
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * run <code>r</code> on the current thread of the backing executor, then
+	 * release its slot and dispatch the next waiting task if any.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code r != null}
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @param r	task to be run.
+	 */
+	protected void		runTask(Runnable r)
+	{
+		RunningTask t = new RunningTask(Thread.currentThread());
+		this.activeTasks.add(t);
+		try {
+			r.run();
+		} finally {
+			this.activeTasks.remove(t);
+			t.complete();
+			this.running.decrementAndGet();
+			this.dispatch();
+			if (this.isTerminated()) {
+				synchronized (this.terminationLock) {
+					this.terminationLock.notifyAll();
+				}
+			}
+		}
+	}
+
+	/**
+	 * @see java.util.concurrent.ExecutorService#shutdown()
+	 */
+	@Override
+	public void			shutdown()
+	{
+		this.shutdown = true;
+		if (this.isTerminated()) {
+			synchronized (this.terminationLock) {
+				this.terminationLock.notifyAll();
+			}
+		}
+	}
+
+	/**
+	 * @see java.util.concurrent.ExecutorService#shutdownNow()
+	 */
+	@Override
+	public List<Runnable>	shutdownNow()
+	{
+		this.shutdown = true;
+		List<Runnable> ret = new ArrayList<Runnable>();
+		Runnable r;
+		while ((r = this.waiting.poll()) != null) {
+			ret.add(r);
+		}
+		for (RunningTask t : this.activeTasks) {
+			t.interrupt();
+		}
+		if (this.isTerminated()) {
+			synchronized (this.terminationLock) {
+				this.terminationLock.notifyAll();
+			}
+		}
+		return ret;
+	}
+
+	/**
+	 * @see java.util.concurrent.ExecutorService#isShutdown()
+	 */
+	@Override
+	public boolean		isShutdown()
+	{
+		return this.shutdown;
+	}
+
+	/**
+	 * @see java.util.concurrent.ExecutorService#isTerminated()
+	 */
+	@Override
+	public boolean		isTerminated()
+	{
+		return this.shutdown && this.running.get() == 0 &&
+													this.waiting.isEmpty();
+	}
+
+	/**
+	 * @see java.util.concurrent.ExecutorService#awaitTermination(long, java.util.concurrent.TimeUnit)
+	 */
+	@Override
+	public boolean		awaitTermination(long timeout, TimeUnit unit)
+	throws InterruptedException
+	{
+		long deadline = System.nanoTime() + unit.toNanos(timeout);
+		synchronized (this.terminationLock) {
+			while (!this.isTerminated()) {
+				long remaining = deadline - System.nanoTime();
+				if (remaining <= 0) {
+					return false;
+				}
+				TimeUnit.NANOSECONDS.timedWait(this.terminationLock,
+											   remaining);
+			}
+		}
+		return true;
+	}
+}
+// -----------------------------------------------------------------------------
@@ -0,0 +1,180 @@
+package fr.sorbonne_u.components.helpers;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import fr.sorbonne_u.components.AbstractComponent.ExecutorServiceFactory;
+import fr.sorbonne_u.exceptions.PreconditionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>SharedExecutorServiceFactory</code> implements an executor
+ * service factory which makes all the executor services it creates share one
+ * pool of threads, each of them getting a fairness quota.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * When a CVM deploys many components, giving each of them its own thread pool
+ * creates far more threads than processors, most of them idle. With this
+ * factory, the components run their requests and tasks on one work-stealing
+ * pool of the given size, created with the factory. The number of threads
+ * requested for an executor service becomes its quota: the maximum number of
+ * its tasks running at the same time in the shared pool (see
+ * <code>QuotaExecutorService</code>). Hence, the semantics of the number of
+ * threads is kept (a single thread gives a serialised execution) and a
+ * component flooded with requests cannot take more than its quota of the
+ * shared threads, the other components keeping their share.
+ * </p>
+ * <p>
+ * A task of a component often calls another component and waits for the
+ * result, the waiting task holding a thread of the shared pool. The futures
+ * of the executor services created by the factory wait through
+ * <code>ForkJoinPool.managedBlock</code>, so that the pool adds a
+ * compensating thread for each task blocked on such a future, and chains of
+ * calls deeper than the size of the pool do not deadlock. This compensation
+ * does not apply to other blocking operations (locks, sleeps, inputs and
+ * outputs, calls to remote components): when tasks may block in such a way,
+ * the pool must have at least as many threads as tasks blocked at the same
+ * time, at worst the sum of the quotas of the executor services.
+ * </p>
+ * <p>
+ * The shared pool uses daemon threads and lives as long as the factory is
+ * referenced; shutting down the executor services created by the factory does
+ * not shut it down.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code sharedPool != null}
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			SharedExecutorServiceFactory
+implements	ExecutorServiceFactory
+{
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** pool of threads shared by all executor services created by this
+	 *  factory.															*/
+	protected final ForkJoinPool	sharedPool;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create a factory sharing a pool with as many threads as available
+	 * processors.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true		// no precondition.
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 */
+	public				SharedExecutorServiceFactory()
+	{
+		this(Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * create a factory sharing a pool of <code>nbSharedThreads</code> threads.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code nbSharedThreads > 0}
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @param nbSharedThreads	number of threads in the shared pool.
+	 */
+	public				SharedExecutorServiceFactory(int nbSharedThreads)
+	{
+		super();
+
+		assert	nbSharedThreads > 0 :
+					new PreconditionException("nbSharedThreads > 0");
+
+		this.sharedPool =
+				new ForkJoinPool(nbSharedThreads,
+								 ForkJoinPool.defaultForkJoinWorkerThreadFactory,
+								 null,
+								 true);
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return the number of threads in the shared pool.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true		// no precondition.
+	 * post	{@code return > 0}
+	 * </pre>
+	 *
+	 * @return	the number of threads in the shared pool.
+	 */
+	public int			getNumberOfSharedThreads()
+	{
+		return this.sharedPool.getParallelism();
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.AbstractComponent.ExecutorServiceFactory#createExecutorService(int)
+	 */
+	@Override
+	public ExecutorService	createExecutorService(int nbThreads)
+	{
+		assert	nbThreads > 0 : new PreconditionException("nbThreads > 0");
+
+		return new QuotaExecutorService(this.sharedPool, nbThreads);
+	}
+}
+// -----------------------------------------------------------------------------
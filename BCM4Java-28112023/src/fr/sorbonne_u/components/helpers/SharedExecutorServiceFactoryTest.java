@@ -0,0 +1,129 @@
+package fr.sorbonne_u.components.helpers;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>SharedExecutorServiceFactoryTest</code> tests the executor
+ * services sharing one pool of threads created by
+ * <code>SharedExecutorServiceFactory</code>.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant		true
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			SharedExecutorServiceFactoryTest
+{
+	@Test
+	public void			testNestedCallsOnOneThread() throws Exception
+	{
+		SharedExecutorServiceFactory f = new SharedExecutorServiceFactory(1);
+		ExecutorService a = f.createExecutorService(1);
+		ExecutorService b = f.createExecutorService(1);
+		ExecutorService c = f.createExecutorService(1);
+
+		// a waits for b which waits for c, with a single shared thread
+		Future<Integer> r =
+			a.submit(() -> b.submit(() -> c.submit(() -> 42).get()).get());
+		Assertions.assertEquals(42, (int) r.get(10, TimeUnit.SECONDS));
+
+		a.shutdown();
+		b.shutdown();
+		c.shutdown();
+	}
+
+	@Test
+	public void			testRejectedTaskFails() throws Exception
+	{
+		QuotaExecutorService es = new QuotaExecutorService(
+					r -> { throw new RejectedExecutionException("full"); }, 1);
+
+		Future<Integer> r = es.submit(() -> 1);
+		ExecutionException e =
+				Assertions.assertThrows(ExecutionException.class,
+										() -> r.get(1, TimeUnit.SECONDS));
+		Assertions.assertTrue(
+					e.getCause() instanceof RejectedExecutionException);
+		es.shutdown();
+		Assertions.assertTrue(es.awaitTermination(1, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void			testShutdownNowOnlyInterruptsItsTasks()
+	throws Exception
+	{
+		SharedExecutorServiceFactory f = new SharedExecutorServiceFactory(1);
+		ExecutorService a = f.createExecutorService(1);
+		ExecutorService b = f.createExecutorService(1);
+
+		CountDownLatch started = new CountDownLatch(1);
+		Future<Boolean> blocked = a.submit(() -> {
+					started.countDown();
+					try {
+						Thread.sleep(10000L);
+						return false;
+					} catch (InterruptedException e) {
+						return true;
+					}
+				});
+		Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+		a.shutdownNow();
+		Assertions.assertTrue(blocked.get(5, TimeUnit.SECONDS));
+		Assertions.assertTrue(a.awaitTermination(5, TimeUnit.SECONDS));
+
+		// the shared thread goes on with the tasks of b, not interrupted
+		Future<Boolean> other =
+					b.submit(() -> Thread.currentThread().isInterrupted());
+		Assertions.assertFalse(other.get(5, TimeUnit.SECONDS));
+		b.shutdown();
+	}
+}
+// -----------------------------------------------------------------------------
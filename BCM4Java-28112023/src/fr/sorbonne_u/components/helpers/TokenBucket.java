@@ -0,0 +1,232 @@
+package fr.sorbonne_u.components.helpers;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import fr.sorbonne_u.exceptions.PreconditionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>TokenBucket</code> implements a lock-free token bucket
+ * limiting the rate at which requests are admitted while allowing bursts.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * The bucket holds at most <code>burst</code> tokens and is refilled at
+ * <code>rate</code> tokens per second; each admitted request consumes one
+ * token. Rather than counting tokens, the implementation keeps the
+ * theoretical arrival time of the next request (the generic cell rate
+ * algorithm), so that acquiring a token is a single compare-and-set and the
+ * delay after which a token will be available is known when a request is
+ * refused.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code emissionInterval > 0 && tolerance >= 0}
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			TokenBucket
+{
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** number of tokens added per second.									*/
+	protected final double		rate;
+	/** maximum number of tokens in the bucket.								*/
+	protected final int			burst;
+	/** time in nanoseconds between the addition of two tokens.				*/
+	protected final long		emissionInterval;
+	/** how far ahead of the current time the theoretical arrival time can
+	 *  be, in nanoseconds, i.e. the time to refill a full bucket minus one
+	 *  token.																*/
+	protected final long		tolerance;
+	/** theoretical arrival time of the next request in nanoseconds.		*/
+	protected final AtomicLong	theoreticalArrival;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create a full token bucket.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code rate > 0.0 && rate <= 1.0e9}
+	 * pre	{@code burst > 0}
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @param rate	number of tokens added per second.
+	 * @param burst	maximum number of tokens in the bucket.
+	 */
+	public				TokenBucket(double rate, int burst)
+	{
+		assert	rate > 0.0 && rate <= 1.0e9 :
+					new PreconditionException("rate > 0.0 && rate <= 1.0e9");
+		assert	burst > 0 : new PreconditionException("burst > 0");
+
+		this.rate = rate;
+		this.burst = burst;
+		this.emissionInterval = Math.max(1L, Math.round(1.0e9 / rate));
+		this.tolerance = this.emissionInterval * (burst - 1);
+		this.theoreticalArrival = new AtomicLong(System.nanoTime());
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return the number of tokens added per second.
+	 * 
+	 * @return	the number of tokens added per second.
+	 */
+	public double		getRate()
+	{
+		return this.rate;
+	}
+
+	/**
+	 * return the maximum number of tokens in the bucket.
+	 * 
+	 * @return	the maximum number of tokens in the bucket.
+	 */
+	public int			getBurst()
+	{
+		return this.burst;
+	}
+
+	/**
+	 * try to take a token and return 0 if one has been taken, otherwise the
+	 * delay in nanoseconds after which one will be available.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true		// no precondition.
+	 * post	{@code return >= 0}
+	 * </pre>
+	 *
+	 * @return	0 if a token has been taken, the delay before one is available otherwise.
+	 */
+	public long			tryAcquireOrDelay()
+	{
+		while (true) {
+			long now = System.nanoTime();
+			long tat = this.theoreticalArrival.get();
+			long start = tat - now > 0 ? tat : now;
+			long ahead = start - now;
+			if (ahead > this.tolerance) {
+				return ahead - this.tolerance;
+			}
+			if (this.theoreticalArrival.compareAndSet(
+										tat, start + this.emissionInterval)) {
+				return 0L;
+			}
+		}
+	}
+
+	/**
+	 * try to take a token and return true if one has been taken.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true		// no precondition.
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @return	true if a token has been taken.
+	 */
+	public boolean		tryAcquire()
+	{
+		return this.tryAcquireOrDelay() == 0L;
+	}
+
+	/**
+	 * take a token, waiting at most <code>timeout</code> for one to become
+	 * available, and return true if one has been taken.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code timeout >= 0 && unit != null}
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @param timeout				maximum time to wait.
+	 * @param unit					time unit of <code>timeout</code>.
+	 * @return						true if a token has been taken.
+	 * @throws InterruptedException	if interrupted while waiting.
+	 */
+	public boolean		tryAcquire(long timeout, TimeUnit unit)
+	throws	InterruptedException
+	{
+		assert	timeout >= 0 && unit != null :
+					new PreconditionException("timeout >= 0 && unit != null");
+
+		long deadline = System.nanoTime() + unit.toNanos(timeout);
+		long delay;
+		while ((delay = this.tryAcquireOrDelay()) > 0L) {
+			if (System.nanoTime() + delay - deadline > 0) {
+				return false;
+			}
+			TimeUnit.NANOSECONDS.sleep(delay);
+		}
+		return true;
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String		toString()
+	{
+		return this.getClass().getSimpleName() + "[rate=" + this.rate
+											   + "/s, burst=" + this.burst + "]";
+	}
+}
+// -----------------------------------------------------------------------------
@@ -0,0 +1,627 @@
+package fr.sorbonne_u.components.helpers;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import fr.sorbonne_u.exceptions.PreconditionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>TraceRecorder</code> writes asynchronously the trace
+ * messages of the components of a JVM either on one text file per component
+ * or on one binary file multiplexing the traces of all the components.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * Tracing threads only add a record to a lock-free
+ * <code>BoundedRingBuffer</code>, which refuses new records when it is full
+ * (they are counted as dropped), so tracing never waits on input/output. A
+ * daemon writer thread takes the records, writes them on buffered streams
+ * and flushes the streams whenever the buffer becomes empty. The input/output
+ * errors are handled record per record: a record that cannot be written is
+ * counted as dropped and the writer thread goes on with the next ones, the
+ * first error only being reported. The directory of the trace files is
+ * created if it does not exist.
+ * </p>
+ * <p>
+ * With the format <code>TEXT_PER_COMPONENT</code>, the messages of each
+ * component are written, prefixed by their time stamp and '|', on the file
+ * <code>directory/&lt;component URI&gt;.trace</code>, the characters of the
+ * URI that are not letters, digits, '.', '-' or '_' being replaced by '_'.
+ * With the format <code>MULTIPLEXED_BINARY</code>, all the records are
+ * written on the file <code>directory/&lt;name&gt;.btrace</code> as a
+ * sequence of records starting with a tag byte: a tag
+ * <code>DECLARATION_TAG</code> followed by an integer identifier and the URI
+ * of a component, written once for each component, and a tag
+ * <code>TRACE_TAG</code> followed by the identifier of the component, the
+ * time stamp in milliseconds and the message (strings being written as
+ * the integer length of their UTF-8 encoding followed by its bytes, hence
+ * without limit on their length). Each record is encoded in memory before
+ * being written, so that a record which cannot be encoded leaves no partial
+ * record in the file. The static method <code>decode</code> converts such a
+ * file to text.
+ * </p>
+ * <p>
+ * A recorder is closed by <code>close</code> or at the termination of the
+ * JVM, after writing the remaining records.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code format != null && directory != null}
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			TraceRecorder
+{
+	// -------------------------------------------------------------------------
+	// Inner types and classes
+	// -------------------------------------------------------------------------
+
+	/**
+	 * The enumeration <code>Format</code> defines the formats in which the
+	 * traces can be written.
+	 *
+	 * <p>Created on : 2026-10-19</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	public static enum	Format
+	{
+		/** one text file per component.									*/
+		TEXT_PER_COMPONENT,
+		/** one binary file for all the components.							*/
+		MULTIPLEXED_BINARY
+	}
+
+	/**
+	 * The class <code>Record</code> represents a trace message waiting to be
+	 * written.
+	 *
+	 * <p>Created on : 2026-10-19</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	protected static class	Record
+	{
+		/** URI of the traced component.									*/
+		protected final String	componentURI;
+		/** time stamp of the message in milliseconds.						*/
+		protected final long	time;
+		/** the trace message.												*/
+		protected final String	message;
+
+		/**
+		 * create a record.
+		 *
+		 * @param componentURI	URI of the traced component.
+		 * @param time			time stamp of the message in milliseconds.
+		 * @param message		the trace message.
+		 */
+		public			Record(String componentURI, long time, String message)
+		{
+			this.componentURI = componentURI;
+			this.time = time;
+			this.message = message;
+		}
+	}
+
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** default capacity of the buffer in number of records.				*/
+	public static final int		DEFAULT_CAPACITY = 65536;
+	/** default name of the multiplexed binary file.						*/
+	public static final String	DEFAULT_NAME = "traces";
+	/** extension of the text trace files.									*/
+	public static final String	TEXT_EXTENSION = "trace";
+	/** extension of the binary trace files.								*/
+	public static final String	BINARY_EXTENSION = "btrace";
+	/** tag of a component declaration record in binary files.				*/
+	public static final byte	DECLARATION_TAG = 0;
+	/** tag of a trace record in binary files.								*/
+	public static final byte	TRACE_TAG = 1;
+	/** maximum number of records written between two checks of the
+	 *  buffer.																*/
+	protected static final int	BATCH_SIZE = 1024;
+
+	/** format of the trace files.											*/
+	protected final Format						format;
+	/** directory in which the trace files are written.					*/
+	protected final String						directory;
+	/** name of the multiplexed binary file.								*/
+	protected final String						name;
+	/** buffer of the records waiting to be written.						*/
+	protected final BoundedRingBuffer<Record>	buffer;
+	/** thread writing the records.											*/
+	protected final Thread						writer;
+	/** text streams per component URI, used by the writer thread only.		*/
+	protected final Map<String,PrintStream>		textStreams;
+	/** identifiers of the components in the binary file, used by the writer
+	 *  thread only.														*/
+	protected final Map<String,Integer>			componentIds;
+	/** binary stream, used by the writer thread only.						*/
+	protected DataOutputStream					binaryStream;
+	/** buffer in which the binary records are encoded before being written,
+	 *  used by the writer thread only.										*/
+	protected final ByteArrayOutputStream		encoded;
+	/** stream encoding the binary records in <code>encoded</code>, used by
+	 *  the writer thread only.												*/
+	protected final DataOutputStream			encoder;
+	/** number of records that could not be written.						*/
+	protected final AtomicLong					failed;
+	/** true if an input/output error has already been reported, used by the
+	 *  writer thread only.													*/
+	protected boolean							failureReported;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create a recorder writing in the given format in the given directory
+	 * and start its writer thread.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code format != null && directory != null && name != null}
+	 * pre	{@code capacity > 0}
+	 * post	{@code !isClosed()}
+	 * </pre>
+	 *
+	 * @param format	format of the trace files.
+	 * @param directory	directory in which the trace files are written.
+	 * @param name		name of the multiplexed binary file, without extension.
+	 * @param capacity	capacity of the buffer in number of records.
+	 */
+	public				TraceRecorder(
+		Format format,
+		String directory,
+		String name,
+		int capacity
+		)
+	{
+		assert	format != null && directory != null && name != null :
+					new PreconditionException(
+							"format != null && directory != null && "
+							+ "name != null");
+		assert	capacity > 0 : new PreconditionException("capacity > 0");
+
+		this.format = format;
+		this.directory = directory;
+		this.name = name;
+		this.buffer = new BoundedRingBuffer<>(
+							capacity,
+							BoundedRingBuffer.OverflowPolicy.DROP_NEWEST);
+		this.textStreams = new HashMap<>();
+		this.componentIds = new HashMap<>();
+		this.binaryStream = null;
+		this.encoded = new ByteArrayOutputStream();
+		this.encoder = new DataOutputStream(this.encoded);
+		this.failed = new AtomicLong();
+		this.failureReported = false;
+		this.writer = new Thread(this::write, "trace-recorder");
+		this.writer.setDaemon(true);
+		this.writer.start();
+		Runtime.getRuntime().addShutdownHook(new Thread(this::close));
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return the format of the trace files.
+	 * 
+	 * @return	the format of the trace files.
+	 */
+	public Format		getFormat()
+	{
+		return this.format;
+	}
+
+	/**
+	 * return the directory in which the trace files are written.
+	 * 
+	 * @return	the directory in which the trace files are written.
+	 */
+	public String		getDirectory()
+	{
+		return this.directory;
+	}
+
+	/**
+	 * return the number of records refused because the buffer was full or
+	 * that could not be written.
+	 * 
+	 * @return	the number of records refused or that could not be written.
+	 */
+	public long			getDroppedCount()
+	{
+		return this.buffer.getDroppedCount() + this.failed.get();
+	}
+
+	/**
+	 * return true if the recorder has been closed.
+	 * 
+	 * @return	true if the recorder has been closed.
+	 */
+	public boolean		isClosed()
+	{
+		return this.buffer.isClosed();
+	}
+
+	/**
+	 * record a trace message of a component, unless the buffer is full or
+	 * the recorder is closed.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code componentURI != null && message != null}
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @param componentURI	URI of the traced component.
+	 * @param time			time stamp of the message in milliseconds.
+	 * @param message		the trace message.
+	 * @return				true if the message has been recorded.
+	 */
+	public boolean		record(String componentURI, long time, String message)
+	{
+		assert	componentURI != null && message != null :
+					new PreconditionException(
+							"componentURI != null && message != null");
+
+		try {
+			return this.buffer.add(new Record(componentURI, time, message));
+		} catch (InterruptedException e) {
+			// cannot happen with the policy DROP_NEWEST
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	/**
+	 * close the recorder, waiting for its writer thread to write the
+	 * remaining records and close the trace files.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true			// no precondition.
+	 * post	{@code isClosed()}
+	 * </pre>
+	 *
+	 */
+	public void			close()
+	{
+		this.buffer.close();
+		if (Thread.currentThread() != this.writer) {
+			try {
+				this.writer.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * body of the writer thread.
+	 */
+	protected void		write()
+	{
+		List<Record> batch = new ArrayList<>(BATCH_SIZE);
+		try {
+			Record r;
+			while ((r = this.buffer.take()) != null) {
+				batch.add(r);
+				this.buffer.drainTo(batch, BATCH_SIZE - 1);
+				for (Record b : batch) {
+					try {
+						this.writeRecord(b);
+					} catch (IOException e) {
+						this.failed.incrementAndGet();
+						this.reportFailure(e);
+					}
+				}
+				batch.clear();
+				if (this.buffer.isEmpty()) {
+					try {
+						this.flushStreams();
+					} catch (IOException e) {
+						this.reportFailure(e);
+					}
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			this.closeStreams();
+		}
+	}
+
+	/**
+	 * report an input/output error of the writer thread, unless one has
+	 * already been reported.
+	 *
+	 * @param e	the input/output error.
+	 */
+	protected void		reportFailure(IOException e)
+	{
+		if (!this.failureReported) {
+			this.failureReported = true;
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * write a record on the corresponding stream.
+	 *
+	 * @param r				record to be written.
+	 * @throws IOException	if the record cannot be written.
+	 */
+	protected void		writeRecord(Record r) throws IOException
+	{
+		if (this.format == Format.TEXT_PER_COMPONENT) {
+			PrintStream ps = this.textStreams.get(r.componentURI);
+			if (ps == null) {
+				ps = new PrintStream(
+						new BufferedOutputStream(
+							this.openFile(
+								r.componentURI.replaceAll(
+												"[^A-Za-z0-9._-]", "_"),
+								TEXT_EXTENSION)),
+						false);
+				this.textStreams.put(r.componentURI, ps);
+			}
+			ps.print(r.time);
+			ps.print('|');
+			ps.print(r.message);
+		} else {
+			if (this.binaryStream == null) {
+				this.binaryStream =
+					new DataOutputStream(
+						new BufferedOutputStream(
+							this.openFile(this.name, BINARY_EXTENSION)));
+			}
+			// the whole record is encoded before being written, and the
+			// component is declared only once its first record is written
+			this.encoded.reset();
+			Integer id = this.componentIds.get(r.componentURI);
+			boolean declare = id == null;
+			if (declare) {
+				id = this.componentIds.size();
+				this.encoder.writeByte(DECLARATION_TAG);
+				this.encoder.writeInt(id);
+				writeString(this.encoder, r.componentURI);
+			}
+			this.encoder.writeByte(TRACE_TAG);
+			this.encoder.writeInt(id);
+			this.encoder.writeLong(r.time);
+			writeString(this.encoder, r.message);
+			this.encoded.writeTo(this.binaryStream);
+			if (declare) {
+				this.componentIds.put(r.componentURI, id);
+			}
+		}
+	}
+
+	/**
+	 * write a string as the length of its UTF-8 encoding followed by its
+	 * bytes.
+	 *
+	 * @param out			stream on which the string is written.
+	 * @param str			string to be written.
+	 * @throws IOException	if the string cannot be written.
+	 */
+	protected static void	writeString(DataOutputStream out, String str)
+	throws IOException
+	{
+		byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	/**
+	 * read a string written by <code>writeString</code>.
+	 *
+	 * @param in			stream from which the string is read.
+	 * @return				the string.
+	 * @throws IOException	if the string cannot be read or is malformed.
+	 */
+	protected static String	readString(DataInputStream in) throws IOException
+	{
+		int length = in.readInt();
+		if (length < 0) {
+			throw new IOException("negative string length " + length);
+		}
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * flush the open streams.
+	 *
+	 * @throws IOException	if a stream cannot be flushed.
+	 */
+	protected void		flushStreams() throws IOException
+	{
+		for (PrintStream ps : this.textStreams.values()) {
+			ps.flush();
+		}
+		if (this.binaryStream != null) {
+			this.binaryStream.flush();
+		}
+	}
+
+	/**
+	 * close the open streams.
+	 */
+	protected void		closeStreams()
+	{
+		for (PrintStream ps : this.textStreams.values()) {
+			ps.close();
+		}
+		this.textStreams.clear();
+		if (this.binaryStream != null) {
+			try {
+				this.binaryStream.close();
+			} catch (IOException e) {
+				e.printStackTrace();
+			}
+			this.binaryStream = null;
+		}
+	}
+
+	/**
+	 * open for writing the file in the directory of the recorder with the
+	 * given name and extension, creating the directory if necessary.
+	 *
+	 * @param fileName		name of the file.
+	 * @param extension		extension of the file.
+	 * @return				an output stream on the file.
+	 * @throws IOException	if the directory or the file cannot be created.
+	 */
+	protected FileOutputStream	openFile(String fileName, String extension)
+	throws IOException
+	{
+		File f = this.fileFor(fileName, extension);
+		File dir = f.getParentFile();
+		if (dir != null && !dir.isDirectory() && !dir.mkdirs()
+													&& !dir.isDirectory()) {
+			throw new IOException("cannot create the directory " + dir);
+		}
+		return new FileOutputStream(f);
+	}
+
+	/**
+	 * return the file in the directory of the recorder with the given name
+	 * and extension.
+	 *
+	 * @param fileName	name of the file.
+	 * @param extension	extension of the file.
+	 * @return			the file.
+	 */
+	protected File		fileFor(String fileName, String extension)
+	{
+		return new File(new StringBuffer(this.directory).
+							append(File.separator).append(fileName).
+							append('.').append(extension).toString());
+	}
+
+	/**
+	 * write on the print stream the records of a multiplexed binary trace
+	 * file as lines <code>time|component URI|message</code>, the trailing
+	 * line separator of the messages being removed.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code binaryFile != null && out != null}
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @param binaryFile	a multiplexed binary trace file.
+	 * @param out			print stream on which the records are written.
+	 * @return				the number of trace records decoded.
+	 * @throws IOException	if the file cannot be read or is malformed.
+	 */
+	public static long	decode(File binaryFile, PrintStream out)
+	throws IOException
+	{
+		assert	binaryFile != null && out != null :
+					new PreconditionException(
+							"binaryFile != null && out != null");
+
+		Map<Integer,String> uris = new HashMap<>();
+		long ret = 0L;
+		try (DataInputStream in =
+					new DataInputStream(
+						new BufferedInputStream(
+								new FileInputStream(binaryFile)))) {
+			while (true) {
+				byte tag;
+				try {
+					tag = in.readByte();
+				} catch (EOFException e) {
+					break;
+				}
+				int id = in.readInt();
+				if (tag == DECLARATION_TAG) {
+					uris.put(id, readString(in));
+				} else if (tag == TRACE_TAG) {
+					long time = in.readLong();
+					String message = readString(in);
+					if (message.endsWith("\n")) {
+						message = message.substring(0, message.length() - 1);
+					}
+					out.println(new StringBuffer().append(time).append('|').
+									append(uris.get(id)).append('|').
+									append(message).toString());
+					ret++;
+				} else {
+					throw new IOException("unknown record tag " + tag
+										  + " in " + binaryFile);
+				}
+			}
+		}
+		return ret;
+	}
+}
+// -----------------------------------------------------------------------------
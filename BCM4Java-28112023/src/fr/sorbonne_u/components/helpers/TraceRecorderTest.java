@@ -0,0 +1,142 @@
+package fr.sorbonne_u.components.helpers;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>TraceRecorderTest</code> tests that the trace recorder
+ * writes messages of any length, creates its directory and keeps writing
+ * after the records that cannot be written, counting them as dropped.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant		true
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			TraceRecorderTest
+{
+	/**
+	 * delete a file or a directory and its content.
+	 *
+	 * @param f	file or directory to be deleted.
+	 */
+	protected static void	delete(File f)
+	{
+		File[] content = f.listFiles();
+		if (content != null) {
+			for (File c : content) {
+				delete(c);
+			}
+		}
+		f.delete();
+	}
+
+	@Test
+	public void			testLongMessagesInNewDirectory() throws IOException
+	{
+		File root = Files.createTempDirectory("traces").toFile();
+		try {
+			File dir = new File(new File(root, "a"), "b");
+			TraceRecorder r =
+				new TraceRecorder(TraceRecorder.Format.MULTIPLEXED_BINARY,
+								  dir.getPath(), "t", 16);
+			StringBuffer sb = new StringBuffer();
+			while (sb.length() < 100000) {
+				sb.append("\u00e9t\u00e9 ");
+			}
+			String longMessage = sb.toString();
+			Assertions.assertTrue(r.record("c1", 1L, longMessage + "\n"));
+			Assertions.assertTrue(r.record("c2", 2L, "short\n"));
+			r.close();
+			Assertions.assertEquals(0L, r.getDroppedCount());
+
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			PrintStream out = new PrintStream(bytes, true, "UTF-8");
+			Assertions.assertEquals(
+					2L,
+					TraceRecorder.decode(
+							new File(dir, "t." + TraceRecorder.BINARY_EXTENSION),
+							out));
+			String[] lines =
+				new String(bytes.toByteArray(), StandardCharsets.UTF_8).
+															split("\\R");
+			Assertions.assertEquals("1|c1|" + longMessage, lines[0]);
+			Assertions.assertEquals("2|c2|short", lines[1]);
+		} finally {
+			delete(root);
+		}
+	}
+
+	@Test
+	public void			testFailedRecordsAreDropped() throws Exception
+	{
+		File root = Files.createTempDirectory("traces").toFile();
+		try {
+			// a directory in place of the trace file of a component
+			File blocker = new File(root, "blocked.trace");
+			Assertions.assertTrue(blocker.mkdir());
+			TraceRecorder r =
+				new TraceRecorder(TraceRecorder.Format.TEXT_PER_COMPONENT,
+								  root.getPath(), "t", 16);
+			Assertions.assertTrue(r.record("blocked", 1L, "lost\n"));
+			Assertions.assertTrue(r.record("ok", 2L, "kept\n"));
+			r.close();
+			Assertions.assertEquals(1L, r.getDroppedCount());
+			Assertions.assertEquals(
+					"2|kept\n",
+					new String(Files.readAllBytes(
+									new File(root, "ok.trace").toPath()),
+							   StandardCharsets.UTF_8));
+		} finally {
+			delete(root);
+		}
+	}
+}
+// -----------------------------------------------------------------------------
@@ -0,0 +1,170 @@
+package fr.sorbonne_u.components.helpers;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import fr.sorbonne_u.components.AbstractComponent.TracerFactory;
+import fr.sorbonne_u.exceptions.PreconditionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The enumeration <code>TracersKind</code> defines the kinds of tracers that
+ * can be selected for the components, for example from the deployment
+ * descriptor of a distributed application.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * Each constant knows the value used for it in the <code>type</code>
+ * attribute of the <code>tracers</code> element of the deployment
+ * descriptor and creates the corresponding tracer factory. The headless
+ * kinds <code>FILES</code> and <code>BINARY</code> create one
+ * <code>TraceRecorder</code> per factory, shared by all of the tracers it
+ * creates.
+ * </p>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public enum				TracersKind
+{
+	/** one Swing window per component.										*/
+	WINDOW("window"),
+	/** the console of the process.											*/
+	CONSOLE("console"),
+	/** headless, one text file per component.								*/
+	FILES("files"),
+	/** headless, one binary file multiplexing all of the components.		*/
+	BINARY("binary");
+
+	/** value of the kind in the deployment descriptor.						*/
+	private final String	descriptorValue;
+
+	private				TracersKind(String descriptorValue)
+	{
+		this.descriptorValue = descriptorValue;
+	}
+
+	/**
+	 * return the value of the kind in the deployment descriptor.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true		// no precondition.
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @return	the value of the kind in the deployment descriptor.
+	 */
+	public String		getDescriptorValue()
+	{
+		return this.descriptorValue;
+	}
+
+	/**
+	 * return the kind having the given value in the deployment descriptor.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true		// no precondition.
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @param value	value of the kind in the deployment descriptor.
+	 * @return		the corresponding kind or null if none.
+	 */
+	public static TracersKind	fromDescriptorValue(String value)
+	{
+		for (TracersKind k : TracersKind.values()) {
+			if (k.descriptorValue.equals(value)) {
+				return k;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * create a tracer factory for this kind.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code directory != null && name != null}
+	 * pre	{@code samplingRate > 0.0 && samplingRate <= 1.0}
+	 * pre	{@code maxRate >= 0}
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param directory		directory in which the trace files are written; ignored for <code>WINDOW</code> and <code>CONSOLE</code>.
+	 * @param name			name of the binary trace file, without extension; used only by <code>BINARY</code>.
+	 * @param samplingRate	probability with which a message is kept; ignored for <code>WINDOW</code> and <code>CONSOLE</code>.
+	 * @param maxRate		maximum number of messages per second and per component, 0 if unlimited; ignored for <code>WINDOW</code> and <code>CONSOLE</code>.
+	 * @return				a new tracer factory for this kind.
+	 */
+	public TracerFactory	createFactory(
+		String directory,
+		String name,
+		double samplingRate,
+		int maxRate
+		)
+	{
+		assert	directory != null && name != null :
+					new PreconditionException(
+							"directory != null && name != null");
+		assert	samplingRate > 0.0 && samplingRate <= 1.0 :
+					new PreconditionException(
+							"samplingRate > 0.0 && samplingRate <= 1.0");
+		assert	maxRate >= 0 : new PreconditionException("maxRate >= 0");
+
+		switch (this) {
+		case CONSOLE:
+			return uri -> new TracerConsole();
+		case FILES:
+		case BINARY:
+			TraceRecorder recorder =
+				new TraceRecorder(
+						this == FILES ?
+							TraceRecorder.Format.TEXT_PER_COMPONENT
+						:	TraceRecorder.Format.MULTIPLEXED_BINARY,
+						directory, name, TraceRecorder.DEFAULT_CAPACITY);
+			return uri -> new HeadlessTracer(uri, recorder,
+											 samplingRate, maxRate);
+		default:
+			return uri -> new TracerWindow(uri, 0, 0);
+		}
+	}
+}
+// -----------------------------------------------------------------------------
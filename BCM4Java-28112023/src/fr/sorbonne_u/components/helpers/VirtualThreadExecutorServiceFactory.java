@@ -0,0 +1,153 @@
+package fr.sorbonne_u.components.helpers;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import fr.sorbonne_u.components.AbstractComponent.ExecutorServiceFactory;
+import fr.sorbonne_u.exceptions.PreconditionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>VirtualThreadExecutorServiceFactory</code> implements an
+ * executor service factory running each request or task in its own virtual
+ * thread, with at most the requested number of them running at the same time.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * A virtual thread blocked in <code>Future.get()</code>, in a lock or in an
+ * I/O operation releases its carrier platform thread, hence components that
+ * fan out sub-requests to other components and wait for their results do not
+ * park a platform thread for each of them. The requested number of threads
+ * becomes the quota of the <code>QuotaExecutorService</code> returned by the
+ * factory: it bounds the number of tasks of the executor service running at
+ * the same time, so that a single thread still gives a serialised execution.
+ * </p>
+ * <p>
+ * Virtual threads are available from Java 21 on; they are obtained by
+ * reflection so that BCM4Java still compiles and runs on previous versions.
+ * On these, the tasks are run by a shared cached pool of daemon platform
+ * threads creating threads on demand, which keeps the same semantics (a
+ * blocked task never prevents the others from running) at the cost of one
+ * platform thread per blocked task.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	true
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			VirtualThreadExecutorServiceFactory
+implements	ExecutorServiceFactory
+{
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** true if the platform provides virtual threads.						*/
+	protected static final boolean		VIRTUAL;
+	/** executor starting a new virtual thread per task, or a cached pool
+	 *  of platform threads when virtual threads are not available.		*/
+	protected static final Executor		THREAD_PER_TASK;
+
+	static {
+		Executor virtual = null;
+		try {
+			Method m = Executors.class.getMethod(
+										"newVirtualThreadPerTaskExecutor");
+			virtual = (Executor) m.invoke(null);
+		} catch (Exception e) {
+			// before Java 21, use platform threads below
+		}
+		VIRTUAL = virtual != null;
+		if (VIRTUAL) {
+			THREAD_PER_TASK = virtual;
+		} else {
+			AtomicInteger count = new AtomicInteger();
+			ThreadFactory tf =
+				r -> {
+					Thread t = new Thread(r, "bcm-thread-per-task-" +
+												count.incrementAndGet());
+					t.setDaemon(true);
+					return t;
+				};
+			THREAD_PER_TASK = Executors.newCachedThreadPool(tf);
+		}
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return true if the tasks are run in virtual threads, false if the
+	 * platform does not support them and platform threads are used.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true		// no precondition.
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @return	true if the tasks are run in virtual threads.
+	 */
+	public static boolean	usesVirtualThreads()
+	{
+		return VIRTUAL;
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.AbstractComponent.ExecutorServiceFactory#createExecutorService(int)
+	 */
+	@Override
+	public ExecutorService	createExecutorService(int nbThreads)
+	{
+		assert	nbThreads > 0 : new PreconditionException("nbThreads > 0");
+
+		return new QuotaExecutorService(THREAD_PER_TASK, nbThreads);
+	}
+}
+// -----------------------------------------------------------------------------
@@ -0,0 +1,103 @@
+package fr.sorbonne_u.components.helpers;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import fr.sorbonne_u.components.AbstractComponent.ExecutorServiceFactory;
+import fr.sorbonne_u.exceptions.PreconditionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>WorkStealingExecutorServiceFactory</code> implements an
+ * executor service factory creating a <code>ForkJoinPool</code> in
+ * asynchronous (FIFO) mode per executor service.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * Each worker thread of a fork/join pool has its own queue and steals tasks
+ * from the other ones when it becomes idle, which avoids the contention on the
+ * single queue of a fixed thread pool when many callers submit requests to
+ * the same component. In asynchronous mode, the tasks submitted from the
+ * workers are executed in FIFO order, which suits requests and tasks that are
+ * never joined.
+ * </p>
+ * <p>
+ * When a worker blocks waiting for a <code>CompletableFuture</code> or inside
+ * a <code>ForkJoinPool.ManagedBlocker</code>, the pool may add a compensating
+ * thread to keep its parallelism, hence a component fanning out requests to
+ * other components and waiting for their results does not reduce its own
+ * capacity. As a consequence, the number of threads actually running the
+ * tasks may temporarily exceed the requested one; for a single thread, where
+ * no stealing is possible and where components rely on the serialised
+ * execution of their requests, a standard single thread executor is created
+ * instead.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	true
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			WorkStealingExecutorServiceFactory
+implements	ExecutorServiceFactory
+{
+	/**
+	 * @see fr.sorbonne_u.components.AbstractComponent.ExecutorServiceFactory#createExecutorService(int)
+	 */
+	@Override
+	public ExecutorService	createExecutorService(int nbThreads)
+	{
+		assert	nbThreads > 0 : new PreconditionException("nbThreads > 0");
+
+		if (nbThreads == 1) {
+			return Executors.newSingleThreadExecutor();
+		} else {
+			return new ForkJoinPool(
+							nbThreads,
+							ForkJoinPool.defaultForkJoinWorkerThreadFactory,
+							null,
+							true);
+		}
+	}
+}
+// -----------------------------------------------------------------------------
@@ -124,6 +124,29 @@ extends		OfferedCI
 		 * @throws Exception 	<i>to do</i>.
 		 */
 		public void		send(DataI d) throws Exception;
+
+		/**
+		 * the method <code>send</code> is called by the offering component to
+		 * make the requiring side receiving a batch of data in one call; by
+		 * default, the data are sent one by one, so implementations should
+		 * redefine this method to forward the batch as a whole.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code data != null}
+		 * post	true	// no postcondition.
+		 * </pre>
+		 *
+		 * @param data			the batch of data sent by the offering component, in order.
+		 * @throws Exception 	<i>to do</i>.
+		 */
+		public default void	send(DataI[] data) throws Exception
+		{
+			for (int i = 0 ; i < data.length ; i++) {
+				this.send(data[i]);
+			}
+		}
 	}
 
 	/**
@@ -154,6 +177,34 @@ extends		OfferedCI
 		 * @throws Exception	<i>to do</i>.
 		 */
 		public DataI	get() throws Exception;
+
+		/**
+		 * the method <code>get</code> is called by the requiring component
+		 * to obtain a batch of at most <code>n</code> pieces of data from the
+		 * offering one in one call; <code>n</code> is the credit granted by
+		 * the requiring component, the offering one never returning more
+		 * data than that but possibly less when it has not enough data ready.
+		 * By default, <code>get()</code> is called <code>n</code> times.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code n > 0}
+		 * post	{@code return != null && return.length <= n}
+		 * </pre>
+		 *
+		 * @param n				maximum number of pieces of data to be returned.
+		 * @return				the pieces of data produced by the offering component, in order.
+		 * @throws Exception	<i>to do</i>.
+		 */
+		public default DataI[]	get(int n) throws Exception
+		{
+			DataI[] ret = new DataI[n];
+			for (int i = 0 ; i < n ; i++) {
+				ret[i] = this.get();
+			}
+			return ret;
+		}
 	}
 }
 // -----------------------------------------------------------------------------
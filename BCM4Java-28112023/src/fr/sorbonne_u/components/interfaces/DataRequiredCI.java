@@ -121,6 +121,28 @@ extends		RequiredCI
 		 * @throws Exception	<i>to do</i>.
 		 */
 		public void		receive(DataI d) throws Exception;
+
+		/**
+		 * receive a batch of data sent by the offering component in one call;
+		 * by default, the data are received one by one, so implementations
+		 * processing samples in bulk should redefine this method.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code data != null}
+		 * post	true	// no postcondition.
+		 * </pre>
+		 *
+		 * @param data			the batch of data received, in order.
+		 * @throws Exception	<i>to do</i>.
+		 */
+		public default void	receive(DataI[] data) throws Exception
+		{
+			for (int i = 0 ; i < data.length ; i++) {
+				this.receive(data[i]);
+			}
+		}
 	}
 
 	/**
@@ -151,6 +173,32 @@ extends		RequiredCI
 		 * @throws Exception	<i>to do</i>.
 		 */
 		public DataI	request() throws Exception;
+
+		/**
+		 * request a batch of at most <code>n</code> pieces of data from the
+		 * offering component in one call, <code>n</code> being the credit
+		 * granted to the offering component; by default,
+		 * <code>request()</code> is called <code>n</code> times.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code n > 0}
+		 * post	{@code return != null && return.length <= n}
+		 * </pre>
+		 *
+		 * @param n				maximum number of pieces of data to be returned.
+		 * @return				the pieces of data obtained from the offering component, in order.
+		 * @throws Exception	<i>to do</i>.
+		 */
+		public default DataI[]	request(int n) throws Exception
+		{
+			DataI[] ret = new DataI[n];
+			for (int i = 0 ; i < n ; i++) {
+				ret[i] = this.request();
+			}
+			return ret;
+		}
 	}
 }
 // -----------------------------------------------------------------------------
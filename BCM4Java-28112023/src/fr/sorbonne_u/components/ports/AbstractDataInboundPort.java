@@ -33,7 +33,6 @@ package fr.sorbonne_u.components.ports;
 // The fact that you are presently reading this means that you have had
 // knowledge of the CeCILL-C license and that you accept its terms.
 
-import java.lang.reflect.Constructor;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import fr.sorbonne_u.components.AbstractPort;
@@ -48,6 +47,7 @@ import fr.sorbonne_u.components.helpers.CVMDebugModes;
 import fr.sorbonne_u.components.interfaces.DataOfferedCI;
 import fr.sorbonne_u.components.interfaces.OfferedCI;
 import fr.sorbonne_u.components.interfaces.RequiredCI;
+import fr.sorbonne_u.components.reflection.utils.DirectInvokers;
 import fr.sorbonne_u.exceptions.ImplementationInvariantException;
 import fr.sorbonne_u.exceptions.InvariantException;
 import fr.sorbonne_u.exceptions.PostconditionException;
@@ -635,9 +635,7 @@ implements	DataInboundPortI
 					new PreconditionException("otherPortURI != null && "
 													+ "ccname != null");
 
-		Class<?> cc = Class.forName(ccname);
-		Constructor<?> c = cc.getConstructor(new Class<?>[]{});
-		ConnectorI connector = (ConnectorI) c.newInstance();
+		ConnectorI connector = DirectInvokers.newConnector(ccname);
 		this.doConnection(otherPortURI, connector);
 	}
 
@@ -727,9 +725,7 @@ implements	DataInboundPortI
 		// FIXME: should use a proper state machine model to implement the
 		// connection and disconnection protocol
 
-		Class<?> cc = Class.forName(ccname);
-		Constructor<?> c = cc.getConstructor(new Class<?>[]{});
-		ConnectorI connector = (ConnectorI) c.newInstance();
+		ConnectorI connector = DirectInvokers.newConnector(ccname);
 		this.obeyConnection(otherPortURI, connector);
 	}
 
@@ -883,5 +879,43 @@ implements	DataInboundPortI
 						"...AbstractDataInboundPort sent! " + d.toString());
 		}
 	}
+
+	/**
+	 * sends a batch of data to the connected component in the push mode in
+	 * one call, including when the requiring component runs on another JVM.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code !isDestroyed()}
+	 * pre	{@code connected()}
+	 * pre	{@code data != null}
+	 * post	true				// no more postconditions.
+	 * </pre>
+	 * 
+	 * @throws Exception <i>todo.</i>
+	 * 
+	 * @see fr.sorbonne_u.components.interfaces.DataOfferedCI.PushCI#send(fr.sorbonne_u.components.interfaces.DataOfferedCI.DataI[])
+	 */
+	@Override
+	public void			send(DataOfferedCI.DataI[] data)
+	throws	Exception
+	{
+		assert	!this.isDestroyed() :
+					new PreconditionException(
+							"Port with URI " + this.uri + " is destroyed!");
+		assert	this.connected() :
+					new PreconditionException("port is not connected!");
+		assert	data != null : new PreconditionException("data != null");
+
+		if (AbstractCVM.DEBUG_MODE.contains(CVMDebugModes.CALLING)) {
+			AbstractCVM.getCVM().logDebug(
+						CVMDebugModes.CALLING,
+						"AbstractDataInboundPort sends a batch of " +
+						data.length + " data on connector " +
+						connector.toString());
+		}
+		this.getConnector().send(data);
+	}
 }
 // -----------------------------------------------------------------------------
@@ -33,7 +33,6 @@ package fr.sorbonne_u.components.ports;
 // The fact that you are presently reading this means that you have had
 // knowledge of the CeCILL-C license and that you accept its terms.
 
-import java.lang.reflect.Constructor;
 import java.util.concurrent.atomic.AtomicInteger;
 import fr.sorbonne_u.components.AbstractPort;
 import fr.sorbonne_u.components.ComponentI;
@@ -44,6 +43,7 @@ import fr.sorbonne_u.components.cvm.AbstractDistributedCVM;
 import fr.sorbonne_u.components.interfaces.DataRequiredCI;
 import fr.sorbonne_u.components.interfaces.OfferedCI;
 import fr.sorbonne_u.components.interfaces.RequiredCI;
+import fr.sorbonne_u.components.reflection.utils.DirectInvokers;
 import fr.sorbonne_u.exceptions.ImplementationInvariantException;
 import fr.sorbonne_u.exceptions.InvariantException;
 import fr.sorbonne_u.exceptions.PostconditionException;
@@ -522,9 +522,7 @@ implements	DataOutboundPortI
 		// FIXME: should use a proper state machine model to implement the
 		// connection and disconnection protocol
 
-		Class<?> cc = Class.forName(ccname);
-		Constructor<?> c = cc.getConstructor(new Class<?>[]{});
-		ConnectorI connector = (ConnectorI) c.newInstance();
+		ConnectorI connector = DirectInvokers.newConnector(ccname);
 		this.obeyConnection(otherPortURI, connector);
 	}
 
@@ -825,5 +823,36 @@ implements	DataOutboundPortI
 
 		return ((DataRequiredCI.PullCI)this.getConnector()).request();
 	}
+
+	/**
+	 * called by the requiring component in pull mode to obtain a batch of at
+	 * most <code>n</code> pieces of data from the offering one in one call,
+	 * including when the offering component runs on another JVM.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	!isDestroyed()
+	 * pre	connected() ;
+	 * pre	{@code n > 0}
+	 * post	{@code return != null && return.length <= n}
+	 * </pre>
+	 * 
+	 * @throws Exception  <i>todo.</i>
+	 * 
+	 * @see fr.sorbonne_u.components.interfaces.DataRequiredCI.PullCI#request(int)
+	 */
+	@Override
+	public DataRequiredCI.DataI[]	request(int n)
+	throws	Exception
+	{
+		assert	!this.isDestroyed() :
+					new PreconditionException("!isDestroyed()");
+		assert	this.connected() :
+					new PreconditionException("connected()");
+		assert	n > 0 : new PreconditionException("n > 0");
+
+		return ((DataRequiredCI.PullCI)this.getConnector()).request(n);
+	}
 }
 // -----------------------------------------------------------------------------
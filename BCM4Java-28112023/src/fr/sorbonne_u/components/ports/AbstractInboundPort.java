@@ -34,14 +34,24 @@ package fr.sorbonne_u.components.ports;
 // knowledge of the CeCILL-C license and that you accept its terms.
 
 import fr.sorbonne_u.components.ComponentI;
+import fr.sorbonne_u.components.ComponentI.ComponentService;
+import fr.sorbonne_u.components.ComponentI.ComponentTask;
+import fr.sorbonne_u.components.ComponentI.FComponentService;
+import fr.sorbonne_u.components.ComponentI.FComponentTask;
 import fr.sorbonne_u.components.connectors.ConnectorI;
 import fr.sorbonne_u.components.exceptions.ConnectionException;
+import fr.sorbonne_u.components.exceptions.RequestRejectedException;
+import fr.sorbonne_u.components.helpers.PrioritisedI;
+import fr.sorbonne_u.components.helpers.PriorityExecutorService;
+import fr.sorbonne_u.components.helpers.TokenBucket;
 import fr.sorbonne_u.components.interfaces.OfferedCI;
 import fr.sorbonne_u.exceptions.ImplementationInvariantException;
 import fr.sorbonne_u.exceptions.InvariantException;
 import fr.sorbonne_u.exceptions.PostconditionException;
 import fr.sorbonne_u.exceptions.PreconditionException;
 
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import fr.sorbonne_u.components.AbstractPort;
@@ -91,6 +101,13 @@ implements	InboundPortI
 	 *  down dynamically).													*/
 	protected final AtomicInteger	executorServiceIndex =
 													new AtomicInteger(-1);
+	/** token bucket limiting the rate at which requests are admitted
+	 *  through this port or null if none.									*/
+	protected volatile TokenBucket	admissionLimiter;
+	/** priority given to the requests passed to the owner through
+	 *  <code>handleRequest</code> and <code>runTask</code> of this class.	*/
+	protected volatile int			requestPriority =
+												PrioritisedI.UNSPECIFIED;
 
 	// -------------------------------------------------------------------------
 	// Constructors
@@ -752,5 +769,602 @@ implements	InboundPortI
 							" does not have index "
 							+ this.getExecutorServiceIndex() + " in owner!");
 	}
+
+	// -------------------------------------------------------------------------
+	// Request priority
+	// -------------------------------------------------------------------------
+
+	/**
+	 * set the priority given to the requests and tasks passed to the owner
+	 * through <code>handleRequest</code> and <code>runTask</code> of this
+	 * class; it is taken into account when the executor service running them
+	 * is a priority executor service and the requests do not carry a priority
+	 * of their own.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code priority == PrioritisedI.UNSPECIFIED || priority >= 0}
+	 * post	{@code getRequestPriority() == priority}
+	 * </pre>
+	 *
+	 * @param priority	priority of the requests or <code>PrioritisedI.UNSPECIFIED</code>.
+	 */
+	public void			setRequestPriority(int priority)
+	{
+		assert	priority == PrioritisedI.UNSPECIFIED || priority >= 0 :
+					new PreconditionException(
+							"priority == PrioritisedI.UNSPECIFIED || "
+							+ "priority >= 0");
+
+		this.requestPriority = priority;
+	}
+
+	/**
+	 * return the priority given to the requests and tasks passed to the owner
+	 * through <code>handleRequest</code> and <code>runTask</code> of this
+	 * class.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true		// no precondition.
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @return	priority of the requests or <code>PrioritisedI.UNSPECIFIED</code>.
+	 */
+	public int			getRequestPriority()
+	{
+		return this.requestPriority;
+	}
+
+	// -------------------------------------------------------------------------
+	// Admission control
+	// -------------------------------------------------------------------------
+
+	/**
+	 * set the token bucket limiting the rate at which requests are admitted
+	 * through this port, or remove it when <code>limiter</code> is null.
+	 * 
+	 * <p><strong>Description</strong></p>
+	 * 
+	 * <p>
+	 * The limiter applies to the requests and tasks passed to the owner
+	 * through <code>handleRequest</code> and <code>runTask</code> of this
+	 * class, which inbound ports use in their service implementations, or
+	 * preceded by a call to <code>admit</code>; requests exceeding the rate are rejected with a
+	 * <code>RequestRejectedException</code> telling the client when a new
+	 * request will be admitted.
+	 * </p>
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code !isDestroyed()}
+	 * post	{@code getAdmissionLimiter() == limiter}
+	 * </pre>
+	 *
+	 * @param limiter	token bucket limiting the rate of requests or null to remove it.
+	 */
+	public void			setAdmissionLimiter(TokenBucket limiter)
+	{
+		assert	!this.isDestroyed.get() :
+					new PreconditionException("!isDestroyed()");
+
+		this.admissionLimiter = limiter;
+	}
+
+	/**
+	 * return the token bucket limiting the rate at which requests are
+	 * admitted through this port or null if none.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true		// no precondition.
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @return	the token bucket limiting the rate of requests or null if none.
+	 */
+	public TokenBucket	getAdmissionLimiter()
+	{
+		return this.admissionLimiter;
+	}
+
+	/**
+	 * admit a request through this port or throw a
+	 * <code>RequestRejectedException</code> if the admission limiter, if
+	 * any, refuses it.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true		// no precondition.
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @throws RequestRejectedException	if the request exceeds the admitted rate.
+	 */
+	protected void		admit() throws RequestRejectedException
+	{
+		TokenBucket limiter = this.admissionLimiter;
+		if (limiter != null) {
+			long delay = limiter.tryAcquireOrDelay();
+			if (delay > 0L) {
+				throw new RequestRejectedException(
+							"request rate through port " + this.uri
+							+ " exceeds " + limiter.getRate() + "/s",
+							delay);
+			}
+		}
+	}
+
+	/**
+	 * admit <code>request</code> through this port and execute it on the
+	 * executor service of this port, if any, or else on the standard request
+	 * handler of the owner, waiting for its result; the request priority of
+	 * this port, if any, is bound to the calling thread during the
+	 * submission.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code request != null}
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @param <T>							the type of the value returned by the request.
+	 * @param request						service request to be executed on the owner.
+	 * @return								the result of the request.
+	 * @throws AssertionError				if the preconditions are not satisfied.
+	 * @throws RequestRejectedException		if the admission limiter of this port refuses the request.
+	 * @throws RejectedExecutionException	if the request cannot be scheduled for execution.
+	 * @throws InterruptedException			if the current thread was interrupted while waiting.
+	 * @throws ExecutionException			if the computation threw an exception.
+	 */
+	protected <T> T		handleRequest(ComponentService<T> request)
+	throws	AssertionError,
+			RejectedExecutionException,
+			InterruptedException,
+			ExecutionException
+	{
+		this.admit();
+		int previous = this.bindRequestPriority();
+		try {
+			if (this.hasExecutorService()) {
+				return this.owner.handleRequest(
+									this.getExecutorServiceIndex(), request);
+			} else {
+				return this.owner.handleRequest(request);
+			}
+		} finally {
+			PriorityExecutorService.bindPriority(previous);
+		}
+	}
+
+	/**
+	 * admit <code>request</code> through this port and execute it on the
+	 * given executor service of the owner, waiting for its result; the
+	 * request priority of this port, if any, is bound to the calling thread
+	 * during the submission.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code request != null}
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @param <T>							the type of the value returned by the request.
+	 * @param executorServiceURI			URI of the executor service that will run the request.
+	 * @param request						service request to be executed on the owner.
+	 * @return								the result of the request.
+	 * @throws AssertionError				if the preconditions are not satisfied.
+	 * @throws RequestRejectedException		if the admission limiter of this port refuses the request.
+	 * @throws RejectedExecutionException	if the request cannot be scheduled for execution.
+	 * @throws InterruptedException			if the current thread was interrupted while waiting.
+	 * @throws ExecutionException			if the computation threw an exception.
+	 */
+	protected <T> T		handleRequest(
+		String executorServiceURI,
+		ComponentService<T> request
+		) throws	AssertionError,
+			RejectedExecutionException,
+			InterruptedException,
+			ExecutionException
+	{
+		this.admit();
+		int previous = this.bindRequestPriority();
+		try {
+			return this.owner.handleRequest(executorServiceURI, request);
+		} finally {
+			PriorityExecutorService.bindPriority(previous);
+		}
+	}
+
+	/**
+	 * admit <code>request</code> through this port and execute it on the
+	 * given executor service of the owner, waiting for its result; the
+	 * request priority of this port, if any, is bound to the calling thread
+	 * during the submission.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code request != null}
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @param <T>							the type of the value returned by the request.
+	 * @param executorServiceIndex			index of the executor service that will run the request.
+	 * @param request						service request to be executed on the owner.
+	 * @return								the result of the request.
+	 * @throws AssertionError				if the preconditions are not satisfied.
+	 * @throws RequestRejectedException		if the admission limiter of this port refuses the request.
+	 * @throws RejectedExecutionException	if the request cannot be scheduled for execution.
+	 * @throws InterruptedException			if the current thread was interrupted while waiting.
+	 * @throws ExecutionException			if the computation threw an exception.
+	 */
+	protected <T> T		handleRequest(
+		int executorServiceIndex,
+		ComponentService<T> request
+		) throws	AssertionError,
+			RejectedExecutionException,
+			InterruptedException,
+			ExecutionException
+	{
+		this.admit();
+		int previous = this.bindRequestPriority();
+		try {
+			return this.owner.handleRequest(executorServiceIndex, request);
+		} finally {
+			PriorityExecutorService.bindPriority(previous);
+		}
+	}
+
+	/**
+	 * admit <code>request</code> through this port and execute it on the
+	 * executor service of this port, if any, or else on the standard request
+	 * handler of the owner, waiting for its result; the request priority of
+	 * this port, if any, is bound to the calling thread during the
+	 * submission.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code request != null}
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @param <T>							the type of the value returned by the request.
+	 * @param request						service request given as a lambda to be executed on the owner.
+	 * @return								the result of the request.
+	 * @throws AssertionError				if the preconditions are not satisfied.
+	 * @throws RequestRejectedException		if the admission limiter of this port refuses the request.
+	 * @throws RejectedExecutionException	if the request cannot be scheduled for execution.
+	 * @throws InterruptedException			if the current thread was interrupted while waiting.
+	 * @throws ExecutionException			if the computation threw an exception.
+	 */
+	protected <T> T		handleRequest(FComponentService<T> request)
+	throws	AssertionError,
+			RejectedExecutionException,
+			InterruptedException,
+			ExecutionException
+	{
+		this.admit();
+		int previous = this.bindRequestPriority();
+		try {
+			if (this.hasExecutorService()) {
+				return this.owner.handleRequest(
+									this.getExecutorServiceIndex(), request);
+			} else {
+				return this.owner.handleRequest(request);
+			}
+		} finally {
+			PriorityExecutorService.bindPriority(previous);
+		}
+	}
+
+	/**
+	 * admit <code>request</code> through this port and execute it on the
+	 * given executor service of the owner, waiting for its result; the
+	 * request priority of this port, if any, is bound to the calling thread
+	 * during the submission.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code request != null}
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @param <T>							the type of the value returned by the request.
+	 * @param executorServiceURI			URI of the executor service that will run the request.
+	 * @param request						service request given as a lambda to be executed on the owner.
+	 * @return								the result of the request.
+	 * @throws AssertionError				if the preconditions are not satisfied.
+	 * @throws RequestRejectedException		if the admission limiter of this port refuses the request.
+	 * @throws RejectedExecutionException	if the request cannot be scheduled for execution.
+	 * @throws InterruptedException			if the current thread was interrupted while waiting.
+	 * @throws ExecutionException			if the computation threw an exception.
+	 */
+	protected <T> T		handleRequest(
+		String executorServiceURI,
+		FComponentService<T> request
+		) throws	AssertionError,
+			RejectedExecutionException,
+			InterruptedException,
+			ExecutionException
+	{
+		this.admit();
+		int previous = this.bindRequestPriority();
+		try {
+			return this.owner.handleRequest(executorServiceURI, request);
+		} finally {
+			PriorityExecutorService.bindPriority(previous);
+		}
+	}
+
+	/**
+	 * admit <code>request</code> through this port and execute it on the
+	 * given executor service of the owner, waiting for its result; the
+	 * request priority of this port, if any, is bound to the calling thread
+	 * during the submission.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code request != null}
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @param <T>							the type of the value returned by the request.
+	 * @param executorServiceIndex			index of the executor service that will run the request.
+	 * @param request						service request given as a lambda to be executed on the owner.
+	 * @return								the result of the request.
+	 * @throws AssertionError				if the preconditions are not satisfied.
+	 * @throws RequestRejectedException		if the admission limiter of this port refuses the request.
+	 * @throws RejectedExecutionException	if the request cannot be scheduled for execution.
+	 * @throws InterruptedException			if the current thread was interrupted while waiting.
+	 * @throws ExecutionException			if the computation threw an exception.
+	 */
+	protected <T> T		handleRequest(
+		int executorServiceIndex,
+		FComponentService<T> request
+		) throws	AssertionError,
+			RejectedExecutionException,
+			InterruptedException,
+			ExecutionException
+	{
+		this.admit();
+		int previous = this.bindRequestPriority();
+		try {
+			return this.owner.handleRequest(executorServiceIndex, request);
+		} finally {
+			PriorityExecutorService.bindPriority(previous);
+		}
+	}
+
+	/**
+	 * admit <code>t</code> through this port and run it on the executor
+	 * service of this port, if any, or else on the standard executor of the
+	 * owner; the request priority of this port, if any, is bound to the
+	 * calling thread during the submission.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code t != null}
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @param t								component task to be run on the owner.
+	 * @throws AssertionError				if the preconditions are not satisfied.
+	 * @throws RequestRejectedException		if the admission limiter of this port refuses the task.
+	 * @throws RejectedExecutionException	if the task cannot be scheduled for execution.
+	 */
+	protected void		runTask(ComponentTask t)
+	throws	AssertionError, RejectedExecutionException
+	{
+		this.admit();
+		int previous = this.bindRequestPriority();
+		try {
+			if (this.hasExecutorService()) {
+				this.owner.runTask(this.getExecutorServiceIndex(), t);
+			} else {
+				this.owner.runTask(t);
+			}
+		} finally {
+			PriorityExecutorService.bindPriority(previous);
+		}
+	}
+
+	/**
+	 * admit <code>t</code> through this port and run it on the given
+	 * executor service of the owner; the request priority of this port, if
+	 * any, is bound to the calling thread during the submission.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code t != null}
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @param executorServiceURI			URI of the executor service that will run the task.
+	 * @param t								component task to be run on the owner.
+	 * @throws AssertionError				if the preconditions are not satisfied.
+	 * @throws RequestRejectedException		if the admission limiter of this port refuses the task.
+	 * @throws RejectedExecutionException	if the task cannot be scheduled for execution.
+	 */
+	protected void		runTask(
+		String executorServiceURI,
+		ComponentTask t
+		) throws	AssertionError, RejectedExecutionException
+	{
+		this.admit();
+		int previous = this.bindRequestPriority();
+		try {
+			this.owner.runTask(executorServiceURI, t);
+		} finally {
+			PriorityExecutorService.bindPriority(previous);
+		}
+	}
+
+	/**
+	 * admit <code>t</code> through this port and run it on the given
+	 * executor service of the owner; the request priority of this port, if
+	 * any, is bound to the calling thread during the submission.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code t != null}
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @param executorServiceIndex			index of the executor service that will run the task.
+	 * @param t								component task to be run on the owner.
+	 * @throws AssertionError				if the preconditions are not satisfied.
+	 * @throws RequestRejectedException		if the admission limiter of this port refuses the task.
+	 * @throws RejectedExecutionException	if the task cannot be scheduled for execution.
+	 */
+	protected void		runTask(
+		int executorServiceIndex,
+		ComponentTask t
+		) throws	AssertionError, RejectedExecutionException
+	{
+		this.admit();
+		int previous = this.bindRequestPriority();
+		try {
+			this.owner.runTask(executorServiceIndex, t);
+		} finally {
+			PriorityExecutorService.bindPriority(previous);
+		}
+	}
+
+	/**
+	 * admit <code>t</code> through this port and run it on the executor
+	 * service of this port, if any, or else on the standard executor of the
+	 * owner; the request priority of this port, if any, is bound to the
+	 * calling thread during the submission.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code t != null}
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @param t								component task given as a lambda to be run on the owner.
+	 * @throws AssertionError				if the preconditions are not satisfied.
+	 * @throws RequestRejectedException		if the admission limiter of this port refuses the task.
+	 * @throws RejectedExecutionException	if the task cannot be scheduled for execution.
+	 */
+	protected void		runTask(FComponentTask t)
+	throws	AssertionError, RejectedExecutionException
+	{
+		this.admit();
+		int previous = this.bindRequestPriority();
+		try {
+			if (this.hasExecutorService()) {
+				this.owner.runTask(this.getExecutorServiceIndex(), t);
+			} else {
+				this.owner.runTask(t);
+			}
+		} finally {
+			PriorityExecutorService.bindPriority(previous);
+		}
+	}
+
+	/**
+	 * admit <code>t</code> through this port and run it on the given
+	 * executor service of the owner; the request priority of this port, if
+	 * any, is bound to the calling thread during the submission.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code t != null}
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @param executorServiceURI			URI of the executor service that will run the task.
+	 * @param t								component task given as a lambda to be run on the owner.
+	 * @throws AssertionError				if the preconditions are not satisfied.
+	 * @throws RequestRejectedException		if the admission limiter of this port refuses the task.
+	 * @throws RejectedExecutionException	if the task cannot be scheduled for execution.
+	 */
+	protected void		runTask(
+		String executorServiceURI,
+		FComponentTask t
+		) throws	AssertionError, RejectedExecutionException
+	{
+		this.admit();
+		int previous = this.bindRequestPriority();
+		try {
+			this.owner.runTask(executorServiceURI, t);
+		} finally {
+			PriorityExecutorService.bindPriority(previous);
+		}
+	}
+
+	/**
+	 * admit <code>t</code> through this port and run it on the given
+	 * executor service of the owner; the request priority of this port, if
+	 * any, is bound to the calling thread during the submission.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code t != null}
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @param executorServiceIndex			index of the executor service that will run the task.
+	 * @param t								component task given as a lambda to be run on the owner.
+	 * @throws AssertionError				if the preconditions are not satisfied.
+	 * @throws RequestRejectedException		if the admission limiter of this port refuses the task.
+	 * @throws RejectedExecutionException	if the task cannot be scheduled for execution.
+	 */
+	protected void		runTask(
+		int executorServiceIndex,
+		FComponentTask t
+		) throws	AssertionError, RejectedExecutionException
+	{
+		this.admit();
+		int previous = this.bindRequestPriority();
+		try {
+			this.owner.runTask(executorServiceIndex, t);
+		} finally {
+			PriorityExecutorService.bindPriority(previous);
+		}
+	}
+
+	/**
+	 * bind the request priority of this port, if any, to the current thread
+	 * and return the priority previously bound to it, to be restored by
+	 * <code>PriorityExecutorService.bindPriority</code>.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true		// no precondition.
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @return	the priority previously bound to the current thread.
+	 */
+	private int			bindRequestPriority()
+	{
+		int priority = this.requestPriority;
+		if (priority == PrioritisedI.UNSPECIFIED) {
+			return PriorityExecutorService.currentPriority();
+		} else {
+			return PriorityExecutorService.bindPriority(priority);
+		}
+	}
 }
 // -----------------------------------------------------------------------------
@@ -33,7 +33,8 @@ package fr.sorbonne_u.components.ports;
 // The fact that you are presently reading this means that you have had
 // knowledge of the CeCILL-C license and that you accept its terms.
 
-import java.lang.reflect.Constructor;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import fr.sorbonne_u.components.AbstractPort;
@@ -45,6 +46,7 @@ import fr.sorbonne_u.components.exceptions.ConnectionException;
 import fr.sorbonne_u.components.helpers.CVMDebugModes;
 import fr.sorbonne_u.components.interfaces.OfferedCI;
 import fr.sorbonne_u.components.interfaces.RequiredCI;
+import fr.sorbonne_u.components.reflection.utils.DirectInvokers;
 import fr.sorbonne_u.exceptions.ImplementationInvariantException;
 import fr.sorbonne_u.exceptions.InvariantException;
 import fr.sorbonne_u.exceptions.PostconditionException;
@@ -63,6 +65,17 @@ import fr.sorbonne_u.exceptions.PreconditionException;
  * with methods that call the corresponding services of their provider
  * component using the connector.
  * </p>
+ * <p>
+ * Calls can also be pipelined: after <code>startPipelining</code>, calls
+ * submitted with <code>pipelinedCall</code> are queued and flushed as
+ * batches, either when enough of them are queued, after a delay or upon
+ * <code>flushPipeline</code>, their results completing per-call futures in
+ * the order of submission, a batch costing one round trip instead of one per
+ * call. Only the calls to server ports reached through the socket transport
+ * are pipelined; over local or RMI connections, <code>pipelinedCall</code>
+ * executes the call at once. See <code>CallPipeline</code> and
+ * <code>PipelinedCallI</code> for the requirements on the connector.
+ * </p>
  * 
  * <p><strong>Invariant</strong></p>
  * 
@@ -90,6 +103,8 @@ implements	OutboundPortI
 	/** when connected, true if the connection is remote and false
 	 *  otherwise.															*/
 	protected final AtomicBoolean				isRemotelyConnected ;
+	/** pipeline of the calls when pipelining, null otherwise.				*/
+	protected volatile CallPipeline				pipeline ;
 
 	// -------------------------------------------------------------------------
 	// Constructors
@@ -479,9 +494,7 @@ implements	OutboundPortI
 		// FIXME: should use a proper state machine model to implement the
 		// connection and disconnection protocol
 
-		Class<?> cc = Class.forName(ccname);
-		Constructor<?> c = cc.getConstructor(new Class<?>[]{});
-		ConnectorI connector = (ConnectorI) c.newInstance();
+		ConnectorI connector = DirectInvokers.newConnector(ccname);
 		this.doConnection(otherPortURI, connector);
 	}
 
@@ -615,6 +628,9 @@ implements	OutboundPortI
 		// FIXME: should use a proper state machine model to implement the
 		// connection and disconnection protocol
 
+		// pipelined calls submitted before the disconnection must still be
+		// executed through the connector
+		this.flushPipeline().get();
 		((ConnectorI)this.getConnector()).disconnect();
 		this.unsetServerPortURI();
 		this.unsetConnector();
@@ -624,6 +640,139 @@ implements	OutboundPortI
 					new PostconditionException("!connected()");
 	}
 
+	// -------------------------------------------------------------------------
+	// Pipelined calls
+	// -------------------------------------------------------------------------
+
+	/**
+	 * start pipelining the calls made with <code>pipelinedCall</code>.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code !isPipelining()}
+	 * pre	{@code maxBatchSize > 0}
+	 * pre	{@code maxDelay >= 0 && u != null}
+	 * post	{@code isPipelining()}
+	 * </pre>
+	 *
+	 * @param maxBatchSize	number of queued calls triggering a flush.
+	 * @param maxDelay		delay after which queued calls are flushed, no delay-triggered flush if 0.
+	 * @param u				time unit of <code>maxDelay</code>.
+	 */
+	public synchronized void	startPipelining(
+		int maxBatchSize,
+		long maxDelay,
+		TimeUnit u
+		)
+	{
+		assert	!this.isPipelining() :
+					new PreconditionException("!isPipelining()");
+
+		this.pipeline = new CallPipeline(this, maxBatchSize, maxDelay, u);
+	}
+
+	/**
+	 * return true if the calls made with <code>pipelinedCall</code> are
+	 * pipelined.
+	 * 
+	 * @return	true if the calls made with <code>pipelinedCall</code> are pipelined.
+	 */
+	public boolean		isPipelining()
+	{
+		return this.pipeline != null;
+	}
+
+	/**
+	 * stop pipelining, after flushing and waiting for the queued calls.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code isPipelining()}
+	 * post	{@code !isPipelining()}
+	 * </pre>
+	 *
+	 * @throws Exception	<i>to do</i>.
+	 */
+	public synchronized void	stopPipelining() throws Exception
+	{
+		assert	this.isPipelining() :
+					new PreconditionException("isPipelining()");
+
+		CallPipeline p = this.pipeline;
+		this.pipeline = null;
+		p.flush().get();
+	}
+
+	/**
+	 * perform a call through the connector of this port, queued in the
+	 * pipeline when pipelining and connected to a server port through the
+	 * socket transport, and executed immediately otherwise; the returned
+	 * future is completed with the result of the call.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code connected()}
+	 * pre	{@code call != null}
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param <I>			required interface of the port.
+	 * @param <R>			type of the result of the call.
+	 * @param call			call to be performed through the connector.
+	 * @return				the future of the result of the call.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	@SuppressWarnings("unchecked")
+	public <I extends RequiredCI, R> CompletableFuture<R>	pipelinedCall(
+		PipelinedCallI<I,R> call
+		) throws Exception
+	{
+		assert	this.connected() :
+					new PreconditionException("connected()");
+		assert	call != null :
+					new PreconditionException("call != null");
+
+		CallPipeline p = this.pipeline;
+		if (p != null && this.isRemotelyConnected() &&
+							AbstractDistributedCVM.usesSocketTransport()) {
+			return p.submit(call);
+		} else {
+			CompletableFuture<R> f = new CompletableFuture<R>();
+			try {
+				f.complete(call.call((I) this.getConnector()));
+			} catch (Throwable t) {
+				f.completeExceptionally(t);
+			}
+			return f;
+		}
+	}
+
+	/**
+	 * flush the pipelined calls and return a future completed when all of
+	 * the calls submitted before have been executed.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true			// no precondition.
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @return	a future completed when all of the calls submitted before have been executed.
+	 */
+	public CompletableFuture<Void>	flushPipeline()
+	{
+		CallPipeline p = this.pipeline;
+		if (p != null) {
+			return p.flush();
+		} else {
+			return CompletableFuture.completedFuture(null);
+		}
+	}
+
 	/**
 	 * @see fr.sorbonne_u.components.ports.PortI#obeyDisconnection()
 	 */
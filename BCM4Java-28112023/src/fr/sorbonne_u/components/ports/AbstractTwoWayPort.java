@@ -33,7 +33,6 @@ package fr.sorbonne_u.components.ports;
 // The fact that you are presently reading this means that you have had
 // knowledge of the CeCILL-C license and that you accept its terms.
 
-import java.lang.reflect.Constructor;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -46,6 +45,7 @@ import fr.sorbonne_u.components.cvm.AbstractDistributedCVM;
 import fr.sorbonne_u.components.interfaces.OfferedCI;
 import fr.sorbonne_u.components.interfaces.RequiredCI;
 import fr.sorbonne_u.components.interfaces.TwoWayCI;
+import fr.sorbonne_u.components.reflection.utils.DirectInvokers;
 import fr.sorbonne_u.exceptions.ImplementationInvariantException;
 import fr.sorbonne_u.exceptions.InvariantException;
 import fr.sorbonne_u.exceptions.PostconditionException;
@@ -639,9 +639,7 @@ implements	TwoWayPortI<TWI>
 		// to act as client and server ports.  The connection made here assumes
 		// that the current port is the server port, and the other port is the
 		// client.
-		Class<?> cc = Class.forName(ccname) ;
-		Constructor<?> c = cc.getConstructor(new Class<?>[]{}) ;
-		ConnectorI connector = (ConnectorI) c.newInstance() ;
+		ConnectorI connector = DirectInvokers.newConnector(ccname) ;
 		this.doConnection(otherPortURI, connector) ;
 	}
 
@@ -747,9 +745,7 @@ implements	TwoWayPortI<TWI>
 		// FIXME: should use a proper state machine model to implement the
 		// connection and disconnection protocol
 
-		Class<?> cc = Class.forName(ccname) ;
-		Constructor<?> c = cc.getConstructor(new Class<?>[]{}) ;
-		ConnectorI connector = (ConnectorI) c.newInstance() ;
+		ConnectorI connector = DirectInvokers.newConnector(ccname) ;
 		this.obeyConnection(otherPortURI, connector) ;
 	}
 
@@ -0,0 +1,160 @@
+package fr.sorbonne_u.components.ports;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+import fr.sorbonne_u.components.AbstractComponent;
+import fr.sorbonne_u.components.ComponentI;
+import fr.sorbonne_u.components.annotations.OfferedInterfaces;
+import fr.sorbonne_u.components.cvm.AbstractCVM;
+import fr.sorbonne_u.components.exceptions.RequestRejectedException;
+import fr.sorbonne_u.components.helpers.TokenBucket;
+import fr.sorbonne_u.components.helpers.TracerConsole;
+import fr.sorbonne_u.components.interfaces.OfferedCI;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>AdmissionLimiterTest</code> tests that the admission
+ * limiter of an inbound port applies to the requests that the port passes
+ * to its owner.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant		true
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			AdmissionLimiterTest
+{
+	public static interface	CounterCI
+	extends		OfferedCI
+	{
+		public int		next() throws Exception;
+	}
+
+	@OfferedInterfaces(offered = {CounterCI.class})
+	public static class		Counter
+	extends		AbstractComponent
+	{
+		public static final String		PORT_URI = "counter";
+		protected CounterInboundPort	port;
+		protected int					count;
+
+		protected		Counter() throws Exception
+		{
+			super(1, 0);
+			this.port = new CounterInboundPort(PORT_URI, this);
+			this.port.publishPort();
+		}
+
+		@Override
+		public synchronized void	finalise() throws Exception
+		{
+			this.port.unpublishPort();
+			super.finalise();
+		}
+
+		public int		next()
+		{
+			return ++this.count;
+		}
+	}
+
+	public static class		CounterInboundPort
+	extends		AbstractInboundPort
+	implements	CounterCI
+	{
+		private static final long serialVersionUID = 1L;
+
+		public			CounterInboundPort(String uri, ComponentI owner)
+		throws Exception
+		{
+			super(uri, CounterCI.class, owner);
+		}
+
+		@Override
+		public int		next() throws Exception
+		{
+			return this.handleRequest(o -> ((Counter)o).next());
+		}
+	}
+
+	@Test
+	public void			testRejection() throws Exception
+	{
+		AbstractComponent.TracerFactory tf =
+								AbstractComponent.getDefaultTracerFactory();
+		AbstractComponent.setDefaultTracerFactory(uri -> new TracerConsole());
+		if (AbstractCVM.getCVM() == null) {
+			new AbstractCVM() {};
+		}
+		AbstractComponent.createComponent(Counter.class.getName(),
+										  new Object[]{});
+		AbstractComponent.setDefaultTracerFactory(tf);
+		CounterInboundPort p = (CounterInboundPort)
+							AbstractCVM.getFromLocalRegistry(Counter.PORT_URI);
+		Counter c = (Counter) p.getOwner();
+		c.start();
+		p.setAdmissionLimiter(new TokenBucket(1.0, 2));
+
+		Assertions.assertEquals(1, p.next());
+		Assertions.assertEquals(2, p.next());
+		RequestRejectedException e =
+				Assertions.assertThrows(RequestRejectedException.class,
+										() -> p.next());
+		Assertions.assertTrue(e.hasRetryAfter());
+		Assertions.assertTrue(e.getRetryAfter(TimeUnit.MILLISECONDS) > 0L);
+		Assertions.assertEquals(2, c.count);
+
+		Thread.sleep(e.getRetryAfter(TimeUnit.MILLISECONDS) + 10L);
+		Assertions.assertEquals(3, p.next());
+
+		p.setAdmissionLimiter(null);
+		for (int i = 4 ; i < 100 ; i++) {
+			Assertions.assertEquals(i, p.next());
+		}
+		c.finalise();
+		c.shutdown();
+	}
+}
+// -----------------------------------------------------------------------------
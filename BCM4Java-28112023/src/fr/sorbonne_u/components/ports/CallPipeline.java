@@ -0,0 +1,576 @@
+package fr.sorbonne_u.components.ports;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import fr.sorbonne_u.components.cvm.transport.RemotePortStub;
+import fr.sorbonne_u.components.exceptions.ConnectionException;
+import fr.sorbonne_u.components.interfaces.RequiredCI;
+import fr.sorbonne_u.exceptions.PreconditionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>CallPipeline</code> implements the queue of pipelined calls
+ * of an outbound port, flushed as batches.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * Pipelined calls submitted to the pipeline are queued and their futures are
+ * returned immediately. The queue is flushed when it holds
+ * <code>maxBatchSize</code> calls, when <code>maxDelay</code> nanoseconds
+ * have elapsed since the first call entered the empty queue (if
+ * <code>maxDelay</code> is positive) or when <code>flush</code> is called.
+ * A flush is performed by a thread of a pool shared by all of the pipelines,
+ * one flush at a time per pipeline, so that the calls made through the same
+ * port are executed and their futures completed in the order of their
+ * submission. The pool and the timer are created upon their first use and
+ * shut down by <code>shutdownExecutors</code> when the CVM shuts down.
+ * </p>
+ * <p>
+ * Pipelines are meant for server ports reached through the socket transport
+ * only: <code>AbstractOutboundPort</code> executes at once the pipelined
+ * calls made over local or RMI connections, for which deferring them would
+ * gain nothing. A batch is executed by applying each pipelined call to the
+ * connector of the port with the socket transport stubs in capture mode;
+ * the calls on the offered interface are recorded and executed in one round
+ * trip per server port. As the connector then only sees the probe returned
+ * by the stub, a pipelined call for which the connector returns another
+ * value, hence post-processes the result, fails with a
+ * <code>ConnectionException</code> and its remote call is not performed.
+ * The probe of a reference type is a sentinel that must come back as the
+ * same instance; a call with a primitive result is applied a second time
+ * to the connector to check it against another probe value. Calls which
+ * result type allows neither, such as classes other than
+ * <code>Object</code>, <code>String</code>, arrays and the wrappers of the
+ * primitive types, fail in the same way.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code port != null}
+ * invariant	{@code maxBatchSize > 0}
+ * invariant	{@code maxDelay >= 0}
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			CallPipeline
+{
+	// -------------------------------------------------------------------------
+	// Inner classes
+	// -------------------------------------------------------------------------
+
+	/**
+	 * The class <code>Entry</code> holds a queued pipelined call and its
+	 * future.
+	 *
+	 * <p>Created on : 2026-10-19</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	protected static class	Entry
+	{
+		protected final PipelinedCallI<RequiredCI,Object>	call;
+		protected final CompletableFuture<Object>			future;
+
+		public			Entry(PipelinedCallI<RequiredCI,Object> call)
+		{
+			this.call = call;
+			this.future = new CompletableFuture<Object>();
+		}
+	}
+
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** thread pool executing the flushes of all pipelines, null until
+	 *  first used or after <code>shutdownExecutors</code>.					*/
+	protected static ExecutorService					flushers;
+	/** timer triggering the flushes on delay, null until first used or
+	 *  after <code>shutdownExecutors</code>.								*/
+	protected static ScheduledExecutorService			timer;
+
+	/** outbound port which calls are pipelined.							*/
+	protected final AbstractOutboundPort				port;
+	/** number of queued calls triggering a flush.							*/
+	protected final int									maxBatchSize;
+	/** delay in nanoseconds after which queued calls are flushed, no
+	 *  delay-triggered flush if 0.											*/
+	protected final long								maxDelay;
+	/** queued calls.														*/
+	protected final ConcurrentLinkedQueue<Entry>		queue;
+	/** number of queued calls.												*/
+	protected final AtomicInteger						queued;
+	/** true when a flush is being performed.								*/
+	protected final AtomicBoolean						flushing;
+	/** future of the last submitted call, guarded by the lock on
+	 *  <code>queue</code> so that it is always the last queued one.		*/
+	protected CompletableFuture<Object>					last;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create a pipeline for an outbound port.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code port != null}
+	 * pre	{@code maxBatchSize > 0}
+	 * pre	{@code maxDelay >= 0 && u != null}
+	 * post	{@code queuedCalls() == 0}
+	 * </pre>
+	 *
+	 * @param port			outbound port which calls are pipelined.
+	 * @param maxBatchSize	number of queued calls triggering a flush.
+	 * @param maxDelay		delay after which queued calls are flushed, no delay-triggered flush if 0.
+	 * @param u				time unit of <code>maxDelay</code>.
+	 */
+	public				CallPipeline(
+		AbstractOutboundPort port,
+		int maxBatchSize,
+		long maxDelay,
+		TimeUnit u
+		)
+	{
+		super();
+
+		assert	port != null : new PreconditionException("port != null");
+		assert	maxBatchSize > 0 :
+				new PreconditionException("maxBatchSize > 0");
+		assert	maxDelay >= 0 && u != null :
+				new PreconditionException("maxDelay >= 0 && u != null");
+
+		this.port = port;
+		this.maxBatchSize = maxBatchSize;
+		this.maxDelay = u.toNanos(maxDelay);
+		this.queue = new ConcurrentLinkedQueue<Entry>();
+		this.queued = new AtomicInteger(0);
+		this.flushing = new AtomicBoolean(false);
+		this.last = CompletableFuture.completedFuture(null);
+	}
+
+	// -------------------------------------------------------------------------
+	// Shared executors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return the thread pool executing the flushes, creating it if needed.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true			// no precondition.
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @return	the thread pool executing the flushes.
+	 */
+	protected static synchronized ExecutorService	flushers()
+	{
+		if (CallPipeline.flushers == null) {
+			CallPipeline.flushers =
+				Executors.newCachedThreadPool(r -> {
+						Thread t = new Thread(r, "call-pipeline-flusher");
+						t.setDaemon(true);
+						return t;
+					});
+		}
+		return CallPipeline.flushers;
+	}
+
+	/**
+	 * return the timer triggering the flushes on delay, creating it if
+	 * needed.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true			// no precondition.
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @return	the timer triggering the flushes on delay.
+	 */
+	protected static synchronized ScheduledExecutorService	timer()
+	{
+		if (CallPipeline.timer == null) {
+			CallPipeline.timer =
+				Executors.newSingleThreadScheduledExecutor(r -> {
+						Thread t = new Thread(r, "call-pipeline-timer");
+						t.setDaemon(true);
+						return t;
+					});
+		}
+		return CallPipeline.timer;
+	}
+
+	/**
+	 * shut down the thread pool and the timer shared by the pipelines; the
+	 * flushes in progress are completed and the delayed flushes not yet
+	 * triggered are cancelled, pipelines used afterwards recreating them.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true			// no precondition.
+	 * post	true			// no postcondition.
+	 * </pre>
+	 */
+	public static synchronized void	shutdownExecutors()
+	{
+		if (CallPipeline.timer != null) {
+			CallPipeline.timer.shutdownNow();
+			CallPipeline.timer = null;
+		}
+		if (CallPipeline.flushers != null) {
+			CallPipeline.flushers.shutdown();
+			CallPipeline.flushers = null;
+		}
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return the number of calls queued and not yet flushed.
+	 * 
+	 * @return	the number of calls queued and not yet flushed.
+	 */
+	public int			queuedCalls()
+	{
+		return this.queued.get();
+	}
+
+	/**
+	 * queue a pipelined call and return the future of its result.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code call != null}
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param <I>	required interface of the port.
+	 * @param <R>	type of the result of the call.
+	 * @param call	call to be queued.
+	 * @return		the future of the result of the call.
+	 */
+	@SuppressWarnings("unchecked")
+	public <I extends RequiredCI, R> CompletableFuture<R>	submit(
+		PipelinedCallI<I,R> call
+		)
+	{
+		assert	call != null : new PreconditionException("call != null");
+
+		Entry e = new Entry((PipelinedCallI<RequiredCI,Object>) call);
+		int n;
+		synchronized (this.queue) {
+			this.queue.add(e);
+			this.last = e.future;
+			n = this.queued.incrementAndGet();
+		}
+		if (n >= this.maxBatchSize) {
+			this.triggerFlush();
+		} else if (n == 1 && this.maxDelay > 0) {
+			timer().schedule(this::triggerFlush, this.maxDelay,
+						   TimeUnit.NANOSECONDS);
+		}
+		return (CompletableFuture<R>) e.future;
+	}
+
+	/**
+	 * flush the queued calls and return a future completed when all of the
+	 * calls submitted before have been executed.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true			// no precondition.
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @return	a future completed when all of the calls submitted before have been executed.
+	 */
+	public CompletableFuture<Void>	flush()
+	{
+		CompletableFuture<Object> l;
+		synchronized (this.queue) {
+			l = this.last;
+		}
+		this.triggerFlush();
+		return l.handle((r, t) -> null);
+	}
+
+	/**
+	 * start a flush unless one is already being performed, in which case it
+	 * will execute the calls queued in the meantime.
+	 */
+	protected void		triggerFlush()
+	{
+		if (this.flushing.compareAndSet(false, true)) {
+			try {
+				flushers().execute(this::flushLoop);
+			} catch (RejectedExecutionException e) {
+				// the executors are being shut down: flush in this thread
+				this.flushLoop();
+			}
+		}
+	}
+
+	/**
+	 * execute batches until the queue is empty.
+	 */
+	protected void		flushLoop()
+	{
+		do {
+			while (!this.queue.isEmpty()) {
+				ArrayList<Entry> batch = new ArrayList<Entry>();
+				Entry e;
+				while (batch.size() < this.maxBatchSize &&
+										(e = this.queue.poll()) != null) {
+					batch.add(e);
+				}
+				this.queued.addAndGet(-batch.size());
+				this.executeBatch(batch);
+			}
+			this.flushing.set(false);
+		} while (!this.queue.isEmpty() &&
+								this.flushing.compareAndSet(false, true));
+	}
+
+	/**
+	 * check that the connector has returned the result of the remote call
+	 * of a pipelined call unchanged, and return null if so or else the
+	 * reason why the call cannot be pipelined.
+	 * 
+	 * <p><strong>Description</strong></p>
+	 * 
+	 * <p>
+	 * A reference result must be the very sentinel returned by the stub. A
+	 * primitive result has no identity and the zero returned by the stub
+	 * cannot be told apart from a zero computed by the connector: the call
+	 * is applied a second time to the connector with the stubs returning
+	 * alternative probes, and both probes must come back. The results of
+	 * the other reference types cannot be checked.
+	 * </p>
+	 * 
+	 * @param e			pipelined call.
+	 * @param connector	connector of the port.
+	 * @param c			remote call captured when applying the call.
+	 * @param r			result of the call when applied to the connector.
+	 * @return			null if the result is the one of the remote call, or the reason of the refusal.
+	 */
+	protected String	checkResult(
+		Entry e,
+		RequiredCI connector,
+		RemotePortStub.CapturedCall c,
+		Object r
+		)
+	{
+		final String postProcessed =
+						"the connector post-processes the result of the "
+						+ "remote call, which cannot be pipelined.";
+		Class<?> type = c.getResultType();
+		if (type == void.class) {
+			return null;
+		}
+		if (!type.isPrimitive()) {
+			if (c.getStubResult() == null) {
+				return "the result of type " + type.getName() + " of a "
+						+ "pipelined call cannot be checked against "
+						+ "post-processing by the connector.";
+			}
+			return r == c.getStubResult() ? null : postProcessed;
+		}
+		if (!c.getStubResult().equals(r)) {
+			return postProcessed;
+		}
+		Object alternative;
+		List<RemotePortStub.CapturedCall> again;
+		RemotePortStub.startCapture(true);
+		try {
+			alternative = e.call.call(connector);
+		} catch (Throwable t) {
+			return postProcessed;
+		} finally {
+			again = RemotePortStub.stopCapture();
+		}
+		if (again.size() != 1 || !again.get(0).sameMethod(c) ||
+						!again.get(0).getStubResult().equals(alternative)) {
+			return postProcessed;
+		}
+		return null;
+	}
+
+	/**
+	 * execute a batch of calls and complete their futures in order.
+	 * 
+	 * @param batch	calls to be executed.
+	 */
+	protected void		executeBatch(ArrayList<Entry> batch)
+	{
+		int n = batch.size();
+		Object[] results = new Object[n];
+		boolean[] failed = new boolean[n];
+		// index of the captured call giving the outcome of each entry, or -1
+		int[] capturedIndexes = new int[n];
+
+		RequiredCI connector = null;
+		try {
+			connector = (RequiredCI) this.port.getConnector();
+		} catch (Exception e) {
+			// handled below as a missing connector
+		}
+		List<RemotePortStub.CapturedCall> captured;
+		RemotePortStub.startCapture();
+		try {
+			for (int i = 0 ; i < n ; i++) {
+				capturedIndexes[i] = -1;
+				if (connector == null) {
+					failed[i] = true;
+					results[i] = new ConnectionException(
+											"outbound port not connected.");
+					continue;
+				}
+				int before = RemotePortStub.capturedCount();
+				try {
+					Object r = batch.get(i).call.call(connector);
+					int count = RemotePortStub.capturedCount() - before;
+					if (count == 0) {
+						results[i] = r;
+					} else if (count == 1) {
+						results[i] = r;
+						capturedIndexes[i] = before;
+					} else {
+						failed[i] = true;
+						results[i] = new ConnectionException(
+								"a pipelined call must perform exactly one "
+								+ "remote call, not " + count + ".");
+					}
+				} catch (Throwable t) {
+					failed[i] = true;
+					results[i] = t;
+				}
+			}
+		} finally {
+			captured = RemotePortStub.stopCapture();
+		}
+
+		// a connector returning another value than the probe of the stub
+		// has post-processed the result, which would be lost: such calls
+		// fail and their remote calls are dropped from the batch
+		if (!captured.isEmpty()) {
+			ArrayList<RemotePortStub.CapturedCall> accepted =
+							new ArrayList<RemotePortStub.CapturedCall>();
+			for (int i = 0 ; i < n ; i++) {
+				if (capturedIndexes[i] >= 0) {
+					RemotePortStub.CapturedCall c =
+										captured.get(capturedIndexes[i]);
+					String refusal =
+						this.checkResult(batch.get(i), connector, c,
+										 results[i]);
+					if (refusal == null) {
+						capturedIndexes[i] = accepted.size();
+						accepted.add(c);
+					} else {
+						capturedIndexes[i] = -1;
+						failed[i] = true;
+						results[i] = new ConnectionException(refusal);
+					}
+				}
+			}
+			captured = accepted;
+		}
+
+		if (!captured.isEmpty()) {
+			int m = captured.size();
+			Object[] cResults = new Object[m];
+			boolean[] cFailed = new boolean[m];
+			int from = 0;
+			while (from < m) {
+				int to = from + 1;
+				while (to < m &&
+						captured.get(to).sameTarget(captured.get(from))) {
+					to++;
+				}
+				try {
+					RemotePortStub.executeBatch(captured, from, to,
+												cResults, cFailed);
+				} catch (Exception e) {
+					for (int k = from ; k < to ; k++) {
+						cResults[k] = e;
+						cFailed[k] = true;
+					}
+				}
+				from = to;
+			}
+			for (int i = 0 ; i < n ; i++) {
+				if (capturedIndexes[i] >= 0) {
+					results[i] = cResults[capturedIndexes[i]];
+					failed[i] = cFailed[capturedIndexes[i]];
+				}
+			}
+		}
+
+		for (int i = 0 ; i < n ; i++) {
+			if (failed[i]) {
+				batch.get(i).future.completeExceptionally(
+												(Throwable) results[i]);
+			} else {
+				batch.get(i).future.complete(results[i]);
+			}
+		}
+	}
+}
+// -----------------------------------------------------------------------------
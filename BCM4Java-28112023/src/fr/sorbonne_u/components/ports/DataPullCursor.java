@@ -0,0 +1,362 @@
+package fr.sorbonne_u.components.ports;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import fr.sorbonne_u.components.interfaces.DataRequiredCI;
+import fr.sorbonne_u.exceptions.PreconditionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>DataPullCursor</code> implements a streaming cursor over
+ * the data of an offering component obtained in pull mode through batches
+ * with a credit-based flow control window.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * The cursor is used by the requiring component on its data outbound port
+ * (or on any <code>DataRequiredCI.PullCI</code>) to consume a stream of data
+ * one piece at a time while exchanging them by batches, hence with one call
+ * per batch instead of one per piece of data, which matters when the
+ * offering component runs on another JVM. The size of the batches is
+ * governed by a window of credits: the number of pieces of data buffered in
+ * the cursor plus the number requested but not yet received never exceeds
+ * the window, the requiring component granting credits to the offering one
+ * through <code>request(n)</code> as it consumes the data.
+ * </p>
+ * <p>
+ * Without executor, the cursor requests a full window of data when its
+ * buffer is empty. With an executor, it requests asynchronously the
+ * missing credits as soon as its buffer falls to half the window, so that
+ * the next batch is transferred while the current one is consumed. The
+ * window can be changed at any time, for example to adapt it to the rate
+ * of consumption; the change applies to the next credits granted.
+ * </p>
+ * <p>
+ * A cursor is meant to be used by one thread at a time.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code source != null}
+ * invariant	{@code window > 0}
+ * invariant	{@code buffered.size() + inFlightCredits <= window || window changed}
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			DataPullCursor
+{
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** default size of the window of credits.								*/
+	public static final int		DEFAULT_WINDOW = 64;
+
+	/** pull interface from which the data are requested.					*/
+	protected final DataRequiredCI.PullCI				source;
+	/** executor performing the asynchronous requests or null if the
+	 *  requests are synchronous.											*/
+	protected final Executor							prefetcher;
+	/** data received and not yet consumed.									*/
+	protected final ArrayDeque<DataRequiredCI.DataI>	buffered;
+	/** maximum number of data buffered or requested at any time.			*/
+	protected int										window;
+	/** pending asynchronous request or null if none.						*/
+	protected CompletableFuture<DataRequiredCI.DataI[]>	inFlight;
+	/** number of credits granted by the pending asynchronous request.		*/
+	protected int										inFlightCredits;
+	/** number of batches received.											*/
+	protected long										batchCount;
+	/** number of data received.											*/
+	protected long										receivedCount;
+	/** true when the cursor has been closed.								*/
+	protected boolean									closed;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create a synchronous cursor with the default window.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code source != null}
+	 * post	{@code getWindow() == DEFAULT_WINDOW}
+	 * </pre>
+	 *
+	 * @param source	pull interface from which the data are requested.
+	 */
+	public				DataPullCursor(DataRequiredCI.PullCI source)
+	{
+		this(source, DEFAULT_WINDOW, null);
+	}
+
+	/**
+	 * create a cursor.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code source != null}
+	 * pre	{@code window > 0}
+	 * post	{@code getWindow() == window}
+	 * </pre>
+	 *
+	 * @param source		pull interface from which the data are requested.
+	 * @param window		maximum number of data buffered or requested at any time.
+	 * @param prefetcher	executor performing asynchronous requests or null to make them synchronously.
+	 */
+	public				DataPullCursor(
+		DataRequiredCI.PullCI source,
+		int window,
+		Executor prefetcher
+		)
+	{
+		assert	source != null : new PreconditionException("source != null");
+		assert	window > 0 : new PreconditionException("window > 0");
+
+		this.source = source;
+		this.window = window;
+		this.prefetcher = prefetcher;
+		this.buffered = new ArrayDeque<DataRequiredCI.DataI>(window);
+		this.inFlight = null;
+		this.inFlightCredits = 0;
+		this.batchCount = 0L;
+		this.receivedCount = 0L;
+		this.closed = false;
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return the size of the window of credits.
+	 * 
+	 * @return	the size of the window of credits.
+	 */
+	public synchronized int		getWindow()
+	{
+		return this.window;
+	}
+
+	/**
+	 * set the size of the window of credits, which applies to the next
+	 * credits granted.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code window > 0}
+	 * post	{@code getWindow() == window}
+	 * </pre>
+	 *
+	 * @param window	the new size of the window of credits.
+	 */
+	public synchronized void	setWindow(int window)
+	{
+		assert	window > 0 : new PreconditionException("window > 0");
+
+		this.window = window;
+	}
+
+	/**
+	 * return the number of data received and not yet consumed.
+	 * 
+	 * @return	the number of data received and not yet consumed.
+	 */
+	public synchronized int		available()
+	{
+		return this.buffered.size();
+	}
+
+	/**
+	 * return the number of batches received.
+	 * 
+	 * @return	the number of batches received.
+	 */
+	public synchronized long	getBatchCount()
+	{
+		return this.batchCount;
+	}
+
+	/**
+	 * return the number of data received.
+	 * 
+	 * @return	the number of data received.
+	 */
+	public synchronized long	getReceivedCount()
+	{
+		return this.receivedCount;
+	}
+
+	/**
+	 * return the next piece of data, requesting a new batch when needed, or
+	 * null if the offering component returned no data.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code !isClosed()}
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @return				the next piece of data or null if none is available.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	public synchronized DataRequiredCI.DataI	next() throws Exception
+	{
+		assert	!this.closed : new PreconditionException("!isClosed()");
+
+		if (this.inFlight != null &&
+							(this.inFlight.isDone() || this.buffered.isEmpty())) {
+			this.collect();
+		}
+		if (this.buffered.isEmpty()) {
+			this.absorb(this.source.request(this.window));
+		}
+		DataRequiredCI.DataI ret = this.buffered.poll();
+		if (this.prefetcher != null && this.inFlight == null &&
+									this.buffered.size() <= this.window / 2) {
+			this.grant();
+		}
+		return ret;
+	}
+
+	/**
+	 * request asynchronously the credits missing to fill the window.
+	 */
+	protected void		grant()
+	{
+		final int credits = this.window - this.buffered.size();
+		if (credits > 0) {
+			this.inFlightCredits = credits;
+			this.inFlight =
+				CompletableFuture.supplyAsync(
+					() -> {
+						try {
+							return this.source.request(credits);
+						} catch (Exception e) {
+							throw new CompletionException(e);
+						}
+					},
+					this.prefetcher);
+		}
+	}
+
+	/**
+	 * wait for the pending asynchronous request and buffer its data.
+	 * 
+	 * @throws Exception	the exception raised by the request, if any.
+	 */
+	protected void		collect() throws Exception
+	{
+		CompletableFuture<DataRequiredCI.DataI[]> f = this.inFlight;
+		this.inFlight = null;
+		this.inFlightCredits = 0;
+		try {
+			this.absorb(f.get());
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof Exception) {
+				throw (Exception) cause;
+			} else {
+				throw e;
+			}
+		}
+	}
+
+	/**
+	 * buffer a batch of data.
+	 * 
+	 * @param batch	batch of data received from the offering component.
+	 */
+	protected void		absorb(DataRequiredCI.DataI[] batch)
+	{
+		if (batch != null) {
+			this.batchCount++;
+			for (int i = 0 ; i < batch.length ; i++) {
+				if (batch[i] != null) {
+					this.buffered.add(batch[i]);
+					this.receivedCount++;
+				}
+			}
+		}
+	}
+
+	/**
+	 * return true if the cursor has been closed.
+	 * 
+	 * @return	true if the cursor has been closed.
+	 */
+	public synchronized boolean	isClosed()
+	{
+		return this.closed;
+	}
+
+	/**
+	 * close the cursor, dropping the buffered data and abandoning the
+	 * pending request if any.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true			// no precondition.
+	 * post	{@code isClosed()}
+	 * </pre>
+	 */
+	public synchronized void	close()
+	{
+		this.closed = true;
+		if (this.inFlight != null) {
+			this.inFlight.cancel(false);
+			this.inFlight = null;
+			this.inFlightCredits = 0;
+		}
+		this.buffered.clear();
+	}
+}
+// -----------------------------------------------------------------------------
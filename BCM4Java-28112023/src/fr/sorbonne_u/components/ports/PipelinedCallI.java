@@ -0,0 +1,94 @@
+package fr.sorbonne_u.components.ports;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import fr.sorbonne_u.components.interfaces.RequiredCI;
+
+// -----------------------------------------------------------------------------
+/**
+ * The functional interface <code>PipelinedCallI</code> represents a call
+ * made through the connector of an outbound port which execution may be
+ * deferred and batched with other calls made through the same port.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * A pipelined call receives the connector of the outbound port, typed by the
+ * required interface of the port, and calls exactly one of its methods,
+ * returning its result unchanged, <i>e.g.</i>:
+ * </p>
+ * <pre>
+ * port.pipelinedCall((AdjustableCI c) -&gt; c.currentMode())
+ * </pre>
+ * <p>
+ * When the server port is reached through the socket transport, the call
+ * made by the connector on the offered interface is recorded rather than
+ * executed, the stub returning a probe value, and the recorded calls are
+ * then executed in one round trip; the result given to the future of the
+ * pipelined call is the result of the offered method. Hence, pipelined calls
+ * must go through connectors that forward exactly one call to the offered
+ * interface and return its result unchanged, as generated connectors do;
+ * the calls for which the connector returns another value than the stub
+ * fail with a <code>ConnectionException</code>. To check it, a call with a
+ * primitive result is applied twice to the connector, and the calls which
+ * result is of a class other than <code>Object</code>, <code>String</code>,
+ * an array or a wrapper of a primitive type, hence cannot be checked, fail. Over
+ * local or RMI connections, pipelined calls are executed at once through
+ * the connector.
+ * </p>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+@FunctionalInterface
+public interface		PipelinedCallI<I extends RequiredCI, R>
+{
+	/**
+	 * perform the call through the connector <code>connector</code>.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code connector != null}
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @param connector		connector of the outbound port, typed by its required interface.
+	 * @return				the result of the call.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	public R			call(I connector) throws Exception;
+}
+// -----------------------------------------------------------------------------
@@ -0,0 +1,226 @@
+package fr.sorbonne_u.components.ports;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+import fr.sorbonne_u.components.AbstractComponent;
+import fr.sorbonne_u.components.ComponentI;
+import fr.sorbonne_u.components.annotations.OfferedInterfaces;
+import fr.sorbonne_u.components.cvm.AbstractCVM;
+import fr.sorbonne_u.components.helpers.PrioritisedI;
+import fr.sorbonne_u.components.helpers.PriorityExecutorService;
+import fr.sorbonne_u.components.helpers.PriorityExecutorServiceFactory;
+import fr.sorbonne_u.components.helpers.TracerConsole;
+import fr.sorbonne_u.components.interfaces.OfferedCI;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>RequestPriorityTest</code> tests that the requests passed
+ * through an inbound port with a request priority overtake the ones passed
+ * through ports of lower priority when they wait for the same priority
+ * executor service, and that the priorities bound to the current thread by
+ * the ports are restored once their requests are submitted.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant		true
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			RequestPriorityTest
+{
+	public static interface	RecorderCI
+	extends		OfferedCI
+	{
+		public void		record(String tag) throws Exception;
+	}
+
+	@OfferedInterfaces(offered = {RecorderCI.class})
+	public static class		Recorder
+	extends		AbstractComponent
+	{
+		public static final String		EXECUTOR_URI = "requests";
+		public static final String		BULK_PORT_URI = "bulk";
+		public static final String		CONTROL_PORT_URI = "control";
+		protected RecorderInboundPort	bulkPort;
+		protected RecorderInboundPort	controlPort;
+		protected final List<String>	tags;
+
+		protected		Recorder() throws Exception
+		{
+			super(1, 0);
+			this.tags = new ArrayList<>();
+			this.createNewExecutorService(
+					EXECUTOR_URI, 1,
+					new PriorityExecutorServiceFactory(
+							1L, TimeUnit.SECONDS, PrioritisedI.NORMAL));
+			this.bulkPort =
+				new RecorderInboundPort(BULK_PORT_URI, this, EXECUTOR_URI);
+			this.bulkPort.publishPort();
+			this.controlPort =
+				new RecorderInboundPort(CONTROL_PORT_URI, this, EXECUTOR_URI);
+			this.controlPort.setRequestPriority(PrioritisedI.HIGH);
+			this.controlPort.publishPort();
+		}
+
+		@Override
+		public synchronized void	finalise() throws Exception
+		{
+			this.bulkPort.unpublishPort();
+			this.controlPort.unpublishPort();
+			super.finalise();
+		}
+
+		public void		record(String tag)
+		{
+			synchronized (this.tags) {
+				this.tags.add(tag);
+				this.tags.notifyAll();
+			}
+		}
+	}
+
+	public static class		RecorderInboundPort
+	extends		AbstractInboundPort
+	implements	RecorderCI
+	{
+		private static final long serialVersionUID = 1L;
+
+		public			RecorderInboundPort(
+			String uri,
+			ComponentI owner,
+			String executorServiceURI
+			) throws Exception
+		{
+			super(uri, RecorderCI.class, owner, null, executorServiceURI);
+		}
+
+		@Override
+		public void		record(String tag) throws Exception
+		{
+			this.runTask(o -> ((Recorder)o).record(tag));
+		}
+	}
+
+	@Test
+	public void			testControlOvertakesBulk() throws Exception
+	{
+		AbstractComponent.TracerFactory tf =
+								AbstractComponent.getDefaultTracerFactory();
+		AbstractComponent.setDefaultTracerFactory(uri -> new TracerConsole());
+		if (AbstractCVM.getCVM() == null) {
+			new AbstractCVM() {};
+		}
+		AbstractComponent.createComponent(Recorder.class.getName(),
+										  new Object[]{});
+		AbstractComponent.setDefaultTracerFactory(tf);
+		RecorderInboundPort bulk = (RecorderInboundPort)
+						AbstractCVM.getFromLocalRegistry(Recorder.BULK_PORT_URI);
+		RecorderInboundPort control = (RecorderInboundPort)
+					AbstractCVM.getFromLocalRegistry(Recorder.CONTROL_PORT_URI);
+		Recorder c = (Recorder) bulk.getOwner();
+		c.start();
+
+		// keep the only thread of the executor service busy while the
+		// requests are queued
+		CountDownLatch gate = new CountDownLatch(1);
+		c.runTask(Recorder.EXECUTOR_URI,
+				  o -> { try {
+							gate.await();
+						 } catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+						 }
+				  });
+		for (int i = 0 ; i < 5 ; i++) {
+			bulk.record("bulk-" + i);
+		}
+		control.record("control");
+		gate.countDown();
+
+		synchronized (c.tags) {
+			long end = System.currentTimeMillis() + 5000L;
+			while (c.tags.size() < 6 && System.currentTimeMillis() < end) {
+				c.tags.wait(100L);
+			}
+			Assertions.assertEquals(6, c.tags.size());
+			Assertions.assertEquals("control", c.tags.get(0));
+			for (int i = 0 ; i < 5 ; i++) {
+				Assertions.assertEquals("bulk-" + i, c.tags.get(i + 1));
+			}
+		}
+		c.finalise();
+		c.shutdown();
+	}
+
+	@Test
+	public void			testBindPriorityRestores() throws Exception
+	{
+		Assertions.assertEquals(PrioritisedI.UNSPECIFIED,
+								PriorityExecutorService.currentPriority());
+		int outer = PriorityExecutorService.bindPriority(PrioritisedI.NORMAL);
+		try {
+			Assertions.assertEquals(PrioritisedI.UNSPECIFIED, outer);
+			Assertions.assertEquals(PrioritisedI.NORMAL,
+									PriorityExecutorService.currentPriority());
+			int inner = PriorityExecutorService.bindPriority(PrioritisedI.HIGH);
+			try {
+				Assertions.assertEquals(PrioritisedI.NORMAL, inner);
+				Assertions.assertEquals(
+								PrioritisedI.HIGH,
+								PriorityExecutorService.currentPriority());
+			} finally {
+				PriorityExecutorService.bindPriority(inner);
+			}
+			Assertions.assertEquals(PrioritisedI.NORMAL,
+									PriorityExecutorService.currentPriority());
+		} finally {
+			PriorityExecutorService.bindPriority(outer);
+		}
+		Assertions.assertEquals(PrioritisedI.UNSPECIFIED,
+								PriorityExecutorService.currentPriority());
+	}
+}
+// -----------------------------------------------------------------------------
@@ -38,9 +38,13 @@ import fr.sorbonne_u.components.annotations.OfferedInterfaces;
 import fr.sorbonne_u.components.cvm.AbstractCVM;
 import fr.sorbonne_u.components.exceptions.ComponentShutdownException;
 import fr.sorbonne_u.components.pre.dcc.interfaces.DynamicComponentCreationCI;
+import fr.sorbonne_u.components.pre.dcc.interfaces.DynamicComponentCreationCI.Outcome;
 import fr.sorbonne_u.components.pre.dcc.ports.DynamicComponentCreationInboundPort;
 import fr.sorbonne_u.exceptions.PostconditionException;
 import fr.sorbonne_u.exceptions.PreconditionException;
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 // -----------------------------------------------------------------------------
 /**
@@ -51,6 +55,17 @@ import fr.sorbonne_u.exceptions.PreconditionException;
  *
  * <p><strong>Description</strong></p>
  * 
+ * <p>
+ * The batch services <code>createOtherComponents</code> and
+ * <code>startComponents</code> fan out the creations and the starts of their
+ * components as tasks on the executor service of URI
+ * <code>BATCH_HANDLER_URI</code>, so that the latencies of the constructors
+ * and start methods (port publications, connections through the registry,
+ * ...) overlap, and then wait for all of them to compute one outcome per
+ * component. The number of threads of this executor service is given by
+ * <code>NB_BATCH_THREADS</code>, that can be set before the deployment.
+ * </p>
+ * 
  * <p><strong>Invariant</strong></p>
  * 
  * <pre>
@@ -65,6 +80,14 @@ import fr.sorbonne_u.exceptions.PreconditionException;
 public class			DynamicComponentCreator
 extends		AbstractComponent
 {
+	/** URI of the executor service performing the batch operations.		*/
+	public static final String	BATCH_HANDLER_URI = "dcc-batch-handler" ;
+	/** number of threads of the executor service performing the batch
+	 *  operations; as creations and starts are mostly waiting for remote
+	 *  calls, it exceeds the number of processors.						*/
+	public static int			NB_BATCH_THREADS =
+						2 * Runtime.getRuntime().availableProcessors() ;
+
 	/** the inbound port offering the component services.					*/
 	protected DynamicComponentCreationInboundPort	p ;
 
@@ -96,6 +119,8 @@ extends		AbstractComponent
 		this.p = new DynamicComponentCreationInboundPort(
 								dynamicComponentCreationInboundPortURI, this) ;
 		this.p.publishPort() ;
+		this.createNewExecutorService(
+						BATCH_HANDLER_URI, Math.max(1, NB_BATCH_THREADS), false) ;
 	}
 
 	// -------------------------------------------------------------------------
@@ -169,6 +194,49 @@ extends		AbstractComponent
 		return componentURI ;
 	}
 
+	/**
+	 * create concurrently the components from the classes of the given class
+	 * names, invoking for each the constructor matching the parameters at the
+	 * same index.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code classnames != null && constructorParams != null}
+	 * pre	{@code classnames.length == constructorParams.length}
+	 * post	{@code ret != null && ret.length == classnames.length}
+	 * </pre>
+	 *
+	 * @param classnames		names of the classes from which to instantiate the components.
+	 * @param constructorParams	parameters to be passed to the constructors of the components.
+	 * @return					the outcomes of the creations, in the order of the parameters.
+	 * @throws Exception		<i>to do.</i>
+	 */
+	public Outcome[]	createOtherComponents(
+		String[] classnames,
+		Object[][] constructorParams
+		) throws Exception
+	{
+		assert	classnames != null && constructorParams != null :
+					new PreconditionException(
+							"DynamicComponentCreator on the JVM " + 
+							AbstractCVM.getThisJVMURI() +
+							" tries to create components with null class "
+							+ "names or parameters!");
+		assert	classnames.length == constructorParams.length :
+					new PreconditionException(
+							"DynamicComponentCreator on the JVM " + 
+							AbstractCVM.getThisJVMURI() +
+							" tries to create components with " +
+							classnames.length + " class names but " +
+							constructorParams.length + " arrays of parameters!");
+
+		return this.performBatch(
+					new String[classnames.length],
+					i -> this.createOtherComponent(classnames[i],
+												   constructorParams[i])) ;
+	}
+
 	/**
 	 * start a previously created component on the CVM executing this method.
 	 * 
@@ -208,6 +276,37 @@ extends		AbstractComponent
 							componentURI + "but still is not!") ;
 	}
 	
+	/**
+	 * start concurrently previously created components on the CVM executing
+	 * this method.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code componentURIs != null}
+	 * post	{@code ret != null && ret.length == componentURIs.length}
+	 * </pre>
+	 *
+	 * @param componentURIs	URIs of the reflection inbound ports of the created components.
+	 * @return				the outcomes of the starts, in the order of the URIs.
+	 * @throws Exception	<i>to do.</i>
+	 */
+	public Outcome[]	startComponents(String[] componentURIs)
+	throws Exception
+	{
+		assert	componentURIs != null :
+					new PreconditionException(
+							"DynamicComponentCreator on the JVM " + 
+							AbstractCVM.getThisJVMURI() +
+							" tries to start components with a null array "
+							+ "of URIs!");
+
+		return this.performBatch(
+					componentURIs,
+					i -> { this.startComponent(componentURIs[i]) ;
+						   return componentURIs[i] ; }) ;
+	}
+
 	/**
 	 * make the execute method of the component run as a task.
 	 * 
@@ -246,6 +345,44 @@ extends		AbstractComponent
 		AbstractCVM.getCVM().executeComponent(componentURI) ;
 	}
 
+	/**
+	 * make the execute methods of the components run as tasks; as each
+	 * execution is only submitted to its component, they are launched in
+	 * sequence.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code componentURIs != null}
+	 * post	{@code ret != null && ret.length == componentURIs.length}
+	 * </pre>
+	 *
+	 * @param componentURIs	URIs of the components to be executed.
+	 * @return				the outcomes of the launches, in the order of the URIs.
+	 * @throws Exception	<i>to do.</i>
+	 */
+	public Outcome[]	executeComponents(String[] componentURIs)
+	throws Exception
+	{
+		assert	componentURIs != null :
+					new PreconditionException(
+							"DynamicComponentCreator on the JVM " + 
+							AbstractCVM.getThisJVMURI() +
+							" tries to execute components with a null array "
+							+ "of URIs!");
+
+		Outcome[] ret = new Outcome[componentURIs.length] ;
+		for (int i = 0 ; i < componentURIs.length ; i++) {
+			try {
+				this.executeComponent(componentURIs[i]) ;
+				ret[i] = new Outcome(componentURIs[i], null) ;
+			} catch (Exception | AssertionError e) {
+				ret[i] = new Outcome(componentURIs[i], e) ;
+			}
+		}
+		return ret ;
+	}
+
 	/**
 	 * finalise the component.
 	 * 
@@ -525,5 +662,90 @@ extends		AbstractComponent
 
 		return AbstractCVM.getCVM().isTerminatedComponent(componentURI) ;
 	}
+
+	// -------------------------------------------------------------------------
+	// Batch operations internals
+	// -------------------------------------------------------------------------
+
+	/**
+	 * The interface <code>BatchOperation</code> declares the operation
+	 * performed on the component of some index in a batch.
+	 *
+	 * <p>Created on : 2026-10-19</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	@FunctionalInterface
+	protected static interface	BatchOperation
+	{
+		/**
+		 * perform the operation on the component of index <code>i</code>
+		 * and return the URI of its reflection inbound port.
+		 *
+		 * @param i				index of the component in the batch.
+		 * @return				the URI of the reflection inbound port of the component.
+		 * @throws Exception	<i>to do.</i>
+		 */
+		public String		perform(int i) throws Exception ;
+	}
+
+	/**
+	 * perform the operation on each of the components of a batch as tasks
+	 * run concurrently by the executor service <code>BATCH_HANDLER_URI</code>,
+	 * wait for all of them and return their outcomes; a failing operation
+	 * gives an outcome carrying its failure and the URI of the component at
+	 * the same index in <code>componentURIs</code>, if any.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code componentURIs != null && op != null}
+	 * post	{@code ret != null && ret.length == componentURIs.length}
+	 * </pre>
+	 *
+	 * @param componentURIs	URIs of the components when known, null elements otherwise.
+	 * @param op			operation to be performed on each component.
+	 * @return				the outcomes of the operations, in the order of the components.
+	 * @throws Exception	<i>to do.</i>
+	 */
+	protected Outcome[]	performBatch(String[] componentURIs, BatchOperation op)
+	throws Exception
+	{
+		assert	componentURIs != null && op != null ;
+
+		final Outcome[] ret = new Outcome[componentURIs.length] ;
+		Future<?>[] fs = new Future<?>[componentURIs.length] ;
+		for (int i = 0 ; i < componentURIs.length ; i++) {
+			final int index = i ;
+			fs[i] = this.runTaskOnComponent(
+						BATCH_HANDLER_URI,
+						new AbstractComponent.AbstractTask() {
+							@Override
+							public void run() {
+								try {
+									ret[index] =
+										new Outcome(op.perform(index), null) ;
+								} catch (InvocationTargetException e) {
+									// report the failure of the constructor
+									ret[index] =
+										new Outcome(componentURIs[index],
+													e.getCause() != null ?
+														e.getCause() : e) ;
+								} catch (Throwable e) {
+									ret[index] =
+										new Outcome(componentURIs[index], e) ;
+								}
+							}
+						}) ;
+		}
+		for (int i = 0 ; i < fs.length ; i++) {
+			try {
+				fs[i].get() ;
+			} catch (ExecutionException e) {
+				ret[i] = new Outcome(componentURIs[i], e.getCause()) ;
+			}
+		}
+		return ret ;
+	}
 }
 // -----------------------------------------------------------------------------
@@ -35,6 +35,7 @@ package fr.sorbonne_u.components.pre.dcc.connectors;
 
 import fr.sorbonne_u.components.connectors.AbstractConnector;
 import fr.sorbonne_u.components.pre.dcc.interfaces.DynamicComponentCreationCI;
+import fr.sorbonne_u.components.pre.dcc.interfaces.DynamicComponentCreationCI.Outcome;
 
 // -----------------------------------------------------------------------------
 /**
@@ -71,6 +72,19 @@ implements	DynamicComponentCreationCI
 							createComponent(classname, constructorParams) ;
 	}
 
+	/**
+	 * @see fr.sorbonne_u.components.pre.dcc.interfaces.DynamicComponentCreationCI#createComponents(java.lang.String[], java.lang.Object[][])
+	 */
+	@Override
+	public Outcome[]	createComponents(
+		String[] classnames,
+		Object[][] constructorParams
+		) throws Exception
+	{
+		return ((DynamicComponentCreationCI)this.offering).
+							createComponents(classnames, constructorParams) ;
+	}
+
 	/**
 	 * @see fr.sorbonne_u.components.pre.dcc.interfaces.DynamicComponentCreationCI#startComponent(java.lang.String)
 	 */
@@ -82,6 +96,17 @@ implements	DynamicComponentCreationCI
 									startComponent(reflectionInboundPortURI) ;
 	}
 
+	/**
+	 * @see fr.sorbonne_u.components.pre.dcc.interfaces.DynamicComponentCreationCI#startComponents(java.lang.String[])
+	 */
+	@Override
+	public Outcome[]	startComponents(String[] componentURIs)
+	throws Exception
+	{
+		return ((DynamicComponentCreationCI)this.offering).
+									startComponents(componentURIs) ;
+	}
+
 	/**
 	 * @see fr.sorbonne_u.components.pre.dcc.interfaces.DynamicComponentCreationCI#executeComponent(java.lang.String)
 	 */
@@ -92,6 +117,17 @@ implements	DynamicComponentCreationCI
 									executeComponent(componentURI) ;
 	}
 
+	/**
+	 * @see fr.sorbonne_u.components.pre.dcc.interfaces.DynamicComponentCreationCI#executeComponents(java.lang.String[])
+	 */
+	@Override
+	public Outcome[]	executeComponents(String[] componentURIs)
+	throws Exception
+	{
+		return ((DynamicComponentCreationCI)this.offering).
+									executeComponents(componentURIs) ;
+	}
+
 	/**
 	 * @see fr.sorbonne_u.components.pre.dcc.interfaces.DynamicComponentCreationCI#finaliseComponent(java.lang.String)
 	 */
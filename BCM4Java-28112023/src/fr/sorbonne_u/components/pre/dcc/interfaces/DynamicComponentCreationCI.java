@@ -35,6 +35,7 @@ package fr.sorbonne_u.components.pre.dcc.interfaces;
 
 import fr.sorbonne_u.components.interfaces.OfferedCI;
 import fr.sorbonne_u.components.interfaces.RequiredCI;
+import java.io.Serializable;
 
 // -----------------------------------------------------------------------------
 /**
@@ -47,6 +48,16 @@ import fr.sorbonne_u.components.interfaces.RequiredCI;
  * dynamic component creator components, and used as required interface by
  * components that want to use this service.
  * 
+ * <p>
+ * Besides the operations on one component, batch operations create, start
+ * and execute several components in one call, the creations and the starts
+ * being performed concurrently on the virtual machine of the creator. They
+ * return one <code>Outcome</code> per component, in the order of their
+ * parameters, telling whether the operation succeeded or why it failed, so
+ * that one failure does not prevent the other components from being
+ * processed.
+ * </p>
+ * 
  * <p>Created on : 2014-03-13</p>
  * 
  * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
@@ -55,6 +66,104 @@ public interface		DynamicComponentCreationCI
 extends		OfferedCI,
 			RequiredCI
 {
+	// -------------------------------------------------------------------------
+	// Inner types and classes
+	// -------------------------------------------------------------------------
+
+	/**
+	 * The class <code>Outcome</code> represents the outcome of a batch
+	 * operation for one component: the URI of the reflection inbound port of
+	 * the component, when known, and the failure if the operation failed.
+	 *
+	 * <p><strong>Invariant</strong></p>
+	 * 
+	 * <pre>
+	 * invariant	{@code isSuccessful() == (getFailure() == null)}
+	 * invariant	{@code !isSuccessful() || getComponentURI() != null}
+	 * </pre>
+	 * 
+	 * <p>Created on : 2026-10-19</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	public static class	Outcome
+	implements	Serializable
+	{
+		private static final long serialVersionUID = 1L;
+		/** URI of the reflection inbound port of the component or null if
+		 *  its creation failed.											*/
+		protected final String		componentURI;
+		/** failure of the operation or null if it succeeded.				*/
+		protected final Throwable	failure;
+
+		/**
+		 * create an outcome.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code componentURI != null || failure != null}
+		 * post	{@code getComponentURI() == componentURI}
+		 * post	{@code getFailure() == failure}
+		 * </pre>
+		 *
+		 * @param componentURI	URI of the reflection inbound port of the component or null.
+		 * @param failure		failure of the operation or null if it succeeded.
+		 */
+		public			Outcome(String componentURI, Throwable failure)
+		{
+			assert	componentURI != null || failure != null ;
+
+			this.componentURI = componentURI ;
+			this.failure = failure ;
+		}
+
+		/**
+		 * return true if the operation succeeded.
+		 * 
+		 * @return	true if the operation succeeded.
+		 */
+		public boolean		isSuccessful()
+		{
+			return this.failure == null ;
+		}
+
+		/**
+		 * return the URI of the reflection inbound port of the component or
+		 * null if its creation failed.
+		 * 
+		 * @return	the URI of the reflection inbound port of the component or null.
+		 */
+		public String		getComponentURI()
+		{
+			return this.componentURI ;
+		}
+
+		/**
+		 * return the failure of the operation or null if it succeeded.
+		 * 
+		 * @return	the failure of the operation or null if it succeeded.
+		 */
+		public Throwable	getFailure()
+		{
+			return this.failure ;
+		}
+
+		/**
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String		toString()
+		{
+			return "Outcome[" + this.componentURI +
+						(this.failure == null ? "" : ", " + this.failure) + "]" ;
+		}
+	}
+
+	// -------------------------------------------------------------------------
+	// Signatures
+	// -------------------------------------------------------------------------
+
 	/**
 	 * create a component from the class of the given class name, invoking its
 	 * constructor matching the given parameters ; beware not to have parameters
@@ -79,6 +188,30 @@ extends		OfferedCI,
 		String classname,
 		Object[] constructorParams
 		) throws Exception ;
+
+	/**
+	 * create concurrently the components from the classes of the given class
+	 * names, invoking for each the constructor matching the parameters at the
+	 * same index; the outcomes give the URIs of the reflection inbound ports
+	 * of the created components in the same order.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code classnames != null && constructorParams != null}
+	 * pre	{@code classnames.length == constructorParams.length}
+	 * post	{@code ret != null && ret.length == classnames.length}
+	 * </pre>
+	 *
+	 * @param classnames		names of the classes from which to instantiate the components.
+	 * @param constructorParams	parameters to be passed to the constructors of the components.
+	 * @return					the outcomes of the creations.
+	 * @throws Exception		<i>todo.</i>
+	 */
+	public Outcome[]	createComponents(
+		String[] classnames,
+		Object[][] constructorParams
+		) throws Exception ;
 	
 	/**
 	 * start a previously created component on the CVM executing this method.
@@ -96,6 +229,24 @@ extends		OfferedCI,
 	 */
 	public void			startComponent(String componentURI)
 	throws Exception ;
+
+	/**
+	 * start concurrently previously created components on the CVM executing
+	 * this method.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code componentURIs != null}
+	 * post	{@code ret != null && ret.length == componentURIs.length}
+	 * </pre>
+	 *
+	 * @param componentURIs	URIs of the reflection inbound ports of the created components.
+	 * @return				the outcomes of the starts.
+	 * @throws Exception	<i>todo.</i>
+	 */
+	public Outcome[]	startComponents(String[] componentURIs)
+	throws Exception ;
 	
 	/**
 	 * make the execute method of the component run as a task.
@@ -115,6 +266,23 @@ extends		OfferedCI,
 	public void			executeComponent(String componentURI)
 	throws Exception ;
 
+	/**
+	 * make the execute method of the components run as tasks.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code componentURIs != null}
+	 * post	{@code ret != null && ret.length == componentURIs.length}
+	 * </pre>
+	 *
+	 * @param componentURIs	URIs of the components to be executed.
+	 * @return				the outcomes of the launches of the executions.
+	 * @throws Exception	<i>to do.</i>
+	 */
+	public Outcome[]	executeComponents(String[] componentURIs)
+	throws Exception ;
+
 	/**
 	 * finalise the component.
 	 * 
@@ -38,6 +38,7 @@ import fr.sorbonne_u.components.ComponentI;
 import fr.sorbonne_u.components.ports.AbstractInboundPort;
 import fr.sorbonne_u.components.pre.dcc.DynamicComponentCreator;
 import fr.sorbonne_u.components.pre.dcc.interfaces.DynamicComponentCreationCI;
+import fr.sorbonne_u.components.pre.dcc.interfaces.DynamicComponentCreationCI.Outcome;
 
 // -----------------------------------------------------------------------------
 /**
@@ -86,7 +87,7 @@ implements	DynamicComponentCreationCI
 		Object[] constructorParams
 		) throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 				new AbstractComponent.AbstractService<String>() {
 					@Override
 					public String call() throws Exception {
@@ -98,6 +99,27 @@ implements	DynamicComponentCreationCI
 				}) ;
 	}
 
+	/**
+	 * @see fr.sorbonne_u.components.pre.dcc.interfaces.DynamicComponentCreationCI#createComponents(java.lang.String[], java.lang.Object[][])
+	 */
+	@Override
+	public Outcome[]	createComponents(
+		String[] classnames,
+		Object[][] constructorParams
+		) throws Exception
+	{
+		return this.handleRequest(
+				new AbstractComponent.AbstractService<Outcome[]>() {
+					@Override
+					public Outcome[] call() throws Exception {
+						return ((DynamicComponentCreator)this.getServiceOwner()).
+									createOtherComponents(
+											classnames,
+											constructorParams) ;
+					}
+				}) ;
+	}
+
 	/**
 	 * @see fr.sorbonne_u.components.pre.dcc.interfaces.DynamicComponentCreationCI#startComponent(java.lang.String)
 	 */
@@ -105,7 +127,7 @@ implements	DynamicComponentCreationCI
 	public void			startComponent(String reflectionInboundPortURI)
 	throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 				new AbstractComponent.AbstractService<Void>() {
 					@Override
 					public Void call() throws Exception {
@@ -117,13 +139,31 @@ implements	DynamicComponentCreationCI
 				}) ;
 	}
 
+	/**
+	 * @see fr.sorbonne_u.components.pre.dcc.interfaces.DynamicComponentCreationCI#startComponents(java.lang.String[])
+	 */
+	@Override
+	public Outcome[]	startComponents(String[] componentURIs)
+	throws Exception
+	{
+		return this.handleRequest(
+				new AbstractComponent.AbstractService<Outcome[]>() {
+					@Override
+					public Outcome[] call() throws Exception {
+						return ((DynamicComponentCreator)
+									this.getServiceOwner()).
+										startComponents(componentURIs) ;
+					}
+				}) ;
+	}
+
 	/**
 	 * @see fr.sorbonne_u.components.pre.dcc.interfaces.DynamicComponentCreationCI#executeComponent(java.lang.String)
 	 */
 	@Override
 	public void			executeComponent(String componentURI) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 				new AbstractComponent.AbstractService<Void>() {
 					@Override
 					public Void call() throws Exception {
@@ -135,12 +175,30 @@ implements	DynamicComponentCreationCI
 				}) ;
 	}
 
+	/**
+	 * @see fr.sorbonne_u.components.pre.dcc.interfaces.DynamicComponentCreationCI#executeComponents(java.lang.String[])
+	 */
+	@Override
+	public Outcome[]	executeComponents(String[] componentURIs)
+	throws Exception
+	{
+		return this.handleRequest(
+				new AbstractComponent.AbstractService<Outcome[]>() {
+					@Override
+					public Outcome[] call() throws Exception {
+						return ((DynamicComponentCreator)
+									this.getServiceOwner()).
+										executeComponents(componentURIs) ;
+					}
+				}) ;
+	}
+
 	/**
 	 * @see fr.sorbonne_u.components.pre.dcc.interfaces.DynamicComponentCreationCI#finaliseComponent(java.lang.String)
 	 */
 	@Override
 	public void			finaliseComponent(String componentURI) throws Exception {
-		this.getOwner().handleRequest(
+		this.handleRequest(
 				new AbstractComponent.AbstractService<Void>() {
 					@Override
 					public Void call() throws Exception {
@@ -158,7 +216,7 @@ implements	DynamicComponentCreationCI
 	@Override
 	public void			shutdownComponent(String componentURI) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 				new AbstractComponent.AbstractService<Void>() {
 					@Override
 					public Void call() throws Exception {
@@ -177,7 +235,7 @@ implements	DynamicComponentCreationCI
 	public void			shutdownNowComponent(String componentURI)
 	throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 				new AbstractComponent.AbstractService<Void>() {
 					@Override
 					public Void call() throws Exception {
@@ -196,7 +254,7 @@ implements	DynamicComponentCreationCI
 	public boolean		isDeployedComponent(String reflectionInboundPortURI)
 	throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 				new AbstractComponent.AbstractService<Boolean>() {
 					@Override
 					public Boolean call() throws Exception {
@@ -214,7 +272,7 @@ implements	DynamicComponentCreationCI
 	@Override
 	public boolean		isStartedComponent(String componentURI) throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 				new AbstractComponent.AbstractService<Boolean>() {
 					@Override
 					public Boolean call() throws Exception {
@@ -232,7 +290,7 @@ implements	DynamicComponentCreationCI
 	public boolean		isFinalisedComponent(String componentURI)
 	throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 				new AbstractComponent.AbstractService<Boolean>() {
 					@Override
 					public Boolean call() throws Exception {
@@ -249,7 +307,7 @@ implements	DynamicComponentCreationCI
 	@Override
 	public boolean		isShutdownComponent(String componentURI) throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 				new AbstractComponent.AbstractService<Boolean>() {
 					@Override
 					public Boolean call() throws Exception {
@@ -267,7 +325,7 @@ implements	DynamicComponentCreationCI
 	public boolean		isTerminatedComponent(String componentURI)
 	throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 				new AbstractComponent.AbstractService<Boolean>() {
 					@Override
 					public Boolean call() throws Exception {
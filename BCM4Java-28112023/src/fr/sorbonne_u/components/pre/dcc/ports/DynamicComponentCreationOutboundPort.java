@@ -36,6 +36,7 @@ package fr.sorbonne_u.components.pre.dcc.ports;
 import fr.sorbonne_u.components.ComponentI;
 import fr.sorbonne_u.components.ports.AbstractOutboundPort;
 import fr.sorbonne_u.components.pre.dcc.interfaces.DynamicComponentCreationCI;
+import fr.sorbonne_u.components.pre.dcc.interfaces.DynamicComponentCreationCI.Outcome;
 
 // -----------------------------------------------------------------------------
 /**
@@ -88,6 +89,19 @@ implements	DynamicComponentCreationCI
 							createComponent(classname, constructorParams) ;
 	}
 
+	/**
+	 * @see fr.sorbonne_u.components.pre.dcc.interfaces.DynamicComponentCreationCI#createComponents(java.lang.String[], java.lang.Object[][])
+	 */
+	@Override
+	public Outcome[]	createComponents(
+		String[] classnames,
+		Object[][] constructorParams
+		) throws Exception
+	{
+		return ((DynamicComponentCreationCI)this.getConnector()).
+							createComponents(classnames, constructorParams) ;
+	}
+
 	/**
 	 * @see fr.sorbonne_u.components.pre.dcc.interfaces.DynamicComponentCreationCI#startComponent(java.lang.String)
 	 */
@@ -99,6 +113,17 @@ implements	DynamicComponentCreationCI
 								startComponent(reflectionInboundPortURI) ;
 	}
 
+	/**
+	 * @see fr.sorbonne_u.components.pre.dcc.interfaces.DynamicComponentCreationCI#startComponents(java.lang.String[])
+	 */
+	@Override
+	public Outcome[]	startComponents(String[] componentURIs)
+	throws Exception
+	{
+		return ((DynamicComponentCreationCI)this.getConnector()).
+									startComponents(componentURIs) ;
+	}
+
 	/**
 	 * @see fr.sorbonne_u.components.pre.dcc.interfaces.DynamicComponentCreationCI#executeComponent(java.lang.String)
 	 */
@@ -109,6 +134,17 @@ implements	DynamicComponentCreationCI
 								executeComponent(componentURI) ;
 	}
 
+	/**
+	 * @see fr.sorbonne_u.components.pre.dcc.interfaces.DynamicComponentCreationCI#executeComponents(java.lang.String[])
+	 */
+	@Override
+	public Outcome[]	executeComponents(String[] componentURIs)
+	throws Exception
+	{
+		return ((DynamicComponentCreationCI)this.getConnector()).
+									executeComponents(componentURIs) ;
+	}
+
 	/**
 	 * @see fr.sorbonne_u.components.pre.dcc.interfaces.DynamicComponentCreationCI#finaliseComponent(java.lang.String)
 	 */
@@ -37,6 +37,7 @@ import java.lang.annotation.Annotation;
 import fr.sorbonne_u.components.ComponentStateI;
 import fr.sorbonne_u.components.PluginI;
 import fr.sorbonne_u.components.connectors.AbstractConnector;
+import fr.sorbonne_u.components.helpers.ExecutorServiceMetrics;
 import fr.sorbonne_u.components.interfaces.ComponentInterface;
 import fr.sorbonne_u.components.interfaces.OfferedCI;
 import fr.sorbonne_u.components.interfaces.RequiredCI;
@@ -362,6 +363,20 @@ implements	IntrospectionCI
 		return ((IntrospectionCI)this.offering).isPortConnected(portURI);
 	}
 
+	// -------------------------------------------------------------------------
+	// Executor services metrics
+	// -------------------------------------------------------------------------
+
+	/**
+	 * @see fr.sorbonne_u.components.reflection.interfaces.IntrospectionCI#getExecutorServicesMetrics()
+	 */
+	@Override
+	public ExecutorServiceMetrics[]	getExecutorServicesMetrics()
+	throws Exception
+	{
+		return ((IntrospectionCI)this.offering).getExecutorServicesMetrics();
+	}
+
 	// -------------------------------------------------------------------------
 	// Reflection facility
 	// -------------------------------------------------------------------------
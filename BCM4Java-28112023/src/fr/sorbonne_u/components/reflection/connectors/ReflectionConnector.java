@@ -37,6 +37,7 @@ import java.lang.annotation.Annotation;
 import fr.sorbonne_u.components.ComponentStateI;
 import fr.sorbonne_u.components.PluginI;
 import fr.sorbonne_u.components.connectors.AbstractConnector;
+import fr.sorbonne_u.components.helpers.ExecutorServiceMetrics;
 import fr.sorbonne_u.components.helpers.Logger;
 import fr.sorbonne_u.components.helpers.TracerI;
 import fr.sorbonne_u.components.interfaces.ComponentInterface;
@@ -537,6 +538,20 @@ implements	ReflectionCI
 		((ReflectionCI)this.offering).doPortDisconnection(portURI);
 	}
 
+	// -------------------------------------------------------------------------
+	// Executor services metrics
+	// -------------------------------------------------------------------------
+
+	/**
+	 * @see fr.sorbonne_u.components.reflection.interfaces.IntrospectionCI#getExecutorServicesMetrics()
+	 */
+	@Override
+	public ExecutorServiceMetrics[]	getExecutorServicesMetrics()
+	throws Exception
+	{
+		return ((IntrospectionCI)this.offering).getExecutorServicesMetrics();
+	}
+
 	// -------------------------------------------------------------------------
 	// Reflection facility
 	// -------------------------------------------------------------------------
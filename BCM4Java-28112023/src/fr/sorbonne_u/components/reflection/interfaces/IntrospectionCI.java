@@ -35,6 +35,7 @@ package fr.sorbonne_u.components.reflection.interfaces;
 
 import fr.sorbonne_u.components.ComponentStateI;
 import fr.sorbonne_u.components.PluginI;
+import fr.sorbonne_u.components.helpers.ExecutorServiceMetrics;
 import fr.sorbonne_u.components.interfaces.OfferedCI;
 import fr.sorbonne_u.components.interfaces.RequiredCI;
 import fr.sorbonne_u.components.reflection.utils.ConstructorSignature;
@@ -558,6 +559,28 @@ extends		OfferedCI,
 	public boolean		isPortConnected(String portURI)
 	throws Exception;
 
+	// -------------------------------------------------------------------------
+	// Executor services metrics
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return snapshots of the metrics of the instrumented executor services
+	 * of this component, an empty array if executor services metrics were not
+	 * enabled when they were created.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true		// no precondition.
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @return				snapshots of the metrics of the instrumented executor services.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	public ExecutorServiceMetrics[]	getExecutorServicesMetrics()
+	throws Exception;
+
 	// -------------------------------------------------------------------------
 	// Reflection facility
 	// -------------------------------------------------------------------------
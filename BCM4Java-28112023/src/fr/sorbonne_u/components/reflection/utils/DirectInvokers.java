@@ -0,0 +1,585 @@
+package fr.sorbonne_u.components.reflection.utils;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import fr.sorbonne_u.components.connectors.ConnectorI;
+import fr.sorbonne_u.exceptions.PreconditionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>DirectInvokers</code> caches direct invokers for the
+ * services called by name on components and for the no-argument constructors
+ * of the connectors created from their class names.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * The methods <code>invokeService</code>, <code>invokeServiceSync</code> and
+ * <code>invokeServiceAsync</code> of <code>AbstractComponent</code> and the
+ * port connection methods taking a connector class name used to look up the
+ * method or the constructor by reflection on each call. This class performs
+ * that lookup once per component class, service name and argument types
+ * (resp. connector class name) and then keeps an invoker which calls the
+ * method (resp. constructor) directly.
+ * </p>
+ * <p>
+ * Invokers are produced with <code>LambdaMetafactory</code>: for a service
+ * with up to four parameters, the generated class calls the method with an
+ * <code>invokevirtual</code> (or <code>invokeinterface</code>) instruction,
+ * unboxing the arguments and boxing the result as needed, hence it is as fast
+ * as compiled code calling the method. Methods with more parameters, methods
+ * or classes that are not public and classes not visible from the class loader
+ * of BCM4Java get an invoker based on the cached <code>Method</code> (resp.
+ * <code>Constructor</code>) object, which still avoids the lookup.
+ * </p>
+ * <p>
+ * Contrary to <code>Method.invoke</code>, invokers do not wrap the exceptions
+ * thrown by the called method in an <code>InvocationTargetException</code>;
+ * they are rethrown as is.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant		true
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			DirectInvokers
+{
+	// -------------------------------------------------------------------------
+	// Invoker interfaces
+	// -------------------------------------------------------------------------
+
+	/**
+	 * The interface <code>ServiceInvokerI</code> is implemented by the
+	 * invokers calling a service on a target component.
+	 *
+	 * <p>Created on : 2026-10-19</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	@FunctionalInterface
+	public static interface	ServiceInvokerI
+	{
+		/**
+		 * call the service on <code>target</code> with the actual arguments
+		 * <code>args</code> and return its result or null if it is
+		 * <code>void</code>.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code target != null && args != null}
+		 * post	true		// no postcondition.
+		 * </pre>
+		 *
+		 * @param target		object on which the service is called.
+		 * @param args			actual arguments of the call.
+		 * @return				the result of the call or null if none.
+		 * @throws Exception	<i>to do</i>.
+		 */
+		public Object		invoke(Object target, Object[] args)
+		throws Exception;
+	}
+
+	/**
+	 * The interface <code>ConstructorInvokerI</code> is implemented by the
+	 * invokers calling a no-argument constructor.
+	 *
+	 * <p>Created on : 2026-10-19</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	@FunctionalInterface
+	public static interface	ConstructorInvokerI
+	{
+		/**
+		 * create a new instance.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	true		// no precondition.
+		 * post	{@code return != null}
+		 * </pre>
+		 *
+		 * @return				a new instance.
+		 * @throws Exception	<i>to do</i>.
+		 */
+		public Object		newInstance() throws Exception;
+	}
+
+	// Interfaces implemented by the classes spun by LambdaMetafactory, one
+	// per arity for services returning a result (F) and for void ones (P).
+
+	@FunctionalInterface
+	private static interface	F0 { Object invoke(Object t) throws Exception; }
+	@FunctionalInterface
+	private static interface	F1
+	{ Object invoke(Object t, Object a0) throws Exception; }
+	@FunctionalInterface
+	private static interface	F2
+	{ Object invoke(Object t, Object a0, Object a1) throws Exception; }
+	@FunctionalInterface
+	private static interface	F3
+	{ Object invoke(Object t, Object a0, Object a1, Object a2)
+	  throws Exception; }
+	@FunctionalInterface
+	private static interface	F4
+	{ Object invoke(Object t, Object a0, Object a1, Object a2, Object a3)
+	  throws Exception; }
+	@FunctionalInterface
+	private static interface	P0 { void invoke(Object t) throws Exception; }
+	@FunctionalInterface
+	private static interface	P1
+	{ void invoke(Object t, Object a0) throws Exception; }
+	@FunctionalInterface
+	private static interface	P2
+	{ void invoke(Object t, Object a0, Object a1) throws Exception; }
+	@FunctionalInterface
+	private static interface	P3
+	{ void invoke(Object t, Object a0, Object a1, Object a2)
+	  throws Exception; }
+	@FunctionalInterface
+	private static interface	P4
+	{ void invoke(Object t, Object a0, Object a1, Object a2, Object a3)
+	  throws Exception; }
+
+	/** functional interfaces for services returning a result, by arity.	*/
+	private static final Class<?>[]	FUNCTIONS =
+							new Class<?>[]{F0.class, F1.class, F2.class,
+										   F3.class, F4.class};
+	/** functional interfaces for void services, by arity.					*/
+	private static final Class<?>[]	PROCEDURES =
+							new Class<?>[]{P0.class, P1.class, P2.class,
+										   P3.class, P4.class};
+
+	// -------------------------------------------------------------------------
+	// Caches
+	// -------------------------------------------------------------------------
+
+	/**
+	 * The class <code>ServiceKey</code> identifies a service by its name and
+	 * the classes of the actual arguments used to look it up.
+	 *
+	 * <p>Created on : 2026-10-19</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	private static final class	ServiceKey
+	{
+		protected final String		name;
+		protected final Class<?>[]	argTypes;
+		protected final int			hash;
+
+		public				ServiceKey(String name, Class<?>[] argTypes)
+		{
+			this.name = name;
+			this.argTypes = argTypes;
+			this.hash = 31 * name.hashCode() + Arrays.hashCode(argTypes);
+		}
+
+		@Override
+		public int			hashCode()
+		{
+			return this.hash;
+		}
+
+		@Override
+		public boolean		equals(Object o)
+		{
+			if (!(o instanceof ServiceKey)) {
+				return false;
+			}
+			ServiceKey k = (ServiceKey) o;
+			return this.hash == k.hash && this.name.equals(k.name) &&
+				   Arrays.equals(this.argTypes, k.argTypes);
+		}
+	}
+
+	/** lookup used to produce the invokers.								*/
+	private static final MethodHandles.Lookup	LOOKUP =
+													MethodHandles.lookup();
+	/** service invokers per component class.								*/
+	private static final ClassValue<ConcurrentHashMap<ServiceKey,
+													  ServiceInvokerI>>
+								SERVICE_INVOKERS =
+			new ClassValue<ConcurrentHashMap<ServiceKey,ServiceInvokerI>>() {
+				@Override
+				protected ConcurrentHashMap<ServiceKey,ServiceInvokerI>
+														computeValue(Class<?> c)
+				{
+					return new ConcurrentHashMap<>();
+				}
+			};
+	/** constructor invokers per class name.								*/
+	private static final ConcurrentHashMap<String,ConstructorInvokerI>
+								CONSTRUCTOR_INVOKERS =
+											new ConcurrentHashMap<>();
+
+	// -------------------------------------------------------------------------
+	// Static methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return the invoker for the public method named <code>name</code> that
+	 * <code>getMethod</code> finds in <code>targetClass</code> for the
+	 * arguments <code>args</code>, creating it on the first call.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code targetClass != null && name != null && args != null}
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param targetClass			class of the object on which the service is called.
+	 * @param name					name of the service.
+	 * @param args					actual arguments of the call, which must not be null.
+	 * @return						the invoker for the service.
+	 * @throws NoSuchMethodException	if no such public method exists.
+	 */
+	public static ServiceInvokerI	serviceInvoker(
+		Class<?> targetClass,
+		String name,
+		Object[] args
+		) throws NoSuchMethodException
+	{
+		assert	targetClass != null && name != null && args != null :
+				new PreconditionException(
+						"targetClass != null && name != null && args != null");
+
+		Class<?>[] argTypes = new Class<?>[args.length];
+		for (int i = 0; i < args.length; i++) {
+			argTypes[i] = args[i].getClass();
+		}
+		ServiceKey key = new ServiceKey(name, argTypes);
+		ConcurrentHashMap<ServiceKey,ServiceInvokerI> invokers =
+										SERVICE_INVOKERS.get(targetClass);
+		ServiceInvokerI ret = invokers.get(key);
+		if (ret == null) {
+			ret = makeServiceInvoker(targetClass.getMethod(name, argTypes));
+			ServiceInvokerI previous = invokers.putIfAbsent(key, ret);
+			if (previous != null) {
+				ret = previous;
+			}
+		}
+		return ret;
+	}
+
+	/**
+	 * call the public method named <code>name</code> on <code>target</code>
+	 * with the actual arguments <code>args</code>, the method being found as
+	 * <code>target.getClass().getMethod</code> would with the classes of the
+	 * arguments.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code target != null && name != null && args != null}
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @param target		object on which the service is called.
+	 * @param name			name of the service.
+	 * @param args			actual arguments of the call, which must not be null.
+	 * @return				the result of the call or null if none.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	public static Object	invokeService(
+		Object target,
+		String name,
+		Object[] args
+		) throws Exception
+	{
+		return serviceInvoker(target.getClass(), name, args).
+													invoke(target, args);
+	}
+
+	/**
+	 * create a new instance of the class named <code>ccname</code> through
+	 * its public no-argument constructor, the invoker being created on the
+	 * first call.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code ccname != null}
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param ccname		name of a connector class.
+	 * @return				a new instance of the connector class.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	public static ConnectorI	newConnector(String ccname) throws Exception
+	{
+		assert	ccname != null : new PreconditionException("ccname != null");
+
+		ConstructorInvokerI inv = CONSTRUCTOR_INVOKERS.get(ccname);
+		if (inv == null) {
+			inv = makeConstructorInvoker(Class.forName(ccname));
+			ConstructorInvokerI previous =
+								CONSTRUCTOR_INVOKERS.putIfAbsent(ccname, inv);
+			if (previous != null) {
+				inv = previous;
+			}
+		}
+		return (ConnectorI) inv.newInstance();
+	}
+
+	// -------------------------------------------------------------------------
+	// Invoker generation
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return true if <code>c</code> is public and resolves to itself from the
+	 * class loader of this class, hence can be called directly from a class
+	 * spun by <code>LambdaMetafactory</code> with <code>LOOKUP</code>.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code c != null}
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @param c	class to be tested.
+	 * @return	true if <code>c</code> can be used in a direct call site.
+	 */
+	private static boolean	isDirectlyUsable(Class<?> c)
+	{
+		while (c.isArray()) {
+			c = c.getComponentType();
+		}
+		if (c.isPrimitive()) {
+			return true;
+		}
+		if (!java.lang.reflect.Modifier.isPublic(c.getModifiers())) {
+			return false;
+		}
+		try {
+			return Class.forName(c.getName(), false,
+								 DirectInvokers.class.getClassLoader()) == c;
+		} catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+
+	/**
+	 * create an invoker for the method <code>m</code>.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code m != null}
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param m	method to be called by the invoker.
+	 * @return	an invoker calling <code>m</code>.
+	 */
+	private static ServiceInvokerI	makeServiceInvoker(Method m)
+	{
+		Class<?>[] pTypes = m.getParameterTypes();
+		boolean direct =
+				pTypes.length < FUNCTIONS.length &&
+				java.lang.reflect.Modifier.isPublic(m.getModifiers()) &&
+				isDirectlyUsable(m.getDeclaringClass()) &&
+				isDirectlyUsable(m.getReturnType());
+		for (int i = 0; direct && i < pTypes.length; i++) {
+			direct = isDirectlyUsable(pTypes[i]);
+		}
+		if (direct) {
+			try {
+				return makeDirectServiceInvoker(m);
+			} catch (Throwable t) {
+				// fall back to the reflective invoker below
+			}
+		}
+		return (target, args) -> {
+					try {
+						return m.invoke(target, args);
+					} catch (InvocationTargetException e) {
+						throw unwrap(e);
+					}
+				};
+	}
+
+	/**
+	 * create an invoker for the method <code>m</code> through
+	 * <code>LambdaMetafactory</code>.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code m != null && m.getParameterCount() < FUNCTIONS.length}
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param m				method to be called by the invoker.
+	 * @return				an invoker calling <code>m</code>.
+	 * @throws Throwable	if the invoker can not be generated.
+	 */
+	private static ServiceInvokerI	makeDirectServiceInvoker(Method m)
+	throws Throwable
+	{
+		MethodHandle target = LOOKUP.unreflect(m);
+		int arity = m.getParameterTypes().length;
+		boolean isVoid = m.getReturnType() == void.class;
+		Class<?> sam = isVoid ? PROCEDURES[arity] : FUNCTIONS[arity];
+		MethodType erased =
+				MethodType.genericMethodType(arity + 1).
+								changeReturnType(isVoid ? void.class
+														: Object.class);
+		MethodType instantiated = target.type().wrap();
+		instantiated = instantiated.changeReturnType(
+								isVoid ? void.class
+									   : target.type().wrap().returnType());
+		CallSite site = LambdaMetafactory.metafactory(
+							LOOKUP, "invoke", MethodType.methodType(sam),
+							erased, target, instantiated);
+		Object f = site.getTarget().invoke();
+
+		switch (arity + (isVoid ? FUNCTIONS.length : 0)) {
+		case 0:
+			return (t, a) -> ((F0)f).invoke(t);
+		case 1:
+			return (t, a) -> ((F1)f).invoke(t, a[0]);
+		case 2:
+			return (t, a) -> ((F2)f).invoke(t, a[0], a[1]);
+		case 3:
+			return (t, a) -> ((F3)f).invoke(t, a[0], a[1], a[2]);
+		case 4:
+			return (t, a) -> ((F4)f).invoke(t, a[0], a[1], a[2], a[3]);
+		case 5:
+			return (t, a) -> { ((P0)f).invoke(t); return null; };
+		case 6:
+			return (t, a) -> { ((P1)f).invoke(t, a[0]); return null; };
+		case 7:
+			return (t, a) -> { ((P2)f).invoke(t, a[0], a[1]); return null; };
+		case 8:
+			return (t, a) -> { ((P3)f).invoke(t, a[0], a[1], a[2]);
+							   return null; };
+		default:
+			return (t, a) -> { ((P4)f).invoke(t, a[0], a[1], a[2], a[3]);
+							   return null; };
+		}
+	}
+
+	/**
+	 * create an invoker for the public no-argument constructor of
+	 * <code>c</code>.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code c != null}
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param c							class to be instantiated.
+	 * @return							an invoker calling the constructor.
+	 * @throws NoSuchMethodException	if <code>c</code> has no public no-argument constructor.
+	 */
+	private static ConstructorInvokerI	makeConstructorInvoker(Class<?> c)
+	throws NoSuchMethodException
+	{
+		Constructor<?> cons = c.getConstructor(new Class<?>[]{});
+		if (isDirectlyUsable(c)) {
+			try {
+				MethodHandle target =
+					LOOKUP.findConstructor(c, MethodType.methodType(void.class));
+				CallSite site = LambdaMetafactory.metafactory(
+							LOOKUP, "newInstance",
+							MethodType.methodType(ConstructorInvokerI.class),
+							MethodType.methodType(Object.class),
+							target,
+							MethodType.methodType(c));
+				return (ConstructorInvokerI) site.getTarget().invoke();
+			} catch (Throwable t) {
+				// fall back to the reflective invoker below
+			}
+		}
+		return () -> {
+					try {
+						return cons.newInstance();
+					} catch (InvocationTargetException e) {
+						throw unwrap(e);
+					}
+				};
+	}
+
+	/**
+	 * return the exception to be rethrown in place of <code>e</code>,
+	 * throwing directly the errors.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code e != null}
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param e	exception thrown by a reflective call.
+	 * @return	the exception to be rethrown.
+	 */
+	private static Exception	unwrap(InvocationTargetException e)
+	{
+		Throwable cause = e.getCause();
+		if (cause instanceof Exception) {
+			return (Exception) cause;
+		} else if (cause instanceof Error) {
+			throw (Error) cause;
+		} else {
+			return e;
+		}
+	}
+}
+// -----------------------------------------------------------------------------
@@ -185,6 +185,39 @@ public class			ConnectionData
 		return this.port;
 	}
 
+	/**
+	 * two connection data are equal when they designate the same RMI
+	 * registry host or the same socket end point; the port of an RMI
+	 * connection data is not significant, as it is not transmitted by the
+	 * global registry.
+	 * 
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean		equals(Object o)
+	{
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof ConnectionData)) {
+			return false;
+		}
+		ConnectionData other = (ConnectionData) o;
+		return this.type == other.type &&
+			   this.hostname.equals(other.hostname) &&
+			   (this.type == ConnectionType.RMI || this.port == other.port);
+	}
+
+	/**
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int			hashCode()
+	{
+		int h = 31 * this.type.hashCode() + this.hostname.hashCode();
+		return this.type == ConnectionType.RMI ? h : 31 * h + this.port;
+	}
+
 	/**
 	 * @see java.lang.Object#toString()
 	 */
@@ -32,29 +32,36 @@ package fr.sorbonne_u.components.registry;
 //
 // The fact that you are presently reading this means that you have had
 // knowledge of the CeCILL-C license and that you accept its terms.
-
-import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.PrintStream;
-import java.net.ServerSocket;
-import java.net.Socket;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import fr.sorbonne_u.components.cvm.AbstractCVM;
 import fr.sorbonne_u.components.cvm.config.ConfigurationFileParser;
 import fr.sorbonne_u.components.cvm.config.ConfigurationParameters;
 import fr.sorbonne_u.components.cvm.config.exceptions.InvalidConfigurationFileFormatException;
+import fr.sorbonne_u.components.cvm.transport.CallEnvelope;
 import fr.sorbonne_u.components.helpers.CVMDebugModes;
 import fr.sorbonne_u.components.helpers.Logger;
 import fr.sorbonne_u.components.helpers.TracerWindow;
-import fr.sorbonne_u.components.registry.protocol.Request;
-import fr.sorbonne_u.components.registry.protocol.RequestI;
-import fr.sorbonne_u.components.registry.protocol.ShutdownRequest;
+import fr.sorbonne_u.components.registry.protocol.RegistryFrames;
 import fr.sorbonne_u.exceptions.PreconditionException;
 
 // -----------------------------------------------------------------------------
@@ -74,27 +81,42 @@ import fr.sorbonne_u.exceptions.PreconditionException;
  * <code>REGISTRY_PORT</code>
  * </p>
  * <p>
- * Protocol (spaces are used to split the strings, so they are meaningful):
+ * Requests and responses are length-prefixed binary frames which format is
+ * defined by <code>RegistryFrames</code>:
  * </p>
  * <pre>
  * Requests              Responses
  * 
- * lookup key            lookup ok value
- *                       lookup nok key
- * put key value         put ok
- *                       put nok key
- * remove key            remove ok
- *                       remove nok key
- * shutdown              shutdown ok
- * anything else         error request
+ * lookup key            ok value | nok key
+ * put key value         ok | nok key
+ * remove key            ok | nok key
+ * lookup key*           (ok value | nok key)*
+ * put (key value)*      (ok | nok key)*
+ * owner jvmURI          ok
+ * owned jvmURI          (key value)*
+ * shutdown              shutdown
+ * anything else         error message
  * </pre>
  * <p>
- * This protocol is implemented with two command design patterns, one for the
- * requests, one for the responses.
+ * The registry runs a single selector thread that accepts the connections
+ * of the JVM, reads their frames and executes the requests as soon as they
+ * are complete, since they only access the directory in memory. Each
+ * request carries an identifier copied in its response, so that clients
+ * may send new requests without waiting for the responses to the previous
+ * ones; the batch requests allow a client to publish or look up many ports
+ * in one round trip. The registry terminates when each of the JVM of the
+ * distributed component virtual machine has closed its connection, either
+ * explicitly with a shutdown request or implicitly by closing the socket.
+ * </p>
+ * <p>
+ * The registry records the keys put by each client that has declared the
+ * URI of its JVM, so that a client can fetch all of the ports published by
+ * a JVM in one request, and it pushes the removal of a key to all of the
+ * connected clients so that they can keep a cache of the bindings.
  * </p>
  * <p>
- * When the static variable <code>DEBUG</code> is set to true, the registry
- * provides with a log on STDOUT of the commands it executes.
+ * When the static variable <code>GLOBAL_REGISTRY_IS_LOGGING</code> is set to
+ * true, the registry provides with a log of the commands it executes.
  * </p>
  * 
  * <p><strong>Invariant</strong></p>
@@ -120,6 +142,11 @@ public class				GlobalRegistry
 	/** Default port number listen for commands; is configurable.			*/
 	public static int					REGISTRY_PORT = 55252 ;
 
+	/** initial size of the read buffer of a connection.					*/
+	protected static final int			INITIAL_READ_BUFFER_SIZE = 16 * 1024;
+	/** maximum number of responses written with one gathering write.		*/
+	protected static final int			MAX_GATHERED_FRAMES = 64;
+
 	/** Directory of registred information.									*/
 	protected ConcurrentHashMap<String,String>	directory ;
 	/** Configuration parameters from the configuration file.				*/
@@ -127,12 +154,18 @@ public class				GlobalRegistry
 	/** Number of JVM in the distributed component virtual machine.			*/
 	protected final int					numberOfJVMsInDCVM ;
 
-	/** The socket used to listen on the port number REGISTRY_PORT.			*/
-	protected ServerSocket				ss ;
-
-	protected static final int			WARNING_NUMBER_OF_THREADS = 2000 ; 
-	/** The executor service in charge of handling component requests.		*/
-	protected static ExecutorService	REQUEST_HANDLER ;
+	/** The channel used to listen on the port number REGISTRY_PORT.		*/
+	protected ServerSocketChannel		server ;
+	/** The selector multiplexing the channels of the registry.				*/
+	protected Selector					selector ;
+	/** Number of connections accepted so far.								*/
+	protected int						connectionCount ;
+	/** Open connections, to which the removals are pushed.					*/
+	protected final Set<Connection>		connections ;
+	/** Keys put by each JVM that has declared its URI.						*/
+	protected final Map<String,Set<String>>	ownedKeys ;
+	/** URI of the JVM that has put each key, when declared.				*/
+	protected final Map<String,String>	keyOwners ;
 	/**	synchroniser to finish the execution of this global registry.		*/
 	protected CountDownLatch			finished ;
 
@@ -142,168 +175,60 @@ public class				GlobalRegistry
 	protected final TracerWindow		tracer ;
 
 	// -------------------------------------------------------------------------
-	// Task for the executor framework
+	// Connections
 	// -------------------------------------------------------------------------
 
 	/**
-	 * The class <code>ServiceTask</code> implements the behaviour of the
-	 * registry exchanging with one client; its processes the requests from the
-	 * clients until the latter explicitly disconnects with a "shutdown" request
-	 * of implicitly with a null string request.
+	 * The class <code>Connection</code> holds the state of the connection of
+	 * one client; it is accessed only by the selector thread.
 	 *
-	 * <p><strong>Description</strong></p>
-	 * 
 	 * <p><strong>Invariant</strong></p>
 	 * 
 	 * <pre>
 	 * invariant		true
 	 * </pre>
 	 * 
-	 * <p>Created on : 2014-01-30</p>
+	 * <p>Created on : 2026-10-19</p>
 	 * 
 	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
 	 */
-	protected static class	ServiceTask
-	implements	Runnable
+	protected static class	Connection
 	{
-		/** socket on which this task will accept the request coming from
-		 *  one JVM.														*/
-		protected Socket							s ;
-		/** map holding the bindings of the global registry.				*/
-		protected ConcurrentHashMap<String,String>	directory ;
-		/** buffered reader to read from the socket s.						*/
-		protected BufferedReader					br ;
-		/** print stream to write on the socket s.							*/
-		protected PrintStream						ps ;
-		/** synchroniser detecting the end of the application.				*/
-		protected CountDownLatch					finished ;
-		/** global registry logger.											*/
-		protected final Logger						executionLog ;
-		/** global registry tracer.											*/
-		protected final TracerWindow				tracer ;
+		/** the socket channel.											*/
+		protected final SocketChannel			channel;
+		/** responses waiting to be written on the channel.				*/
+		protected final ArrayDeque<ByteBuffer>	writeQueue;
+		/** buffer accumulating the bytes read but not yet framed.			*/
+		protected ByteBuffer					readBuffer;
+		/** selection key of the channel.									*/
+		protected SelectionKey					key;
+		/** true when a shutdown request has been received; the channel is
+		 *  closed as soon as the pending responses are written.			*/
+		protected boolean						closing;
+		/** true when the channel has been closed.							*/
+		protected boolean						closed;
+		/** URI of the JVM of the client, if declared.					*/
+		protected String						ownerURI;
 
 		/**
-		 * creating the service task.
+		 * create the state of a newly accepted connection.
 		 * 
 		 * <p><strong>Contract</strong></p>
 		 * 
 		 * <pre>
-		 * pre	true			// no precondition.
+		 * pre	{@code channel != null}
 		 * post	true			// no postcondition.
 		 * </pre>
 		 *
-		 * @param s				socket on which this task will accept the request coming from one JVM.
-		 * @param directory		map holding the bindings of the global registry.
-		 * @param finished		synchroniser detecting the end of the application.
-		 * @param executionLog	global registry logger.
-		 * @param tracer		global registry tracer.
-		 * @throws Exception	<i>to do.</i>
+		 * @param channel	socket channel of the connection.
 		 */
-		public			ServiceTask(
-			Socket 								s,
-			ConcurrentHashMap<String,String>	directory,
-			CountDownLatch						finished,
-			Logger								executionLog,
-			TracerWindow						tracer
-			) throws Exception
-		{
-			if (GLOBAL_REGISTRY_IS_LOGGING) {
-				if (AbstractCVM.DEBUG_MODE.contains(CVMDebugModes.REGISTRY)) {
-					executionLog.logMessage(
-							"Global registry creating a service task");
-					tracer.traceMessage(
-							"Global registry creating a service task\n");
-				}
-			}
-
-			this.s = s;
-			this.directory = directory;
-			this.finished = finished;
-			this.br = new BufferedReader(
-							new InputStreamReader(this.s.getInputStream()));
-			this.ps = new PrintStream(s.getOutputStream(), true);
-			this.executionLog = executionLog;
-			this.tracer = tracer;
-
-			if (GLOBAL_REGISTRY_IS_LOGGING) {
-				if (AbstractCVM.DEBUG_MODE.contains(CVMDebugModes.REGISTRY)) {
-					this.executionLog.logMessage("...service runnable created");
-					this.tracer.traceMessage("...service runnable created");
-				}
-			}
-		}
-
-		@Override
-		public void		run()
+		public			Connection(SocketChannel channel)
 		{
-			if (GLOBAL_REGISTRY_IS_LOGGING &&
-					AbstractCVM.DEBUG_MODE.contains(CVMDebugModes.REGISTRY)) {
-				this.executionLog.logMessage("GlobalRegistry task running...");
-				this.tracer.traceMessage("GlobalRegistry task running...");
-			}
-			String request = null ;
-			try {
-				request = br.readLine() ;
-			} catch (IOException e) {
-				e.printStackTrace();
-				throw new RuntimeException(e);
-			}
-
-			if (GLOBAL_REGISTRY_IS_LOGGING) {
-				this.executionLog.logMessage(
-								"GlobalRegistry processing " + request);
-				this.tracer.traceMessage(
-								System.currentTimeMillis() + "|" +
-								"GlobalRegistry processing " + request + "\n");
-			}
-
-			RequestI req = null;
-			if (request == null) {
-				req = new ShutdownRequest();
-			} else {
-				req = Request.string2request(request);
-			}
-			while(!req.isShutdownRequest()) {
-				// process current request
-				req.execute(this.ps, this.directory, this.executionLog);
-				// read next request
-				try {
-					request = br.readLine() ;
-					if (request == null) {
-						req = new ShutdownRequest();
-					} else {
-						req = Request.string2request(request);
-					}
-				} catch (IOException e1) {
-					e1.printStackTrace();
-					throw new RuntimeException(e1) ;
-				}
-				if (GLOBAL_REGISTRY_IS_LOGGING) {
-					this.executionLog.logMessage(
-							"GlobalRegistry processing " + request) ;
-					this.tracer.traceMessage(
-							System.currentTimeMillis() + "|" +
-							"GlobalRegistry processing " + request + "\n") ;
-				}
-			}
-
-			if (GLOBAL_REGISTRY_IS_LOGGING &&
-					AbstractCVM.DEBUG_MODE.contains(CVMDebugModes.REGISTRY)) {
-				this.executionLog.logMessage("GlobalRegistry task exits.") ;
-				this.tracer.traceMessage("GlobalRegistry task exits.\n") ;
-			}
-
-			try {
-				req.execute(this.ps, this.directory, this.executionLog);
-				this.ps.close() ;
-				this.br.close() ;
-				s.close() ;
-			} catch (IOException e) {
-				e.printStackTrace();
-				throw new RuntimeException(e);
-			} finally {
-				this.finished.countDown() ;
-			}
+			this.channel = channel;
+			this.writeQueue = new ArrayDeque<ByteBuffer>();
+			this.readBuffer = ByteBuffer.allocate(INITIAL_READ_BUFFER_SIZE);
+			this.closing = false;
+			this.closed = false;
 		}
 	}
 
@@ -327,11 +252,54 @@ public class				GlobalRegistry
 	 * @throws Exception		<i>to do.</i>
 	 */
 	public				GlobalRegistry(String configFileName) throws Exception
+	{
+		this(GlobalRegistry.parseConfiguration(configFileName));
+	}
+
+	/**
+	 * create a registry object from the configuration parameters of the
+	 * distributed component virtual machine.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code configurationParameters != null}
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @param configurationParameters	parameters of the configuration file.
+	 * @throws Exception				<i>to do.</i>
+	 */
+	public				GlobalRegistry(
+		ConfigurationParameters configurationParameters
+		) throws Exception
+	{
+		this(configurationParameters.getJvmURIs().length);
+		this.configurationParameters = configurationParameters;
+	}
+
+	/**
+	 * create a registry object that terminates when the given number of
+	 * clients have connected and then disconnected, for example to run it
+	 * without configuration file in tests.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code numberOfJVMsInDCVM > 0}
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @param numberOfJVMsInDCVM	number of JVM in the distributed component virtual machine.
+	 * @throws Exception			<i>to do.</i>
+	 */
+	public				GlobalRegistry(int numberOfJVMsInDCVM)
+	throws	Exception
 	{
 		super() ;
 
-		assert	configFileName != null :
-					new PreconditionException("configFileName == null") ;
+		assert	numberOfJVMsInDCVM > 0 :
+					new PreconditionException("numberOfJVMsInDCVM > 0") ;
 
 		if (GLOBAL_REGISTRY_IS_LOGGING) {
 			this.executionLog = new Logger("globalRegistry");
@@ -343,33 +311,51 @@ public class				GlobalRegistry
 			this.tracer = null;
 		}
 
+		this.configurationParameters = null;
+		this.numberOfJVMsInDCVM = numberOfJVMsInDCVM;
+
+		this.directory =
+			new ConcurrentHashMap<String,String>(10*this.numberOfJVMsInDCVM);
+		this.finished = new CountDownLatch(this.numberOfJVMsInDCVM);
+		this.connectionCount = 0;
+		this.connections = new LinkedHashSet<Connection>();
+		this.ownedKeys = new HashMap<String,Set<String>>();
+		this.keyOwners = new HashMap<String,String>();
+		this.selector = Selector.open();
+		this.server = ServerSocketChannel.open();
+		this.server.bind(new InetSocketAddress(REGISTRY_PORT));
+		this.server.configureBlocking(false);
+		this.server.register(this.selector, SelectionKey.OP_ACCEPT);
+	}
+
+	/**
+	 * parse and validate a configuration file.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	configFileName != null
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param configFileName	name of the configuration file.
+	 * @return					the parameters of the configuration file.
+	 * @throws Exception		when the file is not a valid configuration file.
+	 */
+	protected static ConfigurationParameters	parseConfiguration(
+		String configFileName
+		) throws Exception
+	{
+		assert	configFileName != null :
+					new PreconditionException("configFileName == null") ;
+
 		File configFile = new File(configFileName);
 		ConfigurationFileParser cfp = new ConfigurationFileParser();
 		if (!cfp.validateConfigurationFile(configFile)) {
 			throw new InvalidConfigurationFileFormatException(
 							"invalid configuration file " + configFileName);
 		}
-		this.configurationParameters = cfp.parseConfigurationFile(configFile);
-		this.numberOfJVMsInDCVM =
-							this.configurationParameters.getJvmURIs().length;
-
-		this.directory =
-			new ConcurrentHashMap<String,String>(10*this.numberOfJVMsInDCVM);
-		if (this.numberOfJVMsInDCVM > GlobalRegistry.WARNING_NUMBER_OF_THREADS) {
-			String mes =
-				"WARNING: very high number of threads in global registry (i.e., "
-				+ this.numberOfJVMsInDCVM + "); may fail!";
-			if (GLOBAL_REGISTRY_IS_LOGGING) {
-				this.executionLog.logMessage(mes);
-				this.tracer.traceMessage(
-								System.currentTimeMillis() + "|" + mes + "\n");
-			} else {
-				System.out.println(mes);
-			}
-		}
-		REQUEST_HANDLER = Executors.newFixedThreadPool(this.numberOfJVMsInDCVM);
-		this.finished = new CountDownLatch(this.numberOfJVMsInDCVM);
-		this.ss = new ServerSocket(REGISTRY_PORT);
+		return cfp.parseConfigurationFile(configFile);
 	}
 
 	// ------------------------------------------------------------------------
@@ -377,10 +363,11 @@ public class				GlobalRegistry
 	// ------------------------------------------------------------------------
 
 	/**
-	 * runs the registry, repeated accepting connections on its server socket,
-	 * decoding the request (in the format defined by the above protocol),
-	 * executing it and returning the result (in the format defined by the
-	 * above protocol) on the output stream of the socket.
+	 * runs the registry, accepting connections on its server channel,
+	 * decoding the requests (in the format defined by the above protocol),
+	 * executing them and returning the results (in the format defined by the
+	 * above protocol) until all of the JVM of the distributed component
+	 * virtual machine have closed their connection.
 	 * 
 	 * <p><strong>Contract</strong></p>
 	 * 
@@ -392,47 +379,412 @@ public class				GlobalRegistry
 	 */
 	public void			run()
 	{
-		if (GLOBAL_REGISTRY_IS_LOGGING) {
-			this.executionLog.logMessage("Global registry up and running!");
-			this.tracer.traceMessage(System.currentTimeMillis() + "|" +
-										"Global registry up and running!\n");
-		}
-		int count = 0 ;
-		while (count < this.numberOfJVMsInDCVM) {
+		this.logMessage("Global registry up and running!");
+		try {
+			while (this.finished.getCount() > 0) {
+				this.selector.select();
+				Iterator<SelectionKey> iter =
+									this.selector.selectedKeys().iterator();
+				while (iter.hasNext()) {
+					SelectionKey k = iter.next();
+					iter.remove();
+					if (!k.isValid()) {
+						continue;
+					}
+					if (k.isAcceptable()) {
+						this.accept();
+						continue;
+					}
+					Connection c = (Connection) k.attachment();
+					try {
+						if (k.isReadable()) {
+							this.read(c);
+						}
+						if (!c.closed && k.isWritable()) {
+							this.write(c);
+						}
+					} catch (IOException e) {
+						this.close(c);
+					}
+				}
+			}
+		} catch (IOException e) {
+			e.printStackTrace();
+		} finally {
 			try {
-				// block on this.ss.accept() and then create a new service
-				// thread, one for each of the JVM participating in the
-				// execution.
-				REQUEST_HANDLER.submit(new ServiceTask(this.ss.accept(),
-														   this.directory,
-														   this.finished,
-														   this.executionLog,
-														   this.tracer)) ;
-				count++ ;
-				if (GLOBAL_REGISTRY_IS_LOGGING) {
-					this.executionLog.logMessage(
-							"Global registry accepted the " + count
-														+ "th connection.") ;
+				this.server.close();
+				this.selector.close();
+			} catch (IOException e) {
+				e.printStackTrace();
+			}
+		}
+		this.logMessage("All (" + this.connectionCount + ") disconnected!");
+	}
+
+	/**
+	 * accept a connection from a client.
+	 * 
+	 * @throws IOException	when the connection cannot be accepted.
+	 */
+	protected void		accept() throws IOException
+	{
+		SocketChannel ch = this.server.accept();
+		if (ch != null) {
+			ch.socket().setTcpNoDelay(true);
+			ch.configureBlocking(false);
+			Connection c = new Connection(ch);
+			c.key = ch.register(this.selector, SelectionKey.OP_READ, c);
+			this.connections.add(c);
+			this.connectionCount++;
+			this.logMessage("Global registry accepted the " +
+								this.connectionCount + "th connection.");
+		}
+	}
+
+	/**
+	 * read the available bytes on a connection, execute the requests in the
+	 * complete frames and write their responses.
+	 * 
+	 * @param c				connection to be read.
+	 * @throws IOException	when the connection is broken.
+	 */
+	protected void		read(Connection c) throws IOException
+	{
+		if (c.channel.read(c.readBuffer) < 0) {
+			// implicit disconnection of the client
+			this.close(c);
+			return;
+		}
+		ByteBuffer b = c.readBuffer;
+		b.flip();
+		while (!c.closing && b.remaining() >= 4) {
+			int length = b.getInt(b.position());
+			RegistryFrames.checkLength(length);
+			if (b.remaining() < 4 + length) {
+				if (b.capacity() < 4 + length) {
+					ByteBuffer larger = ByteBuffer.allocate(4 + length);
+					larger.put(b);
+					c.readBuffer = larger;
+					b = null;
+				}
+				break;
+			}
+			b.position(b.position() + 4);
+			byte[] frame = new byte[length];
+			b.get(frame);
+			c.writeQueue.add(this.execute(c, frame));
+		}
+		if (b != null) {
+			b.compact();
+		}
+		this.write(c);
+	}
+
+	/**
+	 * execute the request in a frame and return the frame of its response.
+	 * 
+	 * @param c		connection on which the request has been received.
+	 * @param frame	the request frame, without its length prefix.
+	 * @return		the response frame.
+	 */
+	protected ByteBuffer	execute(Connection c, byte[] frame)
+	{
+		byte op = RegistryFrames.op(frame);
+		long requestId = RegistryFrames.requestId(frame);
+		CallEnvelope.FrameOutputStream fos = RegistryFrames.newFrame(64);
+		DataOutputStream out = RegistryFrames.payloadWriter(fos);
+		try {
+			DataInputStream in = RegistryFrames.payloadReader(frame);
+			int n;
+			switch (op) {
+			case RegistryFrames.LOOKUP:
+				this.lookup(in.readUTF(), out);
+				break;
+			case RegistryFrames.PUT:
+				this.put(c, in.readUTF(), in.readUTF(), out);
+				break;
+			case RegistryFrames.REMOVE:
+				this.remove(c, in.readUTF(), out);
+				break;
+			case RegistryFrames.SHUTDOWN:
+				c.closing = true;
+				break;
+			case RegistryFrames.LOOKUP_BATCH:
+				n = RegistryFrames.readCount(in, RegistryFrames.MIN_KEY_SIZE);
+				out.writeInt(n);
+				for (int i = 0 ; i < n ; i++) {
+					this.lookup(in.readUTF(), out);
+				}
+				break;
+			case RegistryFrames.PUT_BATCH:
+				n = RegistryFrames.readCount(in,
+											 RegistryFrames.MIN_BINDING_SIZE);
+				out.writeInt(n);
+				for (int i = 0 ; i < n ; i++) {
+					this.put(c, in.readUTF(), in.readUTF(), out);
+				}
+				break;
+			case RegistryFrames.OWNER:
+				c.ownerURI = in.readUTF();
+				RegistryFrames.writeOutcome(out, true, "");
+				break;
+			case RegistryFrames.LOOKUP_OWNED:
+				this.lookupOwned(in.readUTF(), out);
+				break;
+			default:
+				throw new IOException("unknown request " + op);
+			}
+			this.logMessage("GlobalRegistry processing " +
+							RegistryFrames.opName(op) + " #" + requestId);
+			return RegistryFrames.toFrame(
+						fos, (byte) (op | RegistryFrames.ANSWER), requestId);
+		} catch (IOException e) {
+			// truncated or unknown request; the requests of a batch that
+			// have already been executed are not undone
+			this.logMessage("GlobalRegistry error on " +
+							RegistryFrames.opName(op) + " #" + requestId +
+							": " + e.getMessage());
+			return RegistryFrames.errorFrame(
+								requestId,
+								"bad request " + RegistryFrames.opName(op));
+		}
+	}
+
+	/**
+	 * look up a key in the directory and write the outcome.
+	 * 
+	 * @param key			key to be looked up.
+	 * @param out			stream receiving the outcome.
+	 * @throws IOException	<i>to do.</i>
+	 */
+	protected void		lookup(String key, DataOutputStream out)
+	throws	IOException
+	{
+		String result = this.directory.get(key);
+		if (result == null) {
+			RegistryFrames.writeOutcome(out, false, key);
+			this.logDebug("Global registry looking up " + key +
+						  " found nothing!");
+		} else {
+			RegistryFrames.writeOutcome(out, true, result);
+			this.logDebug("Global registry looking up " + key +
+						  " found " + result);
+		}
+	}
+
+	/**
+	 * write all of the bindings put by a JVM.
+	 * 
+	 * @param ownerURI		URI of the JVM.
+	 * @param out			stream receiving the bindings.
+	 * @throws IOException	<i>to do.</i>
+	 */
+	protected void		lookupOwned(String ownerURI, DataOutputStream out)
+	throws	IOException
+	{
+		Set<String> keys = this.ownedKeys.get(ownerURI);
+		if (keys == null) {
+			out.writeInt(0);
+		} else {
+			out.writeInt(keys.size());
+			for (String key : keys) {
+				out.writeUTF(key);
+				out.writeUTF(this.directory.get(key));
+			}
+		}
+		this.logDebug("Global registry looking up the " +
+					  (keys == null ? 0 : keys.size()) + " keys of " +
+					  ownerURI);
+	}
+
+	/**
+	 * bind a key to a value in the directory, unless the key is already
+	 * bound, and write the outcome.
+	 * 
+	 * @param c				connection on which the request has been received.
+	 * @param key			key to be bound.
+	 * @param value			value to be associated to the key.
+	 * @param out			stream receiving the outcome.
+	 * @throws IOException	<i>to do.</i>
+	 */
+	protected void		put(
+		Connection c,
+		String key,
+		String value,
+		DataOutputStream out
+		) throws IOException
+	{
+		String result = this.directory.putIfAbsent(key, value);
+		if (result != null) {
+			// failed put, key already bound!
+			RegistryFrames.writeOutcome(out, false, key);
+			this.logDebug("Global registry can't bind " + key +
+						  " already bound to " + result + "!");
+		} else {
+			if (c.ownerURI != null) {
+				this.ownedKeys.computeIfAbsent(
+									c.ownerURI, k -> new HashSet<String>()).
+																	add(key);
+				this.keyOwners.put(key, c.ownerURI);
+			}
+			RegistryFrames.writeOutcome(out, true, "");
+			this.logDebug("Global registry binds " + key + " to " + value);
+		}
+	}
+
+	/**
+	 * remove a key from the directory, write the outcome and push the
+	 * removal to all of the clients.
+	 * 
+	 * @param c				connection on which the request has been received.
+	 * @param key			key to be removed.
+	 * @param out			stream receiving the outcome.
+	 * @throws IOException	<i>to do.</i>
+	 */
+	protected void		remove(Connection c, String key, DataOutputStream out)
+	throws	IOException
+	{
+		String result = this.directory.remove(key);
+		if (result == null) {
+			// failed remove, unknown key!
+			RegistryFrames.writeOutcome(out, false, key);
+			this.logDebug("Global registry removing " + key +
+						  " found nothing!");
+		} else {
+			String owner = this.keyOwners.remove(key);
+			if (owner != null) {
+				Set<String> keys = this.ownedKeys.get(owner);
+				keys.remove(key);
+				if (keys.isEmpty()) {
+					this.ownedKeys.remove(owner);
 				}
-			} catch (Exception e) {
+			}
+			RegistryFrames.writeOutcome(out, true, "");
+			this.logDebug("Global registry removing " + key +
+						  " bound to " + result);
+			this.pushInvalidation(c, key);
+		}
+	}
+
+	/**
+	 * push the removal of a key to all of the open connections; the frame
+	 * is only queued on the connection that has removed the key, as it will
+	 * be written with the responses to the requests being read.
+	 * 
+	 * @param origin		connection on which the key has been removed.
+	 * @param key			key that has been removed.
+	 * @throws IOException	<i>to do.</i>
+	 */
+	protected void		pushInvalidation(Connection origin, String key)
+	throws	IOException
+	{
+		ByteBuffer frame =
+				RegistryFrames.toFrame(RegistryFrames.keyPayload(key),
+									   RegistryFrames.INVALIDATE, 0L);
+		for (Connection c : new ArrayList<Connection>(this.connections)) {
+			if (c.closed || c.closing) {
+				continue;
+			}
+			c.writeQueue.add(frame.duplicate());
+			if (c != origin) {
 				try {
-					ss.close() ;
-				} catch (IOException e1) {
-					;
+					this.write(c);
+				} catch (IOException e) {
+					this.close(c);
 				}
-				e.printStackTrace();
 			}
 		}
-		if (GLOBAL_REGISTRY_IS_LOGGING) {
-			this.executionLog.logMessage("All (" + count + ") connected!");
-			this.tracer.traceMessage(System.currentTimeMillis() + "|" +
-										"All (" + count + ") connected!\n");
+	}
+
+	/**
+	 * write the pending responses of a connection, as many as the channel
+	 * accepts, and ask the selector to signal when the channel can be
+	 * written again if some remain; close the connection when a shutdown
+	 * request has been received and all of the responses are written.
+	 * 
+	 * @param c				connection to be written.
+	 * @throws IOException	when the connection is broken.
+	 */
+	protected void		write(Connection c) throws IOException
+	{
+		ByteBuffer[] batch = new ByteBuffer[MAX_GATHERED_FRAMES];
+		while (!c.writeQueue.isEmpty()) {
+			int n = 0;
+			for (ByteBuffer b : c.writeQueue) {
+				batch[n++] = b;
+				if (n == batch.length) {
+					break;
+				}
+			}
+			c.channel.write(batch, 0, n);
+			for (int i = 0 ; i < n ; i++) {
+				if (batch[i].hasRemaining()) {
+					// the socket buffer is full
+					c.key.interestOps(
+							SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+					return;
+				}
+				c.writeQueue.poll();
+			}
 		}
+		if (c.closing) {
+			this.close(c);
+		} else {
+			c.key.interestOps(SelectionKey.OP_READ);
+		}
+	}
 
+	/**
+	 * close a connection; the registry terminates when all of the JVM of
+	 * the distributed component virtual machine have closed theirs.
+	 * 
+	 * @param c	connection to be closed.
+	 */
+	protected void		close(Connection c)
+	{
+		if (c.closed) {
+			return;
+		}
+		c.closed = true;
+		this.connections.remove(c);
+		c.key.cancel();
 		try {
-			this.ss.close() ;
+			c.channel.close();
 		} catch (IOException e) {
-			e.printStackTrace();
+			// already closed
+		}
+		if (AbstractCVM.DEBUG_MODE.contains(CVMDebugModes.REGISTRY)) {
+			this.logMessage("GlobalRegistry connection closed.");
+		}
+		this.finished.countDown();
+	}
+
+	/**
+	 * log a message in the execution log and on the tracer of the registry
+	 * when it is logging.
+	 * 
+	 * @param message	message to be logged.
+	 */
+	protected void		logMessage(String message)
+	{
+		if (GLOBAL_REGISTRY_IS_LOGGING) {
+			this.executionLog.logMessage(message);
+			this.tracer.traceMessage(
+						System.currentTimeMillis() + "|" + message + "\n");
+		}
+	}
+
+	/**
+	 * log a message in the execution log of the registry when it is logging
+	 * and the registry debug mode is set.
+	 * 
+	 * @param message	message to be logged.
+	 */
+	protected void		logDebug(String message)
+	{
+		if (this.executionLog != null &&
+					AbstractCVM.DEBUG_MODE.contains(CVMDebugModes.REGISTRY)) {
+			this.executionLog.logMessage(message);
 		}
 	}
 
@@ -451,12 +803,9 @@ public class				GlobalRegistry
 	public void			closing() throws FileNotFoundException
 	{
 		if (GLOBAL_REGISTRY_IS_LOGGING) {
-			this.executionLog.logMessage("Global registry shuts down!") ;
-			this.tracer.traceMessage(System.currentTimeMillis() + "|" +
-									 "Global registry shuts down!\n") ;
+			this.logMessage("Global registry shuts down!") ;
+			this.executionLog.printExecutionLog() ;
 		}
-		this.executionLog.printExecutionLog() ;
-		REQUEST_HANDLER.shutdownNow() ;
 	}
 
 	// ------------------------------------------------------------------------
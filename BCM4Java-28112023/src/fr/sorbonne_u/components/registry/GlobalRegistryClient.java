@@ -32,17 +32,34 @@ package fr.sorbonne_u.components.registry;
 //
 // The fact that you are presently reading this means that you have had
 // knowledge of the CeCILL-C license and that you accept its terms.
-
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.io.PrintStream;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.ConnectException;
 import java.net.InetAddress;
 import java.net.Socket;
-import fr.sorbonne_u.components.registry.protocol.LookupRequest;
-import fr.sorbonne_u.components.registry.protocol.PutRequest;
-import fr.sorbonne_u.components.registry.protocol.RemoveRequest;
-import fr.sorbonne_u.components.registry.protocol.Response;
-import fr.sorbonne_u.components.registry.protocol.ShutdownRequest;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import fr.sorbonne_u.components.cvm.transport.CallEnvelope;
+import fr.sorbonne_u.components.registry.exceptions.GlobalRegistryResponseException;
+import fr.sorbonne_u.components.registry.protocol.ErrorResponse;
+import fr.sorbonne_u.components.registry.protocol.LookupResponse;
+import fr.sorbonne_u.components.registry.protocol.PutResponse;
+import fr.sorbonne_u.components.registry.protocol.RegistryFrames;
+import fr.sorbonne_u.components.registry.protocol.RemoveResponse;
+import fr.sorbonne_u.exceptions.PreconditionException;
 
 //-----------------------------------------------------------------------------
 /**
@@ -56,6 +73,34 @@ import fr.sorbonne_u.components.registry.protocol.ShutdownRequest;
  * 
  * value ::= rmi=hostname | socket=hostname:port
  * 
+ * <p>
+ * The lookups return the text of a <code>LookupResponse</code>; the
+ * <code>lookupConnectionData</code> methods decode it into the
+ * <code>ConnectionData</code> bound to the keys, and the put methods also
+ * accept <code>ConnectionData</code> values.
+ * </p>
+ * <p>
+ * The client keeps one connection to the registry, opened on the first
+ * request, on which requests from any number of threads are pipelined: each
+ * request is given an identifier and the calling thread waits on a future
+ * completed by a reader thread when the response carrying the same
+ * identifier arrives, instead of holding the connection during the round
+ * trip. The asynchronous and batch methods allow a single thread to have
+ * several requests pending at the same time or to publish and look up many
+ * ports in one round trip.
+ * </p>
+ * <p>
+ * The connection data found by the successful lookups are kept in a cache
+ * for <code>cacheTTL</code> nanoseconds, so that connecting again to the same ports does not cost a
+ * round trip each time. The registry pushes the removal of each key to all
+ * of its clients, which drop the cached binding at once and notify the
+ * invalidation listeners, for example the cache of remote references of
+ * the distributed component virtual machine. When the client has declared
+ * the URI of its JVM, the ports it publishes are recorded by the registry
+ * as owned by this JVM and <code>prefetch</code> fills the cache with all
+ * of the ports published by given JVM in one round trip.
+ * </p>
+ * 
  * <p><strong>Invariant</strong></p>
  * 
  * <pre>
@@ -68,14 +113,59 @@ import fr.sorbonne_u.components.registry.protocol.ShutdownRequest;
  */
 public class			GlobalRegistryClient
 {
+	/** default time to live of the cached bindings, in nanoseconds.		*/
+	public static long			DEFAULT_CACHE_TTL =
+											TimeUnit.SECONDS.toNanos(60);
+
+	/**
+	 * The class <code>CachedBinding</code> holds a binding obtained from the
+	 * registry with its expiry time.
+	 *
+	 * <p>Created on : 2026-10-19</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	protected static class	CachedBinding
+	{
+		/** connection data bound to the key.							*/
+		protected final ConnectionData	value;
+		/** time in nanoseconds after which the binding is stale.			*/
+		protected final long			expiry;
+
+		public			CachedBinding(ConnectionData value, long expiry)
+		{
+			this.value = value;
+			this.expiry = expiry;
+		}
+	}
+
 	/** host on which the global registry is executing.						*/
 	protected InetAddress		registryHost ;
 	/** socket used to connect to the global registry.						*/
-	protected Socket			s ;
-	/** print stream to write on the socket s.								*/
-	protected PrintStream		ps ;
-	/** buffered reader to read from the socket s.							*/
-	protected BufferedReader	br ;
+	protected volatile Socket	s ;
+	/** stream to write on the socket s, also used as lock for writing.		*/
+	protected OutputStream		os ;
+	/** thread reading the responses on the socket s.						*/
+	protected Thread			reader ;
+	/** true when the client has been shut down.							*/
+	protected volatile boolean	isShutdown ;
+	/** generator of request identifiers.									*/
+	protected final AtomicLong	nextRequestId ;
+	/** requests waiting for their response, by identifier.					*/
+	protected final ConcurrentHashMap<Long,CompletableFuture<byte[]>>
+								pending ;
+	/** URI of the JVM declared to the registry, or null.					*/
+	protected String			ownerURI ;
+	/** time to live of the cached bindings in nanoseconds, 0 if none.		*/
+	protected volatile long		cacheTTL ;
+	/** bindings obtained from the registry, by key.						*/
+	protected final ConcurrentHashMap<String,CachedBinding>	cache ;
+	/** number of invalidations so far, to avoid caching a binding that
+	 *  has been invalidated while its lookup was pending.					*/
+	protected final AtomicLong	invalidations ;
+	/** listeners notified of the keys invalidated by the registry.			*/
+	protected final CopyOnWriteArrayList<Consumer<String>>
+								invalidationListeners ;
 
 	/**
 	 * create a client, per JVM client object required.
@@ -93,51 +183,320 @@ public class			GlobalRegistryClient
 		super();
 		this.registryHost = null ;
 		this.s = null ;
-		this.ps = null ;
-		this.br = null ;
+		this.os = null ;
+		this.reader = null ;
+		this.isShutdown = false ;
+		this.nextRequestId = new AtomicLong(0L) ;
+		this.pending =
+				new ConcurrentHashMap<Long,CompletableFuture<byte[]>>() ;
+		this.ownerURI = null ;
+		this.cacheTTL = DEFAULT_CACHE_TTL ;
+		this.cache = new ConcurrentHashMap<String,CachedBinding>() ;
+		this.invalidations = new AtomicLong(0L) ;
+		this.invalidationListeners =
+							new CopyOnWriteArrayList<Consumer<String>>() ;
 	}
 
 	// ------------------------------------------------------------------------
-	// Methods
+	// Connection management
 	// ------------------------------------------------------------------------
 
 	/**
-	 * send a request to the registry and return the answer as a string.
+	 * open the connection to the registry if it is not already opened.
+	 * 
+	 * @return				the socket connected to the registry.
+	 * @throws Exception	when the connection cannot be opened.
+	 */
+	protected synchronized Socket	connect() throws Exception
+	{
+		if (this.isShutdown) {
+			throw new ConnectException("global registry client shut down");
+		}
+		if (this.s == null) {
+			if (this.registryHost == null) {
+				this.registryHost =
+						InetAddress.getByName(GlobalRegistry.REGISTRY_HOSTNAME);
+			}
+			Socket socket = new Socket(this.registryHost,
+									   GlobalRegistry.REGISTRY_PORT);
+			socket.setTcpNoDelay(true);
+			this.os = new BufferedOutputStream(socket.getOutputStream());
+			DataInputStream in =
+				new DataInputStream(
+						new BufferedInputStream(socket.getInputStream()));
+			this.reader = new Thread(() -> this.readResponses(socket, in),
+									 "GlobalRegistryClient-reader");
+			this.reader.setDaemon(true);
+			this.s = socket;
+			this.reader.start();
+			if (this.ownerURI != null) {
+				this.sendOwner();
+			}
+		}
+		return this.s;
+	}
+
+	/**
+	 * declare the URI of the JVM of this client to the registry, so that the
+	 * ports published through this client can be prefetched by URI.
 	 * 
 	 * <p><strong>Contract</strong></p>
 	 * 
 	 * <pre>
-	 * pre	command != null
+	 * pre	{@code ownerURI != null}
 	 * post	true			// no postcondition.
 	 * </pre>
 	 *
-	 * @param request		request to be sent.
-	 * @return				string representing the result of the request.
-	 * @throws Exception	<i>to do.</i>
+	 * @param ownerURI		URI of the JVM of this client.
+	 * @throws Exception	when the declaration cannot be sent.
 	 */
-	protected String		sendRequest(String request)
+	public synchronized void	setOwnerURI(String ownerURI) throws Exception
+	{
+		assert	ownerURI != null :
+					new PreconditionException("ownerURI != null");
+
+		this.ownerURI = ownerURI;
+		if (this.s != null) {
+			this.sendOwner();
+		}
+	}
+
+	/**
+	 * send the declaration of the URI of the JVM of this client; its answer
+	 * is not waited for as the registry handles the requests of a client in
+	 * order.
+	 * 
+	 * @throws Exception	when the declaration cannot be sent.
+	 */
+	protected void		sendOwner() throws Exception
+	{
+		this.send(RegistryFrames.OWNER,
+				  RegistryFrames.keyPayload(this.ownerURI));
+	}
+
+	/**
+	 * loop executed by the reader thread: read the response frames and
+	 * complete the corresponding pending requests until the socket is
+	 * closed.
+	 * 
+	 * @param socket	socket connected to the registry.
+	 * @param in		stream reading from <code>socket</code>.
+	 */
+	protected void		readResponses(Socket socket, DataInputStream in)
+	{
+		Exception cause = null;
+		try {
+			while (true) {
+				byte[] frame = RegistryFrames.readFrame(in);
+				if (RegistryFrames.op(frame) == RegistryFrames.INVALIDATE) {
+					this.invalidate(
+							RegistryFrames.payloadReader(frame).readUTF());
+					continue;
+				}
+				CompletableFuture<byte[]> f =
+						this.pending.remove(RegistryFrames.requestId(frame));
+				if (f != null) {
+					f.complete(frame);
+				}
+			}
+		} catch (IOException e) {
+			cause = e;
+		}
+		synchronized (this) {
+			if (this.s == socket) {
+				this.s = null;
+				this.os = null;
+			}
+		}
+		try {
+			socket.close();
+		} catch (IOException e) {
+			// already closed
+		}
+		// the removals pushed from now on would be missed
+		this.invalidateAll();
+		// the requests still pending will never be answered
+		for (Map.Entry<Long,CompletableFuture<byte[]>> e :
+												this.pending.entrySet()) {
+			if (this.pending.remove(e.getKey(), e.getValue())) {
+				e.getValue().completeExceptionally(
+					new ConnectException(
+						"connection to the global registry closed: " + cause));
+			}
+		}
+	}
+
+	// ------------------------------------------------------------------------
+	// Requests
+	// ------------------------------------------------------------------------
+
+	/**
+	 * send a request frame to the registry and return a future completed
+	 * with the response frame.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code payload != null}
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param op			op of the request.
+	 * @param payload		payload of the request.
+	 * @return				future completed with the response frame.
+	 * @throws Exception	when the request cannot be sent.
+	 */
+	protected CompletableFuture<byte[]>	send(
+		byte op,
+		CallEnvelope.FrameOutputStream payload
+		) throws Exception
+	{
+		Socket socket = this.connect();
+		long id = this.nextRequestId.incrementAndGet();
+		CompletableFuture<byte[]> f = new CompletableFuture<byte[]>();
+		this.pending.put(id, f);
+		ByteBuffer frame = RegistryFrames.toFrame(payload, op, id);
+		try {
+			OutputStream out = this.os;
+			if (out == null || this.s != socket) {
+				throw new ConnectException(
+							"connection to the global registry closed");
+			}
+			synchronized (out) {
+				out.write(frame.array(), frame.arrayOffset(),
+						  frame.remaining());
+				out.flush();
+			}
+		} catch (IOException e) {
+			this.pending.remove(id);
+			throw e;
+		}
+		return f;
+	}
+
+	/**
+	 * wait for the response frame of a request and return it, throwing the
+	 * error sent back by the registry if any.
+	 * 
+	 * @param f				future of the request.
+	 * @return				the response frame.
+	 * @throws Exception	when the request failed.
+	 */
+	protected static byte[]	await(CompletableFuture<byte[]> f)
 	throws	Exception
 	{
-		String responseString = null;
+		try {
+			return checked(f.get());
+		} catch (ExecutionException e) {
+			throw (Exception) e.getCause();
+		}
+	}
+
+	/**
+	 * return a response frame, throwing the error it carries if the registry
+	 * has sent back an error.
+	 * 
+	 * @param frame			response frame.
+	 * @return				<code>frame</code> if it is not an error.
+	 * @throws Exception	the error sent back by the registry.
+	 */
+	protected static byte[]	checked(byte[] frame) throws Exception
+	{
+		if (RegistryFrames.op(frame) == RegistryFrames.ERROR) {
+			(new ErrorResponse(RegistryFrames.payloadReader(frame).readUTF())).
+																interpret();
+		}
+		return frame;
+	}
 
-		if (this.registryHost == null) {
-			this.registryHost =
-					InetAddress.getByName(GlobalRegistry.REGISTRY_HOSTNAME);
+	/**
+	 * read the outcome of a lookup, cache the connection data if it
+	 * succeeded and return it, or null if the key is not bound.
+	 * 
+	 * @param in			stream positioned on the outcome.
+	 * @param key			key that has been looked up.
+	 * @param epoch			number of invalidations when the lookup has been sent.
+	 * @return				the connection data bound to the key, or null.
+	 * @throws Exception	when the outcome cannot be decoded.
+	 */
+	protected ConnectionData	lookupOutcome(
+		DataInputStream in,
+		String key,
+		long epoch
+		) throws Exception
+	{
+		RegistryFrames.Outcome o = RegistryFrames.readOutcome(in);
+		if (!o.isOK()) {
+			return null;
 		}
-		if (this.s == null) {
-			this.s = new Socket(this.registryHost,
-											GlobalRegistry.REGISTRY_PORT);
-			this.ps = new PrintStream(s.getOutputStream(), true);
-			this.br = new BufferedReader(
-								new InputStreamReader(s.getInputStream()));
-		} 
-		ps.println(request) ;
-		responseString = this.br.readLine();
-		return responseString;
+		ConnectionData cd = new ConnectionData(o.getText());
+		this.cache(key, cd, epoch);
+		return cd;
 	}
 
 	/**
-	 * send a lookup request to the registry.
+	 * return the result of the lookup of a key in the string format of
+	 * <code>LookupResponse</code>.
+	 * 
+	 * @param key			key that has been looked up.
+	 * @param cd			connection data bound to the key, or null.
+	 * @return				the string representation of the result.
+	 */
+	protected static String	response(String key, ConnectionData cd)
+	{
+		if (cd == null) {
+			return (new LookupResponse(true, key)).response2string();
+		} else {
+			return (new LookupResponse(false, cd.toString())).
+															response2string();
+		}
+	}
+
+	/**
+	 * return the connection data bound to a key, throwing an exception if
+	 * the key is not bound.
+	 * 
+	 * @param key			key that has been looked up.
+	 * @param cd			result of the lookup.
+	 * @return				<code>cd</code> if it is not null.
+	 * @throws GlobalRegistryResponseException	when <code>cd</code> is null.
+	 */
+	protected static ConnectionData	bound(String key, ConnectionData cd)
+	throws	GlobalRegistryResponseException
+	{
+		if (cd == null) {
+			throw new GlobalRegistryResponseException(key + " not bound!");
+		}
+		return cd;
+	}
+
+	/**
+	 * return the connection data bound to a key, from the cache or else
+	 * from the registry, or null if the key is not bound.
+	 * 
+	 * @param key			key to be looked up.
+	 * @return				the connection data bound to <code>key</code>, or null.
+	 * @throws Exception	when the request failed.
+	 */
+	protected ConnectionData	lookupBinding(String key) throws Exception
+	{
+		assert	key != null : new PreconditionException("key != null");
+
+		ConnectionData cached = this.cached(key);
+		if (cached != null) {
+			return cached;
+		}
+		long epoch = this.invalidations.get();
+		return this.lookupOutcome(
+					RegistryFrames.payloadReader(
+						await(this.send(RegistryFrames.LOOKUP,
+										RegistryFrames.keyPayload(key)))),
+					key, epoch);
+	}
+
+	/**
+	 * send a lookup request to the registry, unless the key is bound in the
+	 * cache.
 	 * 
 	 * <p><strong>Contract</strong></p>
 	 * 
@@ -150,10 +509,216 @@ public class			GlobalRegistryClient
 	 * @return				result of the request.
 	 * @throws Exception	<i>to do.</i>
 	 */
-	public synchronized String	lookup(String key) throws Exception {
-		String request = (new LookupRequest(key)).request2string();
-		String response = this.sendRequest(request);
-		return response ;
+	public String		lookup(String key) throws Exception
+	{
+		return response(key, this.lookupBinding(key));
+	}
+
+	/**
+	 * send a lookup request to the registry without waiting for its response,
+	 * unless the key is bound in the cache; the future is completed with the
+	 * same result as <code>lookup</code>.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	key != null
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param key			key to be looked up.
+	 * @return				future completed with the result of the request.
+	 * @throws Exception	when the request cannot be sent.
+	 */
+	public CompletableFuture<String>	lookupAsync(String key)
+	throws	Exception
+	{
+		assert	key != null : new PreconditionException("key != null");
+
+		ConnectionData cached = this.cached(key);
+		if (cached != null) {
+			return CompletableFuture.completedFuture(response(key, cached));
+		}
+		long epoch = this.invalidations.get();
+		return this.send(RegistryFrames.LOOKUP,
+						 RegistryFrames.keyPayload(key)).thenApply(frame -> {
+					try {
+						return response(
+									key,
+									this.lookupOutcome(
+										RegistryFrames.payloadReader(
+															checked(frame)),
+										key, epoch));
+					} catch (Exception e) {
+						throw new CompletionException(e);
+					}
+				});
+	}
+
+	/**
+	 * send one lookup request to the registry for those of several keys that
+	 * are not bound in the cache and return the results in the order of the
+	 * keys, in the same format as the result of <code>lookup</code>.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code keys != null}
+	 * post	{@code return.length == keys.length}
+	 * </pre>
+	 *
+	 * @param keys			keys to be looked up.
+	 * @return				results of the lookups.
+	 * @throws Exception	<i>to do.</i>
+	 */
+	public String[]		lookup(String[] keys) throws Exception
+	{
+		ConnectionData[] cds = this.lookupConnectionData(keys);
+		String[] results = new String[keys.length];
+		for (int i = 0 ; i < keys.length ; i++) {
+			results[i] = response(keys[i], cds[i]);
+		}
+		return results;
+	}
+
+	/**
+	 * look up a key as <code>lookup</code> does and return the connection
+	 * data bound to it.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	key != null
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param key			key to be looked up.
+	 * @return				the connection data bound to <code>key</code>.
+	 * @throws Exception	when the key is not bound or the request failed.
+	 */
+	public ConnectionData	lookupConnectionData(String key) throws Exception
+	{
+		return bound(key, this.lookupBinding(key));
+	}
+
+	/**
+	 * look up several keys in one request as <code>lookup</code> does and
+	 * return the connection data bound to the keys in their order, null for
+	 * the keys that are not bound.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code keys != null}
+	 * post	{@code return.length == keys.length}
+	 * </pre>
+	 *
+	 * @param keys			keys to be looked up.
+	 * @return				connection data bound to the keys, or null.
+	 * @throws Exception	when the request failed.
+	 */
+	public ConnectionData[]	lookupConnectionData(String[] keys)
+	throws	Exception
+	{
+		assert	keys != null : new PreconditionException("keys != null");
+
+		ConnectionData[] results = new ConnectionData[keys.length];
+		String[] misses = new String[keys.length];
+		int n = 0;
+		for (int i = 0 ; i < keys.length ; i++) {
+			assert	keys[i] != null : new PreconditionException("key != null");
+			results[i] = this.cached(keys[i]);
+			if (results[i] == null) {
+				misses[n++] = keys[i];
+			}
+		}
+		if (n == 0) {
+			return results;
+		}
+		long epoch = this.invalidations.get();
+		String[] requested = new String[n];
+		System.arraycopy(misses, 0, requested, 0, n);
+		DataInputStream in =
+			RegistryFrames.payloadReader(
+				await(this.send(RegistryFrames.LOOKUP_BATCH,
+								RegistryFrames.keysPayload(requested))));
+		if (RegistryFrames.readCount(in, RegistryFrames.MIN_OUTCOME_SIZE)
+																	!= n) {
+			throw new IOException("wrong number of lookup outcomes");
+		}
+		for (int i = 0 ; i < keys.length ; i++) {
+			if (results[i] == null) {
+				results[i] = this.lookupOutcome(in, keys[i], epoch);
+			}
+		}
+		return results;
+	}
+
+	/**
+	 * fetch from the registry all of the ports published by a JVM and put
+	 * them in the cache, in one round trip; only the ports published by a
+	 * client that has declared the URI of its JVM are known to the registry.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code jvmURI != null}
+	 * post	{@code return >= 0}
+	 * </pre>
+	 *
+	 * @param jvmURI		URI of the JVM which ports must be fetched.
+	 * @return				the number of ports fetched.
+	 * @throws Exception	<i>to do.</i>
+	 */
+	public int			prefetch(String jvmURI) throws Exception
+	{
+		assert	jvmURI != null : new PreconditionException("jvmURI != null");
+
+		return this.prefetch(new String[]{jvmURI});
+	}
+
+	/**
+	 * fetch from the registry all of the ports published by several JVM and
+	 * put them in the cache; the requests are all sent before waiting for
+	 * the responses, so that they are answered in one round trip.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code jvmURIs != null}
+	 * post	{@code return >= 0}
+	 * </pre>
+	 *
+	 * @param jvmURIs		URI of the JVM which ports must be fetched.
+	 * @return				the number of ports fetched.
+	 * @throws Exception	when a request failed.
+	 */
+	public int			prefetch(String[] jvmURIs) throws Exception
+	{
+		assert	jvmURIs != null :
+					new PreconditionException("jvmURIs != null");
+
+		long epoch = this.invalidations.get();
+		List<CompletableFuture<byte[]>> requests =
+						new ArrayList<CompletableFuture<byte[]>>(jvmURIs.length);
+		for (int i = 0 ; i < jvmURIs.length ; i++) {
+			assert	jvmURIs[i] != null :
+						new PreconditionException("jvmURIs[i] != null");
+			requests.add(this.send(RegistryFrames.LOOKUP_OWNED,
+								   RegistryFrames.keyPayload(jvmURIs[i])));
+		}
+		int fetched = 0;
+		for (CompletableFuture<byte[]> request : requests) {
+			DataInputStream in = RegistryFrames.payloadReader(await(request));
+			int n = RegistryFrames.readCount(
+									in, RegistryFrames.MIN_BINDING_SIZE);
+			for (int j = 0 ; j < n ; j++) {
+				String key = in.readUTF();
+				this.cache(key, new ConnectionData(in.readUTF()), epoch);
+			}
+			fetched += n;
+		}
+		return fetched;
 	}
 
 	/**
@@ -170,11 +735,119 @@ public class			GlobalRegistryClient
 	 * @param value			value (information) associated to the key.
 	 * @throws Exception	<i>to do.</i>
 	 */
-	public synchronized void	put(String key, String value) throws Exception {
-		String request = (new PutRequest(key, value)).request2string();
-		String response =
-			this.sendRequest(request) ;
-		Response.string2response(response).interpret();
+	public void			put(String key, String value) throws Exception
+	{
+		assert	key != null && value != null :
+					new PreconditionException("key != null && value != null");
+
+		DataInputStream in =
+			RegistryFrames.payloadReader(
+				await(this.send(RegistryFrames.PUT,
+								RegistryFrames.bindingPayload(key, value))));
+		RegistryFrames.Outcome o = RegistryFrames.readOutcome(in);
+		if (!o.isOK()) {
+			(new PutResponse(o.getText())).interpret();
+		}
+	}
+
+	/**
+	 * send a put request to the registry binding a key to connection data.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	key != null and value != null
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @param key			key under which the information must be stored.
+	 * @param value			connection data associated to the key.
+	 * @throws Exception	when the key is already bound or the request failed.
+	 */
+	public void			put(String key, ConnectionData value) throws Exception
+	{
+		assert	value != null : new PreconditionException("value != null");
+
+		this.put(key, value.toString());
+	}
+
+	/**
+	 * send one put request for several bindings to the registry; all of the
+	 * bindings are tried and, if some keys were already bound, an exception
+	 * giving all of them is thrown.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code keys != null && values != null}
+	 * pre	{@code keys.length == values.length}
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @param keys			keys under which the information must be stored.
+	 * @param values		values associated to the keys, in the same order.
+	 * @throws Exception	<i>to do.</i>
+	 */
+	public void			put(String[] keys, String[] values) throws Exception
+	{
+		assert	keys != null && values != null :
+					new PreconditionException(
+										"keys != null && values != null");
+		assert	keys.length == values.length :
+					new PreconditionException(
+										"keys.length == values.length");
+
+		DataInputStream in =
+			RegistryFrames.payloadReader(
+				await(this.send(RegistryFrames.PUT_BATCH,
+								RegistryFrames.bindingsPayload(
+														keys, values))));
+		int n = RegistryFrames.readCount(in, RegistryFrames.MIN_OUTCOME_SIZE);
+		StringBuffer failed = null;
+		for (int i = 0 ; i < n ; i++) {
+			RegistryFrames.Outcome o = RegistryFrames.readOutcome(in);
+			if (!o.isOK()) {
+				if (failed == null) {
+					failed = new StringBuffer(o.getText());
+				} else {
+					failed.append(", ").append(o.getText());
+				}
+			}
+		}
+		if (failed != null) {
+			throw new GlobalRegistryResponseException(
+								"keys already bound: " + failed.toString());
+		}
+	}
+
+	/**
+	 * send one put request to the registry binding several keys to
+	 * connection data, as the put of several bindings above.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code keys != null && values != null}
+	 * pre	{@code keys.length == values.length}
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @param keys			keys under which the information must be stored.
+	 * @param values		connection data associated to the keys, in the same order.
+	 * @throws Exception	when some keys are already bound or the request failed.
+	 */
+	public void			put(String[] keys, ConnectionData[] values)
+	throws	Exception
+	{
+		assert	values != null : new PreconditionException("values != null");
+
+		String[] encoded = new String[values.length];
+		for (int i = 0 ; i < values.length ; i++) {
+			assert	values[i] != null :
+						new PreconditionException("values[i] != null");
+			encoded[i] = values[i].toString();
+		}
+		this.put(keys, encoded);
 	}
 
 	/**
@@ -188,16 +861,28 @@ public class			GlobalRegistryClient
 	 * </pre>
 	 *
 	 * @param key			key under which the value to remove is stored.
-	 * @throws Exception	<i>to do.</i>
+	 * @throws Exception	when the key is not bound or the request failed.
 	 */
-	public synchronized void	remove(String key) throws Exception {
-		String response =
-				this.sendRequest((new RemoveRequest(key)).request2string()) ;
-		Response.string2response(response).interpret();
+	public void			remove(String key) throws Exception
+	{
+		assert	key != null : new PreconditionException("key != null");
+
+		DataInputStream in =
+			RegistryFrames.payloadReader(
+				await(this.send(RegistryFrames.REMOVE,
+								RegistryFrames.keyPayload(key))));
+		RegistryFrames.Outcome o = RegistryFrames.readOutcome(in);
+		if (!o.isOK()) {
+			(new RemoveResponse(o.getText())).interpret();
+		}
+		this.invalidate(key);
 	}
 
 	/**
-	 * send a shutdown request to the registry.  NOT YET WORKING.
+	 * send a shutdown request to the registry, which then closes the
+	 * connection of this client; the registry terminates when all of the
+	 * JVM have shut down their client. Calls after the first one have no
+	 * effect.
 	 * 
 	 * <p><strong>Contract</strong></p>
 	 * 
@@ -208,10 +893,188 @@ public class			GlobalRegistryClient
 	 *
 	 * @throws Exception	<i>to do.</i>
 	 */
-	public synchronized void	shutdown() throws Exception {
-		String response =
-				this.sendRequest((new ShutdownRequest()).request2string()) ;
-		Response.string2response(response).interpret();
+	public void			shutdown() throws Exception
+	{
+		if (this.isShutdown) {
+			return;
+		}
+		CompletableFuture<byte[]> f =
+				this.send(RegistryFrames.SHUTDOWN, RegistryFrames.newFrame(0));
+		synchronized (this) {
+			this.isShutdown = true;
+		}
+		await(f);
+		Socket socket = this.s;
+		if (socket != null) {
+			socket.close();
+		}
+	}
+
+	// ------------------------------------------------------------------------
+	// Cache management
+	// ------------------------------------------------------------------------
+
+	/**
+	 * set the time to live of the cached bindings and drop the bindings
+	 * cached so far; 0 disables the cache.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code ttl >= 0 && unit != null}
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @param ttl	time to live of the cached bindings.
+	 * @param unit	time unit of <code>ttl</code>.
+	 */
+	public void			setCacheTTL(long ttl, TimeUnit unit)
+	{
+		assert	ttl >= 0 && unit != null :
+					new PreconditionException("ttl >= 0 && unit != null");
+
+		this.cacheTTL = unit.toNanos(ttl);
+		this.invalidations.incrementAndGet();
+		this.cache.clear();
+	}
+
+	/**
+	 * return the time to live of the cached bindings in nanoseconds.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true			// no precondition.
+	 * post	{@code return >= 0}
+	 * </pre>
+	 *
+	 * @return	the time to live of the cached bindings in nanoseconds.
+	 */
+	public long			getCacheTTL()
+	{
+		return this.cacheTTL;
+	}
+
+	/**
+	 * add a listener notified of each key which binding is invalidated,
+	 * by the registry or locally; listeners are called by the thread reading
+	 * the responses and must therefore be short.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code listener != null}
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @param listener	listener to be added.
+	 */
+	public void			addInvalidationListener(Consumer<String> listener)
+	{
+		assert	listener != null :
+					new PreconditionException("listener != null");
+
+		this.invalidationListeners.add(listener);
+	}
+
+	/**
+	 * remove an invalidation listener.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code listener != null}
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @param listener	listener to be removed.
+	 */
+	public void			removeInvalidationListener(Consumer<String> listener)
+	{
+		this.invalidationListeners.remove(listener);
+	}
+
+	/**
+	 * drop the cached binding of a key, if any, and notify the listeners.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code key != null}
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @param key	key which binding must be dropped.
+	 */
+	public void			invalidate(String key)
+	{
+		assert	key != null : new PreconditionException("key != null");
+
+		this.invalidations.incrementAndGet();
+		this.cache.remove(key);
+		for (Consumer<String> l : this.invalidationListeners) {
+			l.accept(key);
+		}
+	}
+
+	/**
+	 * drop all of the cached bindings and notify the listeners of each of
+	 * their keys.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true			// no precondition.
+	 * post	true			// no postcondition.
+	 * </pre>
+	 */
+	public void			invalidateAll()
+	{
+		this.invalidations.incrementAndGet();
+		for (String key : this.cache.keySet()) {
+			this.invalidate(key);
+		}
+	}
+
+	/**
+	 * return the cached connection data bound to a key, or null if the key
+	 * is not cached or its binding is stale.
+	 * 
+	 * @param key	key to be looked up.
+	 * @return		the cached connection data bound to <code>key</code>, or null.
+	 */
+	protected ConnectionData	cached(String key)
+	{
+		CachedBinding b = this.cache.get(key);
+		if (b == null) {
+			return null;
+		}
+		if (b.expiry - System.nanoTime() <= 0) {
+			this.cache.remove(key, b);
+			return null;
+		}
+		return b.value;
+	}
+
+	/**
+	 * cache the result of a successful lookup, unless a binding has been
+	 * invalidated since the lookup has been sent, as it could be this one.
+	 * 
+	 * @param key		key that has been looked up.
+	 * @param value		connection data bound to the key.
+	 * @param epoch		number of invalidations when the lookup has been sent.
+	 */
+	protected void		cache(String key, ConnectionData value, long epoch)
+	{
+		long ttl = this.cacheTTL;
+		if (ttl > 0) {
+			CachedBinding b =
+					new CachedBinding(value, System.nanoTime() + ttl);
+			this.cache.put(key, b);
+			if (this.invalidations.get() != epoch) {
+				this.cache.remove(key, b);
+			}
+		}
 	}
 }
 //-----------------------------------------------------------------------------
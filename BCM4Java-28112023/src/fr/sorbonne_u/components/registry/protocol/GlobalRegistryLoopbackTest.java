@@ -0,0 +1,270 @@
+package fr.sorbonne_u.components.registry.protocol;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+import fr.sorbonne_u.components.registry.ConnectionData;
+import fr.sorbonne_u.components.registry.ConnectionType;
+import fr.sorbonne_u.components.registry.GlobalRegistry;
+import fr.sorbonne_u.components.registry.GlobalRegistryClient;
+import fr.sorbonne_u.components.registry.exceptions.GlobalRegistryResponseException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>GlobalRegistryLoopbackTest</code> tests the binary
+ * protocol of the global registry by running a registry and its clients
+ * over the loopback interface.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * Each test starts a registry expecting a given number of clients on a
+ * free port; the registry terminates when all of them have disconnected,
+ * which the tests check to make sure that no connection is left behind.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant		true
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			GlobalRegistryLoopbackTest
+{
+	/**
+	 * start a registry expecting <code>clients</code> clients on a free
+	 * port of the loopback interface.
+	 * 
+	 * @param clients		number of clients that will connect.
+	 * @return				the thread running the registry.
+	 * @throws Exception	<i>to do.</i>
+	 */
+	protected static Thread	startRegistry(int clients) throws Exception
+	{
+		try (ServerSocket ss = new ServerSocket(0)) {
+			GlobalRegistry.REGISTRY_PORT = ss.getLocalPort();
+		}
+		GlobalRegistry.REGISTRY_HOSTNAME = "localhost";
+		GlobalRegistry.GLOBAL_REGISTRY_IS_LOGGING = false;
+		GlobalRegistry registry = new GlobalRegistry(clients);
+		Thread t = new Thread(() -> registry.run(), "GlobalRegistry");
+		t.setDaemon(true);
+		t.start();
+		return t;
+	}
+
+	/**
+	 * wait for the termination of a registry.
+	 * 
+	 * @param registry		thread running the registry.
+	 * @throws Exception	<i>to do.</i>
+	 */
+	protected static void	awaitTermination(Thread registry)
+	throws	Exception
+	{
+		registry.join(TimeUnit.SECONDS.toMillis(10));
+		Assertions.assertFalse(registry.isAlive(),
+							   "registry still running");
+	}
+
+	@Test
+	public void			testRequests() throws Exception
+	{
+		Thread registry = startRegistry(2);
+		GlobalRegistryClient publisher = new GlobalRegistryClient();
+		publisher.setOwnerURI("jvm1");
+		GlobalRegistryClient user = new GlobalRegistryClient();
+		CountDownLatch invalidated = new CountDownLatch(1);
+		user.addInvalidationListener(
+					key -> { if (key.equals("p1")) invalidated.countDown(); });
+
+		ConnectionData rmi = new ConnectionData(ConnectionType.RMI, "h1", 1099);
+		ConnectionData socket =
+						new ConnectionData(ConnectionType.SOCKET, "h2", 4000);
+
+		// single requests, with text and typed results
+		publisher.put("p1", rmi);
+		Assertions.assertEquals(
+				(new LookupResponse(false, rmi.toString())).response2string(),
+				user.lookup("p1"));
+		Assertions.assertEquals(user.lookup("p1"),
+								user.lookupAsync("p1").get());
+		Assertions.assertEquals(rmi, publisher.lookupConnectionData("p1"));
+		Assertions.assertEquals(rmi, user.lookupConnectionData("p1"));
+		GlobalRegistryResponseException e =
+			Assertions.assertThrows(
+				GlobalRegistryResponseException.class,
+				() -> publisher.put("p1", socket));
+		Assertions.assertEquals("key \"p1\" is already bound!",
+								e.getMessage());
+		e = Assertions.assertThrows(
+				GlobalRegistryResponseException.class,
+				() -> user.lookupConnectionData("unknown"));
+		Assertions.assertEquals("unknown not bound!", e.getMessage());
+
+		// batch requests
+		publisher.put(new String[]{"p2", "p3"},
+					  new ConnectionData[]{socket, socket});
+		ConnectionData[] cds =
+					user.lookupConnectionData(
+								new String[]{"p2", "unknown", "p3", "p1"});
+		Assertions.assertEquals(4, cds.length);
+		Assertions.assertEquals(socket, cds[0]);
+		Assertions.assertNull(cds[1]);
+		Assertions.assertEquals(socket, cds[2]);
+		Assertions.assertEquals(rmi, cds[3]);
+		Assertions.assertArrayEquals(
+				new String[]{
+					(new LookupResponse(false, socket.toString())).
+															response2string(),
+					(new LookupResponse(true, "unknown")).response2string()},
+				user.lookup(new String[]{"p2", "unknown"}));
+		e = Assertions.assertThrows(
+				GlobalRegistryResponseException.class,
+				() -> publisher.put(new String[]{"p3", "p4"},
+									new ConnectionData[]{rmi, rmi}));
+		Assertions.assertEquals("keys already bound: p3", e.getMessage());
+		Assertions.assertEquals(rmi, user.lookupConnectionData("p4"));
+
+		// prefetch of the ports owned by a JVM
+		Assertions.assertEquals(4, user.prefetch("jvm1"));
+		Assertions.assertEquals(0, user.prefetch("jvm2"));
+		Assertions.assertEquals(4,
+								user.prefetch(new String[]{"jvm1", "jvm2"}));
+
+		// removals, pushed to the other clients
+		publisher.remove("p1");
+		Assertions.assertTrue(invalidated.await(10, TimeUnit.SECONDS));
+		e = Assertions.assertThrows(
+				GlobalRegistryResponseException.class,
+				() -> user.lookupConnectionData("p1"));
+		Assertions.assertEquals("p1 not bound!", e.getMessage());
+		e = Assertions.assertThrows(
+				GlobalRegistryResponseException.class,
+				() -> publisher.remove("p1"));
+		Assertions.assertEquals("key \"p1\" unknown!", e.getMessage());
+
+		publisher.shutdown();
+		user.shutdown();
+		awaitTermination(registry);
+	}
+
+	@Test
+	public void			testMalformedFrames() throws Exception
+	{
+		Thread registry = startRegistry(1);
+		try (Socket s = new Socket("localhost", GlobalRegistry.REGISTRY_PORT)) {
+			DataOutputStream out = new DataOutputStream(s.getOutputStream());
+			DataInputStream in =
+				new DataInputStream(
+						new BufferedInputStream(s.getInputStream()));
+
+			// unknown op
+			out.write(this.raw((byte) 0x33, 5L, new byte[0]));
+			byte[] frame = RegistryFrames.readFrame(in);
+			Assertions.assertEquals(RegistryFrames.ERROR,
+									RegistryFrames.op(frame));
+			Assertions.assertEquals(5L, RegistryFrames.requestId(frame));
+
+			// batch which count does not match its payload
+			out.write(this.raw(RegistryFrames.LOOKUP_BATCH, 6L,
+							   new byte[]{0, 0, 0x10, 0}));
+			frame = RegistryFrames.readFrame(in);
+			Assertions.assertEquals(RegistryFrames.ERROR,
+									RegistryFrames.op(frame));
+			Assertions.assertEquals(6L, RegistryFrames.requestId(frame));
+
+			// truncated key
+			out.write(this.raw(RegistryFrames.PUT, 7L,
+							   new byte[]{0, 9, 'k'}));
+			frame = RegistryFrames.readFrame(in);
+			Assertions.assertEquals(RegistryFrames.ERROR,
+									RegistryFrames.op(frame));
+			Assertions.assertEquals(7L, RegistryFrames.requestId(frame));
+
+			// the connection is still usable after these errors
+			ByteBuffer lookup =
+				RegistryFrames.toFrame(RegistryFrames.keyPayload("k"),
+									   RegistryFrames.LOOKUP, 8L);
+			out.write(lookup.array(), lookup.arrayOffset(),
+					  lookup.remaining());
+			frame = RegistryFrames.readFrame(in);
+			Assertions.assertEquals(
+					(byte) (RegistryFrames.LOOKUP | RegistryFrames.ANSWER),
+					RegistryFrames.op(frame));
+			Assertions.assertEquals(8L, RegistryFrames.requestId(frame));
+			RegistryFrames.Outcome o =
+				RegistryFrames.readOutcome(RegistryFrames.payloadReader(frame));
+			Assertions.assertFalse(o.isOK());
+			Assertions.assertEquals("k", o.getText());
+
+			// a corrupted length cannot be resynchronised: the registry
+			// closes the connection
+			out.writeInt(-5);
+			out.flush();
+			Assertions.assertEquals(-1, in.read());
+		}
+		awaitTermination(registry);
+	}
+
+	/**
+	 * return the bytes of a complete frame with the given payload bytes.
+	 * 
+	 * @param op		op of the frame.
+	 * @param requestId	identifier of the request.
+	 * @param payload	payload bytes.
+	 * @return			the bytes of the frame, starting with its length.
+	 */
+	protected byte[]	raw(byte op, long requestId, byte[] payload)
+	{
+		ByteBuffer b = ByteBuffer.allocate(13 + payload.length);
+		b.putInt(9 + payload.length).put(op).putLong(requestId).put(payload);
+		return b.array();
+	}
+}
+// -----------------------------------------------------------------------------
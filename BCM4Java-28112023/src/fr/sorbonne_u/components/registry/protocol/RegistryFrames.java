@@ -0,0 +1,610 @@
+package fr.sorbonne_u.components.registry.protocol;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import fr.sorbonne_u.components.cvm.transport.CallEnvelope;
+import fr.sorbonne_u.exceptions.PreconditionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>RegistryFrames</code> defines the binary format of the
+ * frames exchanged between the global registry and its clients.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * Each frame is a length-prefixed byte sequence with the same header as the
+ * frames of the NIO transport (see <code>CallEnvelope</code>):
+ * </p>
+ * 
+ * <pre>
+ * frame    ::= length:int op:byte requestId:long payload
+ * lookup   ::= key:UTF
+ * put      ::= key:UTF value:UTF
+ * remove   ::= key:UTF
+ * shutdown ::= 
+ * lookups  ::= n:int key:UTF^n
+ * puts     ::= n:int (key:UTF value:UTF)^n
+ * owner    ::= jvmURI:UTF
+ * owned    ::= jvmURI:UTF
+ * answer   ::= outcome                    // op | ANSWER
+ * answers  ::= n:int outcome^n            // op | ANSWER for batches
+ * entries  ::= n:int (key:UTF value:UTF)^n // answer to owned
+ * invalidate ::= key:UTF                  // pushed, request id 0
+ * outcome  ::= status:byte text:UTF
+ * error    ::= message:UTF                // op == ERROR
+ * </pre>
+ * 
+ * <p>
+ * The text of an outcome is the value bound to the key for a successful
+ * lookup, the key for a failed request and the empty string otherwise. The
+ * outcomes of a batch are given in the order of the keys in the request.
+ * The request identifier is chosen by the client and copied in the answer,
+ * so that any number of requests may be pending at the same time on one
+ * connection.
+ * </p>
+ * <p>
+ * A client may declare once the URI of its JVM with an <code>owner</code>
+ * request; the keys it then puts are recorded as owned by this JVM and all
+ * of the bindings owned by a JVM can be fetched with one
+ * <code>owned</code> request. Each time a key is removed, the registry
+ * pushes an <code>invalidate</code> frame to all of its clients so that
+ * they can drop the cached binding of the key.
+ * </p>
+ * <p>
+ * The encoding and decoding methods of this class are shared by the
+ * registry and its client; the decoding methods check the lengths and
+ * counts read against the bytes actually received, so that a malformed
+ * frame is rejected with an <code>IOException</code> instead of causing
+ * large allocations.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	true
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public final class		RegistryFrames
+{
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** size in bytes of the frame header (length, op, request id).		*/
+	public static final int		HEADER_SIZE = CallEnvelope.HEADER_SIZE;
+	/** maximum size in bytes of a frame, a protection against corrupted
+	 *  length prefixes.													*/
+	public static final int		MAX_FRAME_SIZE = 16 * 1024 * 1024;
+
+	/** request: lookup of one key.										*/
+	public static final byte	LOOKUP = 1;
+	/** request: binding of one key.										*/
+	public static final byte	PUT = 2;
+	/** request: removal of one key.										*/
+	public static final byte	REMOVE = 3;
+	/** request: end of the connection.									*/
+	public static final byte	SHUTDOWN = 4;
+	/** request: lookup of several keys.									*/
+	public static final byte	LOOKUP_BATCH = 5;
+	/** request: binding of several keys.									*/
+	public static final byte	PUT_BATCH = 6;
+	/** request: declaration of the URI of the JVM of the client.		*/
+	public static final byte	OWNER = 7;
+	/** request: lookup of all of the keys put by a JVM.					*/
+	public static final byte	LOOKUP_OWNED = 8;
+	/** pushed by the registry: a key has been removed.					*/
+	public static final byte	INVALIDATE = 9;
+	/** flag added to the op of a request to get the op of its answer.		*/
+	public static final byte	ANSWER = 0x40;
+	/** answer to an unknown or badly formatted request.					*/
+	public static final byte	ERROR = 0x7F;
+
+	/** outcome status: the request succeeded.							*/
+	public static final byte	OK = 0;
+	/** outcome status: the request failed.								*/
+	public static final byte	NOK = 1;
+
+	/** minimum size in bytes of an encoded key, its length prefix.		*/
+	public static final int		MIN_KEY_SIZE = 2;
+	/** minimum size in bytes of an encoded binding.						*/
+	public static final int		MIN_BINDING_SIZE = 2 * MIN_KEY_SIZE;
+	/** minimum size in bytes of an encoded outcome.						*/
+	public static final int		MIN_OUTCOME_SIZE = 1 + MIN_KEY_SIZE;
+
+	/**
+	 * The class <code>Outcome</code> holds the decoded outcome of one
+	 * request.
+	 *
+	 * <p>Created on : 2026-10-19</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	public static final class	Outcome
+	{
+		/** true if the request succeeded.									*/
+		protected final boolean	ok;
+		/** text of the outcome.											*/
+		protected final String	text;
+
+		/**
+		 * create an outcome.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code text != null}
+		 * post	true			// no postcondition.
+		 * </pre>
+		 *
+		 * @param ok	true if the request succeeded.
+		 * @param text	text of the outcome.
+		 */
+		public			Outcome(boolean ok, String text)
+		{
+			assert	text != null : new PreconditionException("text != null");
+
+			this.ok = ok;
+			this.text = text;
+		}
+
+		/**
+		 * return true if the request succeeded.
+		 * 
+		 * @return	true if the request succeeded.
+		 */
+		public boolean	isOK()
+		{
+			return this.ok;
+		}
+
+		/**
+		 * return the text of the outcome: the value bound to the key for a
+		 * successful lookup, the key for a failed request and the empty
+		 * string otherwise.
+		 * 
+		 * @return	the text of the outcome.
+		 */
+		public String	getText()
+		{
+			return this.text;
+		}
+	}
+
+	private				RegistryFrames()
+	{
+		super();
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create a frame output stream with the header room reserved.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true			// no precondition.
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param initialSize	initial size of the buffer in bytes.
+	 * @return				a new frame output stream.
+	 */
+	public static CallEnvelope.FrameOutputStream	newFrame(int initialSize)
+	{
+		return new CallEnvelope.FrameOutputStream(initialSize);
+	}
+
+	/**
+	 * create a data output stream writing the payload of a new frame.
+	 * 
+	 * @param fos	frame output stream that will receive the payload.
+	 * @return		a data output stream writing on <code>fos</code>.
+	 */
+	public static DataOutputStream	payloadWriter(
+		CallEnvelope.FrameOutputStream fos
+		)
+	{
+		return CallEnvelope.payloadWriter(fos);
+	}
+
+	/**
+	 * complete the header of a frame and return it ready to be written.
+	 * 
+	 * @param fos		frame output stream holding the payload.
+	 * @param op		op of the frame.
+	 * @param requestId	identifier of the request.
+	 * @return			a byte buffer containing the complete frame.
+	 */
+	public static ByteBuffer	toFrame(
+		CallEnvelope.FrameOutputStream fos,
+		byte op,
+		long requestId
+		)
+	{
+		return fos.toFrame(op, requestId);
+	}
+
+	/**
+	 * return the op of a received frame, given without its length prefix.
+	 * 
+	 * @param frame	frame bytes, without the length prefix.
+	 * @return		the op of the frame.
+	 */
+	public static byte	op(byte[] frame)
+	{
+		return CallEnvelope.kind(frame);
+	}
+
+	/**
+	 * return the request identifier of a received frame, given without its
+	 * length prefix.
+	 * 
+	 * @param frame	frame bytes, without the length prefix.
+	 * @return		the request identifier of the frame.
+	 */
+	public static long	requestId(byte[] frame)
+	{
+		return CallEnvelope.requestId(frame);
+	}
+
+	/**
+	 * return a data input stream positioned at the beginning of the payload
+	 * of a received frame, given without its length prefix.
+	 * 
+	 * @param frame	frame bytes, without the length prefix.
+	 * @return		a data input stream reading the payload.
+	 */
+	public static DataInputStream	payloadReader(byte[] frame)
+	{
+		return CallEnvelope.payloadReader(frame);
+	}
+
+	/**
+	 * check the length prefix of a received frame.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true			// no precondition.
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @param length		length prefix of a frame.
+	 * @throws IOException	when <code>length</code> cannot be the one of a frame.
+	 */
+	public static void	checkLength(int length) throws IOException
+	{
+		if (length < HEADER_SIZE - 4 || length > MAX_FRAME_SIZE) {
+			throw new IOException("corrupted frame length: " + length);
+		}
+	}
+
+	/**
+	 * read one frame from a stream and return it without its length prefix.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code in != null}
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param in			stream positioned on the length prefix of a frame.
+	 * @return				the frame bytes, without the length prefix.
+	 * @throws IOException	when the stream ends or the length is corrupted.
+	 */
+	public static byte[]	readFrame(DataInputStream in) throws IOException
+	{
+		assert	in != null : new PreconditionException("in != null");
+
+		int length = in.readInt();
+		checkLength(length);
+		byte[] frame = new byte[length];
+		in.readFully(frame);
+		return frame;
+	}
+
+	/**
+	 * encode the payload of a request on one key (lookup, remove, owner,
+	 * owned or invalidate).
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code key != null}
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param key			key of the request.
+	 * @return				the frame output stream holding the payload.
+	 * @throws IOException	<i>to do.</i>
+	 */
+	public static CallEnvelope.FrameOutputStream	keyPayload(String key)
+	throws	IOException
+	{
+		assert	key != null : new PreconditionException("key != null");
+
+		CallEnvelope.FrameOutputStream fos = newFrame(32 + key.length());
+		payloadWriter(fos).writeUTF(key);
+		return fos;
+	}
+
+	/**
+	 * encode the payload of a put request.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code key != null && value != null}
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param key			key to be bound.
+	 * @param value			value to be associated to the key.
+	 * @return				the frame output stream holding the payload.
+	 * @throws IOException	<i>to do.</i>
+	 */
+	public static CallEnvelope.FrameOutputStream	bindingPayload(
+		String key,
+		String value
+		) throws IOException
+	{
+		assert	key != null && value != null :
+					new PreconditionException("key != null && value != null");
+
+		CallEnvelope.FrameOutputStream fos =
+							newFrame(32 + key.length() + value.length());
+		DataOutputStream out = payloadWriter(fos);
+		out.writeUTF(key);
+		out.writeUTF(value);
+		return fos;
+	}
+
+	/**
+	 * encode the payload of a batch lookup request.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code keys != null}
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param keys			keys to be looked up.
+	 * @return				the frame output stream holding the payload.
+	 * @throws IOException	<i>to do.</i>
+	 */
+	public static CallEnvelope.FrameOutputStream	keysPayload(String[] keys)
+	throws	IOException
+	{
+		assert	keys != null : new PreconditionException("keys != null");
+
+		CallEnvelope.FrameOutputStream fos = newFrame(64 * keys.length);
+		DataOutputStream out = payloadWriter(fos);
+		out.writeInt(keys.length);
+		for (int i = 0 ; i < keys.length ; i++) {
+			assert	keys[i] != null :
+						new PreconditionException("keys[i] != null");
+			out.writeUTF(keys[i]);
+		}
+		return fos;
+	}
+
+	/**
+	 * encode the payload of a batch put request.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code keys != null && values != null}
+	 * pre	{@code keys.length == values.length}
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param keys			keys to be bound.
+	 * @param values		values associated to the keys, in the same order.
+	 * @return				the frame output stream holding the payload.
+	 * @throws IOException	<i>to do.</i>
+	 */
+	public static CallEnvelope.FrameOutputStream	bindingsPayload(
+		String[] keys,
+		String[] values
+		) throws IOException
+	{
+		assert	keys != null && values != null :
+					new PreconditionException(
+										"keys != null && values != null");
+		assert	keys.length == values.length :
+					new PreconditionException(
+										"keys.length == values.length");
+
+		CallEnvelope.FrameOutputStream fos = newFrame(128 * keys.length);
+		DataOutputStream out = payloadWriter(fos);
+		out.writeInt(keys.length);
+		for (int i = 0 ; i < keys.length ; i++) {
+			assert	keys[i] != null && values[i] != null :
+						new PreconditionException(
+									"keys[i] != null && values[i] != null");
+			out.writeUTF(keys[i]);
+			out.writeUTF(values[i]);
+		}
+		return fos;
+	}
+
+	/**
+	 * read the number of entries of a batch and check that the rest of the
+	 * payload can hold them.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code in != null && minEntrySize > 0}
+	 * post	{@code return >= 0}
+	 * </pre>
+	 *
+	 * @param in			stream reading a payload.
+	 * @param minEntrySize	minimum size in bytes of one encoded entry.
+	 * @return				the number of entries.
+	 * @throws IOException	when the count is negative or too large.
+	 */
+	public static int	readCount(DataInputStream in, int minEntrySize)
+	throws	IOException
+	{
+		assert	in != null && minEntrySize > 0 :
+					new PreconditionException(
+										"in != null && minEntrySize > 0");
+
+		int n = in.readInt();
+		if (n < 0 || (long) n * minEntrySize > in.available()) {
+			throw new IOException("corrupted entry count: " + n);
+		}
+		return n;
+	}
+
+	/**
+	 * encode the outcome of a request.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code out != null && text != null}
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @param out			stream writing a payload.
+	 * @param ok			true if the request succeeded.
+	 * @param text			text of the outcome.
+	 * @throws IOException	<i>to do.</i>
+	 */
+	public static void	writeOutcome(
+		DataOutputStream out,
+		boolean ok,
+		String text
+		) throws IOException
+	{
+		assert	out != null && text != null :
+					new PreconditionException("out != null && text != null");
+
+		out.writeByte(ok ? OK : NOK);
+		out.writeUTF(text);
+	}
+
+	/**
+	 * decode the outcome of a request.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code in != null}
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param in			stream positioned on an outcome.
+	 * @return				the decoded outcome.
+	 * @throws IOException	when the outcome is truncated or its status unknown.
+	 */
+	public static Outcome	readOutcome(DataInputStream in)
+	throws	IOException
+	{
+		assert	in != null : new PreconditionException("in != null");
+
+		byte status = in.readByte();
+		if (status != OK && status != NOK) {
+			throw new IOException("corrupted outcome status: " + status);
+		}
+		return new Outcome(status == OK, in.readUTF());
+	}
+
+	/**
+	 * encode an error frame.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code message != null}
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param requestId		identifier of the request in error.
+	 * @param message		description of the error.
+	 * @return				a byte buffer containing the complete frame.
+	 */
+	public static ByteBuffer	errorFrame(long requestId, String message)
+	{
+		assert	message != null :
+					new PreconditionException("message != null");
+
+		try {
+			return toFrame(keyPayload(message), ERROR, requestId);
+		} catch (IOException e) {
+			// writing in memory, only a too long message can fail
+			return errorFrame(requestId, "error");
+		}
+	}
+
+	/**
+	 * return a printable name for an op, used in logs.
+	 * 
+	 * @param op	op of a frame.
+	 * @return		a printable name for <code>op</code>.
+	 */
+	public static String	opName(byte op)
+	{
+		switch (op & ~ANSWER) {
+		case LOOKUP:		return "lookup";
+		case PUT:			return "put";
+		case REMOVE:		return "remove";
+		case SHUTDOWN:		return "shutdown";
+		case LOOKUP_BATCH:	return "lookup*";
+		case PUT_BATCH:		return "put*";
+		case OWNER:			return "owner";
+		case LOOKUP_OWNED:	return "owned";
+		case INVALIDATE:	return "invalidate";
+		default:			return "unknown(" + op + ")";
+		}
+	}
+}
+// -----------------------------------------------------------------------------
@@ -0,0 +1,265 @@
+package fr.sorbonne_u.components.registry.protocol;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+import fr.sorbonne_u.components.cvm.transport.CallEnvelope;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>RegistryFramesTest</code> tests the encoding and decoding
+ * of the frames of the global registry protocol, including the rejection of
+ * malformed frames.
+ *
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant		true
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			RegistryFramesTest
+{
+	/**
+	 * return a stream reading the bytes of a complete frame, starting with
+	 * its length prefix.
+	 * 
+	 * @param frame	complete frame.
+	 * @return		a stream reading <code>frame</code>.
+	 */
+	protected static DataInputStream	stream(ByteBuffer frame)
+	{
+		return new DataInputStream(
+					new ByteArrayInputStream(
+							frame.array(),
+							frame.arrayOffset() + frame.position(),
+							frame.remaining()));
+	}
+
+	/**
+	 * return a frame, without its length prefix, made of a header and the
+	 * given payload bytes.
+	 * 
+	 * @param op		op of the frame.
+	 * @param payload	payload bytes.
+	 * @return			the frame bytes, without the length prefix.
+	 */
+	protected static byte[]	frame(byte op, byte[] payload)
+	{
+		ByteBuffer b = ByteBuffer.allocate(9 + payload.length);
+		b.put(op).putLong(42L).put(payload);
+		return b.array();
+	}
+
+	@Test
+	public void			testKeyRoundTrip() throws Exception
+	{
+		String key = "port-\u00e9t\u00e9";
+		ByteBuffer f =
+			RegistryFrames.toFrame(RegistryFrames.keyPayload(key),
+								   RegistryFrames.LOOKUP, 17L);
+		byte[] frame = RegistryFrames.readFrame(stream(f));
+		Assertions.assertEquals(RegistryFrames.LOOKUP,
+								RegistryFrames.op(frame));
+		Assertions.assertEquals(17L, RegistryFrames.requestId(frame));
+		DataInputStream in = RegistryFrames.payloadReader(frame);
+		Assertions.assertEquals(key, in.readUTF());
+		Assertions.assertEquals(0, in.available());
+	}
+
+	@Test
+	public void			testBindingRoundTrip() throws Exception
+	{
+		ByteBuffer f =
+			RegistryFrames.toFrame(
+					RegistryFrames.bindingPayload("p", "socket=h:4000"),
+					RegistryFrames.PUT, 3L);
+		byte[] frame = RegistryFrames.readFrame(stream(f));
+		Assertions.assertEquals(RegistryFrames.PUT, RegistryFrames.op(frame));
+		DataInputStream in = RegistryFrames.payloadReader(frame);
+		Assertions.assertEquals("p", in.readUTF());
+		Assertions.assertEquals("socket=h:4000", in.readUTF());
+	}
+
+	@Test
+	public void			testBatchRoundTrip() throws Exception
+	{
+		String[] keys = new String[]{"a", "", "c"};
+		String[] values = new String[]{"rmi=h1", "rmi=h2", "socket=h3:1"};
+
+		byte[] frame =
+			RegistryFrames.readFrame(
+				stream(RegistryFrames.toFrame(
+							RegistryFrames.keysPayload(keys),
+							RegistryFrames.LOOKUP_BATCH, 5L)));
+		DataInputStream in = RegistryFrames.payloadReader(frame);
+		int n = RegistryFrames.readCount(in, RegistryFrames.MIN_KEY_SIZE);
+		Assertions.assertEquals(keys.length, n);
+		for (int i = 0 ; i < n ; i++) {
+			Assertions.assertEquals(keys[i], in.readUTF());
+		}
+
+		frame = RegistryFrames.readFrame(
+					stream(RegistryFrames.toFrame(
+								RegistryFrames.bindingsPayload(keys, values),
+								RegistryFrames.PUT_BATCH, 6L)));
+		in = RegistryFrames.payloadReader(frame);
+		n = RegistryFrames.readCount(in, RegistryFrames.MIN_BINDING_SIZE);
+		Assertions.assertEquals(keys.length, n);
+		for (int i = 0 ; i < n ; i++) {
+			Assertions.assertEquals(keys[i], in.readUTF());
+			Assertions.assertEquals(values[i], in.readUTF());
+		}
+
+		frame = RegistryFrames.readFrame(
+					stream(RegistryFrames.toFrame(
+								RegistryFrames.keysPayload(new String[0]),
+								RegistryFrames.LOOKUP_BATCH, 7L)));
+		Assertions.assertEquals(
+			0,
+			RegistryFrames.readCount(RegistryFrames.payloadReader(frame),
+									 RegistryFrames.MIN_KEY_SIZE));
+	}
+
+	@Test
+	public void			testOutcomeRoundTrip() throws Exception
+	{
+		CallEnvelope.FrameOutputStream fos = RegistryFrames.newFrame(64);
+		DataOutputStream out = RegistryFrames.payloadWriter(fos);
+		RegistryFrames.writeOutcome(out, true, "rmi=h");
+		RegistryFrames.writeOutcome(out, false, "k");
+		byte[] frame =
+			RegistryFrames.readFrame(
+				stream(RegistryFrames.toFrame(
+						fos,
+						(byte) (RegistryFrames.LOOKUP | RegistryFrames.ANSWER),
+						9L)));
+		DataInputStream in = RegistryFrames.payloadReader(frame);
+		RegistryFrames.Outcome o = RegistryFrames.readOutcome(in);
+		Assertions.assertTrue(o.isOK());
+		Assertions.assertEquals("rmi=h", o.getText());
+		o = RegistryFrames.readOutcome(in);
+		Assertions.assertFalse(o.isOK());
+		Assertions.assertEquals("k", o.getText());
+
+		frame = RegistryFrames.readFrame(
+						stream(RegistryFrames.errorFrame(11L, "bad request")));
+		Assertions.assertEquals(RegistryFrames.ERROR,
+								RegistryFrames.op(frame));
+		Assertions.assertEquals(11L, RegistryFrames.requestId(frame));
+		Assertions.assertEquals(
+					"bad request",
+					RegistryFrames.payloadReader(frame).readUTF());
+	}
+
+	@Test
+	public void			testCorruptedLengths() throws Exception
+	{
+		Assertions.assertThrows(
+			IOException.class,
+			() -> RegistryFrames.checkLength(-1));
+		Assertions.assertThrows(
+			IOException.class,
+			() -> RegistryFrames.checkLength(RegistryFrames.HEADER_SIZE - 5));
+		Assertions.assertThrows(
+			IOException.class,
+			() -> RegistryFrames.checkLength(
+									RegistryFrames.MAX_FRAME_SIZE + 1));
+		RegistryFrames.checkLength(RegistryFrames.HEADER_SIZE - 4);
+
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		new DataOutputStream(bos).writeInt(Integer.MAX_VALUE);
+		Assertions.assertThrows(
+			IOException.class,
+			() -> RegistryFrames.readFrame(
+						new DataInputStream(
+							new ByteArrayInputStream(bos.toByteArray()))));
+
+		// a frame cut before its end
+		ByteBuffer f =
+			RegistryFrames.toFrame(RegistryFrames.keyPayload("key"),
+								   RegistryFrames.LOOKUP, 1L);
+		Assertions.assertThrows(
+			EOFException.class,
+			() -> RegistryFrames.readFrame(
+						new DataInputStream(
+							new ByteArrayInputStream(
+									f.array(), 0, f.remaining() - 1))));
+	}
+
+	@Test
+	public void			testMalformedPayloads() throws Exception
+	{
+		// a count announcing more entries than the payload can hold
+		byte[] frame = frame(RegistryFrames.LOOKUP_BATCH,
+							 new byte[]{0, 0, 0, 2, 0, 0});
+		Assertions.assertThrows(
+			IOException.class,
+			() -> RegistryFrames.readCount(RegistryFrames.payloadReader(frame),
+										   RegistryFrames.MIN_KEY_SIZE));
+		byte[] negative = frame(RegistryFrames.PUT_BATCH,
+								new byte[]{(byte) 0xFF, 0, 0, 0});
+		Assertions.assertThrows(
+			IOException.class,
+			() -> RegistryFrames.readCount(
+									RegistryFrames.payloadReader(negative),
+									RegistryFrames.MIN_BINDING_SIZE));
+
+		// an outcome with an unknown status
+		byte[] status = frame(RegistryFrames.ANSWER, new byte[]{7, 0, 0});
+		Assertions.assertThrows(
+			IOException.class,
+			() -> RegistryFrames.readOutcome(
+									RegistryFrames.payloadReader(status)));
+
+		// a key which length goes past the end of the payload
+		byte[] key = frame(RegistryFrames.LOOKUP, new byte[]{0, 5, 'a'});
+		Assertions.assertThrows(
+			EOFException.class,
+			() -> RegistryFrames.payloadReader(key).readUTF());
+	}
+}
+// -----------------------------------------------------------------------------
@@ -130,6 +130,39 @@ import fr.sorbonne_u.exceptions.PreconditionException;
  * time is reached. The method {@code waitingDelayUntilStartInMillis} returns
  * the remaining time in milliseconds until the start time.
  * </p>
+ * <p>
+ * The methods above work with {@code System.currentTimeMillis()} and
+ * {@code Instant}, hence with a millisecond resolution multiplied by the
+ * acceleration factor and following the jumps of the system wall clock,
+ * while allocating instants at each call. The monotonic methods work instead
+ * on primitive {@code long} values in nanoseconds and on a time line anchored
+ * once per JVM on {@code System.nanoTime()}:
+ * </p>
+ * <ul>
+ * <li>{@code currentEpochNanos} returns the current Unix epoch time in
+ *   nanoseconds as measured from the anchor with {@code System.nanoTime()},
+ *   hence monotonic and immune to wall clock adjustments after the
+ *   anchoring.</li>
+ * <li>{@code currentAcceleratedNanos} returns the current accelerated time
+ *   in nanoseconds since the Unix epoch <i>i.e.</i>, the accelerated instant
+ *   expressed as a number of nanoseconds; {@code acceleratedNanosOf} and
+ *   {@code epochNanosOf} convert an instant to this representation.</li>
+ * <li>{@code acceleratedNanosOfEpochNanos} and
+ *   {@code epochNanosOfAcceleratedNanos} go from one time line to the other
+ *   with nanosecond values.</li>
+ * <li>{@code nanoDelayUntilAcceleratedNanos} and
+ *   {@code nanoTimeOfAcceleratedNanos} give respectively the real delay until
+ *   an accelerated time and the value of {@code System.nanoTime()} at which
+ *   it will be reached, the latter being used by
+ *   {@code AcceleratedScheduler} to wake tasks with a sub-millisecond
+ *   accuracy.</li>
+ * </ul>
+ * <p>
+ * The anchor is shared by all of the clocks of a JVM and taken on the first
+ * monotonic call in the JVM, so that their monotonic times are consistent;
+ * a clock received from another JVM, for example from the
+ * {@code ClocksServer}, uses the anchor of the receiving JVM.
+ * </p>
  * 
  * <p><i>Good practices</i></p>
  * 
@@ -224,6 +257,39 @@ implements	Serializable
 	protected final long		unixEpochStartTimeInNanos;
 	/** start instant.														*/
 	protected final Instant		startInstant;
+	/**
+	 * The class <code>MonotonicAnchor</code> associates a Unix epoch time to
+	 * a value of <code>System.nanoTime()</code> taken at the same moment; its
+	 * single instance <code>JVM_ANCHOR</code> is created when the class is
+	 * initialised, on the first monotonic call in the JVM.
+	 *
+	 * <p>Created on : 2026-10-19</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	protected static class	MonotonicAnchor
+	{
+		/** anchor of the monotonic time line in the current JVM.			*/
+		protected static final MonotonicAnchor	JVM_ANCHOR =
+														new MonotonicAnchor();
+
+		/** Unix epoch time of the anchor in nanoseconds.					*/
+		protected final long	epochNanos;
+		/** value of <code>System.nanoTime()</code> at the anchor.			*/
+		protected final long	nanoTime;
+
+		/**
+		 * create an anchor at the current time.
+		 */
+		protected		MonotonicAnchor()
+		{
+			long t = System.nanoTime();
+			this.epochNanos = epochNanosOf(Instant.now());
+			long t2 = System.nanoTime();
+			// midpoint robust to the overflow of System.nanoTime()
+			this.nanoTime = t + ((t2 - t) >> 1);
+		}
+	}
 
 	// -------------------------------------------------------------------------
 	// Constructors
@@ -846,6 +912,182 @@ implements	Serializable
 		return delayInNanos;
 	}
 
+	// -------------------------------------------------------------------------
+	// Monotonic methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return the number of nanoseconds since the Unix epoch of an instant.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code i != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param i	an instant.
+	 * @return	the number of nanoseconds since the Unix epoch of {@code i}.
+	 */
+	public static long	epochNanosOf(Instant i)
+	{
+		assert	i != null : new PreconditionException("i != null");
+
+		return TimeUnit.SECONDS.toNanos(i.getEpochSecond()) + i.getNano();
+	}
+
+	/**
+	 * return the anchor of the monotonic time line in the current JVM,
+	 * created on the first call in the JVM.
+	 * 
+	 * @return	the anchor of the monotonic time line in the current JVM.
+	 */
+	protected MonotonicAnchor	monotonicAnchor()
+	{
+		return MonotonicAnchor.JVM_ANCHOR;
+	}
+
+	/**
+	 * return the current Unix epoch time in nanoseconds measured on the
+	 * monotonic time line of the current JVM.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code return > 0}
+	 * </pre>
+	 *
+	 * @return	the current Unix epoch time in nanoseconds.
+	 */
+	public long			currentEpochNanos()
+	{
+		MonotonicAnchor a = this.monotonicAnchor();
+		return a.epochNanos + (System.nanoTime() - a.nanoTime);
+	}
+
+	/**
+	 * return the accelerated time, in nanoseconds since the Unix epoch,
+	 * corresponding to a Unix epoch time in nanoseconds.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param epochNanos	a Unix epoch time in nanoseconds.
+	 * @return				the corresponding accelerated time in nanoseconds.
+	 */
+	public long			acceleratedNanosOfEpochNanos(long epochNanos)
+	{
+		return epochNanosOf(this.startInstant)
+				+ (long) ((epochNanos - this.unixEpochStartTimeInNanos)
+													* this.accelerationFactor);
+	}
+
+	/**
+	 * return the Unix epoch time in nanoseconds corresponding to an
+	 * accelerated time in nanoseconds since the Unix epoch.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param acceleratedNanos	an accelerated time in nanoseconds.
+	 * @return					the corresponding Unix epoch time in nanoseconds.
+	 */
+	public long			epochNanosOfAcceleratedNanos(long acceleratedNanos)
+	{
+		return this.unixEpochStartTimeInNanos
+				+ (long) ((acceleratedNanos - epochNanosOf(this.startInstant))
+													/ this.accelerationFactor);
+	}
+
+	/**
+	 * return the current accelerated time in nanoseconds since the Unix
+	 * epoch, measured on the monotonic time line of the current JVM.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @return	the current accelerated time in nanoseconds.
+	 */
+	public long			currentAcceleratedNanos()
+	{
+		return this.acceleratedNanosOfEpochNanos(this.currentEpochNanos());
+	}
+
+	/**
+	 * return the accelerated time in nanoseconds since the Unix epoch of an
+	 * accelerated instant; merely {@code epochNanosOf(i)}, as accelerated
+	 * instants are expressed on the Unix epoch.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code i != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param i	an accelerated instant.
+	 * @return	the accelerated time in nanoseconds of {@code i}.
+	 */
+	public long			acceleratedNanosOf(Instant i)
+	{
+		return epochNanosOf(i);
+	}
+
+	/**
+	 * return the real delay in nanoseconds from now until an accelerated
+	 * time, measured on the monotonic time line of the current JVM; the
+	 * result is negative or zero if the accelerated time is already passed.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param acceleratedNanos	an accelerated time in nanoseconds.
+	 * @return					the real delay in nanoseconds until {@code acceleratedNanos}.
+	 */
+	public long			nanoDelayUntilAcceleratedNanos(long acceleratedNanos)
+	{
+		return this.epochNanosOfAcceleratedNanos(acceleratedNanos)
+											- this.currentEpochNanos();
+	}
+
+	/**
+	 * return the value of {@code System.nanoTime()} in the current JVM at
+	 * which an accelerated time is reached.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param acceleratedNanos	an accelerated time in nanoseconds.
+	 * @return					the value of {@code System.nanoTime()} at which {@code acceleratedNanos} is reached.
+	 */
+	public long			nanoTimeOfAcceleratedNanos(long acceleratedNanos)
+	{
+		MonotonicAnchor a = this.monotonicAnchor();
+		return a.nanoTime + (this.epochNanosOfAcceleratedNanos(acceleratedNanos)
+															- a.epochNanos);
+	}
+
 	// -------------------------------------------------------------------------
 	// Tests
 	// -------------------------------------------------------------------------
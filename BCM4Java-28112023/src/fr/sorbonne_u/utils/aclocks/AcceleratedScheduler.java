@@ -0,0 +1,515 @@
+package fr.sorbonne_u.utils.aclocks;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.PriorityQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import fr.sorbonne_u.exceptions.PreconditionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>AcceleratedScheduler</code> implements a scheduler of tasks
+ * at accelerated times of an {@code AcceleratedClock} waking them with a
+ * sub-millisecond accuracy.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * Tasks are scheduled at accelerated times expressed in nanoseconds since the
+ * Unix epoch (see {@code AcceleratedClock#currentAcceleratedNanos}), singly or
+ * by batches, the whole batch being inserted under one lock acquisition. The
+ * accelerated times are converted once into deadlines on the
+ * {@code System.nanoTime()} time line of the current JVM. One timer thread
+ * waits for the earliest deadline by parking until a short spinning delay
+ * before it, then spins until the deadline is reached, hence avoiding the
+ * wake-up latency of the operating system timers which, multiplied by large
+ * acceleration factors, becomes a significant jitter in accelerated time.
+ * </p>
+ * <p>
+ * All of the tasks which deadlines are reached at wake-up are taken as a batch
+ * and run, in the order of their deadlines, on the timer thread if no executor
+ * has been given, or submitted to the executor otherwise. Tasks run on the
+ * timer thread must be short not to delay the following ones.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code clock != null}
+ * invariant	{@code spinNanos >= 0}
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			AcceleratedScheduler
+{
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** default delay before a deadline during which the timer thread spins
+	 *  rather than parks, in nanoseconds.									*/
+	public static final long	DEFAULT_SPIN_NANOS =
+										TimeUnit.MICROSECONDS.toNanos(200);
+	/** counter used to name the timer threads.							*/
+	protected static final AtomicLong	TIMER_COUNTER = new AtomicLong(0);
+
+	/** clock giving the accelerated time.									*/
+	protected final AcceleratedClock			clock;
+	/** executor running the tasks or null to run them on the timer thread.	*/
+	protected final Executor					executor;
+	/** delay before a deadline during which the timer thread spins.		*/
+	protected final long						spinNanos;
+	/** scheduled tasks ordered by deadlines.								*/
+	protected final PriorityQueue<ScheduledTask>	queue;
+	/** lock protecting the queue.											*/
+	protected final ReentrantLock				lock;
+	/** condition signalled when an earlier deadline is scheduled.			*/
+	protected final Condition					earlier;
+	/** sequence number ordering the tasks with equal deadlines.			*/
+	protected long								sequence;
+	/** thread waiting for the deadlines.									*/
+	protected final Thread						timer;
+	/** true when the scheduler has been shut down.						*/
+	protected volatile boolean					shutdown;
+
+	/**
+	 * The class <code>ScheduledTask</code> represents a task scheduled at an
+	 * accelerated time, which can be cancelled before it runs.
+	 *
+	 * <p>Created on : 2026-10-19</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	public static class	ScheduledTask
+	implements	Comparable<ScheduledTask>
+	{
+		/** accelerated time of the task in nanoseconds.					*/
+		protected final long		acceleratedNanos;
+		/** deadline of the task on the {@code System.nanoTime()} line.		*/
+		protected final long		deadline;
+		/** sequence number ordering the tasks with equal deadlines.		*/
+		protected final long		sequence;
+		/** task to be run.													*/
+		protected final Runnable	task;
+		/** true when the task has been cancelled.							*/
+		protected volatile boolean	cancelled;
+
+		/**
+		 * create a scheduled task.
+		 * 
+		 * @param acceleratedNanos	accelerated time of the task in nanoseconds.
+		 * @param deadline			deadline of the task on the {@code System.nanoTime()} line.
+		 * @param sequence			sequence number ordering the tasks with equal deadlines.
+		 * @param task				task to be run.
+		 */
+		protected		ScheduledTask(
+			long acceleratedNanos,
+			long deadline,
+			long sequence,
+			Runnable task
+			)
+		{
+			this.acceleratedNanos = acceleratedNanos;
+			this.deadline = deadline;
+			this.sequence = sequence;
+			this.task = task;
+			this.cancelled = false;
+		}
+
+		/**
+		 * return the accelerated time of the task in nanoseconds.
+		 * 
+		 * @return	the accelerated time of the task in nanoseconds.
+		 */
+		public long		getAcceleratedNanos()
+		{
+			return this.acceleratedNanos;
+		}
+
+		/**
+		 * cancel the task; it will not run if it has not started yet.
+		 */
+		public void		cancel()
+		{
+			this.cancelled = true;
+		}
+
+		/**
+		 * return true if the task has been cancelled.
+		 * 
+		 * @return	true if the task has been cancelled.
+		 */
+		public boolean	isCancelled()
+		{
+			return this.cancelled;
+		}
+
+		/**
+		 * @see java.lang.Comparable#compareTo(java.lang.Object)
+		 */
+		@Override
+		public int		compareTo(ScheduledTask o)
+		{
+			long d = this.deadline - o.deadline;
+			if (d == 0) {
+				d = this.sequence - o.sequence;
+			}
+			return d < 0 ? -1 : (d > 0 ? 1 : 0);
+		}
+	}
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create a scheduler running the tasks on its timer thread with the
+	 * default spinning delay.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code clock != null}
+	 * post	{@code !isShutdown()}
+	 * </pre>
+	 *
+	 * @param clock	clock giving the accelerated time.
+	 */
+	public				AcceleratedScheduler(AcceleratedClock clock)
+	{
+		this(clock, null, DEFAULT_SPIN_NANOS);
+	}
+
+	/**
+	 * create a scheduler.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code clock != null}
+	 * pre	{@code spinNanos >= 0}
+	 * post	{@code !isShutdown()}
+	 * </pre>
+	 *
+	 * @param clock		clock giving the accelerated time.
+	 * @param executor	executor running the tasks or null to run them on the timer thread.
+	 * @param spinNanos	delay before a deadline during which the timer thread spins, in nanoseconds.
+	 */
+	public				AcceleratedScheduler(
+		AcceleratedClock clock,
+		Executor executor,
+		long spinNanos
+		)
+	{
+		assert	clock != null : new PreconditionException("clock != null");
+		assert	spinNanos >= 0 : new PreconditionException("spinNanos >= 0");
+
+		this.clock = clock;
+		this.executor = executor;
+		this.spinNanos = spinNanos;
+		this.queue = new PriorityQueue<ScheduledTask>();
+		this.lock = new ReentrantLock();
+		this.earlier = this.lock.newCondition();
+		this.sequence = 0L;
+		this.shutdown = false;
+		this.timer = new Thread(this::timerLoop,
+								"AcceleratedScheduler-"
+									+ TIMER_COUNTER.incrementAndGet()
+									+ "-" + clock.getClockURI());
+		this.timer.setDaemon(true);
+		this.timer.start();
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return the clock giving the accelerated time.
+	 * 
+	 * @return	the clock giving the accelerated time.
+	 */
+	public AcceleratedClock	getClock()
+	{
+		return this.clock;
+	}
+
+	/**
+	 * schedule a task at an accelerated time; a time already passed makes
+	 * the task run as soon as possible.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code !isShutdown()}
+	 * pre	{@code task != null}
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param acceleratedNanos	accelerated time in nanoseconds since the Unix epoch.
+	 * @param task				task to be run.
+	 * @return					the scheduled task.
+	 */
+	public ScheduledTask	schedule(long acceleratedNanos, Runnable task)
+	{
+		assert	!this.shutdown : new PreconditionException("!isShutdown()");
+		assert	task != null : new PreconditionException("task != null");
+
+		long deadline = this.clock.nanoTimeOfAcceleratedNanos(acceleratedNanos);
+		this.lock.lock();
+		try {
+			ScheduledTask t = new ScheduledTask(acceleratedNanos, deadline,
+												this.sequence++, task);
+			this.enqueue(t);
+			return t;
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * schedule a task at an accelerated instant.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code !isShutdown()}
+	 * pre	{@code i != null && task != null}
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param i		accelerated instant.
+	 * @param task	task to be run.
+	 * @return		the scheduled task.
+	 */
+	public ScheduledTask	schedule(Instant i, Runnable task)
+	{
+		assert	i != null : new PreconditionException("i != null");
+
+		return this.schedule(this.clock.acceleratedNanosOf(i), task);
+	}
+
+	/**
+	 * schedule a batch of tasks, the {@code i}th task at the {@code i}th
+	 * accelerated time, under one lock acquisition.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code !isShutdown()}
+	 * pre	{@code acceleratedNanos != null && tasks != null}
+	 * pre	{@code acceleratedNanos.length == tasks.length}
+	 * post	{@code return != null && return.length == tasks.length}
+	 * </pre>
+	 *
+	 * @param acceleratedNanos	accelerated times in nanoseconds since the Unix epoch.
+	 * @param tasks				tasks to be run.
+	 * @return					the scheduled tasks, in the same order.
+	 */
+	public ScheduledTask[]	scheduleAll(
+		long[] acceleratedNanos,
+		Runnable[] tasks
+		)
+	{
+		assert	!this.shutdown : new PreconditionException("!isShutdown()");
+		assert	acceleratedNanos != null && tasks != null :
+					new PreconditionException(
+							"acceleratedNanos != null && tasks != null");
+		assert	acceleratedNanos.length == tasks.length :
+					new PreconditionException(
+							"acceleratedNanos.length == tasks.length");
+
+		ScheduledTask[] ret = new ScheduledTask[tasks.length];
+		long[] deadlines = new long[tasks.length];
+		for (int i = 0 ; i < tasks.length ; i++) {
+			assert	tasks[i] != null :
+						new PreconditionException("tasks[i] != null");
+			deadlines[i] =
+				this.clock.nanoTimeOfAcceleratedNanos(acceleratedNanos[i]);
+		}
+		this.lock.lock();
+		try {
+			for (int i = 0 ; i < tasks.length ; i++) {
+				ret[i] = new ScheduledTask(acceleratedNanos[i], deadlines[i],
+										   this.sequence++, tasks[i]);
+				this.enqueue(ret[i]);
+			}
+		} finally {
+			this.lock.unlock();
+		}
+		return ret;
+	}
+
+	/**
+	 * add a task to the queue, waking up the timer thread if it becomes the
+	 * earliest one; the lock must be held.
+	 * 
+	 * @param t	task to be added.
+	 */
+	protected void		enqueue(ScheduledTask t)
+	{
+		this.queue.add(t);
+		if (this.queue.peek() == t) {
+			this.earlier.signal();
+		}
+	}
+
+	/**
+	 * return the number of tasks waiting for their deadlines, including the
+	 * cancelled ones not yet removed.
+	 * 
+	 * @return	the number of tasks waiting for their deadlines.
+	 */
+	public int			pending()
+	{
+		this.lock.lock();
+		try {
+			return this.queue.size();
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * return true if the scheduler has been shut down.
+	 * 
+	 * @return	true if the scheduler has been shut down.
+	 */
+	public boolean		isShutdown()
+	{
+		return this.shutdown;
+	}
+
+	/**
+	 * shut down the scheduler, abandoning the tasks not run yet.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code isShutdown()}
+	 * </pre>
+	 */
+	public void			shutdown()
+	{
+		this.lock.lock();
+		try {
+			this.shutdown = true;
+			this.queue.clear();
+			this.earlier.signal();
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * loop of the timer thread: wait for the earliest deadline, parking then
+	 * spinning, and run the batch of tasks which deadlines are reached.
+	 */
+	protected void		timerLoop()
+	{
+		ArrayList<ScheduledTask> batch = new ArrayList<ScheduledTask>();
+		while (!this.shutdown) {
+			long deadline;
+			this.lock.lock();
+			try {
+				ScheduledTask head = this.queue.peek();
+				if (head == null) {
+					this.earlier.awaitUninterruptibly();
+					continue;
+				}
+				deadline = head.deadline;
+				long delay = deadline - System.nanoTime() - this.spinNanos;
+				if (delay > 0) {
+					this.earlier.awaitNanos(delay);
+					continue;
+				}
+			} catch (InterruptedException e) {
+				continue;
+			} finally {
+				this.lock.unlock();
+			}
+			// spin until the deadline, an earlier task being due anyway.
+			while (System.nanoTime() - deadline < 0) {
+				Thread.yield();
+			}
+			this.lock.lock();
+			try {
+				long now = System.nanoTime();
+				ScheduledTask t;
+				while ((t = this.queue.peek()) != null &&
+													t.deadline - now <= 0) {
+					batch.add(this.queue.poll());
+				}
+			} finally {
+				this.lock.unlock();
+			}
+			for (int i = 0 ; i < batch.size() ; i++) {
+				this.run(batch.get(i));
+			}
+			batch.clear();
+		}
+	}
+
+	/**
+	 * run a task which deadline is reached, unless it has been cancelled.
+	 * 
+	 * @param t	task to be run.
+	 */
+	protected void		run(ScheduledTask t)
+	{
+		if (t.cancelled) {
+			return;
+		}
+		if (this.executor != null) {
+			this.executor.execute(t.task);
+		} else {
+			try {
+				t.task.run();
+			} catch (Throwable e) {
+				e.printStackTrace();
+			}
+		}
+	}
+}
+// -----------------------------------------------------------------------------
@@ -0,0 +1,115 @@
+package fr.sorbonne_u.utils.aclocks;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import fr.sorbonne_u.components.ComponentI;
+import fr.sorbonne_u.components.ports.AbstractInboundPort;
+import fr.sorbonne_u.exceptions.PreconditionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>ClockReplicaInboundPort</code> implements the inbound port
+ * for the component interface {@code ClockReplicaCI}.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p><strong>White-box Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code true}	// no more invariant
+ * </pre>
+ * 
+ * <p><strong>Black-box Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code getOwner() instanceof ClocksReplicator}
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			ClockReplicaInboundPort
+extends		AbstractInboundPort
+implements	ClockReplicaCI
+{
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	private static final long serialVersionUID = 1L;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create the inbound port.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code owner instanceof ClocksReplicator}
+	 * post	{@code getOwner() instanceof ClocksReplicator}
+	 * </pre>
+	 *
+	 * @param owner			component owning the port.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	public				ClockReplicaInboundPort(ComponentI owner)
+	throws Exception
+	{
+		super(ClockReplicaCI.class, owner);
+		assert	owner instanceof ClocksReplicator :
+				new PreconditionException("owner instanceof ClocksReplicator");
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * the call is executed by the caller thread, as installing a replica is
+	 * thread-safe and the clocks server pushes the clocks while executing
+	 * services that may have been called by the owner component itself.
+	 * 
+	 * @see fr.sorbonne_u.utils.aclocks.ClockReplicaCI#updateClock(fr.sorbonne_u.utils.aclocks.AcceleratedClock)
+	 */
+	@Override
+	public void			updateClock(AcceleratedClock clock) throws Exception
+	{
+		((ClocksReplicator)this.getOwner()).updateClock(clock);
+	}
+}
+// -----------------------------------------------------------------------------
@@ -0,0 +1,332 @@
+package fr.sorbonne_u.utils.aclocks;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import fr.sorbonne_u.exceptions.PreconditionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>ClockReplicas</code> holds the local replicas of the
+ * accelerated clocks of a clocks server in the current JVM.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * Rather than calling the clocks server each time they need a clock, which
+ * in a distributed execution is a remote call serialising the clock,
+ * components read the clocks from this registry, which is a purely local
+ * operation. The registry is filled by the clocks server itself in its JVM
+ * and by a {@code ClocksReplicator} component in each other JVM, which
+ * receives the clocks once and then their new versions when their
+ * acceleration factor is changed.
+ * </p>
+ * <p>
+ * Replicas received from another host are localised: their Unix epoch start
+ * time is shifted by the estimated offset between the local and the server
+ * host clocks, so that the local replica gives the same accelerated time as
+ * the server at the same physical moment.
+ * </p>
+ * <p>
+ * As a clock may be replaced by a new version, components should get the
+ * clock from the registry when they need it rather than keeping it, or
+ * register a listener to be informed of the new versions.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code true}	// no more invariant
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			ClockReplicas
+{
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** local replicas by clock URI, completed when received.				*/
+	protected static final ConcurrentHashMap<String,
+											 CompletableFuture<AcceleratedClock>>
+								REPLICAS = new ConcurrentHashMap<>();
+	/** listeners informed of the installation of each replica.			*/
+	protected static final CopyOnWriteArrayList<Consumer<AcceleratedClock>>
+								LISTENERS = new CopyOnWriteArrayList<>();
+	/** estimated offset in nanoseconds of the local host clock relative to
+	 *  the clocks server host clock.										*/
+	protected static volatile long	offsetNanos = 0L;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * no instance of this class.
+	 */
+	private				ClockReplicas()
+	{
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return the local replica of the clock with the given URI, waiting for
+	 * it to be received if necessary.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code clockURI != null && !clockURI.isEmpty()}
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param clockURI				URI of the clock.
+	 * @return						the local replica of the clock.
+	 * @throws InterruptedException	when the waiting thread is interrupted.
+	 * @throws ExecutionException	<i>to do</i>.
+	 */
+	public static AcceleratedClock	getClock(String clockURI)
+	throws InterruptedException, ExecutionException
+	{
+		assert	clockURI != null && !clockURI.isEmpty() :
+				new PreconditionException(
+						"clockURI != null && !clockURI.isEmpty()");
+
+		return future(clockURI).get();
+	}
+
+	/**
+	 * return the local replica of the clock with the given URI, waiting at
+	 * most the given delay for it to be received.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code clockURI != null && !clockURI.isEmpty()}
+	 * pre	{@code timeout >= 0 && unit != null}
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param clockURI				URI of the clock.
+	 * @param timeout				maximum delay to wait.
+	 * @param unit					time unit of {@code timeout}.
+	 * @return						the local replica of the clock.
+	 * @throws InterruptedException	when the waiting thread is interrupted.
+	 * @throws ExecutionException	<i>to do</i>.
+	 * @throws TimeoutException		when the clock has not been received in time.
+	 */
+	public static AcceleratedClock	getClock(
+		String clockURI,
+		long timeout,
+		TimeUnit unit
+		) throws InterruptedException, ExecutionException, TimeoutException
+	{
+		assert	clockURI != null && !clockURI.isEmpty() :
+				new PreconditionException(
+						"clockURI != null && !clockURI.isEmpty()");
+		assert	timeout >= 0 && unit != null :
+				new PreconditionException("timeout >= 0 && unit != null");
+
+		return future(clockURI).get(timeout, unit);
+	}
+
+	/**
+	 * return the local replica of the clock with the given URI or null if it
+	 * has not been received yet.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code clockURI != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param clockURI	URI of the clock.
+	 * @return			the local replica of the clock or null.
+	 */
+	public static AcceleratedClock	peekClock(String clockURI)
+	{
+		assert	clockURI != null : new PreconditionException("clockURI != null");
+
+		CompletableFuture<AcceleratedClock> f = REPLICAS.get(clockURI);
+		return f == null ? null : f.getNow(null);
+	}
+
+	/**
+	 * return the future of the clock with the given URI, creating it if the
+	 * clock is neither received nor awaited yet.
+	 * 
+	 * @param clockURI	URI of the clock.
+	 * @return			the future of the clock.
+	 */
+	protected static CompletableFuture<AcceleratedClock>	future(
+		String clockURI
+		)
+	{
+		return REPLICAS.computeIfAbsent(
+						clockURI, k -> new CompletableFuture<AcceleratedClock>());
+	}
+
+	/**
+	 * install the local replica of a clock, replacing the previous version
+	 * if any, and inform the listeners.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code clock != null}
+	 * post	{@code peekClock(clock.getClockURI()) == clock}
+	 * </pre>
+	 *
+	 * @param clock	local replica of the clock.
+	 */
+	public static void	install(AcceleratedClock clock)
+	{
+		assert	clock != null : new PreconditionException("clock != null");
+
+		if (!future(clock.getClockURI()).complete(clock)) {
+			REPLICAS.put(clock.getClockURI(),
+						 CompletableFuture.completedFuture(clock));
+		}
+		for (Consumer<AcceleratedClock> l : LISTENERS) {
+			l.accept(clock);
+		}
+	}
+
+	/**
+	 * return a local replica of a clock received from the clocks server host,
+	 * shifting its Unix epoch start time by the estimated offset between the
+	 * hosts.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code clock != null}
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param clock	clock received from the clocks server host.
+	 * @return		the local replica of the clock.
+	 */
+	public static AcceleratedClock	localise(AcceleratedClock clock)
+	{
+		assert	clock != null : new PreconditionException("clock != null");
+
+		long offset = offsetNanos;
+		if (offset == 0L) {
+			return clock;
+		}
+		return new AcceleratedClock(clock.getClockURI(),
+									clock.getStartEpochNanos() + offset,
+									clock.getStartInstant(),
+									clock.getAccelerationFactor());
+	}
+
+	/**
+	 * return the estimated offset in nanoseconds of the local host clock
+	 * relative to the clocks server host clock.
+	 * 
+	 * @return	the estimated offset in nanoseconds.
+	 */
+	public static long	getOffsetNanos()
+	{
+		return offsetNanos;
+	}
+
+	/**
+	 * set the estimated offset in nanoseconds of the local host clock
+	 * relative to the clocks server host clock, applying to the replicas
+	 * localised from now on.
+	 * 
+	 * @param offset	the estimated offset in nanoseconds.
+	 */
+	public static void	setOffsetNanos(long offset)
+	{
+		offsetNanos = offset;
+	}
+
+	/**
+	 * add a listener informed of the installation of each replica, new
+	 * clock or new version of a clock.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code l != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param l	the listener.
+	 */
+	public static void	addListener(Consumer<AcceleratedClock> l)
+	{
+		assert	l != null : new PreconditionException("l != null");
+
+		LISTENERS.add(l);
+	}
+
+	/**
+	 * remove a listener.
+	 * 
+	 * @param l	the listener.
+	 */
+	public static void	removeListener(Consumer<AcceleratedClock> l)
+	{
+		LISTENERS.remove(l);
+	}
+
+	/**
+	 * remove all of the replicas and listeners, for example between two
+	 * executions in the same JVM.
+	 */
+	public static void	clear()
+	{
+		REPLICAS.clear();
+		LISTENERS.clear();
+		offsetNanos = 0L;
+	}
+}
+// -----------------------------------------------------------------------------
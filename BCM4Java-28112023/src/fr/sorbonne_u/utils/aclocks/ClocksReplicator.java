@@ -0,0 +1,289 @@
+package fr.sorbonne_u.utils.aclocks;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import fr.sorbonne_u.components.AbstractComponent;
+import fr.sorbonne_u.components.annotations.OfferedInterfaces;
+import fr.sorbonne_u.components.annotations.RequiredInterfaces;
+import fr.sorbonne_u.components.exceptions.ComponentShutdownException;
+import fr.sorbonne_u.components.exceptions.ComponentStartException;
+import fr.sorbonne_u.exceptions.PreconditionException;
+import java.time.Instant;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>ClocksReplicator</code> implements a component that keeps
+ * in its process local replicas of the clocks of a clocks server.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * When executed, the component first estimates the offset between the clock
+ * of its host and the clock of the clocks server host by sampling the
+ * server time {@code OFFSET_SAMPLES} times and keeping the sample with the
+ * shortest round trip, for which the server time is assumed to have been
+ * read at the middle of the round trip. It then subscribes to the clocks
+ * server, installing the clocks created so far in the {@code ClockReplicas}
+ * registry of the process, and then the new clocks and the new versions of
+ * the clocks that the server pushes to it. All of the replicas are
+ * localised by the estimated offset so that they give the same accelerated
+ * time as the server clocks at the same physical moment.
+ * </p>
+ * <p>
+ * A single replicator is needed per process, and none in the process of the
+ * clocks server, which installs its own clocks. Components then get their
+ * clocks from {@code ClockReplicas} instead of calling the clocks server.
+ * </p>
+ * 
+ * <p><strong>White-box Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code serverInboundPortURI != null && !serverInboundPortURI.isEmpty()}
+ * </pre>
+ * 
+ * <p><strong>Black-box Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code OFFSET_SAMPLES > 0}
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+// -----------------------------------------------------------------------------
+@OfferedInterfaces(offered={ClockReplicaCI.class})
+@RequiredInterfaces(required={ClocksServerCI.class})
+// -----------------------------------------------------------------------------
+public class			ClocksReplicator
+extends		AbstractComponent
+{
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** number of round trips used to estimate the offset between the local
+	 *  host clock and the clocks server host clock.						*/
+	public static final int		OFFSET_SAMPLES = 8;
+	/** when true, methods trace their actions.								*/
+	public static boolean		VERBOSE = false;
+
+	/** URI of the clocks server inbound port.								*/
+	protected final String				serverInboundPortURI;
+	/** outbound port connected to the clocks server.						*/
+	protected ClocksServerOutboundPort	serverPort;
+	/** inbound port through which the clocks server pushes the clocks.	*/
+	protected ClockReplicaInboundPort	replicaPort;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create a clocks replicator for the clocks server offering
+	 * {@code ClocksServerCI} through the inbound port with the given URI.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code serverInboundPortURI != null && !serverInboundPortURI.isEmpty()}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param serverInboundPortURI	URI of the clocks server inbound port.
+	 * @throws Exception			<i>to do</i>.
+	 */
+	protected			ClocksReplicator(String serverInboundPortURI)
+	throws Exception
+	{
+		super(1, 0);
+
+		assert	serverInboundPortURI != null && !serverInboundPortURI.isEmpty() :
+				new PreconditionException(
+						"serverInboundPortURI != null && "
+						+ "!serverInboundPortURI.isEmpty()");
+
+		this.serverInboundPortURI = serverInboundPortURI;
+		this.serverPort = new ClocksServerOutboundPort(this);
+		this.serverPort.publishPort();
+		this.replicaPort = new ClockReplicaInboundPort(this);
+		this.replicaPort.publishPort();
+
+		if (VERBOSE) {
+			this.tracer.get().setTitle("Clocks replicator component");
+			this.tracer.get().setRelativePosition(2, 1);
+			this.toggleTracing();		
+		}
+	}
+
+	// -------------------------------------------------------------------------
+	// Component life-cycle
+	// -------------------------------------------------------------------------
+
+	/**
+	 * @see fr.sorbonne_u.components.AbstractComponent#start()
+	 */
+	@Override
+	public synchronized void	start() throws ComponentStartException
+	{
+		super.start();
+		try {
+			this.doPortConnection(
+						this.serverPort.getPortURI(),
+						this.serverInboundPortURI,
+						ClocksServerConnector.class.getCanonicalName());
+		} catch (Exception e) {
+			throw new ComponentStartException(e) ;
+		}
+	}
+
+	/**
+	 * estimate the offset to the clocks server host clock and then subscribe
+	 * to the clocks server.
+	 * 
+	 * @see fr.sorbonne_u.components.AbstractComponent#execute()
+	 */
+	@Override
+	public void			execute() throws Exception
+	{
+		super.execute();
+
+		long offset = this.estimateOffset();
+		ClockReplicas.setOffsetNanos(offset);
+		if (VERBOSE) {
+			this.traceMessage("Estimated offset to the clocks server: "
+							  + offset + "ns.\n");
+		}
+
+		AcceleratedClock[] clocks =
+				this.serverPort.subscribe(this.replicaPort.getPortURI());
+		for (AcceleratedClock c : clocks) {
+			// a version pushed since the subscription is more recent.
+			if (ClockReplicas.peekClock(c.getClockURI()) == null) {
+				this.updateClock(c);
+			}
+		}
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.AbstractComponent#finalise()
+	 */
+	@Override
+	public synchronized void	finalise() throws Exception
+	{
+		try {
+			this.serverPort.unsubscribe(this.replicaPort.getPortURI());
+		} catch (Exception | AssertionError e) {
+			// the clocks server may already be finalised, in which case it
+			// has already disconnected from the replicator.
+			this.logMessage("unsubscribing failed: " + e);
+		}
+		this.doPortDisconnection(this.serverPort.getPortURI());
+		super.finalise();
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.AbstractComponent#shutdown()
+	 */
+	@Override
+	public synchronized void	shutdown() throws ComponentShutdownException
+	{
+		try {
+			this.serverPort.unpublishPort();
+			this.replicaPort.unpublishPort();
+		} catch (Exception e) {
+			throw new ComponentShutdownException(e) ;
+		}
+		super.shutdown();
+	}
+
+	// -------------------------------------------------------------------------
+	// Component services
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return the estimated offset in nanoseconds of the local host clock
+	 * relative to the clocks server host clock.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code serverPort.connected()}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @return				the estimated offset in nanoseconds.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	protected long		estimateOffset() throws Exception
+	{
+		long bestRoundTrip = Long.MAX_VALUE;
+		long ret = 0L;
+		for (int i = 0 ; i < OFFSET_SAMPLES ; i++) {
+			long t0 = AcceleratedClock.epochNanosOf(Instant.now());
+			long ts = this.serverPort.currentEpochNanos();
+			long t1 = AcceleratedClock.epochNanosOf(Instant.now());
+			if (t1 - t0 < bestRoundTrip) {
+				bestRoundTrip = t1 - t0;
+				ret = t0 + (t1 - t0)/2 - ts;
+			}
+		}
+		return ret;
+	}
+
+	/**
+	 * install the local replica of a clock received from the clocks server.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code clock != null}
+	 * post	{@code ClockReplicas.peekClock(clock.getClockURI()) != null}
+	 * </pre>
+	 *
+	 * @param clock	clock as created on the clocks server host.
+	 */
+	public void			updateClock(AcceleratedClock clock)
+	{
+		assert	clock != null : new PreconditionException("clock != null");
+
+		ClockReplicas.install(ClockReplicas.localise(clock));
+
+		if (VERBOSE) {
+			this.traceMessage("Clock " + clock.getClockURI()
+							  + " replicated.\n");
+		}
+	}
+}
+// -----------------------------------------------------------------------------
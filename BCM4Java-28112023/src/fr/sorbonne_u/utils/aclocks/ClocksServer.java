@@ -35,15 +35,18 @@ package fr.sorbonne_u.utils.aclocks;
 import fr.sorbonne_u.components.AbstractComponent;
 import fr.sorbonne_u.components.AbstractPort;
 import fr.sorbonne_u.components.annotations.OfferedInterfaces;
+import fr.sorbonne_u.components.annotations.RequiredInterfaces;
 import fr.sorbonne_u.components.exceptions.ComponentShutdownException;
 import fr.sorbonne_u.components.exceptions.ComponentStartException;
 import fr.sorbonne_u.components.reflection.interfaces.ReflectionCI;
 import fr.sorbonne_u.exceptions.PostconditionException;
 import fr.sorbonne_u.exceptions.PreconditionException;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantLock;
 
 // -----------------------------------------------------------------------------
@@ -97,6 +100,22 @@ import java.util.concurrent.locks.ReentrantLock;
  * have their clocks synchronised the best possible.
  * </p>
  * 
+ * <p><i>Clock replicas</i></p>
+ * 
+ * <p>
+ * Retrieving a clock with {@code getClock} is a remote call when made from
+ * another process. To avoid repeating such calls, each process can host a
+ * {@code ClocksReplicator} component that subscribes to the clocks server
+ * with {@code subscribe}, receiving the clocks created so far and then
+ * having each new clock pushed to it. The replicator installs them into the
+ * {@code ClockReplicas} registry of its process, from which components get
+ * their clocks locally. The clocks server installs its own clocks in the
+ * registry of its process. As the clocks are immutable, the acceleration
+ * factor of a clock is changed by {@code changeAcceleration}, which creates
+ * a new version of the clock continuing its accelerated time line and
+ * pushes it to the subscribers.
+ * </p>
+ * 
  * <p><i>Mutual exclusion</i></p>
  * 
  * <p>
@@ -124,6 +143,7 @@ import java.util.concurrent.locks.ReentrantLock;
  */
 // -----------------------------------------------------------------------------
 @OfferedInterfaces(offered={ClocksServerCI.class})
+@RequiredInterfaces(required={ClockReplicaCI.class})
 // -----------------------------------------------------------------------------
 public class			ClocksServer
 extends		AbstractComponent
@@ -148,6 +168,10 @@ extends		AbstractComponent
 	/** inbound port through which the component offers the component
 	 *  interface {@code ClockServerCI}.									*/
 	protected ClocksServerInboundPort				inboundPort;
+	/** outbound ports connected to the subscribed clocks replicators by
+	 *  URI of their inbound port.											*/
+	protected final Map<String,ClockReplicaOutboundPort>	subscribers =
+												new ConcurrentHashMap<>();
 	
 	// -------------------------------------------------------------------------
 	// Constructors
@@ -452,12 +476,30 @@ extends		AbstractComponent
 		this.logMessage("component shuts down.");
 		try {
 			this.inboundPort.unpublishPort();
+			for (ClockReplicaOutboundPort p : this.subscribers.values()) {
+				p.unpublishPort();
+			}
+			this.subscribers.clear();
 		} catch (Exception e) {
 			throw new ComponentShutdownException(e) ;
 		}
 		super.shutdown();
 	}
 
+	/**
+	 * @see fr.sorbonne_u.components.AbstractComponent#finalise()
+	 */
+	@Override
+	public synchronized void	finalise() throws Exception
+	{
+		for (ClockReplicaOutboundPort p : this.subscribers.values()) {
+			if (p.connected()) {
+				this.doPortDisconnection(p.getPortURI());
+			}
+		}
+		super.finalise();
+	}
+
 	// -------------------------------------------------------------------------
 	// Component services
 	// -------------------------------------------------------------------------
@@ -523,6 +565,7 @@ extends		AbstractComponent
 			this.traceMessage("Clock " + clockURI + " created.\n");
 		}
 
+		boolean created;
 		this.clocksLock.lock();
 		try {
 			CompletableFuture<AcceleratedClock> f = this.clocks.get(clockURI);
@@ -536,10 +579,14 @@ extends		AbstractComponent
 			if (VERBOSE) {
 				this.traceMessage("Completing f with " + ret + ".\n");
 			}
-			f.complete(ret);
+			created = f.complete(ret);
 		} finally {
 			this.clocksLock.unlock();
 		}
+		if (created) {
+			ClockReplicas.install(ret);
+			this.pushToSubscribers(ret);
+		}
 
 		if (VERBOSE) {
 			this.traceMessage(
@@ -611,5 +658,217 @@ extends		AbstractComponent
 		// care of an unlimited number of callers.
 		return f.get();
 	}
+
+	/**
+	 * return the current Unix epoch time in nanoseconds on the clocks server
+	 * host.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code return > 0}
+	 * </pre>
+	 *
+	 * @return	the current Unix epoch time in nanoseconds on the clocks server host.
+	 */
+	public long			currentEpochNanos()
+	{
+		return AcceleratedClock.epochNanosOf(Instant.now());
+	}
+
+	/**
+	 * subscribe the clocks replicator offering {@code ClockReplicaCI} through
+	 * the inbound port with the given URI, connecting an outbound port to it
+	 * and returning the clocks created so far.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code replicaInboundPortURI != null && !replicaInboundPortURI.isEmpty()}
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param replicaInboundPortURI	URI of the inbound port of the replicator offering {@code ClockReplicaCI}.
+	 * @return						the clocks created so far.
+	 * @throws Exception			<i>to do</i>.
+	 */
+	public AcceleratedClock[]	subscribe(String replicaInboundPortURI)
+	throws Exception
+	{
+		assert	replicaInboundPortURI != null &&
+									!replicaInboundPortURI.isEmpty() :
+				new PreconditionException(
+						"replicaInboundPortURI != null && "
+						+ "!replicaInboundPortURI.isEmpty()");
+
+		if (!this.subscribers.containsKey(replicaInboundPortURI)) {
+			ClockReplicaOutboundPort p = new ClockReplicaOutboundPort(this);
+			p.publishPort();
+			this.doPortConnection(
+						p.getPortURI(),
+						replicaInboundPortURI,
+						ClockReplicaConnector.class.getCanonicalName());
+			this.subscribers.put(replicaInboundPortURI, p);
+		}
+
+		ArrayList<AcceleratedClock> ret = new ArrayList<>();
+		this.clocksLock.lock();
+		try {
+			for (CompletableFuture<AcceleratedClock> f : this.clocks.values()) {
+				AcceleratedClock c = f.getNow(null);
+				if (c != null) {
+					ret.add(c);
+				}
+			}
+		} finally {
+			this.clocksLock.unlock();
+		}
+
+		if (VERBOSE) {
+			this.traceMessage("Subscribing " + replicaInboundPortURI
+							  + " with " + ret.size() + " clocks.\n");
+		}
+
+		return ret.toArray(new AcceleratedClock[ret.size()]);
+	}
+
+	/**
+	 * unsubscribe the clocks replicator previously subscribed with the given
+	 * inbound port URI, disconnecting and destroying the outbound port
+	 * connected to it.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code replicaInboundPortURI != null && !replicaInboundPortURI.isEmpty()}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param replicaInboundPortURI	URI of the inbound port of the replicator offering {@code ClockReplicaCI}.
+	 * @throws Exception			<i>to do</i>.
+	 */
+	public void			unsubscribe(String replicaInboundPortURI)
+	throws Exception
+	{
+		assert	replicaInboundPortURI != null &&
+									!replicaInboundPortURI.isEmpty() :
+				new PreconditionException(
+						"replicaInboundPortURI != null && "
+						+ "!replicaInboundPortURI.isEmpty()");
+
+		ClockReplicaOutboundPort p =
+							this.subscribers.remove(replicaInboundPortURI);
+		if (p != null) {
+			if (p.connected()) {
+				this.doPortDisconnection(p.getPortURI());
+			}
+			p.unpublishPort();
+			p.destroyPort();
+		}
+	}
+
+	/**
+	 * change the acceleration factor of the clock associated with
+	 * {@code clockURI}, replacing it by a new version of the clock that
+	 * continues its accelerated time line and that is pushed to all of the
+	 * subscribed clocks replicators.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code clockURI != null && !clockURI.isEmpty()}
+	 * pre	{@code clock associated with clockURI has been created}
+	 * pre	{@code accelerationFactor > 0.0}
+	 * post	{@code return != null}
+	 * post	{@code return.getAccelerationFactor() == accelerationFactor}
+	 * post	{@code getClock(clockURI).equals(return)}
+	 * </pre>
+	 *
+	 * @param clockURI				URI of a previously created clock.
+	 * @param accelerationFactor	new acceleration factor.
+	 * @return						the new version of the clock.
+	 * @throws Exception			<i>to do</i>.
+	 */
+	public AcceleratedClock	changeAcceleration(
+		String clockURI,
+		double accelerationFactor
+		) throws Exception
+	{
+		assert	clockURI != null && !clockURI.isEmpty() :
+				new PreconditionException(
+						"clockURI != null && !clockURI.isEmpty()");
+		assert	accelerationFactor > 0.0 :
+				new PreconditionException("accelerationFactor > 0.0");
+
+		AcceleratedClock ret;
+		this.clocksLock.lock();
+		try {
+			CompletableFuture<AcceleratedClock> f = this.clocks.get(clockURI);
+			// the clock must exist as the component thread would otherwise
+			// block forever waiting for its creation.
+			assert	f != null && f.isDone() :
+					new PreconditionException(
+							"clock associated with clockURI has been created");
+
+			AcceleratedClock old = f.get();
+			long now = AcceleratedClock.epochNanosOf(Instant.now());
+			if (now > old.getStartEpochNanos()) {
+				ret = new AcceleratedClock(clockURI, now,
+										   old.instantOfEpochTimeInNanos(now),
+										   accelerationFactor);
+			} else {
+				ret = new AcceleratedClock(clockURI, old.getStartEpochNanos(),
+										   old.getStartInstant(),
+										   accelerationFactor);
+			}
+			this.clocks.put(clockURI, CompletableFuture.completedFuture(ret));
+		} finally {
+			this.clocksLock.unlock();
+		}
+
+		if (VERBOSE) {
+			this.traceMessage("Clock " + clockURI + " accelerated by "
+							  + accelerationFactor + ".\n");
+		}
+
+		ClockReplicas.install(ret);
+		this.pushToSubscribers(ret);
+
+		assert	ret.getAccelerationFactor() == accelerationFactor :
+				new PostconditionException(
+						"return.getAccelerationFactor() == accelerationFactor");
+		assert	getClock(clockURI).equals(ret) :
+				new PostconditionException("getClock(clockURI).equals(return)");
+
+		return ret;
+	}
+
+	/**
+	 * push a new clock or a new version of a clock to all of the subscribed
+	 * clocks replicators; a failing replicator is logged but does not prevent
+	 * the others from receiving the clock.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code clock != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param clock	clock to be pushed.
+	 */
+	protected void		pushToSubscribers(AcceleratedClock clock)
+	{
+		for (Map.Entry<String,ClockReplicaOutboundPort> e :
+												this.subscribers.entrySet()) {
+			try {
+				e.getValue().updateClock(clock);
+			} catch (Exception ex) {
+				this.logMessage("pushing clock " + clock.getClockURI()
+								+ " to " + e.getKey() + " failed: " + ex);
+			}
+		}
+	}
 }
 // -----------------------------------------------------------------------------
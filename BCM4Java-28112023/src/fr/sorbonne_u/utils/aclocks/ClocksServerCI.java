@@ -110,5 +110,86 @@ extends		OfferedCI,
 	 * @throws Exception	<i>to do</i>.
 	 */
 	public AcceleratedClock	getClock(String clockURI) throws Exception;
+
+	/**
+	 * return the current Unix epoch time in nanoseconds on the clocks server
+	 * host, used by clocks replicators to estimate the offset between their
+	 * host clock and the clocks server host clock.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code return > 0}
+	 * </pre>
+	 *
+	 * @return				the current Unix epoch time in nanoseconds on the clocks server host.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	public long			currentEpochNanos() throws Exception;
+
+	/**
+	 * subscribe the clocks replicator offering {@code ClockReplicaCI} through
+	 * the inbound port with the given URI to the clocks, returning the clocks
+	 * created so far; the new clocks and the new versions of the clocks will
+	 * then be pushed to the replicator.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code replicaInboundPortURI != null && !replicaInboundPortURI.isEmpty()}
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param replicaInboundPortURI	URI of the inbound port of the replicator offering {@code ClockReplicaCI}.
+	 * @return						the clocks created so far.
+	 * @throws Exception			<i>to do</i>.
+	 */
+	public AcceleratedClock[]	subscribe(String replicaInboundPortURI)
+	throws Exception;
+
+	/**
+	 * unsubscribe the clocks replicator previously subscribed with the given
+	 * inbound port URI.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code replicaInboundPortURI != null && !replicaInboundPortURI.isEmpty()}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param replicaInboundPortURI	URI of the inbound port of the replicator offering {@code ClockReplicaCI}.
+	 * @throws Exception			<i>to do</i>.
+	 */
+	public void			unsubscribe(String replicaInboundPortURI)
+	throws Exception;
+
+	/**
+	 * change the acceleration factor of the clock associated with
+	 * {@code clockURI}, returning the new version of the clock that is
+	 * pushed to all of the subscribed clocks replicators; if the start time
+	 * of the clock is already reached, the new version starts at the current
+	 * time from the current accelerated instant so that the accelerated time
+	 * line remains continuous.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code clockURI != null && !clockURI.isEmpty()}
+	 * pre	{@code accelerationFactor > 0.0}
+	 * post	{@code return != null}
+	 * post	{@code return.getAccelerationFactor() == accelerationFactor}
+	 * </pre>
+	 *
+	 * @param clockURI				URI of a previously created clock.
+	 * @param accelerationFactor	new acceleration factor.
+	 * @return						the new version of the clock.
+	 * @throws Exception			<i>to do</i>.
+	 */
+	public AcceleratedClock	changeAcceleration(
+		String clockURI,
+		double accelerationFactor
+		) throws Exception;
 }
 // -----------------------------------------------------------------------------
@@ -92,5 +92,47 @@ implements	ClocksServerCI
 	{
 		return ((ClocksServerCI)this.offering).getClock(clockURI);
 	}
+
+	/**
+	 * @see fr.sorbonne_u.utils.aclocks.ClocksServerCI#currentEpochNanos()
+	 */
+	@Override
+	public long			currentEpochNanos() throws Exception
+	{
+		return ((ClocksServerCI)this.offering).currentEpochNanos();
+	}
+
+	/**
+	 * @see fr.sorbonne_u.utils.aclocks.ClocksServerCI#subscribe(java.lang.String)
+	 */
+	@Override
+	public AcceleratedClock[]	subscribe(String replicaInboundPortURI)
+	throws Exception
+	{
+		return ((ClocksServerCI)this.offering).subscribe(replicaInboundPortURI);
+	}
+
+	/**
+	 * @see fr.sorbonne_u.utils.aclocks.ClocksServerCI#unsubscribe(java.lang.String)
+	 */
+	@Override
+	public void			unsubscribe(String replicaInboundPortURI)
+	throws Exception
+	{
+		((ClocksServerCI)this.offering).unsubscribe(replicaInboundPortURI);
+	}
+
+	/**
+	 * @see fr.sorbonne_u.utils.aclocks.ClocksServerCI#changeAcceleration(java.lang.String, double)
+	 */
+	@Override
+	public AcceleratedClock	changeAcceleration(
+		String clockURI,
+		double accelerationFactor
+		) throws Exception
+	{
+		return ((ClocksServerCI)this.offering).
+							changeAcceleration(clockURI, accelerationFactor);
+	}
 }
 // -----------------------------------------------------------------------------
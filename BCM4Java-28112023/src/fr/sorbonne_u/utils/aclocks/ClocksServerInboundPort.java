@@ -137,7 +137,7 @@ implements	ClocksServerCI
 		double accelerationFactor
 		) throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 									o -> ((ClocksServer)o).
 											createClock(
 													clockURI,
@@ -158,5 +158,57 @@ implements	ClocksServerCI
 		// care of an unlimited number of callers.
 		return ((ClocksServer)this.getOwner()).getClock(clockURI);
 	}
+
+	/**
+	 * the call is made using the caller thread so that the time read is not
+	 * delayed by the other calls waiting for the component thread.
+	 * 
+	 * @see fr.sorbonne_u.utils.aclocks.ClocksServerCI#currentEpochNanos()
+	 */
+	@Override
+	public long			currentEpochNanos() throws Exception
+	{
+		return ((ClocksServer)this.getOwner()).currentEpochNanos();
+	}
+
+	/**
+	 * @see fr.sorbonne_u.utils.aclocks.ClocksServerCI#subscribe(java.lang.String)
+	 */
+	@Override
+	public AcceleratedClock[]	subscribe(String replicaInboundPortURI)
+	throws Exception
+	{
+		return this.handleRequest(
+						o -> ((ClocksServer)o).subscribe(replicaInboundPortURI));
+	}
+
+	/**
+	 * @see fr.sorbonne_u.utils.aclocks.ClocksServerCI#unsubscribe(java.lang.String)
+	 */
+	@Override
+	public void			unsubscribe(String replicaInboundPortURI)
+	throws Exception
+	{
+		this.handleRequest(
+						o -> {	((ClocksServer)o).
+										unsubscribe(replicaInboundPortURI);
+								return null;
+							 });
+	}
+
+	/**
+	 * @see fr.sorbonne_u.utils.aclocks.ClocksServerCI#changeAcceleration(java.lang.String, double)
+	 */
+	@Override
+	public AcceleratedClock	changeAcceleration(
+		String clockURI,
+		double accelerationFactor
+		) throws Exception
+	{
+		return this.handleRequest(
+						o -> ((ClocksServer)o).changeAcceleration(
+													clockURI,
+													accelerationFactor));
+	}
 }
 // -----------------------------------------------------------------------------
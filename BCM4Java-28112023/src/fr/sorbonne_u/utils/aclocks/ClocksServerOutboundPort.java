@@ -141,5 +141,48 @@ implements	ClocksServerCI
 	{
 		return ((ClocksServerCI)this.getConnector()).getClock(clockURI);
 	}
+
+	/**
+	 * @see fr.sorbonne_u.utils.aclocks.ClocksServerCI#currentEpochNanos()
+	 */
+	@Override
+	public long			currentEpochNanos() throws Exception
+	{
+		return ((ClocksServerCI)this.getConnector()).currentEpochNanos();
+	}
+
+	/**
+	 * @see fr.sorbonne_u.utils.aclocks.ClocksServerCI#subscribe(java.lang.String)
+	 */
+	@Override
+	public AcceleratedClock[]	subscribe(String replicaInboundPortURI)
+	throws Exception
+	{
+		return ((ClocksServerCI)this.getConnector()).
+											subscribe(replicaInboundPortURI);
+	}
+
+	/**
+	 * @see fr.sorbonne_u.utils.aclocks.ClocksServerCI#unsubscribe(java.lang.String)
+	 */
+	@Override
+	public void			unsubscribe(String replicaInboundPortURI)
+	throws Exception
+	{
+		((ClocksServerCI)this.getConnector()).unsubscribe(replicaInboundPortURI);
+	}
+
+	/**
+	 * @see fr.sorbonne_u.utils.aclocks.ClocksServerCI#changeAcceleration(java.lang.String, double)
+	 */
+	@Override
+	public AcceleratedClock	changeAcceleration(
+		String clockURI,
+		double accelerationFactor
+		) throws Exception
+	{
+		return ((ClocksServerCI)this.getConnector()).
+							changeAcceleration(clockURI, accelerationFactor);
+	}
 }
 // -----------------------------------------------------------------------------
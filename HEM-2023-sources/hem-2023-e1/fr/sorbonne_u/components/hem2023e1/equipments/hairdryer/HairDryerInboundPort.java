@@ -118,7 +118,7 @@ implements	HairDryerUserCI
 	@Override
 	public HairDryerState	getState() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 							o -> ((HairDryerImplementationI)o).getState());
 	}
 
@@ -128,7 +128,7 @@ implements	HairDryerUserCI
 	@Override
 	public HairDryerMode	getMode() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 							o -> ((HairDryerImplementationI)o).getMode());
 	}
 
@@ -138,7 +138,7 @@ implements	HairDryerUserCI
 	@Override
 	public void			turnOn() throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 							o -> {	((HairDryerImplementationI)o).turnOn();
 									return null;
 							});
@@ -150,7 +150,7 @@ implements	HairDryerUserCI
 	@Override
 	public void			turnOff() throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 							o -> {	((HairDryerImplementationI)o).turnOff();
 									return null;
 							});
@@ -162,7 +162,7 @@ implements	HairDryerUserCI
 	@Override
 	public void			setHigh() throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 							o -> {	((HairDryerImplementationI)o).setHigh();;
 									return null;
 							});
@@ -174,7 +174,7 @@ implements	HairDryerUserCI
 	@Override
 	public void			setLow() throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 							o -> {	((HairDryerImplementationI)o).setLow();
 									return null;
 							});
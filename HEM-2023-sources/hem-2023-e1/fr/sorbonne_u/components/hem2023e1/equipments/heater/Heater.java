@@ -35,6 +35,8 @@ package fr.sorbonne_u.components.hem2023e1.equipments.heater;
 import fr.sorbonne_u.components.AbstractComponent;
 import fr.sorbonne_u.components.annotations.OfferedInterfaces;
 import fr.sorbonne_u.components.exceptions.ComponentShutdownException;
+import fr.sorbonne_u.components.helpers.PrioritisedI;
+import fr.sorbonne_u.components.helpers.PriorityExecutorServiceFactory;
 import fr.sorbonne_u.components.hem2023e1.equipments.heater.connections.HeaterExternalControlInboundPort;
 import fr.sorbonne_u.components.hem2023e1.equipments.heater.connections.HeaterInternalControlInboundPort;
 import fr.sorbonne_u.components.hem2023e1.equipments.heater.connections.HeaterUserInboundPort;
@@ -113,6 +115,10 @@ implements	HeaterUserImplI,
 	/** URI of the heater port for internal control.						*/
 	public static final String		EXTERNAL_CONTROL_INBOUND_PORT_URI =
 									"HEATER-EXTERNAL-CONTROL-INBOUND-PORT-URI";
+	/** URI of the priority executor service running the requests received
+	 *  through the user and control ports.									*/
+	public static final String		REQUESTS_EXECUTOR_URI =
+												"HEATER-REQUESTS-EXECUTOR-URI";
 
 	/** when true, methods trace their actions.								*/
 	public static final boolean		VERBOSE = true;
@@ -248,13 +254,22 @@ implements	HeaterUserImplI,
 		this.currentPowerLevel = MAX_POWER_LEVEL;
 		this.targetTemperature = STANDARD_TARGET_TEMPERATURE;
 
-		this.hip = new HeaterUserInboundPort(heaterUserInboundPortURI, this);
+		// the requests received through the heater ports are run by priority,
+		// so that the suspensions, resumptions and power changes ordered by
+		// the HEM through the external control port overtake the others
+		this.createNewExecutorService(REQUESTS_EXECUTOR_URI, 1,
+									  new PriorityExecutorServiceFactory());
+		this.hip = new HeaterUserInboundPort(heaterUserInboundPortURI, this,
+											 REQUESTS_EXECUTOR_URI);
 		this.hip.publishPort();
 		this.hicip = new HeaterInternalControlInboundPort(
-									heaterInternalControlInboundPortURI, this);
+									heaterInternalControlInboundPortURI, this,
+									REQUESTS_EXECUTOR_URI);
 		this.hicip.publishPort();
 		this.hecip = new HeaterExternalControlInboundPort(
-									heaterExternalControlInboundPortURI, this);
+									heaterExternalControlInboundPortURI, this,
+									REQUESTS_EXECUTOR_URI);
+		this.hecip.setRequestPriority(PrioritisedI.HIGH);
 		this.hecip.publishPort();
 
 		if (VERBOSE) {
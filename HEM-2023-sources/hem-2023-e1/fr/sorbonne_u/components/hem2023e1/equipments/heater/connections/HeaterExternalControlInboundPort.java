@@ -121,6 +121,36 @@ implements	HeaterExternalControlCI
 		assert	owner instanceof HeaterUserAndControlI;
 	}
 
+	/**
+	 * create an inbound port which requests are executed by the given
+	 * executor service of its owner.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code owner instanceof HeaterUserAndExternalControlI}
+	 * pre	{@code owner instanceof HeaterUserAndControlI}
+	 * pre	{@code executorServiceURI != null && !executorServiceURI.isEmpty()}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param uri					unique identifier of the port.
+	 * @param owner					component that owns this port.
+	 * @param executorServiceURI	URI of the owner executor service executing the requests.
+	 * @throws Exception			<i>to do</i>.
+	 */
+	public				HeaterExternalControlInboundPort(
+		String uri,
+		ComponentI owner,
+		String executorServiceURI
+		) throws Exception
+	{
+		super(uri, HeaterExternalControlCI.class, owner, null,
+			  executorServiceURI);
+		assert	owner instanceof HeaterUserAndExternalControlI;
+		assert	owner instanceof HeaterUserAndControlI;
+	}
+
 	// -------------------------------------------------------------------------
 	// Methods
 	// -------------------------------------------------------------------------
@@ -131,7 +161,7 @@ implements	HeaterExternalControlCI
 	@Override
 	public double		getTargetTemperature() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					o -> ((HeaterUserAndControlI)o).getTargetTemperature());
 	}
 
@@ -141,7 +171,7 @@ implements	HeaterExternalControlCI
 	@Override
 	public double		getCurrentTemperature() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 					o -> ((HeaterUserAndControlI)o).getCurrentTemperature());
 	}
 
@@ -151,7 +181,7 @@ implements	HeaterExternalControlCI
 	@Override
 	public double		getMaxPowerLevel() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 								o -> ((HeaterUserAndExternalControlI)o).
 															getMaxPowerLevel());
 	}
@@ -162,7 +192,7 @@ implements	HeaterExternalControlCI
 	@Override
 	public void			setCurrentPowerLevel(double powerLevel) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 							o -> {	((HeaterUserAndExternalControlI)o).
 											setCurrentPowerLevel(powerLevel);
 									return null;
@@ -175,7 +205,7 @@ implements	HeaterExternalControlCI
 	@Override
 	public double		getCurrentPowerLevel() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 								o -> ((HeaterUserAndExternalControlI)o).
 													getCurrentPowerLevel());
 	}
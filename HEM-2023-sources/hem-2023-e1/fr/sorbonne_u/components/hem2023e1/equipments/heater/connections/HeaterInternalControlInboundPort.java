@@ -117,6 +117,34 @@ implements	HeaterInternalControlCI
 		assert owner instanceof HeaterInternalControlI;
 	}
 
+	/**
+	 * create an inbound port which requests are executed by the given
+	 * executor service of its owner.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code owner instanceof HeaterInternalControlI}
+	 * pre	{@code executorServiceURI != null && !executorServiceURI.isEmpty()}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param uri					unique identifier of the port.
+	 * @param owner					component that owns this port.
+	 * @param executorServiceURI	URI of the owner executor service executing the requests.
+	 * @throws Exception			<i>to do</i>.
+	 */
+	public				HeaterInternalControlInboundPort(
+		String uri,
+		ComponentI owner,
+		String executorServiceURI
+		) throws Exception
+	{
+		super(uri, HeaterInternalControlCI.class, owner, null,
+			  executorServiceURI);
+		assert owner instanceof HeaterInternalControlI;
+	}
+
 	// -------------------------------------------------------------------------
 	// Methods
 	// -------------------------------------------------------------------------
@@ -127,7 +155,7 @@ implements	HeaterInternalControlCI
 	@Override
 	public boolean		heating() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 								o -> ((HeaterInternalControlI)o).heating());
 	}
 
@@ -137,7 +165,7 @@ implements	HeaterInternalControlCI
 	@Override
 	public double		getTargetTemperature() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 								o -> ((HeaterInternalControlI)o).
 														getTargetTemperature());
 	}
@@ -148,7 +176,7 @@ implements	HeaterInternalControlCI
 	@Override
 	public double		getCurrentTemperature() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 								o -> ((HeaterInternalControlI)o).
 														getCurrentTemperature());
 	}
@@ -159,7 +187,7 @@ implements	HeaterInternalControlCI
 	@Override
 	public void			startHeating() throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 								o -> {	((HeaterInternalControlI)o).
 																startHeating();
 										return null;
@@ -172,7 +200,7 @@ implements	HeaterInternalControlCI
 	@Override
 	public void			stopHeating() throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 								o -> {	((HeaterInternalControlI)o).
 																stopHeating();
 										return null;
@@ -126,6 +126,38 @@ implements	HeaterUserCI
 		assert	owner instanceof HeaterUserAndExternalControlI;
 	}
 
+	/**
+	 * create an inbound port which requests are executed by the given
+	 * executor service of its owner.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code owner instanceof HeaterUserImplI}
+	 * pre	{@code owner instanceof HeaterUserAndControlI}
+	 * pre	{@code owner instanceof HeaterUserAndExternalControlI}
+	 * pre	{@code executorServiceURI != null && !executorServiceURI.isEmpty()}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param uri					unique identifier of the port.
+	 * @param owner					component that owns this port.
+	 * @param executorServiceURI	URI of the owner executor service executing the requests.
+	 * @throws Exception			<i>to do</i>.
+	 */
+	public				HeaterUserInboundPort(
+		String uri,
+		ComponentI owner,
+		String executorServiceURI
+		) throws Exception
+	{
+		super(uri, HeaterUserCI.class, owner, null,
+			  executorServiceURI);
+		assert	owner instanceof HeaterUserImplI;
+		assert	owner instanceof HeaterUserAndControlI;
+		assert	owner instanceof HeaterUserAndExternalControlI;
+	}
+
 	// -------------------------------------------------------------------------
 	// Methods
 	// -------------------------------------------------------------------------
@@ -136,7 +168,7 @@ implements	HeaterUserCI
 	@Override
 	public boolean		on() throws Exception
 	{
-		return this.getOwner().handleRequest(o -> ((HeaterUserImplI)o).on());
+		return this.handleRequest(o -> ((HeaterUserImplI)o).on());
 	}
 
 	/**
@@ -145,7 +177,7 @@ implements	HeaterUserCI
 	@Override
 	public void			switchOn() throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 							o -> {	((HeaterUserImplI)o).switchOn();;
 									return null;
 							});
@@ -157,7 +189,7 @@ implements	HeaterUserCI
 	@Override
 	public void			switchOff() throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 							o -> {	((HeaterUserImplI)o).switchOff();;
 									return null;
 							});
@@ -169,7 +201,7 @@ implements	HeaterUserCI
 	@Override
 	public void			setTargetTemperature(double target) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 							o -> {	((HeaterUserImplI)o).
 												setTargetTemperature(target);
 									return null;
@@ -182,7 +214,7 @@ implements	HeaterUserCI
 	@Override
 	public double		getTargetTemperature() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 							o -> ((HeaterUserAndControlI)o).
 													getTargetTemperature());
 	}
@@ -193,7 +225,7 @@ implements	HeaterUserCI
 	@Override
 	public double		getCurrentTemperature() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 							o -> ((HeaterUserAndControlI)o).
 													getCurrentTemperature());
 	}
@@ -204,7 +236,7 @@ implements	HeaterUserCI
 	@Override
 	public double		getCurrentPowerLevel() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 							o -> ((HeaterUserAndExternalControlI)o).
 														getCurrentPowerLevel());
 	}
@@ -215,7 +247,7 @@ implements	HeaterUserCI
 	@Override
 	public double		getMaxPowerLevel() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 							o -> ((HeaterUserAndExternalControlI)o).
 														getMaxPowerLevel());
 	}
@@ -227,7 +259,7 @@ implements	HeaterUserCI
 	public void			setCurrentPowerLevel(double powerLevel)
 	throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 							o -> { ((HeaterUserAndExternalControlI)o).
 											setCurrentPowerLevel(powerLevel);
 									return null;
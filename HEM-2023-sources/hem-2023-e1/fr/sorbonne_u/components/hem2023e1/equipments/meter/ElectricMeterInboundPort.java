@@ -96,7 +96,7 @@ implements	ElectricMeterCI
 	@Override
 	public SensorData<Measure<Double>>	getCurrentConsumption() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 				o -> ((ElectricMeterImplementationI)o).getCurrentConsumption());
 	}
 
@@ -106,7 +106,7 @@ implements	ElectricMeterCI
 	@Override
 	public SensorData<Measure<Double>>	getCurrentProduction() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 				o -> ((ElectricMeterImplementationI)o).getCurrentProduction());
 	}
 }
@@ -69,6 +69,7 @@ import fr.sorbonne_u.devs_simulation.models.interfaces.ModelI;
 import fr.sorbonne_u.devs_simulation.models.time.Duration;
 import fr.sorbonne_u.devs_simulation.models.time.Time;
 import fr.sorbonne_u.devs_simulation.simulators.SimulationEngine;
+import fr.sorbonne_u.devs_simulation.simulators.StatisticalRunController;
 import fr.sorbonne_u.devs_simulation.simulators.interfaces.SimulatorI;
 
 // -----------------------------------------------------------------------------
@@ -104,6 +105,15 @@ import fr.sorbonne_u.devs_simulation.simulators.interfaces.SimulatorI;
  * simulation reports from the models after the simulation run.
  * </p>
  * <p>
+ * The run is controlled by a <code>StatisticalRunController</code> passed to
+ * the electric meter model as a run parameter, to which the model adds its
+ * total intensity metric: the run stops as soon as the mean total intensity
+ * of the house is estimated within 10% at a 95% confidence level, which
+ * takes from five to thirty simulated days depending on the random usage of
+ * the hair dryer, the end time given to {@code doStandAloneSimulation} being
+ * only an upper bound of the run duration.
+ * </p>
+ * <p>
  * The descriptors and maps can be viewed as kinds of nodes in the abstract
  * syntax tree of an architectural language that does not have a concrete
  * syntax yet.
@@ -385,18 +395,40 @@ public class			RunHEM_Simulation
 							HeaterElectricityModel.URI,
 							HeaterElectricityModel.MAX_HEATING_POWER_RUNPNAME),
 					4400.0);
+			// statistical run controller observing the metrics of the
+			// electric meter model every simulated minute
+			StatisticalRunController controller =
+				new StatisticalRunController(
+						new Duration(1.0/60.0, TimeUnit.HOURS),
+						0.95,
+						0.10,
+						StatisticalRunController.SteadyStateDetection.MSER5);
+			simParams.put(
+				ModelI.createRunParameterName(
+					ElectricMeterElectricityModel.URI,
+					ElectricMeterElectricityModel.RUN_CONTROLLER_RPNAME),
+				controller);
 			se.setSimulationRunParameters(simParams);
+			((SimulationEngine)se).setRunController(controller);
 
 			// this add additional time at each simulation step in
 			// standard simulations (useful for debugging)
 			SimulationEngine.SIMULATION_STEP_SLEEP_TIME = 0L;
 			// run a simulation with the simulation beginning at 0.0 and
-			// ending at 24.0 hours
-			se.doStandAloneSimulation(0.0, 24.0);
+			// ending at the latest at 720.0 hours
+			se.doStandAloneSimulation(0.0, 720.0);
 
 			// Optional: simulation report
 			HEM_Report r = (HEM_Report) se.getFinalReport();
 			System.out.println(r.printout(""));
+			// Optional: estimates of the metrics and end of the run
+			System.out.println(controller);
+			if (controller.isConverged()) {
+				System.out.println("run stopped at "
+								   + controller.getTerminationTime());
+			} else {
+				System.out.println("run ended before the precision was met.");
+			}
 		} catch (Exception e) {
 			throw new RuntimeException(e) ;
 		}
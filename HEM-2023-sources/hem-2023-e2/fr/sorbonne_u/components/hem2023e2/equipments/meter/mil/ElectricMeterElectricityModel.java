@@ -33,6 +33,7 @@ package fr.sorbonne_u.components.hem2023e2.equipments.meter.mil;
 // knowledge of the CeCILL-C license and that you accept its terms.
 
 import java.util.ArrayList;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import fr.sorbonne_u.components.hem2023e2.HEM_ReportI;
 import fr.sorbonne_u.components.hem2023e2.utils.Electricity;
@@ -40,10 +41,13 @@ import fr.sorbonne_u.devs_simulation.hioa.annotations.ImportedVariable;
 import fr.sorbonne_u.devs_simulation.hioa.annotations.InternalVariable;
 import fr.sorbonne_u.devs_simulation.hioa.annotations.ModelImportedVariable;
 import fr.sorbonne_u.devs_simulation.hioa.models.AtomicHIOA;
+import fr.sorbonne_u.devs_simulation.exceptions.MissingRunParameterException;
 import fr.sorbonne_u.devs_simulation.hioa.models.vars.Value;
 import fr.sorbonne_u.devs_simulation.models.events.EventI;
+import fr.sorbonne_u.devs_simulation.models.interfaces.ModelI;
 import fr.sorbonne_u.devs_simulation.models.time.Duration;
 import fr.sorbonne_u.devs_simulation.models.time.Time;
+import fr.sorbonne_u.devs_simulation.simulators.StatisticalRunController;
 import fr.sorbonne_u.devs_simulation.simulators.interfaces.AtomicSimulatorI;
 import fr.sorbonne_u.devs_simulation.simulators.interfaces.SimulationReportI;
 import fr.sorbonne_u.devs_simulation.utils.Pair;
@@ -60,6 +64,13 @@ import fr.sorbonne_u.devs_simulation.utils.StandardLogger;
  * This model is an HIOA model that imports variables, hence shows how this kind
  * of models are programmed.
  * </p>
+ * <p>
+ * When a <code>StatisticalRunController</code> is passed to the model as the
+ * run parameter <code>RUN_CONTROLLER_RPNAME</code>, the model adds to it the
+ * metric <code>INTENSITY_METRIC</code> observing the current total intensity
+ * of the house, so that a stand alone run can be stopped as soon as the mean
+ * intensity is estimated with the precision requested from the controller.
+ * </p>
  * 
  * <ul>
  * <li>Imported events: none</li>
@@ -310,6 +321,40 @@ extends		AtomicHIOA
 		super.endSimulation(endTime);
 	}
 
+	// -------------------------------------------------------------------------
+	// Optional DEVS simulation protocol: simulation run parameters
+	// -------------------------------------------------------------------------
+
+	/** statistical run controller to which the metrics of the model are
+	 *  added.																*/
+	public static final String	RUN_CONTROLLER_RPNAME = "RUN_CONTROLLER";
+	/** name of the metric observing the current total intensity in amperes.	*/
+	public static final String	INTENSITY_METRIC = URI + "-intensity";
+
+	/**
+	 * @see fr.sorbonne_u.devs_simulation.models.interfaces.ModelI#setSimulationRunParameters(Map)
+	 */
+	@Override
+	public void			setSimulationRunParameters(
+		Map<String, Object> simParams
+		) throws MissingRunParameterException
+	{
+		super.setSimulationRunParameters(simParams);
+
+		String controllerName =
+			ModelI.createRunParameterName(getURI(), RUN_CONTROLLER_RPNAME);
+		if (simParams.containsKey(controllerName)) {
+			StatisticalRunController c =
+				(StatisticalRunController) simParams.get(controllerName);
+			if (!c.getMetricNames().contains(INTENSITY_METRIC)) {
+				// the state of the model is observed between its transitions
+				c.addMetric(INTENSITY_METRIC,
+							t -> this.currentIntensity.isInitialised() ?
+									this.currentIntensity.getValue() : 0.0);
+			}
+		}
+	}
+
 	// -------------------------------------------------------------------------
 	// Optional DEVS simulation protocol: simulation report
 	// -------------------------------------------------------------------------
@@ -39,6 +39,8 @@ import fr.sorbonne_u.components.cyphy.plugins.devs.AtomicSimulatorPlugin;
 import fr.sorbonne_u.components.cyphy.plugins.devs.RTAtomicSimulatorPlugin;
 import fr.sorbonne_u.components.exceptions.ComponentShutdownException;
 import fr.sorbonne_u.components.exceptions.ComponentStartException;
+import fr.sorbonne_u.components.helpers.PrioritisedI;
+import fr.sorbonne_u.components.helpers.PriorityExecutorServiceFactory;
 import fr.sorbonne_u.components.hem2023e1.equipments.heater.HeaterExternalControlCI;
 import fr.sorbonne_u.components.hem2023e1.equipments.heater.HeaterInternalControlCI;
 import fr.sorbonne_u.components.hem2023e1.equipments.heater.HeaterInternalControlI;
@@ -207,6 +209,10 @@ implements	HeaterUserImplI,
 											"HEATER-SENSOR-INBOUND-PORT-URI";
 	public static final String		ACTUATOR_INBOUND_PORT_URI =
 											"HEATER-ACTUATOR-INBOUND-PORT-URI";
+	/** URI of the priority executor service running the requests received
+	 *  through all of the inbound ports of the heater.						*/
+	public static final String		REQUESTS_EXECUTOR_URI =
+												"HEATER-REQUESTS-EXECUTOR-URI";
 
 	/** when true, methods trace their actions.								*/
 	public static final boolean		VERBOSE = true;
@@ -461,19 +467,32 @@ implements	HeaterUserImplI,
 		this.currentPowerLevel = MAX_POWER_LEVEL;
 		this.targetTemperature = STANDARD_TARGET_TEMPERATURE;
 
-		this.hip = new HeaterUserInboundPort(heaterUserInboundPortURI, this);
+		// the requests received through all of the inbound ports are run
+		// by priority on the same single thread executor service, hence they
+		// are serialised as before and the suspensions, resumptions and power
+		// changes ordered by the HEM through the external control port
+		// overtake the queued user, sensor and actuator requests
+		this.createNewExecutorService(REQUESTS_EXECUTOR_URI, 1,
+									  new PriorityExecutorServiceFactory());
+		this.hip = new HeaterUserInboundPort(heaterUserInboundPortURI, this,
+											 REQUESTS_EXECUTOR_URI);
 		this.hip.publishPort();
 		this.hicip = new HeaterInternalControlInboundPort(
-									heaterInternalControlInboundPortURI, this);
+									heaterInternalControlInboundPortURI, this,
+									REQUESTS_EXECUTOR_URI);
 		this.hicip.publishPort();
 		this.hecip = new HeaterExternalControlInboundPort(
-									heaterExternalControlInboundPortURI, this);
+									heaterExternalControlInboundPortURI, this,
+									REQUESTS_EXECUTOR_URI);
+		this.hecip.setRequestPriority(PrioritisedI.HIGH);
 		this.hecip.publishPort();
 		this.sensorInboundPort = new HeaterSensorDataInboundPort(
-									heaterSensorInboundPortURI, this);
+									heaterSensorInboundPortURI, this,
+									REQUESTS_EXECUTOR_URI);
 		this.sensorInboundPort.publishPort();
 		this.actuatorInboundPort = new HeaterActuatorInboundPort(
-									heaterActuatorInboundPortURI, this);
+									heaterActuatorInboundPortURI, this,
+									REQUESTS_EXECUTOR_URI);
 		this.actuatorInboundPort.publishPort();
 
 		switch (this.currentExecutionType) {
@@ -114,13 +114,42 @@ implements	HeaterActuatorCI
 					"owner instanceof HeaterInternalControlI");
 	}
 
+	/**
+	 * create an inbound port which requests are executed by the given
+	 * executor service of its owner.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code owner instanceof HeaterInternalControlI}
+	 * pre	{@code executorServiceURI != null && !executorServiceURI.isEmpty()}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param uri					unique identifier of the port.
+	 * @param owner					component that owns this port.
+	 * @param executorServiceURI	URI of the owner executor service executing the requests.
+	 * @throws Exception			<i>to do</i>.
+	 */
+	public				HeaterActuatorInboundPort(
+		String uri,
+		ComponentI owner,
+		String executorServiceURI
+		) throws Exception
+	{
+		super(uri, HeaterActuatorCI.class, owner, null, executorServiceURI);
+		assert	owner instanceof HeaterInternalControlI :
+			new PreconditionException(
+					"owner instanceof HeaterInternalControlI");
+	}
+
 	/**
 	 * @see fr.sorbonne_u.components.hem2023e3.equipments.heater.HeaterActuatorCI#startHeating()
 	 */
 	@Override
 	public void			startHeating() throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 							o -> {	((HeaterInternalControlI)o).startHeating();
 									return null;
 								 });
@@ -132,7 +161,7 @@ implements	HeaterActuatorCI
 	@Override
 	public void			stopHeating() throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 							o -> {	((HeaterInternalControlI)o).stopHeating();
 									return null;
 								 });
@@ -133,6 +133,37 @@ implements	HeaterSensorDataCI.HeaterSensorOfferedPullCI
 						"owner instanceof HeaterInternalControlI");
 	}
 
+	/**
+	 * create an inbound port which requests are executed by the given
+	 * executor service of its owner.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code owner instanceof HeaterInternalControlI}
+	 * pre	{@code executorServiceURI != null && !executorServiceURI.isEmpty()}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param uri					unique identifier of the port.
+	 * @param owner					component that owns this port.
+	 * @param executorServiceURI	URI of the owner executor service executing the requests.
+	 * @throws Exception			<i>to do</i>.
+	 */
+	public				HeaterSensorDataInboundPort(
+		String uri, 
+		ComponentI owner,
+		String executorServiceURI
+		) throws Exception
+	{
+		super(uri, HeaterSensorDataCI.HeaterSensorOfferedPullCI.class,
+			  DataOfferedCI.PushCI.class, owner, null, executorServiceURI);
+
+		assert	owner instanceof HeaterInternalControlI :
+				new PreconditionException(
+						"owner instanceof HeaterInternalControlI");
+	}
+
 	// -------------------------------------------------------------------------
 	// Methods
 	// -------------------------------------------------------------------------
@@ -144,7 +175,7 @@ implements	HeaterSensorDataCI.HeaterSensorOfferedPullCI
 	public HeaterSensorData<Measure<Boolean>>	heatingPullSensor()
 	throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 							o -> ((Heater)o).heatingPullSensor());
 	}
 
@@ -155,7 +186,7 @@ implements	HeaterSensorDataCI.HeaterSensorOfferedPullCI
 	public HeaterSensorData<Measure<Double>>	targetTemperaturePullSensor()
 	throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 							o -> ((Heater)o).targetTemperaturePullSensor());
 	}
 
@@ -166,7 +197,7 @@ implements	HeaterSensorDataCI.HeaterSensorOfferedPullCI
 	public HeaterSensorData<Measure<Double>>	currentTemperaturePullSensor()
 	throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequest(
 							o -> ((Heater)o).currentTemperaturePullSensor());
 	}
 
@@ -179,7 +210,7 @@ implements	HeaterSensorDataCI.HeaterSensorOfferedPullCI
 		TimeUnit tu
 		) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequest(
 			o -> { ((Heater)o).startTemperaturesPushSensor(controlPeriod, tu);
 					return null;
 				 });
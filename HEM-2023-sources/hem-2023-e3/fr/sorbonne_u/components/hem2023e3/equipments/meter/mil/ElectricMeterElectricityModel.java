@@ -46,8 +46,10 @@ import fr.sorbonne_u.devs_simulation.hioa.annotations.ModelImportedVariable;
 import fr.sorbonne_u.devs_simulation.hioa.models.AtomicHIOA;
 import fr.sorbonne_u.devs_simulation.hioa.models.vars.Value;
 import fr.sorbonne_u.devs_simulation.models.events.EventI;
+import fr.sorbonne_u.devs_simulation.models.interfaces.ModelI;
 import fr.sorbonne_u.devs_simulation.models.time.Duration;
 import fr.sorbonne_u.devs_simulation.models.time.Time;
+import fr.sorbonne_u.devs_simulation.simulators.StatisticalRunController;
 import fr.sorbonne_u.devs_simulation.simulators.interfaces.AtomicSimulatorI;
 import fr.sorbonne_u.devs_simulation.simulators.interfaces.SimulationReportI;
 import fr.sorbonne_u.devs_simulation.utils.Pair;
@@ -65,6 +67,14 @@ import fr.sorbonne_u.exceptions.PreconditionException;
  * This model is an HIOA model that imports variables, hence shows how this kind
  * of models are programmed.
  * </p>
+ * <p>
+ * When a <code>StatisticalRunController</code> is passed to the model as the
+ * run parameter <code>RUN_CONTROLLER_RPNAME</code>, the model adds to it a
+ * metric named after its URI followed by <code>INTENSITY_METRIC_SUFFIX</code>
+ * observing the current total intensity of the house, so that a stand alone
+ * run can be stopped as soon as the mean intensity is estimated with the
+ * precision requested from the controller.
+ * </p>
  * 
  * <ul>
  * <li>Imported events: none</li>
@@ -326,6 +336,13 @@ extends		AtomicHIOA
 	// Optional DEVS simulation protocol: simulation run parameters
 	// -------------------------------------------------------------------------
 
+	/** statistical run controller to which the metrics of the model are
+	 *  added.																*/
+	public static final String	RUN_CONTROLLER_RPNAME = "RUN_CONTROLLER";
+	/** suffix of the name of the metric observing the current total
+	 *  intensity in amperes, appended to the URI of the model.				*/
+	public static final String	INTENSITY_METRIC_SUFFIX = "-intensity";
+
 	/**
 	 * @see fr.sorbonne_u.devs_simulation.models.Model#setSimulationRunParameters(java.util.Map)
 	 */
@@ -348,6 +365,21 @@ extends		AtomicHIOA
 			this.getSimulationEngine().setLogger(
 						AtomicSimulatorPlugin.createComponentLogger(simParams));
 		}
+
+		String controllerName =
+			ModelI.createRunParameterName(getURI(), RUN_CONTROLLER_RPNAME);
+		if (simParams.containsKey(controllerName)) {
+			StatisticalRunController c =
+				(StatisticalRunController) simParams.get(controllerName);
+			String metricName = this.getURI() + INTENSITY_METRIC_SUFFIX;
+			if (!c.getMetricNames().contains(metricName)) {
+				// the state of the model is observed between its transitions
+				c.addMetric(
+					metricName,
+					t -> this.currentPowerConsumption.isInitialised() ?
+							this.currentPowerConsumption.getValue() : 0.0);
+			}
+		}
 	}
 
 	// -------------------------------------------------------------------------
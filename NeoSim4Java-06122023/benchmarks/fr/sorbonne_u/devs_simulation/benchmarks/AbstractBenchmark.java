@@ -0,0 +1,247 @@
+package fr.sorbonne_u.devs_simulation.benchmarks;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a new
+// implementation of the DEVS simulation <i>de facto</i> standard for Java.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>AbstractBenchmark</code> defines the common properties and
+ * behaviour of the benchmarks run by <code>BenchmarkRunner</code>.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * A benchmark is identified by its name and the values of its parameters
+ * (<i>e.g.</i>, the number of children of a coupled model). The runner first
+ * calls <code>setUp</code> once, then repeatedly calls <code>run</code> with
+ * a number of operations computed to fill the requested iteration time and
+ * finally calls <code>tearDown</code>. The result of <code>run</code> must
+ * depend on the computations made by the operations so that the JIT compiler
+ * cannot eliminate them as dead code; the runner consumes it.
+ * </p>
+ * <p>
+ * Benchmarks running whole simulations usually print traces; they can ask
+ * the runner to discard everything printed on <code>System.out</code> while
+ * they run by returning true from <code>isQuiet</code>.
+ * </p>
+ * 
+ * <p><strong>White-box Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code name != null && !name.isEmpty()}
+ * invariant	{@code params != null}
+ * invariant	{@code outputTimeUnit != null}
+ * </pre>
+ * 
+ * <p><strong>Black-box Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code true}	// no more invariant
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public abstract class	AbstractBenchmark
+{
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** name of the benchmark.												*/
+	protected final String				name;
+	/** values of the parameters of the benchmark, in declaration order.	*/
+	protected final Map<String,String>	params;
+	/** time unit in which the time per operation is reported.				*/
+	protected final TimeUnit			outputTimeUnit;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create a benchmark.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code name != null && !name.isEmpty()}
+	 * pre	{@code outputTimeUnit != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param name				name of the benchmark.
+	 * @param params			values of the parameters of the benchmark or null if none.
+	 * @param outputTimeUnit	time unit in which the time per operation is reported.
+	 */
+	public				AbstractBenchmark(
+		String name,
+		Map<String,String> params,
+		TimeUnit outputTimeUnit
+		)
+	{
+		assert	name != null && !name.isEmpty() :
+				new AssertionError("Precondition violation: "
+						+ "name != null && !name.isEmpty()");
+		assert	outputTimeUnit != null :
+				new AssertionError("Precondition violation: "
+						+ "outputTimeUnit != null");
+
+		this.name = name;
+		this.params = params != null ?
+							Collections.unmodifiableMap(
+									new LinkedHashMap<String,String>(params))
+						:	Collections.<String,String>emptyMap();
+		this.outputTimeUnit = outputTimeUnit;
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return the name of the benchmark.
+	 * 
+	 * @return	the name of the benchmark.
+	 */
+	public String		getName()
+	{
+		return this.name;
+	}
+
+	/**
+	 * return the values of the parameters of the benchmark.
+	 * 
+	 * @return	the values of the parameters of the benchmark.
+	 */
+	public Map<String,String>	getParams()
+	{
+		return this.params;
+	}
+
+	/**
+	 * return the time unit in which the time per operation is reported.
+	 * 
+	 * @return	the time unit in which the time per operation is reported.
+	 */
+	public TimeUnit		getOutputTimeUnit()
+	{
+		return this.outputTimeUnit;
+	}
+
+	/**
+	 * return the name and the values of the parameters of the benchmark as
+	 * a string, used to identify the benchmark in the reports.
+	 * 
+	 * @return	the name and the values of the parameters of the benchmark.
+	 */
+	public String		getId()
+	{
+		if (this.params.isEmpty()) {
+			return this.name;
+		} else {
+			StringBuffer sb = new StringBuffer(this.name);
+			sb.append(this.params);
+			return sb.toString();
+		}
+	}
+
+	/**
+	 * return true if everything printed on <code>System.out</code> while
+	 * the benchmark runs must be discarded.
+	 * 
+	 * @return	true if everything printed on <code>System.out</code> must be discarded.
+	 */
+	public boolean		isQuiet()
+	{
+		return false;
+	}
+
+	/**
+	 * prepare the benchmark before its iterations are run.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @throws Exception	<i>to do</i>.
+	 */
+	public void			setUp() throws Exception
+	{
+		// By default, nothing to do.
+	}
+
+	/**
+	 * perform <code>operations</code> operations of the benchmark and
+	 * return a value depending on their computations.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code operations > 0}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param operations	number of operations to be performed.
+	 * @return				a value depending on the computations of the operations.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	public abstract long	run(long operations) throws Exception;
+
+	/**
+	 * release the resources used by the benchmark after its iterations have
+	 * been run.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @throws Exception	<i>to do</i>.
+	 */
+	public void			tearDown() throws Exception
+	{
+		// By default, nothing to do.
+	}
+}
+// -----------------------------------------------------------------------------
@@ -0,0 +1,332 @@
+package fr.sorbonne_u.devs_simulation.benchmarks;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a new
+// implementation of the DEVS simulation <i>de facto</i> standard for Java.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>BenchmarkResult</code> holds the measurements made by
+ * <code>BenchmarkRunner</code> for one benchmark.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * The raw data are the average times per operation measured during each
+ * measurement iteration, expressed in the output time unit of the benchmark.
+ * The score is their mean and the score error is the half-width of their
+ * 99.9% confidence interval computed with the Student's t-distribution, as
+ * JMH does for its average time mode.
+ * </p>
+ * 
+ * <p><strong>White-box Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code benchmark != null}
+ * invariant	{@code rawData != null && rawData.length > 0}
+ * </pre>
+ * 
+ * <p><strong>Black-box Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code true}	// no more invariant
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			BenchmarkResult
+{
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** benchmark that has been measured.									*/
+	protected final AbstractBenchmark	benchmark;
+	/** number of warmup iterations that have been run.						*/
+	protected final int					warmupIterations;
+	/** average time per operation measured in each measurement iteration,
+	 *  in the output time unit of the benchmark.							*/
+	protected final double[]			rawData;
+	/** mean of the raw data.												*/
+	protected final double				score;
+	/** half-width of the 99.9% confidence interval around the score.		*/
+	protected final double				scoreError;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create a benchmark result.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code benchmark != null}
+	 * pre	{@code warmupIterations >= 0}
+	 * pre	{@code rawData != null && rawData.length > 0}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param benchmark			benchmark that has been measured.
+	 * @param warmupIterations	number of warmup iterations that have been run.
+	 * @param rawData			average time per operation measured in each measurement iteration.
+	 * @param score				mean of the raw data.
+	 * @param scoreError		half-width of the 99.9% confidence interval around the score.
+	 */
+	public				BenchmarkResult(
+		AbstractBenchmark benchmark,
+		int warmupIterations,
+		double[] rawData,
+		double score,
+		double scoreError
+		)
+	{
+		assert	benchmark != null :
+				new AssertionError("Precondition violation: benchmark != null");
+		assert	warmupIterations >= 0 :
+				new AssertionError("Precondition violation: "
+						+ "warmupIterations >= 0");
+		assert	rawData != null && rawData.length > 0 :
+				new AssertionError("Precondition violation: "
+						+ "rawData != null && rawData.length > 0");
+
+		this.benchmark = benchmark;
+		this.warmupIterations = warmupIterations;
+		this.rawData = rawData.clone();
+		this.score = score;
+		this.scoreError = scoreError;
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return the benchmark that has been measured.
+	 * 
+	 * @return	the benchmark that has been measured.
+	 */
+	public AbstractBenchmark	getBenchmark()
+	{
+		return this.benchmark;
+	}
+
+	/**
+	 * return the mean time per operation.
+	 * 
+	 * @return	the mean time per operation.
+	 */
+	public double		getScore()
+	{
+		return this.score;
+	}
+
+	/**
+	 * return the half-width of the 99.9% confidence interval around the score.
+	 * 
+	 * @return	the half-width of the 99.9% confidence interval around the score.
+	 */
+	public double		getScoreError()
+	{
+		return this.scoreError;
+	}
+
+	/**
+	 * return the unit of the score using the JMH notation (<i>e.g.</i>,
+	 * "ns/op").
+	 * 
+	 * @return	the unit of the score.
+	 */
+	public String		getScoreUnit()
+	{
+		return BenchmarkResult.unitSymbol(
+							this.benchmark.getOutputTimeUnit()) + "/op";
+	}
+
+	/**
+	 * return the JMH symbol of <code>u</code>.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code u != null}
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @param u	a time unit.
+	 * @return	the JMH symbol of <code>u</code>.
+	 */
+	public static String	unitSymbol(TimeUnit u)
+	{
+		switch (u) {
+		case NANOSECONDS:	return "ns";
+		case MICROSECONDS:	return "us";
+		case MILLISECONDS:	return "ms";
+		case SECONDS:		return "s";
+		case MINUTES:		return "min";
+		case HOURS:			return "hr";
+		default:			return "day";
+		}
+	}
+
+	/**
+	 * append the JSON representation of this result to <code>sb</code>,
+	 * using the format of the JMH JSON result files so that existing
+	 * tools can process it.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code sb != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param sb		buffer to which the JSON representation is appended.
+	 * @param indent	indentation prefixed to every line.
+	 */
+	public void			toJSON(StringBuffer sb, String indent)
+	{
+		String i1 = indent + "    ";
+		String i2 = i1 + "    ";
+		sb.append(indent).append("{\n");
+		sb.append(i1).append("\"jmhVersion\" : \"compatible\",\n");
+		sb.append(i1).append("\"benchmark\" : ").
+					append(quote(this.benchmark.getName())).append(",\n");
+		sb.append(i1).append("\"mode\" : \"avgt\",\n");
+		sb.append(i1).append("\"threads\" : 1,\n");
+		sb.append(i1).append("\"forks\" : 1,\n");
+		sb.append(i1).append("\"jvm\" : ").
+			append(quote(System.getProperty("java.home", ""))).append(",\n");
+		sb.append(i1).append("\"jdkVersion\" : ").
+			append(quote(System.getProperty("java.version", ""))).append(",\n");
+		sb.append(i1).append("\"vmName\" : ").
+			append(quote(System.getProperty("java.vm.name", ""))).append(",\n");
+		sb.append(i1).append("\"vmVersion\" : ").
+			append(quote(System.getProperty("java.vm.version", ""))).
+			append(",\n");
+		sb.append(i1).append("\"warmupIterations\" : ").
+					append(this.warmupIterations).append(",\n");
+		sb.append(i1).append("\"measurementIterations\" : ").
+					append(this.rawData.length).append(",\n");
+		if (!this.benchmark.getParams().isEmpty()) {
+			sb.append(i1).append("\"params\" : {\n");
+			boolean first = true;
+			for (Map.Entry<String,String> e :
+									this.benchmark.getParams().entrySet()) {
+				if (!first) {
+					sb.append(",\n");
+				}
+				first = false;
+				sb.append(i2).append(quote(e.getKey())).append(" : ").
+							  append(quote(e.getValue()));
+			}
+			sb.append("\n").append(i1).append("},\n");
+		}
+		sb.append(i1).append("\"primaryMetric\" : {\n");
+		sb.append(i2).append("\"score\" : ").
+					append(number(this.score)).append(",\n");
+		sb.append(i2).append("\"scoreError\" : ").
+					append(number(this.scoreError)).append(",\n");
+		sb.append(i2).append("\"scoreConfidence\" : [ ").
+			append(number(this.score - this.scoreError)).append(", ").
+			append(number(this.score + this.scoreError)).append(" ],\n");
+		sb.append(i2).append("\"scoreUnit\" : ").
+					append(quote(this.getScoreUnit())).append(",\n");
+		sb.append(i2).append("\"rawData\" : [ [ ");
+		for (int i = 0 ; i < this.rawData.length ; i++) {
+			if (i > 0) {
+				sb.append(", ");
+			}
+			sb.append(number(this.rawData[i]));
+		}
+		sb.append(" ] ]\n");
+		sb.append(i1).append("},\n");
+		sb.append(i1).append("\"secondaryMetrics\" : {\n");
+		sb.append(i1).append("}\n");
+		sb.append(indent).append("}");
+	}
+
+	/**
+	 * return <code>s</code> as a JSON string literal.
+	 * 
+	 * @param s	string to be quoted.
+	 * @return	<code>s</code> as a JSON string literal.
+	 */
+	protected static String	quote(String s)
+	{
+		StringBuffer sb = new StringBuffer("\"");
+		for (int i = 0 ; i < s.length() ; i++) {
+			char c = s.charAt(i);
+			if (c == '"' || c == '\\') {
+				sb.append('\\').append(c);
+			} else if (c < ' ') {
+				sb.append(String.format("\\u%04x", (int) c));
+			} else {
+				sb.append(c);
+			}
+		}
+		return sb.append('"').toString();
+	}
+
+	/**
+	 * return <code>d</code> as a JSON number, JSON having no representation
+	 * for infinite values and NaN.
+	 * 
+	 * @param d	value to be represented.
+	 * @return	<code>d</code> as a JSON number.
+	 */
+	protected static String	number(double d)
+	{
+		if (Double.isNaN(d) || Double.isInfinite(d)) {
+			return "\"" + d + "\"";
+		} else {
+			return Double.toString(d);
+		}
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String		toString()
+	{
+		return String.format("%-60s %12.3f +- %10.3f %s",
+							 this.benchmark.getId(), this.score,
+							 this.scoreError, this.getScoreUnit());
+	}
+}
+// -----------------------------------------------------------------------------
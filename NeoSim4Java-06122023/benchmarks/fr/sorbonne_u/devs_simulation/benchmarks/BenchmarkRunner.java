@@ -0,0 +1,442 @@
+package fr.sorbonne_u.devs_simulation.benchmarks;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a new
+// implementation of the DEVS simulation <i>de facto</i> standard for Java.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.math3.distribution.TDistribution;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>BenchmarkRunner</code> runs benchmarks and collects their
+ * results in the JMH JSON result format.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * The runner follows the average time mode of JMH: each benchmark is run
+ * during a number of warmup iterations, which results are discarded, and
+ * then during a number of measurement iterations, which average times per
+ * operation give the raw data of the result. Before the warmup, the number
+ * of operations per iteration is calibrated by doubling it until one call
+ * to <code>run</code> lasts at least the requested iteration time; hence,
+ * the timer is read twice per iteration rather than once per operation,
+ * which is necessary for micro-benchmarks.
+ * </p>
+ * <p>
+ * Contrary to JMH, benchmarks are not run in forked JVMs; the results of
+ * benchmarks run later in the same JVM may therefore be affected by the
+ * profile accumulated by the JIT compiler during the previous ones. When
+ * comparing runs, it is better to select the benchmarks of interest with a
+ * filter or to run the runner once per benchmark.
+ * </p>
+ * 
+ * <p><strong>White-box Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code warmupIterations >= 0}
+ * invariant	{@code measurementIterations > 1}
+ * invariant	{@code iterationTime > 0}
+ * </pre>
+ * 
+ * <p><strong>Black-box Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code true}	// no more invariant
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			BenchmarkRunner
+{
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** default number of warmup iterations.								*/
+	public static final int		STANDARD_WARMUP_ITERATIONS = 5;
+	/** default number of measurement iterations.							*/
+	public static final int		STANDARD_MEASUREMENT_ITERATIONS = 5;
+	/** default duration of an iteration in milliseconds.					*/
+	public static final long	STANDARD_ITERATION_TIME = 1000L;
+	/** confidence level of the score error, the one used by JMH.			*/
+	public static final double	CONFIDENCE_LEVEL = 0.999;
+
+	/** number of warmup iterations.										*/
+	protected final int			warmupIterations;
+	/** number of measurement iterations.									*/
+	protected final int			measurementIterations;
+	/** duration of an iteration in milliseconds.							*/
+	protected final long		iterationTime;
+	/** stream on which the progress of the runs is reported, or null.		*/
+	protected final PrintStream	progress;
+	/** sink for the values returned by the benchmarks.						*/
+	protected long				blackhole;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create a runner with the default settings reporting its progress on
+	 * <code>System.err</code>.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 */
+	public				BenchmarkRunner()
+	{
+		this(STANDARD_WARMUP_ITERATIONS, STANDARD_MEASUREMENT_ITERATIONS,
+			 STANDARD_ITERATION_TIME, System.err);
+	}
+
+	/**
+	 * create a runner.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code warmupIterations >= 0}
+	 * pre	{@code measurementIterations > 1}
+	 * pre	{@code iterationTime > 0}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param warmupIterations		number of warmup iterations.
+	 * @param measurementIterations	number of measurement iterations.
+	 * @param iterationTime			duration of an iteration in milliseconds.
+	 * @param progress				stream on which the progress of the runs is reported, or null.
+	 */
+	public				BenchmarkRunner(
+		int warmupIterations,
+		int measurementIterations,
+		long iterationTime,
+		PrintStream progress
+		)
+	{
+		assert	warmupIterations >= 0 :
+				new AssertionError("Precondition violation: "
+						+ "warmupIterations >= 0");
+		assert	measurementIterations > 1 :
+				new AssertionError("Precondition violation: "
+						+ "measurementIterations > 1");
+		assert	iterationTime > 0 :
+				new AssertionError("Precondition violation: "
+						+ "iterationTime > 0");
+
+		this.warmupIterations = warmupIterations;
+		this.measurementIterations = measurementIterations;
+		this.iterationTime = iterationTime;
+		this.progress = progress;
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * run all of the benchmarks in <code>benchmarks</code> and return their
+	 * results.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code benchmarks != null}
+	 * post	{@code ret != null && ret.size() == benchmarks.size()}
+	 * </pre>
+	 *
+	 * @param benchmarks	benchmarks to be run.
+	 * @return				the results of the benchmarks.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	public List<BenchmarkResult>	runAll(List<AbstractBenchmark> benchmarks)
+	throws Exception
+	{
+		assert	benchmarks != null :
+				new AssertionError("Precondition violation: "
+						+ "benchmarks != null");
+
+		List<BenchmarkResult> ret = new ArrayList<BenchmarkResult>();
+		for (AbstractBenchmark b : benchmarks) {
+			ret.add(this.run(b));
+		}
+		return ret;
+	}
+
+	/**
+	 * run the benchmark <code>b</code> and return its result.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code b != null}
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @param b				benchmark to be run.
+	 * @return				the result of the benchmark.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	public BenchmarkResult	run(AbstractBenchmark b) throws Exception
+	{
+		assert	b != null :
+				new AssertionError("Precondition violation: b != null");
+
+		this.report("# Benchmark: " + b.getId());
+		PrintStream out = System.out;
+		if (b.isQuiet()) {
+			System.setOut(new PrintStream(new OutputStream() {
+								@Override
+								public void write(int c) { }
+								@Override
+								public void write(byte[] a, int o, int l) { }
+							}));
+		}
+		double[] rawData = new double[this.measurementIterations];
+		try {
+			b.setUp();
+			try {
+				long operations = this.calibrate(b);
+				for (int i = 0 ; i < this.warmupIterations ; i++) {
+					double t = this.iteration(b, operations);
+					this.report(String.format(
+							"# Warmup Iteration %3d: %.3f %s",
+							i + 1, t, this.unit(b)));
+				}
+				for (int i = 0 ; i < this.measurementIterations ; i++) {
+					rawData[i] = this.iteration(b, operations);
+					this.report(String.format(
+							"Iteration %3d: %.3f %s",
+							i + 1, rawData[i], this.unit(b)));
+				}
+			} finally {
+				b.tearDown();
+			}
+		} finally {
+			System.setOut(out);
+		}
+
+		double score = 0.0;
+		for (int i = 0 ; i < rawData.length ; i++) {
+			score += rawData[i];
+		}
+		score /= rawData.length;
+		double variance = 0.0;
+		for (int i = 0 ; i < rawData.length ; i++) {
+			variance += (rawData[i] - score)*(rawData[i] - score);
+		}
+		variance /= rawData.length - 1;
+		TDistribution t = new TDistribution(rawData.length - 1);
+		double a = t.inverseCumulativeProbability(
+										1.0 - (1.0 - CONFIDENCE_LEVEL)/2.0);
+		double scoreError = a*Math.sqrt(variance/rawData.length);
+
+		BenchmarkResult ret =
+			new BenchmarkResult(b, this.warmupIterations, rawData,
+								score, scoreError);
+		this.report("Result: " + ret);
+		return ret;
+	}
+
+	/**
+	 * return the number of operations so that one call to <code>run</code>
+	 * lasts at least the iteration time.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code b != null}
+	 * post	{@code ret > 0}
+	 * </pre>
+	 *
+	 * @param b				benchmark to be calibrated.
+	 * @return				the number of operations per iteration.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	protected long		calibrate(AbstractBenchmark b) throws Exception
+	{
+		long target = TimeUnit.MILLISECONDS.toNanos(this.iterationTime);
+		long operations = 1L;
+		while (true) {
+			long start = System.nanoTime();
+			this.blackhole ^= b.run(operations);
+			long elapsed = System.nanoTime() - start;
+			if (elapsed >= target) {
+				return operations;
+			}
+			if (elapsed > target/16) {
+				// close enough to extrapolate, avoiding the cost of the
+				// last doublings for long running benchmarks
+				return Math.max(operations + 1,
+								(long)(operations*((double)target/elapsed)));
+			}
+			operations *= 2L;
+		}
+	}
+
+	/**
+	 * run one iteration of <code>operations</code> operations and return
+	 * the average time per operation in the output time unit of the
+	 * benchmark.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code b != null}
+	 * pre	{@code operations > 0}
+	 * post	{@code ret >= 0.0}
+	 * </pre>
+	 *
+	 * @param b				benchmark to be run.
+	 * @param operations	number of operations of the iteration.
+	 * @return				the average time per operation.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	protected double	iteration(AbstractBenchmark b, long operations)
+	throws Exception
+	{
+		long start = System.nanoTime();
+		this.blackhole ^= b.run(operations);
+		long elapsed = System.nanoTime() - start;
+		double nanosPerUnit = b.getOutputTimeUnit().toNanos(1L);
+		return elapsed/(operations*nanosPerUnit);
+	}
+
+	/**
+	 * return the unit of the score of <code>b</code>.
+	 * 
+	 * @param b	a benchmark.
+	 * @return	the unit of the score of <code>b</code>.
+	 */
+	protected String	unit(AbstractBenchmark b)
+	{
+		return BenchmarkResult.unitSymbol(b.getOutputTimeUnit()) + "/op";
+	}
+
+	/**
+	 * report <code>message</code> on the progress stream if any.
+	 * 
+	 * @param message	message to be reported.
+	 */
+	protected void		report(String message)
+	{
+		if (this.progress != null) {
+			this.progress.println(message);
+		}
+	}
+
+	/**
+	 * return the value accumulated from the results of the benchmarks; it
+	 * is never meaningful but prevents the JIT compiler from eliminating
+	 * their computations.
+	 * 
+	 * @return	the value accumulated from the results of the benchmarks.
+	 */
+	public long			getBlackhole()
+	{
+		return this.blackhole;
+	}
+
+	/**
+	 * write <code>results</code> in the JMH JSON result format in the file
+	 * <code>fileName</code>.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code results != null}
+	 * pre	{@code fileName != null && !fileName.isEmpty()}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param results		results to be written.
+	 * @param fileName		name of the file.
+	 * @throws IOException	when the file cannot be written.
+	 */
+	public static void	writeJSON(List<BenchmarkResult> results, String fileName)
+	throws IOException
+	{
+		assert	results != null :
+				new AssertionError("Precondition violation: results != null");
+		assert	fileName != null && !fileName.isEmpty() :
+				new AssertionError("Precondition violation: "
+						+ "fileName != null && !fileName.isEmpty()");
+
+		Writer w = new OutputStreamWriter(new FileOutputStream(fileName),
+										  StandardCharsets.UTF_8);
+		try {
+			w.write(toJSON(results));
+		} finally {
+			w.close();
+		}
+	}
+
+	/**
+	 * return <code>results</code> in the JMH JSON result format.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code results != null}
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @param results	results to be formatted.
+	 * @return			<code>results</code> in the JMH JSON result format.
+	 */
+	public static String	toJSON(List<BenchmarkResult> results)
+	{
+		StringBuffer sb = new StringBuffer("[\n");
+		for (int i = 0 ; i < results.size() ; i++) {
+			results.get(i).toJSON(sb, "    ");
+			sb.append(i < results.size() - 1 ? ",\n" : "\n");
+		}
+		return sb.append("]\n").toString();
+	}
+}
+// -----------------------------------------------------------------------------
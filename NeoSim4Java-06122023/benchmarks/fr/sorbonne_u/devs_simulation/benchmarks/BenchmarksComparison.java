@@ -0,0 +1,433 @@
+package fr.sorbonne_u.devs_simulation.benchmarks;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a new
+// implementation of the DEVS simulation <i>de facto</i> standard for Java.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>BenchmarksComparison</code> compares two benchmark result
+ * files in the JMH JSON result format to detect performance regressions.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * Usage:
+ * </p>
+ * <pre>
+ * java -cp ... fr.sorbonne_u.devs_simulation.benchmarks.BenchmarksComparison
+ *      baseline.json current.json [threshold]
+ * </pre>
+ * <p>
+ * A benchmark regresses when its current score exceeds its baseline score
+ * by more than <code>threshold</code> (a ratio, 0.1 by default) and their
+ * confidence intervals do not overlap; improvements are detected
+ * symmetrically. The program exits with the status 1 when at least one
+ * benchmark regresses, so that it can be used in continuous integration
+ * scripts.
+ * </p>
+ * <p>
+ * As all of the benchmarks run in the average time mode, a lower score is
+ * better. The files are read with a minimal JSON parser sufficient for the
+ * files produced by JMH and by <code>BenchmarkRunner</code>.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code true}	// no more invariant
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			BenchmarksComparison
+{
+	// -------------------------------------------------------------------------
+	// Inner types and classes
+	// -------------------------------------------------------------------------
+
+	/**
+	 * The class <code>Score</code> holds the score of a benchmark read from
+	 * a result file.
+	 *
+	 * <p><strong>Invariant</strong></p>
+	 * 
+	 * <pre>
+	 * invariant	{@code true}	// no more invariant
+	 * </pre>
+	 * 
+	 * <p>Created on : 2026-10-19</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	public static class	Score
+	{
+		/** mean time per operation.										*/
+		public final double	score;
+		/** half-width of the confidence interval around the score.		*/
+		public final double	error;
+		/** unit of the score.												*/
+		public final String	unit;
+
+		public			Score(double score, double error, String unit)
+		{
+			this.score = score;
+			this.error = error;
+			this.unit = unit;
+		}
+	}
+
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** default relative difference above which a change is reported.		*/
+	public static final double	STANDARD_THRESHOLD = 0.1;
+
+	/** text being parsed.													*/
+	protected final String		text;
+	/** index of the next character to be parsed.							*/
+	protected int				next;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create a parser for the JSON text <code>text</code>.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code text != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param text	JSON text to be parsed.
+	 */
+	protected			BenchmarksComparison(String text)
+	{
+		this.text = text;
+		this.next = 0;
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * read the scores in the result file <code>fileName</code> and return
+	 * them indexed by the identifiers of the benchmarks.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code fileName != null}
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @param fileName		name of a JSON result file.
+	 * @return				the scores indexed by the identifiers of the benchmarks.
+	 * @throws IOException	when the file cannot be read or parsed.
+	 */
+	@SuppressWarnings("unchecked")
+	public static Map<String,Score>	readScores(String fileName)
+	throws IOException
+	{
+		String text = new String(Files.readAllBytes(Paths.get(fileName)),
+								 StandardCharsets.UTF_8);
+		Object json = new BenchmarksComparison(text).parse();
+		if (!(json instanceof List)) {
+			throw new IOException(fileName + " is not a JSON result file.");
+		}
+		Map<String,Score> ret = new LinkedHashMap<String,Score>();
+		for (Object o : (List<Object>) json) {
+			Map<String,Object> r = (Map<String,Object>) o;
+			String id = (String) r.get("benchmark");
+			if (r.containsKey("params")) {
+				id += r.get("params");
+			}
+			Map<String,Object> pm = (Map<String,Object>) r.get("primaryMetric");
+			Object error = pm.get("scoreError");
+			ret.put(id, new Score((Double) pm.get("score"),
+								  error instanceof Double ?
+									(Double) error
+								  :	Double.NaN,
+								  (String) pm.get("scoreUnit")));
+		}
+		return ret;
+	}
+
+	/**
+	 * parse the whole text.
+	 * 
+	 * @return				the parsed value.
+	 * @throws IOException	when the text is not valid JSON.
+	 */
+	protected Object	parse() throws IOException
+	{
+		Object ret = this.parseValue();
+		this.skipWhitespaces();
+		if (this.next < this.text.length()) {
+			throw this.error("end of text expected");
+		}
+		return ret;
+	}
+
+	/**
+	 * parse a JSON value, returning maps for objects, lists for arrays,
+	 * strings, doubles, booleans or null.
+	 * 
+	 * @return				the parsed value.
+	 * @throws IOException	when the text is not valid JSON.
+	 */
+	protected Object	parseValue() throws IOException
+	{
+		this.skipWhitespaces();
+		if (this.next >= this.text.length()) {
+			throw this.error("value expected");
+		}
+		char c = this.text.charAt(this.next);
+		if (c == '{') {
+			this.next++;
+			Map<String,Object> ret = new LinkedHashMap<String,Object>();
+			this.skipWhitespaces();
+			if (this.peek('}')) {
+				return ret;
+			}
+			do {
+				this.skipWhitespaces();
+				String key = this.parseString();
+				this.skipWhitespaces();
+				this.expect(':');
+				ret.put(key, this.parseValue());
+				this.skipWhitespaces();
+			} while (this.peek(','));
+			this.expect('}');
+			return ret;
+		} else if (c == '[') {
+			this.next++;
+			List<Object> ret = new ArrayList<Object>();
+			this.skipWhitespaces();
+			if (this.peek(']')) {
+				return ret;
+			}
+			do {
+				ret.add(this.parseValue());
+				this.skipWhitespaces();
+			} while (this.peek(','));
+			this.expect(']');
+			return ret;
+		} else if (c == '"') {
+			return this.parseString();
+		} else if (this.text.startsWith("true", this.next)) {
+			this.next += 4;
+			return Boolean.TRUE;
+		} else if (this.text.startsWith("false", this.next)) {
+			this.next += 5;
+			return Boolean.FALSE;
+		} else if (this.text.startsWith("null", this.next)) {
+			this.next += 4;
+			return null;
+		} else {
+			int start = this.next;
+			while (this.next < this.text.length() &&
+						"+-0123456789.eE".indexOf(
+									this.text.charAt(this.next)) >= 0) {
+				this.next++;
+			}
+			try {
+				return Double.valueOf(this.text.substring(start, this.next));
+			} catch (NumberFormatException e) {
+				throw this.error("number expected");
+			}
+		}
+	}
+
+	/**
+	 * parse a JSON string.
+	 * 
+	 * @return				the parsed string.
+	 * @throws IOException	when the text is not valid JSON.
+	 */
+	protected String	parseString() throws IOException
+	{
+		this.expect('"');
+		StringBuffer sb = new StringBuffer();
+		while (this.next < this.text.length()) {
+			char c = this.text.charAt(this.next++);
+			if (c == '"') {
+				return sb.toString();
+			} else if (c == '\\' && this.next < this.text.length()) {
+				char e = this.text.charAt(this.next++);
+				switch (e) {
+				case 'n':	sb.append('\n'); break;
+				case 't':	sb.append('\t'); break;
+				case 'r':	sb.append('\r'); break;
+				case 'b':	sb.append('\b'); break;
+				case 'f':	sb.append('\f'); break;
+				case 'u':
+					if (this.next + 4 > this.text.length()) {
+						throw this.error("unicode escape expected");
+					}
+					sb.append((char) Integer.parseInt(
+							this.text.substring(this.next, this.next + 4), 16));
+					this.next += 4;
+					break;
+				default:	sb.append(e);
+				}
+			} else {
+				sb.append(c);
+			}
+		}
+		throw this.error("unterminated string");
+	}
+
+	/**
+	 * skip the white spaces at the current position.
+	 */
+	protected void		skipWhitespaces()
+	{
+		while (this.next < this.text.length() &&
+						Character.isWhitespace(this.text.charAt(this.next))) {
+			this.next++;
+		}
+	}
+
+	/**
+	 * consume <code>c</code> if it is the character at the current position.
+	 * 
+	 * @param c	expected character.
+	 * @return	true if <code>c</code> has been consumed.
+	 */
+	protected boolean	peek(char c)
+	{
+		if (this.next < this.text.length() && this.text.charAt(this.next) == c) {
+			this.next++;
+			return true;
+		} else {
+			return false;
+		}
+	}
+
+	/**
+	 * consume <code>c</code> which must be the character at the current
+	 * position.
+	 * 
+	 * @param c				expected character.
+	 * @throws IOException	when <code>c</code> is not at the current position.
+	 */
+	protected void		expect(char c) throws IOException
+	{
+		if (!this.peek(c)) {
+			throw this.error("'" + c + "' expected");
+		}
+	}
+
+	/**
+	 * return an exception reporting a parse error at the current position.
+	 * 
+	 * @param message	description of the error.
+	 * @return			an exception reporting a parse error.
+	 */
+	protected IOException	error(String message)
+	{
+		return new IOException("JSON parse error at " + this.next + ": "
+							   + message);
+	}
+
+	public static void	main(String[] args)
+	{
+		if (args.length < 2) {
+			System.err.println("usage: BenchmarksComparison baseline.json "
+							   + "current.json [threshold]");
+			System.exit(2);
+		}
+		double threshold = args.length > 2 ?
+								Double.parseDouble(args[2])
+							:	STANDARD_THRESHOLD;
+		try {
+			Map<String,Score> baseline = readScores(args[0]);
+			Map<String,Score> current = readScores(args[1]);
+			int regressions = 0;
+			System.out.println(String.format("%-60s %12s %12s %8s",
+						"Benchmark", "Baseline", "Current", "Ratio"));
+			for (Map.Entry<String,Score> e : current.entrySet()) {
+				Score c = e.getValue();
+				Score b = baseline.get(e.getKey());
+				if (b == null) {
+					System.out.println(String.format(
+							"%-60s %12s %12.3f %8s  new",
+							e.getKey(), "-", c.score, "-"));
+					continue;
+				}
+				double ratio = c.score/b.score;
+				// the errors are NaN when there were too few iterations
+				boolean separated =
+						Double.isNaN(b.error) || Double.isNaN(c.error) ||
+						c.score - c.error > b.score + b.error ||
+						c.score + c.error < b.score - b.error;
+				String verdict = "";
+				if (separated && ratio > 1.0 + threshold) {
+					verdict = "  REGRESSION";
+					regressions++;
+				} else if (separated && ratio < 1.0 - threshold) {
+					verdict = "  improvement";
+				}
+				if (b.unit != null && !b.unit.equals(c.unit)) {
+					verdict += "  (units differ: " + b.unit + " vs "
+							   + c.unit + ")";
+				}
+				System.out.println(String.format(
+							"%-60s %12.3f %12.3f %8.3f%s",
+							e.getKey(), b.score, c.score, ratio, verdict));
+			}
+			System.out.println(regressions + " regression(s) above "
+							   + (threshold*100.0) + "%.");
+			System.exit(regressions > 0 ? 1 : 0);
+		} catch (IOException e) {
+			e.printStackTrace();
+			System.exit(2);
+		}
+	}
+}
+// -----------------------------------------------------------------------------
@@ -0,0 +1,166 @@
+package fr.sorbonne_u.devs_simulation.benchmarks;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a new
+// implementation of the DEVS simulation <i>de facto</i> standard for Java.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>BenchmarksMain</code> runs the NeoSim4Java benchmarks and
+ * writes their results in the JMH JSON result format.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * Usage:
+ * </p>
+ * <pre>
+ * java -cp ... fr.sorbonne_u.devs_simulation.benchmarks.BenchmarksMain
+ *      [-o file] [-f regex] [-wi n] [-i n] [-t ms] [-l]
+ * </pre>
+ * <ul>
+ * <li><code>-o file</code> writes the results in <code>file</code> (default
+ *   <code>neosim-benchmarks.json</code>);</li>
+ * <li><code>-f regex</code> runs only the benchmarks which identifier, made
+ *   of their name and parameters, contains a match of <code>regex</code>;</li>
+ * <li><code>-wi n</code> and <code>-i n</code> set the numbers of warmup and
+ *   measurement iterations;</li>
+ * <li><code>-t ms</code> sets the duration of an iteration;</li>
+ * <li><code>-l</code> lists the benchmarks without running them.</li>
+ * </ul>
+ * <p>
+ * Two result files can be compared with <code>BenchmarksComparison</code>.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code true}	// no more invariant
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			BenchmarksMain
+{
+	/** default name of the result file.									*/
+	public static final String	STANDARD_OUTPUT_FILE =
+												"neosim-benchmarks.json";
+
+	/**
+	 * return all of the benchmarks.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @return	all of the benchmarks.
+	 */
+	public static List<AbstractBenchmark>	allBenchmarks()
+	{
+		List<AbstractBenchmark> ret = new ArrayList<AbstractBenchmark>();
+		ret.addAll(TimeBenchmarks.create());
+		ret.addAll(ValueHistoryBenchmarks.create());
+		ret.addAll(CoordinationBenchmarks.create());
+		ret.addAll(ExamplesBenchmarks.create());
+		return ret;
+	}
+
+	public static void	main(String[] args)
+	{
+		String output = STANDARD_OUTPUT_FILE;
+		Pattern filter = null;
+		int warmupIterations = BenchmarkRunner.STANDARD_WARMUP_ITERATIONS;
+		int measurementIterations =
+							BenchmarkRunner.STANDARD_MEASUREMENT_ITERATIONS;
+		long iterationTime = BenchmarkRunner.STANDARD_ITERATION_TIME;
+		boolean listOnly = false;
+		for (int i = 0 ; i < args.length ; i++) {
+			if (args[i].equals("-l")) {
+				listOnly = true;
+			} else if (i + 1 < args.length && args[i].equals("-o")) {
+				output = args[++i];
+			} else if (i + 1 < args.length && args[i].equals("-f")) {
+				filter = Pattern.compile(args[++i]);
+			} else if (i + 1 < args.length && args[i].equals("-wi")) {
+				warmupIterations = Integer.parseInt(args[++i]);
+			} else if (i + 1 < args.length && args[i].equals("-i")) {
+				measurementIterations = Integer.parseInt(args[++i]);
+			} else if (i + 1 < args.length && args[i].equals("-t")) {
+				iterationTime = Long.parseLong(args[++i]);
+			} else {
+				System.err.println("unknown or incomplete option: " + args[i]);
+				System.err.println("usage: BenchmarksMain [-o file] "
+								   + "[-f regex] [-wi n] [-i n] [-t ms] [-l]");
+				System.exit(2);
+			}
+		}
+
+		List<AbstractBenchmark> selected = new ArrayList<AbstractBenchmark>();
+		for (AbstractBenchmark b : allBenchmarks()) {
+			if (filter == null || filter.matcher(b.getId()).find()) {
+				selected.add(b);
+			}
+		}
+		if (listOnly) {
+			for (AbstractBenchmark b : selected) {
+				System.out.println(b.getId());
+			}
+			return;
+		}
+
+		try {
+			BenchmarkRunner runner =
+				new BenchmarkRunner(warmupIterations, measurementIterations,
+									iterationTime, System.err);
+			List<BenchmarkResult> results = runner.runAll(selected);
+			BenchmarkRunner.writeJSON(results, output);
+			System.out.println("Benchmark                                  "
+							   + "                        Score      Error");
+			for (BenchmarkResult r : results) {
+				System.out.println(r);
+			}
+			System.out.println("Results written in " + output);
+		} catch (Exception e) {
+			e.printStackTrace();
+			System.exit(1);
+		}
+	}
+}
+// -----------------------------------------------------------------------------
@@ -0,0 +1,408 @@
+package fr.sorbonne_u.devs_simulation.benchmarks;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a new
+// implementation of the DEVS simulation <i>de facto</i> standard for Java.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import fr.sorbonne_u.devs_simulation.architectures.Architecture;
+import fr.sorbonne_u.devs_simulation.exceptions.MissingRunParameterException;
+import fr.sorbonne_u.devs_simulation.models.AtomicModel;
+import fr.sorbonne_u.devs_simulation.models.CoupledModel;
+import fr.sorbonne_u.devs_simulation.models.architectures.AbstractAtomicModelDescriptor;
+import fr.sorbonne_u.devs_simulation.models.architectures.AtomicModelDescriptor;
+import fr.sorbonne_u.devs_simulation.models.architectures.CoupledModelDescriptor;
+import fr.sorbonne_u.devs_simulation.models.events.EventI;
+import fr.sorbonne_u.devs_simulation.models.events.EventSink;
+import fr.sorbonne_u.devs_simulation.models.events.EventSource;
+import fr.sorbonne_u.devs_simulation.models.events.ReexportedEvent;
+import fr.sorbonne_u.devs_simulation.models.interfaces.ModelI;
+import fr.sorbonne_u.devs_simulation.models.time.Duration;
+import fr.sorbonne_u.devs_simulation.models.time.Time;
+import fr.sorbonne_u.devs_simulation.simulators.interfaces.AtomicSimulatorI;
+import fr.sorbonne_u.devs_simulation.simulators.interfaces.CoordinatorI;
+import fr.sorbonne_u.devs_simulation.simulators.interfaces.SimulatorI;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>CoordinationBenchmarks</code> defines the benchmarks of
+ * the overhead of the coordinators when stepping a coupled model.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * The coupled model has <code>children</code> atomic submodels, each
+ * executing internal transitions with its own period, so that the next
+ * event is almost always due to a single submodel. One operation is one
+ * simulation step of the root coordinator, as performed by the loop of
+ * <code>doStandAloneSimulation</code>, hence the score mostly measures the
+ * cost of finding the imminent submodels and of updating the time of next
+ * event of the coordinator.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code true}	// no more invariant
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public abstract class	CoordinationBenchmarks
+{
+	// -------------------------------------------------------------------------
+	// Inner types and classes
+	// -------------------------------------------------------------------------
+
+	/**
+	 * The class <code>PeriodicModel</code> implements an atomic model which
+	 * only executes internal transitions with a period given as run
+	 * parameter.
+	 *
+	 * <p><strong>Invariant</strong></p>
+	 * 
+	 * <pre>
+	 * invariant	{@code true}	// no more invariant
+	 * </pre>
+	 * 
+	 * <p>Created on : 2026-10-19</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	public static class	PeriodicModel
+	extends		AtomicModel
+	{
+		private static final long	serialVersionUID = 1L;
+		/** name of the run parameter giving the period.				*/
+		public static final String	PERIOD_PARAM_NAME = "period";
+
+		/** period of the internal transitions.							*/
+		protected Duration			period;
+		/** number of internal transitions executed so far.				*/
+		protected long				transitions;
+
+		/**
+		 * create a periodic model.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code true}	// no more precondition.
+		 * post	{@code true}	// no more postcondition.
+		 * </pre>
+		 *
+		 * @param uri				unique identifier of the model.
+		 * @param simulatedTimeUnit	time unit used for the simulation clock.
+		 * @param simulationEngine	simulation engine enacting the model.
+		 */
+		public			PeriodicModel(
+			String uri,
+			TimeUnit simulatedTimeUnit,
+			AtomicSimulatorI simulationEngine
+			)
+		{
+			super(uri, simulatedTimeUnit, simulationEngine);
+		}
+
+		/**
+		 * @see fr.sorbonne_u.devs_simulation.models.interfaces.ModelI#setSimulationRunParameters(java.util.Map)
+		 */
+		@Override
+		public void		setSimulationRunParameters(
+			Map<String, Object> simParams
+			) throws MissingRunParameterException
+		{
+			String periodName =
+				ModelI.createRunParameterName(this.getURI(), PERIOD_PARAM_NAME);
+			if (simParams == null || !simParams.containsKey(periodName)) {
+				throw new MissingRunParameterException(periodName);
+			}
+			this.period = new Duration((double) simParams.get(periodName),
+									   this.getSimulatedTimeUnit());
+		}
+
+		/**
+		 * @see fr.sorbonne_u.devs_simulation.models.AtomicModel#initialiseState(fr.sorbonne_u.devs_simulation.models.time.Time)
+		 */
+		@Override
+		public void		initialiseState(Time initialTime)
+		{
+			this.transitions = 0L;
+			super.initialiseState(initialTime);
+		}
+
+		/**
+		 * @see fr.sorbonne_u.devs_simulation.models.interfaces.AtomicModelI#output()
+		 */
+		@Override
+		public ArrayList<EventI>	output()
+		{
+			return null;
+		}
+
+		/**
+		 * @see fr.sorbonne_u.devs_simulation.models.interfaces.ModelI#timeAdvance()
+		 */
+		@Override
+		public Duration	timeAdvance()
+		{
+			return this.period;
+		}
+
+		/**
+		 * @see fr.sorbonne_u.devs_simulation.models.AtomicModel#userDefinedInternalTransition(fr.sorbonne_u.devs_simulation.models.time.Duration)
+		 */
+		@Override
+		public void		userDefinedInternalTransition(Duration elapsedTime)
+		{
+			this.transitions++;
+		}
+	}
+
+	/**
+	 * The class <code>BenchmarkCoupledModel</code> implements the coupled
+	 * model holding the periodic models.
+	 *
+	 * <p><strong>Invariant</strong></p>
+	 * 
+	 * <pre>
+	 * invariant	{@code true}	// no more invariant
+	 * </pre>
+	 * 
+	 * <p>Created on : 2026-10-19</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	public static class	BenchmarkCoupledModel
+	extends		CoupledModel
+	{
+		private static final long	serialVersionUID = 1L;
+
+		/**
+		 * create a coupled model.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code true}	// no more precondition.
+		 * post	{@code true}	// no more postcondition.
+		 * </pre>
+		 *
+		 * @param uri				URI of the coupled model.
+		 * @param simulatedTimeUnit	time unit used for the simulation clock.
+		 * @param simulationEngine	simulation engine enacting the model.
+		 * @param submodels			array of submodels of the new coupled model.
+		 * @param imported			map from imported event types to submodels consuming them.
+		 * @param reexported		map from event types exported by submodels that are reexported by this coupled model.
+		 * @param connections		map connecting event sources to arrays of event sinks among submodels.
+		 */
+		public			BenchmarkCoupledModel(
+			String uri,
+			TimeUnit simulatedTimeUnit,
+			CoordinatorI simulationEngine,
+			ModelI[] submodels,
+			Map<Class<? extends EventI>,EventSink[]> imported,
+			Map<Class<? extends EventI>,ReexportedEvent> reexported,
+			Map<EventSource, EventSink[]> connections
+			)
+		{
+			super(uri, simulatedTimeUnit, simulationEngine, submodels,
+				  imported, reexported, connections);
+		}
+	}
+
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** URI of the coupled model.											*/
+	protected static final String	COUPLED_MODEL_URI = "benchmark-coupled";
+	/** prefix of the URI of the periodic models.							*/
+	protected static final String	PERIODIC_MODEL_URI_PREFIX =
+															"benchmark-periodic-";
+	/** time unit of the models.											*/
+	protected static final TimeUnit	TIME_UNIT = TimeUnit.SECONDS;
+	/** numbers of children of the coupled model used by the benchmarks.	*/
+	public static final int[]		CHILDREN = { 10, 100, 1000 };
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return the coordination benchmarks.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @return	the coordination benchmarks.
+	 */
+	public static List<AbstractBenchmark>	create()
+	{
+		List<AbstractBenchmark> ret = new ArrayList<AbstractBenchmark>();
+		for (final int children : CHILDREN) {
+			ret.add(new AbstractBenchmark(
+							"Coordinator.step",
+							Collections.singletonMap(
+										"children", Integer.toString(children)),
+							TimeUnit.NANOSECONDS) {
+						protected SimulatorI	engine;
+
+						@Override
+						public void setUp() throws Exception
+						{
+							this.engine = createArchitecture(children).
+														constructSimulator();
+							this.engine.setSimulationRunParameters(
+												createRunParameters(children));
+							// a duration long enough to never be reached
+							this.engine.initialiseSimulation(
+										Time.zero(TIME_UNIT),
+										new Duration(Double.MAX_VALUE/2.0,
+													 TIME_UNIT));
+						}
+
+						@Override
+						public long run(long operations) throws Exception
+						{
+							for (long o = 0 ; o < operations ; o++) {
+								this.engine.produceOutput(
+											this.engine.getTimeOfNextEvent());
+								this.engine.internalEventStep();
+							}
+							return (long) this.engine.getTimeOfNextEvent().
+														getSimulatedTime();
+						}
+					});
+		}
+		return ret;
+	}
+
+	/**
+	 * return the URI of the <code>i</code>th periodic model.
+	 * 
+	 * @param i	index of the periodic model.
+	 * @return	the URI of the <code>i</code>th periodic model.
+	 */
+	protected static String	periodicModelURI(int i)
+	{
+		return PERIODIC_MODEL_URI_PREFIX + i;
+	}
+
+	/**
+	 * create the architecture of a coupled model with <code>children</code>
+	 * periodic submodels.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code children > 0}
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @param children		number of periodic submodels.
+	 * @return				the architecture of the coupled model.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	public static Architecture	createArchitecture(int children)
+	throws Exception
+	{
+		Map<String,AbstractAtomicModelDescriptor> atomicModelDescriptors =
+														new HashMap<>();
+		Set<String> submodelURIs = new HashSet<String>();
+		for (int i = 0 ; i < children ; i++) {
+			String uri = periodicModelURI(i);
+			atomicModelDescriptors.put(
+				uri,
+				AtomicModelDescriptor.create(PeriodicModel.class, uri,
+											 TIME_UNIT, null));
+			submodelURIs.add(uri);
+		}
+
+		Map<String,CoupledModelDescriptor> coupledModelDescriptors =
+														new HashMap<>();
+		coupledModelDescriptors.put(
+			COUPLED_MODEL_URI,
+			new CoupledModelDescriptor(
+					BenchmarkCoupledModel.class,
+					COUPLED_MODEL_URI,
+					submodelURIs,
+					new HashMap<Class<? extends EventI>,EventSink[]>(),
+					new HashMap<Class<? extends EventI>,ReexportedEvent>(),
+					new HashMap<EventSource,EventSink[]>(),
+					null));
+
+		return new Architecture(COUPLED_MODEL_URI,
+								atomicModelDescriptors,
+								coupledModelDescriptors,
+								TIME_UNIT);
+	}
+
+	/**
+	 * return the run parameters giving distinct periods to the
+	 * <code>children</code> periodic submodels.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code children > 0}
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @param children	number of periodic submodels.
+	 * @return			the run parameters.
+	 */
+	public static Map<String,Object>	createRunParameters(int children)
+	{
+		Map<String,Object> ret = new HashMap<String,Object>();
+		for (int i = 0 ; i < children ; i++) {
+			ret.put(ModelI.createRunParameterName(
+										periodicModelURI(i),
+										PeriodicModel.PERIOD_PARAM_NAME),
+					1.0 + ((double) i)/children);
+		}
+		return ret;
+	}
+}
+// -----------------------------------------------------------------------------
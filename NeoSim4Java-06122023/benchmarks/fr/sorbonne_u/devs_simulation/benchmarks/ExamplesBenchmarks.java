@@ -0,0 +1,288 @@
+package fr.sorbonne_u.devs_simulation.benchmarks;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a new
+// implementation of the DEVS simulation <i>de facto</i> standard for Java.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import fr.sorbonne_u.devs_simulation.examples.counters.BasicCounterModel;
+import fr.sorbonne_u.devs_simulation.simulators.AtomicEngine;
+import fr.sorbonne_u.devs_simulation.simulators.interfaces.SimulatorI;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>ExamplesBenchmarks</code> defines the macro-benchmarks
+ * running the example simulations from end to end.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * One operation creates the simulator of an example from its architecture,
+ * sets its run parameters and performs a stand alone simulation over the
+ * same duration as the <code>main</code> method of the example, but always
+ * in logical time and without plotting. The traces printed by the models
+ * are discarded while the benchmarks run.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code true}	// no more invariant
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public abstract class	ExamplesBenchmarks
+{
+	// -------------------------------------------------------------------------
+	// Inner types and classes
+	// -------------------------------------------------------------------------
+
+	/**
+	 * The class <code>ExampleBenchmark</code> implements the common behaviour
+	 * of the benchmarks running an example simulation.
+	 *
+	 * <p><strong>Invariant</strong></p>
+	 * 
+	 * <pre>
+	 * invariant	{@code endTime > 0.0}
+	 * </pre>
+	 * 
+	 * <p>Created on : 2026-10-19</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	protected static abstract class	ExampleBenchmark
+	extends		AbstractBenchmark
+	{
+		/** duration of the simulation runs.								*/
+		protected final double	endTime;
+
+		/**
+		 * create a benchmark running an example simulation.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code endTime > 0.0}
+		 * post	{@code true}	// no postcondition.
+		 * </pre>
+		 *
+		 * @param example	name of the example.
+		 * @param endTime	duration of the simulation runs.
+		 */
+		public			ExampleBenchmark(String example, double endTime)
+		{
+			super("Example." + example, null, TimeUnit.MILLISECONDS);
+
+			assert	endTime > 0.0 :
+					new AssertionError("Precondition violation: endTime > 0.0");
+
+			this.endTime = endTime;
+		}
+
+		/**
+		 * return a new simulator for the example which run parameters
+		 * have been set.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code true}	// no precondition.
+		 * post	{@code ret != null}
+		 * </pre>
+		 *
+		 * @return				a new simulator for the example.
+		 * @throws Exception	<i>to do</i>.
+		 */
+		protected abstract SimulatorI	createSimulator() throws Exception;
+
+		/**
+		 * @see fr.sorbonne_u.devs_simulation.benchmarks.AbstractBenchmark#isQuiet()
+		 */
+		@Override
+		public boolean	isQuiet()
+		{
+			return true;
+		}
+
+		/**
+		 * @see fr.sorbonne_u.devs_simulation.benchmarks.AbstractBenchmark#run(long)
+		 */
+		@Override
+		public long		run(long operations) throws Exception
+		{
+			long acc = 0L;
+			for (long o = 0 ; o < operations ; o++) {
+				SimulatorI se = this.createSimulator();
+				se.doStandAloneSimulation(0.0, this.endTime);
+				acc += se.getSimulatedModel().hashCode();
+			}
+			return acc;
+		}
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return the example benchmarks.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @return	the example benchmarks.
+	 */
+	public static List<AbstractBenchmark>	create()
+	{
+		List<AbstractBenchmark> ret = new ArrayList<AbstractBenchmark>();
+		ret.add(new ExampleBenchmark(
+				"bank",
+				fr.sorbonne_u.devs_simulation.examples.bank.
+													SimulationMain.END_TIME) {
+					@Override
+					protected SimulatorI createSimulator() throws Exception
+					{
+						SimulatorI se =
+							fr.sorbonne_u.devs_simulation.examples.bank.
+								SimulationMain.createArchitecture().
+														constructSimulator();
+						se.setSimulationRunParameters(
+							fr.sorbonne_u.devs_simulation.examples.bank.
+									SimulationMain.createRunParameters());
+						return se;
+					}
+				});
+		ret.add(new ExampleBenchmark(
+				"ssqueue",
+				fr.sorbonne_u.devs_simulation.examples.ssqueue.
+													SimulationMain.END_TIME) {
+					@Override
+					protected SimulatorI createSimulator() throws Exception
+					{
+						return fr.sorbonne_u.devs_simulation.examples.ssqueue.
+								SimulationMain.createArchitecture().
+														constructSimulator();
+					}
+				});
+		ret.add(new ExampleBenchmark(
+				"counters",
+				fr.sorbonne_u.devs_simulation.examples.counters.
+													SimulationMain.END_TIME) {
+					@Override
+					protected SimulatorI createSimulator() throws Exception
+					{
+						BasicCounterModel bcm =
+							new BasicCounterModel(
+									BasicCounterModel.MODEL_URI_PREFIX,
+									TimeUnit.MILLISECONDS,
+									new AtomicEngine());
+						bcm.setSimulationRunParameters(
+							fr.sorbonne_u.devs_simulation.examples.counters.
+									SimulationMain.createRunParameters());
+						return bcm.getSimulationEngine();
+					}
+				});
+		ret.add(new ExampleBenchmark(
+				"dependentcounters",
+				fr.sorbonne_u.devs_simulation.examples.dependentcounters.
+													SimulationMain2.END_TIME) {
+					@Override
+					protected SimulatorI createSimulator() throws Exception
+					{
+						SimulatorI se =
+							fr.sorbonne_u.devs_simulation.examples.
+								dependentcounters.SimulationMain2.
+									createArchitecture().constructSimulator();
+						se.setSimulationRunParameters(
+							fr.sorbonne_u.devs_simulation.examples.
+								dependentcounters.SimulationMain2.
+													createRunParameters());
+						return se;
+					}
+				});
+		ret.add(new ExampleBenchmark(
+				"hioa_with_vh",
+				fr.sorbonne_u.devs_simulation.examples.hioa_with_vh.
+													SimulationMain.END_TIME) {
+					@Override
+					public void setUp() throws Exception
+					{
+						fr.sorbonne_u.devs_simulation.examples.hioa_with_vh.
+								SimulationMain.REAL_TIME_SIMULATION = false;
+						fr.sorbonne_u.devs_simulation.examples.hioa_with_vh.
+								SimulationMain.WITH_VALUE_HISTORY = true;
+					}
+
+					@Override
+					protected SimulatorI createSimulator() throws Exception
+					{
+						SimulatorI se =
+							fr.sorbonne_u.devs_simulation.examples.hioa_with_vh.
+								SimulationMain.createArchitecture(false).
+														constructSimulator();
+						se.setSimulationRunParameters(
+							fr.sorbonne_u.devs_simulation.examples.hioa_with_vh.
+									SimulationMain.createRunParameters());
+						return se;
+					}
+				});
+		ret.add(new ExampleBenchmark(
+				"molene",
+				fr.sorbonne_u.devs_simulation.examples.molene.
+													SimulationMain.END_TIME) {
+					@Override
+					protected SimulatorI createSimulator() throws Exception
+					{
+						SimulatorI se =
+							fr.sorbonne_u.devs_simulation.examples.molene.
+								SimulationMain.createArchitecture().
+														constructSimulator();
+						se.setDebugLevel(0);
+						se.setSimulationRunParameters(
+							fr.sorbonne_u.devs_simulation.examples.molene.
+									SimulationMain.createRunParameters(false));
+						return se;
+					}
+				});
+		return ret;
+	}
+}
+// -----------------------------------------------------------------------------
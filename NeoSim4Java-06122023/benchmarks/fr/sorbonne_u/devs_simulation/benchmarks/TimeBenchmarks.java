@@ -0,0 +1,153 @@
+package fr.sorbonne_u.devs_simulation.benchmarks;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a new
+// implementation of the DEVS simulation <i>de facto</i> standard for Java.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import fr.sorbonne_u.devs_simulation.models.time.Duration;
+import fr.sorbonne_u.devs_simulation.models.time.Time;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>TimeBenchmarks</code> defines the micro-benchmarks of the
+ * simulation time arithmetic, which is executed several times per event by
+ * the simulation engines.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * Each operation combines a time or a duration taken in a small array with
+ * another one, so that the operands are not constants the JIT compiler could
+ * fold, and accumulates a bit of the result.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code true}	// no more invariant
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public abstract class	TimeBenchmarks
+{
+	/** number of operands prepared for the operations (a power of 2).		*/
+	protected static final int	OPERANDS = 1024;
+
+	/**
+	 * return the time benchmarks.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @return	the time benchmarks.
+	 */
+	public static List<AbstractBenchmark>	create()
+	{
+		final Time[] times = new Time[OPERANDS];
+		final Duration[] durations = new Duration[OPERANDS];
+		for (int i = 0 ; i < OPERANDS ; i++) {
+			times[i] = new Time(i*0.5, TimeUnit.SECONDS);
+			durations[i] = new Duration(i*0.25, TimeUnit.SECONDS);
+		}
+
+		List<AbstractBenchmark> ret = new ArrayList<AbstractBenchmark>();
+		ret.add(new AbstractBenchmark("Time.add", null,
+									  TimeUnit.NANOSECONDS) {
+					@Override
+					public long run(long operations)
+					{
+						long acc = 0L;
+						for (long o = 0 ; o < operations ; o++) {
+							int i = (int) (o & (OPERANDS - 1));
+							Time t = times[i].add(durations[OPERANDS - 1 - i]);
+							acc += (long) t.getSimulatedTime();
+						}
+						return acc;
+					}
+				});
+		ret.add(new AbstractBenchmark("Time.subtract", null,
+									  TimeUnit.NANOSECONDS) {
+					@Override
+					public long run(long operations)
+					{
+						long acc = 0L;
+						for (long o = 0 ; o < operations ; o++) {
+							int i = (int) (o & (OPERANDS - 1));
+							Duration d = times[i].subtract(times[i >> 1]);
+							acc += (long) d.getSimulatedDuration();
+						}
+						return acc;
+					}
+				});
+		ret.add(new AbstractBenchmark("Time.lessThan", null,
+									  TimeUnit.NANOSECONDS) {
+					@Override
+					public long run(long operations)
+					{
+						long acc = 0L;
+						for (long o = 0 ; o < operations ; o++) {
+							int i = (int) (o & (OPERANDS - 1));
+							if (times[i].lessThan(times[OPERANDS - 1 - i])) {
+								acc++;
+							}
+						}
+						return acc;
+					}
+				});
+		ret.add(new AbstractBenchmark("Duration.add", null,
+									  TimeUnit.NANOSECONDS) {
+					@Override
+					public long run(long operations)
+					{
+						long acc = 0L;
+						for (long o = 0 ; o < operations ; o++) {
+							int i = (int) (o & (OPERANDS - 1));
+							Duration d =
+								durations[i].add(durations[OPERANDS - 1 - i]);
+							acc += (long) d.getSimulatedDuration();
+						}
+						return acc;
+					}
+				});
+		return ret;
+	}
+}
+// -----------------------------------------------------------------------------
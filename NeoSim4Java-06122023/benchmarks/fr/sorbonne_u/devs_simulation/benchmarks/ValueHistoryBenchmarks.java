@@ -0,0 +1,392 @@
+package fr.sorbonne_u.devs_simulation.benchmarks;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a new
+// implementation of the DEVS simulation <i>de facto</i> standard for Java.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import fr.sorbonne_u.devs_simulation.hioa.models.AtomicHIOA;
+import fr.sorbonne_u.devs_simulation.hioa.models.vars.Value;
+import fr.sorbonne_u.devs_simulation.hioa.models.vars.histories.LinearInterpolatorGenerator;
+import fr.sorbonne_u.devs_simulation.hioa.models.vars.histories.PiecewiseInterExtrapolatedValueHistory;
+import fr.sorbonne_u.devs_simulation.hioa.models.vars.histories.ValueHistory;
+import fr.sorbonne_u.devs_simulation.hioa.models.vars.histories.ValueHistoryFactoryI;
+import fr.sorbonne_u.devs_simulation.models.events.EventI;
+import fr.sorbonne_u.devs_simulation.models.time.Duration;
+import fr.sorbonne_u.devs_simulation.models.time.Time;
+import fr.sorbonne_u.devs_simulation.simulators.AtomicEngine;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>ValueHistoryBenchmarks</code> defines the micro-benchmarks
+ * of the value histories of hybrid input/output models.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * Two operations are measured on a <code>Value&lt;Double&gt;</code> which
+ * history contains about <code>size</code> values over its time window:
+ * </p>
+ * <ul>
+ * <li><code>push</code> sets a new value at a later time, hence adding it
+ *   to the history and trimming the history to its window;</li>
+ * <li><code>evaluate</code> evaluates the value at a time inside the
+ *   window.</li>
+ * </ul>
+ * <p>
+ * Both are measured with the piecewise constant <code>ValueHistory</code>
+ * and with the <code>PiecewiseInterExtrapolatedValueHistory</code> using a
+ * <code>LinearInterpolatorGenerator</code>, as in the example
+ * <code>hioa_with_vh</code>. For the latter, <code>evaluateBatch</code>
+ * measures the evaluation at the same times, but all at once through the
+ * batch method <code>evaluateAt(double[],double[])</code>; its operations
+ * are the evaluated times, to be compared with <code>evaluate</code>.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code true}	// no more invariant
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public abstract class	ValueHistoryBenchmarks
+{
+	// -------------------------------------------------------------------------
+	// Inner types and classes
+	// -------------------------------------------------------------------------
+
+	/**
+	 * The class <code>HistoryOwnerModel</code> implements a passive model
+	 * which only purpose is to own the values used by the benchmarks.
+	 *
+	 * <p><strong>Invariant</strong></p>
+	 * 
+	 * <pre>
+	 * invariant	{@code true}	// no more invariant
+	 * </pre>
+	 * 
+	 * <p>Created on : 2026-10-19</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	public static class	HistoryOwnerModel
+	extends		AtomicHIOA
+	{
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * create a passive model owning values.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code true}	// no precondition.
+		 * post	{@code true}	// no postcondition.
+		 * </pre>
+		 *
+		 */
+		public			HistoryOwnerModel()
+		{
+			super("benchmark-history-owner", TIME_UNIT, new AtomicEngine());
+		}
+
+		/**
+		 * @see fr.sorbonne_u.devs_simulation.models.interfaces.AtomicModelI#output()
+		 */
+		@Override
+		public ArrayList<EventI>	output()
+		{
+			return null;
+		}
+
+		/**
+		 * @see fr.sorbonne_u.devs_simulation.models.interfaces.ModelI#timeAdvance()
+		 */
+		@Override
+		public Duration	timeAdvance()
+		{
+			return Duration.INFINITY;
+		}
+	}
+
+	/**
+	 * The class <code>ValueHistoryBenchmark</code> implements the common
+	 * set up of the value history benchmarks.
+	 *
+	 * <p><strong>Invariant</strong></p>
+	 * 
+	 * <pre>
+	 * invariant	{@code size > 0}
+	 * </pre>
+	 * 
+	 * <p>Created on : 2026-10-19</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	protected static abstract class	ValueHistoryBenchmark
+	extends		AbstractBenchmark
+	{
+		/** number of values in the history window.						*/
+		protected final int						size;
+		/** factory creating the history of the value.					*/
+		protected final ValueHistoryFactoryI<Double>	factory;
+		/** value under test.											*/
+		protected Value<Double>					value;
+		/** time of the most recent value in the history.				*/
+		protected double						current;
+
+		/**
+		 * create a value history benchmark.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code size > 0}
+		 * pre	{@code factory != null}
+		 * post	{@code true}	// no postcondition.
+		 * </pre>
+		 *
+		 * @param name		name of the benchmark.
+		 * @param history	name of the kind of history.
+		 * @param size		number of values in the history window.
+		 * @param factory	factory creating the history of the value.
+		 */
+		public			ValueHistoryBenchmark(
+			String name,
+			String history,
+			int size,
+			ValueHistoryFactoryI<Double> factory
+			)
+		{
+			super(name, params(history, size), TimeUnit.NANOSECONDS);
+			this.size = size;
+			this.factory = factory;
+		}
+
+		/**
+		 * @see fr.sorbonne_u.devs_simulation.benchmarks.AbstractBenchmark#setUp()
+		 */
+		@Override
+		public void		setUp() throws Exception
+		{
+			this.value =
+				new Value<Double>(new HistoryOwnerModel(),
+								  new Duration(this.size*STEP, TIME_UNIT),
+								  this.factory);
+			this.current = 0.0;
+			this.value.initialiseTime(new Time(this.current, TIME_UNIT));
+			this.value.initialise(signal(this.current));
+			for (int i = 0 ; i < this.size ; i++) {
+				this.push();
+			}
+		}
+
+		/**
+		 * add a new value to the history of the value under test.
+		 */
+		protected void	push()
+		{
+			this.current += STEP;
+			this.value.setNewValue(signal(this.current),
+								   new Time(this.current, TIME_UNIT));
+		}
+	}
+
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** time unit of the values.											*/
+	protected static final TimeUnit	TIME_UNIT = TimeUnit.SECONDS;
+	/** time between two successive values in the history.					*/
+	protected static final double	STEP = 0.1;
+	/** numbers of values in the history window used by the benchmarks.	*/
+	public static final int[]		SIZES = { 16, 256, 4096 };
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return the value history benchmarks.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @return	the value history benchmarks.
+	 */
+	public static List<AbstractBenchmark>	create()
+	{
+		Map<String,ValueHistoryFactoryI<Double>> factories =
+						new LinkedHashMap<String,ValueHistoryFactoryI<Double>>();
+		factories.put("constant", new ValueHistoryFactoryI<Double>() {
+								@Override
+								public ValueHistory<Double> createHistory(
+									Duration historyWindow
+									)
+								{
+									return new ValueHistory<Double>(
+															historyWindow);
+								}
+							});
+		factories.put("linear", new ValueHistoryFactoryI<Double>() {
+								@Override
+								public ValueHistory<Double> createHistory(
+									Duration historyWindow
+									)
+								{
+									return new PiecewiseInterExtrapolatedValueHistory(
+											historyWindow,
+											new LinearInterpolatorGenerator());
+								}
+							});
+
+		List<AbstractBenchmark> ret = new ArrayList<AbstractBenchmark>();
+		for (Map.Entry<String,ValueHistoryFactoryI<Double>> e :
+														factories.entrySet()) {
+			for (int size : SIZES) {
+				ret.add(new ValueHistoryBenchmark(
+								"ValueHistory.push", e.getKey(), size,
+								e.getValue()) {
+							@Override
+							public long run(long operations)
+							{
+								for (long o = 0 ; o < operations ; o++) {
+									this.push();
+								}
+								return (long) this.current;
+							}
+						});
+				ret.add(new ValueHistoryBenchmark(
+								"ValueHistory.evaluate", e.getKey(), size,
+								e.getValue()) {
+							@Override
+							public long run(long operations)
+							{
+								// evaluate at times spread over the window,
+								// not exactly at the times of the values
+								double oldest =
+										this.current - (this.size - 1)*STEP;
+								double acc = 0.0;
+								int j = 0;
+								for (long o = 0 ; o < operations ; o++) {
+									Time t = new Time(oldest + (j + 0.5)*STEP,
+													  TIME_UNIT);
+									acc += this.value.evaluateAt(t);
+									if (++j == this.size - 1) {
+										j = 0;
+									}
+								}
+								return (long) acc;
+							}
+						});
+			}
+		}
+		for (int size : SIZES) {
+			ret.add(new ValueHistoryBenchmark(
+							"ValueHistory.evaluateBatch", "linear", size,
+							factories.get("linear")) {
+						protected double[]	ts;
+						protected double[]	results;
+
+						@Override
+						public void setUp() throws Exception
+						{
+							super.setUp();
+							double oldest = this.current - (this.size - 1)*STEP;
+							this.ts = new double[this.size - 1];
+							for (int j = 0 ; j < this.ts.length ; j++) {
+								this.ts[j] = oldest + (j + 0.5)*STEP;
+							}
+							this.results = new double[this.ts.length];
+						}
+
+						@Override
+						public long run(long operations)
+						{
+							PiecewiseInterExtrapolatedValueHistory h =
+								(PiecewiseInterExtrapolatedValueHistory)
+													this.value.valueHistory;
+							double acc = 0.0;
+							long o = 0;
+							while (o < operations) {
+								h.evaluateAt(this.ts, this.results);
+								acc += this.results[0];
+								o += this.ts.length;
+							}
+							return (long) acc;
+						}
+					});
+		}
+		return ret;
+	}
+
+	/**
+	 * return the parameters of a value history benchmark.
+	 * 
+	 * @param history	name of the kind of history.
+	 * @param size		number of values in the history window.
+	 * @return			the parameters of a value history benchmark.
+	 */
+	protected static Map<String,String>	params(String history, int size)
+	{
+		Map<String,String> ret = new LinkedHashMap<String,String>();
+		ret.put("history", history);
+		ret.put("size", Integer.toString(size));
+		return Collections.unmodifiableMap(ret);
+	}
+
+	/**
+	 * return the value of the signal recorded in the histories at time
+	 * <code>t</code>.
+	 * 
+	 * @param t	time at which the signal is sampled.
+	 * @return	the value of the signal at time <code>t</code>.
+	 */
+	protected static Double	signal(double t)
+	{
+		return Math.sin(t);
+	}
+}
+// -----------------------------------------------------------------------------
@@ -100,6 +100,8 @@ public class			SimulationMain
 	public static final String	MOLENE_MODEL_URI = "MoleneModel";
 	public static int	ORIGIN_X = 100;
 	public static int	ORIGIN_Y = 0;
+	/** simulated time at which the simulation runs end.					*/
+	public static final double	END_TIME = 5000.0;
 
 	public static int	getPlotterWidth()
 	{
@@ -133,479 +135,504 @@ public class			SimulationMain
 		return (int) (0.2 * ret);
 	}
 
-	public static void	main(String[] args)
+	/**
+	 * create the simulation architecture of the Molene example.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @return				the simulation architecture of the Molene example.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	public static ArchitectureI	createArchitecture() throws Exception
 	{
-		try {
-			// ----------------------------------------------------------------
-			// WiFi TIOA model
-			// ----------------------------------------------------------------
-
-			Map<String,AbstractAtomicModelDescriptor> atomicModelDescriptors =
-															new HashMap<>();
+		// ----------------------------------------------------------------
+		// WiFi TIOA model
+		// ----------------------------------------------------------------
+
+		Map<String,AbstractAtomicModelDescriptor> atomicModelDescriptors =
+														new HashMap<>();
+
+		atomicModelDescriptors.put(
+			WiFiDisconnectionModel.URI,
+			AtomicModelDescriptor.create(
+					WiFiDisconnectionModel.class,
+					WiFiDisconnectionModel.URI,
+					TimeUnit.SECONDS,
+					null));
+
+		atomicModelDescriptors.put(
+			WiFiBandwidthModel.URI,
+			AtomicHIOA_Descriptor.create(
+					WiFiBandwidthModel.class,
+					WiFiBandwidthModel.URI,
+					TimeUnit.SECONDS,
+					null));
+
+		atomicModelDescriptors.put(
+			TicModel.URI + "-1",
+			AtomicModelDescriptor.create(
+					TicModel.class,
+					TicModel.URI + "-1",
+					TimeUnit.SECONDS,
+					null));
+
+		atomicModelDescriptors.put(
+				WiFiBandwidthSensorModel.URI,
+				AtomicHIOA_Descriptor.create(
+						WiFiBandwidthSensorModel.class,
+						WiFiBandwidthSensorModel.URI,
+						TimeUnit.SECONDS,
+						null));
 
-			atomicModelDescriptors.put(
-				WiFiDisconnectionModel.URI,
-				AtomicModelDescriptor.create(
-						WiFiDisconnectionModel.class,
-						WiFiDisconnectionModel.URI,
+		Map<String,CoupledModelDescriptor> coupledModelDescriptors =
+														new HashMap<>();
+
+		Set<String> submodels1 = new HashSet<String>();
+		submodels1.add(WiFiDisconnectionModel.URI);
+		submodels1.add(WiFiBandwidthModel.URI);
+		submodels1.add(TicModel.URI + "-1");
+		submodels1.add(WiFiBandwidthSensorModel.URI);
+
+		Map<Class<? extends EventI>,EventSink[]> imported1 =
+				new HashMap<Class<? extends EventI>,EventSink[]>();
+
+		Map<Class<? extends EventI>,ReexportedEvent> reexported1 =
+				new HashMap<Class<? extends EventI>,ReexportedEvent>();
+		reexported1.put(
+				WiFiBandwidthReading.class,
+				new ReexportedEvent(WiFiBandwidthSensorModel.URI,
+									WiFiBandwidthReading.class));
+		reexported1.put(
+				InterruptionEvent.class,
+				new ReexportedEvent(WiFiDisconnectionModel.URI,
+									InterruptionEvent.class));
+		reexported1.put(
+				ResumptionEvent.class,
+				new ReexportedEvent(WiFiDisconnectionModel.URI,
+									ResumptionEvent.class));
+
+		Map<EventSource,EventSink[]> connections1 =
+				new HashMap<EventSource,EventSink[]>();
+		EventSource from11 =
+				new EventSource(WiFiDisconnectionModel.URI,
+								InterruptionEvent.class);
+		EventSink[] to11 =
+				new EventSink[] {
+					new EventSink(WiFiBandwidthModel.URI,
+								  InterruptionEvent.class)};
+		connections1.put(from11, to11);
+		EventSource from12 =
+				new EventSource(WiFiDisconnectionModel.URI,
+								ResumptionEvent.class);
+		EventSink[] to12 =
+				new EventSink[] {
+					new EventSink(WiFiBandwidthModel.URI,
+								  ResumptionEvent.class)};
+		connections1.put(from12, to12);
+		EventSource from13 =
+				new EventSource(TicModel.URI + "-1",
+								TicEvent.class);
+		EventSink[] to13 =
+				new EventSink[] {
+					new EventSink(WiFiBandwidthSensorModel.URI,
+								  TicEvent.class)};
+		connections1.put(from13, to13);
+
+		Map<VariableSource,VariableSink[]> bindings1 =
+					new HashMap<VariableSource,VariableSink[]>();
+		VariableSource source11 =
+				new VariableSource("bandwidth",
+								   Double.class,
+								   WiFiBandwidthModel.URI);
+		VariableSink[] sinks11 =
+				new VariableSink[] {
+						new VariableSink("bandwidth",
+										 Double.class,
+										 WiFiBandwidthSensorModel.URI)};
+		bindings1.put(source11, sinks11);
+
+		coupledModelDescriptors.put(
+			WiFiModel.URI,
+			new CoupledHIOA_Descriptor(
+					WiFiModel.class,
+					WiFiModel.URI,
+					submodels1,
+					imported1,
+					reexported1,
+					connections1,
+					null,
+					null,
+					null,
+					bindings1));
+
+		// ----------------------------------------------------------------
+		// Portable computer TIOA model
+		// ----------------------------------------------------------------
+
+		atomicModelDescriptors.put(
+				PortableComputerStateModel.URI,
+				AtomicHIOA_Descriptor.create(
+						PortableComputerStateModel.class,
+						PortableComputerStateModel.URI,
 						TimeUnit.SECONDS,
 						null));
 
-			atomicModelDescriptors.put(
-				WiFiBandwidthModel.URI,
+		atomicModelDescriptors.put(
+				BatterySensorModel.URI,
 				AtomicHIOA_Descriptor.create(
-						WiFiBandwidthModel.class,
-						WiFiBandwidthModel.URI,
+						BatterySensorModel.class,
+						BatterySensorModel.URI,
 						TimeUnit.SECONDS,
 						null));
 
-			atomicModelDescriptors.put(
-				TicModel.URI + "-1",
+		atomicModelDescriptors.put(
+				TicModel.URI + "-2",
 				AtomicModelDescriptor.create(
 						TicModel.class,
-						TicModel.URI + "-1",
+						TicModel.URI + "-2",
 						TimeUnit.SECONDS,
 						null));
 
-			atomicModelDescriptors.put(
-					WiFiBandwidthSensorModel.URI,
-					AtomicHIOA_Descriptor.create(
-							WiFiBandwidthSensorModel.class,
-							WiFiBandwidthSensorModel.URI,
-							TimeUnit.SECONDS,
-							null));
-
-			Map<String,CoupledModelDescriptor> coupledModelDescriptors =
-															new HashMap<>();
-
-			Set<String> submodels1 = new HashSet<String>();
-			submodels1.add(WiFiDisconnectionModel.URI);
-			submodels1.add(WiFiBandwidthModel.URI);
-			submodels1.add(TicModel.URI + "-1");
-			submodels1.add(WiFiBandwidthSensorModel.URI);
-
-			Map<Class<? extends EventI>,EventSink[]> imported1 =
-					new HashMap<Class<? extends EventI>,EventSink[]>();
-
-			Map<Class<? extends EventI>,ReexportedEvent> reexported1 =
-					new HashMap<Class<? extends EventI>,ReexportedEvent>();
-			reexported1.put(
-					WiFiBandwidthReading.class,
-					new ReexportedEvent(WiFiBandwidthSensorModel.URI,
-										WiFiBandwidthReading.class));
-			reexported1.put(
-					InterruptionEvent.class,
-					new ReexportedEvent(WiFiDisconnectionModel.URI,
-										InterruptionEvent.class));
-			reexported1.put(
-					ResumptionEvent.class,
-					new ReexportedEvent(WiFiDisconnectionModel.URI,
-										ResumptionEvent.class));
-
-			Map<EventSource,EventSink[]> connections1 =
-					new HashMap<EventSource,EventSink[]>();
-			EventSource from11 =
-					new EventSource(WiFiDisconnectionModel.URI,
-									InterruptionEvent.class);
-			EventSink[] to11 =
-					new EventSink[] {
-						new EventSink(WiFiBandwidthModel.URI,
-									  InterruptionEvent.class)};
-			connections1.put(from11, to11);
-			EventSource from12 =
-					new EventSource(WiFiDisconnectionModel.URI,
-									ResumptionEvent.class);
-			EventSink[] to12 =
-					new EventSink[] {
-						new EventSink(WiFiBandwidthModel.URI,
-									  ResumptionEvent.class)};
-			connections1.put(from12, to12);
-			EventSource from13 =
-					new EventSource(TicModel.URI + "-1",
-									TicEvent.class);
-			EventSink[] to13 =
-					new EventSink[] {
-						new EventSink(WiFiBandwidthSensorModel.URI,
-									  TicEvent.class)};
-			connections1.put(from13, to13);
-
-			Map<VariableSource,VariableSink[]> bindings1 =
+		Set<String> submodels2 = new HashSet<String>();
+		submodels2.add(PortableComputerStateModel.URI);
+		submodels2.add(BatterySensorModel.URI);
+		submodels2.add(TicModel.URI + "-2");
+
+		Map<Class<? extends EventI>,EventSink[]> imported2 =
+				new HashMap<Class<? extends EventI>,EventSink[]>();
+		imported2.put(
+			InterruptionEvent.class,
+			new EventSink[] {
+					new EventSink(PortableComputerStateModel.URI,
+								  InterruptionEvent.class)
+			});
+		imported2.put(
+				ResumptionEvent.class,
+				new EventSink[] {
+					new EventSink(PortableComputerStateModel.URI,
+								  ResumptionEvent.class)
+				});
+		imported2.put(
+				Compressing.class,
+				new EventSink[] {
+					new EventSink(PortableComputerStateModel.URI,
+								  Compressing.class)
+				});
+		imported2.put(
+			NotCompressing.class,
+			new EventSink[] {
+					new EventSink(PortableComputerStateModel.URI,
+								  NotCompressing.class)
+			});
+		imported2.put(
+			LowBattery.class,
+			new EventSink[] {
+					new EventSink(PortableComputerStateModel.URI,
+								  LowBattery.class)
+			});
+
+		Map<Class<? extends EventI>,ReexportedEvent> reexported2 =
+				new HashMap<Class<? extends EventI>,ReexportedEvent>();
+		reexported2.put(
+				BatteryLevel.class,
+				new ReexportedEvent(BatterySensorModel.URI,
+									BatteryLevel.class));
+
+		Map<EventSource,EventSink[]> connections2 =
+							new HashMap<EventSource,EventSink[]>();
+		EventSource from21 =
+				new EventSource(TicModel.URI + "-2",
+								TicEvent.class);
+		EventSink[] to21 =
+				new EventSink[] {
+					new EventSink(BatterySensorModel.URI,
+								  TicEvent.class)};
+		connections2.put(from21, to21);
+
+		Map<VariableSource,VariableSink[]> bindings2 =
 						new HashMap<VariableSource,VariableSink[]>();
-			VariableSource source11 =
-					new VariableSource("bandwidth",
-									   Double.class,
-									   WiFiBandwidthModel.URI);
-			VariableSink[] sinks11 =
-					new VariableSink[] {
-							new VariableSink("bandwidth",
-											 Double.class,
-											 WiFiBandwidthSensorModel.URI)};
-			bindings1.put(source11, sinks11);
-
-			coupledModelDescriptors.put(
-				WiFiModel.URI,
+		VariableSource source21 =
+			new VariableSource("remainingCapacity",
+							   Double.class,
+							   PortableComputerStateModel.URI);
+		VariableSink[] sinks21 =
+			new VariableSink[] {
+					new VariableSink("remainingCapacity",
+									 Double.class,
+									 BatterySensorModel.URI)};
+		bindings2.put(source21, sinks21);
+
+		coupledModelDescriptors.put(
+				PortableComputerModel.URI,
 				new CoupledHIOA_Descriptor(
-						WiFiModel.class,
-						WiFiModel.URI,
-						submodels1,
-						imported1,
-						reexported1,
-						connections1,
+						PortableComputerModel.class,
+						PortableComputerModel.URI,
+						submodels2,
+						imported2,
+						reexported2,
+						connections2,
 						null,
 						null,
 						null,
-						bindings1));
-
-			// ----------------------------------------------------------------
-			// Portable computer TIOA model
-			// ----------------------------------------------------------------
-
-			atomicModelDescriptors.put(
-					PortableComputerStateModel.URI,
-					AtomicHIOA_Descriptor.create(
-							PortableComputerStateModel.class,
-							PortableComputerStateModel.URI,
-							TimeUnit.SECONDS,
-							null));
-
-			atomicModelDescriptors.put(
-					BatterySensorModel.URI,
-					AtomicHIOA_Descriptor.create(
-							BatterySensorModel.class,
-							BatterySensorModel.URI,
-							TimeUnit.SECONDS,
-							null));
-
-			atomicModelDescriptors.put(
-					TicModel.URI + "-2",
-					AtomicModelDescriptor.create(
-							TicModel.class,
-							TicModel.URI + "-2",
-							TimeUnit.SECONDS,
-							null));
-
-			Set<String> submodels2 = new HashSet<String>();
-			submodels2.add(PortableComputerStateModel.URI);
-			submodels2.add(BatterySensorModel.URI);
-			submodels2.add(TicModel.URI + "-2");
-
-			Map<Class<? extends EventI>,EventSink[]> imported2 =
-					new HashMap<Class<? extends EventI>,EventSink[]>();
-			imported2.put(
-				InterruptionEvent.class,
+						bindings2));
+
+		// ----------------------------------------------------------------
+		// Portable computer controller TIOA model
+		// ----------------------------------------------------------------
+
+		atomicModelDescriptors.put(
+				ControllerModel.PORTABLE_URI,
+				AtomicModelDescriptor.create(
+						ControllerModel.class,
+						ControllerModel.PORTABLE_URI,
+						TimeUnit.SECONDS,
+						null));
+
+		// ----------------------------------------------------------------
+		// Server controller TIOA model
+		// ----------------------------------------------------------------
+
+		atomicModelDescriptors.put(
+				ControllerModel.SERVER_URI,
+				AtomicModelDescriptor.create(
+						ControllerModel.class,
+						ControllerModel.SERVER_URI,
+						TimeUnit.SECONDS,
+						null));
+
+		// ----------------------------------------------------------------
+		// Server TIOA model
+		// ----------------------------------------------------------------
+
+		atomicModelDescriptors.put(
+				ServerModel.URI,
+				AtomicModelDescriptor.create(
+						ServerModel.class,
+						ServerModel.URI,
+						TimeUnit.SECONDS,
+						null));
+
+		// ----------------------------------------------------------------
+		// Network TIOA model
+		// ----------------------------------------------------------------
+
+		atomicModelDescriptors.put(
+				NetworkModel.URI,
+				AtomicModelDescriptor.create(
+						NetworkModel.class,
+						NetworkModel.URI,
+						TimeUnit.SECONDS,
+						null));
+
+		// ----------------------------------------------------------------
+		// Full architecture and Molene global model
+		// ----------------------------------------------------------------
+
+		Set<String> submodels3 = new HashSet<String>();
+		submodels3.add(WiFiModel.URI);
+		submodels3.add(PortableComputerModel.URI);
+		submodels3.add(ControllerModel.PORTABLE_URI);
+		submodels3.add(ControllerModel.SERVER_URI);
+		submodels3.add(ServerModel.URI);
+		submodels3.add(NetworkModel.URI);
+
+		Map<EventSource,EventSink[]> connections3 =
+							new HashMap<EventSource,EventSink[]>();
+
+		EventSource from31 =
+				new EventSource(
+						WiFiModel.URI,
+						WiFiBandwidthReading.class);
+		EventSink[] to31 =
 				new EventSink[] {
-						new EventSink(PortableComputerStateModel.URI,
-									  InterruptionEvent.class)
-				});
-			imported2.put(
-					ResumptionEvent.class,
-					new EventSink[] {
-						new EventSink(PortableComputerStateModel.URI,
-									  ResumptionEvent.class)
-					});
-			imported2.put(
-					Compressing.class,
-					new EventSink[] {
-						new EventSink(PortableComputerStateModel.URI,
-									  Compressing.class)
-					});
-			imported2.put(
-				NotCompressing.class,
+						new EventSink(
+								ControllerModel.PORTABLE_URI,
+								WiFiBandwidthReading.class),
+						new EventSink(
+								NetworkModel.URI,
+								WiFiBandwidthReading.class)};
+		connections3.put(from31, to31);
+		EventSource from311 =
+				new EventSource(
+						WiFiModel.URI,
+						InterruptionEvent.class);
+		EventSink[] to311 =
 				new EventSink[] {
-						new EventSink(PortableComputerStateModel.URI,
-									  NotCompressing.class)
-				});
-			imported2.put(
-				LowBattery.class,
+						new EventSink(
+								PortableComputerModel.URI,
+								InterruptionEvent.class)};
+		connections3.put(from311, to311);
+		EventSource from312 =
+				new EventSource(
+						WiFiModel.URI,
+						ResumptionEvent.class);
+		EventSink[] to312 =
 				new EventSink[] {
-						new EventSink(PortableComputerStateModel.URI,
-									  LowBattery.class)
-				});
-
-			Map<Class<? extends EventI>,ReexportedEvent> reexported2 =
-					new HashMap<Class<? extends EventI>,ReexportedEvent>();
-			reexported2.put(
-					BatteryLevel.class,
-					new ReexportedEvent(BatterySensorModel.URI,
-										BatteryLevel.class));
-
-			Map<EventSource,EventSink[]> connections2 =
-								new HashMap<EventSource,EventSink[]>();
-			EventSource from21 =
-					new EventSource(TicModel.URI + "-2",
-									TicEvent.class);
-			EventSink[] to21 =
-					new EventSink[] {
-						new EventSink(BatterySensorModel.URI,
-									  TicEvent.class)};
-			connections2.put(from21, to21);
-
-			Map<VariableSource,VariableSink[]> bindings2 =
-							new HashMap<VariableSource,VariableSink[]>();
-			VariableSource source21 =
-				new VariableSource("remainingCapacity",
-								   Double.class,
-								   PortableComputerStateModel.URI);
-			VariableSink[] sinks21 =
-				new VariableSink[] {
-						new VariableSink("remainingCapacity",
-										 Double.class,
-										 BatterySensorModel.URI)};
-			bindings2.put(source21, sinks21);
-
-			coupledModelDescriptors.put(
-					PortableComputerModel.URI,
-					new CoupledHIOA_Descriptor(
-							PortableComputerModel.class,
-							PortableComputerModel.URI,
-							submodels2,
-							imported2,
-							reexported2,
-							connections2,
-							null,
-							null,
-							null,
-							bindings2));
-
-			// ----------------------------------------------------------------
-			// Portable computer controller TIOA model
-			// ----------------------------------------------------------------
-
-			atomicModelDescriptors.put(
-					ControllerModel.PORTABLE_URI,
-					AtomicModelDescriptor.create(
-							ControllerModel.class,
-							ControllerModel.PORTABLE_URI,
-							TimeUnit.SECONDS,
-							null));
-
-			// ----------------------------------------------------------------
-			// Server controller TIOA model
-			// ----------------------------------------------------------------
-
-			atomicModelDescriptors.put(
-					ControllerModel.SERVER_URI,
-					AtomicModelDescriptor.create(
-							ControllerModel.class,
-							ControllerModel.SERVER_URI,
-							TimeUnit.SECONDS,
-							null));
-
-			// ----------------------------------------------------------------
-			// Server TIOA model
-			// ----------------------------------------------------------------
-
-			atomicModelDescriptors.put(
-					ServerModel.URI,
-					AtomicModelDescriptor.create(
-							ServerModel.class,
-							ServerModel.URI,
-							TimeUnit.SECONDS,
-							null));
-
-			// ----------------------------------------------------------------
-			// Network TIOA model
-			// ----------------------------------------------------------------
-
-			atomicModelDescriptors.put(
-					NetworkModel.URI,
-					AtomicModelDescriptor.create(
-							NetworkModel.class,
-							NetworkModel.URI,
-							TimeUnit.SECONDS,
-							null));
-
-			// ----------------------------------------------------------------
-			// Full architecture and Molene global model
-			// ----------------------------------------------------------------
-
-			Set<String> submodels3 = new HashSet<String>();
-			submodels3.add(WiFiModel.URI);
-			submodels3.add(PortableComputerModel.URI);
-			submodels3.add(ControllerModel.PORTABLE_URI);
-			submodels3.add(ControllerModel.SERVER_URI);
-			submodels3.add(ServerModel.URI);
-			submodels3.add(NetworkModel.URI);
-
-			Map<EventSource,EventSink[]> connections3 =
-								new HashMap<EventSource,EventSink[]>();
-
-			EventSource from31 =
-					new EventSource(
-							WiFiModel.URI,
-							WiFiBandwidthReading.class);
-			EventSink[] to31 =
-					new EventSink[] {
-							new EventSink(
-									ControllerModel.PORTABLE_URI,
-									WiFiBandwidthReading.class),
-							new EventSink(
-									NetworkModel.URI,
-									WiFiBandwidthReading.class)};
-			connections3.put(from31, to31);
-			EventSource from311 =
-					new EventSource(
-							WiFiModel.URI,
-							InterruptionEvent.class);
-			EventSink[] to311 =
-					new EventSink[] {
-							new EventSink(
-									PortableComputerModel.URI,
-									InterruptionEvent.class)};
-			connections3.put(from311, to311);
-			EventSource from312 =
-					new EventSource(
-							WiFiModel.URI,
-							ResumptionEvent.class);
-			EventSink[] to312 =
-					new EventSink[] {
-							new EventSink(
-									PortableComputerModel.URI,
-									ResumptionEvent.class)};
-			connections3.put(from312, to312);
-			EventSource from32 =
-					new EventSource(
-							PortableComputerModel.URI,
-							BatteryLevel.class);
-			EventSink[] to32 =
-					new EventSink[] {
-							new EventSink(
-									ControllerModel.PORTABLE_URI,
-									BatteryLevel.class),
-							new EventSink(
-									NetworkModel.URI,
-									BatteryLevel.class)};
-			connections3.put(from32, to32);
-			EventSource from33 =
-					new EventSource(
-							ControllerModel.PORTABLE_URI,
-							Compressing.class);
-			EventSink[] to33 =
-					new EventSink[] {
-							new EventSink(
-									PortableComputerModel.URI,
-									Compressing.class)};
-			connections3.put(from33, to33);
-			EventSource from34 =
-					new EventSource(
-							ControllerModel.PORTABLE_URI,
-							NotCompressing.class);
-			EventSink[] to34 =
-					new EventSink[] {
-							new EventSink(
-									PortableComputerModel.URI,
-									NotCompressing.class)};
-			connections3.put(from34, to34);
-			EventSource from35 =
-					new EventSource(
-							ControllerModel.PORTABLE_URI,
-							LowBattery.class);
-			EventSink[] to35 =
-					new EventSink[] {
-							new EventSink(
-									PortableComputerModel.URI,
-									LowBattery.class)};
-			connections3.put(from35, to35);
-			EventSource from36 =
-					new EventSource(
-							NetworkModel.URI,
-							WiFiBandwidthReading.class);
-			EventSink[] to36 =
-					new EventSink[] {
-							new EventSink(
-									ControllerModel.SERVER_URI,
-									WiFiBandwidthReading.class)};
-			connections3.put(from36, to36);
-			EventSource from37 =
-					new EventSource(
-							NetworkModel.URI,
-							BatteryLevel.class);
-			EventSink[] to37 =
-					new EventSink[] {
-							new EventSink(
-									ControllerModel.SERVER_URI,
-									BatteryLevel.class)};
-			connections3.put(from37, to37);
-			EventSource from38 =
-					new EventSource(
-							ControllerModel.SERVER_URI,
-							Compressing.class);
-			EventSink[] to38 =
-					new EventSink[] {
-							new EventSink(
-									ServerModel.URI,
-									Compressing.class)};
-			connections3.put(from38, to38);
-			EventSource from39 =
-					new EventSource(
-							ControllerModel.SERVER_URI,
-							NotCompressing.class);
-			EventSink[] to39 =
-					new EventSink[] {
-							new EventSink(
-									ServerModel.URI,
-									NotCompressing.class)};
-			connections3.put(from39, to39);
-			EventSource from310 =
-					new EventSource(
-							ControllerModel.SERVER_URI,
-							LowBattery.class);
-			EventSink[] to310 =
-					new EventSink[] {
-							new EventSink(
-									ServerModel.URI,
-									LowBattery.class)};
-			connections3.put(from310, to310);
-
-			coupledModelDescriptors.put(
-					MoleneModel.URI,
-					new CoupledModelDescriptor(
-							MoleneModel.class,
-							MoleneModel.URI,
-							submodels3,
-							null,
-							null,
-							connections3,
-							null));
-
-			ArchitectureI architecture =
-					new Architecture(
-							MoleneModel.URI,
-							atomicModelDescriptors,
-							coupledModelDescriptors,
-							TimeUnit.SECONDS);
-
-			// ----------------------------------------------------------------
-			// Simulation run
-			// ----------------------------------------------------------------
-
-			SimulatorI se = architecture.constructSimulator();
-			se.setDebugLevel(0);
-//			System.out.println(se.simulatorAsString());
-
-			Map<String,Object> simParams = new HashMap<>();
+						new EventSink(
+								PortableComputerModel.URI,
+								ResumptionEvent.class)};
+		connections3.put(from312, to312);
+		EventSource from32 =
+				new EventSource(
+						PortableComputerModel.URI,
+						BatteryLevel.class);
+		EventSink[] to32 =
+				new EventSink[] {
+						new EventSink(
+								ControllerModel.PORTABLE_URI,
+								BatteryLevel.class),
+						new EventSink(
+								NetworkModel.URI,
+								BatteryLevel.class)};
+		connections3.put(from32, to32);
+		EventSource from33 =
+				new EventSource(
+						ControllerModel.PORTABLE_URI,
+						Compressing.class);
+		EventSink[] to33 =
+				new EventSink[] {
+						new EventSink(
+								PortableComputerModel.URI,
+								Compressing.class)};
+		connections3.put(from33, to33);
+		EventSource from34 =
+				new EventSource(
+						ControllerModel.PORTABLE_URI,
+						NotCompressing.class);
+		EventSink[] to34 =
+				new EventSink[] {
+						new EventSink(
+								PortableComputerModel.URI,
+								NotCompressing.class)};
+		connections3.put(from34, to34);
+		EventSource from35 =
+				new EventSource(
+						ControllerModel.PORTABLE_URI,
+						LowBattery.class);
+		EventSink[] to35 =
+				new EventSink[] {
+						new EventSink(
+								PortableComputerModel.URI,
+								LowBattery.class)};
+		connections3.put(from35, to35);
+		EventSource from36 =
+				new EventSource(
+						NetworkModel.URI,
+						WiFiBandwidthReading.class);
+		EventSink[] to36 =
+				new EventSink[] {
+						new EventSink(
+								ControllerModel.SERVER_URI,
+								WiFiBandwidthReading.class)};
+		connections3.put(from36, to36);
+		EventSource from37 =
+				new EventSource(
+						NetworkModel.URI,
+						BatteryLevel.class);
+		EventSink[] to37 =
+				new EventSink[] {
+						new EventSink(
+								ControllerModel.SERVER_URI,
+								BatteryLevel.class)};
+		connections3.put(from37, to37);
+		EventSource from38 =
+				new EventSource(
+						ControllerModel.SERVER_URI,
+						Compressing.class);
+		EventSink[] to38 =
+				new EventSink[] {
+						new EventSink(
+								ServerModel.URI,
+								Compressing.class)};
+		connections3.put(from38, to38);
+		EventSource from39 =
+				new EventSource(
+						ControllerModel.SERVER_URI,
+						NotCompressing.class);
+		EventSink[] to39 =
+				new EventSink[] {
+						new EventSink(
+								ServerModel.URI,
+								NotCompressing.class)};
+		connections3.put(from39, to39);
+		EventSource from310 =
+				new EventSource(
+						ControllerModel.SERVER_URI,
+						LowBattery.class);
+		EventSink[] to310 =
+				new EventSink[] {
+						new EventSink(
+								ServerModel.URI,
+								LowBattery.class)};
+		connections3.put(from310, to310);
+
+		coupledModelDescriptors.put(
+				MoleneModel.URI,
+				new CoupledModelDescriptor(
+						MoleneModel.class,
+						MoleneModel.URI,
+						submodels3,
+						null,
+						null,
+						connections3,
+						null));
 
-			String modelURI = TicModel.URI  + "-1";
-			simParams.put(ModelI.createRunParameterName(
-										modelURI,
-										TicModel.DELAY_PARAMETER_NAME),
-						  new Duration(10.0, TimeUnit.SECONDS));
+		return new Architecture(
+						MoleneModel.URI,
+						atomicModelDescriptors,
+						coupledModelDescriptors,
+						TimeUnit.SECONDS);
+	}
 
-			modelURI = TicModel.URI  + "-2";
-			simParams.put(
-				ModelI.createRunParameterName(modelURI,
-											  TicModel.DELAY_PARAMETER_NAME),
-				new Duration(50.0, TimeUnit.SECONDS));
+	/**
+	 * create the run parameters of the Molene example; when
+	 * <code>withPlotting</code> is false, no plotter description is put
+	 * in the parameters and the models do not plot, which allows to run the
+	 * example in batch mode, including on headless hosts.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param withPlotting	when true, the models plot their trajectories.
+	 * @return				the run parameters of the Molene example.
+	 */
+	public static Map<String,Object>	createRunParameters(
+		boolean withPlotting
+		)
+	{
+		Map<String,Object> simParams = new HashMap<>();
 
-			modelURI = WiFiDisconnectionModel.URI;
-			simParams.put(
-				ModelI.createRunParameterName(modelURI,
-											  WiFiDisconnectionModel.MTBI),
-				200.0);
-			simParams.put(
-				ModelI.createRunParameterName(modelURI,
-											  WiFiDisconnectionModel.MID),
-				10.0);
+		String modelURI = TicModel.URI  + "-1";
+		simParams.put(ModelI.createRunParameterName(
+									modelURI,
+									TicModel.DELAY_PARAMETER_NAME),
+					  new Duration(10.0, TimeUnit.SECONDS));
+
+		modelURI = TicModel.URI  + "-2";
+		simParams.put(
+			ModelI.createRunParameterName(modelURI,
+										  TicModel.DELAY_PARAMETER_NAME),
+			new Duration(50.0, TimeUnit.SECONDS));
+
+		modelURI = WiFiDisconnectionModel.URI;
+		simParams.put(
+			ModelI.createRunParameterName(modelURI,
+										  WiFiDisconnectionModel.MTBI),
+			200.0);
+		simParams.put(
+			ModelI.createRunParameterName(modelURI,
+										  WiFiDisconnectionModel.MID),
+			10.0);
+		if (withPlotting) {
 			simParams.put(
 				ModelI.createRunParameterName(
 								modelURI,
@@ -618,28 +645,30 @@ public class			SimulationMain
 						SimulationMain.ORIGIN_Y,
 						SimulationMain.getPlotterWidth(),
 						SimulationMain.getPlotterHeight()));
+		}
 
-			modelURI = WiFiBandwidthModel.URI;
-			simParams.put(
-				ModelI.createRunParameterName(modelURI,
-											  WiFiBandwidthModel.MAX_BANDWIDTH),
-				50.0);
-			simParams.put(
-				ModelI.createRunParameterName(modelURI,
-											  WiFiBandwidthModel.BAAR),
-				1.75);
-			simParams.put(
-				ModelI.createRunParameterName(modelURI,
-											  WiFiBandwidthModel.BBAR), 
-				1.75);
-			simParams.put(
-				ModelI.createRunParameterName(modelURI,
-											  WiFiBandwidthModel.BMSF),
-				0.5);
-			simParams.put(
-				ModelI.createRunParameterName(modelURI,
-											  WiFiBandwidthModel.BIS), 
-				0.5);
+		modelURI = WiFiBandwidthModel.URI;
+		simParams.put(
+			ModelI.createRunParameterName(modelURI,
+										  WiFiBandwidthModel.MAX_BANDWIDTH),
+			50.0);
+		simParams.put(
+			ModelI.createRunParameterName(modelURI,
+										  WiFiBandwidthModel.BAAR),
+			1.75);
+		simParams.put(
+			ModelI.createRunParameterName(modelURI,
+										  WiFiBandwidthModel.BBAR), 
+			1.75);
+		simParams.put(
+			ModelI.createRunParameterName(modelURI,
+										  WiFiBandwidthModel.BMSF),
+			0.5);
+		simParams.put(
+			ModelI.createRunParameterName(modelURI,
+										  WiFiBandwidthModel.BIS), 
+			0.5);
+		if (withPlotting) {
 			simParams.put(
 				ModelI.createRunParameterName(
 									modelURI,
@@ -653,8 +682,10 @@ public class			SimulationMain
 						SimulationMain.getPlotterHeight(),
 						SimulationMain.getPlotterWidth(),
 						SimulationMain.getPlotterHeight()));
+		}
 
-			modelURI = WiFiBandwidthSensorModel.URI;
+		modelURI = WiFiBandwidthSensorModel.URI;
+		if (withPlotting) {
 			simParams.put(
 				ModelI.createRunParameterName(
 									modelURI,
@@ -668,13 +699,15 @@ public class			SimulationMain
 								2*SimulationMain.getPlotterHeight(),
 						SimulationMain.getPlotterWidth(),
 						SimulationMain.getPlotterHeight()));
+		}
 
-			modelURI = PortableComputerStateModel.URI;
-			simParams.put(
-				ModelI.createRunParameterName(
-						modelURI,
-						PortableComputerStateModel.EVALUATION_STEP_PARAM_NAME),
-				1.0);
+		modelURI = PortableComputerStateModel.URI;
+		simParams.put(
+			ModelI.createRunParameterName(
+					modelURI,
+					PortableComputerStateModel.EVALUATION_STEP_PARAM_NAME),
+			1.0);
+		if (withPlotting) {
 			simParams.put(
 				ModelI.createRunParameterName(
 						modelURI,
@@ -688,6 +721,8 @@ public class			SimulationMain
 						SimulationMain.ORIGIN_Y,
 						SimulationMain.getPlotterWidth(),
 						SimulationMain.getPlotterHeight()));
+		}
+		if (withPlotting) {
 			simParams.put(
 				ModelI.createRunParameterName(
 						modelURI,
@@ -702,8 +737,10 @@ public class			SimulationMain
 								2 * SimulationMain.getPlotterHeight(),
 						SimulationMain.getPlotterWidth(),
 						SimulationMain.getPlotterHeight()));
+		}
 
-			modelURI = BatterySensorModel.URI;
+		modelURI = BatterySensorModel.URI;
+		if (withPlotting) {
 			simParams.put(
 				ModelI.createRunParameterName(
 									modelURI,
@@ -718,8 +755,10 @@ public class			SimulationMain
 								SimulationMain.getPlotterHeight(),
 						SimulationMain.getPlotterWidth(),
 						SimulationMain.getPlotterHeight()));
+		}
 
-			modelURI = ControllerModel.PORTABLE_URI;
+		modelURI = ControllerModel.PORTABLE_URI;
+		if (withPlotting) {
 			simParams.put(
 				ModelI.createRunParameterName(
 									modelURI,
@@ -734,8 +773,10 @@ public class			SimulationMain
 								3 * SimulationMain.getPlotterHeight(),
 						SimulationMain.getPlotterWidth(),
 						SimulationMain.getPlotterHeight()));
+		}
 
-			modelURI = ServerModel.URI;
+		modelURI = ServerModel.URI;
+		if (withPlotting) {
 			simParams.put(
 				ModelI.createRunParameterName(
 									modelURI,
@@ -750,8 +791,10 @@ public class			SimulationMain
 								2 * SimulationMain.getPlotterHeight(),
 						SimulationMain.getPlotterWidth(),
 						SimulationMain.getPlotterHeight()));
+		}
 
-			modelURI = ControllerModel.SERVER_URI;
+		modelURI = ControllerModel.SERVER_URI;
+		if (withPlotting) {
 			simParams.put(
 				ModelI.createRunParameterName(
 									modelURI,
@@ -766,23 +809,35 @@ public class			SimulationMain
 								3 * SimulationMain.getPlotterHeight(),
 						SimulationMain.getPlotterWidth(),
 						SimulationMain.getPlotterHeight()));
+		}
 
-			modelURI = NetworkModel.URI;
-			simParams.put(
-				ModelI.createRunParameterName(
-									modelURI,
-									NetworkModel.GAMMA_SHAPE_PARAM_NAME),
-				11.0);
-			simParams.put(
-				ModelI.createRunParameterName(
-									modelURI,
-									NetworkModel.GAMMA_SCALE_PARAM_NAME),
-				2.0);
+		modelURI = NetworkModel.URI;
+		simParams.put(
+			ModelI.createRunParameterName(
+								modelURI,
+								NetworkModel.GAMMA_SHAPE_PARAM_NAME),
+			11.0);
+		simParams.put(
+			ModelI.createRunParameterName(
+								modelURI,
+								NetworkModel.GAMMA_SCALE_PARAM_NAME),
+			2.0);
+		return simParams;
+	}
+
+	public static void	main(String[] args)
+	{
+		try {
+			SimulatorI se = createArchitecture().constructSimulator();
+			se.setDebugLevel(0);
+//			System.out.println(se.simulatorAsString());
+
+			Map<String,Object> simParams = createRunParameters(true);
 
 			SimulationEngine.SIMULATION_STEP_SLEEP_TIME = 0L;
 			se.getSimulatedModel().setSimulationRunParameters(simParams);
 			long start = System.currentTimeMillis();
-			se.doStandAloneSimulation(0.0, 5000.0);
+			se.doStandAloneSimulation(0.0, END_TIME);
 			long end = System.currentTimeMillis();
 			System.out.println(se.getFinalReport());
 			System.out.println("First simulation run ends. " + (end - start));
@@ -794,7 +849,7 @@ public class			SimulationMain
 			// parameters are used again.
 			se.setSimulationRunParameters(simParams);
 			start = System.currentTimeMillis();
-			se.doStandAloneSimulation(0.0, 5000.0);
+			se.doStandAloneSimulation(0.0, END_TIME);
 			end = System.currentTimeMillis();
 			System.out.println(se.getFinalReport());
 			System.out.println("Second simulation run ends. " + (end - start));
@@ -334,23 +334,25 @@ extends		AtomicHIOA
 			ModelI.createRunParameterName(
 						this.getURI(),
 						PortableComputerStateModel.BATTERY_PLOTTING_PARAM_NAME);
-		if (!simParams.containsKey(vname)) {
-			throw new MissingRunParameterException(vname);
+		// plotting is optional e.g., when running in batch mode
+		if (simParams.containsKey(vname)) {
+			PlotterDescription pd =
+						(PlotterDescription) simParams.get(vname);
+			this.batteryLevelPlotter = new XYPlotter(pd);
+			this.batteryLevelPlotter.createSeries(SERIES2);
 		}
-		PlotterDescription pd = (PlotterDescription) simParams.get(vname);
-		this.batteryLevelPlotter = new XYPlotter(pd);
-		this.batteryLevelPlotter.createSeries(SERIES2);
 
 		vname =
 			ModelI.createRunParameterName(
 						this.getURI(),
 						PortableComputerStateModel.STATE_PLOTTING_PARAM_NAME);
-		if (!simParams.containsKey(vname)) {
-			throw new MissingRunParameterException(vname);
+		// plotting is optional e.g., when running in batch mode
+		if (simParams.containsKey(vname)) {
+			PlotterDescription pd =
+						(PlotterDescription) simParams.get(vname);
+			this.statePlotter = new XYPlotter(pd);
+			this.statePlotter.createSeries(SERIES1);
 		}
-		pd = (PlotterDescription) simParams.get(vname);
-		this.statePlotter = new XYPlotter(pd);
-		this.statePlotter.createSeries(SERIES1);
 	}
 
 	/**
@@ -189,12 +189,13 @@ extends		AtomicModel
 		String vname = ModelI.createRunParameterName(
 									this.getURI(),
 									PlotterDescription.PLOTTING_PARAM_NAME);
-		if (!simParams.containsKey(vname)) {
-			throw new MissingRunParameterException(vname);
+		// plotting is optional e.g., when running in batch mode
+		if (simParams.containsKey(vname)) {
+			PlotterDescription pd =
+						(PlotterDescription) simParams.get(vname);
+			this.statePlotter = new XYPlotter(pd);
+			this.statePlotter.createSeries(SERIES);
 		}
-		PlotterDescription pd = (PlotterDescription) simParams.get(vname);
-		this.statePlotter = new XYPlotter(pd);
-		this.statePlotter.createSeries(SERIES);
 	}
 
 	/**
@@ -211,10 +212,12 @@ extends		AtomicModel
 
 		super.initialiseState(initialTime);
 
-		this.statePlotter.addData(
-				SERIES,
-				this.getCurrentStateTime().getSimulatedTime(),
-				state2int(this.currentState));
+		if (this.statePlotter != null) {
+			this.statePlotter.addData(
+					SERIES,
+					this.getCurrentStateTime().getSimulatedTime(),
+					state2int(this.currentState));
+		}
 	}
 
 	/**
@@ -266,7 +269,7 @@ extends		AtomicModel
 			// Do nothing
 		}
 
-		if (oldState != this.currentState) {
+		if (this.statePlotter != null && oldState != this.currentState) {
 			this.statePlotter.addData(
 					SERIES,
 					this.getCurrentStateTime().getSimulatedTime(),
@@ -284,14 +287,16 @@ extends		AtomicModel
 	@Override
 	public void			endSimulation(Time endTime)
 	{
-		this.statePlotter.addData(
-				SERIES,
-				endTime.getSimulatedTime(),
-				(this.currentState == State.COMPRESSING ?
-					3
-				: 	(this.currentState == State.NOT_COMPRESSING ?
-						2
-					:	1)));
+		if (this.statePlotter != null) {
+			this.statePlotter.addData(
+					SERIES,
+					endTime.getSimulatedTime(),
+					(this.currentState == State.COMPRESSING ?
+						3
+					: 	(this.currentState == State.NOT_COMPRESSING ?
+							2
+						:	1)));
+		}
 
 		super.endSimulation(endTime);
 	}
@@ -365,12 +365,13 @@ extends		AtomicHIOA
 		vname = ModelI.createRunParameterName(
 									this.getURI(),
 									PlotterDescription.PLOTTING_PARAM_NAME);
-		if (!simParams.containsKey(vname)) {
-			throw new MissingRunParameterException(vname);
+		// plotting is optional e.g., when running in batch mode
+		if (simParams.containsKey(vname)) {
+			PlotterDescription pd =
+						(PlotterDescription) simParams.get(vname);
+			this.plotter = new XYPlotter(pd);
+			this.plotter.createSeries(SERIES);
 		}
-		PlotterDescription pd = (PlotterDescription) simParams.get(vname);
-		this.plotter = new XYPlotter(pd);
-		this.plotter.createSeries(SERIES);
 	}
 
 	/**
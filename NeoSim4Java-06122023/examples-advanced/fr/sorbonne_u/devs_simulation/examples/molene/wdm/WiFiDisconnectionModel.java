@@ -324,13 +324,14 @@ extends		AtomicES_Model
 		vname = ModelI.createRunParameterName(
 								this.getURI(),
 								PlotterDescription.PLOTTING_PARAM_NAME);
-		if (!simParams.containsKey(vname)) {
-			throw new MissingRunParameterException(vname);
+		// plotting is optional e.g., when running in batch mode
+		if (simParams.containsKey(vname)) {
+			// Initialise the look of the plotter
+			PlotterDescription pd =
+						(PlotterDescription) simParams.get(vname);
+			this.plotter = new XYPlotter(pd);
+			this.plotter.createSeries(SERIES);
 		}
-		// Initialise the look of the plotter
-		PlotterDescription pd = (PlotterDescription) simParams.get(vname);
-		this.plotter = new XYPlotter(pd);
-		this.plotter.createSeries(SERIES);
 	}
 
 	/**
@@ -68,81 +68,116 @@ import fr.sorbonne_u.devs_simulation.simulators.interfaces.SimulatorI;
  */
 public class			SimulationMain
 {
-	public static void main(String[] args)
-	{
-		try {
-			final String cgURI = "MyClientGenerator";
-			final String bankURI = "MyBank";
-			final String coupledModelURI = "BankExampleCoupledModel";
+	/** URI of the client generator model.									*/
+	public static final String	CLIENT_GENERATOR_URI = "MyClientGenerator";
+	/** URI of the bank model.												*/
+	public static final String	BANK_URI = "MyBank";
+	/** URI of the bank example coupled model.								*/
+	public static final String	COUPLED_MODEL_URI = "BankExampleCoupledModel";
+	/** simulated time at which the simulation runs end.					*/
+	public static final double	END_TIME = 40.0;
 
-			Map<String,AbstractAtomicModelDescriptor> atomicModelDescriptors =
-															new HashMap<>();
-
-			atomicModelDescriptors.put(
-					bankURI,
-					AtomicModelDescriptor.create(
-							BankModel.class,
-							bankURI,
-							TimeUnit.SECONDS,
-							null));
-			atomicModelDescriptors.put(
-					cgURI,
-					AtomicModelDescriptor.create(
-							ClientGenerator.class,
-							cgURI,
-							TimeUnit.SECONDS,
-							null));
+	/**
+	 * create the simulation architecture of the bank example.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @return				the simulation architecture of the bank example.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	public static ArchitectureI	createArchitecture() throws Exception
+	{
+		Map<String,AbstractAtomicModelDescriptor> atomicModelDescriptors =
+														new HashMap<>();
 
-			Set<String> submodelURIs = new HashSet<String>();
-			submodelURIs.add(bankURI);
-			submodelURIs.add(cgURI);
+		atomicModelDescriptors.put(
+				BANK_URI,
+				AtomicModelDescriptor.create(
+						BankModel.class,
+						BANK_URI,
+						TimeUnit.SECONDS,
+						null));
+		atomicModelDescriptors.put(
+				CLIENT_GENERATOR_URI,
+				AtomicModelDescriptor.create(
+						ClientGenerator.class,
+						CLIENT_GENERATOR_URI,
+						TimeUnit.SECONDS,
+						null));
 
-			Map<String,CoupledModelDescriptor> coupledModelDescriptors =
-															new HashMap<>();
+		Set<String> submodelURIs = new HashSet<String>();
+		submodelURIs.add(BANK_URI);
+		submodelURIs.add(CLIENT_GENERATOR_URI);
 
-			HashMap<EventSource,EventSink[]> connections =
-									new HashMap<EventSource,EventSink[]>();
-			EventSource from = new EventSource(cgURI, Arrival.class);
-			EventSink[] to =
-					new EventSink[] {
-							new EventSink(bankURI, Arrival.class)
-					};
-			connections.put(from, to);
+		Map<String,CoupledModelDescriptor> coupledModelDescriptors =
+														new HashMap<>();
 
-			coupledModelDescriptors.put(
-					coupledModelURI,
-					new CoupledModelDescriptor(
-							BankCoupledModel.class,
-							coupledModelURI,
-							submodelURIs,
-							new HashMap<Class<? extends EventI>,EventSink[]>(),
-							new HashMap<Class<? extends EventI>,ReexportedEvent>(),
-							connections,
-							null));
+		HashMap<EventSource,EventSink[]> connections =
+								new HashMap<EventSource,EventSink[]>();
+		EventSource from = new EventSource(CLIENT_GENERATOR_URI, Arrival.class);
+		EventSink[] to =
+				new EventSink[] {
+						new EventSink(BANK_URI, Arrival.class)
+				};
+		connections.put(from, to);
 
-			ArchitectureI architecture =
-					new Architecture(
-							coupledModelURI,
-							atomicModelDescriptors,
-							coupledModelDescriptors,
-							TimeUnit.SECONDS);
+		coupledModelDescriptors.put(
+				COUPLED_MODEL_URI,
+				new CoupledModelDescriptor(
+						BankCoupledModel.class,
+						COUPLED_MODEL_URI,
+						submodelURIs,
+						new HashMap<Class<? extends EventI>,EventSink[]>(),
+						new HashMap<Class<? extends EventI>,ReexportedEvent>(),
+						connections,
+						null));
 
-			SimulatorI se = architecture.constructSimulator();
+		return new Architecture(
+						COUPLED_MODEL_URI,
+						atomicModelDescriptors,
+						coupledModelDescriptors,
+						TimeUnit.SECONDS);
+	}
 
-			Map<String,Object> simParams = new HashMap<>();
-			simParams.put(
-					ModelI.createRunParameterName(
-							cgURI,
-							ClientGenerator.MEAN_INTERARRIVAL_TIME_NAME),
-					3.0);
-			simParams.put(
-					ModelI.createRunParameterName(
-							bankURI,
-							BankModel.MEAN_SERVICE_TIME_NAME),
-					2.5);
-			se.setSimulationRunParameters(simParams);
+	/**
+	 * create the run parameters of the bank example.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @return	the run parameters of the bank example.
+	 */
+	public static Map<String,Object>	createRunParameters()
+	{
+		Map<String,Object> simParams = new HashMap<>();
+		simParams.put(
+				ModelI.createRunParameterName(
+						CLIENT_GENERATOR_URI,
+						ClientGenerator.MEAN_INTERARRIVAL_TIME_NAME),
+				3.0);
+		simParams.put(
+				ModelI.createRunParameterName(
+						BANK_URI,
+						BankModel.MEAN_SERVICE_TIME_NAME),
+				2.5);
+		return simParams;
+	}
 
-			se.doStandAloneSimulation(0.0, 40.0);
+	public static void main(String[] args)
+	{
+		try {
+			SimulatorI se = createArchitecture().constructSimulator();
+			se.setSimulationRunParameters(createRunParameters());
+			se.doStandAloneSimulation(0.0, END_TIME);
 			System.out.println(se.getFinalReport());
 		} catch (Exception e1) {
 			e1.printStackTrace();
@@ -58,6 +58,37 @@ import fr.sorbonne_u.devs_simulation.simulators.interfaces.SimulatorI;
  */
 public class			SimulationMain
 {
+	/** simulated time at which the simulation runs end.					*/
+	public static final double	END_TIME = 10100.0;
+
+	/**
+	 * create the run parameters of the basic counter example.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @return	the run parameters of the example.
+	 */
+	public static Map<String,Object>	createRunParameters()
+	{
+		Map<String,Object> simParams = new HashMap<>();
+		simParams.put(
+				ModelI.createRunParameterName(
+						BasicCounterModel.MODEL_URI_PREFIX,
+						BasicCounterModel.START_VALUE_PARAM_NAME),
+				0);
+		simParams.put(
+				ModelI.createRunParameterName(
+						BasicCounterModel.MODEL_URI_PREFIX,
+						BasicCounterModel.STEP_VALUE_PARAM_NAME),
+				1000.0);
+		return simParams;
+	}
+
 	public static void	main(String[] args)
 	{
 		try {
@@ -67,21 +98,9 @@ public class			SimulationMain
 							TimeUnit.MILLISECONDS,
 							new AtomicEngine());
 			SimulatorI se = bcm.getSimulationEngine();
+			bcm.setSimulationRunParameters(createRunParameters());
 
-			Map<String,Object> simParams = new HashMap<>();
-			simParams.put(
-					ModelI.createRunParameterName(
-							BasicCounterModel.MODEL_URI_PREFIX,
-							BasicCounterModel.START_VALUE_PARAM_NAME),
-					0);
-			simParams.put(
-					ModelI.createRunParameterName(
-							BasicCounterModel.MODEL_URI_PREFIX,
-							BasicCounterModel.STEP_VALUE_PARAM_NAME),
-					1000.0);
-			bcm.setSimulationRunParameters(simParams);
-
-			se.doStandAloneSimulation(0.0, 10100.0);
+			se.doStandAloneSimulation(0.0, END_TIME);
 
 			System.out.println(se.getFinalReport());
 			System.out.println("Simulation ends.");
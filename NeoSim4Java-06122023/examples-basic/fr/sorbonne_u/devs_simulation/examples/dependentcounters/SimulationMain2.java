@@ -69,98 +69,136 @@ import fr.sorbonne_u.devs_simulation.simulators.interfaces.SimulatorI;
  */
 public class			SimulationMain2
 {
-	public static void	main(String[] args)
+	/** URI of the first counter model.									*/
+	public static final String	MODEL1_URI =
+							DependentCounterModel.MODEL_URI_PREFIX + "-" + 1;
+	/** URI of the second counter model.									*/
+	public static final String	MODEL2_URI =
+							DependentCounterModel.MODEL_URI_PREFIX + "-" + 2;
+	/** simulated time at which the simulation runs end.					*/
+	public static final double	END_TIME = 10100.0;
+
+	/**
+	 * create the simulation architecture of the dependent counters example.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @return				the simulation architecture of the example.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	public static ArchitectureI	createArchitecture() throws Exception
 	{
-		try {
-			Map<String,AbstractAtomicModelDescriptor> atomicModelDescriptors =
-															new HashMap<>();
+		Map<String,AbstractAtomicModelDescriptor> atomicModelDescriptors =
+														new HashMap<>();
 
-			String model1uri = DependentCounterModel.MODEL_URI_PREFIX + "-" + 1;
-			String model2uri = DependentCounterModel.MODEL_URI_PREFIX + "-" + 2;
-			atomicModelDescriptors.put(
-				model1uri,
-				AtomicModelDescriptor.create(
-						DependentCounterModel.class,
-						model1uri,
-						TimeUnit.MILLISECONDS,
-						// To illustrate the use of model factories
-						new DependentCounterModelFactory()));
-			atomicModelDescriptors.put(
-				model2uri,
-				AtomicModelDescriptor.create(
-						DependentCounterModel.class,
-						model2uri,
-						TimeUnit.MILLISECONDS,
-						// To illustrate that when the creation protocol is
-						// standard, the knowledge of the model class is
-						// enough to effectively create the model instance
-						null));
+		atomicModelDescriptors.put(
+			MODEL1_URI,
+			AtomicModelDescriptor.create(
+					DependentCounterModel.class,
+					MODEL1_URI,
+					TimeUnit.MILLISECONDS,
+					// To illustrate the use of model factories
+					new DependentCounterModelFactory()));
+		atomicModelDescriptors.put(
+			MODEL2_URI,
+			AtomicModelDescriptor.create(
+					DependentCounterModel.class,
+					MODEL2_URI,
+					TimeUnit.MILLISECONDS,
+					// To illustrate that when the creation protocol is
+					// standard, the knowledge of the model class is
+					// enough to effectively create the model instance
+					null));
 
-			Set<String> submodelURIs = new HashSet<String>();
-			submodelURIs.add(model1uri);
-			submodelURIs.add(model2uri);
+		Set<String> submodelURIs = new HashSet<String>();
+		submodelURIs.add(MODEL1_URI);
+		submodelURIs.add(MODEL2_URI);
 
-			Map<String,CoupledModelDescriptor> coupledModelDescriptors =
-															new HashMap<>();
+		Map<String,CoupledModelDescriptor> coupledModelDescriptors =
+														new HashMap<>();
 
-			HashMap<EventSource,EventSink[]> connections =
-										new HashMap<EventSource,EventSink[]>();
-			EventSource from =
-					new EventSource(model1uri, CurrentValue.class);
-			EventSink[] to =
-					new EventSink[] {
-							new EventSink(model2uri, CurrentValue.class)
-					};
-			connections.put(from, to);
+		HashMap<EventSource,EventSink[]> connections =
+									new HashMap<EventSource,EventSink[]>();
+		EventSource from =
+				new EventSource(MODEL1_URI, CurrentValue.class);
+		EventSink[] to =
+				new EventSink[] {
+						new EventSink(MODEL2_URI, CurrentValue.class)
+				};
+		connections.put(from, to);
 
-			coupledModelDescriptors.put(
-				BasicCounterCoupledModel.BASIC_COUPLED_MODEL_URI,
-				new CoupledModelDescriptor(
-						BasicCounterCoupledModel.class,
-						BasicCounterCoupledModel.BASIC_COUPLED_MODEL_URI,
-						submodelURIs,
-						new HashMap<Class<? extends EventI>,EventSink[]>(),
-						new HashMap<Class<? extends EventI>,ReexportedEvent>(),
-						connections,
-						// as the standard protocol is used to create coupled
-						// model instances, there is no neeed for a factory
-						null));
-						// but alternatively the following can be used instead
-						// new BasicCoupledModelFactory()));
-			ArchitectureI architecture =
-				new Architecture(
-						BasicCounterCoupledModel.BASIC_COUPLED_MODEL_URI,
-						atomicModelDescriptors,
-						coupledModelDescriptors,
-						TimeUnit.MILLISECONDS
-						);
+		coupledModelDescriptors.put(
+			BasicCounterCoupledModel.BASIC_COUPLED_MODEL_URI,
+			new CoupledModelDescriptor(
+					BasicCounterCoupledModel.class,
+					BasicCounterCoupledModel.BASIC_COUPLED_MODEL_URI,
+					submodelURIs,
+					new HashMap<Class<? extends EventI>,EventSink[]>(),
+					new HashMap<Class<? extends EventI>,ReexportedEvent>(),
+					connections,
+					// as the standard protocol is used to create coupled
+					// model instances, there is no neeed for a factory
+					null));
+					// but alternatively the following can be used instead
+					// new BasicCoupledModelFactory()));
+		return new Architecture(
+					BasicCounterCoupledModel.BASIC_COUPLED_MODEL_URI,
+					atomicModelDescriptors,
+					coupledModelDescriptors,
+					TimeUnit.MILLISECONDS
+				);
+	}
 
-			SimulatorI se = architecture.constructSimulator();
+	/**
+	 * create the run parameters of the dependent counters example.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @return	the run parameters of the example.
+	 */
+	public static Map<String,Object>	createRunParameters()
+	{
+		Map<String,Object> simParams = new HashMap<>();
+		simParams.put(
+			ModelI.createRunParameterName(
+						MODEL1_URI,
+						DependentCounterModel.START_VALUE_PARAM_NAME),
+			0);
+		simParams.put(
+			ModelI.createRunParameterName(
+						MODEL1_URI,
+						DependentCounterModel.STEP_VALUE_PARAM_NAME),
+			750.0);
+		simParams.put(
+			ModelI.createRunParameterName(
+						MODEL2_URI,
+						DependentCounterModel.START_VALUE_PARAM_NAME),
+			100);
+		simParams.put(
+			ModelI.createRunParameterName(
+						MODEL2_URI,
+						DependentCounterModel.STEP_VALUE_PARAM_NAME),
+			1000.0);
+		return simParams;
+	}
 
-			Map<String,Object> simParams = new HashMap<>();
-			simParams.put(
-				ModelI.createRunParameterName(
-							model1uri,
-							DependentCounterModel.START_VALUE_PARAM_NAME),
-				0);
-			simParams.put(
-				ModelI.createRunParameterName(
-							model1uri,
-							DependentCounterModel.STEP_VALUE_PARAM_NAME),
-				750.0);
-			simParams.put(
-				ModelI.createRunParameterName(
-							model2uri,
-							DependentCounterModel.START_VALUE_PARAM_NAME),
-				100);
-			simParams.put(
-				ModelI.createRunParameterName(
-							model2uri,
-							DependentCounterModel.STEP_VALUE_PARAM_NAME),
-				1000.0);
-			se.setSimulationRunParameters(simParams);
+	public static void	main(String[] args)
+	{
+		try {
+			SimulatorI se = createArchitecture().constructSimulator();
+			se.setSimulationRunParameters(createRunParameters());
 
-			se.doStandAloneSimulation(0.0, 10100.0);
+			se.doStandAloneSimulation(0.0, END_TIME);
 
 			System.out.println(se.getFinalReport());
 			System.out.println("Simulation ends.");
@@ -146,11 +146,212 @@ public class			SimulationMain
 	 *  perform a standard simulation which evaluates continuous variables
 	 *  to their most recent computed value.								*/
 	public static boolean		WITH_VALUE_HISTORY;
+	/** simulated time at which the simulation runs end.					*/
+	public static final double	END_TIME = 10.0;
 
 	// -------------------------------------------------------------------------
 	// Methods
 	// -------------------------------------------------------------------------
 
+	/**
+	 * create the simulation architecture of the example, either for a
+	 * real-time simulation or for a simulation in logical time; the models
+	 * use or not value histories depending on {@code WITH_VALUE_HISTORY}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param realTime		when true, create an architecture for a real-time simulation.
+	 * @return				the simulation architecture of the example.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	public static ArchitectureI	createArchitecture(boolean realTime)
+	throws Exception
+	{
+		Map<String,AbstractAtomicModelDescriptor>
+							atomicModelDescriptors = new HashMap<>();
+		Map<String,CoupledModelDescriptor>
+							coupledModelDescriptors = new HashMap<>();
+
+		Set<String> submodels = new HashSet<String>();
+		submodels.add(HIOA_Consumer.URI_PREFIX);
+		submodels.add(HIOA_Multiplier.URI_PREFIX);
+		submodels.add(HIOA_Generator.URI_PREFIX);
+		submodels.add(TicModel.URI);
+
+		Map<EventSource,EventSink[]> connections =
+								new HashMap<EventSource,EventSink[]>();
+		EventSource from = new EventSource(TicModel.URI, TicEvent.class);
+		EventSink[] to =
+				new EventSink[] {
+						new EventSink(HIOA_Generator.URI_PREFIX, TicEvent.class)
+				};
+		connections.put(from, to);
+
+		Map<VariableSource,VariableSink[]> bindings =
+							new HashMap<VariableSource,VariableSink[]>();
+		VariableSource source =
+				new VariableSource("generated", Double.class,
+								   HIOA_Generator.URI_PREFIX);
+		VariableSink[] sinks =
+				new VariableSink[] {
+					new VariableSink("other", Double.class,
+									 HIOA_Multiplier.URI_PREFIX)
+				};
+		bindings.put(source, sinks);
+		source = new VariableSource("mine", Double.class,
+									HIOA_Multiplier.URI_PREFIX);
+		sinks = new VariableSink[] {
+					new VariableSink("otherCurrent", Double.class,
+									 HIOA_Consumer.URI_PREFIX)
+				};
+		bindings.put(source, sinks);
+
+		if (realTime) {
+			atomicModelDescriptors.put(
+					HIOA_Consumer.URI_PREFIX,
+					RTAtomicHIOA_Descriptor.create(
+							HIOA_Consumer.class,
+							HIOA_Consumer.URI_PREFIX,
+							TimeUnit.SECONDS,
+							null));
+
+			atomicModelDescriptors.put(
+					HIOA_Multiplier.URI_PREFIX,
+					RTAtomicHIOA_Descriptor.create(
+							HIOA_Multiplier.class,
+							HIOA_Multiplier.URI_PREFIX,
+							TimeUnit.SECONDS,
+							null));
+
+			atomicModelDescriptors.put(
+					HIOA_Generator.URI_PREFIX,
+					RTAtomicHIOA_Descriptor.create(
+							HIOA_Generator.class,
+							HIOA_Generator.URI_PREFIX,
+							TimeUnit.SECONDS,
+							null));
+
+			atomicModelDescriptors.put(
+					TicModel.URI,
+					RTAtomicModelDescriptor.create(
+							TicModel.class,
+							TicModel.URI,
+							TimeUnit.SECONDS,
+							null));
+
+			coupledModelDescriptors.put(
+					HIOA_CoupledModel.URI_PREFIX,
+					new RTCoupledHIOA_Descriptor(
+							HIOA_CoupledModel.class,
+							HIOA_CoupledModel.URI_PREFIX,
+							submodels,
+							null,
+							null,
+							connections,
+							null,
+							null,
+							null,
+							bindings));
+
+			return new RTArchitecture(
+							HIOA_CoupledModel.URI_PREFIX,
+							atomicModelDescriptors,
+							coupledModelDescriptors,
+							TimeUnit.SECONDS);
+		} else {
+			atomicModelDescriptors.put(
+					HIOA_Consumer.URI_PREFIX,
+					AtomicHIOA_Descriptor.create(
+							HIOA_Consumer.class,
+							HIOA_Consumer.URI_PREFIX,
+							TimeUnit.SECONDS,
+							null));
+
+			atomicModelDescriptors.put(
+					HIOA_Multiplier.URI_PREFIX,
+					AtomicHIOA_Descriptor.create(
+							HIOA_Multiplier.class,
+							HIOA_Multiplier.URI_PREFIX,
+							TimeUnit.SECONDS,
+							null));
+
+			atomicModelDescriptors.put(
+					HIOA_Generator.URI_PREFIX,
+					AtomicHIOA_Descriptor.create(
+							HIOA_Generator.class,
+							HIOA_Generator.URI_PREFIX,
+							TimeUnit.SECONDS,
+							null));
+
+			atomicModelDescriptors.put(
+					TicModel.URI,
+					AtomicModelDescriptor.create(
+							TicModel.class,
+							TicModel.URI,
+							TimeUnit.SECONDS,
+							null));
+
+			coupledModelDescriptors.put(
+					HIOA_CoupledModel.URI_PREFIX,
+					new CoupledHIOA_Descriptor(
+							HIOA_CoupledModel.class,
+							HIOA_CoupledModel.URI_PREFIX,
+							submodels,
+							null,
+							null,
+							connections,
+							null,
+							null,
+							null,
+							bindings));
+
+			return new Architecture(
+							HIOA_CoupledModel.URI_PREFIX,
+							atomicModelDescriptors,
+							coupledModelDescriptors,
+							TimeUnit.SECONDS);
+		}
+	}
+
+	/**
+	 * create the run parameters of the example.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @return	the run parameters of the example.
+	 */
+	public static Map<String,Object>	createRunParameters()
+	{
+		Map<String,Object> simParams = new HashMap<>();
+		simParams.put(
+			ModelI.createRunParameterName(TicModel.URI,
+										  TicModel.DELAY_PARAMETER_NAME),
+			new Duration(0.5, TimeUnit.SECONDS));
+		simParams.put(
+			ModelI.createRunParameterName(HIOA_Multiplier.URI_PREFIX,
+										  HIOA_Multiplier.STEP_NAME),
+			0.25);
+		simParams.put(
+			ModelI.createRunParameterName(HIOA_Multiplier.URI_PREFIX,
+										  HIOA_Multiplier.FACTOR_NAME),
+			1.0);
+		simParams.put(
+			ModelI.createRunParameterName(HIOA_Consumer.URI_PREFIX,
+										  HIOA_Consumer.STEP_NAME),
+			1.0);
+		return simParams;
+	}
+
 	public static void	main(String[] args)
 	{
 		try {
@@ -173,179 +374,16 @@ public class			SimulationMain
 				WITH_VALUE_HISTORY = true;
 			}
 
-			Map<String,AbstractAtomicModelDescriptor>
-								atomicModelDescriptors = new HashMap<>();
-			Map<String,CoupledModelDescriptor>
-								coupledModelDescriptors = new HashMap<>();
-
-			Set<String> submodels = new HashSet<String>();
-			submodels.add(HIOA_Consumer.URI_PREFIX);
-			submodels.add(HIOA_Multiplier.URI_PREFIX);
-			submodels.add(HIOA_Generator.URI_PREFIX);
-			submodels.add(TicModel.URI);
-
-			Map<EventSource,EventSink[]> connections =
-									new HashMap<EventSource,EventSink[]>();
-			EventSource from = new EventSource(TicModel.URI, TicEvent.class);
-			EventSink[] to =
-					new EventSink[] {
-							new EventSink(HIOA_Generator.URI_PREFIX, TicEvent.class)
-					};
-			connections.put(from, to);
-
-			Map<VariableSource,VariableSink[]> bindings =
-								new HashMap<VariableSource,VariableSink[]>();
-			VariableSource source =
-					new VariableSource("generated", Double.class,
-									   HIOA_Generator.URI_PREFIX);
-			VariableSink[] sinks =
-					new VariableSink[] {
-						new VariableSink("other", Double.class,
-										 HIOA_Multiplier.URI_PREFIX)
-					};
-			bindings.put(source, sinks);
-			source = new VariableSource("mine", Double.class,
-										HIOA_Multiplier.URI_PREFIX);
-			sinks = new VariableSink[] {
-						new VariableSink("otherCurrent", Double.class,
-										 HIOA_Consumer.URI_PREFIX)
-					};
-			bindings.put(source, sinks);
-
-
-			Map<String,Object> simParams = new HashMap<>();
-			simParams.put(
-				ModelI.createRunParameterName(TicModel.URI,
-											  TicModel.DELAY_PARAMETER_NAME),
-				new Duration(0.5, TimeUnit.SECONDS));
-			simParams.put(
-				ModelI.createRunParameterName(HIOA_Multiplier.URI_PREFIX,
-											  HIOA_Multiplier.STEP_NAME),
-				0.25);
-			simParams.put(
-				ModelI.createRunParameterName(HIOA_Multiplier.URI_PREFIX,
-											  HIOA_Multiplier.FACTOR_NAME),
-				1.0);
-			simParams.put(
-				ModelI.createRunParameterName(HIOA_Consumer.URI_PREFIX,
-											  HIOA_Consumer.STEP_NAME),
-				1.0);
-
+			ArchitectureI architecture =
+								createArchitecture(REAL_TIME_SIMULATION);
+			SimulatorI se = architecture.constructSimulator();
+			se.setSimulationRunParameters(createRunParameters());
 			if (REAL_TIME_SIMULATION) {
-				atomicModelDescriptors.put(
-						HIOA_Consumer.URI_PREFIX,
-						RTAtomicHIOA_Descriptor.create(
-								HIOA_Consumer.class,
-								HIOA_Consumer.URI_PREFIX,
-								TimeUnit.SECONDS,
-								null));
-
-				atomicModelDescriptors.put(
-						HIOA_Multiplier.URI_PREFIX,
-						RTAtomicHIOA_Descriptor.create(
-								HIOA_Multiplier.class,
-								HIOA_Multiplier.URI_PREFIX,
-								TimeUnit.SECONDS,
-								null));
-
-				atomicModelDescriptors.put(
-						HIOA_Generator.URI_PREFIX,
-						RTAtomicHIOA_Descriptor.create(
-								HIOA_Generator.class,
-								HIOA_Generator.URI_PREFIX,
-								TimeUnit.SECONDS,
-								null));
-
-				atomicModelDescriptors.put(
-						TicModel.URI,
-						RTAtomicModelDescriptor.create(
-								TicModel.class,
-								TicModel.URI,
-								TimeUnit.SECONDS,
-								null));
-
-				coupledModelDescriptors.put(
-						HIOA_CoupledModel.URI_PREFIX,
-						new RTCoupledHIOA_Descriptor(
-								HIOA_CoupledModel.class,
-								HIOA_CoupledModel.URI_PREFIX,
-								submodels,
-								null,
-								null,
-								connections,
-								null,
-								null,
-								null,
-								bindings));
-
-				ArchitectureI architecture =
-						new RTArchitecture(
-								HIOA_CoupledModel.URI_PREFIX,
-								atomicModelDescriptors,
-								coupledModelDescriptors,
-								TimeUnit.SECONDS);
-
-				SimulatorI se = architecture.constructSimulator();
-				se.setSimulationRunParameters(simParams);
 				long start = System.currentTimeMillis() + 100;
-				((CoordinationRTEngine)se).startRTSimulation(start, 0.0, 10.0);
+				((CoordinationRTEngine)se).startRTSimulation(
+												start, 0.0, END_TIME);
 			} else {
-				atomicModelDescriptors.put(
-						HIOA_Consumer.URI_PREFIX,
-						AtomicHIOA_Descriptor.create(
-								HIOA_Consumer.class,
-								HIOA_Consumer.URI_PREFIX,
-								TimeUnit.SECONDS,
-								null));
-
-				atomicModelDescriptors.put(
-						HIOA_Multiplier.URI_PREFIX,
-						AtomicHIOA_Descriptor.create(
-								HIOA_Multiplier.class,
-								HIOA_Multiplier.URI_PREFIX,
-								TimeUnit.SECONDS,
-								null));
-
-				atomicModelDescriptors.put(
-						HIOA_Generator.URI_PREFIX,
-						AtomicHIOA_Descriptor.create(
-								HIOA_Generator.class,
-								HIOA_Generator.URI_PREFIX,
-								TimeUnit.SECONDS,
-								null));
-
-				atomicModelDescriptors.put(
-						TicModel.URI,
-						AtomicModelDescriptor.create(
-								TicModel.class,
-								TicModel.URI,
-								TimeUnit.SECONDS,
-								null));
-
-				coupledModelDescriptors.put(
-						HIOA_CoupledModel.URI_PREFIX,
-						new CoupledHIOA_Descriptor(
-								HIOA_CoupledModel.class,
-								HIOA_CoupledModel.URI_PREFIX,
-								submodels,
-								null,
-								null,
-								connections,
-								null,
-								null,
-								null,
-								bindings));
-
-				ArchitectureI architecture =
-						new Architecture(
-								HIOA_CoupledModel.URI_PREFIX,
-								atomicModelDescriptors,
-								coupledModelDescriptors,
-								TimeUnit.SECONDS);
-
-				SimulatorI se = architecture.constructSimulator();
-				se.setSimulationRunParameters(simParams);
-				se.doStandAloneSimulation(0.0,  10.0);
+				se.doStandAloneSimulation(0.0, END_TIME);
 			}
 		} catch (Exception e) {
 			throw new RuntimeException(e) ;
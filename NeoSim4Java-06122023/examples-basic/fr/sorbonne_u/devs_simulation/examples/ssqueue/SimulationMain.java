@@ -70,84 +70,102 @@ import fr.sorbonne_u.devs_simulation.simulators.interfaces.SimulatorI;
  */
 public class				SimulationMain
 {
-	public static void	main(String[] args)
+	/** simulated time at which the simulation runs end.					*/
+	public static final double	END_TIME = 100.0;
+
+	/**
+	 * create the simulation architecture of the single-server queue example.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @return				the simulation architecture of the example.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	public static ArchitectureI	createArchitecture() throws Exception
 	{
-		try {
-			Map<String,AbstractAtomicModelDescriptor> atomicModelDescriptors =
-															new HashMap<>();
-			atomicModelDescriptors.put(
-					ServerModel.URI,
-					AtomicModelDescriptor.create(
-							ServerModel.class,
-							ServerModel.URI,
-							TimeUnit.SECONDS,
-							null));
-			atomicModelDescriptors.put(
-					ClientGeneratorModel.URI,
-					AtomicModelDescriptor.create(
-							ClientGeneratorModel.class,
-							ClientGeneratorModel.URI,
-							TimeUnit.SECONDS,
-							null));
+		Map<String,AbstractAtomicModelDescriptor> atomicModelDescriptors =
+														new HashMap<>();
+		atomicModelDescriptors.put(
+				ServerModel.URI,
+				AtomicModelDescriptor.create(
+						ServerModel.class,
+						ServerModel.URI,
+						TimeUnit.SECONDS,
+						null));
+		atomicModelDescriptors.put(
+				ClientGeneratorModel.URI,
+				AtomicModelDescriptor.create(
+						ClientGeneratorModel.class,
+						ClientGeneratorModel.URI,
+						TimeUnit.SECONDS,
+						null));
 
-			Map<String,CoupledModelDescriptor> coupledModelDescriptors =
-							new HashMap<String,CoupledModelDescriptor>();
+		Map<String,CoupledModelDescriptor> coupledModelDescriptors =
+						new HashMap<String,CoupledModelDescriptor>();
 
-			Set<String> submodels = new HashSet<String>();
-			submodels.add(ServerModel.URI);
-			submodels.add(ClientGeneratorModel.URI);
-			Map<Class<? extends EventI>,EventSink[]> imported =
-						new HashMap<Class<? extends EventI>,EventSink[]>();
-			Map<Class<? extends EventI>,ReexportedEvent> reexported =
-					new HashMap<Class<? extends EventI>,ReexportedEvent>();
-			EventSource from =
-					new EventSource(ClientGeneratorModel.URI,
-									GeneratedClientArrival.class,
-									GeneratedClientArrival.class);
-			EventSink[] to =
-					new EventSink[] {
-						new EventSink(
-								ServerModel.URI,
+		Set<String> submodels = new HashSet<String>();
+		submodels.add(ServerModel.URI);
+		submodels.add(ClientGeneratorModel.URI);
+		Map<Class<? extends EventI>,EventSink[]> imported =
+					new HashMap<Class<? extends EventI>,EventSink[]>();
+		Map<Class<? extends EventI>,ReexportedEvent> reexported =
+				new HashMap<Class<? extends EventI>,ReexportedEvent>();
+		EventSource from =
+				new EventSource(ClientGeneratorModel.URI,
 								GeneratedClientArrival.class,
-								ServerSideClientArrival.class,
-								new AbstractEventConverter(
-										GeneratedClientArrival.class,
-										ServerSideClientArrival.class)
-								{
-									private static final long
-														serialVersionUID = 1L;
+								GeneratedClientArrival.class);
+		EventSink[] to =
+				new EventSink[] {
+					new EventSink(
+							ServerModel.URI,
+							GeneratedClientArrival.class,
+							ServerSideClientArrival.class,
+							new AbstractEventConverter(
+									GeneratedClientArrival.class,
+									ServerSideClientArrival.class)
+							{
+								private static final long
+													serialVersionUID = 1L;
 
-									@Override
-									public EventI convert(EventI e) {
-										return new ServerSideClientArrival(
-												e.getTimeOfOccurrence(),
-												e.getEventInformation());
-									}
-									
-								})};
-			Map<EventSource,EventSink[]> connections =
-									new HashMap<EventSource,EventSink[]>();
-			connections.put(from, to);
-			coupledModelDescriptors.put(
-				SSQueueCoupledES_Model.URI,
-				new CoupledModelDescriptor(
-						SSQueueCoupledES_Model.class,
-						SSQueueCoupledES_Model.URI,
-						submodels,
-						imported,
-						reexported,
-						connections,
-						null));
+								@Override
+								public EventI convert(EventI e) {
+									return new ServerSideClientArrival(
+											e.getTimeOfOccurrence(),
+											e.getEventInformation());
+								}
+								
+							})};
+		Map<EventSource,EventSink[]> connections =
+								new HashMap<EventSource,EventSink[]>();
+		connections.put(from, to);
+		coupledModelDescriptors.put(
+			SSQueueCoupledES_Model.URI,
+			new CoupledModelDescriptor(
+					SSQueueCoupledES_Model.class,
+					SSQueueCoupledES_Model.URI,
+					submodels,
+					imported,
+					reexported,
+					connections,
+					null));
 
-			ArchitectureI architecture =
-					new Architecture(
-							SSQueueCoupledES_Model.URI,
-							atomicModelDescriptors,
-							coupledModelDescriptors,
-							TimeUnit.SECONDS);
+		return new Architecture(
+						SSQueueCoupledES_Model.URI,
+						atomicModelDescriptors,
+						coupledModelDescriptors,
+						TimeUnit.SECONDS);
+	}
 
-			SimulatorI se = architecture.constructSimulator();
-			se.doStandAloneSimulation(0.0, 100.0);
+	public static void	main(String[] args)
+	{
+		try {
+			SimulatorI se = createArchitecture().constructSimulator();
+			se.doStandAloneSimulation(0.0, END_TIME);
 			System.out.println(se.getFinalReport());
 			System.out.println("Simulation ends.");
 		} catch (Exception e) {
@@ -0,0 +1,310 @@
+package fr.sorbonne_u.devs_simulation.architectures;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a new
+// implementation of the DEVS simulation <i>de facto</i> standard for Java.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import fr.sorbonne_u.devs_simulation.models.architectures.AbstractAtomicModelDescriptor;
+import fr.sorbonne_u.devs_simulation.models.architectures.CoupledModelDescriptor;
+import fr.sorbonne_u.devs_simulation.models.architectures.ModelDescriptorI;
+import fr.sorbonne_u.devs_simulation.models.interfaces.AtomicModelFactoryI;
+import fr.sorbonne_u.devs_simulation.models.interfaces.ModelI;
+import fr.sorbonne_u.devs_simulation.simulators.interfaces.SimulatorI;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>CompiledArchitecture</code> implements a construction plan
+ * computed once from a complete simulation architecture and then used to
+ * create as many independent simulators as needed, <i>e.g.</i>, for parameter
+ * sweeps or replications.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * <code>Architecture#constructSimulator</code> interprets the architecture
+ * description each time it is called: it computes a topological sort of the
+ * model hierarchy, looks up the model descriptors in maps and gathers the
+ * submodels of each coupled model through a map from model URIs to the created
+ * models. Moreover, as model factories keep the creation parameters set by
+ * the model descriptors, the same architecture cannot create two simulators
+ * with fresh simulation engines.
+ * </p>
+ * <p>
+ * A compiled architecture performs the checks, the topological sort and the
+ * resolution of the descriptors and of the parent-child relationships once
+ * and for all in its constructor, keeping the result in arrays indexed by the
+ * position of the models in the topological order. The method
+ * <code>newSimulator</code> then only walks these arrays, resetting the
+ * creation parameters of the factories before calling the descriptors to
+ * create the models, hence each call returns a new independent simulator
+ * ready to be initialised and run.
+ * </p>
+ * <p>
+ * The architecture given to the constructor must not be modified afterwards,
+ * otherwise the construction plan will no longer be consistent with it.
+ * </p>
+ * 
+ * <p><strong>White-box Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code architecture != null && architecture.isComplete()}
+ * invariant	{@code architecture.isModel(modelURI)}
+ * invariant	{@code atomicDescriptors.length == coupledDescriptors.length}
+ * invariant	{@code atomicDescriptors.length == childrenIndexes.length}
+ * </pre>
+ * 
+ * <p><strong>Black-box Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code true}	// no more invariant
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			CompiledArchitecture
+{
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** the architecture from which the construction plan is compiled.		*/
+	protected final ArchitectureI						architecture;
+	/** URI of the model at the root of the simulators to be created.		*/
+	protected final String								modelURI;
+	/** descriptors of the atomic models in topological order, null at the
+	 *  positions of coupled models.										*/
+	protected final AbstractAtomicModelDescriptor[]		atomicDescriptors;
+	/** descriptors of the coupled models in topological order, null at the
+	 *  positions of atomic models.										*/
+	protected final CoupledModelDescriptor[]			coupledDescriptors;
+	/** for coupled models, positions of their submodels in the topological
+	 *  order, in the iteration order of their descriptor; null for atomic
+	 *  models.															*/
+	protected final int[][]								childrenIndexes;
+	/** position of the model <code>modelURI</code> in the topological
+	 *  order.																*/
+	protected final int									rootIndex;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create a compiled architecture for the whole model hierarchy of
+	 * <code>architecture</code>.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code architecture != null && architecture.isComplete()}
+	 * post	{@code getModelURI().equals(architecture.getRootModelURI())}
+	 * </pre>
+	 *
+	 * @param architecture	a complete simulation architecture.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	public				CompiledArchitecture(ArchitectureI architecture)
+	throws Exception
+	{
+		this(architecture, architecture.getRootModelURI());
+	}
+
+	/**
+	 * create a compiled architecture for the model hierarchy of
+	 * <code>architecture</code> rooted at the model <code>modelURI</code>.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code architecture != null && architecture.isComplete()}
+	 * pre	{@code modelURI != null && architecture.isModel(modelURI)}
+	 * post	{@code getModelURI().equals(modelURI)}
+	 * </pre>
+	 *
+	 * @param architecture	a complete simulation architecture.
+	 * @param modelURI		URI of the model at the root of the simulators to be created.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	public				CompiledArchitecture(
+		ArchitectureI architecture,
+		String modelURI
+		) throws Exception
+	{
+		assert	architecture != null && architecture.isComplete() :
+				new AssertionError("Precondition violation: "
+						+ "architecture != null && architecture.isComplete()");
+		assert	modelURI != null && architecture.isModel(modelURI) :
+				new AssertionError("Precondition violation: "
+						+ "modelURI != null && architecture.isModel(modelURI)");
+
+		this.architecture = architecture;
+		this.modelURI = modelURI;
+
+		List<String> order = architecture.topologicalSort(modelURI);
+		int n = order.size();
+		this.atomicDescriptors = new AbstractAtomicModelDescriptor[n];
+		this.coupledDescriptors = new CoupledModelDescriptor[n];
+		this.childrenIndexes = new int[n][];
+		Map<String,Integer> positions = new HashMap<String,Integer>();
+		for (int i = 0 ; i < n ; i++) {
+			String uri = order.get(i);
+			ModelDescriptorI d = architecture.getModelDescriptor(uri);
+			if (d.isCoupledModelDescriptor()) {
+				CoupledModelDescriptor cd = (CoupledModelDescriptor) d;
+				this.coupledDescriptors[i] = cd;
+				// the topological sort puts submodels before their parent
+				int[] children = new int[cd.submodelURIs.size()];
+				int j = 0;
+				for (String childURI : cd.submodelURIs) {
+					children[j++] = positions.get(childURI);
+				}
+				this.childrenIndexes[i] = children;
+			} else {
+				this.atomicDescriptors[i] = (AbstractAtomicModelDescriptor) d;
+			}
+			positions.put(uri, i);
+		}
+		this.rootIndex = positions.get(modelURI);
+
+		assert	this.getModelURI().equals(modelURI) :
+				new AssertionError("Postcondition violation: "
+								   + "getModelURI().equals(modelURI)");
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return the architecture from which this construction plan has been
+	 * compiled.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @return	the architecture from which this construction plan has been compiled.
+	 */
+	public ArchitectureI	getArchitecture()
+	{
+		return this.architecture;
+	}
+
+	/**
+	 * return the URI of the model at the root of the created simulators.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @return	the URI of the model at the root of the created simulators.
+	 */
+	public String		getModelURI()
+	{
+		return this.modelURI;
+	}
+
+	/**
+	 * return the number of models created by each call to
+	 * <code>newSimulator</code>.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code ret > 0}
+	 * </pre>
+	 *
+	 * @return	the number of models created by each call to <code>newSimulator</code>.
+	 */
+	public int			numberOfModels()
+	{
+		return this.atomicDescriptors.length;
+	}
+
+	/**
+	 * create a new simulator, independent from the ones previously created,
+	 * by executing the construction plan.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @return	a new simulator for the model {@code getModelURI()}.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	public synchronized SimulatorI	newSimulator() throws Exception
+	{
+		// The factories held by the descriptors are shared among all of the
+		// creations, hence the method is synchronized and their creation
+		// parameters are reset before each use.
+		int n = this.atomicDescriptors.length;
+		ModelI[] created = new ModelI[n];
+		for (int i = 0 ; i < n ; i++) {
+			if (this.atomicDescriptors[i] != null) {
+				AbstractAtomicModelDescriptor d = this.atomicDescriptors[i];
+				AtomicModelFactoryI f = d.amFactory;
+				f.unsetAtomicModelCreationParameters();
+				f.setAtomicModelCreationParameters(
+						d.modelURI, d.simulatedTimeUnit, f.createAtomicEngine());
+				created[i] = d.createAtomicModel();
+			} else {
+				CoupledModelDescriptor d = this.coupledDescriptors[i];
+				// descriptors always hold a factory, a standard one being
+				// substituted at creation when none is given, as
+				// createCoupledModel relies upon.
+				d.cmFactory.unsetCoupledModelCreationParameters();
+				int[] children = this.childrenIndexes[i];
+				ModelI[] submodels = new ModelI[children.length];
+				for (int j = 0 ; j < children.length ; j++) {
+					submodels[j] = created[children[j]];
+				}
+				created[i] = d.createCoupledModel(submodels);
+			}
+		}
+		return created[this.rootIndex].getSimulationEngine();
+	}
+}
+// -----------------------------------------------------------------------------
@@ -585,6 +585,173 @@ public class			IncrementallyInterpolatedFunction
 		return this.findPiece(t).firstDerivative(t);
 	}
 
+	/**
+	 * return the index of the piece to be used to evaluate the function at
+	 * {@code t}, <i>i.e.</i>, the first piece which interval does not end
+	 * before {@code t} or the last piece if {@code t} is after all pieces.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code !isEmpty()}
+	 * post	{@code ret >= 0 && ret < pieces.size()}
+	 * </pre>
+	 *
+	 * @param t	parameter which evaluation piece must be found.
+	 * @return	the index of the piece to be used to evaluate the function at {@code t}.
+	 */
+	protected int		findPieceIndex(double t)
+	{
+		assert	!this.isEmpty() :
+				new AssertionError("Precondition violation: !isEmpty()");
+
+		int first = 0;
+		int last = this.pieces.size() - 1;
+		while (first < last) {
+			int probe = (first + last) >>> 1;
+			if (this.pieces.get(probe).after(t)) {
+				first = probe + 1;
+			} else {
+				last = probe;
+			}
+		}
+		return first;
+	}
+
+	/**
+	 * compute in {@code results[i]} the value of the function at
+	 * {@code ts[i]} for all {@code i} in {@code [0, ts.length)}.
+	 * 
+	 * <p><strong>Description</strong></p>
+	 * 
+	 * <p>
+	 * As the times are sorted, the pieces are found by a single forward
+	 * traversal starting from the piece of {@code ts[0]} rather than by a
+	 * search for each time, and the values of the times falling in the same
+	 * piece are computed in one loop by the piece polynomial. No object is
+	 * allocated, so the method can be used to resample the function at a
+	 * large number of times, typically regularly spaced, for reporting and
+	 * plotting.
+	 * </p>
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code !isEmpty()}
+	 * pre	{@code ts != null && results != null && results.length >= ts.length}
+	 * pre	{@code ts} is sorted in increasing order.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param ts		the sorted parameters for which the value of the function is computed.
+	 * @param results	array receiving the values of the function, interpolated or extrapolated, at the same indexes as the parameters.
+	 */
+	public void			values(double[] ts, double[] results)
+	{
+		assert	!this.isEmpty() :
+				new AssertionError("Precondition violation: !isEmpty()");
+		assert	ts != null && results != null && results.length >= ts.length :
+				new AssertionError("Precondition violation: ts != null && "
+						+ "results != null && results.length >= ts.length");
+		assert	isSorted(ts) :
+				new AssertionError("Precondition violation: ts is sorted.");
+
+		int n = ts.length;
+		if (n == 0) {
+			return;
+		}
+		int last = this.pieces.size() - 1;
+		int p = this.findPieceIndex(ts[0]);
+		int i = 0;
+		while (i < n) {
+			Piece piece = this.pieces.get(p);
+			int j = n;
+			if (p < last) {
+				j = i;
+				double end = piece.getInterval().getEnd();
+				while (j < n && ts[j] <= end) {
+					j++;
+				}
+			}
+			piece.values(ts, i, j, results);
+			i = j;
+			p++;
+		}
+	}
+
+	/**
+	 * compute in {@code results[i]} the first derivative of the function at
+	 * {@code ts[i]} for all {@code i} in {@code [0, ts.length)}, using the
+	 * same single forward traversal of the pieces as <code>values</code>.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code !isEmpty()}
+	 * pre	{@code ts != null && results != null && results.length >= ts.length}
+	 * pre	{@code ts} is sorted in increasing order.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param ts		the sorted parameters for which the first derivative of the function is computed.
+	 * @param results	array receiving the first derivatives of the function, interpolated or extrapolated, at the same indexes as the parameters.
+	 */
+	public void			firstDerivatives(double[] ts, double[] results)
+	{
+		assert	!this.isEmpty() :
+				new AssertionError("Precondition violation: !isEmpty()");
+		assert	ts != null && results != null && results.length >= ts.length :
+				new AssertionError("Precondition violation: ts != null && "
+						+ "results != null && results.length >= ts.length");
+		assert	isSorted(ts) :
+				new AssertionError("Precondition violation: ts is sorted.");
+
+		int n = ts.length;
+		if (n == 0) {
+			return;
+		}
+		int last = this.pieces.size() - 1;
+		int p = this.findPieceIndex(ts[0]);
+		int i = 0;
+		while (i < n) {
+			Piece piece = this.pieces.get(p);
+			int j = n;
+			if (p < last) {
+				j = i;
+				double end = piece.getInterval().getEnd();
+				while (j < n && ts[j] <= end) {
+					j++;
+				}
+			}
+			piece.firstDerivatives(ts, i, j, results);
+			i = j;
+			p++;
+		}
+	}
+
+	/**
+	 * return true if {@code ts} is sorted in increasing order.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code ts != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param ts	array to be tested.
+	 * @return		true if {@code ts} is sorted in increasing order.
+	 */
+	protected static boolean	isSorted(double[] ts)
+	{
+		for (int i = 1 ; i < ts.length ; i++) {
+			if (ts[i] < ts[i - 1]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * @see java.lang.Object#toString()
 	 */
@@ -264,6 +264,100 @@ public class			Piece
 		}
 	}
 
+	/**
+	 * put in {@code results[i]} the value of the function at {@code ts[i]},
+	 * for all {@code i} in {@code [from, to)}, interpolated by the polynomial
+	 * but linearly extrapolated if outside the interval.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code ts != null && results != null}
+	 * pre	{@code 0 <= from && from <= to && to <= ts.length && to <= results.length}
+	 * pre	{@code ts} is sorted in increasing order between {@code from} and {@code to}.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param ts		times at which the function must be evaluated.
+	 * @param from		index of the first time to be used.
+	 * @param to		index following the last time to be used.
+	 * @param results	array receiving the values of the function at the same indexes as the times.
+	 */
+	public void			values(double[] ts, int from, int to, double[] results)
+	{
+		// as the times are sorted, the extrapolated ones are at both ends
+		int i = from;
+		if (i < to && this.interval.before(ts[i])) {
+			double b = this.interval.getBegin();
+			double bv = this.interval.getBeginValue();
+			double d = this.polynomial.firstDerivative(b);
+			while (i < to && this.interval.before(ts[i])) {
+				results[i] = bv + d * (ts[i] - b);
+				i++;
+			}
+		}
+		int j = i;
+		while (j < to && !this.interval.after(ts[j])) {
+			j++;
+		}
+		this.polynomial.valuesOf(ts, i, j, results);
+		if (j < to) {
+			double e = this.interval.getEnd();
+			double ev = this.interval.getEndValue();
+			double d = this.polynomial.firstDerivative(e);
+			for (int k = j ; k < to ; k++) {
+				results[k] = ev + d * (ts[k] - e);
+			}
+		}
+	}
+
+	/**
+	 * put in {@code results[i]} the first derivative of the function at
+	 * {@code ts[i]}, for all {@code i} in {@code [from, to)}, interpolated by
+	 * the polynomial but linearly extrapolated if outside the interval.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code ts != null && results != null}
+	 * pre	{@code 0 <= from && from <= to && to <= ts.length && to <= results.length}
+	 * pre	{@code ts} is sorted in increasing order between {@code from} and {@code to}.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param ts		times at which the first derivative must be evaluated.
+	 * @param from		index of the first time to be used.
+	 * @param to		index following the last time to be used.
+	 * @param results	array receiving the first derivatives of the function at the same indexes as the times.
+	 */
+	public void			firstDerivatives(
+		double[] ts,
+		int from,
+		int to,
+		double[] results
+		)
+	{
+		int i = from;
+		if (i < to && this.interval.before(ts[i])) {
+			double d = this.polynomial.firstDerivative(
+												this.interval.getBegin());
+			while (i < to && this.interval.before(ts[i])) {
+				results[i++] = d;
+			}
+		}
+		int j = i;
+		while (j < to && !this.interval.after(ts[j])) {
+			j++;
+		}
+		this.polynomial.firstDerivatives(ts, i, j, results);
+		if (j < to) {
+			double d = this.polynomial.firstDerivative(this.interval.getEnd());
+			for (int k = j ; k < to ; k++) {
+				results[k] = d;
+			}
+		}
+	}
+
 	/**
 	 * return true if {@code v} is equal to the evaluation of of the function
 	 * represented by this piece at {@code t}; makes possible to define some
@@ -32,6 +32,7 @@ package fr.sorbonne_u.devs_simulation.hioa.models.vars.histories;
 // The fact that you are presently reading this means that you have had
 // knowledge of the CeCILL-C license and that you accept its terms.
 
+import java.util.concurrent.TimeUnit;
 import fr.sorbonne_u.devs_simulation.models.time.Duration;
 import fr.sorbonne_u.devs_simulation.models.time.Time;
 import fr.sorbonne_u.devs_simulation.hioa.models.vars.DerivableValue;
@@ -319,6 +320,45 @@ extends		ValueHistory<Double>
 		}
 	}
 
+	/**
+	 * evaluate the value function at the simulated times {@code ts}, sorted
+	 * in increasing order and expressed in the time unit of the history,
+	 * putting the value at {@code ts[i]} in {@code results[i]}; the
+	 * interpolation/extrapolation scheme is the same as the one of
+	 * <code>evaluateAt</code> but the values are computed in one pass over
+	 * the pieces of the function without allocating objects.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code getCurrentSize() > 0}
+	 * pre	{@code ts != null && results != null && results.length >= ts.length}
+	 * pre	{@code ts} is sorted in increasing order.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param ts		sorted simulated times at which the value function must be evaluated.
+	 * @param results	array receiving the values at the same indexes as the times.
+	 */
+	public void			evaluateAt(double[] ts, double[] results)
+	{
+		assert	ts != null && results != null && results.length >= ts.length :
+				new AssertionError("Precondition violation: ts != null && "
+						+ "results != null && results.length >= ts.length");
+		assert	this.getCurrentSize() > 0 :
+				new AssertionError("Precondition violation: "
+												+ "getCurrentSize() > 0");
+
+		if (this.function.isEmpty()) {
+			TimeUnit tu = this.getTimeUnit();
+			for (int i = 0 ; i < ts.length ; i++) {
+				results[i] = super.evaluateAt(new Time(ts[i], tu));
+			}
+		} else {
+			this.function.values(ts, results);
+		}
+	}
+
 	/**
 	 * @see fr.sorbonne_u.devs_simulation.hioa.models.vars.histories.ValueHistory#content2String(java.lang.StringBuffer)
 	 */
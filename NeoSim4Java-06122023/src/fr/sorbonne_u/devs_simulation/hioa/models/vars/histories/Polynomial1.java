@@ -112,6 +112,36 @@ implements	PolynomialI
 		return c1;
 	}
 
+	/**
+	 * @see fr.sorbonne_u.devs_simulation.hioa.models.vars.histories.PolynomialI#valuesOf(double[], int, int, double[])
+	 */
+	@Override
+	public void			valuesOf(double[] ts, int from, int to, double[] results)
+	{
+		final double a0 = this.c0;
+		final double a1 = this.c1;
+		for (int i = from ; i < to ; i++) {
+			results[i] = a0 + a1*ts[i];
+		}
+	}
+
+	/**
+	 * @see fr.sorbonne_u.devs_simulation.hioa.models.vars.histories.PolynomialI#firstDerivatives(double[], int, int, double[])
+	 */
+	@Override
+	public void			firstDerivatives(
+		double[] ts,
+		int from,
+		int to,
+		double[] results
+		)
+	{
+		final double a1 = this.c1;
+		for (int i = from ; i < to ; i++) {
+			results[i] = a1;
+		}
+	}
+
 	/**
 	 * @see java.lang.Object#toString()
 	 */
@@ -126,6 +126,42 @@ implements	PolynomialI
 		return (3.0*c3*t + 2.0*c2)*t + c1;
 	}
 
+	/**
+	 * @see fr.sorbonne_u.devs_simulation.hioa.models.vars.histories.PolynomialI#valuesOf(double[], int, int, double[])
+	 */
+	@Override
+	public void			valuesOf(double[] ts, int from, int to, double[] results)
+	{
+		final double a0 = this.c0;
+		final double a1 = this.c1;
+		final double a2 = this.c2;
+		final double a3 = this.c3;
+		for (int i = from ; i < to ; i++) {
+			final double t = ts[i];
+			results[i] = ((a3*t + a2)*t + a1)*t + a0;
+		}
+	}
+
+	/**
+	 * @see fr.sorbonne_u.devs_simulation.hioa.models.vars.histories.PolynomialI#firstDerivatives(double[], int, int, double[])
+	 */
+	@Override
+	public void			firstDerivatives(
+		double[] ts,
+		int from,
+		int to,
+		double[] results
+		)
+	{
+		final double a1 = this.c1;
+		final double a2 = 2.0*this.c2;
+		final double a3 = 3.0*this.c3;
+		for (int i = from ; i < to ; i++) {
+			final double t = ts[i];
+			results[i] = (a3*t + a2)*t + a1;
+		}
+	}
+
 	/**
 	 * @see java.lang.Object#toString()
 	 */
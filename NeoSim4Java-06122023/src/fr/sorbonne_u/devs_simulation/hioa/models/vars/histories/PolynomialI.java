@@ -86,6 +86,66 @@ public interface		PolynomialI
 	 */
 	public double		firstDerivative(double t);
 
+	/**
+	 * put in {@code results[i]} the value of the polynomial for the parameter
+	 * {@code ts[i]}, for all {@code i} in {@code [from, to)}.
+	 * 
+	 * <p>
+	 * The default implementation calls <code>valueOf</code> for each
+	 * parameter; implementations should redefine it with a loop reading the
+	 * coefficients from local variables and making no call, which the JIT
+	 * compiler can vectorise.
+	 * </p>
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code ts != null && results != null}
+	 * pre	{@code 0 <= from && from <= to && to <= ts.length && to <= results.length}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param ts		actual parameters of the polynomial.
+	 * @param from		index of the first parameter to be used.
+	 * @param to		index following the last parameter to be used.
+	 * @param results	array receiving the values of the polynomial at the same indexes as the parameters.
+	 */
+	default void		valuesOf(double[] ts, int from, int to, double[] results)
+	{
+		for (int i = from ; i < to ; i++) {
+			results[i] = this.valueOf(ts[i]);
+		}
+	}
+
+	/**
+	 * put in {@code results[i]} the first derivative of the polynomial for
+	 * the parameter {@code ts[i]}, for all {@code i} in {@code [from, to)}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code ts != null && results != null}
+	 * pre	{@code 0 <= from && from <= to && to <= ts.length && to <= results.length}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param ts		actual parameters of the polynomial.
+	 * @param from		index of the first parameter to be used.
+	 * @param to		index following the last parameter to be used.
+	 * @param results	array receiving the first derivatives of the polynomial at the same indexes as the parameters.
+	 */
+	default void		firstDerivatives(
+		double[] ts,
+		int from,
+		int to,
+		double[] results
+		)
+	{
+		for (int i = from ; i < to ; i++) {
+			results[i] = this.firstDerivative(ts[i]);
+		}
+	}
+
 	/**
 	 * return true if {@code v} is equal to the evaluation of this polynomial
 	 * at {@code t}; makes possible to define some tolerance on the comparison.
@@ -117,6 +117,17 @@ implements	AtomicModelFactoryI,
 		return this.modelURI != null && this.simulatedTimeUnit != null;
 	}
 
+	/**
+	 * @see fr.sorbonne_u.devs_simulation.models.interfaces.AtomicModelFactoryI#unsetAtomicModelCreationParameters()
+	 */
+	@Override
+	public void			unsetAtomicModelCreationParameters()
+	{
+		this.modelURI = null;
+		this.simulatedTimeUnit = null;
+		this.simulationEngine = null;
+	}
+
 	/**
 	 * @see fr.sorbonne_u.devs_simulation.models.interfaces.AtomicModelFactoryI#createAtomicEngine()
 	 */
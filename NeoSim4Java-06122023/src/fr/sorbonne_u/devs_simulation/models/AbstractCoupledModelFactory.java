@@ -180,6 +180,23 @@ implements	CoupledModelFactoryI,
 				&& this.bindings != null;
 	}
 
+	/**
+	 * @see fr.sorbonne_u.devs_simulation.models.interfaces.CoupledModelFactoryI#unsetCoupledModelCreationParameters()
+	 */
+	@Override
+	public void			unsetCoupledModelCreationParameters()
+	{
+		this.models = null;
+		this.modelURI = null;
+		this.se = null;
+		this.imported = null;
+		this.reexported = null;
+		this.connections = null;
+		this.importedVars = null;
+		this.reexportedVars = null;
+		this.bindings = null;
+	}
+
 	/**
 	 * @see fr.sorbonne_u.devs_simulation.models.interfaces.CoupledModelFactoryI#createCoordinationEngine()
 	 */
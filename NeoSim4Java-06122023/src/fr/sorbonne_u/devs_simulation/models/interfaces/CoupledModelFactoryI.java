@@ -134,6 +134,21 @@ extends		Serializable
 	 */
 	public boolean		modelParametersSet();
 
+	/**
+	 * unset the creation parameters so that new ones can be set to create
+	 * another model instance <i>e.g.</i>, when the same architecture is
+	 * used to create several simulators.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code !modelParametersSet()}
+	 * </pre>
+	 *
+	 */
+	public void			unsetCoupledModelCreationParameters();
+
 	/**
 	 * create a coupled model from the already set creation parameters.
 	 * 
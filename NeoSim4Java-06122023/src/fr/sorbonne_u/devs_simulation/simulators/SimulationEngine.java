@@ -41,6 +41,7 @@ import fr.sorbonne_u.devs_simulation.models.time.Duration;
 import fr.sorbonne_u.devs_simulation.models.time.Time;
 import fr.sorbonne_u.devs_simulation.simulators.interfaces.CoordinatorI;
 import fr.sorbonne_u.devs_simulation.simulators.interfaces.MessageLoggingI;
+import fr.sorbonne_u.devs_simulation.simulators.interfaces.RunControllerI;
 import fr.sorbonne_u.devs_simulation.simulators.interfaces.SimulationReportI;
 import fr.sorbonne_u.devs_simulation.simulators.interfaces.SimulatorI;
 import fr.sorbonne_u.devs_simulation.utils.Pair;
@@ -66,6 +67,11 @@ import fr.sorbonne_u.devs_simulation.utils.Pair;
  * simulation time. Simulations end either by reaching their end simulation
  * time or by calling <code>stopSimulation</code>.
  * </p>
+ * <p>
+ * Stand alone simulation runs can also be terminated before their end time by
+ * a run controller (see <code>RunControllerI</code>) set on the simulation
+ * engine of the root model by calling <code>setRunController</code>.
+ * </p>
  * 
  * <p>
  * The implementation provided here follows the spirit of the description
@@ -158,6 +164,9 @@ implements	SimulatorI,
 	protected Duration				nextTimeAdvance;
 	/** sleep time slowing down the simulation steps for demos.		 		*/
 	public static long				SIMULATION_STEP_SLEEP_TIME = 0L;
+	/** controller that may terminate stand alone runs before their end
+	 *  time or null if none.												*/
+	protected RunControllerI		runController;
 
 	// Logging, tracing and debugging
 
@@ -211,6 +220,7 @@ implements	SimulatorI,
 		this.timeOfLastEvent = null;
 		this.timeOfNextEvent = null;
 		this.nextTimeAdvance = null;
+		this.runController = null;
 		this.debugLevel = 0;
 	}
 
@@ -507,8 +517,20 @@ implements	SimulatorI,
 			System.out.println("------------------------------------------"
 							   + "--------------------------------------");
 		}
+		Time endTime = this.simulationEndTime;
+		if (this.runController != null) {
+			this.runController.startRun(this.simulationStartTime,
+										this.simulationEndTime);
+		}
 		while (!this.stoppedSimulation && this.timeOfNextEvent != null &&
 				this.timeOfNextEvent.lessThanOrEqual(this.simulationEndTime)) {
+			if (this.runController != null &&
+					this.runController.terminationReached(
+													this.timeOfNextEvent)) {
+				endTime = this.runController.getTerminationTime();
+				this.stoppedSimulation = true;
+				break;
+			}
 			this.produceOutput(this.timeOfNextEvent);
 			this.internalEventStep();
 			if (this.hasDebugLevel(2)) {
@@ -526,7 +548,51 @@ implements	SimulatorI,
 								+ "---------------------------------------");
 			}
 		}
-		this.endSimulation(this.simulationEndTime);
+		this.endSimulation(endTime);
+		if (this.runController != null) {
+			this.runController.endRun(endTime);
+		}
+	}
+
+	/**
+	 * set the controller that may terminate the stand alone simulation runs
+	 * before their end time or remove it if <code>runController</code> is
+	 * null.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code !isSimulationRunning()}
+	 * post	{@code getRunController() == runController}
+	 * </pre>
+	 *
+	 * @param runController	controller of the stand alone simulation runs or null if none.
+	 */
+	public void			setRunController(RunControllerI runController)
+	{
+		assert	!this.isSimulationRunning() :
+				new AssertionError("Precondition violation: "
+												+ "!isSimulationRunning()");
+
+		this.runController = runController;
+	}
+
+	/**
+	 * return the controller of the stand alone simulation runs or null if
+	 * none.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @return	the controller of the stand alone simulation runs or null if none.
+	 */
+	public RunControllerI	getRunController()
+	{
+		return this.runController;
 	}
 
 	/**
@@ -0,0 +1,743 @@
+package fr.sorbonne_u.devs_simulation.simulators;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a new
+// implementation of the DEVS simulation <i>de facto</i> standard for Java.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.commons.math3.distribution.TDistribution;
+import fr.sorbonne_u.devs_simulation.models.time.Duration;
+import fr.sorbonne_u.devs_simulation.models.time.Time;
+import fr.sorbonne_u.devs_simulation.simulators.interfaces.RunControllerI;
+import fr.sorbonne_u.devs_simulation.simulators.interfaces.RunMetricI;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>StatisticalRunController</code> implements a run controller
+ * that terminates a simulation run as soon as the steady-state means of a set
+ * of user-declared output metrics are estimated with a requested precision.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * The metrics, declared by <code>addMetric</code>, are observed at each
+ * sampling time <code>startTime + k * samplingPeriod</code>, for
+ * {@code k > 0}, during the run. The means are estimated by the method of
+ * <i>batch means</i>: the observations are divided into a fixed number of
+ * contiguous batches, which means are considered as approximately independent
+ * and normally distributed when the batches are large enough; a Student
+ * confidence interval is then computed from the batch means. The run is
+ * terminated when, for all of the metrics, the half-width of the confidence
+ * interval is less than or equal to the requested relative precision times
+ * the absolute value of the estimated mean. As batch means that are all
+ * equal, for example when a metric has stayed at 0 since the beginning of
+ * the run, tell nothing about the variability of the metric, a null
+ * half-width never terminates the run.
+ * </p>
+ * <p>
+ * As the observations made during the warm-up period of the simulation bias
+ * the estimation, the controller can apply the MSER-5 rule (Marginal Standard
+ * Error Rule, White 1997, applied to the means of batches of 5 observations)
+ * to choose the number of initial observations to be discarded; when the
+ * truncation point found is in the second half of the observations, the
+ * steady state is considered as not yet reached and the run goes on. Without
+ * steady-state detection, all of the observations are used.
+ * </p>
+ * <p>
+ * To bound the cost of the estimations, they are performed only when the
+ * number of observations has grown by a factor
+ * <code>EVALUATION_GROWTH_FACTOR</code> (and by at least the number of
+ * batches) since the previous estimation. If the run reaches its end time
+ * before the precision is met, a last estimation is done with all of the
+ * observations and <code>isConverged</code> returns false; the run end time
+ * must therefore be set as an upper bound of the acceptable run duration.
+ * </p>
+ * <p>
+ * The controller is reinitialised at the beginning of each run, so the same
+ * controller can be used to perform replications, the estimates of each run
+ * being retrieved after its end.
+ * </p>
+ * 
+ * <p><strong>White-box Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code samplingPeriod != null}
+ * invariant	{@code confidenceLevel > 0.0 && confidenceLevel < 1.0}
+ * invariant	{@code relativePrecision > 0.0}
+ * invariant	{@code numberOfBatches > 1 && minimumBatchSize > 0}
+ * invariant	{@code metricNames.size() == metrics.size()}
+ * </pre>
+ * 
+ * <p><strong>Black-box Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code DEFAULT_NUMBER_OF_BATCHES > 1}
+ * invariant	{@code DEFAULT_MINIMUM_BATCH_SIZE > 0}
+ * invariant	{@code EVALUATION_GROWTH_FACTOR > 1.0}
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			StatisticalRunController
+implements	RunControllerI
+{
+	// -------------------------------------------------------------------------
+	// Inner types and classes
+	// -------------------------------------------------------------------------
+
+	/**
+	 * The enumeration <code>SteadyStateDetection</code> lists the methods
+	 * used to discard the observations made during the warm-up period.
+	 *
+	 * <p>Created on : 2026-10-19</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	public static enum	SteadyStateDetection
+	{
+		/** all of the observations are used.								*/
+		NONE,
+		/** the initial observations are truncated using the MSER-5 rule.	*/
+		MSER5
+	}
+
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** default number of batches used by the batch means method.			*/
+	public static final int		DEFAULT_NUMBER_OF_BATCHES = 20;
+	/** default minimum number of observations in each batch.				*/
+	public static final int		DEFAULT_MINIMUM_BATCH_SIZE = 5;
+	/** factor by which the number of observations must grow between two
+	 *  successive estimations.											*/
+	public static double		EVALUATION_GROWTH_FACTOR = 1.05;
+	/** size of the batches used by the MSER-5 rule.						*/
+	protected static final int	MSER_BATCH_SIZE = 5;
+
+	/** period between two successive observations of the metrics.			*/
+	protected final Duration				samplingPeriod;
+	/** confidence level of the confidence intervals.						*/
+	protected final double					confidenceLevel;
+	/** requested half-width of the confidence intervals relative to the
+	 *  absolute value of the estimated means.								*/
+	protected final double					relativePrecision;
+	/** method used to discard the warm-up observations.					*/
+	protected final SteadyStateDetection	detection;
+	/** number of batches used by the batch means method.					*/
+	protected final int						numberOfBatches;
+	/** minimum number of observations in each batch.						*/
+	protected final int						minimumBatchSize;
+	/** quantile of the Student distribution with {@code numberOfBatches-1}
+	 *  degrees of freedom for the confidence level.						*/
+	protected final double					studentQuantile;
+	/** names of the metrics.												*/
+	protected final List<String>			metricNames;
+	/** metrics observed during the runs.									*/
+	protected final List<RunMetricI>		metrics;
+
+	// Run time information
+
+	/** time at which the current run started.								*/
+	protected Time							startTime;
+	/** time at which the current run ends if not terminated before.		*/
+	protected Time							endTime;
+	/** time of the next observation of the metrics.						*/
+	protected Time							nextSamplingTime;
+	/** time at which the run must be terminated or null if not reached.	*/
+	protected Time							terminationTime;
+	/** observations of the metrics, indexed by metric then by sample.	*/
+	protected double[][]					observations;
+	/** number of observations made for each of the metrics.				*/
+	protected int							numberOfObservations;
+	/** number of observations at which the next estimation is done.		*/
+	protected int							nextEstimation;
+	/** estimated means of the metrics.										*/
+	protected double[]						means;
+	/** half-widths of the confidence intervals of the metrics.			*/
+	protected double[]						halfWidths;
+	/** number of discarded warm-up observations for each metric.			*/
+	protected int[]							truncations;
+	/** true if the precision has been met for all of the metrics.			*/
+	protected boolean						converged;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create a statistical run controller using the default number and
+	 * minimum size of batches.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code samplingPeriod != null && samplingPeriod.getSimulatedDuration() > 0.0}
+	 * pre	{@code confidenceLevel > 0.0 && confidenceLevel < 1.0}
+	 * pre	{@code relativePrecision > 0.0}
+	 * pre	{@code detection != null}
+	 * post	{@code !isConverged()}
+	 * </pre>
+	 *
+	 * @param samplingPeriod	period between two successive observations of the metrics.
+	 * @param confidenceLevel	confidence level of the confidence intervals, <i>e.g.</i>, 0.95.
+	 * @param relativePrecision	requested half-width of the confidence intervals relative to the estimated means, <i>e.g.</i>, 0.05.
+	 * @param detection			method used to discard the warm-up observations.
+	 */
+	public				StatisticalRunController(
+		Duration samplingPeriod,
+		double confidenceLevel,
+		double relativePrecision,
+		SteadyStateDetection detection
+		)
+	{
+		this(samplingPeriod, confidenceLevel, relativePrecision, detection,
+			 DEFAULT_NUMBER_OF_BATCHES, DEFAULT_MINIMUM_BATCH_SIZE);
+	}
+
+	/**
+	 * create a statistical run controller.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code samplingPeriod != null && samplingPeriod.getSimulatedDuration() > 0.0}
+	 * pre	{@code confidenceLevel > 0.0 && confidenceLevel < 1.0}
+	 * pre	{@code relativePrecision > 0.0}
+	 * pre	{@code detection != null}
+	 * pre	{@code numberOfBatches > 1}
+	 * pre	{@code minimumBatchSize > 0}
+	 * post	{@code !isConverged()}
+	 * </pre>
+	 *
+	 * @param samplingPeriod	period between two successive observations of the metrics.
+	 * @param confidenceLevel	confidence level of the confidence intervals, <i>e.g.</i>, 0.95.
+	 * @param relativePrecision	requested half-width of the confidence intervals relative to the estimated means, <i>e.g.</i>, 0.05.
+	 * @param detection			method used to discard the warm-up observations.
+	 * @param numberOfBatches	number of batches used by the batch means method.
+	 * @param minimumBatchSize	minimum number of observations in each batch.
+	 */
+	public				StatisticalRunController(
+		Duration samplingPeriod,
+		double confidenceLevel,
+		double relativePrecision,
+		SteadyStateDetection detection,
+		int numberOfBatches,
+		int minimumBatchSize
+		)
+	{
+		assert	samplingPeriod != null &&
+							samplingPeriod.getSimulatedDuration() > 0.0 :
+				new AssertionError("Precondition violation: "
+						+ "samplingPeriod != null && "
+						+ "samplingPeriod.getSimulatedDuration() > 0.0");
+		assert	confidenceLevel > 0.0 && confidenceLevel < 1.0 :
+				new AssertionError("Precondition violation: "
+						+ "confidenceLevel > 0.0 && confidenceLevel < 1.0");
+		assert	relativePrecision > 0.0 :
+				new AssertionError("Precondition violation: "
+						+ "relativePrecision > 0.0");
+		assert	detection != null :
+				new AssertionError("Precondition violation: detection != null");
+		assert	numberOfBatches > 1 :
+				new AssertionError("Precondition violation: "
+						+ "numberOfBatches > 1");
+		assert	minimumBatchSize > 0 :
+				new AssertionError("Precondition violation: "
+						+ "minimumBatchSize > 0");
+
+		this.samplingPeriod = samplingPeriod;
+		this.confidenceLevel = confidenceLevel;
+		this.relativePrecision = relativePrecision;
+		this.detection = detection;
+		this.numberOfBatches = numberOfBatches;
+		this.minimumBatchSize = minimumBatchSize;
+		this.studentQuantile =
+			new TDistribution(numberOfBatches - 1).
+				inverseCumulativeProbability(1.0 - (1.0 - confidenceLevel)/2.0);
+		this.metricNames = new ArrayList<String>();
+		this.metrics = new ArrayList<RunMetricI>();
+		this.converged = false;
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * add a metric to be observed during the runs.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code name != null && !name.isEmpty()}
+	 * pre	{@code !getMetricNames().contains(name)}
+	 * pre	{@code metric != null}
+	 * post	{@code getMetricNames().contains(name)}
+	 * </pre>
+	 *
+	 * @param name		name of the metric.
+	 * @param metric	metric to be observed.
+	 */
+	public void			addMetric(String name, RunMetricI metric)
+	{
+		assert	name != null && !name.isEmpty() :
+				new AssertionError("Precondition violation: "
+						+ "name != null && !name.isEmpty()");
+		assert	!this.metricNames.contains(name) :
+				new AssertionError("Precondition violation: "
+						+ "!getMetricNames().contains(name)");
+		assert	metric != null :
+				new AssertionError("Precondition violation: metric != null");
+
+		this.metricNames.add(name);
+		this.metrics.add(metric);
+	}
+
+	/**
+	 * return the names of the observed metrics.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @return	the names of the observed metrics.
+	 */
+	public List<String>	getMetricNames()
+	{
+		return new ArrayList<String>(this.metricNames);
+	}
+
+	/**
+	 * @see fr.sorbonne_u.devs_simulation.simulators.interfaces.RunControllerI#startRun(fr.sorbonne_u.devs_simulation.models.time.Time, fr.sorbonne_u.devs_simulation.models.time.Time)
+	 */
+	@Override
+	public void			startRun(Time startTime, Time endTime)
+	{
+		assert	startTime != null && endTime != null :
+				new AssertionError("Precondition violation: "
+						+ "startTime != null && endTime != null");
+		assert	startTime.lessThan(endTime) :
+				new AssertionError("Precondition violation: "
+						+ "startTime.lessThan(endTime)");
+		assert	startTime.hasSameUnit(this.samplingPeriod) :
+				new AssertionError("Precondition violation: "
+						+ "startTime.hasSameUnit(samplingPeriod)");
+		assert	!this.metrics.isEmpty() :
+				new AssertionError("Precondition violation: "
+						+ "!getMetricNames().isEmpty()");
+
+		int n = this.metrics.size();
+		this.startTime = startTime;
+		this.endTime = endTime;
+		this.nextSamplingTime = startTime.add(this.samplingPeriod);
+		this.terminationTime = null;
+		this.observations = new double[n][1024];
+		this.numberOfObservations = 0;
+		this.nextEstimation = this.numberOfBatches * this.minimumBatchSize;
+		this.means = new double[n];
+		this.halfWidths = new double[n];
+		this.truncations = new int[n];
+		Arrays.fill(this.means, Double.NaN);
+		Arrays.fill(this.halfWidths, Double.POSITIVE_INFINITY);
+		this.converged = false;
+	}
+
+	/**
+	 * @see fr.sorbonne_u.devs_simulation.simulators.interfaces.RunControllerI#terminationReached(fr.sorbonne_u.devs_simulation.models.time.Time)
+	 */
+	@Override
+	public boolean		terminationReached(Time timeOfNextEvent)
+	{
+		assert	timeOfNextEvent != null :
+				new AssertionError("Precondition violation: "
+						+ "timeOfNextEvent != null");
+
+		// the state of the models is constant until the time of next event
+		while (this.terminationTime == null &&
+					this.nextSamplingTime.lessThan(timeOfNextEvent) &&
+					this.nextSamplingTime.lessThanOrEqual(this.endTime)) {
+			this.sample();
+			if (this.numberOfObservations >= this.nextEstimation) {
+				this.estimate();
+				if (this.converged) {
+					this.terminationTime = this.lastSamplingTime();
+				}
+			}
+		}
+		return this.terminationTime != null;
+	}
+
+	/**
+	 * @see fr.sorbonne_u.devs_simulation.simulators.interfaces.RunControllerI#getTerminationTime()
+	 */
+	@Override
+	public Time			getTerminationTime()
+	{
+		return this.terminationTime;
+	}
+
+	/**
+	 * @see fr.sorbonne_u.devs_simulation.simulators.interfaces.RunControllerI#endRun(fr.sorbonne_u.devs_simulation.models.time.Time)
+	 */
+	@Override
+	public void			endRun(Time endTime)
+	{
+		assert	endTime != null :
+				new AssertionError("Precondition violation: endTime != null");
+
+		if (this.terminationTime == null) {
+			// the run reached its end time, take the last observations
+			while (this.nextSamplingTime.lessThanOrEqual(endTime)) {
+				this.sample();
+			}
+			this.estimate();
+		}
+	}
+
+	/**
+	 * observe all of the metrics at the next sampling time and compute the
+	 * following one.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 */
+	protected void		sample()
+	{
+		int k = this.numberOfObservations;
+		if (k == this.observations[0].length) {
+			for (int i = 0 ; i < this.observations.length ; i++) {
+				this.observations[i] =
+								Arrays.copyOf(this.observations[i], 2*k);
+			}
+		}
+		for (int i = 0 ; i < this.observations.length ; i++) {
+			this.observations[i][k] =
+					this.metrics.get(i).observe(this.nextSamplingTime);
+		}
+		this.numberOfObservations = k + 1;
+		// computed from the start time to avoid accumulating rounding errors
+		this.nextSamplingTime =
+			this.startTime.add(this.samplingPeriod.createFromSimulatedDuration(
+				(k + 2) * this.samplingPeriod.getSimulatedDuration()));
+	}
+
+	/**
+	 * return the time of the last observation of the metrics.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code getNumberOfObservations() > 0}
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @return	the time of the last observation of the metrics.
+	 */
+	protected Time		lastSamplingTime()
+	{
+		return this.startTime.add(
+				this.samplingPeriod.createFromSimulatedDuration(
+					this.numberOfObservations *
+									this.samplingPeriod.getSimulatedDuration()));
+	}
+
+	/**
+	 * estimate the means and the half-widths of the confidence intervals of
+	 * all of the metrics and decide if the requested precision is met.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 */
+	protected void		estimate()
+	{
+		int n = this.numberOfObservations;
+		boolean allConverged = true;
+		for (int i = 0 ; i < this.observations.length ; i++) {
+			double[] obs = this.observations[i];
+			int truncation = 0;
+			boolean steady = true;
+			if (this.detection == SteadyStateDetection.MSER5) {
+				truncation = mser5Truncation(obs, n);
+				steady = truncation >= 0;
+				if (!steady) {
+					truncation = 0;
+				}
+			}
+			this.truncations[i] = truncation;
+			int batchSize = (n - truncation)/this.numberOfBatches;
+			if (batchSize < 1) {
+				this.means[i] = Double.NaN;
+				this.halfWidths[i] = Double.POSITIVE_INFINITY;
+				allConverged = false;
+				continue;
+			}
+			// the extra observations are dropped at the start, the closest
+			// to the warm-up period
+			int first = n - batchSize * this.numberOfBatches;
+			double sum = 0.0;
+			double sumOfSquares = 0.0;
+			for (int b = 0 ; b < this.numberOfBatches ; b++) {
+				double batchSum = 0.0;
+				int start = first + b * batchSize;
+				for (int j = start ; j < start + batchSize ; j++) {
+					batchSum += obs[j];
+				}
+				double batchMean = batchSum/batchSize;
+				sum += batchMean;
+				sumOfSquares += batchMean * batchMean;
+			}
+			double mean = sum/this.numberOfBatches;
+			double variance =
+				Math.max(0.0, (sumOfSquares - this.numberOfBatches*mean*mean)/
+												(this.numberOfBatches - 1));
+			this.means[i] = mean;
+			this.halfWidths[i] =
+				this.studentQuantile *
+								Math.sqrt(variance/this.numberOfBatches);
+			allConverged &=
+				steady && batchSize >= this.minimumBatchSize &&
+				this.halfWidths[i] > 0.0 &&
+				this.halfWidths[i] <= this.relativePrecision * Math.abs(mean);
+		}
+		this.converged = allConverged;
+		this.nextEstimation =
+			Math.max(n + this.numberOfBatches,
+					 (int) Math.ceil(n * EVALUATION_GROWTH_FACTOR));
+	}
+
+	/**
+	 * return the number of initial observations to be discarded according
+	 * to the MSER-5 rule or -1 if the steady state is not yet reached.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code obs != null && n >= 0 && n <= obs.length}
+	 * post	{@code ret >= -1 && ret < n}
+	 * </pre>
+	 *
+	 * @param obs	observations of a metric.
+	 * @param n		number of observations in <code>obs</code>.
+	 * @return		the number of initial observations to be discarded or -1 if the steady state is not yet reached.
+	 */
+	protected static int	mser5Truncation(double[] obs, int n)
+	{
+		int m = n/MSER_BATCH_SIZE;
+		if (m < 4) {
+			return -1;
+		}
+		double[] z = new double[m];
+		for (int j = 0 ; j < m ; j++) {
+			double s = 0.0;
+			for (int k = j * MSER_BATCH_SIZE ;
+							k < (j + 1) * MSER_BATCH_SIZE ; k++) {
+				s += obs[k];
+			}
+			z[j] = s/MSER_BATCH_SIZE;
+		}
+		// MSER(d) = sum_{j >= d} (z[j] - mean_d)^2 / (m - d)^2, computed
+		// from the end with running sums; the last batches are kept
+		double sum = 0.0;
+		double sumOfSquares = 0.0;
+		double best = Double.POSITIVE_INFINITY;
+		int bestD = 0;
+		for (int d = m - 1 ; d >= 0 ; d--) {
+			sum += z[d];
+			sumOfSquares += z[d] * z[d];
+			int k = m - d;
+			if (k >= 2) {
+				double mser = (sumOfSquares - sum*sum/k)/((double) k * k);
+				if (mser <= best) {
+					best = mser;
+					bestD = d;
+				}
+			}
+		}
+		return bestD < m/2 ? bestD * MSER_BATCH_SIZE : -1;
+	}
+
+	/**
+	 * return true if the requested precision has been met for all of the
+	 * metrics in the last run.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @return	true if the requested precision has been met for all of the metrics in the last run.
+	 */
+	public boolean		isConverged()
+	{
+		return this.converged;
+	}
+
+	/**
+	 * return the number of observations made for each metric in the last
+	 * run.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code ret >= 0}
+	 * </pre>
+	 *
+	 * @return	the number of observations made for each metric in the last run.
+	 */
+	public int			getNumberOfObservations()
+	{
+		return this.numberOfObservations;
+	}
+
+	/**
+	 * return the estimated mean of the metric <code>name</code> in the last
+	 * run or {@code Double.NaN} if not enough observations have been made.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code getMetricNames().contains(name)}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param name	name of a metric.
+	 * @return		the estimated mean of the metric.
+	 */
+	public double		getMean(String name)
+	{
+		assert	this.metricNames.contains(name) :
+				new AssertionError("Precondition violation: "
+						+ "getMetricNames().contains(name)");
+
+		return this.means == null ?
+					Double.NaN : this.means[this.metricNames.indexOf(name)];
+	}
+
+	/**
+	 * return the half-width of the confidence interval of the mean of the
+	 * metric <code>name</code> in the last run or
+	 * {@code Double.POSITIVE_INFINITY} if not enough observations have been
+	 * made.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code getMetricNames().contains(name)}
+	 * post	{@code ret >= 0.0}
+	 * </pre>
+	 *
+	 * @param name	name of a metric.
+	 * @return		the half-width of the confidence interval of the mean of the metric.
+	 */
+	public double		getHalfWidth(String name)
+	{
+		assert	this.metricNames.contains(name) :
+				new AssertionError("Precondition violation: "
+						+ "getMetricNames().contains(name)");
+
+		return this.halfWidths == null ?
+					Double.POSITIVE_INFINITY
+				:	this.halfWidths[this.metricNames.indexOf(name)];
+	}
+
+	/**
+	 * return the number of warm-up observations of the metric
+	 * <code>name</code> discarded in the last estimation.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code getMetricNames().contains(name)}
+	 * post	{@code ret >= 0}
+	 * </pre>
+	 *
+	 * @param name	name of a metric.
+	 * @return		the number of warm-up observations of the metric discarded in the last estimation.
+	 */
+	public int			getTruncation(String name)
+	{
+		assert	this.metricNames.contains(name) :
+				new AssertionError("Precondition violation: "
+						+ "getMetricNames().contains(name)");
+
+		return this.truncations == null ?
+					0 : this.truncations[this.metricNames.indexOf(name)];
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String		toString()
+	{
+		StringBuffer sb = new StringBuffer(this.getClass().getSimpleName());
+		sb.append("[converged = ");
+		sb.append(this.converged);
+		sb.append(", observations = ");
+		sb.append(this.numberOfObservations);
+		for (int i = 0 ; i < this.metricNames.size() ; i++) {
+			sb.append(", ");
+			sb.append(this.metricNames.get(i));
+			sb.append(" = ");
+			if (this.means == null) {
+				sb.append("?");
+			} else {
+				sb.append(this.means[i]);
+				sb.append(" +- ");
+				sb.append(this.halfWidths[i]);
+			}
+		}
+		sb.append(']');
+		return sb.toString();
+	}
+}
+// -----------------------------------------------------------------------------
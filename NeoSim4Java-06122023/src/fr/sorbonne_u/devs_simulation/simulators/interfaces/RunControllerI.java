@@ -0,0 +1,132 @@
+package fr.sorbonne_u.devs_simulation.simulators.interfaces;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a new
+// implementation of the DEVS simulation <i>de facto</i> standard for Java.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import fr.sorbonne_u.devs_simulation.models.time.Time;
+
+// -----------------------------------------------------------------------------
+/**
+ * The interface <code>RunControllerI</code> defines the services that a
+ * simulation engine calls during a stand alone simulation run to let an
+ * external controller decide to terminate the run before its end time.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * A run controller is attached to the simulation engine of the root model
+ * by <code>SimulationEngine#setRunController</code>. At the beginning of
+ * each run, the engine calls <code>startRun</code>; then, before executing
+ * the events occurring at each new time of next event, it calls
+ * <code>terminationReached</code>. As the state of the models does not change
+ * between the time of the last event and the time of the next event, the
+ * controller can observe them at any time in this interval. When
+ * <code>terminationReached</code> returns true, the engine stops the run
+ * without executing the next event and ends the simulation at the time
+ * returned by <code>getTerminationTime</code>. Finally, <code>endRun</code>
+ * is called with the actual end time of the run.
+ * </p>
+ * 
+ * <p><strong>Black-box Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code true}	// no more invariant
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public interface		RunControllerI
+{
+	/**
+	 * prepare the controller for a new run.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code startTime != null && endTime != null}
+	 * pre	{@code startTime.lessThan(endTime)}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param startTime	simulated time at which the run starts.
+	 * @param endTime	simulated time at which the run ends if it is not terminated before.
+	 */
+	public void			startRun(Time startTime, Time endTime);
+
+	/**
+	 * return true if the run must be terminated before executing the events
+	 * occurring at <code>timeOfNextEvent</code>.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code timeOfNextEvent != null}
+	 * post	{@code !ret || getTerminationTime().lessThan(timeOfNextEvent)}
+	 * </pre>
+	 *
+	 * @param timeOfNextEvent	time of the next events to be executed by the simulation engine.
+	 * @return					true if the run must be terminated before executing the events occurring at <code>timeOfNextEvent</code>.
+	 */
+	public boolean		terminationReached(Time timeOfNextEvent);
+
+	/**
+	 * return the time at which the run must end when
+	 * <code>terminationReached</code> has returned true.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @return	the time at which the run must end, or null if the termination has not been reached.
+	 */
+	public Time			getTerminationTime();
+
+	/**
+	 * notify the controller that the current run has ended.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code endTime != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param endTime	simulated time at which the run has ended.
+	 */
+	public void			endRun(Time endTime);
+}
+// -----------------------------------------------------------------------------
@@ -0,0 +1,83 @@
+package fr.sorbonne_u.devs_simulation.simulators.interfaces;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a new
+// implementation of the DEVS simulation <i>de facto</i> standard for Java.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import fr.sorbonne_u.devs_simulation.models.time.Time;
+
+// -----------------------------------------------------------------------------
+/**
+ * The functional interface <code>RunMetricI</code> declares an output metric
+ * of a simulation run observed periodically by a statistical run controller.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * The observation returned at each sampling time must be a measure over the
+ * last sampling period (<i>e.g.</i>, the energy consumed or the number of
+ * comfort violations since the previous observation) rather than a value
+ * accumulated since the beginning of the run, as the statistical estimation
+ * assumes that observations eventually fluctuate around a steady-state mean.
+ * Metrics are typically implemented by lambda expressions reading the state
+ * of the models, which must be kept in scope by the user code.
+ * </p>
+ * 
+ * <p><strong>Black-box Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code true}	// no more invariant
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+@FunctionalInterface
+public interface		RunMetricI
+{
+	/**
+	 * return the observation of the metric at simulated time
+	 * <code>current</code>.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code current != null}
+	 * post	{@code Double.isFinite(ret)}
+	 * </pre>
+	 *
+	 * @param current	simulated time of the observation.
+	 * @return			the observation of the metric at simulated time <code>current</code>.
+	 */
+	public double		observe(Time current);
+}
+// -----------------------------------------------------------------------------
@@ -0,0 +1,825 @@
+package fr.sorbonne_u.devs_simulation.utils;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a new
+// implementation of the DEVS simulation <i>de facto</i> standard for Java.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.io.PrintStream;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>AsynchronousLogger</code> implements a logging facility for
+ * DEVS simulation models that moves the formatting and the printing of the
+ * messages out of the simulation thread.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * Log records are put into a bounded lock-free ring buffer of preallocated
+ * records from which a background daemon thread takes them, formats them and
+ * prints them on the output stream. Besides the standard
+ * {@code logMessage(String, String)}, which only defers the concatenation of
+ * the time stamp and the printing, the logger accepts templated records: a
+ * template is registered once with {@code registerTemplate(String)}, where
+ * each occurrence of <code>{}</code> is a placeholder for an argument, and
+ * then records are logged by giving the template index and up to
+ * {@code MAX_ARGUMENTS} primitive arguments, so that the simulation thread
+ * neither builds strings nor allocates. As in {@code StandardLogger}, the
+ * messages given to {@code logMessage(String, String)} include their line
+ * separator while templates do not, the line separator being appended to
+ * each templated record when it is printed.
+ * </p>
+ * <p>
+ * When the ring buffer is full, the overflow policy given at creation time
+ * applies: with {@code OverflowPolicy.DROP}, the record is discarded and
+ * counted (see {@code getDroppedCount()}); with {@code OverflowPolicy.BLOCK},
+ * the logging thread waits until the background thread has freed a slot.
+ * The memory footprint of the logger is therefore bounded by its capacity.
+ * </p>
+ * <p>
+ * Records are printed in the order they have been accepted in the ring
+ * buffer. The background thread being a daemon, {@code close()} must be
+ * called at the end of the simulation runs to make sure that all of the
+ * records have been printed; {@code flush()} can also be called in between
+ * to wait for all of the records accepted so far to be printed. Closing
+ * the logger atomically marks the claim counter of the ring buffer, so
+ * that each record is either accepted before the closing, and then printed
+ * by {@code close()}, or rejected and counted (see
+ * {@code getRejectedCount()}), even when threads still log concurrently
+ * with the closing.
+ * </p>
+ * 
+ * <p><strong>White-box Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code Integer.bitCount(capacity) == 1}
+ * invariant	{@code mask == capacity - 1}
+ * invariant	{@code records != null && records.length == capacity}
+ * invariant	{@code sequences != null && sequences.length() == capacity}
+ * invariant	{@code overflowPolicy != null && out != null}
+ * </pre>
+ * 
+ * <p><strong>Black-box Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code MAX_ARGUMENTS > 0}
+ * invariant	{@code STANDARD_CAPACITY > 0 && Integer.bitCount(STANDARD_CAPACITY) == 1}
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-19</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			AsynchronousLogger
+extends		StandardLogger
+{
+	// -------------------------------------------------------------------------
+	// Inner types
+	// -------------------------------------------------------------------------
+
+	/**
+	 * The enumeration <code>OverflowPolicy</code> defines the behaviours of
+	 * the logger when a record is logged while the ring buffer is full.
+	 *
+	 * <p><strong>Description</strong></p>
+	 * 
+	 * <pre>
+	 *   DROP  : the record is discarded and counted as dropped.
+	 *   BLOCK : the logging thread waits until a slot is freed.
+	 * </pre>
+	 * 
+	 * <p>Created on : 2026-10-19</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	public static enum	OverflowPolicy
+	{
+		DROP,
+		BLOCK
+	}
+
+	/**
+	 * The class <code>LogRecord</code> implements the preallocated records
+	 * put in the ring buffer.
+	 *
+	 * <p><strong>Invariant</strong></p>
+	 * 
+	 * <pre>
+	 * invariant	{@code arguments != null && arguments.length == MAX_ARGUMENTS}
+	 * </pre>
+	 * 
+	 * <p>Created on : 2026-10-19</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	protected static class	LogRecord
+	{
+		/** time stamp of the record in milliseconds.						*/
+		protected long				timestamp;
+		/** URI of the model logging the record.							*/
+		protected String			modelURI;
+		/** preformatted message or null if the record uses a template.		*/
+		protected String			message;
+		/** index of the template used by the record, if any.				*/
+		protected int				templateIndex;
+		/** number of arguments actually used in <code>arguments</code>.	*/
+		protected int				argumentsCount;
+		/** arguments of the template.										*/
+		protected final double[]	arguments;
+
+		public				LogRecord()
+		{
+			this.arguments = new double[MAX_ARGUMENTS];
+		}
+
+		/**
+		 * release the references held by the record so that they can be
+		 * garbage collected as soon as the record has been printed.
+		 */
+		protected void		clear()
+		{
+			this.modelURI = null;
+			this.message = null;
+		}
+	}
+
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** maximum number of primitive arguments in a templated record.		*/
+	public static final int			MAX_ARGUMENTS = 4;
+	/** default capacity of the ring buffer.								*/
+	public static final int			STANDARD_CAPACITY = 8192;
+	/** placeholder for the arguments in the templates.						*/
+	public static final String		PLACEHOLDER = "{}";
+	/** time in nanoseconds the background thread parks when the ring
+	 *  buffer is empty and producers park when it is full.				*/
+	protected static final long		PARK_NANOS = 100000L;
+	/** bit set in <code>tail</code> when the logger is closed, after which
+	 *  no slot can be claimed anymore.										*/
+	protected static final long		CLOSED = Long.MIN_VALUE;
+
+	/** capacity of the ring buffer, a power of two.						*/
+	protected final int				capacity;
+	/** mask used to compute the index of a slot from a sequence number.	*/
+	protected final int				mask;
+	/** preallocated records of the ring buffer.							*/
+	protected final LogRecord[]		records;
+	/** per slot sequence numbers telling producers and the consumer when
+	 *  a slot is free or filled (bounded MPMC queue algorithm from
+	 *  Dmitry Vyukov).														*/
+	protected final AtomicLongArray	sequences;
+	/** next sequence number to be claimed by a producer, with the bit
+	 *  {@code CLOSED} set once the logger is closed.						*/
+	protected final AtomicLong		tail;
+	/** next sequence number to be consumed by the background thread.		*/
+	protected final AtomicLong		head;
+	/** number of records dropped since the creation of the logger.		*/
+	protected final AtomicLong		dropped;
+	/** number of records rejected because the logger was closed.			*/
+	protected final AtomicLong		rejected;
+	/** policy to apply when the ring buffer is full.						*/
+	protected final OverflowPolicy	overflowPolicy;
+	/** stream on which the records are printed.							*/
+	protected final PrintStream		out;
+	/** registered templates, replaced as a whole upon each registration.	*/
+	protected volatile String[]		templates;
+	/** background thread formatting and printing the records.			*/
+	protected final Thread			consumer;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create an asynchronous logger with the separator set to
+	 * <code>"|"</code>, a ring buffer of capacity {@code STANDARD_CAPACITY},
+	 * the {@code OverflowPolicy.BLOCK} policy and printing on
+	 * <code>System.out</code>.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code !isClosed()}
+	 * </pre>
+	 *
+	 */
+	public				AsynchronousLogger()
+	{
+		this("|", STANDARD_CAPACITY, OverflowPolicy.BLOCK, System.out);
+	}
+
+	/**
+	 * create an asynchronous logger with the given parameters.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code separator != null && separator.length() == 1}
+	 * pre	{@code capacity > 0 && Integer.bitCount(capacity) == 1}
+	 * pre	{@code overflowPolicy != null}
+	 * pre	{@code out != null}
+	 * post	{@code !isClosed()}
+	 * </pre>
+	 *
+	 * @param separator			to be used to fragment the line.
+	 * @param capacity			capacity of the ring buffer, a power of two.
+	 * @param overflowPolicy	policy to apply when the ring buffer is full.
+	 * @param out				stream on which the records are printed.
+	 */
+	public				AsynchronousLogger(
+		String separator,
+		int capacity,
+		OverflowPolicy overflowPolicy,
+		PrintStream out
+		)
+	{
+		super(separator);
+
+		assert	capacity > 0 && Integer.bitCount(capacity) == 1 :
+				new AssertionError("Precondition violation: "
+						+ "capacity > 0 && Integer.bitCount(capacity) == 1");
+		assert	overflowPolicy != null :
+				new AssertionError("Precondition violation: "
+						+ "overflowPolicy != null");
+		assert	out != null :
+				new AssertionError("Precondition violation: out != null");
+
+		this.capacity = capacity;
+		this.mask = capacity - 1;
+		this.records = new LogRecord[capacity];
+		this.sequences = new AtomicLongArray(capacity);
+		for (int i = 0 ; i < capacity ; i++) {
+			this.records[i] = new LogRecord();
+			this.sequences.set(i, i);
+		}
+		this.tail = new AtomicLong(0L);
+		this.head = new AtomicLong(0L);
+		this.dropped = new AtomicLong(0L);
+		this.rejected = new AtomicLong(0L);
+		this.overflowPolicy = overflowPolicy;
+		this.out = out;
+		this.templates = new String[0];
+		this.consumer = new Thread(() -> this.consume(),
+								   "AsynchronousLogger-consumer");
+		this.consumer.setDaemon(true);
+		this.consumer.start();
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return the capacity of the ring buffer.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code return > 0}
+	 * </pre>
+	 *
+	 * @return	the capacity of the ring buffer.
+	 */
+	public int			getCapacity()
+	{
+		return this.capacity;
+	}
+
+	/**
+	 * return the number of records dropped since the creation of the logger
+	 * because the ring buffer was full under the {@code OverflowPolicy.DROP}
+	 * policy.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code return >= 0}
+	 * </pre>
+	 *
+	 * @return	the number of records dropped since the creation of the logger.
+	 */
+	public long			getDroppedCount()
+	{
+		return this.dropped.get();
+	}
+
+	/**
+	 * return the number of records rejected because they have been logged
+	 * after the logger was closed.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code return >= 0}
+	 * </pre>
+	 *
+	 * @return	the number of records rejected because the logger was closed.
+	 */
+	public long			getRejectedCount()
+	{
+		return this.rejected.get();
+	}
+
+	/**
+	 * return true if the logger has been closed.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @return	true if the logger has been closed.
+	 */
+	public boolean		isClosed()
+	{
+		return this.tail.get() < 0L;
+	}
+
+	/**
+	 * register a template and return its index to be used when logging
+	 * templated records; in the template, each occurrence of
+	 * <code>{}</code> is replaced by the corresponding argument, printed
+	 * as an integer when its value is integral; the template must not end
+	 * with a line separator, which is appended when the records are printed.
+	 * 
+	 * <p>
+	 * Templates are meant to be registered once, typically when models are
+	 * created or initialised, and not on the simulation fast path.
+	 * </p>
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code template != null}
+	 * post	{@code return >= 0}
+	 * </pre>
+	 *
+	 * @param template	template of messages using <code>{}</code> as placeholders.
+	 * @return			the index of the template.
+	 */
+	public synchronized int	registerTemplate(String template)
+	{
+		assert	template != null :
+				new AssertionError("Precondition violation: template != null");
+
+		String[] old = this.templates;
+		String[] t = new String[old.length + 1];
+		System.arraycopy(old, 0, t, 0, old.length);
+		t[old.length] = template;
+		this.templates = t;
+		return old.length;
+	}
+
+	/**
+	 * @see fr.sorbonne_u.devs_simulation.utils.StandardLogger#logMessage(java.lang.String, java.lang.String)
+	 */
+	@Override
+	public void			logMessage(String modelURI, String message)
+	{
+		assert	modelURI != null && !modelURI.isEmpty() :
+				new AssertionError("Precondition violation: "
+						+ "modelURI != null && !modelURI.isEmpty()");
+		assert	!modelURI.contains(getSeparator()) :
+				new AssertionError("Precondition violation: "
+						+ "!modelURI.contains(getSeparator())");
+		assert	!isFull() :
+				new AssertionError("Precondition violation: !isFull()");
+
+		long seq = this.claim();
+		if (seq >= 0L) {
+			LogRecord r = this.records[(int) (seq & this.mask)];
+			r.timestamp = System.currentTimeMillis();
+			r.modelURI = modelURI;
+			r.message = message;
+			r.argumentsCount = 0;
+			this.publish(seq);
+		}
+	}
+
+	/**
+	 * log a templated record without argument.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code modelURI != null && !modelURI.isEmpty()}
+	 * pre	{@code !modelURI.contains(getSeparator())}
+	 * pre	{@code templateIndex >= 0}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param modelURI		URI of the model logging the message.
+	 * @param templateIndex	index of the template as returned by {@code registerTemplate(String)}.
+	 */
+	public void			logMessage(String modelURI, int templateIndex)
+	{
+		this.logTemplated(modelURI, templateIndex, 0, 0.0, 0.0, 0.0, 0.0);
+	}
+
+	/**
+	 * log a templated record with one argument.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code modelURI != null && !modelURI.isEmpty()}
+	 * pre	{@code !modelURI.contains(getSeparator())}
+	 * pre	{@code templateIndex >= 0}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param modelURI		URI of the model logging the message.
+	 * @param templateIndex	index of the template as returned by {@code registerTemplate(String)}.
+	 * @param a0			first argument.
+	 */
+	public void			logMessage(
+		String modelURI,
+		int templateIndex,
+		double a0
+		)
+	{
+		this.logTemplated(modelURI, templateIndex, 1, a0, 0.0, 0.0, 0.0);
+	}
+
+	/**
+	 * log a templated record with two arguments.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code modelURI != null && !modelURI.isEmpty()}
+	 * pre	{@code !modelURI.contains(getSeparator())}
+	 * pre	{@code templateIndex >= 0}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param modelURI		URI of the model logging the message.
+	 * @param templateIndex	index of the template as returned by {@code registerTemplate(String)}.
+	 * @param a0			first argument.
+	 * @param a1			second argument.
+	 */
+	public void			logMessage(
+		String modelURI,
+		int templateIndex,
+		double a0,
+		double a1
+		)
+	{
+		this.logTemplated(modelURI, templateIndex, 2, a0, a1, 0.0, 0.0);
+	}
+
+	/**
+	 * log a templated record with three arguments.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code modelURI != null && !modelURI.isEmpty()}
+	 * pre	{@code !modelURI.contains(getSeparator())}
+	 * pre	{@code templateIndex >= 0}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param modelURI		URI of the model logging the message.
+	 * @param templateIndex	index of the template as returned by {@code registerTemplate(String)}.
+	 * @param a0			first argument.
+	 * @param a1			second argument.
+	 * @param a2			third argument.
+	 */
+	public void			logMessage(
+		String modelURI,
+		int templateIndex,
+		double a0,
+		double a1,
+		double a2
+		)
+	{
+		this.logTemplated(modelURI, templateIndex, 3, a0, a1, a2, 0.0);
+	}
+
+	/**
+	 * log a templated record with four arguments.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code modelURI != null && !modelURI.isEmpty()}
+	 * pre	{@code !modelURI.contains(getSeparator())}
+	 * pre	{@code templateIndex >= 0}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param modelURI		URI of the model logging the message.
+	 * @param templateIndex	index of the template as returned by {@code registerTemplate(String)}.
+	 * @param a0			first argument.
+	 * @param a1			second argument.
+	 * @param a2			third argument.
+	 * @param a3			fourth argument.
+	 */
+	public void			logMessage(
+		String modelURI,
+		int templateIndex,
+		double a0,
+		double a1,
+		double a2,
+		double a3
+		)
+	{
+		this.logTemplated(modelURI, templateIndex, 4, a0, a1, a2, a3);
+	}
+
+	/**
+	 * put a templated record in the ring buffer.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code modelURI != null && !modelURI.isEmpty()}
+	 * pre	{@code !modelURI.contains(getSeparator())}
+	 * pre	{@code templateIndex >= 0}
+	 * pre	{@code argumentsCount >= 0 && argumentsCount <= MAX_ARGUMENTS}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param modelURI			URI of the model logging the message.
+	 * @param templateIndex		index of the template.
+	 * @param argumentsCount	number of arguments actually used.
+	 * @param a0				first argument.
+	 * @param a1				second argument.
+	 * @param a2				third argument.
+	 * @param a3				fourth argument.
+	 */
+	protected void		logTemplated(
+		String modelURI,
+		int templateIndex,
+		int argumentsCount,
+		double a0,
+		double a1,
+		double a2,
+		double a3
+		)
+	{
+		assert	modelURI != null && !modelURI.isEmpty() :
+				new AssertionError("Precondition violation: "
+						+ "modelURI != null && !modelURI.isEmpty()");
+		assert	!modelURI.contains(getSeparator()) :
+				new AssertionError("Precondition violation: "
+						+ "!modelURI.contains(getSeparator())");
+		assert	templateIndex >= 0 :
+				new AssertionError("Precondition violation: "
+						+ "templateIndex >= 0");
+
+		long seq = this.claim();
+		if (seq >= 0L) {
+			LogRecord r = this.records[(int) (seq & this.mask)];
+			r.timestamp = System.currentTimeMillis();
+			r.modelURI = modelURI;
+			r.message = null;
+			r.templateIndex = templateIndex;
+			r.argumentsCount = argumentsCount;
+			r.arguments[0] = a0;
+			r.arguments[1] = a1;
+			r.arguments[2] = a2;
+			r.arguments[3] = a3;
+			this.publish(seq);
+		}
+	}
+
+	/**
+	 * claim the next slot in the ring buffer and return its sequence number
+	 * or -1 if the record must be dropped or, the logger being closed,
+	 * rejected.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code return >= -1}
+	 * </pre>
+	 *
+	 * @return	the sequence number of the claimed slot or -1 if the record must be dropped or rejected.
+	 */
+	protected long		claim()
+	{
+		long pos = this.tail.get();
+		while (true) {
+			if (pos < 0L) {
+				// closed: as the closing sets the CLOSED bit in tail, no
+				// slot can be claimed after the last one printed by close()
+				this.rejected.incrementAndGet();
+				return -1L;
+			}
+			long seq = this.sequences.get((int) (pos & this.mask));
+			long dif = seq - pos;
+			if (dif == 0L) {
+				if (this.tail.compareAndSet(pos, pos + 1L)) {
+					if (!this.hasContent) {
+						this.hasContent = true;
+					}
+					return pos;
+				}
+			} else if (dif < 0L) {
+				// the ring buffer is full
+				if (this.overflowPolicy == OverflowPolicy.DROP) {
+					this.dropped.incrementAndGet();
+					return -1L;
+				}
+				LockSupport.parkNanos(PARK_NANOS);
+			}
+			pos = this.tail.get();
+		}
+	}
+
+	/**
+	 * make the record filled in the slot with sequence number
+	 * <code>seq</code> visible to the background thread.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code seq >= 0}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param seq	sequence number of a slot previously claimed.
+	 */
+	protected void		publish(long seq)
+	{
+		this.sequences.lazySet((int) (seq & this.mask), seq + 1L);
+	}
+
+	/**
+	 * body of the background thread: repeatedly take the published records
+	 * from the ring buffer, format them and print them, until the logger is
+	 * closed and the ring buffer has been drained.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 */
+	protected void		consume()
+	{
+		StringBuilder sb = new StringBuilder(1024);
+		long h = this.head.get();
+		while (true) {
+			int index = (int) (h & this.mask);
+			if (this.sequences.get(index) == h + 1L) {
+				LogRecord r = this.records[index];
+				this.format(r, sb);
+				r.clear();
+				this.sequences.lazySet(index, h + this.capacity);
+				h++;
+				if (sb.length() >= 8192) {
+					this.out.print(sb);
+					sb.setLength(0);
+				}
+				this.head.lazySet(h);
+			} else {
+				if (sb.length() > 0) {
+					this.out.print(sb);
+					this.out.flush();
+					sb.setLength(0);
+				}
+				long t = this.tail.get();
+				if (t < 0L && h == (t & ~CLOSED)) {
+					break;
+				}
+				LockSupport.parkNanos(PARK_NANOS);
+			}
+		}
+	}
+
+	/**
+	 * append the text of the record <code>r</code> to <code>sb</code>.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code r != null && sb != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param r		record to be formatted.
+	 * @param sb	string builder to which the text is appended.
+	 */
+	protected void		format(LogRecord r, StringBuilder sb)
+	{
+		sb.append(r.timestamp).append(this.separator).append(r.modelURI)
+		  .append(this.separator);
+		if (r.message != null) {
+			sb.append(r.message);
+		} else {
+			String[] t = this.templates;
+			if (r.templateIndex >= t.length) {
+				sb.append("<unknown template ").append(r.templateIndex)
+				  .append(">\n");
+				return;
+			}
+			String template = t[r.templateIndex];
+			int from = 0;
+			int arg = 0;
+			int at = template.indexOf(PLACEHOLDER);
+			while (at >= 0 && arg < r.argumentsCount) {
+				sb.append(template, from, at);
+				double v = r.arguments[arg++];
+				if (v == Math.rint(v) && Math.abs(v) < 1.0e15) {
+					sb.append((long) v);
+				} else {
+					sb.append(v);
+				}
+				from = at + PLACEHOLDER.length();
+				at = template.indexOf(PLACEHOLDER, from);
+			}
+			sb.append(template, from, template.length()).append('\n');
+		}
+	}
+
+	/**
+	 * wait until all of the records accepted in the ring buffer before the
+	 * call have been printed.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 */
+	public void			flush()
+	{
+		long t = this.tail.get() & ~CLOSED;
+		while (this.head.get() < t && this.consumer.isAlive()) {
+			LockSupport.parkNanos(PARK_NANOS);
+		}
+		this.out.flush();
+	}
+
+	/**
+	 * close the logger, waiting for all of the records accepted in the ring
+	 * buffer to be printed and for the background thread to terminate; the
+	 * records logged afterwards are rejected.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code isClosed()}
+	 * </pre>
+	 *
+	 * @throws InterruptedException	if interrupted while waiting for the background thread.
+	 */
+	public void			close() throws InterruptedException
+	{
+		long t = this.tail.get();
+		while (t >= 0L && !this.tail.compareAndSet(t, t | CLOSED)) {
+			t = this.tail.get();
+		}
+		this.consumer.join();
+		this.out.flush();
+	}
+}
+// -----------------------------------------------------------------------------
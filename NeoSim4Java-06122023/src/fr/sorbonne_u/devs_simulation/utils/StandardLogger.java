@@ -65,7 +65,9 @@ implements		MessageLoggingI
 	// -------------------------------------------------------------------------
 
 	protected final String	separator;
-	protected boolean		hasContent;
+	/** true once a message has been logged; volatile as subclasses may
+	 *  log from several threads.											*/
+	protected volatile boolean	hasContent;
 
 	// -------------------------------------------------------------------------
 	// Constructors